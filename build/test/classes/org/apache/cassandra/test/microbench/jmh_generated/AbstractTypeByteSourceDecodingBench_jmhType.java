@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class AbstractTypeByteSourceDecodingBench_jmhType extends AbstractTypeByteSourceDecodingBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BatchStatementBench_jmhType extends BatchStatementBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class CacheLoaderBench_jmhType extends CacheLoaderBench_jmhType_B3 {
+}
+
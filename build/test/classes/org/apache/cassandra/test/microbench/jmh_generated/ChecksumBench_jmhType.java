@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ChecksumBench_jmhType extends ChecksumBench_jmhType_B3 {
+}
+
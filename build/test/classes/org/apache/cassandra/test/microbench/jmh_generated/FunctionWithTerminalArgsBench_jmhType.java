@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class FunctionWithTerminalArgsBench_jmhType extends FunctionWithTerminalArgsBench_jmhType_B3 {
+}
+
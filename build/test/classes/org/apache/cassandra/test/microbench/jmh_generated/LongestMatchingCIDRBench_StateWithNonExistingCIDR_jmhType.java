@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class LongestMatchingCIDRBench_StateWithNonExistingCIDR_jmhType extends LongestMatchingCIDRBench_StateWithNonExistingCIDR_jmhType_B3 {
+}
+
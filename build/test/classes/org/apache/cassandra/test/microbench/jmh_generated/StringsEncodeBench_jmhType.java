@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class StringsEncodeBench_jmhType extends StringsEncodeBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.tries.jmh_generated;
+public class ComparisonReadBench_jmhType extends ComparisonReadBench_jmhType_B3 {
+}
+
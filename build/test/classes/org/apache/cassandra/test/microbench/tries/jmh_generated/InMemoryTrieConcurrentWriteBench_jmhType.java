@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.tries.jmh_generated;
+public class InMemoryTrieConcurrentWriteBench_jmhType extends InMemoryTrieConcurrentWriteBench_jmhType_B3 {
+}
+
@@ -0,0 +1 @@
+version = "5.1"
@@ -0,0 +1,1066 @@
+// $ANTLR 3.5.2 Cql__.g 2026-10-17 01:58:38
+
+    package org.apache.cassandra.cql3;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class CqlLexer extends Lexer {
+	public static final int EOF=-1;
+	public static final int T__210=210;
+	public static final int T__211=211;
+	public static final int T__212=212;
+	public static final int T__213=213;
+	public static final int T__214=214;
+	public static final int T__215=215;
+	public static final int T__216=216;
+	public static final int T__217=217;
+	public static final int T__218=218;
+	public static final int T__219=219;
+	public static final int T__220=220;
+	public static final int T__221=221;
+	public static final int T__222=222;
+	public static final int T__223=223;
+	public static final int T__224=224;
+	public static final int T__225=225;
+	public static final int T__226=226;
+	public static final int T__227=227;
+	public static final int T__228=228;
+	public static final int T__229=229;
+	public static final int T__230=230;
+	public static final int T__231=231;
+	public static final int T__232=232;
+	public static final int T__233=233;
+	public static final int A=4;
+	public static final int B=5;
+	public static final int BOOLEAN=6;
+	public static final int C=7;
+	public static final int COMMENT=8;
+	public static final int D=9;
+	public static final int DIGIT=10;
+	public static final int DURATION=11;
+	public static final int DURATION_ISO_8601_PERIOD_DESIGNATORS=12;
+	public static final int DURATION_ISO_8601_TIME_DESIGNATORS=13;
+	public static final int DURATION_ISO_8601_WEEK_PERIOD_DESIGNATOR=14;
+	public static final int DURATION_UNIT=15;
+	public static final int E=16;
+	public static final int EMPTY_QUOTED_NAME=17;
+	public static final int EXPONENT=18;
+	public static final int F=19;
+	public static final int FLOAT=20;
+	public static final int G=21;
+	public static final int H=22;
+	public static final int HEX=23;
+	public static final int HEXNUMBER=24;
+	public static final int I=25;
+	public static final int IDENT=26;
+	public static final int INTEGER=27;
+	public static final int J=28;
+	public static final int K=29;
+	public static final int K_ACCESS=30;
+	public static final int K_ADD=31;
+	public static final int K_AGGREGATE=32;
+	public static final int K_AGGREGATES=33;
+	public static final int K_ALL=34;
+	public static final int K_ALLOW=35;
+	public static final int K_ALTER=36;
+	public static final int K_AND=37;
+	public static final int K_ANN=38;
+	public static final int K_APPLY=39;
+	public static final int K_AS=40;
+	public static final int K_ASC=41;
+	public static final int K_ASCII=42;
+	public static final int K_AUTHORIZE=43;
+	public static final int K_BATCH=44;
+	public static final int K_BEGIN=45;
+	public static final int K_BETWEEN=46;
+	public static final int K_BIGINT=47;
+	public static final int K_BLOB=48;
+	public static final int K_BOOLEAN=49;
+	public static final int K_BY=50;
+	public static final int K_CALLED=51;
+	public static final int K_CAST=52;
+	public static final int K_CIDRS=53;
+	public static final int K_CLUSTER=54;
+	public static final int K_CLUSTERING=55;
+	public static final int K_COLUMNFAMILY=56;
+	public static final int K_COMPACT=57;
+	public static final int K_CONTAINS=58;
+	public static final int K_COUNT=59;
+	public static final int K_COUNTER=60;
+	public static final int K_CREATE=61;
+	public static final int K_CUSTOM=62;
+	public static final int K_DATACENTERS=63;
+	public static final int K_DATE=64;
+	public static final int K_DECIMAL=65;
+	public static final int K_DEFAULT=66;
+	public static final int K_DELETE=67;
+	public static final int K_DESC=68;
+	public static final int K_DESCRIBE=69;
+	public static final int K_DISTINCT=70;
+	public static final int K_DOUBLE=71;
+	public static final int K_DROP=72;
+	public static final int K_DURATION=73;
+	public static final int K_ENTRIES=74;
+	public static final int K_EXECUTE=75;
+	public static final int K_EXISTS=76;
+	public static final int K_FILTERING=77;
+	public static final int K_FINALFUNC=78;
+	public static final int K_FLOAT=79;
+	public static final int K_FROM=80;
+	public static final int K_FROZEN=81;
+	public static final int K_FULL=82;
+	public static final int K_FUNCTION=83;
+	public static final int K_FUNCTIONS=84;
+	public static final int K_GENERATED=85;
+	public static final int K_GRANT=86;
+	public static final int K_GROUP=87;
+	public static final int K_HASHED=88;
+	public static final int K_IDENTITY=89;
+	public static final int K_IF=90;
+	public static final int K_IN=91;
+	public static final int K_INDEX=92;
+	public static final int K_INET=93;
+	public static final int K_INITCOND=94;
+	public static final int K_INPUT=95;
+	public static final int K_INSERT=96;
+	public static final int K_INT=97;
+	public static final int K_INTERNALS=98;
+	public static final int K_INTO=99;
+	public static final int K_IS=100;
+	public static final int K_JSON=101;
+	public static final int K_KEY=102;
+	public static final int K_KEYS=103;
+	public static final int K_KEYSPACE=104;
+	public static final int K_KEYSPACES=105;
+	public static final int K_LANGUAGE=106;
+	public static final int K_LIKE=107;
+	public static final int K_LIMIT=108;
+	public static final int K_LIST=109;
+	public static final int K_LOGIN=110;
+	public static final int K_MAP=111;
+	public static final int K_MASKED=112;
+	public static final int K_MATERIALIZED=113;
+	public static final int K_MAXWRITETIME=114;
+	public static final int K_MBEAN=115;
+	public static final int K_MBEANS=116;
+	public static final int K_MODIFY=117;
+	public static final int K_NEGATIVE_INFINITY=118;
+	public static final int K_NEGATIVE_NAN=119;
+	public static final int K_NOLOGIN=120;
+	public static final int K_NORECURSIVE=121;
+	public static final int K_NOSUPERUSER=122;
+	public static final int K_NOT=123;
+	public static final int K_NULL=124;
+	public static final int K_OF=125;
+	public static final int K_ON=126;
+	public static final int K_ONLY=127;
+	public static final int K_OPTIONS=128;
+	public static final int K_OR=129;
+	public static final int K_ORDER=130;
+	public static final int K_PARTITION=131;
+	public static final int K_PASSWORD=132;
+	public static final int K_PER=133;
+	public static final int K_PERMISSION=134;
+	public static final int K_PERMISSIONS=135;
+	public static final int K_POSITIVE_INFINITY=136;
+	public static final int K_POSITIVE_NAN=137;
+	public static final int K_PRIMARY=138;
+	public static final int K_RENAME=139;
+	public static final int K_REPLACE=140;
+	public static final int K_RETURNS=141;
+	public static final int K_REVOKE=142;
+	public static final int K_ROLE=143;
+	public static final int K_ROLES=144;
+	public static final int K_SCHEMA=145;
+	public static final int K_SELECT=146;
+	public static final int K_SELECT_MASKED=147;
+	public static final int K_SET=148;
+	public static final int K_SFUNC=149;
+	public static final int K_SMALLINT=150;
+	public static final int K_STATIC=151;
+	public static final int K_STORAGE=152;
+	public static final int K_STYPE=153;
+	public static final int K_SUPERUSER=154;
+	public static final int K_SUPERUSERS=155;
+	public static final int K_TABLES=156;
+	public static final int K_TEXT=157;
+	public static final int K_TIME=158;
+	public static final int K_TIMESTAMP=159;
+	public static final int K_TIMEUUID=160;
+	public static final int K_TINYINT=161;
+	public static final int K_TO=162;
+	public static final int K_TOKEN=163;
+	public static final int K_TRIGGER=164;
+	public static final int K_TRUNCATE=165;
+	public static final int K_TTL=166;
+	public static final int K_TUPLE=167;
+	public static final int K_TYPE=168;
+	public static final int K_TYPES=169;
+	public static final int K_UNLOGGED=170;
+	public static final int K_UNMASK=171;
+	public static final int K_UNSET=172;
+	public static final int K_UPDATE=173;
+	public static final int K_USE=174;
+	public static final int K_USER=175;
+	public static final int K_USERS=176;
+	public static final int K_USING=177;
+	public static final int K_UUID=178;
+	public static final int K_VALUES=179;
+	public static final int K_VARCHAR=180;
+	public static final int K_VARINT=181;
+	public static final int K_VECTOR=182;
+	public static final int K_VIEW=183;
+	public static final int K_WHERE=184;
+	public static final int K_WITH=185;
+	public static final int K_WRITETIME=186;
+	public static final int L=187;
+	public static final int LETTER=188;
+	public static final int M=189;
+	public static final int MULTILINE_COMMENT=190;
+	public static final int N=191;
+	public static final int O=192;
+	public static final int P=193;
+	public static final int Q=194;
+	public static final int QMARK=195;
+	public static final int QUOTED_NAME=196;
+	public static final int R=197;
+	public static final int RANGE=198;
+	public static final int S=199;
+	public static final int STRING_LITERAL=200;
+	public static final int T=201;
+	public static final int U=202;
+	public static final int UUID=203;
+	public static final int V=204;
+	public static final int W=205;
+	public static final int WS=206;
+	public static final int X=207;
+	public static final int Y=208;
+	public static final int Z=209;
+	public static final int Tokens=234;
+
+	    List<Token> tokens = new ArrayList<Token>();
+
+	    public void emit(Token token)
+	    {
+	        state.token = token;
+	        tokens.add(token);
+	    }
+
+	    public Token nextToken()
+	    {
+	        super.nextToken();
+	        if (tokens.size() == 0)
+	            return new CommonToken(Token.EOF);
+	        return tokens.remove(0);
+	    }
+
+	    private final List<ErrorListener> listeners = new ArrayList<ErrorListener>();
+
+	    public void addErrorListener(ErrorListener listener)
+	    {
+	        this.listeners.add(listener);
+	    }
+
+	    public void removeErrorListener(ErrorListener listener)
+	    {
+	        this.listeners.remove(listener);
+	    }
+
+	    public void displayRecognitionError(String[] tokenNames, RecognitionException e)
+	    {
+	        for (int i = 0, m = listeners.size(); i < m; i++)
+	            listeners.get(i).syntaxError(this, tokenNames, e);
+	    }
+
+
+	// delegates
+	public Cql_Lexer gLexer;
+	// delegators
+	public Lexer[] getDelegates() {
+		return new Lexer[] {gLexer};
+	}
+
+	public CqlLexer() {} 
+	public CqlLexer(CharStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public CqlLexer(CharStream input, RecognizerSharedState state) {
+		super(input,state);
+		gLexer = new Cql_Lexer(input, state, this);
+	}
+	@Override public String getGrammarFileName() { return "Cql__.g"; }
+
+	// $ANTLR start "T__210"
+	public final void mT__210() throws RecognitionException {
+		try {
+			int _type = T__210;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:47:8: ( '!=' )
+			// Cql__.g:47:10: '!='
+			{
+			match("!="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__210"
+
+	// $ANTLR start "T__211"
+	public final void mT__211() throws RecognitionException {
+		try {
+			int _type = T__211;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:48:8: ( '%' )
+			// Cql__.g:48:10: '%'
+			{
+			match('%'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__211"
+
+	// $ANTLR start "T__212"
+	public final void mT__212() throws RecognitionException {
+		try {
+			int _type = T__212;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:49:8: ( '(' )
+			// Cql__.g:49:10: '('
+			{
+			match('('); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__212"
+
+	// $ANTLR start "T__213"
+	public final void mT__213() throws RecognitionException {
+		try {
+			int _type = T__213;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:50:8: ( ')' )
+			// Cql__.g:50:10: ')'
+			{
+			match(')'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__213"
+
+	// $ANTLR start "T__214"
+	public final void mT__214() throws RecognitionException {
+		try {
+			int _type = T__214;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:51:8: ( '+' )
+			// Cql__.g:51:10: '+'
+			{
+			match('+'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__214"
+
+	// $ANTLR start "T__215"
+	public final void mT__215() throws RecognitionException {
+		try {
+			int _type = T__215;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:52:8: ( '+=' )
+			// Cql__.g:52:10: '+='
+			{
+			match("+="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__215"
+
+	// $ANTLR start "T__216"
+	public final void mT__216() throws RecognitionException {
+		try {
+			int _type = T__216;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:53:8: ( ',' )
+			// Cql__.g:53:10: ','
+			{
+			match(','); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__216"
+
+	// $ANTLR start "T__217"
+	public final void mT__217() throws RecognitionException {
+		try {
+			int _type = T__217;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:54:8: ( '-' )
+			// Cql__.g:54:10: '-'
+			{
+			match('-'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__217"
+
+	// $ANTLR start "T__218"
+	public final void mT__218() throws RecognitionException {
+		try {
+			int _type = T__218;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:55:8: ( '-=' )
+			// Cql__.g:55:10: '-='
+			{
+			match("-="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__218"
+
+	// $ANTLR start "T__219"
+	public final void mT__219() throws RecognitionException {
+		try {
+			int _type = T__219;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:56:8: ( '.' )
+			// Cql__.g:56:10: '.'
+			{
+			match('.'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__219"
+
+	// $ANTLR start "T__220"
+	public final void mT__220() throws RecognitionException {
+		try {
+			int _type = T__220;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:57:8: ( '/' )
+			// Cql__.g:57:10: '/'
+			{
+			match('/'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__220"
+
+	// $ANTLR start "T__221"
+	public final void mT__221() throws RecognitionException {
+		try {
+			int _type = T__221;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:58:8: ( ':' )
+			// Cql__.g:58:10: ':'
+			{
+			match(':'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__221"
+
+	// $ANTLR start "T__222"
+	public final void mT__222() throws RecognitionException {
+		try {
+			int _type = T__222;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:59:8: ( ';' )
+			// Cql__.g:59:10: ';'
+			{
+			match(';'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__222"
+
+	// $ANTLR start "T__223"
+	public final void mT__223() throws RecognitionException {
+		try {
+			int _type = T__223;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:60:8: ( '<' )
+			// Cql__.g:60:10: '<'
+			{
+			match('<'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__223"
+
+	// $ANTLR start "T__224"
+	public final void mT__224() throws RecognitionException {
+		try {
+			int _type = T__224;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:61:8: ( '<=' )
+			// Cql__.g:61:10: '<='
+			{
+			match("<="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__224"
+
+	// $ANTLR start "T__225"
+	public final void mT__225() throws RecognitionException {
+		try {
+			int _type = T__225;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:62:8: ( '=' )
+			// Cql__.g:62:10: '='
+			{
+			match('='); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__225"
+
+	// $ANTLR start "T__226"
+	public final void mT__226() throws RecognitionException {
+		try {
+			int _type = T__226;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:63:8: ( '>' )
+			// Cql__.g:63:10: '>'
+			{
+			match('>'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__226"
+
+	// $ANTLR start "T__227"
+	public final void mT__227() throws RecognitionException {
+		try {
+			int _type = T__227;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:64:8: ( '>=' )
+			// Cql__.g:64:10: '>='
+			{
+			match(">="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__227"
+
+	// $ANTLR start "T__228"
+	public final void mT__228() throws RecognitionException {
+		try {
+			int _type = T__228;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:65:8: ( '[' )
+			// Cql__.g:65:10: '['
+			{
+			match('['); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__228"
+
+	// $ANTLR start "T__229"
+	public final void mT__229() throws RecognitionException {
+		try {
+			int _type = T__229;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:66:8: ( '\\*' )
+			// Cql__.g:66:10: '\\*'
+			{
+			match('*'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__229"
+
+	// $ANTLR start "T__230"
+	public final void mT__230() throws RecognitionException {
+		try {
+			int _type = T__230;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:67:8: ( ']' )
+			// Cql__.g:67:10: ']'
+			{
+			match(']'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__230"
+
+	// $ANTLR start "T__231"
+	public final void mT__231() throws RecognitionException {
+		try {
+			int _type = T__231;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:68:8: ( 'expr(' )
+			// Cql__.g:68:10: 'expr('
+			{
+			match("expr("); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__231"
+
+	// $ANTLR start "T__232"
+	public final void mT__232() throws RecognitionException {
+		try {
+			int _type = T__232;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:69:8: ( '{' )
+			// Cql__.g:69:10: '{'
+			{
+			match('{'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__232"
+
+	// $ANTLR start "T__233"
+	public final void mT__233() throws RecognitionException {
+		try {
+			int _type = T__233;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// Cql__.g:70:8: ( '}' )
+			// Cql__.g:70:10: '}'
+			{
+			match('}'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__233"
+
+	@Override
+	public void mTokens() throws RecognitionException {
+		// Cql__.g:1:8: ( T__210 | T__211 | T__212 | T__213 | T__214 | T__215 | T__216 | T__217 | T__218 | T__219 | T__220 | T__221 | T__222 | T__223 | T__224 | T__225 | T__226 | T__227 | T__228 | T__229 | T__230 | T__231 | T__232 | T__233 | Lexer. Tokens )
+		int alt1=25;
+		alt1 = dfa1.predict(input);
+		switch (alt1) {
+			case 1 :
+				// Cql__.g:1:10: T__210
+				{
+				mT__210(); 
+
+				}
+				break;
+			case 2 :
+				// Cql__.g:1:17: T__211
+				{
+				mT__211(); 
+
+				}
+				break;
+			case 3 :
+				// Cql__.g:1:24: T__212
+				{
+				mT__212(); 
+
+				}
+				break;
+			case 4 :
+				// Cql__.g:1:31: T__213
+				{
+				mT__213(); 
+
+				}
+				break;
+			case 5 :
+				// Cql__.g:1:38: T__214
+				{
+				mT__214(); 
+
+				}
+				break;
+			case 6 :
+				// Cql__.g:1:45: T__215
+				{
+				mT__215(); 
+
+				}
+				break;
+			case 7 :
+				// Cql__.g:1:52: T__216
+				{
+				mT__216(); 
+
+				}
+				break;
+			case 8 :
+				// Cql__.g:1:59: T__217
+				{
+				mT__217(); 
+
+				}
+				break;
+			case 9 :
+				// Cql__.g:1:66: T__218
+				{
+				mT__218(); 
+
+				}
+				break;
+			case 10 :
+				// Cql__.g:1:73: T__219
+				{
+				mT__219(); 
+
+				}
+				break;
+			case 11 :
+				// Cql__.g:1:80: T__220
+				{
+				mT__220(); 
+
+				}
+				break;
+			case 12 :
+				// Cql__.g:1:87: T__221
+				{
+				mT__221(); 
+
+				}
+				break;
+			case 13 :
+				// Cql__.g:1:94: T__222
+				{
+				mT__222(); 
+
+				}
+				break;
+			case 14 :
+				// Cql__.g:1:101: T__223
+				{
+				mT__223(); 
+
+				}
+				break;
+			case 15 :
+				// Cql__.g:1:108: T__224
+				{
+				mT__224(); 
+
+				}
+				break;
+			case 16 :
+				// Cql__.g:1:115: T__225
+				{
+				mT__225(); 
+
+				}
+				break;
+			case 17 :
+				// Cql__.g:1:122: T__226
+				{
+				mT__226(); 
+
+				}
+				break;
+			case 18 :
+				// Cql__.g:1:129: T__227
+				{
+				mT__227(); 
+
+				}
+				break;
+			case 19 :
+				// Cql__.g:1:136: T__228
+				{
+				mT__228(); 
+
+				}
+				break;
+			case 20 :
+				// Cql__.g:1:143: T__229
+				{
+				mT__229(); 
+
+				}
+				break;
+			case 21 :
+				// Cql__.g:1:150: T__230
+				{
+				mT__230(); 
+
+				}
+				break;
+			case 22 :
+				// Cql__.g:1:157: T__231
+				{
+				mT__231(); 
+
+				}
+				break;
+			case 23 :
+				// Cql__.g:1:164: T__232
+				{
+				mT__232(); 
+
+				}
+				break;
+			case 24 :
+				// Cql__.g:1:171: T__233
+				{
+				mT__233(); 
+
+				}
+				break;
+			case 25 :
+				// Cql__.g:1:178: Lexer. Tokens
+				{
+				gLexer.mTokens(); 
+
+				}
+				break;
+
+		}
+	}
+
+
+	protected DFA1 dfa1 = new DFA1(this);
+	static final String DFA1_eotS =
+		"\5\uffff\1\27\1\uffff\1\31\1\32\1\33\2\uffff\1\35\1\uffff\1\37\3\uffff"+
+		"\1\25\15\uffff\3\25\1\uffff";
+	static final String DFA1_eofS =
+		"\44\uffff";
+	static final String DFA1_minS =
+		"\1\11\4\uffff\1\75\1\uffff\1\55\1\56\1\52\2\uffff\1\75\1\uffff\1\75\3"+
+		"\uffff\1\170\15\uffff\1\160\1\162\1\50\1\uffff";
+	static final String DFA1_maxS =
+		"\1\175\4\uffff\1\75\1\uffff\1\156\1\56\1\57\2\uffff\1\75\1\uffff\1\75"+
+		"\3\uffff\1\170\15\uffff\1\160\1\162\1\50\1\uffff";
+	static final String DFA1_acceptS =
+		"\1\uffff\1\1\1\2\1\3\1\4\1\uffff\1\7\3\uffff\1\14\1\15\1\uffff\1\20\1"+
+		"\uffff\1\23\1\24\1\25\1\uffff\1\27\1\30\1\31\1\6\1\5\1\11\1\10\1\12\1"+
+		"\13\1\17\1\16\1\22\1\21\3\uffff\1\26";
+	static final String DFA1_specialS =
+		"\44\uffff}>";
+	static final String[] DFA1_transitionS = {
+			"\2\25\2\uffff\1\25\22\uffff\1\25\1\1\1\25\1\uffff\1\25\1\2\1\uffff\1"+
+			"\25\1\3\1\4\1\20\1\5\1\6\1\7\1\10\1\11\12\25\1\12\1\13\1\14\1\15\1\16"+
+			"\1\25\1\uffff\32\25\1\17\1\uffff\1\21\3\uffff\4\25\1\22\25\25\1\23\1"+
+			"\uffff\1\24",
+			"",
+			"",
+			"",
+			"",
+			"\1\26",
+			"",
+			"\1\25\2\uffff\12\25\3\uffff\1\30\13\uffff\1\25\4\uffff\1\25\1\uffff"+
+			"\1\25\30\uffff\1\25\4\uffff\1\25",
+			"\1\25",
+			"\1\25\4\uffff\1\25",
+			"",
+			"",
+			"\1\34",
+			"",
+			"\1\36",
+			"",
+			"",
+			"",
+			"\1\40",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\41",
+			"\1\42",
+			"\1\43",
+			""
+	};
+
+	static final short[] DFA1_eot = DFA.unpackEncodedString(DFA1_eotS);
+	static final short[] DFA1_eof = DFA.unpackEncodedString(DFA1_eofS);
+	static final char[] DFA1_min = DFA.unpackEncodedStringToUnsignedChars(DFA1_minS);
+	static final char[] DFA1_max = DFA.unpackEncodedStringToUnsignedChars(DFA1_maxS);
+	static final short[] DFA1_accept = DFA.unpackEncodedString(DFA1_acceptS);
+	static final short[] DFA1_special = DFA.unpackEncodedString(DFA1_specialS);
+	static final short[][] DFA1_transition;
+
+	static {
+		int numStates = DFA1_transitionS.length;
+		DFA1_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA1_transition[i] = DFA.unpackEncodedString(DFA1_transitionS[i]);
+		}
+	}
+
+	protected class DFA1 extends DFA {
+
+		public DFA1(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 1;
+			this.eot = DFA1_eot;
+			this.eof = DFA1_eof;
+			this.min = DFA1_min;
+			this.max = DFA1_max;
+			this.accept = DFA1_accept;
+			this.special = DFA1_special;
+			this.transition = DFA1_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1:1: Tokens : ( T__210 | T__211 | T__212 | T__213 | T__214 | T__215 | T__216 | T__217 | T__218 | T__219 | T__220 | T__221 | T__222 | T__223 | T__224 | T__225 | T__226 | T__227 | T__228 | T__229 | T__230 | T__231 | T__232 | T__233 | Lexer. Tokens );";
+		}
+	}
+
+}
@@ -0,0 +1,23494 @@
+// $ANTLR 3.5.2 Parser.g 2026-10-17 01:58:36
+
+    package org.apache.cassandra.cql3;
+
+    import java.util.Collections;
+    import java.util.EnumSet;
+    import java.util.HashSet;
+    import java.util.LinkedHashMap;
+    import java.util.List;
+    import java.util.Map;
+    import java.util.Set;
+
+    import org.apache.cassandra.auth.*;
+    import org.apache.cassandra.cql3.conditions.*;
+    import org.apache.cassandra.cql3.functions.*;
+    import org.apache.cassandra.cql3.functions.masking.*;
+    import org.apache.cassandra.cql3.restrictions.CustomIndexExpression;
+    import org.apache.cassandra.cql3.selection.*;
+    import org.apache.cassandra.cql3.statements.*;
+    import org.apache.cassandra.cql3.statements.schema.*;
+    import org.apache.cassandra.cql3.terms.*;
+    import org.apache.cassandra.exceptions.ConfigurationException;
+    import org.apache.cassandra.exceptions.InvalidRequestException;
+    import org.apache.cassandra.exceptions.SyntaxException;
+    import org.apache.cassandra.schema.ColumnMetadata;
+    import org.apache.cassandra.utils.Pair;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+@SuppressWarnings("all")
+public class Cql_Parser extends Parser {
+	public static final int EOF=-1;
+	public static final int T__210=210;
+	public static final int T__211=211;
+	public static final int T__212=212;
+	public static final int T__213=213;
+	public static final int T__214=214;
+	public static final int T__215=215;
+	public static final int T__216=216;
+	public static final int T__217=217;
+	public static final int T__218=218;
+	public static final int T__219=219;
+	public static final int T__220=220;
+	public static final int T__221=221;
+	public static final int T__222=222;
+	public static final int T__223=223;
+	public static final int T__224=224;
+	public static final int T__225=225;
+	public static final int T__226=226;
+	public static final int T__227=227;
+	public static final int T__228=228;
+	public static final int T__229=229;
+	public static final int T__230=230;
+	public static final int T__231=231;
+	public static final int T__232=232;
+	public static final int T__233=233;
+	public static final int A=4;
+	public static final int B=5;
+	public static final int BOOLEAN=6;
+	public static final int C=7;
+	public static final int COMMENT=8;
+	public static final int D=9;
+	public static final int DIGIT=10;
+	public static final int DURATION=11;
+	public static final int DURATION_ISO_8601_PERIOD_DESIGNATORS=12;
+	public static final int DURATION_ISO_8601_TIME_DESIGNATORS=13;
+	public static final int DURATION_ISO_8601_WEEK_PERIOD_DESIGNATOR=14;
+	public static final int DURATION_UNIT=15;
+	public static final int E=16;
+	public static final int EMPTY_QUOTED_NAME=17;
+	public static final int EXPONENT=18;
+	public static final int F=19;
+	public static final int FLOAT=20;
+	public static final int G=21;
+	public static final int H=22;
+	public static final int HEX=23;
+	public static final int HEXNUMBER=24;
+	public static final int I=25;
+	public static final int IDENT=26;
+	public static final int INTEGER=27;
+	public static final int J=28;
+	public static final int K=29;
+	public static final int K_ACCESS=30;
+	public static final int K_ADD=31;
+	public static final int K_AGGREGATE=32;
+	public static final int K_AGGREGATES=33;
+	public static final int K_ALL=34;
+	public static final int K_ALLOW=35;
+	public static final int K_ALTER=36;
+	public static final int K_AND=37;
+	public static final int K_ANN=38;
+	public static final int K_APPLY=39;
+	public static final int K_AS=40;
+	public static final int K_ASC=41;
+	public static final int K_ASCII=42;
+	public static final int K_AUTHORIZE=43;
+	public static final int K_BATCH=44;
+	public static final int K_BEGIN=45;
+	public static final int K_BETWEEN=46;
+	public static final int K_BIGINT=47;
+	public static final int K_BLOB=48;
+	public static final int K_BOOLEAN=49;
+	public static final int K_BY=50;
+	public static final int K_CALLED=51;
+	public static final int K_CAST=52;
+	public static final int K_CIDRS=53;
+	public static final int K_CLUSTER=54;
+	public static final int K_CLUSTERING=55;
+	public static final int K_COLUMNFAMILY=56;
+	public static final int K_COMPACT=57;
+	public static final int K_CONTAINS=58;
+	public static final int K_COUNT=59;
+	public static final int K_COUNTER=60;
+	public static final int K_CREATE=61;
+	public static final int K_CUSTOM=62;
+	public static final int K_DATACENTERS=63;
+	public static final int K_DATE=64;
+	public static final int K_DECIMAL=65;
+	public static final int K_DEFAULT=66;
+	public static final int K_DELETE=67;
+	public static final int K_DESC=68;
+	public static final int K_DESCRIBE=69;
+	public static final int K_DISTINCT=70;
+	public static final int K_DOUBLE=71;
+	public static final int K_DROP=72;
+	public static final int K_DURATION=73;
+	public static final int K_ENTRIES=74;
+	public static final int K_EXECUTE=75;
+	public static final int K_EXISTS=76;
+	public static final int K_FILTERING=77;
+	public static final int K_FINALFUNC=78;
+	public static final int K_FLOAT=79;
+	public static final int K_FROM=80;
+	public static final int K_FROZEN=81;
+	public static final int K_FULL=82;
+	public static final int K_FUNCTION=83;
+	public static final int K_FUNCTIONS=84;
+	public static final int K_GENERATED=85;
+	public static final int K_GRANT=86;
+	public static final int K_GROUP=87;
+	public static final int K_HASHED=88;
+	public static final int K_IDENTITY=89;
+	public static final int K_IF=90;
+	public static final int K_IN=91;
+	public static final int K_INDEX=92;
+	public static final int K_INET=93;
+	public static final int K_INITCOND=94;
+	public static final int K_INPUT=95;
+	public static final int K_INSERT=96;
+	public static final int K_INT=97;
+	public static final int K_INTERNALS=98;
+	public static final int K_INTO=99;
+	public static final int K_IS=100;
+	public static final int K_JSON=101;
+	public static final int K_KEY=102;
+	public static final int K_KEYS=103;
+	public static final int K_KEYSPACE=104;
+	public static final int K_KEYSPACES=105;
+	public static final int K_LANGUAGE=106;
+	public static final int K_LIKE=107;
+	public static final int K_LIMIT=108;
+	public static final int K_LIST=109;
+	public static final int K_LOGIN=110;
+	public static final int K_MAP=111;
+	public static final int K_MASKED=112;
+	public static final int K_MATERIALIZED=113;
+	public static final int K_MAXWRITETIME=114;
+	public static final int K_MBEAN=115;
+	public static final int K_MBEANS=116;
+	public static final int K_MODIFY=117;
+	public static final int K_NEGATIVE_INFINITY=118;
+	public static final int K_NEGATIVE_NAN=119;
+	public static final int K_NOLOGIN=120;
+	public static final int K_NORECURSIVE=121;
+	public static final int K_NOSUPERUSER=122;
+	public static final int K_NOT=123;
+	public static final int K_NULL=124;
+	public static final int K_OF=125;
+	public static final int K_ON=126;
+	public static final int K_ONLY=127;
+	public static final int K_OPTIONS=128;
+	public static final int K_OR=129;
+	public static final int K_ORDER=130;
+	public static final int K_PARTITION=131;
+	public static final int K_PASSWORD=132;
+	public static final int K_PER=133;
+	public static final int K_PERMISSION=134;
+	public static final int K_PERMISSIONS=135;
+	public static final int K_POSITIVE_INFINITY=136;
+	public static final int K_POSITIVE_NAN=137;
+	public static final int K_PRIMARY=138;
+	public static final int K_RENAME=139;
+	public static final int K_REPLACE=140;
+	public static final int K_RETURNS=141;
+	public static final int K_REVOKE=142;
+	public static final int K_ROLE=143;
+	public static final int K_ROLES=144;
+	public static final int K_SCHEMA=145;
+	public static final int K_SELECT=146;
+	public static final int K_SELECT_MASKED=147;
+	public static final int K_SET=148;
+	public static final int K_SFUNC=149;
+	public static final int K_SMALLINT=150;
+	public static final int K_STATIC=151;
+	public static final int K_STORAGE=152;
+	public static final int K_STYPE=153;
+	public static final int K_SUPERUSER=154;
+	public static final int K_SUPERUSERS=155;
+	public static final int K_TABLES=156;
+	public static final int K_TEXT=157;
+	public static final int K_TIME=158;
+	public static final int K_TIMESTAMP=159;
+	public static final int K_TIMEUUID=160;
+	public static final int K_TINYINT=161;
+	public static final int K_TO=162;
+	public static final int K_TOKEN=163;
+	public static final int K_TRIGGER=164;
+	public static final int K_TRUNCATE=165;
+	public static final int K_TTL=166;
+	public static final int K_TUPLE=167;
+	public static final int K_TYPE=168;
+	public static final int K_TYPES=169;
+	public static final int K_UNLOGGED=170;
+	public static final int K_UNMASK=171;
+	public static final int K_UNSET=172;
+	public static final int K_UPDATE=173;
+	public static final int K_USE=174;
+	public static final int K_USER=175;
+	public static final int K_USERS=176;
+	public static final int K_USING=177;
+	public static final int K_UUID=178;
+	public static final int K_VALUES=179;
+	public static final int K_VARCHAR=180;
+	public static final int K_VARINT=181;
+	public static final int K_VECTOR=182;
+	public static final int K_VIEW=183;
+	public static final int K_WHERE=184;
+	public static final int K_WITH=185;
+	public static final int K_WRITETIME=186;
+	public static final int L=187;
+	public static final int LETTER=188;
+	public static final int M=189;
+	public static final int MULTILINE_COMMENT=190;
+	public static final int N=191;
+	public static final int O=192;
+	public static final int P=193;
+	public static final int Q=194;
+	public static final int QMARK=195;
+	public static final int QUOTED_NAME=196;
+	public static final int R=197;
+	public static final int RANGE=198;
+	public static final int S=199;
+	public static final int STRING_LITERAL=200;
+	public static final int T=201;
+	public static final int U=202;
+	public static final int UUID=203;
+	public static final int V=204;
+	public static final int W=205;
+	public static final int WS=206;
+	public static final int X=207;
+	public static final int Y=208;
+	public static final int Z=209;
+
+	// delegates
+	public Parser[] getDelegates() {
+		return new Parser[] {};
+	}
+
+	// delegators
+	public CqlParser gCql;
+	public CqlParser gParent;
+
+
+	public Cql_Parser(TokenStream input, CqlParser gCql) {
+		this(input, new RecognizerSharedState(), gCql);
+	}
+	public Cql_Parser(TokenStream input, RecognizerSharedState state, CqlParser gCql) {
+		super(input, state);
+		this.gCql = gCql;
+		gParent = gCql;
+	}
+
+	@Override public String[] getTokenNames() { return CqlParser.tokenNames; }
+	@Override public String getGrammarFileName() { return "Parser.g"; }
+
+
+	    private final List<ErrorListener> listeners = new ArrayList<ErrorListener>();
+	    protected final List<ColumnIdentifier> bindVariables = new ArrayList<ColumnIdentifier>();
+
+	    public static final Set<String> reservedTypeNames = new HashSet<String>()
+	    {{
+	        add("byte");
+	        add("complex");
+	        add("enum");
+	        add("date");
+	        add("interval");
+	        add("macaddr");
+	        add("bitstring");
+	    }};
+
+	    public Marker.Raw newBindVariables(ColumnIdentifier name)
+	    {
+	        Marker.Raw marker = new Marker.Raw(bindVariables.size());
+	        bindVariables.add(name);
+	        return marker;
+	    }
+
+	    public InMarker.Raw newINBindVariables(ColumnIdentifier name)
+	    {
+	        InMarker.Raw marker = new InMarker.Raw(bindVariables.size());
+	        bindVariables.add(name);
+	        return marker;
+	    }
+
+	    public Json.Marker newJsonBindVariables(ColumnIdentifier name)
+	    {
+	        Json.Marker marker = new Json.Marker(bindVariables.size());
+	        bindVariables.add(name);
+	        return marker;
+	    }
+
+	    public void addErrorListener(ErrorListener listener)
+	    {
+	        this.listeners.add(listener);
+	    }
+
+	    public void removeErrorListener(ErrorListener listener)
+	    {
+	        this.listeners.remove(listener);
+	    }
+
+	    public void displayRecognitionError(String[] tokenNames, RecognitionException e)
+	    {
+	        for (int i = 0, m = listeners.size(); i < m; i++)
+	            listeners.get(i).syntaxError(this, tokenNames, e);
+	    }
+
+	    protected void addRecognitionError(String msg)
+	    {
+	        for (int i = 0, m = listeners.size(); i < m; i++)
+	            listeners.get(i).syntaxError(this, msg);
+	    }
+
+	    public Map<String, String> convertPropertyMap(Maps.Literal map)
+	    {
+	        if (map == null || map.entries == null || map.entries.isEmpty())
+	            return Collections.<String, String>emptyMap();
+
+	        Map<String, String> res = new HashMap<>(map.entries.size());
+
+	        for (Pair<Term.Raw, Term.Raw> entry : map.entries)
+	        {
+	            // Because the parser tries to be smart and recover on error (to
+	            // allow displaying more than one error I suppose), we have null
+	            // entries in there. Just skip those, a proper error will be thrown in the end.
+	            if (entry.left == null || entry.right == null)
+	                break;
+
+	            if (!(entry.left instanceof Constants.Literal))
+	            {
+	                String msg = "Invalid property name: " + entry.left;
+	                if (entry.left instanceof Marker.Raw)
+	                    msg += " (bind variables are not supported in DDL queries)";
+	                addRecognitionError(msg);
+	                break;
+	            }
+	            if (!(entry.right instanceof Constants.Literal))
+	            {
+	                String msg = "Invalid property value: " + entry.right + " for property: " + entry.left;
+	                if (entry.right instanceof Marker.Raw)
+	                    msg += " (bind variables are not supported in DDL queries)";
+	                addRecognitionError(msg);
+	                break;
+	            }
+
+	            if (res.put(((Constants.Literal)entry.left).getRawText(), ((Constants.Literal)entry.right).getRawText()) != null)
+	            {
+	                addRecognitionError(String.format("Multiple definition for property " + ((Constants.Literal)entry.left).getRawText()));
+	            }
+	        }
+
+	        return res;
+	    }
+
+	    public void addRawUpdate(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key, Operation.RawUpdate update)
+	    {
+	        for (Pair<ColumnIdentifier, Operation.RawUpdate> p : operations)
+	        {
+	            if (p.left.equals(key) && !p.right.isCompatibleWith(update))
+	                addRecognitionError("Multiple incompatible setting of column " + key);
+	        }
+	        operations.add(Pair.create(key, update));
+	    }
+
+	    public Set<Permission> filterPermissions(Set<Permission> permissions, IResource resource)
+	    {
+	        if (resource == null)
+	            return Collections.emptySet();
+	        Set<Permission> filtered = new HashSet<>(permissions);
+	        filtered.retainAll(resource.applicablePermissions());
+	        if (filtered.isEmpty())
+	            addRecognitionError("Resource type " + resource.getClass().getSimpleName() +
+	                                    " does not support any of the requested permissions");
+
+	        return filtered;
+	    }
+
+	    public String canonicalizeObjectName(String s, boolean enforcePattern)
+	    {
+	        // these two conditions are here because technically they are valid
+	        // ObjectNames, but we want to restrict their use without adding unnecessary
+	        // work to JMXResource construction as that also happens on hotter code paths
+	        if ("".equals(s))
+	            addRecognitionError("Empty JMX object name supplied");
+
+	        if ("*:*".equals(s))
+	            addRecognitionError("Please use ALL MBEANS instead of wildcard pattern");
+
+	        try
+	        {
+	            javax.management.ObjectName objectName = javax.management.ObjectName.getInstance(s);
+	            if (enforcePattern && !objectName.isPattern())
+	                addRecognitionError("Plural form used, but non-pattern JMX object name specified (" + s + ")");
+	            return objectName.getCanonicalName();
+	        }
+	        catch (javax.management.MalformedObjectNameException e)
+	        {
+	          addRecognitionError(s + " is not a valid JMX object name");
+	          return s;
+	        }
+	    }
+
+	    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+	    // Recovery methods are overridden to avoid wasting work on recovering from errors when the result will be
+	    // ignored anyway.
+	    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+	    @Override
+	    protected Object recoverFromMismatchedToken(IntStream input, int ttype, BitSet follow) throws RecognitionException
+	    {
+	        throw new MismatchedTokenException(ttype, input);
+	    }
+
+	    @Override
+	    public void recover(IntStream input, RecognitionException re)
+	    {
+	        // Do nothing.
+	    }
+
+
+
+	// $ANTLR start "cqlStatement"
+	// Parser.g:193:1: cqlStatement returns [CQLStatement.Raw stmt] : (st1= selectStatement |st2= insertStatement |st3= updateStatement |st4= batchStatement |st5= deleteStatement |st6= useStatement |st7= truncateStatement |st8= createKeyspaceStatement |st9= createTableStatement |st10= createIndexStatement |st11= dropKeyspaceStatement |st12= dropTableStatement |st13= dropIndexStatement |st14= alterTableStatement |st15= alterKeyspaceStatement |st16= grantPermissionsStatement |st17= revokePermissionsStatement |st18= listPermissionsStatement |st19= createUserStatement |st20= alterUserStatement |st21= dropUserStatement |st22= listUsersStatement |st23= createTriggerStatement |st24= dropTriggerStatement |st25= createTypeStatement |st26= alterTypeStatement |st27= dropTypeStatement |st28= createFunctionStatement |st29= dropFunctionStatement |st30= createAggregateStatement |st31= dropAggregateStatement |st32= createRoleStatement |st33= alterRoleStatement |st34= dropRoleStatement |st35= listRolesStatement |st36= grantRoleStatement |st37= revokeRoleStatement |st38= createMaterializedViewStatement |st39= dropMaterializedViewStatement |st40= alterMaterializedViewStatement |st41= describeStatement |st42= addIdentityStatement |st43= dropIdentityStatement |st44= listSuperUsersStatement );
+	public final CQLStatement.Raw cqlStatement() throws RecognitionException {
+		CQLStatement.Raw stmt = null;
+
+
+		SelectStatement.RawStatement st1 =null;
+		ModificationStatement.Parsed st2 =null;
+		UpdateStatement.ParsedUpdate st3 =null;
+		BatchStatement.Parsed st4 =null;
+		DeleteStatement.Parsed st5 =null;
+		UseStatement st6 =null;
+		TruncateStatement st7 =null;
+		CreateKeyspaceStatement.Raw st8 =null;
+		CreateTableStatement.Raw st9 =null;
+		CreateIndexStatement.Raw st10 =null;
+		DropKeyspaceStatement.Raw st11 =null;
+		DropTableStatement.Raw st12 =null;
+		DropIndexStatement.Raw st13 =null;
+		AlterTableStatement.Raw st14 =null;
+		AlterKeyspaceStatement.Raw st15 =null;
+		GrantPermissionsStatement st16 =null;
+		RevokePermissionsStatement st17 =null;
+		ListPermissionsStatement st18 =null;
+		CreateRoleStatement st19 =null;
+		AlterRoleStatement st20 =null;
+		DropRoleStatement st21 =null;
+		ListRolesStatement st22 =null;
+		CreateTriggerStatement.Raw st23 =null;
+		DropTriggerStatement.Raw st24 =null;
+		CreateTypeStatement.Raw st25 =null;
+		AlterTypeStatement.Raw st26 =null;
+		DropTypeStatement.Raw st27 =null;
+		CreateFunctionStatement.Raw st28 =null;
+		DropFunctionStatement.Raw st29 =null;
+		CreateAggregateStatement.Raw st30 =null;
+		DropAggregateStatement.Raw st31 =null;
+		CreateRoleStatement st32 =null;
+		AlterRoleStatement st33 =null;
+		DropRoleStatement st34 =null;
+		ListRolesStatement st35 =null;
+		GrantRoleStatement st36 =null;
+		RevokeRoleStatement st37 =null;
+		CreateViewStatement.Raw st38 =null;
+		DropViewStatement.Raw st39 =null;
+		AlterViewStatement.Raw st40 =null;
+		DescribeStatement st41 =null;
+		AddIdentityStatement st42 =null;
+		DropIdentityStatement st43 =null;
+		ListSuperUsersStatement st44 =null;
+
+		try {
+			// Parser.g:195:5: (st1= selectStatement |st2= insertStatement |st3= updateStatement |st4= batchStatement |st5= deleteStatement |st6= useStatement |st7= truncateStatement |st8= createKeyspaceStatement |st9= createTableStatement |st10= createIndexStatement |st11= dropKeyspaceStatement |st12= dropTableStatement |st13= dropIndexStatement |st14= alterTableStatement |st15= alterKeyspaceStatement |st16= grantPermissionsStatement |st17= revokePermissionsStatement |st18= listPermissionsStatement |st19= createUserStatement |st20= alterUserStatement |st21= dropUserStatement |st22= listUsersStatement |st23= createTriggerStatement |st24= dropTriggerStatement |st25= createTypeStatement |st26= alterTypeStatement |st27= dropTypeStatement |st28= createFunctionStatement |st29= dropFunctionStatement |st30= createAggregateStatement |st31= dropAggregateStatement |st32= createRoleStatement |st33= alterRoleStatement |st34= dropRoleStatement |st35= listRolesStatement |st36= grantRoleStatement |st37= revokeRoleStatement |st38= createMaterializedViewStatement |st39= dropMaterializedViewStatement |st40= alterMaterializedViewStatement |st41= describeStatement |st42= addIdentityStatement |st43= dropIdentityStatement |st44= listSuperUsersStatement )
+			int alt1=44;
+			alt1 = dfa1.predict(input);
+			switch (alt1) {
+				case 1 :
+					// Parser.g:195:7: st1= selectStatement
+					{
+					pushFollow(FOLLOW_selectStatement_in_cqlStatement59);
+					st1=selectStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st1; }
+					}
+					break;
+				case 2 :
+					// Parser.g:196:7: st2= insertStatement
+					{
+					pushFollow(FOLLOW_insertStatement_in_cqlStatement88);
+					st2=insertStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st2; }
+					}
+					break;
+				case 3 :
+					// Parser.g:197:7: st3= updateStatement
+					{
+					pushFollow(FOLLOW_updateStatement_in_cqlStatement117);
+					st3=updateStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st3; }
+					}
+					break;
+				case 4 :
+					// Parser.g:198:7: st4= batchStatement
+					{
+					pushFollow(FOLLOW_batchStatement_in_cqlStatement146);
+					st4=batchStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st4; }
+					}
+					break;
+				case 5 :
+					// Parser.g:199:7: st5= deleteStatement
+					{
+					pushFollow(FOLLOW_deleteStatement_in_cqlStatement176);
+					st5=deleteStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st5; }
+					}
+					break;
+				case 6 :
+					// Parser.g:200:7: st6= useStatement
+					{
+					pushFollow(FOLLOW_useStatement_in_cqlStatement205);
+					st6=useStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st6; }
+					}
+					break;
+				case 7 :
+					// Parser.g:201:7: st7= truncateStatement
+					{
+					pushFollow(FOLLOW_truncateStatement_in_cqlStatement237);
+					st7=truncateStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st7; }
+					}
+					break;
+				case 8 :
+					// Parser.g:202:7: st8= createKeyspaceStatement
+					{
+					pushFollow(FOLLOW_createKeyspaceStatement_in_cqlStatement264);
+					st8=createKeyspaceStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st8; }
+					}
+					break;
+				case 9 :
+					// Parser.g:203:7: st9= createTableStatement
+					{
+					pushFollow(FOLLOW_createTableStatement_in_cqlStatement285);
+					st9=createTableStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st9; }
+					}
+					break;
+				case 10 :
+					// Parser.g:204:7: st10= createIndexStatement
+					{
+					pushFollow(FOLLOW_createIndexStatement_in_cqlStatement308);
+					st10=createIndexStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st10; }
+					}
+					break;
+				case 11 :
+					// Parser.g:205:7: st11= dropKeyspaceStatement
+					{
+					pushFollow(FOLLOW_dropKeyspaceStatement_in_cqlStatement331);
+					st11=dropKeyspaceStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st11; }
+					}
+					break;
+				case 12 :
+					// Parser.g:206:7: st12= dropTableStatement
+					{
+					pushFollow(FOLLOW_dropTableStatement_in_cqlStatement353);
+					st12=dropTableStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st12; }
+					}
+					break;
+				case 13 :
+					// Parser.g:207:7: st13= dropIndexStatement
+					{
+					pushFollow(FOLLOW_dropIndexStatement_in_cqlStatement378);
+					st13=dropIndexStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st13; }
+					}
+					break;
+				case 14 :
+					// Parser.g:208:7: st14= alterTableStatement
+					{
+					pushFollow(FOLLOW_alterTableStatement_in_cqlStatement403);
+					st14=alterTableStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st14; }
+					}
+					break;
+				case 15 :
+					// Parser.g:209:7: st15= alterKeyspaceStatement
+					{
+					pushFollow(FOLLOW_alterKeyspaceStatement_in_cqlStatement427);
+					st15=alterKeyspaceStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st15; }
+					}
+					break;
+				case 16 :
+					// Parser.g:210:7: st16= grantPermissionsStatement
+					{
+					pushFollow(FOLLOW_grantPermissionsStatement_in_cqlStatement448);
+					st16=grantPermissionsStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st16; }
+					}
+					break;
+				case 17 :
+					// Parser.g:211:7: st17= revokePermissionsStatement
+					{
+					pushFollow(FOLLOW_revokePermissionsStatement_in_cqlStatement466);
+					st17=revokePermissionsStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st17; }
+					}
+					break;
+				case 18 :
+					// Parser.g:212:7: st18= listPermissionsStatement
+					{
+					pushFollow(FOLLOW_listPermissionsStatement_in_cqlStatement483);
+					st18=listPermissionsStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st18; }
+					}
+					break;
+				case 19 :
+					// Parser.g:213:7: st19= createUserStatement
+					{
+					pushFollow(FOLLOW_createUserStatement_in_cqlStatement502);
+					st19=createUserStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st19; }
+					}
+					break;
+				case 20 :
+					// Parser.g:214:7: st20= alterUserStatement
+					{
+					pushFollow(FOLLOW_alterUserStatement_in_cqlStatement526);
+					st20=alterUserStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st20; }
+					}
+					break;
+				case 21 :
+					// Parser.g:215:7: st21= dropUserStatement
+					{
+					pushFollow(FOLLOW_dropUserStatement_in_cqlStatement551);
+					st21=dropUserStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st21; }
+					}
+					break;
+				case 22 :
+					// Parser.g:216:7: st22= listUsersStatement
+					{
+					pushFollow(FOLLOW_listUsersStatement_in_cqlStatement577);
+					st22=listUsersStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st22; }
+					}
+					break;
+				case 23 :
+					// Parser.g:217:7: st23= createTriggerStatement
+					{
+					pushFollow(FOLLOW_createTriggerStatement_in_cqlStatement602);
+					st23=createTriggerStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st23; }
+					}
+					break;
+				case 24 :
+					// Parser.g:218:7: st24= dropTriggerStatement
+					{
+					pushFollow(FOLLOW_dropTriggerStatement_in_cqlStatement623);
+					st24=dropTriggerStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st24; }
+					}
+					break;
+				case 25 :
+					// Parser.g:219:7: st25= createTypeStatement
+					{
+					pushFollow(FOLLOW_createTypeStatement_in_cqlStatement646);
+					st25=createTypeStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st25; }
+					}
+					break;
+				case 26 :
+					// Parser.g:220:7: st26= alterTypeStatement
+					{
+					pushFollow(FOLLOW_alterTypeStatement_in_cqlStatement670);
+					st26=alterTypeStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st26; }
+					}
+					break;
+				case 27 :
+					// Parser.g:221:7: st27= dropTypeStatement
+					{
+					pushFollow(FOLLOW_dropTypeStatement_in_cqlStatement695);
+					st27=dropTypeStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st27; }
+					}
+					break;
+				case 28 :
+					// Parser.g:222:7: st28= createFunctionStatement
+					{
+					pushFollow(FOLLOW_createFunctionStatement_in_cqlStatement721);
+					st28=createFunctionStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st28; }
+					}
+					break;
+				case 29 :
+					// Parser.g:223:7: st29= dropFunctionStatement
+					{
+					pushFollow(FOLLOW_dropFunctionStatement_in_cqlStatement741);
+					st29=dropFunctionStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st29; }
+					}
+					break;
+				case 30 :
+					// Parser.g:224:7: st30= createAggregateStatement
+					{
+					pushFollow(FOLLOW_createAggregateStatement_in_cqlStatement763);
+					st30=createAggregateStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st30; }
+					}
+					break;
+				case 31 :
+					// Parser.g:225:7: st31= dropAggregateStatement
+					{
+					pushFollow(FOLLOW_dropAggregateStatement_in_cqlStatement782);
+					st31=dropAggregateStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st31; }
+					}
+					break;
+				case 32 :
+					// Parser.g:226:7: st32= createRoleStatement
+					{
+					pushFollow(FOLLOW_createRoleStatement_in_cqlStatement803);
+					st32=createRoleStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st32; }
+					}
+					break;
+				case 33 :
+					// Parser.g:227:7: st33= alterRoleStatement
+					{
+					pushFollow(FOLLOW_alterRoleStatement_in_cqlStatement827);
+					st33=alterRoleStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st33; }
+					}
+					break;
+				case 34 :
+					// Parser.g:228:7: st34= dropRoleStatement
+					{
+					pushFollow(FOLLOW_dropRoleStatement_in_cqlStatement852);
+					st34=dropRoleStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st34; }
+					}
+					break;
+				case 35 :
+					// Parser.g:229:7: st35= listRolesStatement
+					{
+					pushFollow(FOLLOW_listRolesStatement_in_cqlStatement878);
+					st35=listRolesStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st35; }
+					}
+					break;
+				case 36 :
+					// Parser.g:230:7: st36= grantRoleStatement
+					{
+					pushFollow(FOLLOW_grantRoleStatement_in_cqlStatement903);
+					st36=grantRoleStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st36; }
+					}
+					break;
+				case 37 :
+					// Parser.g:231:7: st37= revokeRoleStatement
+					{
+					pushFollow(FOLLOW_revokeRoleStatement_in_cqlStatement928);
+					st37=revokeRoleStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st37; }
+					}
+					break;
+				case 38 :
+					// Parser.g:232:7: st38= createMaterializedViewStatement
+					{
+					pushFollow(FOLLOW_createMaterializedViewStatement_in_cqlStatement952);
+					st38=createMaterializedViewStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st38; }
+					}
+					break;
+				case 39 :
+					// Parser.g:233:7: st39= dropMaterializedViewStatement
+					{
+					pushFollow(FOLLOW_dropMaterializedViewStatement_in_cqlStatement964);
+					st39=dropMaterializedViewStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st39; }
+					}
+					break;
+				case 40 :
+					// Parser.g:234:7: st40= alterMaterializedViewStatement
+					{
+					pushFollow(FOLLOW_alterMaterializedViewStatement_in_cqlStatement978);
+					st40=alterMaterializedViewStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st40; }
+					}
+					break;
+				case 41 :
+					// Parser.g:235:7: st41= describeStatement
+					{
+					pushFollow(FOLLOW_describeStatement_in_cqlStatement991);
+					st41=describeStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st41; }
+					}
+					break;
+				case 42 :
+					// Parser.g:236:7: st42= addIdentityStatement
+					{
+					pushFollow(FOLLOW_addIdentityStatement_in_cqlStatement1017);
+					st42=addIdentityStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st42; }
+					}
+					break;
+				case 43 :
+					// Parser.g:237:7: st43= dropIdentityStatement
+					{
+					pushFollow(FOLLOW_dropIdentityStatement_in_cqlStatement1040);
+					st43=dropIdentityStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st43; }
+					}
+					break;
+				case 44 :
+					// Parser.g:238:7: st44= listSuperUsersStatement
+					{
+					pushFollow(FOLLOW_listSuperUsersStatement_in_cqlStatement1062);
+					st44=listSuperUsersStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = st44; }
+					}
+					break;
+
+			}
+			if ( state.backtracking==0 ) { if (stmt != null) stmt.setBindVariables(bindVariables); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "cqlStatement"
+
+
+
+	// $ANTLR start "useStatement"
+	// Parser.g:244:1: useStatement returns [UseStatement stmt] : K_USE ks= keyspaceName ;
+	public final UseStatement useStatement() throws RecognitionException {
+		UseStatement stmt = null;
+
+
+		String ks =null;
+
+		try {
+			// Parser.g:245:5: ( K_USE ks= keyspaceName )
+			// Parser.g:245:7: K_USE ks= keyspaceName
+			{
+			match(input,K_USE,FOLLOW_K_USE_in_useStatement1095); if (state.failed) return stmt;
+			pushFollow(FOLLOW_keyspaceName_in_useStatement1099);
+			ks=keyspaceName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new UseStatement(ks); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "useStatement"
+
+
+
+	// $ANTLR start "selectStatement"
+	// Parser.g:254:1: selectStatement returns [SelectStatement.RawStatement expr] : K_SELECT ( ( K_JSON selectClause )=> K_JSON )? sclause= selectClause K_FROM cf= columnFamilyName ( K_WHERE wclause= whereClause )? ( K_GROUP K_BY groupByClause[groups] ( ',' groupByClause[groups] )* )? ( K_ORDER K_BY orderByClause[orderings] ( ',' orderByClause[orderings] )* )? ( K_PER K_PARTITION K_LIMIT rows= intValue )? ( K_LIMIT rows= intValue )? ( K_ALLOW K_FILTERING )? ;
+	public final SelectStatement.RawStatement selectStatement() throws RecognitionException {
+		SelectStatement.RawStatement expr = null;
+
+
+		ParserRuleReturnScope sclause =null;
+		QualifiedName cf =null;
+		WhereClause.Builder wclause =null;
+		Term.Raw rows =null;
+
+
+		        Term.Raw limit = null;
+		        Term.Raw perPartitionLimit = null;
+		        List<Ordering.Raw> orderings = new ArrayList<>();
+		        List<Selectable.Raw> groups = new ArrayList<>();
+		        boolean allowFiltering = false;
+		        boolean isJson = false;
+		    
+		try {
+			// Parser.g:263:5: ( K_SELECT ( ( K_JSON selectClause )=> K_JSON )? sclause= selectClause K_FROM cf= columnFamilyName ( K_WHERE wclause= whereClause )? ( K_GROUP K_BY groupByClause[groups] ( ',' groupByClause[groups] )* )? ( K_ORDER K_BY orderByClause[orderings] ( ',' orderByClause[orderings] )* )? ( K_PER K_PARTITION K_LIMIT rows= intValue )? ( K_LIMIT rows= intValue )? ( K_ALLOW K_FILTERING )? )
+			// Parser.g:263:7: K_SELECT ( ( K_JSON selectClause )=> K_JSON )? sclause= selectClause K_FROM cf= columnFamilyName ( K_WHERE wclause= whereClause )? ( K_GROUP K_BY groupByClause[groups] ( ',' groupByClause[groups] )* )? ( K_ORDER K_BY orderByClause[orderings] ( ',' orderByClause[orderings] )* )? ( K_PER K_PARTITION K_LIMIT rows= intValue )? ( K_LIMIT rows= intValue )? ( K_ALLOW K_FILTERING )?
+			{
+			match(input,K_SELECT,FOLLOW_K_SELECT_in_selectStatement1133); if (state.failed) return expr;
+			// Parser.g:265:7: ( ( K_JSON selectClause )=> K_JSON )?
+			int alt2=2;
+			alt2 = dfa2.predict(input);
+			switch (alt2) {
+				case 1 :
+					// Parser.g:265:9: ( K_JSON selectClause )=> K_JSON
+					{
+					match(input,K_JSON,FOLLOW_K_JSON_in_selectStatement1159); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { isJson = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_selectClause_in_selectStatement1168);
+			sclause=selectClause();
+			state._fsp--;
+			if (state.failed) return expr;
+			match(input,K_FROM,FOLLOW_K_FROM_in_selectStatement1176); if (state.failed) return expr;
+			pushFollow(FOLLOW_columnFamilyName_in_selectStatement1180);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:267:7: ( K_WHERE wclause= whereClause )?
+			int alt3=2;
+			int LA3_0 = input.LA(1);
+			if ( (LA3_0==K_WHERE) ) {
+				alt3=1;
+			}
+			switch (alt3) {
+				case 1 :
+					// Parser.g:267:9: K_WHERE wclause= whereClause
+					{
+					match(input,K_WHERE,FOLLOW_K_WHERE_in_selectStatement1190); if (state.failed) return expr;
+					pushFollow(FOLLOW_whereClause_in_selectStatement1194);
+					wclause=whereClause();
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+			}
+
+			// Parser.g:268:7: ( K_GROUP K_BY groupByClause[groups] ( ',' groupByClause[groups] )* )?
+			int alt5=2;
+			int LA5_0 = input.LA(1);
+			if ( (LA5_0==K_GROUP) ) {
+				alt5=1;
+			}
+			switch (alt5) {
+				case 1 :
+					// Parser.g:268:9: K_GROUP K_BY groupByClause[groups] ( ',' groupByClause[groups] )*
+					{
+					match(input,K_GROUP,FOLLOW_K_GROUP_in_selectStatement1207); if (state.failed) return expr;
+					match(input,K_BY,FOLLOW_K_BY_in_selectStatement1209); if (state.failed) return expr;
+					pushFollow(FOLLOW_groupByClause_in_selectStatement1211);
+					groupByClause(groups);
+					state._fsp--;
+					if (state.failed) return expr;
+					// Parser.g:268:44: ( ',' groupByClause[groups] )*
+					loop4:
+					while (true) {
+						int alt4=2;
+						int LA4_0 = input.LA(1);
+						if ( (LA4_0==216) ) {
+							alt4=1;
+						}
+
+						switch (alt4) {
+						case 1 :
+							// Parser.g:268:46: ',' groupByClause[groups]
+							{
+							match(input,216,FOLLOW_216_in_selectStatement1216); if (state.failed) return expr;
+							pushFollow(FOLLOW_groupByClause_in_selectStatement1218);
+							groupByClause(groups);
+							state._fsp--;
+							if (state.failed) return expr;
+							}
+							break;
+
+						default :
+							break loop4;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			// Parser.g:269:7: ( K_ORDER K_BY orderByClause[orderings] ( ',' orderByClause[orderings] )* )?
+			int alt7=2;
+			int LA7_0 = input.LA(1);
+			if ( (LA7_0==K_ORDER) ) {
+				alt7=1;
+			}
+			switch (alt7) {
+				case 1 :
+					// Parser.g:269:9: K_ORDER K_BY orderByClause[orderings] ( ',' orderByClause[orderings] )*
+					{
+					match(input,K_ORDER,FOLLOW_K_ORDER_in_selectStatement1235); if (state.failed) return expr;
+					match(input,K_BY,FOLLOW_K_BY_in_selectStatement1237); if (state.failed) return expr;
+					pushFollow(FOLLOW_orderByClause_in_selectStatement1239);
+					orderByClause(orderings);
+					state._fsp--;
+					if (state.failed) return expr;
+					// Parser.g:269:47: ( ',' orderByClause[orderings] )*
+					loop6:
+					while (true) {
+						int alt6=2;
+						int LA6_0 = input.LA(1);
+						if ( (LA6_0==216) ) {
+							alt6=1;
+						}
+
+						switch (alt6) {
+						case 1 :
+							// Parser.g:269:49: ',' orderByClause[orderings]
+							{
+							match(input,216,FOLLOW_216_in_selectStatement1244); if (state.failed) return expr;
+							pushFollow(FOLLOW_orderByClause_in_selectStatement1246);
+							orderByClause(orderings);
+							state._fsp--;
+							if (state.failed) return expr;
+							}
+							break;
+
+						default :
+							break loop6;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			// Parser.g:270:7: ( K_PER K_PARTITION K_LIMIT rows= intValue )?
+			int alt8=2;
+			int LA8_0 = input.LA(1);
+			if ( (LA8_0==K_PER) ) {
+				alt8=1;
+			}
+			switch (alt8) {
+				case 1 :
+					// Parser.g:270:9: K_PER K_PARTITION K_LIMIT rows= intValue
+					{
+					match(input,K_PER,FOLLOW_K_PER_in_selectStatement1263); if (state.failed) return expr;
+					match(input,K_PARTITION,FOLLOW_K_PARTITION_in_selectStatement1265); if (state.failed) return expr;
+					match(input,K_LIMIT,FOLLOW_K_LIMIT_in_selectStatement1267); if (state.failed) return expr;
+					pushFollow(FOLLOW_intValue_in_selectStatement1271);
+					rows=intValue();
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { perPartitionLimit = rows; }
+					}
+					break;
+
+			}
+
+			// Parser.g:271:7: ( K_LIMIT rows= intValue )?
+			int alt9=2;
+			int LA9_0 = input.LA(1);
+			if ( (LA9_0==K_LIMIT) ) {
+				alt9=1;
+			}
+			switch (alt9) {
+				case 1 :
+					// Parser.g:271:9: K_LIMIT rows= intValue
+					{
+					match(input,K_LIMIT,FOLLOW_K_LIMIT_in_selectStatement1286); if (state.failed) return expr;
+					pushFollow(FOLLOW_intValue_in_selectStatement1290);
+					rows=intValue();
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { limit = rows; }
+					}
+					break;
+
+			}
+
+			// Parser.g:272:7: ( K_ALLOW K_FILTERING )?
+			int alt10=2;
+			int LA10_0 = input.LA(1);
+			if ( (LA10_0==K_ALLOW) ) {
+				alt10=1;
+			}
+			switch (alt10) {
+				case 1 :
+					// Parser.g:272:9: K_ALLOW K_FILTERING
+					{
+					match(input,K_ALLOW,FOLLOW_K_ALLOW_in_selectStatement1305); if (state.failed) return expr;
+					match(input,K_FILTERING,FOLLOW_K_FILTERING_in_selectStatement1307); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { allowFiltering = true; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			          SelectStatement.Parameters params = new SelectStatement.Parameters(orderings,
+			                                                                             groups,
+			                                                                             (sclause!=null?((Cql_Parser.selectClause_return)sclause).isDistinct:false),
+			                                                                             allowFiltering,
+			                                                                             isJson);
+			          WhereClause where = wclause == null ? WhereClause.empty() : wclause.build();
+			          expr = new SelectStatement.RawStatement(cf, params, (sclause!=null?((Cql_Parser.selectClause_return)sclause).selectors:null), where, limit, perPartitionLimit);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "selectStatement"
+
+
+	public static class selectClause_return extends ParserRuleReturnScope {
+		public boolean isDistinct;
+		public List<RawSelector> selectors;
+	};
+
+
+	// $ANTLR start "selectClause"
+	// Parser.g:284:1: selectClause returns [boolean isDistinct, List<RawSelector> selectors] : ( ( K_DISTINCT selectors )=> K_DISTINCT s= selectors |s= selectors );
+	public final Cql_Parser.selectClause_return selectClause() throws RecognitionException {
+		Cql_Parser.selectClause_return retval = new Cql_Parser.selectClause_return();
+		retval.start = input.LT(1);
+
+		List<RawSelector> s =null;
+
+		 retval.isDistinct = false; 
+		try {
+			// Parser.g:287:5: ( ( K_DISTINCT selectors )=> K_DISTINCT s= selectors |s= selectors )
+			int alt11=2;
+			alt11 = dfa11.predict(input);
+			switch (alt11) {
+				case 1 :
+					// Parser.g:287:7: ( K_DISTINCT selectors )=> K_DISTINCT s= selectors
+					{
+					match(input,K_DISTINCT,FOLLOW_K_DISTINCT_in_selectClause1362); if (state.failed) return retval;
+					pushFollow(FOLLOW_selectors_in_selectClause1366);
+					s=selectors();
+					state._fsp--;
+					if (state.failed) return retval;
+					if ( state.backtracking==0 ) { retval.isDistinct = true; retval.selectors = s; }
+					}
+					break;
+				case 2 :
+					// Parser.g:288:7: s= selectors
+					{
+					pushFollow(FOLLOW_selectors_in_selectClause1378);
+					s=selectors();
+					state._fsp--;
+					if (state.failed) return retval;
+					if ( state.backtracking==0 ) { retval.selectors = s; }
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "selectClause"
+
+
+
+	// $ANTLR start "selectors"
+	// Parser.g:291:1: selectors returns [List<RawSelector> expr] : (t1= selector ( ',' tN= selector )* | '\\*' );
+	public final List<RawSelector> selectors() throws RecognitionException {
+		List<RawSelector> expr = null;
+
+
+		RawSelector t1 =null;
+		RawSelector tN =null;
+
+		try {
+			// Parser.g:292:5: (t1= selector ( ',' tN= selector )* | '\\*' )
+			int alt13=2;
+			int LA13_0 = input.LA(1);
+			if ( (LA13_0==BOOLEAN||LA13_0==DURATION||LA13_0==FLOAT||LA13_0==HEXNUMBER||(LA13_0 >= IDENT && LA13_0 <= INTEGER)||LA13_0==K_ACCESS||(LA13_0 >= K_AGGREGATE && LA13_0 <= K_ALL)||LA13_0==K_ANN||LA13_0==K_AS||LA13_0==K_ASCII||(LA13_0 >= K_BETWEEN && LA13_0 <= K_BOOLEAN)||(LA13_0 >= K_CALLED && LA13_0 <= K_CLUSTERING)||(LA13_0 >= K_COMPACT && LA13_0 <= K_COUNTER)||(LA13_0 >= K_CUSTOM && LA13_0 <= K_DEFAULT)||(LA13_0 >= K_DISTINCT && LA13_0 <= K_DOUBLE)||LA13_0==K_DURATION||(LA13_0 >= K_EXISTS && LA13_0 <= K_FLOAT)||LA13_0==K_FROZEN||(LA13_0 >= K_FUNCTION && LA13_0 <= K_GENERATED)||(LA13_0 >= K_GROUP && LA13_0 <= K_IDENTITY)||(LA13_0 >= K_INET && LA13_0 <= K_INPUT)||(LA13_0 >= K_INT && LA13_0 <= K_INTERNALS)||(LA13_0 >= K_JSON && LA13_0 <= K_KEYS)||(LA13_0 >= K_KEYSPACES && LA13_0 <= K_LIKE)||(LA13_0 >= K_LIST && LA13_0 <= K_MASKED)||(LA13_0 >= K_MAXWRITETIME && LA13_0 <= K_MBEANS)||(LA13_0 >= K_NEGATIVE_INFINITY && LA13_0 <= K_NOLOGIN)||LA13_0==K_NOSUPERUSER||LA13_0==K_NULL||(LA13_0 >= K_ONLY && LA13_0 <= K_OPTIONS)||(LA13_0 >= K_PARTITION && LA13_0 <= K_POSITIVE_NAN)||(LA13_0 >= K_REPLACE && LA13_0 <= K_RETURNS)||(LA13_0 >= K_ROLE && LA13_0 <= K_ROLES)||LA13_0==K_SELECT_MASKED||(LA13_0 >= K_SFUNC && LA13_0 <= K_TINYINT)||(LA13_0 >= K_TOKEN && LA13_0 <= K_TRIGGER)||(LA13_0 >= K_TTL && LA13_0 <= K_TYPES)||(LA13_0 >= K_UNMASK && LA13_0 <= K_UNSET)||(LA13_0 >= K_USER && LA13_0 <= K_USERS)||(LA13_0 >= K_UUID && LA13_0 <= K_VECTOR)||LA13_0==K_WRITETIME||(LA13_0 >= QMARK && LA13_0 <= QUOTED_NAME)||LA13_0==STRING_LITERAL||LA13_0==UUID||LA13_0==212||LA13_0==217||LA13_0==221||LA13_0==228||LA13_0==232) ) {
+				alt13=1;
+			}
+			else if ( (LA13_0==229) ) {
+				alt13=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return expr;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 13, 0, input);
+				throw nvae;
+			}
+
+			switch (alt13) {
+				case 1 :
+					// Parser.g:292:7: t1= selector ( ',' tN= selector )*
+					{
+					pushFollow(FOLLOW_selector_in_selectors1403);
+					t1=selector();
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { expr = new ArrayList<RawSelector>(); expr.add(t1); }
+					// Parser.g:292:76: ( ',' tN= selector )*
+					loop12:
+					while (true) {
+						int alt12=2;
+						int LA12_0 = input.LA(1);
+						if ( (LA12_0==216) ) {
+							alt12=1;
+						}
+
+						switch (alt12) {
+						case 1 :
+							// Parser.g:292:77: ',' tN= selector
+							{
+							match(input,216,FOLLOW_216_in_selectors1408); if (state.failed) return expr;
+							pushFollow(FOLLOW_selector_in_selectors1412);
+							tN=selector();
+							state._fsp--;
+							if (state.failed) return expr;
+							if ( state.backtracking==0 ) { expr.add(tN); }
+							}
+							break;
+
+						default :
+							break loop12;
+						}
+					}
+
+					}
+					break;
+				case 2 :
+					// Parser.g:293:7: '\\*'
+					{
+					match(input,229,FOLLOW_229_in_selectors1424); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { expr = Collections.<RawSelector>emptyList();}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "selectors"
+
+
+
+	// $ANTLR start "selector"
+	// Parser.g:296:1: selector returns [RawSelector s] : us= unaliasedSelector ( K_AS c= noncol_ident )? ;
+	public final RawSelector selector() throws RecognitionException {
+		RawSelector s = null;
+
+
+		Selectable.Raw us =null;
+		ColumnIdentifier c =null;
+
+		 ColumnIdentifier alias = null; 
+		try {
+			// Parser.g:298:5: (us= unaliasedSelector ( K_AS c= noncol_ident )? )
+			// Parser.g:298:7: us= unaliasedSelector ( K_AS c= noncol_ident )?
+			{
+			pushFollow(FOLLOW_unaliasedSelector_in_selector1457);
+			us=unaliasedSelector();
+			state._fsp--;
+			if (state.failed) return s;
+			// Parser.g:298:28: ( K_AS c= noncol_ident )?
+			int alt14=2;
+			int LA14_0 = input.LA(1);
+			if ( (LA14_0==K_AS) ) {
+				alt14=1;
+			}
+			switch (alt14) {
+				case 1 :
+					// Parser.g:298:29: K_AS c= noncol_ident
+					{
+					match(input,K_AS,FOLLOW_K_AS_in_selector1460); if (state.failed) return s;
+					pushFollow(FOLLOW_noncol_ident_in_selector1464);
+					c=noncol_ident();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { alias = c; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { s = new RawSelector(us, alias); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selector"
+
+
+
+	// $ANTLR start "unaliasedSelector"
+	// Parser.g:301:1: unaliasedSelector returns [Selectable.Raw s] : a= selectionAddition ;
+	public final Selectable.Raw unaliasedSelector() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw a =null;
+
+		try {
+			// Parser.g:302:5: (a= selectionAddition )
+			// Parser.g:302:7: a= selectionAddition
+			{
+			pushFollow(FOLLOW_selectionAddition_in_unaliasedSelector1493);
+			a=selectionAddition();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) {s = a;}
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "unaliasedSelector"
+
+
+
+	// $ANTLR start "selectionAddition"
+	// Parser.g:305:1: selectionAddition returns [Selectable.Raw s] : l= selectionMultiplication ( '+' r= selectionMultiplication | '-' r= selectionMultiplication )* ;
+	public final Selectable.Raw selectionAddition() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw l =null;
+		Selectable.Raw r =null;
+
+		try {
+			// Parser.g:306:5: (l= selectionMultiplication ( '+' r= selectionMultiplication | '-' r= selectionMultiplication )* )
+			// Parser.g:306:9: l= selectionMultiplication ( '+' r= selectionMultiplication | '-' r= selectionMultiplication )*
+			{
+			pushFollow(FOLLOW_selectionMultiplication_in_selectionAddition1520);
+			l=selectionMultiplication();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) {s = l;}
+			// Parser.g:307:9: ( '+' r= selectionMultiplication | '-' r= selectionMultiplication )*
+			loop15:
+			while (true) {
+				int alt15=3;
+				int LA15_0 = input.LA(1);
+				if ( (LA15_0==214) ) {
+					alt15=1;
+				}
+				else if ( (LA15_0==217) ) {
+					alt15=2;
+				}
+
+				switch (alt15) {
+				case 1 :
+					// Parser.g:307:11: '+' r= selectionMultiplication
+					{
+					match(input,214,FOLLOW_214_in_selectionAddition1536); if (state.failed) return s;
+					pushFollow(FOLLOW_selectionMultiplication_in_selectionAddition1540);
+					r=selectionMultiplication();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) {s = Selectable.WithFunction.Raw.newOperation('+', s, r);}
+					}
+					break;
+				case 2 :
+					// Parser.g:308:11: '-' r= selectionMultiplication
+					{
+					match(input,217,FOLLOW_217_in_selectionAddition1554); if (state.failed) return s;
+					pushFollow(FOLLOW_selectionMultiplication_in_selectionAddition1558);
+					r=selectionMultiplication();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) {s = Selectable.WithFunction.Raw.newOperation('-', s, r);}
+					}
+					break;
+
+				default :
+					break loop15;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionAddition"
+
+
+
+	// $ANTLR start "selectionMultiplication"
+	// Parser.g:312:1: selectionMultiplication returns [Selectable.Raw s] : l= selectionGroup ( '\\*' r= selectionGroup | '/' r= selectionGroup | '%' r= selectionGroup )* ;
+	public final Selectable.Raw selectionMultiplication() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw l =null;
+		Selectable.Raw r =null;
+
+		try {
+			// Parser.g:313:5: (l= selectionGroup ( '\\*' r= selectionGroup | '/' r= selectionGroup | '%' r= selectionGroup )* )
+			// Parser.g:313:9: l= selectionGroup ( '\\*' r= selectionGroup | '/' r= selectionGroup | '%' r= selectionGroup )*
+			{
+			pushFollow(FOLLOW_selectionGroup_in_selectionMultiplication1596);
+			l=selectionGroup();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) {s = l;}
+			// Parser.g:314:9: ( '\\*' r= selectionGroup | '/' r= selectionGroup | '%' r= selectionGroup )*
+			loop16:
+			while (true) {
+				int alt16=4;
+				switch ( input.LA(1) ) {
+				case 229:
+					{
+					alt16=1;
+					}
+					break;
+				case 220:
+					{
+					alt16=2;
+					}
+					break;
+				case 211:
+					{
+					alt16=3;
+					}
+					break;
+				}
+				switch (alt16) {
+				case 1 :
+					// Parser.g:314:11: '\\*' r= selectionGroup
+					{
+					match(input,229,FOLLOW_229_in_selectionMultiplication1612); if (state.failed) return s;
+					pushFollow(FOLLOW_selectionGroup_in_selectionMultiplication1616);
+					r=selectionGroup();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) {s = Selectable.WithFunction.Raw.newOperation('*', s, r);}
+					}
+					break;
+				case 2 :
+					// Parser.g:315:11: '/' r= selectionGroup
+					{
+					match(input,220,FOLLOW_220_in_selectionMultiplication1630); if (state.failed) return s;
+					pushFollow(FOLLOW_selectionGroup_in_selectionMultiplication1634);
+					r=selectionGroup();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) {s = Selectable.WithFunction.Raw.newOperation('/', s, r);}
+					}
+					break;
+				case 3 :
+					// Parser.g:316:11: '%' r= selectionGroup
+					{
+					match(input,211,FOLLOW_211_in_selectionMultiplication1648); if (state.failed) return s;
+					pushFollow(FOLLOW_selectionGroup_in_selectionMultiplication1652);
+					r=selectionGroup();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) {s = Selectable.WithFunction.Raw.newOperation('%', s, r);}
+					}
+					break;
+
+				default :
+					break loop16;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionMultiplication"
+
+
+
+	// $ANTLR start "selectionGroup"
+	// Parser.g:320:1: selectionGroup returns [Selectable.Raw s] : ( ( selectionGroupWithField )=>f= selectionGroupWithField |g= selectionGroupWithoutField | '-' g= selectionGroup );
+	public final Selectable.Raw selectionGroup() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw f =null;
+		Selectable.Raw g =null;
+
+		try {
+			// Parser.g:321:5: ( ( selectionGroupWithField )=>f= selectionGroupWithField |g= selectionGroupWithoutField | '-' g= selectionGroup )
+			int alt17=3;
+			alt17 = dfa17.predict(input);
+			switch (alt17) {
+				case 1 :
+					// Parser.g:321:7: ( selectionGroupWithField )=>f= selectionGroupWithField
+					{
+					pushFollow(FOLLOW_selectionGroupWithField_in_selectionGroup1694);
+					f=selectionGroupWithField();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s =f; }
+					}
+					break;
+				case 2 :
+					// Parser.g:322:7: g= selectionGroupWithoutField
+					{
+					pushFollow(FOLLOW_selectionGroupWithoutField_in_selectionGroup1706);
+					g=selectionGroupWithoutField();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s =g; }
+					}
+					break;
+				case 3 :
+					// Parser.g:323:7: '-' g= selectionGroup
+					{
+					match(input,217,FOLLOW_217_in_selectionGroup1716); if (state.failed) return s;
+					pushFollow(FOLLOW_selectionGroup_in_selectionGroup1720);
+					g=selectionGroup();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) {s = Selectable.WithFunction.Raw.newNegation(g);}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionGroup"
+
+
+
+	// $ANTLR start "selectionGroupWithField"
+	// Parser.g:326:1: selectionGroupWithField returns [Selectable.Raw s] : g= selectionGroupWithoutField m= selectorModifier[g] ;
+	public final Selectable.Raw selectionGroupWithField() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw g =null;
+		Selectable.Raw m =null;
+
+		try {
+			// Parser.g:327:5: (g= selectionGroupWithoutField m= selectorModifier[g] )
+			// Parser.g:327:7: g= selectionGroupWithoutField m= selectorModifier[g]
+			{
+			pushFollow(FOLLOW_selectionGroupWithoutField_in_selectionGroupWithField1745);
+			g=selectionGroupWithoutField();
+			state._fsp--;
+			if (state.failed) return s;
+			pushFollow(FOLLOW_selectorModifier_in_selectionGroupWithField1749);
+			m=selectorModifier(g);
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) {s = m;}
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionGroupWithField"
+
+
+
+	// $ANTLR start "selectorModifier"
+	// Parser.g:330:1: selectorModifier[Selectable.Raw receiver] returns [Selectable.Raw s] : (f= fieldSelectorModifier[receiver] m= selectorModifier[f] | '[' ss= collectionSubSelection[receiver] ']' m= selectorModifier[ss] |);
+	public final Selectable.Raw selectorModifier(Selectable.Raw receiver) throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw f =null;
+		Selectable.Raw m =null;
+		Selectable.Raw ss =null;
+
+		try {
+			// Parser.g:331:5: (f= fieldSelectorModifier[receiver] m= selectorModifier[f] | '[' ss= collectionSubSelection[receiver] ']' m= selectorModifier[ss] |)
+			int alt18=3;
+			switch ( input.LA(1) ) {
+			case 219:
+				{
+				alt18=1;
+				}
+				break;
+			case 228:
+				{
+				alt18=2;
+				}
+				break;
+			case EOF:
+			case K_ALLOW:
+			case K_AS:
+			case K_FROM:
+			case K_LIMIT:
+			case K_ORDER:
+			case K_PER:
+			case 211:
+			case 213:
+			case 214:
+			case 216:
+			case 217:
+			case 220:
+			case 221:
+			case 229:
+			case 230:
+			case 233:
+				{
+				alt18=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return s;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 18, 0, input);
+				throw nvae;
+			}
+			switch (alt18) {
+				case 1 :
+					// Parser.g:331:7: f= fieldSelectorModifier[receiver] m= selectorModifier[f]
+					{
+					pushFollow(FOLLOW_fieldSelectorModifier_in_selectorModifier1776);
+					f=fieldSelectorModifier(receiver);
+					state._fsp--;
+					if (state.failed) return s;
+					pushFollow(FOLLOW_selectorModifier_in_selectorModifier1781);
+					m=selectorModifier(f);
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = m; }
+					}
+					break;
+				case 2 :
+					// Parser.g:332:7: '[' ss= collectionSubSelection[receiver] ']' m= selectorModifier[ss]
+					{
+					match(input,228,FOLLOW_228_in_selectorModifier1792); if (state.failed) return s;
+					pushFollow(FOLLOW_collectionSubSelection_in_selectorModifier1796);
+					ss=collectionSubSelection(receiver);
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,230,FOLLOW_230_in_selectorModifier1799); if (state.failed) return s;
+					pushFollow(FOLLOW_selectorModifier_in_selectorModifier1803);
+					m=selectorModifier(ss);
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = m; }
+					}
+					break;
+				case 3 :
+					// Parser.g:333:7: 
+					{
+					if ( state.backtracking==0 ) { s = receiver; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectorModifier"
+
+
+
+	// $ANTLR start "fieldSelectorModifier"
+	// Parser.g:336:1: fieldSelectorModifier[Selectable.Raw receiver] returns [Selectable.Raw s] : '.' fi= fident ;
+	public final Selectable.Raw fieldSelectorModifier(Selectable.Raw receiver) throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		FieldIdentifier fi =null;
+
+		try {
+			// Parser.g:337:5: ( '.' fi= fident )
+			// Parser.g:337:7: '.' fi= fident
+			{
+			match(input,219,FOLLOW_219_in_fieldSelectorModifier1836); if (state.failed) return s;
+			pushFollow(FOLLOW_fident_in_fieldSelectorModifier1840);
+			fi=fident();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) { s = new Selectable.WithFieldSelection.Raw(receiver, fi); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "fieldSelectorModifier"
+
+
+
+	// $ANTLR start "collectionSubSelection"
+	// Parser.g:340:1: collectionSubSelection[Selectable.Raw receiver] returns [Selectable.Raw s] : (t1= term ( RANGE (t2= term )? )? | RANGE t2= term ) ;
+	public final Selectable.Raw collectionSubSelection(Selectable.Raw receiver) throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Term.Raw t1 =null;
+		Term.Raw t2 =null;
+
+		 boolean isSlice=false; 
+		try {
+			// Parser.g:342:5: ( (t1= term ( RANGE (t2= term )? )? | RANGE t2= term ) )
+			// Parser.g:342:7: (t1= term ( RANGE (t2= term )? )? | RANGE t2= term )
+			{
+			// Parser.g:342:7: (t1= term ( RANGE (t2= term )? )? | RANGE t2= term )
+			int alt21=2;
+			int LA21_0 = input.LA(1);
+			if ( (LA21_0==BOOLEAN||LA21_0==DURATION||LA21_0==FLOAT||LA21_0==HEXNUMBER||(LA21_0 >= IDENT && LA21_0 <= INTEGER)||LA21_0==K_ACCESS||(LA21_0 >= K_AGGREGATE && LA21_0 <= K_ALL)||LA21_0==K_ANN||LA21_0==K_AS||LA21_0==K_ASCII||(LA21_0 >= K_BETWEEN && LA21_0 <= K_BOOLEAN)||(LA21_0 >= K_CALLED && LA21_0 <= K_CLUSTERING)||(LA21_0 >= K_COMPACT && LA21_0 <= K_COUNTER)||(LA21_0 >= K_CUSTOM && LA21_0 <= K_DEFAULT)||(LA21_0 >= K_DISTINCT && LA21_0 <= K_DOUBLE)||LA21_0==K_DURATION||(LA21_0 >= K_EXISTS && LA21_0 <= K_FLOAT)||LA21_0==K_FROZEN||(LA21_0 >= K_FUNCTION && LA21_0 <= K_GENERATED)||(LA21_0 >= K_GROUP && LA21_0 <= K_IDENTITY)||(LA21_0 >= K_INET && LA21_0 <= K_INPUT)||(LA21_0 >= K_INT && LA21_0 <= K_INTERNALS)||(LA21_0 >= K_JSON && LA21_0 <= K_KEYS)||(LA21_0 >= K_KEYSPACES && LA21_0 <= K_LIKE)||(LA21_0 >= K_LIST && LA21_0 <= K_MASKED)||(LA21_0 >= K_MAXWRITETIME && LA21_0 <= K_MBEANS)||(LA21_0 >= K_NEGATIVE_INFINITY && LA21_0 <= K_NOLOGIN)||LA21_0==K_NOSUPERUSER||LA21_0==K_NULL||(LA21_0 >= K_ONLY && LA21_0 <= K_OPTIONS)||(LA21_0 >= K_PARTITION && LA21_0 <= K_POSITIVE_NAN)||(LA21_0 >= K_REPLACE && LA21_0 <= K_RETURNS)||(LA21_0 >= K_ROLE && LA21_0 <= K_ROLES)||LA21_0==K_SELECT_MASKED||(LA21_0 >= K_SFUNC && LA21_0 <= K_TINYINT)||(LA21_0 >= K_TOKEN && LA21_0 <= K_TRIGGER)||(LA21_0 >= K_TTL && LA21_0 <= K_TYPES)||(LA21_0 >= K_UNMASK && LA21_0 <= K_UNSET)||(LA21_0 >= K_USER && LA21_0 <= K_USERS)||(LA21_0 >= K_UUID && LA21_0 <= K_VECTOR)||LA21_0==K_WRITETIME||(LA21_0 >= QMARK && LA21_0 <= QUOTED_NAME)||LA21_0==STRING_LITERAL||LA21_0==UUID||LA21_0==212||LA21_0==217||LA21_0==221||LA21_0==228||LA21_0==232) ) {
+				alt21=1;
+			}
+			else if ( (LA21_0==RANGE) ) {
+				alt21=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return s;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 21, 0, input);
+				throw nvae;
+			}
+
+			switch (alt21) {
+				case 1 :
+					// Parser.g:342:9: t1= term ( RANGE (t2= term )? )?
+					{
+					pushFollow(FOLLOW_term_in_collectionSubSelection1878);
+					t1=term();
+					state._fsp--;
+					if (state.failed) return s;
+					// Parser.g:342:17: ( RANGE (t2= term )? )?
+					int alt20=2;
+					int LA20_0 = input.LA(1);
+					if ( (LA20_0==RANGE) ) {
+						alt20=1;
+					}
+					switch (alt20) {
+						case 1 :
+							// Parser.g:342:19: RANGE (t2= term )?
+							{
+							if ( state.backtracking==0 ) { isSlice=true; }
+							match(input,RANGE,FOLLOW_RANGE_in_collectionSubSelection1884); if (state.failed) return s;
+							// Parser.g:342:43: (t2= term )?
+							int alt19=2;
+							int LA19_0 = input.LA(1);
+							if ( (LA19_0==BOOLEAN||LA19_0==DURATION||LA19_0==FLOAT||LA19_0==HEXNUMBER||(LA19_0 >= IDENT && LA19_0 <= INTEGER)||LA19_0==K_ACCESS||(LA19_0 >= K_AGGREGATE && LA19_0 <= K_ALL)||LA19_0==K_ANN||LA19_0==K_AS||LA19_0==K_ASCII||(LA19_0 >= K_BETWEEN && LA19_0 <= K_BOOLEAN)||(LA19_0 >= K_CALLED && LA19_0 <= K_CLUSTERING)||(LA19_0 >= K_COMPACT && LA19_0 <= K_COUNTER)||(LA19_0 >= K_CUSTOM && LA19_0 <= K_DEFAULT)||(LA19_0 >= K_DISTINCT && LA19_0 <= K_DOUBLE)||LA19_0==K_DURATION||(LA19_0 >= K_EXISTS && LA19_0 <= K_FLOAT)||LA19_0==K_FROZEN||(LA19_0 >= K_FUNCTION && LA19_0 <= K_GENERATED)||(LA19_0 >= K_GROUP && LA19_0 <= K_IDENTITY)||(LA19_0 >= K_INET && LA19_0 <= K_INPUT)||(LA19_0 >= K_INT && LA19_0 <= K_INTERNALS)||(LA19_0 >= K_JSON && LA19_0 <= K_KEYS)||(LA19_0 >= K_KEYSPACES && LA19_0 <= K_LIKE)||(LA19_0 >= K_LIST && LA19_0 <= K_MASKED)||(LA19_0 >= K_MAXWRITETIME && LA19_0 <= K_MBEANS)||(LA19_0 >= K_NEGATIVE_INFINITY && LA19_0 <= K_NOLOGIN)||LA19_0==K_NOSUPERUSER||LA19_0==K_NULL||(LA19_0 >= K_ONLY && LA19_0 <= K_OPTIONS)||(LA19_0 >= K_PARTITION && LA19_0 <= K_POSITIVE_NAN)||(LA19_0 >= K_REPLACE && LA19_0 <= K_RETURNS)||(LA19_0 >= K_ROLE && LA19_0 <= K_ROLES)||LA19_0==K_SELECT_MASKED||(LA19_0 >= K_SFUNC && LA19_0 <= K_TINYINT)||(LA19_0 >= K_TOKEN && LA19_0 <= K_TRIGGER)||(LA19_0 >= K_TTL && LA19_0 <= K_TYPES)||(LA19_0 >= K_UNMASK && LA19_0 <= K_UNSET)||(LA19_0 >= K_USER && LA19_0 <= K_USERS)||(LA19_0 >= K_UUID && LA19_0 <= K_VECTOR)||LA19_0==K_WRITETIME||(LA19_0 >= QMARK && LA19_0 <= QUOTED_NAME)||LA19_0==STRING_LITERAL||LA19_0==UUID||LA19_0==212||LA19_0==217||LA19_0==221||LA19_0==228||LA19_0==232) ) {
+								alt19=1;
+							}
+							switch (alt19) {
+								case 1 :
+									// Parser.g:342:44: t2= term
+									{
+									pushFollow(FOLLOW_term_in_collectionSubSelection1889);
+									t2=term();
+									state._fsp--;
+									if (state.failed) return s;
+									}
+									break;
+
+							}
+
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 2 :
+					// Parser.g:343:9: RANGE t2= term
+					{
+					match(input,RANGE,FOLLOW_RANGE_in_collectionSubSelection1904); if (state.failed) return s;
+					if ( state.backtracking==0 ) { isSlice=true; }
+					pushFollow(FOLLOW_term_in_collectionSubSelection1910);
+					t2=term();
+					state._fsp--;
+					if (state.failed) return s;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			          s = isSlice
+			             ? new Selectable.WithSliceSelection.Raw(receiver, t1, t2)
+			             : new Selectable.WithElementSelection.Raw(receiver, t1);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "collectionSubSelection"
+
+
+
+	// $ANTLR start "selectionGroupWithoutField"
+	// Parser.g:351:1: selectionGroupWithoutField returns [Selectable.Raw s] : (sn= simpleUnaliasedSelector | ( selectionTypeHint )=>h= selectionTypeHint |t= selectionTupleOrNestedSelector |l= selectionList |m= selectionMapOrSet );
+	public final Selectable.Raw selectionGroupWithoutField() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw sn =null;
+		Selectable.Raw h =null;
+		Selectable.Raw t =null;
+		Selectable.Raw l =null;
+		Selectable.Raw m =null;
+
+		 Selectable.Raw tmp = null; 
+		try {
+			// Parser.g:354:5: (sn= simpleUnaliasedSelector | ( selectionTypeHint )=>h= selectionTypeHint |t= selectionTupleOrNestedSelector |l= selectionList |m= selectionMapOrSet )
+			int alt22=5;
+			alt22 = dfa22.predict(input);
+			switch (alt22) {
+				case 1 :
+					// Parser.g:354:7: sn= simpleUnaliasedSelector
+					{
+					pushFollow(FOLLOW_simpleUnaliasedSelector_in_selectionGroupWithoutField1962);
+					sn=simpleUnaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { tmp=sn; }
+					}
+					break;
+				case 2 :
+					// Parser.g:355:7: ( selectionTypeHint )=>h= selectionTypeHint
+					{
+					pushFollow(FOLLOW_selectionTypeHint_in_selectionGroupWithoutField1980);
+					h=selectionTypeHint();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { tmp=h; }
+					}
+					break;
+				case 3 :
+					// Parser.g:356:7: t= selectionTupleOrNestedSelector
+					{
+					pushFollow(FOLLOW_selectionTupleOrNestedSelector_in_selectionGroupWithoutField1992);
+					t=selectionTupleOrNestedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { tmp=t; }
+					}
+					break;
+				case 4 :
+					// Parser.g:357:7: l= selectionList
+					{
+					pushFollow(FOLLOW_selectionList_in_selectionGroupWithoutField2004);
+					l=selectionList();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { tmp=l; }
+					}
+					break;
+				case 5 :
+					// Parser.g:358:7: m= selectionMapOrSet
+					{
+					pushFollow(FOLLOW_selectionMapOrSet_in_selectionGroupWithoutField2016);
+					m=selectionMapOrSet();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { tmp=m; }
+					}
+					break;
+
+			}
+			if ( state.backtracking==0 ) { s = tmp; }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionGroupWithoutField"
+
+
+
+	// $ANTLR start "selectionTypeHint"
+	// Parser.g:362:1: selectionTypeHint returns [Selectable.Raw s] : '(' ct= comparatorType ')' a= selectionGroupWithoutField ;
+	public final Selectable.Raw selectionTypeHint() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		CQL3Type.Raw ct =null;
+		Selectable.Raw a =null;
+
+		try {
+			// Parser.g:363:5: ( '(' ct= comparatorType ')' a= selectionGroupWithoutField )
+			// Parser.g:363:7: '(' ct= comparatorType ')' a= selectionGroupWithoutField
+			{
+			match(input,212,FOLLOW_212_in_selectionTypeHint2044); if (state.failed) return s;
+			pushFollow(FOLLOW_comparatorType_in_selectionTypeHint2048);
+			ct=comparatorType();
+			state._fsp--;
+			if (state.failed) return s;
+			match(input,213,FOLLOW_213_in_selectionTypeHint2050); if (state.failed) return s;
+			pushFollow(FOLLOW_selectionGroupWithoutField_in_selectionTypeHint2054);
+			a=selectionGroupWithoutField();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) { s = new Selectable.WithTypeHint.Raw(ct, a); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionTypeHint"
+
+
+
+	// $ANTLR start "selectionList"
+	// Parser.g:366:1: selectionList returns [Selectable.Raw s] : '[' (t1= unaliasedSelector ( ',' tn= unaliasedSelector )* )? ']' ;
+	public final Selectable.Raw selectionList() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw t1 =null;
+		Selectable.Raw tn =null;
+
+		 List<Selectable.Raw> l = new ArrayList<>(); 
+		try {
+			// Parser.g:369:5: ( '[' (t1= unaliasedSelector ( ',' tn= unaliasedSelector )* )? ']' )
+			// Parser.g:369:7: '[' (t1= unaliasedSelector ( ',' tn= unaliasedSelector )* )? ']'
+			{
+			match(input,228,FOLLOW_228_in_selectionList2095); if (state.failed) return s;
+			// Parser.g:369:11: (t1= unaliasedSelector ( ',' tn= unaliasedSelector )* )?
+			int alt24=2;
+			int LA24_0 = input.LA(1);
+			if ( (LA24_0==BOOLEAN||LA24_0==DURATION||LA24_0==FLOAT||LA24_0==HEXNUMBER||(LA24_0 >= IDENT && LA24_0 <= INTEGER)||LA24_0==K_ACCESS||(LA24_0 >= K_AGGREGATE && LA24_0 <= K_ALL)||LA24_0==K_ANN||LA24_0==K_AS||LA24_0==K_ASCII||(LA24_0 >= K_BETWEEN && LA24_0 <= K_BOOLEAN)||(LA24_0 >= K_CALLED && LA24_0 <= K_CLUSTERING)||(LA24_0 >= K_COMPACT && LA24_0 <= K_COUNTER)||(LA24_0 >= K_CUSTOM && LA24_0 <= K_DEFAULT)||(LA24_0 >= K_DISTINCT && LA24_0 <= K_DOUBLE)||LA24_0==K_DURATION||(LA24_0 >= K_EXISTS && LA24_0 <= K_FLOAT)||LA24_0==K_FROZEN||(LA24_0 >= K_FUNCTION && LA24_0 <= K_GENERATED)||(LA24_0 >= K_GROUP && LA24_0 <= K_IDENTITY)||(LA24_0 >= K_INET && LA24_0 <= K_INPUT)||(LA24_0 >= K_INT && LA24_0 <= K_INTERNALS)||(LA24_0 >= K_JSON && LA24_0 <= K_KEYS)||(LA24_0 >= K_KEYSPACES && LA24_0 <= K_LIKE)||(LA24_0 >= K_LIST && LA24_0 <= K_MASKED)||(LA24_0 >= K_MAXWRITETIME && LA24_0 <= K_MBEANS)||(LA24_0 >= K_NEGATIVE_INFINITY && LA24_0 <= K_NOLOGIN)||LA24_0==K_NOSUPERUSER||LA24_0==K_NULL||(LA24_0 >= K_ONLY && LA24_0 <= K_OPTIONS)||(LA24_0 >= K_PARTITION && LA24_0 <= K_POSITIVE_NAN)||(LA24_0 >= K_REPLACE && LA24_0 <= K_RETURNS)||(LA24_0 >= K_ROLE && LA24_0 <= K_ROLES)||LA24_0==K_SELECT_MASKED||(LA24_0 >= K_SFUNC && LA24_0 <= K_TINYINT)||(LA24_0 >= K_TOKEN && LA24_0 <= K_TRIGGER)||(LA24_0 >= K_TTL && LA24_0 <= K_TYPES)||(LA24_0 >= K_UNMASK && LA24_0 <= K_UNSET)||(LA24_0 >= K_USER && LA24_0 <= K_USERS)||(LA24_0 >= K_UUID && LA24_0 <= K_VECTOR)||LA24_0==K_WRITETIME||(LA24_0 >= QMARK && LA24_0 <= QUOTED_NAME)||LA24_0==STRING_LITERAL||LA24_0==UUID||LA24_0==212||LA24_0==217||LA24_0==221||LA24_0==228||LA24_0==232) ) {
+				alt24=1;
+			}
+			switch (alt24) {
+				case 1 :
+					// Parser.g:369:13: t1= unaliasedSelector ( ',' tn= unaliasedSelector )*
+					{
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionList2101);
+					t1=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { l.add(t1); }
+					// Parser.g:369:49: ( ',' tn= unaliasedSelector )*
+					loop23:
+					while (true) {
+						int alt23=2;
+						int LA23_0 = input.LA(1);
+						if ( (LA23_0==216) ) {
+							alt23=1;
+						}
+
+						switch (alt23) {
+						case 1 :
+							// Parser.g:369:51: ',' tn= unaliasedSelector
+							{
+							match(input,216,FOLLOW_216_in_selectionList2107); if (state.failed) return s;
+							pushFollow(FOLLOW_unaliasedSelector_in_selectionList2111);
+							tn=unaliasedSelector();
+							state._fsp--;
+							if (state.failed) return s;
+							if ( state.backtracking==0 ) { l.add(tn); }
+							}
+							break;
+
+						default :
+							break loop23;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,230,FOLLOW_230_in_selectionList2121); if (state.failed) return s;
+			}
+
+			if ( state.backtracking==0 ) { s = new Selectable.WithArrayLiteral.Raw(l); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionList"
+
+
+
+	// $ANTLR start "selectionMapOrSet"
+	// Parser.g:372:1: selectionMapOrSet returns [Selectable.Raw s] : ( '{' t1= unaliasedSelector (m= selectionMap[t1] |st= selectionSet[t1] ) '}' | '{' '}' );
+	public final Selectable.Raw selectionMapOrSet() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw t1 =null;
+		Selectable.Raw m =null;
+		Selectable.Raw st =null;
+
+		try {
+			// Parser.g:373:5: ( '{' t1= unaliasedSelector (m= selectionMap[t1] |st= selectionSet[t1] ) '}' | '{' '}' )
+			int alt26=2;
+			int LA26_0 = input.LA(1);
+			if ( (LA26_0==232) ) {
+				int LA26_1 = input.LA(2);
+				if ( (LA26_1==233) ) {
+					alt26=2;
+				}
+				else if ( (LA26_1==BOOLEAN||LA26_1==DURATION||LA26_1==FLOAT||LA26_1==HEXNUMBER||(LA26_1 >= IDENT && LA26_1 <= INTEGER)||LA26_1==K_ACCESS||(LA26_1 >= K_AGGREGATE && LA26_1 <= K_ALL)||LA26_1==K_ANN||LA26_1==K_AS||LA26_1==K_ASCII||(LA26_1 >= K_BETWEEN && LA26_1 <= K_BOOLEAN)||(LA26_1 >= K_CALLED && LA26_1 <= K_CLUSTERING)||(LA26_1 >= K_COMPACT && LA26_1 <= K_COUNTER)||(LA26_1 >= K_CUSTOM && LA26_1 <= K_DEFAULT)||(LA26_1 >= K_DISTINCT && LA26_1 <= K_DOUBLE)||LA26_1==K_DURATION||(LA26_1 >= K_EXISTS && LA26_1 <= K_FLOAT)||LA26_1==K_FROZEN||(LA26_1 >= K_FUNCTION && LA26_1 <= K_GENERATED)||(LA26_1 >= K_GROUP && LA26_1 <= K_IDENTITY)||(LA26_1 >= K_INET && LA26_1 <= K_INPUT)||(LA26_1 >= K_INT && LA26_1 <= K_INTERNALS)||(LA26_1 >= K_JSON && LA26_1 <= K_KEYS)||(LA26_1 >= K_KEYSPACES && LA26_1 <= K_LIKE)||(LA26_1 >= K_LIST && LA26_1 <= K_MASKED)||(LA26_1 >= K_MAXWRITETIME && LA26_1 <= K_MBEANS)||(LA26_1 >= K_NEGATIVE_INFINITY && LA26_1 <= K_NOLOGIN)||LA26_1==K_NOSUPERUSER||LA26_1==K_NULL||(LA26_1 >= K_ONLY && LA26_1 <= K_OPTIONS)||(LA26_1 >= K_PARTITION && LA26_1 <= K_POSITIVE_NAN)||(LA26_1 >= K_REPLACE && LA26_1 <= K_RETURNS)||(LA26_1 >= K_ROLE && LA26_1 <= K_ROLES)||LA26_1==K_SELECT_MASKED||(LA26_1 >= K_SFUNC && LA26_1 <= K_TINYINT)||(LA26_1 >= K_TOKEN && LA26_1 <= K_TRIGGER)||(LA26_1 >= K_TTL && LA26_1 <= K_TYPES)||(LA26_1 >= K_UNMASK && LA26_1 <= K_UNSET)||(LA26_1 >= K_USER && LA26_1 <= K_USERS)||(LA26_1 >= K_UUID && LA26_1 <= K_VECTOR)||LA26_1==K_WRITETIME||(LA26_1 >= QMARK && LA26_1 <= QUOTED_NAME)||LA26_1==STRING_LITERAL||LA26_1==UUID||LA26_1==212||LA26_1==217||LA26_1==221||LA26_1==228||LA26_1==232) ) {
+					alt26=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return s;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 26, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return s;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 26, 0, input);
+				throw nvae;
+			}
+
+			switch (alt26) {
+				case 1 :
+					// Parser.g:373:7: '{' t1= unaliasedSelector (m= selectionMap[t1] |st= selectionSet[t1] ) '}'
+					{
+					match(input,232,FOLLOW_232_in_selectionMapOrSet2142); if (state.failed) return s;
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionMapOrSet2146);
+					t1=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					// Parser.g:373:32: (m= selectionMap[t1] |st= selectionSet[t1] )
+					int alt25=2;
+					int LA25_0 = input.LA(1);
+					if ( (LA25_0==221) ) {
+						alt25=1;
+					}
+					else if ( (LA25_0==216||LA25_0==233) ) {
+						alt25=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return s;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 25, 0, input);
+						throw nvae;
+					}
+
+					switch (alt25) {
+						case 1 :
+							// Parser.g:373:34: m= selectionMap[t1]
+							{
+							pushFollow(FOLLOW_selectionMap_in_selectionMapOrSet2152);
+							m=selectionMap(t1);
+							state._fsp--;
+							if (state.failed) return s;
+							if ( state.backtracking==0 ) { s = m; }
+							}
+							break;
+						case 2 :
+							// Parser.g:373:67: st= selectionSet[t1]
+							{
+							pushFollow(FOLLOW_selectionSet_in_selectionMapOrSet2161);
+							st=selectionSet(t1);
+							state._fsp--;
+							if (state.failed) return s;
+							if ( state.backtracking==0 ) { s = st; }
+							}
+							break;
+
+					}
+
+					match(input,233,FOLLOW_233_in_selectionMapOrSet2167); if (state.failed) return s;
+					}
+					break;
+				case 2 :
+					// Parser.g:374:7: '{' '}'
+					{
+					match(input,232,FOLLOW_232_in_selectionMapOrSet2175); if (state.failed) return s;
+					match(input,233,FOLLOW_233_in_selectionMapOrSet2177); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WithSet.Raw(Collections.emptyList());}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionMapOrSet"
+
+
+
+	// $ANTLR start "selectionMap"
+	// Parser.g:377:1: selectionMap[Selectable.Raw k1] returns [Selectable.Raw s] : ':' v1= unaliasedSelector ( ',' kn= unaliasedSelector ':' vn= unaliasedSelector )* ;
+	public final Selectable.Raw selectionMap(Selectable.Raw k1) throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw v1 =null;
+		Selectable.Raw kn =null;
+		Selectable.Raw vn =null;
+
+		 List<Pair<Selectable.Raw, Selectable.Raw>> m = new ArrayList<>(); 
+		try {
+			// Parser.g:380:7: ( ':' v1= unaliasedSelector ( ',' kn= unaliasedSelector ':' vn= unaliasedSelector )* )
+			// Parser.g:380:9: ':' v1= unaliasedSelector ( ',' kn= unaliasedSelector ':' vn= unaliasedSelector )*
+			{
+			match(input,221,FOLLOW_221_in_selectionMap2222); if (state.failed) return s;
+			pushFollow(FOLLOW_unaliasedSelector_in_selectionMap2226);
+			v1=unaliasedSelector();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) { m.add(Pair.create(k1, v1)); }
+			// Parser.g:380:68: ( ',' kn= unaliasedSelector ':' vn= unaliasedSelector )*
+			loop27:
+			while (true) {
+				int alt27=2;
+				int LA27_0 = input.LA(1);
+				if ( (LA27_0==216) ) {
+					alt27=1;
+				}
+
+				switch (alt27) {
+				case 1 :
+					// Parser.g:380:70: ',' kn= unaliasedSelector ':' vn= unaliasedSelector
+					{
+					match(input,216,FOLLOW_216_in_selectionMap2234); if (state.failed) return s;
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionMap2238);
+					kn=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,221,FOLLOW_221_in_selectionMap2240); if (state.failed) return s;
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionMap2244);
+					vn=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { m.add(Pair.create(kn, vn)); }
+					}
+					break;
+
+				default :
+					break loop27;
+				}
+			}
+
+			}
+
+			if ( state.backtracking==0 ) { s = new Selectable.WithMapOrUdt.Raw(m); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionMap"
+
+
+
+	// $ANTLR start "selectionSet"
+	// Parser.g:383:1: selectionSet[Selectable.Raw t1] returns [Selectable.Raw s] : ( ',' tn= unaliasedSelector )* ;
+	public final Selectable.Raw selectionSet(Selectable.Raw t1) throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw tn =null;
+
+		 List<Selectable.Raw> l = new ArrayList<>(); l.add(t1); 
+		try {
+			// Parser.g:386:7: ( ( ',' tn= unaliasedSelector )* )
+			// Parser.g:386:9: ( ',' tn= unaliasedSelector )*
+			{
+			// Parser.g:386:9: ( ',' tn= unaliasedSelector )*
+			loop28:
+			while (true) {
+				int alt28=2;
+				int LA28_0 = input.LA(1);
+				if ( (LA28_0==216) ) {
+					alt28=1;
+				}
+
+				switch (alt28) {
+				case 1 :
+					// Parser.g:386:11: ',' tn= unaliasedSelector
+					{
+					match(input,216,FOLLOW_216_in_selectionSet2296); if (state.failed) return s;
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionSet2300);
+					tn=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { l.add(tn); }
+					}
+					break;
+
+				default :
+					break loop28;
+				}
+			}
+
+			}
+
+			if ( state.backtracking==0 ) { s = new Selectable.WithSet.Raw(l); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionSet"
+
+
+
+	// $ANTLR start "selectionTupleOrNestedSelector"
+	// Parser.g:389:1: selectionTupleOrNestedSelector returns [Selectable.Raw s] : '(' t1= unaliasedSelector ( ',' tn= unaliasedSelector )* ')' ;
+	public final Selectable.Raw selectionTupleOrNestedSelector() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.Raw t1 =null;
+		Selectable.Raw tn =null;
+
+		 List<Selectable.Raw> l = new ArrayList<>(); 
+		try {
+			// Parser.g:392:5: ( '(' t1= unaliasedSelector ( ',' tn= unaliasedSelector )* ')' )
+			// Parser.g:392:7: '(' t1= unaliasedSelector ( ',' tn= unaliasedSelector )* ')'
+			{
+			match(input,212,FOLLOW_212_in_selectionTupleOrNestedSelector2346); if (state.failed) return s;
+			pushFollow(FOLLOW_unaliasedSelector_in_selectionTupleOrNestedSelector2350);
+			t1=unaliasedSelector();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) { l.add(t1); }
+			// Parser.g:392:47: ( ',' tn= unaliasedSelector )*
+			loop29:
+			while (true) {
+				int alt29=2;
+				int LA29_0 = input.LA(1);
+				if ( (LA29_0==216) ) {
+					alt29=1;
+				}
+
+				switch (alt29) {
+				case 1 :
+					// Parser.g:392:48: ',' tn= unaliasedSelector
+					{
+					match(input,216,FOLLOW_216_in_selectionTupleOrNestedSelector2355); if (state.failed) return s;
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionTupleOrNestedSelector2359);
+					tn=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { l.add(tn); }
+					}
+					break;
+
+				default :
+					break loop29;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_selectionTupleOrNestedSelector2366); if (state.failed) return s;
+			}
+
+			if ( state.backtracking==0 ) { s = new Selectable.BetweenParenthesesOrWithTuple.Raw(l); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionTupleOrNestedSelector"
+
+
+
+	// $ANTLR start "simpleUnaliasedSelector"
+	// Parser.g:399:1: simpleUnaliasedSelector returns [Selectable.Raw s] : (c= sident |l= selectionLiteral |f= selectionFunction );
+	public final Selectable.Raw simpleUnaliasedSelector() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.RawIdentifier c =null;
+		Term.Raw l =null;
+		Selectable.Raw f =null;
+
+		try {
+			// Parser.g:400:5: (c= sident |l= selectionLiteral |f= selectionFunction )
+			int alt30=3;
+			alt30 = dfa30.predict(input);
+			switch (alt30) {
+				case 1 :
+					// Parser.g:400:7: c= sident
+					{
+					pushFollow(FOLLOW_sident_in_simpleUnaliasedSelector2391);
+					c=sident();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = c; }
+					}
+					break;
+				case 2 :
+					// Parser.g:401:7: l= selectionLiteral
+					{
+					pushFollow(FOLLOW_selectionLiteral_in_simpleUnaliasedSelector2437);
+					l=selectionLiteral();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WithTerm.Raw(l); }
+					}
+					break;
+				case 3 :
+					// Parser.g:402:7: f= selectionFunction
+					{
+					pushFollow(FOLLOW_selectionFunction_in_simpleUnaliasedSelector2473);
+					f=selectionFunction();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = f; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "simpleUnaliasedSelector"
+
+
+
+	// $ANTLR start "selectionFunction"
+	// Parser.g:405:1: selectionFunction returns [Selectable.Raw s] : ( K_COUNT '(' '\\*' ')' | K_MAXWRITETIME '(' c= sident m= selectorModifier[c] ')' | K_WRITETIME '(' c= sident m= selectorModifier[c] ')' | K_TTL '(' c= sident m= selectorModifier[c] ')' | K_CAST '(' sn= unaliasedSelector K_AS t= native_type ')' |f= functionName args= selectionFunctionArgs );
+	public final Selectable.Raw selectionFunction() throws RecognitionException {
+		Selectable.Raw s = null;
+
+
+		Selectable.RawIdentifier c =null;
+		Selectable.Raw m =null;
+		Selectable.Raw sn =null;
+		CQL3Type t =null;
+		FunctionName f =null;
+		List<Selectable.Raw> args =null;
+
+		try {
+			// Parser.g:406:5: ( K_COUNT '(' '\\*' ')' | K_MAXWRITETIME '(' c= sident m= selectorModifier[c] ')' | K_WRITETIME '(' c= sident m= selectorModifier[c] ')' | K_TTL '(' c= sident m= selectorModifier[c] ')' | K_CAST '(' sn= unaliasedSelector K_AS t= native_type ')' |f= functionName args= selectionFunctionArgs )
+			int alt31=6;
+			alt31 = dfa31.predict(input);
+			switch (alt31) {
+				case 1 :
+					// Parser.g:406:7: K_COUNT '(' '\\*' ')'
+					{
+					match(input,K_COUNT,FOLLOW_K_COUNT_in_selectionFunction2519); if (state.failed) return s;
+					match(input,212,FOLLOW_212_in_selectionFunction2528); if (state.failed) return s;
+					match(input,229,FOLLOW_229_in_selectionFunction2530); if (state.failed) return s;
+					match(input,213,FOLLOW_213_in_selectionFunction2532); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = Selectable.WithFunction.Raw.newCountRowsFunction(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:407:7: K_MAXWRITETIME '(' c= sident m= selectorModifier[c] ')'
+					{
+					match(input,K_MAXWRITETIME,FOLLOW_K_MAXWRITETIME_in_selectionFunction2577); if (state.failed) return s;
+					match(input,212,FOLLOW_212_in_selectionFunction2579); if (state.failed) return s;
+					pushFollow(FOLLOW_sident_in_selectionFunction2583);
+					c=sident();
+					state._fsp--;
+					if (state.failed) return s;
+					pushFollow(FOLLOW_selectorModifier_in_selectionFunction2587);
+					m=selectorModifier(c);
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,213,FOLLOW_213_in_selectionFunction2590); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WritetimeOrTTL.Raw(c, m, Selectable.WritetimeOrTTL.Kind.MAX_WRITE_TIME); }
+					}
+					break;
+				case 3 :
+					// Parser.g:408:7: K_WRITETIME '(' c= sident m= selectorModifier[c] ')'
+					{
+					match(input,K_WRITETIME,FOLLOW_K_WRITETIME_in_selectionFunction2609); if (state.failed) return s;
+					match(input,212,FOLLOW_212_in_selectionFunction2614); if (state.failed) return s;
+					pushFollow(FOLLOW_sident_in_selectionFunction2618);
+					c=sident();
+					state._fsp--;
+					if (state.failed) return s;
+					pushFollow(FOLLOW_selectorModifier_in_selectionFunction2622);
+					m=selectorModifier(c);
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,213,FOLLOW_213_in_selectionFunction2625); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WritetimeOrTTL.Raw(c, m, Selectable.WritetimeOrTTL.Kind.WRITE_TIME); }
+					}
+					break;
+				case 4 :
+					// Parser.g:409:7: K_TTL '(' c= sident m= selectorModifier[c] ')'
+					{
+					match(input,K_TTL,FOLLOW_K_TTL_in_selectionFunction2644); if (state.failed) return s;
+					match(input,212,FOLLOW_212_in_selectionFunction2655); if (state.failed) return s;
+					pushFollow(FOLLOW_sident_in_selectionFunction2659);
+					c=sident();
+					state._fsp--;
+					if (state.failed) return s;
+					pushFollow(FOLLOW_selectorModifier_in_selectionFunction2663);
+					m=selectorModifier(c);
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,213,FOLLOW_213_in_selectionFunction2666); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WritetimeOrTTL.Raw(c, m, Selectable.WritetimeOrTTL.Kind.TTL); }
+					}
+					break;
+				case 5 :
+					// Parser.g:410:7: K_CAST '(' sn= unaliasedSelector K_AS t= native_type ')'
+					{
+					match(input,K_CAST,FOLLOW_K_CAST_in_selectionFunction2685); if (state.failed) return s;
+					match(input,212,FOLLOW_212_in_selectionFunction2695); if (state.failed) return s;
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionFunction2699);
+					sn=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,K_AS,FOLLOW_K_AS_in_selectionFunction2701); if (state.failed) return s;
+					pushFollow(FOLLOW_native_type_in_selectionFunction2705);
+					t=native_type();
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,213,FOLLOW_213_in_selectionFunction2707); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WithCast.Raw(sn, t);}
+					}
+					break;
+				case 6 :
+					// Parser.g:411:7: f= functionName args= selectionFunctionArgs
+					{
+					pushFollow(FOLLOW_functionName_in_selectionFunction2719);
+					f=functionName();
+					state._fsp--;
+					if (state.failed) return s;
+					pushFollow(FOLLOW_selectionFunctionArgs_in_selectionFunction2723);
+					args=selectionFunctionArgs();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = new Selectable.WithFunction.Raw(f, args); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "selectionFunction"
+
+
+
+	// $ANTLR start "selectionLiteral"
+	// Parser.g:414:1: selectionLiteral returns [Term.Raw value] : (c= constant | K_NULL |m= marker );
+	public final Term.Raw selectionLiteral() throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Constants.Literal c =null;
+		Term.Raw m =null;
+
+		try {
+			// Parser.g:415:5: (c= constant | K_NULL |m= marker )
+			int alt32=3;
+			switch ( input.LA(1) ) {
+			case BOOLEAN:
+			case DURATION:
+			case FLOAT:
+			case HEXNUMBER:
+			case INTEGER:
+			case K_NEGATIVE_INFINITY:
+			case K_NEGATIVE_NAN:
+			case K_POSITIVE_INFINITY:
+			case K_POSITIVE_NAN:
+			case STRING_LITERAL:
+			case UUID:
+				{
+				alt32=1;
+				}
+				break;
+			case K_NULL:
+				{
+				alt32=2;
+				}
+				break;
+			case QMARK:
+			case 221:
+				{
+				alt32=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return value;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 32, 0, input);
+				throw nvae;
+			}
+			switch (alt32) {
+				case 1 :
+					// Parser.g:415:7: c= constant
+					{
+					pushFollow(FOLLOW_constant_in_selectionLiteral2769);
+					c=constant();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = c; }
+					}
+					break;
+				case 2 :
+					// Parser.g:416:7: K_NULL
+					{
+					match(input,K_NULL,FOLLOW_K_NULL_in_selectionLiteral2780); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = Constants.NULL_LITERAL; }
+					}
+					break;
+				case 3 :
+					// Parser.g:417:7: m= marker
+					{
+					pushFollow(FOLLOW_marker_in_selectionLiteral2797);
+					m=marker();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = m; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "selectionLiteral"
+
+
+
+	// $ANTLR start "marker"
+	// Parser.g:420:1: marker returns [Term.Raw value] : ( ':' id= noncol_ident | QMARK );
+	public final Term.Raw marker() throws RecognitionException {
+		Term.Raw value = null;
+
+
+		ColumnIdentifier id =null;
+
+		try {
+			// Parser.g:421:5: ( ':' id= noncol_ident | QMARK )
+			int alt33=2;
+			int LA33_0 = input.LA(1);
+			if ( (LA33_0==221) ) {
+				alt33=1;
+			}
+			else if ( (LA33_0==QMARK) ) {
+				alt33=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return value;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 33, 0, input);
+				throw nvae;
+			}
+
+			switch (alt33) {
+				case 1 :
+					// Parser.g:421:7: ':' id= noncol_ident
+					{
+					match(input,221,FOLLOW_221_in_marker2823); if (state.failed) return value;
+					pushFollow(FOLLOW_noncol_ident_in_marker2827);
+					id=noncol_ident();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = newBindVariables(id); }
+					}
+					break;
+				case 2 :
+					// Parser.g:422:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_marker2838); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = newBindVariables(null); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "marker"
+
+
+
+	// $ANTLR start "selectionFunctionArgs"
+	// Parser.g:425:1: selectionFunctionArgs returns [List<Selectable.Raw> a] : '(' (s1= unaliasedSelector ( ',' sn= unaliasedSelector )* )? ')' ;
+	public final List<Selectable.Raw> selectionFunctionArgs() throws RecognitionException {
+		List<Selectable.Raw> a = null;
+
+
+		Selectable.Raw s1 =null;
+		Selectable.Raw sn =null;
+
+		 a = new ArrayList<>(); 
+		try {
+			// Parser.g:427:5: ( '(' (s1= unaliasedSelector ( ',' sn= unaliasedSelector )* )? ')' )
+			// Parser.g:427:7: '(' (s1= unaliasedSelector ( ',' sn= unaliasedSelector )* )? ')'
+			{
+			match(input,212,FOLLOW_212_in_selectionFunctionArgs2884); if (state.failed) return a;
+			// Parser.g:427:11: (s1= unaliasedSelector ( ',' sn= unaliasedSelector )* )?
+			int alt35=2;
+			int LA35_0 = input.LA(1);
+			if ( (LA35_0==BOOLEAN||LA35_0==DURATION||LA35_0==FLOAT||LA35_0==HEXNUMBER||(LA35_0 >= IDENT && LA35_0 <= INTEGER)||LA35_0==K_ACCESS||(LA35_0 >= K_AGGREGATE && LA35_0 <= K_ALL)||LA35_0==K_ANN||LA35_0==K_AS||LA35_0==K_ASCII||(LA35_0 >= K_BETWEEN && LA35_0 <= K_BOOLEAN)||(LA35_0 >= K_CALLED && LA35_0 <= K_CLUSTERING)||(LA35_0 >= K_COMPACT && LA35_0 <= K_COUNTER)||(LA35_0 >= K_CUSTOM && LA35_0 <= K_DEFAULT)||(LA35_0 >= K_DISTINCT && LA35_0 <= K_DOUBLE)||LA35_0==K_DURATION||(LA35_0 >= K_EXISTS && LA35_0 <= K_FLOAT)||LA35_0==K_FROZEN||(LA35_0 >= K_FUNCTION && LA35_0 <= K_GENERATED)||(LA35_0 >= K_GROUP && LA35_0 <= K_IDENTITY)||(LA35_0 >= K_INET && LA35_0 <= K_INPUT)||(LA35_0 >= K_INT && LA35_0 <= K_INTERNALS)||(LA35_0 >= K_JSON && LA35_0 <= K_KEYS)||(LA35_0 >= K_KEYSPACES && LA35_0 <= K_LIKE)||(LA35_0 >= K_LIST && LA35_0 <= K_MASKED)||(LA35_0 >= K_MAXWRITETIME && LA35_0 <= K_MBEANS)||(LA35_0 >= K_NEGATIVE_INFINITY && LA35_0 <= K_NOLOGIN)||LA35_0==K_NOSUPERUSER||LA35_0==K_NULL||(LA35_0 >= K_ONLY && LA35_0 <= K_OPTIONS)||(LA35_0 >= K_PARTITION && LA35_0 <= K_POSITIVE_NAN)||(LA35_0 >= K_REPLACE && LA35_0 <= K_RETURNS)||(LA35_0 >= K_ROLE && LA35_0 <= K_ROLES)||LA35_0==K_SELECT_MASKED||(LA35_0 >= K_SFUNC && LA35_0 <= K_TINYINT)||(LA35_0 >= K_TOKEN && LA35_0 <= K_TRIGGER)||(LA35_0 >= K_TTL && LA35_0 <= K_TYPES)||(LA35_0 >= K_UNMASK && LA35_0 <= K_UNSET)||(LA35_0 >= K_USER && LA35_0 <= K_USERS)||(LA35_0 >= K_UUID && LA35_0 <= K_VECTOR)||LA35_0==K_WRITETIME||(LA35_0 >= QMARK && LA35_0 <= QUOTED_NAME)||LA35_0==STRING_LITERAL||LA35_0==UUID||LA35_0==212||LA35_0==217||LA35_0==221||LA35_0==228||LA35_0==232) ) {
+				alt35=1;
+			}
+			switch (alt35) {
+				case 1 :
+					// Parser.g:427:12: s1= unaliasedSelector ( ',' sn= unaliasedSelector )*
+					{
+					pushFollow(FOLLOW_unaliasedSelector_in_selectionFunctionArgs2889);
+					s1=unaliasedSelector();
+					state._fsp--;
+					if (state.failed) return a;
+					if ( state.backtracking==0 ) { a.add(s1); }
+					// Parser.g:428:11: ( ',' sn= unaliasedSelector )*
+					loop34:
+					while (true) {
+						int alt34=2;
+						int LA34_0 = input.LA(1);
+						if ( (LA34_0==216) ) {
+							alt34=1;
+						}
+
+						switch (alt34) {
+						case 1 :
+							// Parser.g:428:13: ',' sn= unaliasedSelector
+							{
+							match(input,216,FOLLOW_216_in_selectionFunctionArgs2905); if (state.failed) return a;
+							pushFollow(FOLLOW_unaliasedSelector_in_selectionFunctionArgs2909);
+							sn=unaliasedSelector();
+							state._fsp--;
+							if (state.failed) return a;
+							if ( state.backtracking==0 ) { a.add(sn); }
+							}
+							break;
+
+						default :
+							break loop34;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,213,FOLLOW_213_in_selectionFunctionArgs2924); if (state.failed) return a;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return a;
+	}
+	// $ANTLR end "selectionFunctionArgs"
+
+
+
+	// $ANTLR start "sident"
+	// Parser.g:432:1: sident returns [Selectable.RawIdentifier id] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword );
+	public final Selectable.RawIdentifier sident() throws RecognitionException {
+		Selectable.RawIdentifier id = null;
+
+
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:433:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword )
+			int alt36=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt36=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt36=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt36=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return id;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 36, 0, input);
+				throw nvae;
+			}
+			switch (alt36) {
+				case 1 :
+					// Parser.g:433:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_sident2947); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = Selectable.RawIdentifier.forUnquoted((t!=null?t.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:434:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_sident2972); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = Selectable.RawIdentifier.forQuoted((t!=null?t.getText():null)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:435:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_sident2991);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = Selectable.RawIdentifier.forUnquoted(k); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "sident"
+
+
+
+	// $ANTLR start "whereClause"
+	// Parser.g:438:1: whereClause returns [WhereClause.Builder clause] : relationOrExpression[$clause] ( K_AND relationOrExpression[$clause] )* ;
+	public final WhereClause.Builder whereClause() throws RecognitionException {
+		WhereClause.Builder clause = null;
+
+
+		 clause = new WhereClause.Builder(); 
+		try {
+			// Parser.g:440:5: ( relationOrExpression[$clause] ( K_AND relationOrExpression[$clause] )* )
+			// Parser.g:440:7: relationOrExpression[$clause] ( K_AND relationOrExpression[$clause] )*
+			{
+			pushFollow(FOLLOW_relationOrExpression_in_whereClause3022);
+			relationOrExpression(clause);
+			state._fsp--;
+			if (state.failed) return clause;
+			// Parser.g:440:37: ( K_AND relationOrExpression[$clause] )*
+			loop37:
+			while (true) {
+				int alt37=2;
+				int LA37_0 = input.LA(1);
+				if ( (LA37_0==K_AND) ) {
+					alt37=1;
+				}
+
+				switch (alt37) {
+				case 1 :
+					// Parser.g:440:38: K_AND relationOrExpression[$clause]
+					{
+					match(input,K_AND,FOLLOW_K_AND_in_whereClause3026); if (state.failed) return clause;
+					pushFollow(FOLLOW_relationOrExpression_in_whereClause3028);
+					relationOrExpression(clause);
+					state._fsp--;
+					if (state.failed) return clause;
+					}
+					break;
+
+				default :
+					break loop37;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return clause;
+	}
+	// $ANTLR end "whereClause"
+
+
+
+	// $ANTLR start "relationOrExpression"
+	// Parser.g:443:1: relationOrExpression[WhereClause.Builder clause] : ( relation[$clause] | customIndexExpression[$clause] );
+	public final void relationOrExpression(WhereClause.Builder clause) throws RecognitionException {
+		try {
+			// Parser.g:444:5: ( relation[$clause] | customIndexExpression[$clause] )
+			int alt38=2;
+			int LA38_0 = input.LA(1);
+			if ( (LA38_0==EMPTY_QUOTED_NAME||LA38_0==IDENT||LA38_0==K_ACCESS||(LA38_0 >= K_AGGREGATE && LA38_0 <= K_ALL)||LA38_0==K_ANN||LA38_0==K_AS||LA38_0==K_ASCII||(LA38_0 >= K_BETWEEN && LA38_0 <= K_BOOLEAN)||(LA38_0 >= K_CALLED && LA38_0 <= K_CLUSTERING)||(LA38_0 >= K_COMPACT && LA38_0 <= K_COUNTER)||(LA38_0 >= K_CUSTOM && LA38_0 <= K_DEFAULT)||(LA38_0 >= K_DISTINCT && LA38_0 <= K_DOUBLE)||LA38_0==K_DURATION||(LA38_0 >= K_EXISTS && LA38_0 <= K_FLOAT)||LA38_0==K_FROZEN||(LA38_0 >= K_FUNCTION && LA38_0 <= K_GENERATED)||(LA38_0 >= K_GROUP && LA38_0 <= K_IDENTITY)||(LA38_0 >= K_INET && LA38_0 <= K_INPUT)||(LA38_0 >= K_INT && LA38_0 <= K_INTERNALS)||(LA38_0 >= K_JSON && LA38_0 <= K_KEYS)||(LA38_0 >= K_KEYSPACES && LA38_0 <= K_LIKE)||(LA38_0 >= K_LIST && LA38_0 <= K_MASKED)||(LA38_0 >= K_MAXWRITETIME && LA38_0 <= K_MBEANS)||LA38_0==K_NOLOGIN||LA38_0==K_NOSUPERUSER||(LA38_0 >= K_ONLY && LA38_0 <= K_OPTIONS)||(LA38_0 >= K_PARTITION && LA38_0 <= K_PERMISSIONS)||(LA38_0 >= K_REPLACE && LA38_0 <= K_RETURNS)||(LA38_0 >= K_ROLE && LA38_0 <= K_ROLES)||LA38_0==K_SELECT_MASKED||(LA38_0 >= K_SFUNC && LA38_0 <= K_TINYINT)||(LA38_0 >= K_TOKEN && LA38_0 <= K_TRIGGER)||(LA38_0 >= K_TTL && LA38_0 <= K_TYPES)||(LA38_0 >= K_UNMASK && LA38_0 <= K_UNSET)||(LA38_0 >= K_USER && LA38_0 <= K_USERS)||(LA38_0 >= K_UUID && LA38_0 <= K_VECTOR)||LA38_0==K_WRITETIME||LA38_0==QUOTED_NAME||LA38_0==212) ) {
+				alt38=1;
+			}
+			else if ( (LA38_0==231) ) {
+				alt38=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 38, 0, input);
+				throw nvae;
+			}
+
+			switch (alt38) {
+				case 1 :
+					// Parser.g:444:7: relation[$clause]
+					{
+					pushFollow(FOLLOW_relation_in_relationOrExpression3050);
+					relation(clause);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:445:7: customIndexExpression[$clause]
+					{
+					pushFollow(FOLLOW_customIndexExpression_in_relationOrExpression3059);
+					customIndexExpression(clause);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "relationOrExpression"
+
+
+
+	// $ANTLR start "customIndexExpression"
+	// Parser.g:448:1: customIndexExpression[WhereClause.Builder clause] : 'expr(' idxName[name] ',' t= term ')' ;
+	public final void customIndexExpression(WhereClause.Builder clause) throws RecognitionException {
+		Term.Raw t =null;
+
+		QualifiedName name = new QualifiedName();
+		try {
+			// Parser.g:450:5: ( 'expr(' idxName[name] ',' t= term ')' )
+			// Parser.g:450:7: 'expr(' idxName[name] ',' t= term ')'
+			{
+			match(input,231,FOLLOW_231_in_customIndexExpression3087); if (state.failed) return;
+			pushFollow(FOLLOW_idxName_in_customIndexExpression3089);
+			idxName(name);
+			state._fsp--;
+			if (state.failed) return;
+			match(input,216,FOLLOW_216_in_customIndexExpression3092); if (state.failed) return;
+			pushFollow(FOLLOW_term_in_customIndexExpression3096);
+			t=term();
+			state._fsp--;
+			if (state.failed) return;
+			match(input,213,FOLLOW_213_in_customIndexExpression3098); if (state.failed) return;
+			if ( state.backtracking==0 ) { clause.add(new CustomIndexExpression(name, t));}
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "customIndexExpression"
+
+
+
+	// $ANTLR start "orderByClause"
+	// Parser.g:453:1: orderByClause[List<Ordering.Raw> orderings] : c= cident ( K_ANN K_OF t= term )? ( K_ASC | K_DESC )? ;
+	public final void orderByClause(List<Ordering.Raw> orderings) throws RecognitionException {
+		ColumnIdentifier c =null;
+		Term.Raw t =null;
+
+
+		        Ordering.Direction direction = Ordering.Direction.ASC;
+		    
+		try {
+			// Parser.g:457:5: (c= cident ( K_ANN K_OF t= term )? ( K_ASC | K_DESC )? )
+			// Parser.g:457:7: c= cident ( K_ANN K_OF t= term )? ( K_ASC | K_DESC )?
+			{
+			pushFollow(FOLLOW_cident_in_orderByClause3128);
+			c=cident();
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:457:16: ( K_ANN K_OF t= term )?
+			int alt39=2;
+			int LA39_0 = input.LA(1);
+			if ( (LA39_0==K_ANN) ) {
+				alt39=1;
+			}
+			switch (alt39) {
+				case 1 :
+					// Parser.g:457:17: K_ANN K_OF t= term
+					{
+					match(input,K_ANN,FOLLOW_K_ANN_in_orderByClause3131); if (state.failed) return;
+					match(input,K_OF,FOLLOW_K_OF_in_orderByClause3133); if (state.failed) return;
+					pushFollow(FOLLOW_term_in_orderByClause3137);
+					t=term();
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+
+			}
+
+			// Parser.g:457:37: ( K_ASC | K_DESC )?
+			int alt40=3;
+			int LA40_0 = input.LA(1);
+			if ( (LA40_0==K_ASC) ) {
+				alt40=1;
+			}
+			else if ( (LA40_0==K_DESC) ) {
+				alt40=2;
+			}
+			switch (alt40) {
+				case 1 :
+					// Parser.g:457:38: K_ASC
+					{
+					match(input,K_ASC,FOLLOW_K_ASC_in_orderByClause3142); if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:457:46: K_DESC
+					{
+					match(input,K_DESC,FOLLOW_K_DESC_in_orderByClause3146); if (state.failed) return;
+					if ( state.backtracking==0 ) { direction = Ordering.Direction.DESC; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			        Ordering.Raw.Expression expr = (t == null)
+			            ? new Ordering.Raw.SingleColumn(c)
+			            : new Ordering.Raw.Ann(c, t);
+			        orderings.add(new Ordering.Raw(expr, direction));
+			    }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "orderByClause"
+
+
+
+	// $ANTLR start "groupByClause"
+	// Parser.g:466:1: groupByClause[List<Selectable.Raw> groups] : s= unaliasedSelector ;
+	public final void groupByClause(List<Selectable.Raw> groups) throws RecognitionException {
+		Selectable.Raw s =null;
+
+		try {
+			// Parser.g:467:5: (s= unaliasedSelector )
+			// Parser.g:467:7: s= unaliasedSelector
+			{
+			pushFollow(FOLLOW_unaliasedSelector_in_groupByClause3176);
+			s=unaliasedSelector();
+			state._fsp--;
+			if (state.failed) return;
+			if ( state.backtracking==0 ) { groups.add(s); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "groupByClause"
+
+
+
+	// $ANTLR start "insertStatement"
+	// Parser.g:476:1: insertStatement returns [ModificationStatement.Parsed expr] : K_INSERT K_INTO cf= columnFamilyName (st1= normalInsertStatement[cf] | K_JSON st2= jsonInsertStatement[cf] ) ;
+	public final ModificationStatement.Parsed insertStatement() throws RecognitionException {
+		ModificationStatement.Parsed expr = null;
+
+
+		QualifiedName cf =null;
+		UpdateStatement.ParsedInsert st1 =null;
+		UpdateStatement.ParsedInsertJson st2 =null;
+
+		try {
+			// Parser.g:477:5: ( K_INSERT K_INTO cf= columnFamilyName (st1= normalInsertStatement[cf] | K_JSON st2= jsonInsertStatement[cf] ) )
+			// Parser.g:477:7: K_INSERT K_INTO cf= columnFamilyName (st1= normalInsertStatement[cf] | K_JSON st2= jsonInsertStatement[cf] )
+			{
+			match(input,K_INSERT,FOLLOW_K_INSERT_in_insertStatement3201); if (state.failed) return expr;
+			match(input,K_INTO,FOLLOW_K_INTO_in_insertStatement3203); if (state.failed) return expr;
+			pushFollow(FOLLOW_columnFamilyName_in_insertStatement3207);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:478:9: (st1= normalInsertStatement[cf] | K_JSON st2= jsonInsertStatement[cf] )
+			int alt41=2;
+			int LA41_0 = input.LA(1);
+			if ( (LA41_0==212) ) {
+				alt41=1;
+			}
+			else if ( (LA41_0==K_JSON) ) {
+				alt41=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return expr;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 41, 0, input);
+				throw nvae;
+			}
+
+			switch (alt41) {
+				case 1 :
+					// Parser.g:478:11: st1= normalInsertStatement[cf]
+					{
+					pushFollow(FOLLOW_normalInsertStatement_in_insertStatement3221);
+					st1=normalInsertStatement(cf);
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { expr = st1; }
+					}
+					break;
+				case 2 :
+					// Parser.g:479:11: K_JSON st2= jsonInsertStatement[cf]
+					{
+					match(input,K_JSON,FOLLOW_K_JSON_in_insertStatement3236); if (state.failed) return expr;
+					pushFollow(FOLLOW_jsonInsertStatement_in_insertStatement3240);
+					st2=jsonInsertStatement(cf);
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { expr = st2; }
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "insertStatement"
+
+
+
+	// $ANTLR start "normalInsertStatement"
+	// Parser.g:482:1: normalInsertStatement[QualifiedName qn] returns [UpdateStatement.ParsedInsert expr] : '(' c1= cident ( ',' cn= cident )* ')' K_VALUES '(' v1= term ( ',' vn= term )* ')' ( K_IF K_NOT K_EXISTS )? ( usingClause[attrs] )? ;
+	public final UpdateStatement.ParsedInsert normalInsertStatement(QualifiedName qn) throws RecognitionException {
+		UpdateStatement.ParsedInsert expr = null;
+
+
+		ColumnIdentifier c1 =null;
+		ColumnIdentifier cn =null;
+		Term.Raw v1 =null;
+		Term.Raw vn =null;
+
+
+		        Attributes.Raw attrs = new Attributes.Raw();
+		        List<ColumnIdentifier> columnNames  = new ArrayList<>();
+		        List<Term.Raw> values = new ArrayList<>();
+		        boolean ifNotExists = false;
+		    
+		try {
+			// Parser.g:489:5: ( '(' c1= cident ( ',' cn= cident )* ')' K_VALUES '(' v1= term ( ',' vn= term )* ')' ( K_IF K_NOT K_EXISTS )? ( usingClause[attrs] )? )
+			// Parser.g:489:7: '(' c1= cident ( ',' cn= cident )* ')' K_VALUES '(' v1= term ( ',' vn= term )* ')' ( K_IF K_NOT K_EXISTS )? ( usingClause[attrs] )?
+			{
+			match(input,212,FOLLOW_212_in_normalInsertStatement3276); if (state.failed) return expr;
+			pushFollow(FOLLOW_cident_in_normalInsertStatement3280);
+			c1=cident();
+			state._fsp--;
+			if (state.failed) return expr;
+			if ( state.backtracking==0 ) { columnNames.add(c1); }
+			// Parser.g:489:47: ( ',' cn= cident )*
+			loop42:
+			while (true) {
+				int alt42=2;
+				int LA42_0 = input.LA(1);
+				if ( (LA42_0==216) ) {
+					alt42=1;
+				}
+
+				switch (alt42) {
+				case 1 :
+					// Parser.g:489:49: ',' cn= cident
+					{
+					match(input,216,FOLLOW_216_in_normalInsertStatement3287); if (state.failed) return expr;
+					pushFollow(FOLLOW_cident_in_normalInsertStatement3291);
+					cn=cident();
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { columnNames.add(cn); }
+					}
+					break;
+
+				default :
+					break loop42;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_normalInsertStatement3298); if (state.failed) return expr;
+			match(input,K_VALUES,FOLLOW_K_VALUES_in_normalInsertStatement3306); if (state.failed) return expr;
+			match(input,212,FOLLOW_212_in_normalInsertStatement3314); if (state.failed) return expr;
+			pushFollow(FOLLOW_term_in_normalInsertStatement3318);
+			v1=term();
+			state._fsp--;
+			if (state.failed) return expr;
+			if ( state.backtracking==0 ) { values.add(v1); }
+			// Parser.g:491:39: ( ',' vn= term )*
+			loop43:
+			while (true) {
+				int alt43=2;
+				int LA43_0 = input.LA(1);
+				if ( (LA43_0==216) ) {
+					alt43=1;
+				}
+
+				switch (alt43) {
+				case 1 :
+					// Parser.g:491:41: ',' vn= term
+					{
+					match(input,216,FOLLOW_216_in_normalInsertStatement3324); if (state.failed) return expr;
+					pushFollow(FOLLOW_term_in_normalInsertStatement3328);
+					vn=term();
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { values.add(vn); }
+					}
+					break;
+
+				default :
+					break loop43;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_normalInsertStatement3335); if (state.failed) return expr;
+			// Parser.g:492:7: ( K_IF K_NOT K_EXISTS )?
+			int alt44=2;
+			int LA44_0 = input.LA(1);
+			if ( (LA44_0==K_IF) ) {
+				alt44=1;
+			}
+			switch (alt44) {
+				case 1 :
+					// Parser.g:492:9: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_normalInsertStatement3345); if (state.failed) return expr;
+					match(input,K_NOT,FOLLOW_K_NOT_in_normalInsertStatement3347); if (state.failed) return expr;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_normalInsertStatement3349); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			// Parser.g:493:7: ( usingClause[attrs] )?
+			int alt45=2;
+			int LA45_0 = input.LA(1);
+			if ( (LA45_0==K_USING) ) {
+				alt45=1;
+			}
+			switch (alt45) {
+				case 1 :
+					// Parser.g:493:9: usingClause[attrs]
+					{
+					pushFollow(FOLLOW_usingClause_in_normalInsertStatement3364);
+					usingClause(attrs);
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			          expr = new UpdateStatement.ParsedInsert(qn, attrs, columnNames, values, ifNotExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "normalInsertStatement"
+
+
+
+	// $ANTLR start "jsonInsertStatement"
+	// Parser.g:499:1: jsonInsertStatement[QualifiedName qn] returns [UpdateStatement.ParsedInsertJson expr] : val= jsonValue ( K_DEFAULT ( K_NULL | ( K_UNSET ) ) )? ( K_IF K_NOT K_EXISTS )? ( usingClause[attrs] )? ;
+	public final UpdateStatement.ParsedInsertJson jsonInsertStatement(QualifiedName qn) throws RecognitionException {
+		UpdateStatement.ParsedInsertJson expr = null;
+
+
+		Json.Raw val =null;
+
+
+		        Attributes.Raw attrs = new Attributes.Raw();
+		        boolean ifNotExists = false;
+		        boolean defaultUnset = false;
+		    
+		try {
+			// Parser.g:505:5: (val= jsonValue ( K_DEFAULT ( K_NULL | ( K_UNSET ) ) )? ( K_IF K_NOT K_EXISTS )? ( usingClause[attrs] )? )
+			// Parser.g:505:7: val= jsonValue ( K_DEFAULT ( K_NULL | ( K_UNSET ) ) )? ( K_IF K_NOT K_EXISTS )? ( usingClause[attrs] )?
+			{
+			pushFollow(FOLLOW_jsonValue_in_jsonInsertStatement3410);
+			val=jsonValue();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:506:7: ( K_DEFAULT ( K_NULL | ( K_UNSET ) ) )?
+			int alt47=2;
+			int LA47_0 = input.LA(1);
+			if ( (LA47_0==K_DEFAULT) ) {
+				alt47=1;
+			}
+			switch (alt47) {
+				case 1 :
+					// Parser.g:506:9: K_DEFAULT ( K_NULL | ( K_UNSET ) )
+					{
+					match(input,K_DEFAULT,FOLLOW_K_DEFAULT_in_jsonInsertStatement3420); if (state.failed) return expr;
+					// Parser.g:506:19: ( K_NULL | ( K_UNSET ) )
+					int alt46=2;
+					int LA46_0 = input.LA(1);
+					if ( (LA46_0==K_NULL) ) {
+						alt46=1;
+					}
+					else if ( (LA46_0==K_UNSET) ) {
+						alt46=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return expr;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 46, 0, input);
+						throw nvae;
+					}
+
+					switch (alt46) {
+						case 1 :
+							// Parser.g:506:21: K_NULL
+							{
+							match(input,K_NULL,FOLLOW_K_NULL_in_jsonInsertStatement3424); if (state.failed) return expr;
+							}
+							break;
+						case 2 :
+							// Parser.g:506:30: ( K_UNSET )
+							{
+							// Parser.g:506:30: ( K_UNSET )
+							// Parser.g:506:32: K_UNSET
+							{
+							if ( state.backtracking==0 ) { defaultUnset = true; }
+							match(input,K_UNSET,FOLLOW_K_UNSET_in_jsonInsertStatement3432); if (state.failed) return expr;
+							}
+
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+			}
+
+			// Parser.g:507:7: ( K_IF K_NOT K_EXISTS )?
+			int alt48=2;
+			int LA48_0 = input.LA(1);
+			if ( (LA48_0==K_IF) ) {
+				alt48=1;
+			}
+			switch (alt48) {
+				case 1 :
+					// Parser.g:507:9: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_jsonInsertStatement3448); if (state.failed) return expr;
+					match(input,K_NOT,FOLLOW_K_NOT_in_jsonInsertStatement3450); if (state.failed) return expr;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_jsonInsertStatement3452); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			// Parser.g:508:7: ( usingClause[attrs] )?
+			int alt49=2;
+			int LA49_0 = input.LA(1);
+			if ( (LA49_0==K_USING) ) {
+				alt49=1;
+			}
+			switch (alt49) {
+				case 1 :
+					// Parser.g:508:9: usingClause[attrs]
+					{
+					pushFollow(FOLLOW_usingClause_in_jsonInsertStatement3467);
+					usingClause(attrs);
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			          expr = new UpdateStatement.ParsedInsertJson(qn, attrs, val, defaultUnset, ifNotExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "jsonInsertStatement"
+
+
+
+	// $ANTLR start "jsonValue"
+	// Parser.g:514:1: jsonValue returns [Json.Raw value] : (s= STRING_LITERAL | ':' id= noncol_ident | QMARK );
+	public final Json.Raw jsonValue() throws RecognitionException {
+		Json.Raw value = null;
+
+
+		Token s=null;
+		ColumnIdentifier id =null;
+
+		try {
+			// Parser.g:515:5: (s= STRING_LITERAL | ':' id= noncol_ident | QMARK )
+			int alt50=3;
+			switch ( input.LA(1) ) {
+			case STRING_LITERAL:
+				{
+				alt50=1;
+				}
+				break;
+			case 221:
+				{
+				alt50=2;
+				}
+				break;
+			case QMARK:
+				{
+				alt50=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return value;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 50, 0, input);
+				throw nvae;
+			}
+			switch (alt50) {
+				case 1 :
+					// Parser.g:515:7: s= STRING_LITERAL
+					{
+					s=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_jsonValue3502); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = new Json.Literal((s!=null?s.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:516:7: ':' id= noncol_ident
+					{
+					match(input,221,FOLLOW_221_in_jsonValue3512); if (state.failed) return value;
+					pushFollow(FOLLOW_noncol_ident_in_jsonValue3516);
+					id=noncol_ident();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = newJsonBindVariables(id); }
+					}
+					break;
+				case 3 :
+					// Parser.g:517:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_jsonValue3530); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = newJsonBindVariables(null); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "jsonValue"
+
+
+
+	// $ANTLR start "usingClause"
+	// Parser.g:520:1: usingClause[Attributes.Raw attrs] : K_USING usingClauseObjective[attrs] ( K_AND usingClauseObjective[attrs] )* ;
+	public final void usingClause(Attributes.Raw attrs) throws RecognitionException {
+		try {
+			// Parser.g:521:5: ( K_USING usingClauseObjective[attrs] ( K_AND usingClauseObjective[attrs] )* )
+			// Parser.g:521:7: K_USING usingClauseObjective[attrs] ( K_AND usingClauseObjective[attrs] )*
+			{
+			match(input,K_USING,FOLLOW_K_USING_in_usingClause3561); if (state.failed) return;
+			pushFollow(FOLLOW_usingClauseObjective_in_usingClause3563);
+			usingClauseObjective(attrs);
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:521:43: ( K_AND usingClauseObjective[attrs] )*
+			loop51:
+			while (true) {
+				int alt51=2;
+				int LA51_0 = input.LA(1);
+				if ( (LA51_0==K_AND) ) {
+					alt51=1;
+				}
+
+				switch (alt51) {
+				case 1 :
+					// Parser.g:521:45: K_AND usingClauseObjective[attrs]
+					{
+					match(input,K_AND,FOLLOW_K_AND_in_usingClause3568); if (state.failed) return;
+					pushFollow(FOLLOW_usingClauseObjective_in_usingClause3570);
+					usingClauseObjective(attrs);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+
+				default :
+					break loop51;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "usingClause"
+
+
+
+	// $ANTLR start "usingClauseObjective"
+	// Parser.g:524:1: usingClauseObjective[Attributes.Raw attrs] : ( K_TIMESTAMP ts= intValue | K_TTL t= intValue );
+	public final void usingClauseObjective(Attributes.Raw attrs) throws RecognitionException {
+		Term.Raw ts =null;
+		Term.Raw t =null;
+
+		try {
+			// Parser.g:525:5: ( K_TIMESTAMP ts= intValue | K_TTL t= intValue )
+			int alt52=2;
+			int LA52_0 = input.LA(1);
+			if ( (LA52_0==K_TIMESTAMP) ) {
+				alt52=1;
+			}
+			else if ( (LA52_0==K_TTL) ) {
+				alt52=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 52, 0, input);
+				throw nvae;
+			}
+
+			switch (alt52) {
+				case 1 :
+					// Parser.g:525:7: K_TIMESTAMP ts= intValue
+					{
+					match(input,K_TIMESTAMP,FOLLOW_K_TIMESTAMP_in_usingClauseObjective3592); if (state.failed) return;
+					pushFollow(FOLLOW_intValue_in_usingClauseObjective3596);
+					ts=intValue();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { attrs.timestamp = ts; }
+					}
+					break;
+				case 2 :
+					// Parser.g:526:7: K_TTL t= intValue
+					{
+					match(input,K_TTL,FOLLOW_K_TTL_in_usingClauseObjective3606); if (state.failed) return;
+					pushFollow(FOLLOW_intValue_in_usingClauseObjective3610);
+					t=intValue();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { attrs.timeToLive = t; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "usingClauseObjective"
+
+
+
+	// $ANTLR start "updateStatement"
+	// Parser.g:536:1: updateStatement returns [UpdateStatement.ParsedUpdate expr] : K_UPDATE cf= columnFamilyName ( usingClause[attrs] )? K_SET columnOperation[operations] ( ',' columnOperation[operations] )* K_WHERE wclause= whereClause ( K_IF ( K_EXISTS |conditions= updateConditions ) )? ;
+	public final UpdateStatement.ParsedUpdate updateStatement() throws RecognitionException {
+		UpdateStatement.ParsedUpdate expr = null;
+
+
+		QualifiedName cf =null;
+		WhereClause.Builder wclause =null;
+		List<ColumnCondition.Raw> conditions =null;
+
+
+		        Attributes.Raw attrs = new Attributes.Raw();
+		        List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations = new ArrayList<>();
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:542:5: ( K_UPDATE cf= columnFamilyName ( usingClause[attrs] )? K_SET columnOperation[operations] ( ',' columnOperation[operations] )* K_WHERE wclause= whereClause ( K_IF ( K_EXISTS |conditions= updateConditions ) )? )
+			// Parser.g:542:7: K_UPDATE cf= columnFamilyName ( usingClause[attrs] )? K_SET columnOperation[operations] ( ',' columnOperation[operations] )* K_WHERE wclause= whereClause ( K_IF ( K_EXISTS |conditions= updateConditions ) )?
+			{
+			match(input,K_UPDATE,FOLLOW_K_UPDATE_in_updateStatement3644); if (state.failed) return expr;
+			pushFollow(FOLLOW_columnFamilyName_in_updateStatement3648);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:543:7: ( usingClause[attrs] )?
+			int alt53=2;
+			int LA53_0 = input.LA(1);
+			if ( (LA53_0==K_USING) ) {
+				alt53=1;
+			}
+			switch (alt53) {
+				case 1 :
+					// Parser.g:543:9: usingClause[attrs]
+					{
+					pushFollow(FOLLOW_usingClause_in_updateStatement3658);
+					usingClause(attrs);
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+			}
+
+			match(input,K_SET,FOLLOW_K_SET_in_updateStatement3670); if (state.failed) return expr;
+			pushFollow(FOLLOW_columnOperation_in_updateStatement3672);
+			columnOperation(operations);
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:544:41: ( ',' columnOperation[operations] )*
+			loop54:
+			while (true) {
+				int alt54=2;
+				int LA54_0 = input.LA(1);
+				if ( (LA54_0==216) ) {
+					alt54=1;
+				}
+
+				switch (alt54) {
+				case 1 :
+					// Parser.g:544:42: ',' columnOperation[operations]
+					{
+					match(input,216,FOLLOW_216_in_updateStatement3676); if (state.failed) return expr;
+					pushFollow(FOLLOW_columnOperation_in_updateStatement3678);
+					columnOperation(operations);
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+				default :
+					break loop54;
+				}
+			}
+
+			match(input,K_WHERE,FOLLOW_K_WHERE_in_updateStatement3689); if (state.failed) return expr;
+			pushFollow(FOLLOW_whereClause_in_updateStatement3693);
+			wclause=whereClause();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:546:7: ( K_IF ( K_EXISTS |conditions= updateConditions ) )?
+			int alt56=2;
+			int LA56_0 = input.LA(1);
+			if ( (LA56_0==K_IF) ) {
+				alt56=1;
+			}
+			switch (alt56) {
+				case 1 :
+					// Parser.g:546:9: K_IF ( K_EXISTS |conditions= updateConditions )
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_updateStatement3703); if (state.failed) return expr;
+					// Parser.g:546:14: ( K_EXISTS |conditions= updateConditions )
+					int alt55=2;
+					int LA55_0 = input.LA(1);
+					if ( (LA55_0==K_EXISTS) ) {
+						int LA55_1 = input.LA(2);
+						if ( (LA55_1==EOF||LA55_1==K_APPLY||LA55_1==K_DELETE||LA55_1==K_INSERT||LA55_1==K_UPDATE||LA55_1==222) ) {
+							alt55=1;
+						}
+						else if ( (LA55_1==K_CONTAINS||LA55_1==K_IN||LA55_1==210||LA55_1==219||(LA55_1 >= 223 && LA55_1 <= 228)) ) {
+							alt55=2;
+						}
+
+						else {
+							if (state.backtracking>0) {state.failed=true; return expr;}
+							int nvaeMark = input.mark();
+							try {
+								input.consume();
+								NoViableAltException nvae =
+									new NoViableAltException("", 55, 1, input);
+								throw nvae;
+							} finally {
+								input.rewind(nvaeMark);
+							}
+						}
+
+					}
+					else if ( (LA55_0==EMPTY_QUOTED_NAME||LA55_0==IDENT||LA55_0==K_ACCESS||(LA55_0 >= K_AGGREGATE && LA55_0 <= K_ALL)||LA55_0==K_ANN||LA55_0==K_AS||LA55_0==K_ASCII||(LA55_0 >= K_BETWEEN && LA55_0 <= K_BOOLEAN)||(LA55_0 >= K_CALLED && LA55_0 <= K_CLUSTERING)||(LA55_0 >= K_COMPACT && LA55_0 <= K_COUNTER)||(LA55_0 >= K_CUSTOM && LA55_0 <= K_DEFAULT)||(LA55_0 >= K_DISTINCT && LA55_0 <= K_DOUBLE)||LA55_0==K_DURATION||(LA55_0 >= K_FILTERING && LA55_0 <= K_FLOAT)||LA55_0==K_FROZEN||(LA55_0 >= K_FUNCTION && LA55_0 <= K_GENERATED)||(LA55_0 >= K_GROUP && LA55_0 <= K_IDENTITY)||(LA55_0 >= K_INET && LA55_0 <= K_INPUT)||(LA55_0 >= K_INT && LA55_0 <= K_INTERNALS)||(LA55_0 >= K_JSON && LA55_0 <= K_KEYS)||(LA55_0 >= K_KEYSPACES && LA55_0 <= K_LIKE)||(LA55_0 >= K_LIST && LA55_0 <= K_MASKED)||(LA55_0 >= K_MAXWRITETIME && LA55_0 <= K_MBEANS)||LA55_0==K_NOLOGIN||LA55_0==K_NOSUPERUSER||(LA55_0 >= K_ONLY && LA55_0 <= K_OPTIONS)||(LA55_0 >= K_PARTITION && LA55_0 <= K_PERMISSIONS)||(LA55_0 >= K_REPLACE && LA55_0 <= K_RETURNS)||(LA55_0 >= K_ROLE && LA55_0 <= K_ROLES)||LA55_0==K_SELECT_MASKED||(LA55_0 >= K_SFUNC && LA55_0 <= K_TINYINT)||LA55_0==K_TRIGGER||(LA55_0 >= K_TTL && LA55_0 <= K_TYPES)||(LA55_0 >= K_UNMASK && LA55_0 <= K_UNSET)||(LA55_0 >= K_USER && LA55_0 <= K_USERS)||(LA55_0 >= K_UUID && LA55_0 <= K_VECTOR)||LA55_0==K_WRITETIME||LA55_0==QUOTED_NAME) ) {
+						alt55=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return expr;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 55, 0, input);
+						throw nvae;
+					}
+
+					switch (alt55) {
+						case 1 :
+							// Parser.g:546:16: K_EXISTS
+							{
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_updateStatement3707); if (state.failed) return expr;
+							if ( state.backtracking==0 ) { ifExists = true; }
+							}
+							break;
+						case 2 :
+							// Parser.g:546:48: conditions= updateConditions
+							{
+							pushFollow(FOLLOW_updateConditions_in_updateStatement3715);
+							conditions=updateConditions();
+							state._fsp--;
+							if (state.failed) return expr;
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			          expr = new UpdateStatement.ParsedUpdate(cf,
+			                                                   attrs,
+			                                                   operations,
+			                                                   wclause.build(),
+			                                                   conditions == null ? Collections.<ColumnCondition.Raw>emptyList() : conditions,
+			                                                   ifExists);
+			     }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "updateStatement"
+
+
+
+	// $ANTLR start "updateConditions"
+	// Parser.g:557:1: updateConditions returns [List<ColumnCondition.Raw> conditions] : c1= columnCondition ( K_AND cn= columnCondition )* ;
+	public final List<ColumnCondition.Raw> updateConditions() throws RecognitionException {
+		List<ColumnCondition.Raw> conditions = null;
+
+
+		ColumnCondition.Raw c1 =null;
+		ColumnCondition.Raw cn =null;
+
+		 conditions = new ArrayList<ColumnCondition.Raw>(); 
+		try {
+			// Parser.g:559:5: (c1= columnCondition ( K_AND cn= columnCondition )* )
+			// Parser.g:559:7: c1= columnCondition ( K_AND cn= columnCondition )*
+			{
+			pushFollow(FOLLOW_columnCondition_in_updateConditions3759);
+			c1=columnCondition();
+			state._fsp--;
+			if (state.failed) return conditions;
+			if ( state.backtracking==0 ) { conditions.add(c1);}
+			// Parser.g:559:50: ( K_AND cn= columnCondition )*
+			loop57:
+			while (true) {
+				int alt57=2;
+				int LA57_0 = input.LA(1);
+				if ( (LA57_0==K_AND) ) {
+					alt57=1;
+				}
+
+				switch (alt57) {
+				case 1 :
+					// Parser.g:559:52: K_AND cn= columnCondition
+					{
+					match(input,K_AND,FOLLOW_K_AND_in_updateConditions3765); if (state.failed) return conditions;
+					pushFollow(FOLLOW_columnCondition_in_updateConditions3769);
+					cn=columnCondition();
+					state._fsp--;
+					if (state.failed) return conditions;
+					if ( state.backtracking==0 ) { conditions.add(cn); }
+					}
+					break;
+
+				default :
+					break loop57;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return conditions;
+	}
+	// $ANTLR end "updateConditions"
+
+
+
+	// $ANTLR start "deleteStatement"
+	// Parser.g:569:1: deleteStatement returns [DeleteStatement.Parsed expr] : K_DELETE (dels= deleteSelection )? K_FROM cf= columnFamilyName ( usingClauseDelete[attrs] )? K_WHERE wclause= whereClause ( K_IF ( K_EXISTS |conditions= updateConditions ) )? ;
+	public final DeleteStatement.Parsed deleteStatement() throws RecognitionException {
+		DeleteStatement.Parsed expr = null;
+
+
+		List<Operation.RawDeletion> dels =null;
+		QualifiedName cf =null;
+		WhereClause.Builder wclause =null;
+		List<ColumnCondition.Raw> conditions =null;
+
+
+		        Attributes.Raw attrs = new Attributes.Raw();
+		        List<Operation.RawDeletion> columnDeletions = Collections.emptyList();
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:575:5: ( K_DELETE (dels= deleteSelection )? K_FROM cf= columnFamilyName ( usingClauseDelete[attrs] )? K_WHERE wclause= whereClause ( K_IF ( K_EXISTS |conditions= updateConditions ) )? )
+			// Parser.g:575:7: K_DELETE (dels= deleteSelection )? K_FROM cf= columnFamilyName ( usingClauseDelete[attrs] )? K_WHERE wclause= whereClause ( K_IF ( K_EXISTS |conditions= updateConditions ) )?
+			{
+			match(input,K_DELETE,FOLLOW_K_DELETE_in_deleteStatement3805); if (state.failed) return expr;
+			// Parser.g:575:16: (dels= deleteSelection )?
+			int alt58=2;
+			int LA58_0 = input.LA(1);
+			if ( (LA58_0==EMPTY_QUOTED_NAME||LA58_0==IDENT||LA58_0==K_ACCESS||(LA58_0 >= K_AGGREGATE && LA58_0 <= K_ALL)||LA58_0==K_ANN||LA58_0==K_AS||LA58_0==K_ASCII||(LA58_0 >= K_BETWEEN && LA58_0 <= K_BOOLEAN)||(LA58_0 >= K_CALLED && LA58_0 <= K_CLUSTERING)||(LA58_0 >= K_COMPACT && LA58_0 <= K_COUNTER)||(LA58_0 >= K_CUSTOM && LA58_0 <= K_DEFAULT)||(LA58_0 >= K_DISTINCT && LA58_0 <= K_DOUBLE)||LA58_0==K_DURATION||(LA58_0 >= K_EXISTS && LA58_0 <= K_FLOAT)||LA58_0==K_FROZEN||(LA58_0 >= K_FUNCTION && LA58_0 <= K_GENERATED)||(LA58_0 >= K_GROUP && LA58_0 <= K_IDENTITY)||(LA58_0 >= K_INET && LA58_0 <= K_INPUT)||(LA58_0 >= K_INT && LA58_0 <= K_INTERNALS)||(LA58_0 >= K_JSON && LA58_0 <= K_KEYS)||(LA58_0 >= K_KEYSPACES && LA58_0 <= K_LIKE)||(LA58_0 >= K_LIST && LA58_0 <= K_MASKED)||(LA58_0 >= K_MAXWRITETIME && LA58_0 <= K_MBEANS)||LA58_0==K_NOLOGIN||LA58_0==K_NOSUPERUSER||(LA58_0 >= K_ONLY && LA58_0 <= K_OPTIONS)||(LA58_0 >= K_PARTITION && LA58_0 <= K_PERMISSIONS)||(LA58_0 >= K_REPLACE && LA58_0 <= K_RETURNS)||(LA58_0 >= K_ROLE && LA58_0 <= K_ROLES)||LA58_0==K_SELECT_MASKED||(LA58_0 >= K_SFUNC && LA58_0 <= K_TINYINT)||LA58_0==K_TRIGGER||(LA58_0 >= K_TTL && LA58_0 <= K_TYPES)||(LA58_0 >= K_UNMASK && LA58_0 <= K_UNSET)||(LA58_0 >= K_USER && LA58_0 <= K_USERS)||(LA58_0 >= K_UUID && LA58_0 <= K_VECTOR)||LA58_0==K_WRITETIME||LA58_0==QUOTED_NAME) ) {
+				alt58=1;
+			}
+			switch (alt58) {
+				case 1 :
+					// Parser.g:575:18: dels= deleteSelection
+					{
+					pushFollow(FOLLOW_deleteSelection_in_deleteStatement3811);
+					dels=deleteSelection();
+					state._fsp--;
+					if (state.failed) return expr;
+					if ( state.backtracking==0 ) { columnDeletions = dels; }
+					}
+					break;
+
+			}
+
+			match(input,K_FROM,FOLLOW_K_FROM_in_deleteStatement3824); if (state.failed) return expr;
+			pushFollow(FOLLOW_columnFamilyName_in_deleteStatement3828);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:577:7: ( usingClauseDelete[attrs] )?
+			int alt59=2;
+			int LA59_0 = input.LA(1);
+			if ( (LA59_0==K_USING) ) {
+				alt59=1;
+			}
+			switch (alt59) {
+				case 1 :
+					// Parser.g:577:9: usingClauseDelete[attrs]
+					{
+					pushFollow(FOLLOW_usingClauseDelete_in_deleteStatement3838);
+					usingClauseDelete(attrs);
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+			}
+
+			match(input,K_WHERE,FOLLOW_K_WHERE_in_deleteStatement3850); if (state.failed) return expr;
+			pushFollow(FOLLOW_whereClause_in_deleteStatement3854);
+			wclause=whereClause();
+			state._fsp--;
+			if (state.failed) return expr;
+			// Parser.g:579:7: ( K_IF ( K_EXISTS |conditions= updateConditions ) )?
+			int alt61=2;
+			int LA61_0 = input.LA(1);
+			if ( (LA61_0==K_IF) ) {
+				alt61=1;
+			}
+			switch (alt61) {
+				case 1 :
+					// Parser.g:579:9: K_IF ( K_EXISTS |conditions= updateConditions )
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_deleteStatement3864); if (state.failed) return expr;
+					// Parser.g:579:14: ( K_EXISTS |conditions= updateConditions )
+					int alt60=2;
+					int LA60_0 = input.LA(1);
+					if ( (LA60_0==K_EXISTS) ) {
+						int LA60_1 = input.LA(2);
+						if ( (LA60_1==EOF||LA60_1==K_APPLY||LA60_1==K_DELETE||LA60_1==K_INSERT||LA60_1==K_UPDATE||LA60_1==222) ) {
+							alt60=1;
+						}
+						else if ( (LA60_1==K_CONTAINS||LA60_1==K_IN||LA60_1==210||LA60_1==219||(LA60_1 >= 223 && LA60_1 <= 228)) ) {
+							alt60=2;
+						}
+
+						else {
+							if (state.backtracking>0) {state.failed=true; return expr;}
+							int nvaeMark = input.mark();
+							try {
+								input.consume();
+								NoViableAltException nvae =
+									new NoViableAltException("", 60, 1, input);
+								throw nvae;
+							} finally {
+								input.rewind(nvaeMark);
+							}
+						}
+
+					}
+					else if ( (LA60_0==EMPTY_QUOTED_NAME||LA60_0==IDENT||LA60_0==K_ACCESS||(LA60_0 >= K_AGGREGATE && LA60_0 <= K_ALL)||LA60_0==K_ANN||LA60_0==K_AS||LA60_0==K_ASCII||(LA60_0 >= K_BETWEEN && LA60_0 <= K_BOOLEAN)||(LA60_0 >= K_CALLED && LA60_0 <= K_CLUSTERING)||(LA60_0 >= K_COMPACT && LA60_0 <= K_COUNTER)||(LA60_0 >= K_CUSTOM && LA60_0 <= K_DEFAULT)||(LA60_0 >= K_DISTINCT && LA60_0 <= K_DOUBLE)||LA60_0==K_DURATION||(LA60_0 >= K_FILTERING && LA60_0 <= K_FLOAT)||LA60_0==K_FROZEN||(LA60_0 >= K_FUNCTION && LA60_0 <= K_GENERATED)||(LA60_0 >= K_GROUP && LA60_0 <= K_IDENTITY)||(LA60_0 >= K_INET && LA60_0 <= K_INPUT)||(LA60_0 >= K_INT && LA60_0 <= K_INTERNALS)||(LA60_0 >= K_JSON && LA60_0 <= K_KEYS)||(LA60_0 >= K_KEYSPACES && LA60_0 <= K_LIKE)||(LA60_0 >= K_LIST && LA60_0 <= K_MASKED)||(LA60_0 >= K_MAXWRITETIME && LA60_0 <= K_MBEANS)||LA60_0==K_NOLOGIN||LA60_0==K_NOSUPERUSER||(LA60_0 >= K_ONLY && LA60_0 <= K_OPTIONS)||(LA60_0 >= K_PARTITION && LA60_0 <= K_PERMISSIONS)||(LA60_0 >= K_REPLACE && LA60_0 <= K_RETURNS)||(LA60_0 >= K_ROLE && LA60_0 <= K_ROLES)||LA60_0==K_SELECT_MASKED||(LA60_0 >= K_SFUNC && LA60_0 <= K_TINYINT)||LA60_0==K_TRIGGER||(LA60_0 >= K_TTL && LA60_0 <= K_TYPES)||(LA60_0 >= K_UNMASK && LA60_0 <= K_UNSET)||(LA60_0 >= K_USER && LA60_0 <= K_USERS)||(LA60_0 >= K_UUID && LA60_0 <= K_VECTOR)||LA60_0==K_WRITETIME||LA60_0==QUOTED_NAME) ) {
+						alt60=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return expr;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 60, 0, input);
+						throw nvae;
+					}
+
+					switch (alt60) {
+						case 1 :
+							// Parser.g:579:16: K_EXISTS
+							{
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_deleteStatement3868); if (state.failed) return expr;
+							if ( state.backtracking==0 ) { ifExists = true; }
+							}
+							break;
+						case 2 :
+							// Parser.g:579:48: conditions= updateConditions
+							{
+							pushFollow(FOLLOW_updateConditions_in_deleteStatement3876);
+							conditions=updateConditions();
+							state._fsp--;
+							if (state.failed) return expr;
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			          expr = new DeleteStatement.Parsed(cf,
+			                                             attrs,
+			                                             columnDeletions,
+			                                             wclause.build(),
+			                                             conditions == null ? Collections.<ColumnCondition.Raw>emptyList() : conditions,
+			                                             ifExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "deleteStatement"
+
+
+
+	// $ANTLR start "deleteSelection"
+	// Parser.g:590:1: deleteSelection returns [List<Operation.RawDeletion> operations] :t1= deleteOp ( ',' tN= deleteOp )* ;
+	public final List<Operation.RawDeletion> deleteSelection() throws RecognitionException {
+		List<Operation.RawDeletion> operations = null;
+
+
+		Operation.RawDeletion t1 =null;
+		Operation.RawDeletion tN =null;
+
+		try {
+			// Parser.g:591:5: (t1= deleteOp ( ',' tN= deleteOp )* )
+			// Parser.g:591:7: t1= deleteOp ( ',' tN= deleteOp )*
+			{
+			if ( state.backtracking==0 ) { operations = new ArrayList<Operation.RawDeletion>(); }
+			pushFollow(FOLLOW_deleteOp_in_deleteSelection3923);
+			t1=deleteOp();
+			state._fsp--;
+			if (state.failed) return operations;
+			if ( state.backtracking==0 ) { operations.add(t1); }
+			// Parser.g:593:11: ( ',' tN= deleteOp )*
+			loop62:
+			while (true) {
+				int alt62=2;
+				int LA62_0 = input.LA(1);
+				if ( (LA62_0==216) ) {
+					alt62=1;
+				}
+
+				switch (alt62) {
+				case 1 :
+					// Parser.g:593:12: ',' tN= deleteOp
+					{
+					match(input,216,FOLLOW_216_in_deleteSelection3938); if (state.failed) return operations;
+					pushFollow(FOLLOW_deleteOp_in_deleteSelection3942);
+					tN=deleteOp();
+					state._fsp--;
+					if (state.failed) return operations;
+					if ( state.backtracking==0 ) { operations.add(tN); }
+					}
+					break;
+
+				default :
+					break loop62;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return operations;
+	}
+	// $ANTLR end "deleteSelection"
+
+
+
+	// $ANTLR start "deleteOp"
+	// Parser.g:596:1: deleteOp returns [Operation.RawDeletion op] : (c= cident |c= cident '[' t= term ']' |c= cident '.' field= fident );
+	public final Operation.RawDeletion deleteOp() throws RecognitionException {
+		Operation.RawDeletion op = null;
+
+
+		ColumnIdentifier c =null;
+		Term.Raw t =null;
+		FieldIdentifier field =null;
+
+		try {
+			// Parser.g:597:5: (c= cident |c= cident '[' t= term ']' |c= cident '.' field= fident )
+			int alt63=3;
+			alt63 = dfa63.predict(input);
+			switch (alt63) {
+				case 1 :
+					// Parser.g:597:7: c= cident
+					{
+					pushFollow(FOLLOW_cident_in_deleteOp3969);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = new Operation.ColumnDeletion(c); }
+					}
+					break;
+				case 2 :
+					// Parser.g:598:7: c= cident '[' t= term ']'
+					{
+					pushFollow(FOLLOW_cident_in_deleteOp3996);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return op;
+					match(input,228,FOLLOW_228_in_deleteOp3998); if (state.failed) return op;
+					pushFollow(FOLLOW_term_in_deleteOp4002);
+					t=term();
+					state._fsp--;
+					if (state.failed) return op;
+					match(input,230,FOLLOW_230_in_deleteOp4004); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = new Operation.ElementDeletion(c, t); }
+					}
+					break;
+				case 3 :
+					// Parser.g:599:7: c= cident '.' field= fident
+					{
+					pushFollow(FOLLOW_cident_in_deleteOp4016);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return op;
+					match(input,219,FOLLOW_219_in_deleteOp4018); if (state.failed) return op;
+					pushFollow(FOLLOW_fident_in_deleteOp4022);
+					field=fident();
+					state._fsp--;
+					if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = new Operation.FieldDeletion(c, field); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return op;
+	}
+	// $ANTLR end "deleteOp"
+
+
+
+	// $ANTLR start "usingClauseDelete"
+	// Parser.g:602:1: usingClauseDelete[Attributes.Raw attrs] : K_USING K_TIMESTAMP ts= intValue ;
+	public final void usingClauseDelete(Attributes.Raw attrs) throws RecognitionException {
+		Term.Raw ts =null;
+
+		try {
+			// Parser.g:603:5: ( K_USING K_TIMESTAMP ts= intValue )
+			// Parser.g:603:7: K_USING K_TIMESTAMP ts= intValue
+			{
+			match(input,K_USING,FOLLOW_K_USING_in_usingClauseDelete4042); if (state.failed) return;
+			match(input,K_TIMESTAMP,FOLLOW_K_TIMESTAMP_in_usingClauseDelete4044); if (state.failed) return;
+			pushFollow(FOLLOW_intValue_in_usingClauseDelete4048);
+			ts=intValue();
+			state._fsp--;
+			if (state.failed) return;
+			if ( state.backtracking==0 ) { attrs.timestamp = ts; }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "usingClauseDelete"
+
+
+
+	// $ANTLR start "batchStatement"
+	// Parser.g:630:1: batchStatement returns [BatchStatement.Parsed expr] : K_BEGIN ( K_UNLOGGED | K_COUNTER )? K_BATCH ( usingClause[attrs] )? (s= batchStatementObjective ( ';' )? )* K_APPLY K_BATCH ;
+	public final BatchStatement.Parsed batchStatement() throws RecognitionException {
+		BatchStatement.Parsed expr = null;
+
+
+		ModificationStatement.Parsed s =null;
+
+
+		        BatchStatement.Type type = BatchStatement.Type.LOGGED;
+		        List<ModificationStatement.Parsed> statements = new ArrayList<ModificationStatement.Parsed>();
+		        Attributes.Raw attrs = new Attributes.Raw();
+		    
+		try {
+			// Parser.g:636:5: ( K_BEGIN ( K_UNLOGGED | K_COUNTER )? K_BATCH ( usingClause[attrs] )? (s= batchStatementObjective ( ';' )? )* K_APPLY K_BATCH )
+			// Parser.g:636:7: K_BEGIN ( K_UNLOGGED | K_COUNTER )? K_BATCH ( usingClause[attrs] )? (s= batchStatementObjective ( ';' )? )* K_APPLY K_BATCH
+			{
+			match(input,K_BEGIN,FOLLOW_K_BEGIN_in_batchStatement4082); if (state.failed) return expr;
+			// Parser.g:637:7: ( K_UNLOGGED | K_COUNTER )?
+			int alt64=3;
+			int LA64_0 = input.LA(1);
+			if ( (LA64_0==K_UNLOGGED) ) {
+				alt64=1;
+			}
+			else if ( (LA64_0==K_COUNTER) ) {
+				alt64=2;
+			}
+			switch (alt64) {
+				case 1 :
+					// Parser.g:637:9: K_UNLOGGED
+					{
+					match(input,K_UNLOGGED,FOLLOW_K_UNLOGGED_in_batchStatement4092); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { type = BatchStatement.Type.UNLOGGED; }
+					}
+					break;
+				case 2 :
+					// Parser.g:637:63: K_COUNTER
+					{
+					match(input,K_COUNTER,FOLLOW_K_COUNTER_in_batchStatement4098); if (state.failed) return expr;
+					if ( state.backtracking==0 ) { type = BatchStatement.Type.COUNTER; }
+					}
+					break;
+
+			}
+
+			match(input,K_BATCH,FOLLOW_K_BATCH_in_batchStatement4111); if (state.failed) return expr;
+			// Parser.g:638:15: ( usingClause[attrs] )?
+			int alt65=2;
+			int LA65_0 = input.LA(1);
+			if ( (LA65_0==K_USING) ) {
+				alt65=1;
+			}
+			switch (alt65) {
+				case 1 :
+					// Parser.g:638:17: usingClause[attrs]
+					{
+					pushFollow(FOLLOW_usingClause_in_batchStatement4115);
+					usingClause(attrs);
+					state._fsp--;
+					if (state.failed) return expr;
+					}
+					break;
+
+			}
+
+			// Parser.g:639:11: (s= batchStatementObjective ( ';' )? )*
+			loop67:
+			while (true) {
+				int alt67=2;
+				int LA67_0 = input.LA(1);
+				if ( (LA67_0==K_DELETE||LA67_0==K_INSERT||LA67_0==K_UPDATE) ) {
+					alt67=1;
+				}
+
+				switch (alt67) {
+				case 1 :
+					// Parser.g:639:13: s= batchStatementObjective ( ';' )?
+					{
+					pushFollow(FOLLOW_batchStatementObjective_in_batchStatement4135);
+					s=batchStatementObjective();
+					state._fsp--;
+					if (state.failed) return expr;
+					// Parser.g:639:39: ( ';' )?
+					int alt66=2;
+					int LA66_0 = input.LA(1);
+					if ( (LA66_0==222) ) {
+						alt66=1;
+					}
+					switch (alt66) {
+						case 1 :
+							// Parser.g:639:39: ';'
+							{
+							match(input,222,FOLLOW_222_in_batchStatement4137); if (state.failed) return expr;
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) { statements.add(s); }
+					}
+					break;
+
+				default :
+					break loop67;
+				}
+			}
+
+			match(input,K_APPLY,FOLLOW_K_APPLY_in_batchStatement4151); if (state.failed) return expr;
+			match(input,K_BATCH,FOLLOW_K_BATCH_in_batchStatement4153); if (state.failed) return expr;
+			if ( state.backtracking==0 ) {
+			          expr = new BatchStatement.Parsed(type, attrs, statements);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "batchStatement"
+
+
+
+	// $ANTLR start "batchStatementObjective"
+	// Parser.g:646:1: batchStatementObjective returns [ModificationStatement.Parsed statement] : (i= insertStatement |u= updateStatement |d= deleteStatement );
+	public final ModificationStatement.Parsed batchStatementObjective() throws RecognitionException {
+		ModificationStatement.Parsed statement = null;
+
+
+		ModificationStatement.Parsed i =null;
+		UpdateStatement.ParsedUpdate u =null;
+		DeleteStatement.Parsed d =null;
+
+		try {
+			// Parser.g:647:5: (i= insertStatement |u= updateStatement |d= deleteStatement )
+			int alt68=3;
+			switch ( input.LA(1) ) {
+			case K_INSERT:
+				{
+				alt68=1;
+				}
+				break;
+			case K_UPDATE:
+				{
+				alt68=2;
+				}
+				break;
+			case K_DELETE:
+				{
+				alt68=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return statement;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 68, 0, input);
+				throw nvae;
+			}
+			switch (alt68) {
+				case 1 :
+					// Parser.g:647:7: i= insertStatement
+					{
+					pushFollow(FOLLOW_insertStatement_in_batchStatementObjective4184);
+					i=insertStatement();
+					state._fsp--;
+					if (state.failed) return statement;
+					if ( state.backtracking==0 ) { statement = i; }
+					}
+					break;
+				case 2 :
+					// Parser.g:648:7: u= updateStatement
+					{
+					pushFollow(FOLLOW_updateStatement_in_batchStatementObjective4197);
+					u=updateStatement();
+					state._fsp--;
+					if (state.failed) return statement;
+					if ( state.backtracking==0 ) { statement = u; }
+					}
+					break;
+				case 3 :
+					// Parser.g:649:7: d= deleteStatement
+					{
+					pushFollow(FOLLOW_deleteStatement_in_batchStatementObjective4210);
+					d=deleteStatement();
+					state._fsp--;
+					if (state.failed) return statement;
+					if ( state.backtracking==0 ) { statement = d; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return statement;
+	}
+	// $ANTLR end "batchStatementObjective"
+
+
+
+	// $ANTLR start "createAggregateStatement"
+	// Parser.g:652:1: createAggregateStatement returns [CreateAggregateStatement.Raw stmt] : K_CREATE ( K_OR K_REPLACE )? K_AGGREGATE ( K_IF K_NOT K_EXISTS )? fn= functionName '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' K_SFUNC sfunc= allowedFunctionName K_STYPE stype= comparatorType ( K_FINALFUNC ffunc= allowedFunctionName )? ( K_INITCOND ival= term )? ;
+	public final CreateAggregateStatement.Raw createAggregateStatement() throws RecognitionException {
+		CreateAggregateStatement.Raw stmt = null;
+
+
+		FunctionName fn =null;
+		CQL3Type.Raw v =null;
+		String sfunc =null;
+		CQL3Type.Raw stype =null;
+		String ffunc =null;
+		Term.Raw ival =null;
+
+
+		        boolean orReplace = false;
+		        boolean ifNotExists = false;
+
+		        List<CQL3Type.Raw> argTypes = new ArrayList<>();
+		    
+		try {
+			// Parser.g:659:5: ( K_CREATE ( K_OR K_REPLACE )? K_AGGREGATE ( K_IF K_NOT K_EXISTS )? fn= functionName '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' K_SFUNC sfunc= allowedFunctionName K_STYPE stype= comparatorType ( K_FINALFUNC ffunc= allowedFunctionName )? ( K_INITCOND ival= term )? )
+			// Parser.g:659:7: K_CREATE ( K_OR K_REPLACE )? K_AGGREGATE ( K_IF K_NOT K_EXISTS )? fn= functionName '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' K_SFUNC sfunc= allowedFunctionName K_STYPE stype= comparatorType ( K_FINALFUNC ffunc= allowedFunctionName )? ( K_INITCOND ival= term )?
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createAggregateStatement4243); if (state.failed) return stmt;
+			// Parser.g:659:16: ( K_OR K_REPLACE )?
+			int alt69=2;
+			int LA69_0 = input.LA(1);
+			if ( (LA69_0==K_OR) ) {
+				alt69=1;
+			}
+			switch (alt69) {
+				case 1 :
+					// Parser.g:659:17: K_OR K_REPLACE
+					{
+					match(input,K_OR,FOLLOW_K_OR_in_createAggregateStatement4246); if (state.failed) return stmt;
+					match(input,K_REPLACE,FOLLOW_K_REPLACE_in_createAggregateStatement4248); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { orReplace = true; }
+					}
+					break;
+
+			}
+
+			match(input,K_AGGREGATE,FOLLOW_K_AGGREGATE_in_createAggregateStatement4260); if (state.failed) return stmt;
+			// Parser.g:661:7: ( K_IF K_NOT K_EXISTS )?
+			int alt70=2;
+			int LA70_0 = input.LA(1);
+			if ( (LA70_0==K_IF) ) {
+				alt70=1;
+			}
+			switch (alt70) {
+				case 1 :
+					// Parser.g:661:8: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createAggregateStatement4269); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createAggregateStatement4271); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createAggregateStatement4273); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_functionName_in_createAggregateStatement4287);
+			fn=functionName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,212,FOLLOW_212_in_createAggregateStatement4295); if (state.failed) return stmt;
+			// Parser.g:664:9: (v= comparatorType ( ',' v= comparatorType )* )?
+			int alt72=2;
+			int LA72_0 = input.LA(1);
+			if ( (LA72_0==IDENT||LA72_0==K_ACCESS||(LA72_0 >= K_AGGREGATE && LA72_0 <= K_ALL)||LA72_0==K_ANN||LA72_0==K_AS||LA72_0==K_ASCII||(LA72_0 >= K_BETWEEN && LA72_0 <= K_BOOLEAN)||(LA72_0 >= K_CALLED && LA72_0 <= K_CLUSTERING)||(LA72_0 >= K_COMPACT && LA72_0 <= K_COUNTER)||(LA72_0 >= K_CUSTOM && LA72_0 <= K_DEFAULT)||(LA72_0 >= K_DISTINCT && LA72_0 <= K_DOUBLE)||LA72_0==K_DURATION||(LA72_0 >= K_EXISTS && LA72_0 <= K_FLOAT)||LA72_0==K_FROZEN||(LA72_0 >= K_FUNCTION && LA72_0 <= K_GENERATED)||(LA72_0 >= K_GROUP && LA72_0 <= K_IDENTITY)||(LA72_0 >= K_INET && LA72_0 <= K_INPUT)||(LA72_0 >= K_INT && LA72_0 <= K_INTERNALS)||(LA72_0 >= K_JSON && LA72_0 <= K_KEYS)||(LA72_0 >= K_KEYSPACES && LA72_0 <= K_LIKE)||(LA72_0 >= K_LIST && LA72_0 <= K_MASKED)||(LA72_0 >= K_MAXWRITETIME && LA72_0 <= K_MBEANS)||LA72_0==K_NOLOGIN||LA72_0==K_NOSUPERUSER||(LA72_0 >= K_ONLY && LA72_0 <= K_OPTIONS)||(LA72_0 >= K_PARTITION && LA72_0 <= K_PERMISSIONS)||(LA72_0 >= K_REPLACE && LA72_0 <= K_RETURNS)||(LA72_0 >= K_ROLE && LA72_0 <= K_ROLES)||(LA72_0 >= K_SELECT_MASKED && LA72_0 <= K_TINYINT)||LA72_0==K_TRIGGER||(LA72_0 >= K_TTL && LA72_0 <= K_TYPES)||(LA72_0 >= K_UNMASK && LA72_0 <= K_UNSET)||(LA72_0 >= K_USER && LA72_0 <= K_USERS)||(LA72_0 >= K_UUID && LA72_0 <= K_VECTOR)||LA72_0==K_WRITETIME||LA72_0==QUOTED_NAME||LA72_0==STRING_LITERAL) ) {
+				alt72=1;
+			}
+			switch (alt72) {
+				case 1 :
+					// Parser.g:665:11: v= comparatorType ( ',' v= comparatorType )*
+					{
+					pushFollow(FOLLOW_comparatorType_in_createAggregateStatement4319);
+					v=comparatorType();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { argTypes.add(v); }
+					// Parser.g:666:11: ( ',' v= comparatorType )*
+					loop71:
+					while (true) {
+						int alt71=2;
+						int LA71_0 = input.LA(1);
+						if ( (LA71_0==216) ) {
+							alt71=1;
+						}
+
+						switch (alt71) {
+						case 1 :
+							// Parser.g:666:13: ',' v= comparatorType
+							{
+							match(input,216,FOLLOW_216_in_createAggregateStatement4335); if (state.failed) return stmt;
+							pushFollow(FOLLOW_comparatorType_in_createAggregateStatement4339);
+							v=comparatorType();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { argTypes.add(v); }
+							}
+							break;
+
+						default :
+							break loop71;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,213,FOLLOW_213_in_createAggregateStatement4363); if (state.failed) return stmt;
+			match(input,K_SFUNC,FOLLOW_K_SFUNC_in_createAggregateStatement4371); if (state.failed) return stmt;
+			pushFollow(FOLLOW_allowedFunctionName_in_createAggregateStatement4377);
+			sfunc=allowedFunctionName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_STYPE,FOLLOW_K_STYPE_in_createAggregateStatement4385); if (state.failed) return stmt;
+			pushFollow(FOLLOW_comparatorType_in_createAggregateStatement4391);
+			stype=comparatorType();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:671:7: ( K_FINALFUNC ffunc= allowedFunctionName )?
+			int alt73=2;
+			int LA73_0 = input.LA(1);
+			if ( (LA73_0==K_FINALFUNC) ) {
+				alt73=1;
+			}
+			switch (alt73) {
+				case 1 :
+					// Parser.g:672:9: K_FINALFUNC ffunc= allowedFunctionName
+					{
+					match(input,K_FINALFUNC,FOLLOW_K_FINALFUNC_in_createAggregateStatement4409); if (state.failed) return stmt;
+					pushFollow(FOLLOW_allowedFunctionName_in_createAggregateStatement4415);
+					ffunc=allowedFunctionName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			// Parser.g:674:7: ( K_INITCOND ival= term )?
+			int alt74=2;
+			int LA74_0 = input.LA(1);
+			if ( (LA74_0==K_INITCOND) ) {
+				alt74=1;
+			}
+			switch (alt74) {
+				case 1 :
+					// Parser.g:675:9: K_INITCOND ival= term
+					{
+					match(input,K_INITCOND,FOLLOW_K_INITCOND_in_createAggregateStatement4442); if (state.failed) return stmt;
+					pushFollow(FOLLOW_term_in_createAggregateStatement4448);
+					ival=term();
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt = new CreateAggregateStatement.Raw(fn, argTypes, stype, sfunc, ffunc, ival, orReplace, ifNotExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createAggregateStatement"
+
+
+
+	// $ANTLR start "dropAggregateStatement"
+	// Parser.g:680:1: dropAggregateStatement returns [DropAggregateStatement.Raw stmt] : K_DROP K_AGGREGATE ( K_IF K_EXISTS )? fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )? ;
+	public final DropAggregateStatement.Raw dropAggregateStatement() throws RecognitionException {
+		DropAggregateStatement.Raw stmt = null;
+
+
+		FunctionName fn =null;
+		CQL3Type.Raw v =null;
+
+
+		        boolean ifExists = false;
+		        List<CQL3Type.Raw> argTypes = new ArrayList<>();
+		        boolean argsSpecified = false;
+		    
+		try {
+			// Parser.g:686:5: ( K_DROP K_AGGREGATE ( K_IF K_EXISTS )? fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )? )
+			// Parser.g:686:7: K_DROP K_AGGREGATE ( K_IF K_EXISTS )? fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )?
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropAggregateStatement4495); if (state.failed) return stmt;
+			match(input,K_AGGREGATE,FOLLOW_K_AGGREGATE_in_dropAggregateStatement4497); if (state.failed) return stmt;
+			// Parser.g:687:7: ( K_IF K_EXISTS )?
+			int alt75=2;
+			int LA75_0 = input.LA(1);
+			if ( (LA75_0==K_IF) ) {
+				alt75=1;
+			}
+			switch (alt75) {
+				case 1 :
+					// Parser.g:687:8: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropAggregateStatement4506); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropAggregateStatement4508); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_functionName_in_dropAggregateStatement4523);
+			fn=functionName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:689:7: ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )?
+			int alt78=2;
+			int LA78_0 = input.LA(1);
+			if ( (LA78_0==212) ) {
+				alt78=1;
+			}
+			switch (alt78) {
+				case 1 :
+					// Parser.g:690:9: '(' (v= comparatorType ( ',' v= comparatorType )* )? ')'
+					{
+					match(input,212,FOLLOW_212_in_dropAggregateStatement4541); if (state.failed) return stmt;
+					// Parser.g:691:11: (v= comparatorType ( ',' v= comparatorType )* )?
+					int alt77=2;
+					int LA77_0 = input.LA(1);
+					if ( (LA77_0==IDENT||LA77_0==K_ACCESS||(LA77_0 >= K_AGGREGATE && LA77_0 <= K_ALL)||LA77_0==K_ANN||LA77_0==K_AS||LA77_0==K_ASCII||(LA77_0 >= K_BETWEEN && LA77_0 <= K_BOOLEAN)||(LA77_0 >= K_CALLED && LA77_0 <= K_CLUSTERING)||(LA77_0 >= K_COMPACT && LA77_0 <= K_COUNTER)||(LA77_0 >= K_CUSTOM && LA77_0 <= K_DEFAULT)||(LA77_0 >= K_DISTINCT && LA77_0 <= K_DOUBLE)||LA77_0==K_DURATION||(LA77_0 >= K_EXISTS && LA77_0 <= K_FLOAT)||LA77_0==K_FROZEN||(LA77_0 >= K_FUNCTION && LA77_0 <= K_GENERATED)||(LA77_0 >= K_GROUP && LA77_0 <= K_IDENTITY)||(LA77_0 >= K_INET && LA77_0 <= K_INPUT)||(LA77_0 >= K_INT && LA77_0 <= K_INTERNALS)||(LA77_0 >= K_JSON && LA77_0 <= K_KEYS)||(LA77_0 >= K_KEYSPACES && LA77_0 <= K_LIKE)||(LA77_0 >= K_LIST && LA77_0 <= K_MASKED)||(LA77_0 >= K_MAXWRITETIME && LA77_0 <= K_MBEANS)||LA77_0==K_NOLOGIN||LA77_0==K_NOSUPERUSER||(LA77_0 >= K_ONLY && LA77_0 <= K_OPTIONS)||(LA77_0 >= K_PARTITION && LA77_0 <= K_PERMISSIONS)||(LA77_0 >= K_REPLACE && LA77_0 <= K_RETURNS)||(LA77_0 >= K_ROLE && LA77_0 <= K_ROLES)||(LA77_0 >= K_SELECT_MASKED && LA77_0 <= K_TINYINT)||LA77_0==K_TRIGGER||(LA77_0 >= K_TTL && LA77_0 <= K_TYPES)||(LA77_0 >= K_UNMASK && LA77_0 <= K_UNSET)||(LA77_0 >= K_USER && LA77_0 <= K_USERS)||(LA77_0 >= K_UUID && LA77_0 <= K_VECTOR)||LA77_0==K_WRITETIME||LA77_0==QUOTED_NAME||LA77_0==STRING_LITERAL) ) {
+						alt77=1;
+					}
+					switch (alt77) {
+						case 1 :
+							// Parser.g:692:13: v= comparatorType ( ',' v= comparatorType )*
+							{
+							pushFollow(FOLLOW_comparatorType_in_dropAggregateStatement4569);
+							v=comparatorType();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { argTypes.add(v); }
+							// Parser.g:693:13: ( ',' v= comparatorType )*
+							loop76:
+							while (true) {
+								int alt76=2;
+								int LA76_0 = input.LA(1);
+								if ( (LA76_0==216) ) {
+									alt76=1;
+								}
+
+								switch (alt76) {
+								case 1 :
+									// Parser.g:693:15: ',' v= comparatorType
+									{
+									match(input,216,FOLLOW_216_in_dropAggregateStatement4587); if (state.failed) return stmt;
+									pushFollow(FOLLOW_comparatorType_in_dropAggregateStatement4591);
+									v=comparatorType();
+									state._fsp--;
+									if (state.failed) return stmt;
+									if ( state.backtracking==0 ) { argTypes.add(v); }
+									}
+									break;
+
+								default :
+									break loop76;
+								}
+							}
+
+							}
+							break;
+
+					}
+
+					match(input,213,FOLLOW_213_in_dropAggregateStatement4619); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { argsSpecified = true; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt = new DropAggregateStatement.Raw(fn, argTypes, argsSpecified, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropAggregateStatement"
+
+
+
+	// $ANTLR start "createFunctionStatement"
+	// Parser.g:701:1: createFunctionStatement returns [CreateFunctionStatement.Raw stmt] : K_CREATE ( K_OR K_REPLACE )? K_FUNCTION ( K_IF K_NOT K_EXISTS )? fn= functionName '(' (k= noncol_ident v= comparatorType ( ',' k= noncol_ident v= comparatorType )* )? ')' ( ( K_RETURNS K_NULL ) | ( K_CALLED ) ) K_ON K_NULL K_INPUT K_RETURNS returnType= comparatorType K_LANGUAGE language= IDENT K_AS body= STRING_LITERAL ;
+	public final CreateFunctionStatement.Raw createFunctionStatement() throws RecognitionException {
+		CreateFunctionStatement.Raw stmt = null;
+
+
+		Token language=null;
+		Token body=null;
+		FunctionName fn =null;
+		ColumnIdentifier k =null;
+		CQL3Type.Raw v =null;
+		CQL3Type.Raw returnType =null;
+
+
+		        boolean orReplace = false;
+		        boolean ifNotExists = false;
+
+		        List<ColumnIdentifier> argNames = new ArrayList<>();
+		        List<CQL3Type.Raw> argTypes = new ArrayList<>();
+		        boolean calledOnNullInput = false;
+		    
+		try {
+			// Parser.g:710:5: ( K_CREATE ( K_OR K_REPLACE )? K_FUNCTION ( K_IF K_NOT K_EXISTS )? fn= functionName '(' (k= noncol_ident v= comparatorType ( ',' k= noncol_ident v= comparatorType )* )? ')' ( ( K_RETURNS K_NULL ) | ( K_CALLED ) ) K_ON K_NULL K_INPUT K_RETURNS returnType= comparatorType K_LANGUAGE language= IDENT K_AS body= STRING_LITERAL )
+			// Parser.g:710:7: K_CREATE ( K_OR K_REPLACE )? K_FUNCTION ( K_IF K_NOT K_EXISTS )? fn= functionName '(' (k= noncol_ident v= comparatorType ( ',' k= noncol_ident v= comparatorType )* )? ')' ( ( K_RETURNS K_NULL ) | ( K_CALLED ) ) K_ON K_NULL K_INPUT K_RETURNS returnType= comparatorType K_LANGUAGE language= IDENT K_AS body= STRING_LITERAL
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createFunctionStatement4676); if (state.failed) return stmt;
+			// Parser.g:710:16: ( K_OR K_REPLACE )?
+			int alt79=2;
+			int LA79_0 = input.LA(1);
+			if ( (LA79_0==K_OR) ) {
+				alt79=1;
+			}
+			switch (alt79) {
+				case 1 :
+					// Parser.g:710:17: K_OR K_REPLACE
+					{
+					match(input,K_OR,FOLLOW_K_OR_in_createFunctionStatement4679); if (state.failed) return stmt;
+					match(input,K_REPLACE,FOLLOW_K_REPLACE_in_createFunctionStatement4681); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { orReplace = true; }
+					}
+					break;
+
+			}
+
+			match(input,K_FUNCTION,FOLLOW_K_FUNCTION_in_createFunctionStatement4693); if (state.failed) return stmt;
+			// Parser.g:712:7: ( K_IF K_NOT K_EXISTS )?
+			int alt80=2;
+			int LA80_0 = input.LA(1);
+			if ( (LA80_0==K_IF) ) {
+				alt80=1;
+			}
+			switch (alt80) {
+				case 1 :
+					// Parser.g:712:8: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createFunctionStatement4702); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createFunctionStatement4704); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createFunctionStatement4706); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_functionName_in_createFunctionStatement4720);
+			fn=functionName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,212,FOLLOW_212_in_createFunctionStatement4728); if (state.failed) return stmt;
+			// Parser.g:715:9: (k= noncol_ident v= comparatorType ( ',' k= noncol_ident v= comparatorType )* )?
+			int alt82=2;
+			int LA82_0 = input.LA(1);
+			if ( (LA82_0==IDENT||LA82_0==K_ACCESS||(LA82_0 >= K_AGGREGATE && LA82_0 <= K_ALL)||LA82_0==K_ANN||LA82_0==K_AS||LA82_0==K_ASCII||(LA82_0 >= K_BETWEEN && LA82_0 <= K_BOOLEAN)||(LA82_0 >= K_CALLED && LA82_0 <= K_CLUSTERING)||(LA82_0 >= K_COMPACT && LA82_0 <= K_COUNTER)||(LA82_0 >= K_CUSTOM && LA82_0 <= K_DEFAULT)||(LA82_0 >= K_DISTINCT && LA82_0 <= K_DOUBLE)||LA82_0==K_DURATION||(LA82_0 >= K_EXISTS && LA82_0 <= K_FLOAT)||LA82_0==K_FROZEN||(LA82_0 >= K_FUNCTION && LA82_0 <= K_GENERATED)||(LA82_0 >= K_GROUP && LA82_0 <= K_IDENTITY)||(LA82_0 >= K_INET && LA82_0 <= K_INPUT)||(LA82_0 >= K_INT && LA82_0 <= K_INTERNALS)||(LA82_0 >= K_JSON && LA82_0 <= K_KEYS)||(LA82_0 >= K_KEYSPACES && LA82_0 <= K_LIKE)||(LA82_0 >= K_LIST && LA82_0 <= K_MASKED)||(LA82_0 >= K_MAXWRITETIME && LA82_0 <= K_MBEANS)||LA82_0==K_NOLOGIN||LA82_0==K_NOSUPERUSER||(LA82_0 >= K_ONLY && LA82_0 <= K_OPTIONS)||(LA82_0 >= K_PARTITION && LA82_0 <= K_PERMISSIONS)||(LA82_0 >= K_REPLACE && LA82_0 <= K_RETURNS)||(LA82_0 >= K_ROLE && LA82_0 <= K_ROLES)||LA82_0==K_SELECT_MASKED||(LA82_0 >= K_SFUNC && LA82_0 <= K_TINYINT)||LA82_0==K_TRIGGER||(LA82_0 >= K_TTL && LA82_0 <= K_TYPES)||(LA82_0 >= K_UNMASK && LA82_0 <= K_UNSET)||(LA82_0 >= K_USER && LA82_0 <= K_USERS)||(LA82_0 >= K_UUID && LA82_0 <= K_VECTOR)||LA82_0==K_WRITETIME||LA82_0==QUOTED_NAME) ) {
+				alt82=1;
+			}
+			switch (alt82) {
+				case 1 :
+					// Parser.g:716:11: k= noncol_ident v= comparatorType ( ',' k= noncol_ident v= comparatorType )*
+					{
+					pushFollow(FOLLOW_noncol_ident_in_createFunctionStatement4752);
+					k=noncol_ident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					pushFollow(FOLLOW_comparatorType_in_createFunctionStatement4756);
+					v=comparatorType();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { argNames.add(k); argTypes.add(v); }
+					// Parser.g:717:11: ( ',' k= noncol_ident v= comparatorType )*
+					loop81:
+					while (true) {
+						int alt81=2;
+						int LA81_0 = input.LA(1);
+						if ( (LA81_0==216) ) {
+							alt81=1;
+						}
+
+						switch (alt81) {
+						case 1 :
+							// Parser.g:717:13: ',' k= noncol_ident v= comparatorType
+							{
+							match(input,216,FOLLOW_216_in_createFunctionStatement4772); if (state.failed) return stmt;
+							pushFollow(FOLLOW_noncol_ident_in_createFunctionStatement4776);
+							k=noncol_ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							pushFollow(FOLLOW_comparatorType_in_createFunctionStatement4780);
+							v=comparatorType();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { argNames.add(k); argTypes.add(v); }
+							}
+							break;
+
+						default :
+							break loop81;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,213,FOLLOW_213_in_createFunctionStatement4804); if (state.failed) return stmt;
+			// Parser.g:720:7: ( ( K_RETURNS K_NULL ) | ( K_CALLED ) )
+			int alt83=2;
+			int LA83_0 = input.LA(1);
+			if ( (LA83_0==K_RETURNS) ) {
+				alt83=1;
+			}
+			else if ( (LA83_0==K_CALLED) ) {
+				alt83=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return stmt;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 83, 0, input);
+				throw nvae;
+			}
+
+			switch (alt83) {
+				case 1 :
+					// Parser.g:720:9: ( K_RETURNS K_NULL )
+					{
+					// Parser.g:720:9: ( K_RETURNS K_NULL )
+					// Parser.g:720:10: K_RETURNS K_NULL
+					{
+					match(input,K_RETURNS,FOLLOW_K_RETURNS_in_createFunctionStatement4815); if (state.failed) return stmt;
+					match(input,K_NULL,FOLLOW_K_NULL_in_createFunctionStatement4817); if (state.failed) return stmt;
+					}
+
+					}
+					break;
+				case 2 :
+					// Parser.g:720:30: ( K_CALLED )
+					{
+					// Parser.g:720:30: ( K_CALLED )
+					// Parser.g:720:31: K_CALLED
+					{
+					match(input,K_CALLED,FOLLOW_K_CALLED_in_createFunctionStatement4823); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { calledOnNullInput=true; }
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,K_ON,FOLLOW_K_ON_in_createFunctionStatement4829); if (state.failed) return stmt;
+			match(input,K_NULL,FOLLOW_K_NULL_in_createFunctionStatement4831); if (state.failed) return stmt;
+			match(input,K_INPUT,FOLLOW_K_INPUT_in_createFunctionStatement4833); if (state.failed) return stmt;
+			match(input,K_RETURNS,FOLLOW_K_RETURNS_in_createFunctionStatement4841); if (state.failed) return stmt;
+			pushFollow(FOLLOW_comparatorType_in_createFunctionStatement4847);
+			returnType=comparatorType();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_LANGUAGE,FOLLOW_K_LANGUAGE_in_createFunctionStatement4855); if (state.failed) return stmt;
+			language=(Token)match(input,IDENT,FOLLOW_IDENT_in_createFunctionStatement4861); if (state.failed) return stmt;
+			match(input,K_AS,FOLLOW_K_AS_in_createFunctionStatement4869); if (state.failed) return stmt;
+			body=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_createFunctionStatement4875); if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new CreateFunctionStatement.Raw(
+			          fn, argNames, argTypes, returnType, calledOnNullInput, (language!=null?language.getText():null).toLowerCase(), (body!=null?body.getText():null), orReplace, ifNotExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createFunctionStatement"
+
+
+
+	// $ANTLR start "dropFunctionStatement"
+	// Parser.g:729:1: dropFunctionStatement returns [DropFunctionStatement.Raw stmt] : K_DROP K_FUNCTION ( K_IF K_EXISTS )? fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )? ;
+	public final DropFunctionStatement.Raw dropFunctionStatement() throws RecognitionException {
+		DropFunctionStatement.Raw stmt = null;
+
+
+		FunctionName fn =null;
+		CQL3Type.Raw v =null;
+
+
+		        boolean ifExists = false;
+		        List<CQL3Type.Raw> argTypes = new ArrayList<>();
+		        boolean argsSpecified = false;
+		    
+		try {
+			// Parser.g:735:5: ( K_DROP K_FUNCTION ( K_IF K_EXISTS )? fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )? )
+			// Parser.g:735:7: K_DROP K_FUNCTION ( K_IF K_EXISTS )? fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )?
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropFunctionStatement4913); if (state.failed) return stmt;
+			match(input,K_FUNCTION,FOLLOW_K_FUNCTION_in_dropFunctionStatement4915); if (state.failed) return stmt;
+			// Parser.g:736:7: ( K_IF K_EXISTS )?
+			int alt84=2;
+			int LA84_0 = input.LA(1);
+			if ( (LA84_0==K_IF) ) {
+				alt84=1;
+			}
+			switch (alt84) {
+				case 1 :
+					// Parser.g:736:8: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropFunctionStatement4924); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropFunctionStatement4926); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_functionName_in_dropFunctionStatement4941);
+			fn=functionName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:738:7: ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )?
+			int alt87=2;
+			int LA87_0 = input.LA(1);
+			if ( (LA87_0==212) ) {
+				alt87=1;
+			}
+			switch (alt87) {
+				case 1 :
+					// Parser.g:739:9: '(' (v= comparatorType ( ',' v= comparatorType )* )? ')'
+					{
+					match(input,212,FOLLOW_212_in_dropFunctionStatement4959); if (state.failed) return stmt;
+					// Parser.g:740:11: (v= comparatorType ( ',' v= comparatorType )* )?
+					int alt86=2;
+					int LA86_0 = input.LA(1);
+					if ( (LA86_0==IDENT||LA86_0==K_ACCESS||(LA86_0 >= K_AGGREGATE && LA86_0 <= K_ALL)||LA86_0==K_ANN||LA86_0==K_AS||LA86_0==K_ASCII||(LA86_0 >= K_BETWEEN && LA86_0 <= K_BOOLEAN)||(LA86_0 >= K_CALLED && LA86_0 <= K_CLUSTERING)||(LA86_0 >= K_COMPACT && LA86_0 <= K_COUNTER)||(LA86_0 >= K_CUSTOM && LA86_0 <= K_DEFAULT)||(LA86_0 >= K_DISTINCT && LA86_0 <= K_DOUBLE)||LA86_0==K_DURATION||(LA86_0 >= K_EXISTS && LA86_0 <= K_FLOAT)||LA86_0==K_FROZEN||(LA86_0 >= K_FUNCTION && LA86_0 <= K_GENERATED)||(LA86_0 >= K_GROUP && LA86_0 <= K_IDENTITY)||(LA86_0 >= K_INET && LA86_0 <= K_INPUT)||(LA86_0 >= K_INT && LA86_0 <= K_INTERNALS)||(LA86_0 >= K_JSON && LA86_0 <= K_KEYS)||(LA86_0 >= K_KEYSPACES && LA86_0 <= K_LIKE)||(LA86_0 >= K_LIST && LA86_0 <= K_MASKED)||(LA86_0 >= K_MAXWRITETIME && LA86_0 <= K_MBEANS)||LA86_0==K_NOLOGIN||LA86_0==K_NOSUPERUSER||(LA86_0 >= K_ONLY && LA86_0 <= K_OPTIONS)||(LA86_0 >= K_PARTITION && LA86_0 <= K_PERMISSIONS)||(LA86_0 >= K_REPLACE && LA86_0 <= K_RETURNS)||(LA86_0 >= K_ROLE && LA86_0 <= K_ROLES)||(LA86_0 >= K_SELECT_MASKED && LA86_0 <= K_TINYINT)||LA86_0==K_TRIGGER||(LA86_0 >= K_TTL && LA86_0 <= K_TYPES)||(LA86_0 >= K_UNMASK && LA86_0 <= K_UNSET)||(LA86_0 >= K_USER && LA86_0 <= K_USERS)||(LA86_0 >= K_UUID && LA86_0 <= K_VECTOR)||LA86_0==K_WRITETIME||LA86_0==QUOTED_NAME||LA86_0==STRING_LITERAL) ) {
+						alt86=1;
+					}
+					switch (alt86) {
+						case 1 :
+							// Parser.g:741:13: v= comparatorType ( ',' v= comparatorType )*
+							{
+							pushFollow(FOLLOW_comparatorType_in_dropFunctionStatement4987);
+							v=comparatorType();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { argTypes.add(v); }
+							// Parser.g:742:13: ( ',' v= comparatorType )*
+							loop85:
+							while (true) {
+								int alt85=2;
+								int LA85_0 = input.LA(1);
+								if ( (LA85_0==216) ) {
+									alt85=1;
+								}
+
+								switch (alt85) {
+								case 1 :
+									// Parser.g:742:15: ',' v= comparatorType
+									{
+									match(input,216,FOLLOW_216_in_dropFunctionStatement5005); if (state.failed) return stmt;
+									pushFollow(FOLLOW_comparatorType_in_dropFunctionStatement5009);
+									v=comparatorType();
+									state._fsp--;
+									if (state.failed) return stmt;
+									if ( state.backtracking==0 ) { argTypes.add(v); }
+									}
+									break;
+
+								default :
+									break loop85;
+								}
+							}
+
+							}
+							break;
+
+					}
+
+					match(input,213,FOLLOW_213_in_dropFunctionStatement5037); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { argsSpecified = true; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt = new DropFunctionStatement.Raw(fn, argTypes, argsSpecified, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropFunctionStatement"
+
+
+
+	// $ANTLR start "createKeyspaceStatement"
+	// Parser.g:753:1: createKeyspaceStatement returns [CreateKeyspaceStatement.Raw stmt] : K_CREATE K_KEYSPACE ( K_IF K_NOT K_EXISTS )? ks= keyspaceName K_WITH properties[attrs] ;
+	public final CreateKeyspaceStatement.Raw createKeyspaceStatement() throws RecognitionException {
+		CreateKeyspaceStatement.Raw stmt = null;
+
+
+		String ks =null;
+
+
+		        KeyspaceAttributes attrs = new KeyspaceAttributes();
+		        boolean ifNotExists = false;
+		    
+		try {
+			// Parser.g:758:5: ( K_CREATE K_KEYSPACE ( K_IF K_NOT K_EXISTS )? ks= keyspaceName K_WITH properties[attrs] )
+			// Parser.g:758:7: K_CREATE K_KEYSPACE ( K_IF K_NOT K_EXISTS )? ks= keyspaceName K_WITH properties[attrs]
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createKeyspaceStatement5096); if (state.failed) return stmt;
+			match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_createKeyspaceStatement5098); if (state.failed) return stmt;
+			// Parser.g:758:27: ( K_IF K_NOT K_EXISTS )?
+			int alt88=2;
+			int LA88_0 = input.LA(1);
+			if ( (LA88_0==K_IF) ) {
+				alt88=1;
+			}
+			switch (alt88) {
+				case 1 :
+					// Parser.g:758:28: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createKeyspaceStatement5101); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createKeyspaceStatement5103); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createKeyspaceStatement5105); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_keyspaceName_in_createKeyspaceStatement5114);
+			ks=keyspaceName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_WITH,FOLLOW_K_WITH_in_createKeyspaceStatement5122); if (state.failed) return stmt;
+			pushFollow(FOLLOW_properties_in_createKeyspaceStatement5124);
+			properties(attrs);
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new CreateKeyspaceStatement.Raw(ks, attrs, ifNotExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createKeyspaceStatement"
+
+
+
+	// $ANTLR start "createTableStatement"
+	// Parser.g:769:1: createTableStatement returns [CreateTableStatement.Raw stmt] : K_CREATE K_COLUMNFAMILY ( K_IF K_NOT K_EXISTS )? cf= columnFamilyName tableDefinition[stmt] ;
+	public final CreateTableStatement.Raw createTableStatement() throws RecognitionException {
+		CreateTableStatement.Raw stmt = null;
+
+
+		QualifiedName cf =null;
+
+		 boolean ifNotExists = false; 
+		try {
+			// Parser.g:771:5: ( K_CREATE K_COLUMNFAMILY ( K_IF K_NOT K_EXISTS )? cf= columnFamilyName tableDefinition[stmt] )
+			// Parser.g:771:7: K_CREATE K_COLUMNFAMILY ( K_IF K_NOT K_EXISTS )? cf= columnFamilyName tableDefinition[stmt]
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createTableStatement5159); if (state.failed) return stmt;
+			match(input,K_COLUMNFAMILY,FOLLOW_K_COLUMNFAMILY_in_createTableStatement5161); if (state.failed) return stmt;
+			// Parser.g:771:31: ( K_IF K_NOT K_EXISTS )?
+			int alt89=2;
+			int LA89_0 = input.LA(1);
+			if ( (LA89_0==K_IF) ) {
+				alt89=1;
+			}
+			switch (alt89) {
+				case 1 :
+					// Parser.g:771:32: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createTableStatement5164); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createTableStatement5166); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createTableStatement5168); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_createTableStatement5183);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new CreateTableStatement.Raw(cf, ifNotExists); }
+			pushFollow(FOLLOW_tableDefinition_in_createTableStatement5193);
+			tableDefinition(stmt);
+			state._fsp--;
+			if (state.failed) return stmt;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createTableStatement"
+
+
+
+	// $ANTLR start "tableDefinition"
+	// Parser.g:776:1: tableDefinition[CreateTableStatement.Raw stmt] : '(' tableColumns[stmt] ( ',' ( tableColumns[stmt] )? )* ')' ( K_WITH tableProperty[stmt] ( K_AND tableProperty[stmt] )* )? ;
+	public final void tableDefinition(CreateTableStatement.Raw stmt) throws RecognitionException {
+		try {
+			// Parser.g:777:5: ( '(' tableColumns[stmt] ( ',' ( tableColumns[stmt] )? )* ')' ( K_WITH tableProperty[stmt] ( K_AND tableProperty[stmt] )* )? )
+			// Parser.g:777:7: '(' tableColumns[stmt] ( ',' ( tableColumns[stmt] )? )* ')' ( K_WITH tableProperty[stmt] ( K_AND tableProperty[stmt] )* )?
+			{
+			match(input,212,FOLLOW_212_in_tableDefinition5212); if (state.failed) return;
+			pushFollow(FOLLOW_tableColumns_in_tableDefinition5214);
+			tableColumns(stmt);
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:777:30: ( ',' ( tableColumns[stmt] )? )*
+			loop91:
+			while (true) {
+				int alt91=2;
+				int LA91_0 = input.LA(1);
+				if ( (LA91_0==216) ) {
+					alt91=1;
+				}
+
+				switch (alt91) {
+				case 1 :
+					// Parser.g:777:32: ',' ( tableColumns[stmt] )?
+					{
+					match(input,216,FOLLOW_216_in_tableDefinition5219); if (state.failed) return;
+					// Parser.g:777:36: ( tableColumns[stmt] )?
+					int alt90=2;
+					int LA90_0 = input.LA(1);
+					if ( (LA90_0==IDENT||LA90_0==K_ACCESS||(LA90_0 >= K_AGGREGATE && LA90_0 <= K_ALL)||LA90_0==K_ANN||LA90_0==K_AS||LA90_0==K_ASCII||(LA90_0 >= K_BETWEEN && LA90_0 <= K_BOOLEAN)||(LA90_0 >= K_CALLED && LA90_0 <= K_CLUSTERING)||(LA90_0 >= K_COMPACT && LA90_0 <= K_COUNTER)||(LA90_0 >= K_CUSTOM && LA90_0 <= K_DEFAULT)||(LA90_0 >= K_DISTINCT && LA90_0 <= K_DOUBLE)||LA90_0==K_DURATION||(LA90_0 >= K_EXISTS && LA90_0 <= K_FLOAT)||LA90_0==K_FROZEN||(LA90_0 >= K_FUNCTION && LA90_0 <= K_GENERATED)||(LA90_0 >= K_GROUP && LA90_0 <= K_IDENTITY)||(LA90_0 >= K_INET && LA90_0 <= K_INPUT)||(LA90_0 >= K_INT && LA90_0 <= K_INTERNALS)||(LA90_0 >= K_JSON && LA90_0 <= K_KEYS)||(LA90_0 >= K_KEYSPACES && LA90_0 <= K_LIKE)||(LA90_0 >= K_LIST && LA90_0 <= K_MASKED)||(LA90_0 >= K_MAXWRITETIME && LA90_0 <= K_MBEANS)||LA90_0==K_NOLOGIN||LA90_0==K_NOSUPERUSER||(LA90_0 >= K_ONLY && LA90_0 <= K_OPTIONS)||(LA90_0 >= K_PARTITION && LA90_0 <= K_PERMISSIONS)||LA90_0==K_PRIMARY||(LA90_0 >= K_REPLACE && LA90_0 <= K_RETURNS)||(LA90_0 >= K_ROLE && LA90_0 <= K_ROLES)||LA90_0==K_SELECT_MASKED||(LA90_0 >= K_SFUNC && LA90_0 <= K_TINYINT)||LA90_0==K_TRIGGER||(LA90_0 >= K_TTL && LA90_0 <= K_TYPES)||(LA90_0 >= K_UNMASK && LA90_0 <= K_UNSET)||(LA90_0 >= K_USER && LA90_0 <= K_USERS)||(LA90_0 >= K_UUID && LA90_0 <= K_VECTOR)||LA90_0==K_WRITETIME||LA90_0==QUOTED_NAME) ) {
+						alt90=1;
+					}
+					switch (alt90) {
+						case 1 :
+							// Parser.g:777:36: tableColumns[stmt]
+							{
+							pushFollow(FOLLOW_tableColumns_in_tableDefinition5221);
+							tableColumns(stmt);
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+				default :
+					break loop91;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_tableDefinition5228); if (state.failed) return;
+			// Parser.g:778:7: ( K_WITH tableProperty[stmt] ( K_AND tableProperty[stmt] )* )?
+			int alt93=2;
+			int LA93_0 = input.LA(1);
+			if ( (LA93_0==K_WITH) ) {
+				alt93=1;
+			}
+			switch (alt93) {
+				case 1 :
+					// Parser.g:778:9: K_WITH tableProperty[stmt] ( K_AND tableProperty[stmt] )*
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_tableDefinition5238); if (state.failed) return;
+					pushFollow(FOLLOW_tableProperty_in_tableDefinition5240);
+					tableProperty(stmt);
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:778:36: ( K_AND tableProperty[stmt] )*
+					loop92:
+					while (true) {
+						int alt92=2;
+						int LA92_0 = input.LA(1);
+						if ( (LA92_0==K_AND) ) {
+							alt92=1;
+						}
+
+						switch (alt92) {
+						case 1 :
+							// Parser.g:778:38: K_AND tableProperty[stmt]
+							{
+							match(input,K_AND,FOLLOW_K_AND_in_tableDefinition5245); if (state.failed) return;
+							pushFollow(FOLLOW_tableProperty_in_tableDefinition5247);
+							tableProperty(stmt);
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+						default :
+							break loop92;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "tableDefinition"
+
+
+
+	// $ANTLR start "tableColumns"
+	// Parser.g:781:1: tableColumns[CreateTableStatement.Raw stmt] : (k= ident v= comparatorType ( K_STATIC )? (mask= columnMask )? ( K_PRIMARY K_KEY )? | K_PRIMARY K_KEY '(' tablePartitionKey[stmt] ( ',' c= ident )* ')' );
+	public final void tableColumns(CreateTableStatement.Raw stmt) throws RecognitionException {
+		ColumnIdentifier k =null;
+		CQL3Type.Raw v =null;
+		ColumnMask.Raw mask =null;
+		ColumnIdentifier c =null;
+
+		 boolean isStatic = false; 
+		try {
+			// Parser.g:783:5: (k= ident v= comparatorType ( K_STATIC )? (mask= columnMask )? ( K_PRIMARY K_KEY )? | K_PRIMARY K_KEY '(' tablePartitionKey[stmt] ( ',' c= ident )* ')' )
+			int alt98=2;
+			int LA98_0 = input.LA(1);
+			if ( (LA98_0==IDENT||LA98_0==K_ACCESS||(LA98_0 >= K_AGGREGATE && LA98_0 <= K_ALL)||LA98_0==K_ANN||LA98_0==K_AS||LA98_0==K_ASCII||(LA98_0 >= K_BETWEEN && LA98_0 <= K_BOOLEAN)||(LA98_0 >= K_CALLED && LA98_0 <= K_CLUSTERING)||(LA98_0 >= K_COMPACT && LA98_0 <= K_COUNTER)||(LA98_0 >= K_CUSTOM && LA98_0 <= K_DEFAULT)||(LA98_0 >= K_DISTINCT && LA98_0 <= K_DOUBLE)||LA98_0==K_DURATION||(LA98_0 >= K_EXISTS && LA98_0 <= K_FLOAT)||LA98_0==K_FROZEN||(LA98_0 >= K_FUNCTION && LA98_0 <= K_GENERATED)||(LA98_0 >= K_GROUP && LA98_0 <= K_IDENTITY)||(LA98_0 >= K_INET && LA98_0 <= K_INPUT)||(LA98_0 >= K_INT && LA98_0 <= K_INTERNALS)||(LA98_0 >= K_JSON && LA98_0 <= K_KEYS)||(LA98_0 >= K_KEYSPACES && LA98_0 <= K_LIKE)||(LA98_0 >= K_LIST && LA98_0 <= K_MASKED)||(LA98_0 >= K_MAXWRITETIME && LA98_0 <= K_MBEANS)||LA98_0==K_NOLOGIN||LA98_0==K_NOSUPERUSER||(LA98_0 >= K_ONLY && LA98_0 <= K_OPTIONS)||(LA98_0 >= K_PARTITION && LA98_0 <= K_PERMISSIONS)||(LA98_0 >= K_REPLACE && LA98_0 <= K_RETURNS)||(LA98_0 >= K_ROLE && LA98_0 <= K_ROLES)||LA98_0==K_SELECT_MASKED||(LA98_0 >= K_SFUNC && LA98_0 <= K_TINYINT)||LA98_0==K_TRIGGER||(LA98_0 >= K_TTL && LA98_0 <= K_TYPES)||(LA98_0 >= K_UNMASK && LA98_0 <= K_UNSET)||(LA98_0 >= K_USER && LA98_0 <= K_USERS)||(LA98_0 >= K_UUID && LA98_0 <= K_VECTOR)||LA98_0==K_WRITETIME||LA98_0==QUOTED_NAME) ) {
+				alt98=1;
+			}
+			else if ( (LA98_0==K_PRIMARY) ) {
+				alt98=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 98, 0, input);
+				throw nvae;
+			}
+
+			switch (alt98) {
+				case 1 :
+					// Parser.g:783:7: k= ident v= comparatorType ( K_STATIC )? (mask= columnMask )? ( K_PRIMARY K_KEY )?
+					{
+					pushFollow(FOLLOW_ident_in_tableColumns5282);
+					k=ident();
+					state._fsp--;
+					if (state.failed) return;
+					pushFollow(FOLLOW_comparatorType_in_tableColumns5286);
+					v=comparatorType();
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:783:32: ( K_STATIC )?
+					int alt94=2;
+					int LA94_0 = input.LA(1);
+					if ( (LA94_0==K_STATIC) ) {
+						alt94=1;
+					}
+					switch (alt94) {
+						case 1 :
+							// Parser.g:783:33: K_STATIC
+							{
+							match(input,K_STATIC,FOLLOW_K_STATIC_in_tableColumns5289); if (state.failed) return;
+							if ( state.backtracking==0 ) { isStatic = true; }
+							}
+							break;
+
+					}
+
+					// Parser.g:783:65: (mask= columnMask )?
+					int alt95=2;
+					int LA95_0 = input.LA(1);
+					if ( (LA95_0==K_MASKED) ) {
+						alt95=1;
+					}
+					switch (alt95) {
+						case 1 :
+							// Parser.g:783:66: mask= columnMask
+							{
+							pushFollow(FOLLOW_columnMask_in_tableColumns5298);
+							mask=columnMask();
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) { stmt.addColumn(k, v, isStatic, mask); }
+					// Parser.g:784:9: ( K_PRIMARY K_KEY )?
+					int alt96=2;
+					int LA96_0 = input.LA(1);
+					if ( (LA96_0==K_PRIMARY) ) {
+						alt96=1;
+					}
+					switch (alt96) {
+						case 1 :
+							// Parser.g:784:10: K_PRIMARY K_KEY
+							{
+							match(input,K_PRIMARY,FOLLOW_K_PRIMARY_in_tableColumns5313); if (state.failed) return;
+							match(input,K_KEY,FOLLOW_K_KEY_in_tableColumns5315); if (state.failed) return;
+							if ( state.backtracking==0 ) { stmt.setPartitionKeyColumn(k); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 2 :
+					// Parser.g:785:7: K_PRIMARY K_KEY '(' tablePartitionKey[stmt] ( ',' c= ident )* ')'
+					{
+					match(input,K_PRIMARY,FOLLOW_K_PRIMARY_in_tableColumns5327); if (state.failed) return;
+					match(input,K_KEY,FOLLOW_K_KEY_in_tableColumns5329); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_tableColumns5331); if (state.failed) return;
+					pushFollow(FOLLOW_tablePartitionKey_in_tableColumns5333);
+					tablePartitionKey(stmt);
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:785:51: ( ',' c= ident )*
+					loop97:
+					while (true) {
+						int alt97=2;
+						int LA97_0 = input.LA(1);
+						if ( (LA97_0==216) ) {
+							alt97=1;
+						}
+
+						switch (alt97) {
+						case 1 :
+							// Parser.g:785:52: ',' c= ident
+							{
+							match(input,216,FOLLOW_216_in_tableColumns5337); if (state.failed) return;
+							pushFollow(FOLLOW_ident_in_tableColumns5341);
+							c=ident();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { stmt.markClusteringColumn(c); }
+							}
+							break;
+
+						default :
+							break loop97;
+						}
+					}
+
+					match(input,213,FOLLOW_213_in_tableColumns5348); if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "tableColumns"
+
+
+
+	// $ANTLR start "columnMask"
+	// Parser.g:788:1: columnMask returns [ColumnMask.Raw mask] : ( K_MASKED K_WITH name= functionName columnMaskArguments[arguments] | K_MASKED K_WITH K_DEFAULT );
+	public final ColumnMask.Raw columnMask() throws RecognitionException {
+		ColumnMask.Raw mask = null;
+
+
+		FunctionName name =null;
+
+		 List<Term.Raw> arguments = new ArrayList<>(); 
+		try {
+			// Parser.g:790:5: ( K_MASKED K_WITH name= functionName columnMaskArguments[arguments] | K_MASKED K_WITH K_DEFAULT )
+			int alt99=2;
+			int LA99_0 = input.LA(1);
+			if ( (LA99_0==K_MASKED) ) {
+				int LA99_1 = input.LA(2);
+				if ( (LA99_1==K_WITH) ) {
+					int LA99_2 = input.LA(3);
+					if ( (LA99_2==K_DEFAULT) ) {
+						int LA99_3 = input.LA(4);
+						if ( (LA99_3==EOF||LA99_3==K_PRIMARY||LA99_3==213||LA99_3==216||LA99_3==222) ) {
+							alt99=2;
+						}
+						else if ( (LA99_3==212||LA99_3==219) ) {
+							alt99=1;
+						}
+
+						else {
+							if (state.backtracking>0) {state.failed=true; return mask;}
+							int nvaeMark = input.mark();
+							try {
+								for (int nvaeConsume = 0; nvaeConsume < 4 - 1; nvaeConsume++) {
+									input.consume();
+								}
+								NoViableAltException nvae =
+									new NoViableAltException("", 99, 3, input);
+								throw nvae;
+							} finally {
+								input.rewind(nvaeMark);
+							}
+						}
+
+					}
+					else if ( (LA99_2==IDENT||LA99_2==K_ACCESS||(LA99_2 >= K_AGGREGATE && LA99_2 <= K_ALL)||LA99_2==K_ANN||LA99_2==K_AS||LA99_2==K_ASCII||(LA99_2 >= K_BETWEEN && LA99_2 <= K_BOOLEAN)||(LA99_2 >= K_CALLED && LA99_2 <= K_CLUSTERING)||(LA99_2 >= K_COMPACT && LA99_2 <= K_COUNTER)||(LA99_2 >= K_CUSTOM && LA99_2 <= K_DECIMAL)||(LA99_2 >= K_DISTINCT && LA99_2 <= K_DOUBLE)||LA99_2==K_DURATION||(LA99_2 >= K_EXISTS && LA99_2 <= K_FLOAT)||LA99_2==K_FROZEN||(LA99_2 >= K_FUNCTION && LA99_2 <= K_GENERATED)||(LA99_2 >= K_GROUP && LA99_2 <= K_IDENTITY)||(LA99_2 >= K_INET && LA99_2 <= K_INPUT)||(LA99_2 >= K_INT && LA99_2 <= K_INTERNALS)||(LA99_2 >= K_JSON && LA99_2 <= K_KEYS)||(LA99_2 >= K_KEYSPACES && LA99_2 <= K_LIKE)||(LA99_2 >= K_LIST && LA99_2 <= K_MASKED)||(LA99_2 >= K_MAXWRITETIME && LA99_2 <= K_MBEANS)||LA99_2==K_NOLOGIN||LA99_2==K_NOSUPERUSER||(LA99_2 >= K_ONLY && LA99_2 <= K_OPTIONS)||(LA99_2 >= K_PARTITION && LA99_2 <= K_PERMISSIONS)||(LA99_2 >= K_REPLACE && LA99_2 <= K_RETURNS)||(LA99_2 >= K_ROLE && LA99_2 <= K_ROLES)||LA99_2==K_SELECT_MASKED||(LA99_2 >= K_SFUNC && LA99_2 <= K_TINYINT)||(LA99_2 >= K_TOKEN && LA99_2 <= K_TRIGGER)||(LA99_2 >= K_TTL && LA99_2 <= K_TYPES)||(LA99_2 >= K_UNMASK && LA99_2 <= K_UNSET)||(LA99_2 >= K_USER && LA99_2 <= K_USERS)||(LA99_2 >= K_UUID && LA99_2 <= K_VECTOR)||LA99_2==K_WRITETIME||(LA99_2 >= QMARK && LA99_2 <= QUOTED_NAME)) ) {
+						alt99=1;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return mask;}
+						int nvaeMark = input.mark();
+						try {
+							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
+								input.consume();
+							}
+							NoViableAltException nvae =
+								new NoViableAltException("", 99, 2, input);
+							throw nvae;
+						} finally {
+							input.rewind(nvaeMark);
+						}
+					}
+
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return mask;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 99, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return mask;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 99, 0, input);
+				throw nvae;
+			}
+
+			switch (alt99) {
+				case 1 :
+					// Parser.g:790:7: K_MASKED K_WITH name= functionName columnMaskArguments[arguments]
+					{
+					match(input,K_MASKED,FOLLOW_K_MASKED_in_columnMask5378); if (state.failed) return mask;
+					match(input,K_WITH,FOLLOW_K_WITH_in_columnMask5380); if (state.failed) return mask;
+					pushFollow(FOLLOW_functionName_in_columnMask5384);
+					name=functionName();
+					state._fsp--;
+					if (state.failed) return mask;
+					pushFollow(FOLLOW_columnMaskArguments_in_columnMask5386);
+					columnMaskArguments(arguments);
+					state._fsp--;
+					if (state.failed) return mask;
+					if ( state.backtracking==0 ) { mask = new ColumnMask.Raw(name, arguments); }
+					}
+					break;
+				case 2 :
+					// Parser.g:791:7: K_MASKED K_WITH K_DEFAULT
+					{
+					match(input,K_MASKED,FOLLOW_K_MASKED_in_columnMask5397); if (state.failed) return mask;
+					match(input,K_WITH,FOLLOW_K_WITH_in_columnMask5399); if (state.failed) return mask;
+					match(input,K_DEFAULT,FOLLOW_K_DEFAULT_in_columnMask5401); if (state.failed) return mask;
+					if ( state.backtracking==0 ) { mask = new ColumnMask.Raw(FunctionName.nativeFunction("mask_default"), arguments); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return mask;
+	}
+	// $ANTLR end "columnMask"
+
+
+
+	// $ANTLR start "columnMaskArguments"
+	// Parser.g:794:1: columnMaskArguments[List<Term.Raw> arguments] : ( '(' ')' | '(' c= term ( ',' cn= term )* ')' );
+	public final void columnMaskArguments(List<Term.Raw> arguments) throws RecognitionException {
+		Term.Raw c =null;
+		Term.Raw cn =null;
+
+		try {
+			// Parser.g:795:5: ( '(' ')' | '(' c= term ( ',' cn= term )* ')' )
+			int alt101=2;
+			int LA101_0 = input.LA(1);
+			if ( (LA101_0==212) ) {
+				int LA101_1 = input.LA(2);
+				if ( (LA101_1==213) ) {
+					alt101=1;
+				}
+				else if ( (LA101_1==BOOLEAN||LA101_1==DURATION||LA101_1==FLOAT||LA101_1==HEXNUMBER||(LA101_1 >= IDENT && LA101_1 <= INTEGER)||LA101_1==K_ACCESS||(LA101_1 >= K_AGGREGATE && LA101_1 <= K_ALL)||LA101_1==K_ANN||LA101_1==K_AS||LA101_1==K_ASCII||(LA101_1 >= K_BETWEEN && LA101_1 <= K_BOOLEAN)||(LA101_1 >= K_CALLED && LA101_1 <= K_CLUSTERING)||(LA101_1 >= K_COMPACT && LA101_1 <= K_COUNTER)||(LA101_1 >= K_CUSTOM && LA101_1 <= K_DEFAULT)||(LA101_1 >= K_DISTINCT && LA101_1 <= K_DOUBLE)||LA101_1==K_DURATION||(LA101_1 >= K_EXISTS && LA101_1 <= K_FLOAT)||LA101_1==K_FROZEN||(LA101_1 >= K_FUNCTION && LA101_1 <= K_GENERATED)||(LA101_1 >= K_GROUP && LA101_1 <= K_IDENTITY)||(LA101_1 >= K_INET && LA101_1 <= K_INPUT)||(LA101_1 >= K_INT && LA101_1 <= K_INTERNALS)||(LA101_1 >= K_JSON && LA101_1 <= K_KEYS)||(LA101_1 >= K_KEYSPACES && LA101_1 <= K_LIKE)||(LA101_1 >= K_LIST && LA101_1 <= K_MASKED)||(LA101_1 >= K_MAXWRITETIME && LA101_1 <= K_MBEANS)||(LA101_1 >= K_NEGATIVE_INFINITY && LA101_1 <= K_NOLOGIN)||LA101_1==K_NOSUPERUSER||LA101_1==K_NULL||(LA101_1 >= K_ONLY && LA101_1 <= K_OPTIONS)||(LA101_1 >= K_PARTITION && LA101_1 <= K_POSITIVE_NAN)||(LA101_1 >= K_REPLACE && LA101_1 <= K_RETURNS)||(LA101_1 >= K_ROLE && LA101_1 <= K_ROLES)||LA101_1==K_SELECT_MASKED||(LA101_1 >= K_SFUNC && LA101_1 <= K_TINYINT)||(LA101_1 >= K_TOKEN && LA101_1 <= K_TRIGGER)||(LA101_1 >= K_TTL && LA101_1 <= K_TYPES)||(LA101_1 >= K_UNMASK && LA101_1 <= K_UNSET)||(LA101_1 >= K_USER && LA101_1 <= K_USERS)||(LA101_1 >= K_UUID && LA101_1 <= K_VECTOR)||LA101_1==K_WRITETIME||(LA101_1 >= QMARK && LA101_1 <= QUOTED_NAME)||LA101_1==STRING_LITERAL||LA101_1==UUID||LA101_1==212||LA101_1==217||LA101_1==221||LA101_1==228||LA101_1==232) ) {
+					alt101=2;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 101, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 101, 0, input);
+				throw nvae;
+			}
+
+			switch (alt101) {
+				case 1 :
+					// Parser.g:795:7: '(' ')'
+					{
+					match(input,212,FOLLOW_212_in_columnMaskArguments5421); if (state.failed) return;
+					match(input,213,FOLLOW_213_in_columnMaskArguments5424); if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:795:18: '(' c= term ( ',' cn= term )* ')'
+					{
+					match(input,212,FOLLOW_212_in_columnMaskArguments5428); if (state.failed) return;
+					pushFollow(FOLLOW_term_in_columnMaskArguments5432);
+					c=term();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { arguments.add(c); }
+					// Parser.g:795:51: ( ',' cn= term )*
+					loop100:
+					while (true) {
+						int alt100=2;
+						int LA100_0 = input.LA(1);
+						if ( (LA100_0==216) ) {
+							alt100=1;
+						}
+
+						switch (alt100) {
+						case 1 :
+							// Parser.g:795:52: ',' cn= term
+							{
+							match(input,216,FOLLOW_216_in_columnMaskArguments5437); if (state.failed) return;
+							pushFollow(FOLLOW_term_in_columnMaskArguments5441);
+							cn=term();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { arguments.add(cn); }
+							}
+							break;
+
+						default :
+							break loop100;
+						}
+					}
+
+					match(input,213,FOLLOW_213_in_columnMaskArguments5447); if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "columnMaskArguments"
+
+
+
+	// $ANTLR start "tablePartitionKey"
+	// Parser.g:798:1: tablePartitionKey[CreateTableStatement.Raw stmt] : (k1= ident | '(' k1= ident ( ',' kn= ident )* ')' );
+	public final void tablePartitionKey(CreateTableStatement.Raw stmt) throws RecognitionException {
+		ColumnIdentifier k1 =null;
+		ColumnIdentifier kn =null;
+
+		List<ColumnIdentifier> l = new ArrayList<ColumnIdentifier>();
+		try {
+			// Parser.g:801:5: (k1= ident | '(' k1= ident ( ',' kn= ident )* ')' )
+			int alt103=2;
+			int LA103_0 = input.LA(1);
+			if ( (LA103_0==IDENT||LA103_0==K_ACCESS||(LA103_0 >= K_AGGREGATE && LA103_0 <= K_ALL)||LA103_0==K_ANN||LA103_0==K_AS||LA103_0==K_ASCII||(LA103_0 >= K_BETWEEN && LA103_0 <= K_BOOLEAN)||(LA103_0 >= K_CALLED && LA103_0 <= K_CLUSTERING)||(LA103_0 >= K_COMPACT && LA103_0 <= K_COUNTER)||(LA103_0 >= K_CUSTOM && LA103_0 <= K_DEFAULT)||(LA103_0 >= K_DISTINCT && LA103_0 <= K_DOUBLE)||LA103_0==K_DURATION||(LA103_0 >= K_EXISTS && LA103_0 <= K_FLOAT)||LA103_0==K_FROZEN||(LA103_0 >= K_FUNCTION && LA103_0 <= K_GENERATED)||(LA103_0 >= K_GROUP && LA103_0 <= K_IDENTITY)||(LA103_0 >= K_INET && LA103_0 <= K_INPUT)||(LA103_0 >= K_INT && LA103_0 <= K_INTERNALS)||(LA103_0 >= K_JSON && LA103_0 <= K_KEYS)||(LA103_0 >= K_KEYSPACES && LA103_0 <= K_LIKE)||(LA103_0 >= K_LIST && LA103_0 <= K_MASKED)||(LA103_0 >= K_MAXWRITETIME && LA103_0 <= K_MBEANS)||LA103_0==K_NOLOGIN||LA103_0==K_NOSUPERUSER||(LA103_0 >= K_ONLY && LA103_0 <= K_OPTIONS)||(LA103_0 >= K_PARTITION && LA103_0 <= K_PERMISSIONS)||(LA103_0 >= K_REPLACE && LA103_0 <= K_RETURNS)||(LA103_0 >= K_ROLE && LA103_0 <= K_ROLES)||LA103_0==K_SELECT_MASKED||(LA103_0 >= K_SFUNC && LA103_0 <= K_TINYINT)||LA103_0==K_TRIGGER||(LA103_0 >= K_TTL && LA103_0 <= K_TYPES)||(LA103_0 >= K_UNMASK && LA103_0 <= K_UNSET)||(LA103_0 >= K_USER && LA103_0 <= K_USERS)||(LA103_0 >= K_UUID && LA103_0 <= K_VECTOR)||LA103_0==K_WRITETIME||LA103_0==QUOTED_NAME) ) {
+				alt103=1;
+			}
+			else if ( (LA103_0==212) ) {
+				alt103=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 103, 0, input);
+				throw nvae;
+			}
+
+			switch (alt103) {
+				case 1 :
+					// Parser.g:801:7: k1= ident
+					{
+					pushFollow(FOLLOW_ident_in_tablePartitionKey5484);
+					k1=ident();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { l.add(k1);}
+					}
+					break;
+				case 2 :
+					// Parser.g:802:7: '(' k1= ident ( ',' kn= ident )* ')'
+					{
+					match(input,212,FOLLOW_212_in_tablePartitionKey5494); if (state.failed) return;
+					pushFollow(FOLLOW_ident_in_tablePartitionKey5498);
+					k1=ident();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { l.add(k1); }
+					// Parser.g:802:35: ( ',' kn= ident )*
+					loop102:
+					while (true) {
+						int alt102=2;
+						int LA102_0 = input.LA(1);
+						if ( (LA102_0==216) ) {
+							alt102=1;
+						}
+
+						switch (alt102) {
+						case 1 :
+							// Parser.g:802:37: ',' kn= ident
+							{
+							match(input,216,FOLLOW_216_in_tablePartitionKey5504); if (state.failed) return;
+							pushFollow(FOLLOW_ident_in_tablePartitionKey5508);
+							kn=ident();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { l.add(kn); }
+							}
+							break;
+
+						default :
+							break loop102;
+						}
+					}
+
+					match(input,213,FOLLOW_213_in_tablePartitionKey5515); if (state.failed) return;
+					}
+					break;
+
+			}
+			if ( state.backtracking==0 ) { stmt.setPartitionKeyColumns(l); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "tablePartitionKey"
+
+
+
+	// $ANTLR start "tableProperty"
+	// Parser.g:805:1: tableProperty[CreateTableStatement.Raw stmt] : ( property[stmt.attrs] | K_COMPACT K_STORAGE | K_CLUSTERING K_ORDER K_BY '(' tableClusteringOrder[stmt] ( ',' tableClusteringOrder[stmt] )* ')' );
+	public final void tableProperty(CreateTableStatement.Raw stmt) throws RecognitionException {
+		try {
+			// Parser.g:806:5: ( property[stmt.attrs] | K_COMPACT K_STORAGE | K_CLUSTERING K_ORDER K_BY '(' tableClusteringOrder[stmt] ( ',' tableClusteringOrder[stmt] )* ')' )
+			int alt105=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+			case QUOTED_NAME:
+				{
+				alt105=1;
+				}
+				break;
+			case K_COMPACT:
+				{
+				int LA105_2 = input.LA(2);
+				if ( (LA105_2==K_STORAGE) ) {
+					alt105=2;
+				}
+				else if ( (LA105_2==225) ) {
+					alt105=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 105, 2, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case K_CLUSTERING:
+				{
+				int LA105_3 = input.LA(2);
+				if ( (LA105_3==K_ORDER) ) {
+					alt105=3;
+				}
+				else if ( (LA105_3==225) ) {
+					alt105=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 105, 3, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 105, 0, input);
+				throw nvae;
+			}
+			switch (alt105) {
+				case 1 :
+					// Parser.g:806:7: property[stmt.attrs]
+					{
+					pushFollow(FOLLOW_property_in_tableProperty5533);
+					property(stmt.attrs);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:807:7: K_COMPACT K_STORAGE
+					{
+					match(input,K_COMPACT,FOLLOW_K_COMPACT_in_tableProperty5542); if (state.failed) return;
+					match(input,K_STORAGE,FOLLOW_K_STORAGE_in_tableProperty5544); if (state.failed) return;
+					if ( state.backtracking==0 ) { stmt.setCompactStorage(); }
+					}
+					break;
+				case 3 :
+					// Parser.g:808:7: K_CLUSTERING K_ORDER K_BY '(' tableClusteringOrder[stmt] ( ',' tableClusteringOrder[stmt] )* ')'
+					{
+					match(input,K_CLUSTERING,FOLLOW_K_CLUSTERING_in_tableProperty5554); if (state.failed) return;
+					match(input,K_ORDER,FOLLOW_K_ORDER_in_tableProperty5556); if (state.failed) return;
+					match(input,K_BY,FOLLOW_K_BY_in_tableProperty5558); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_tableProperty5560); if (state.failed) return;
+					pushFollow(FOLLOW_tableClusteringOrder_in_tableProperty5562);
+					tableClusteringOrder(stmt);
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:808:64: ( ',' tableClusteringOrder[stmt] )*
+					loop104:
+					while (true) {
+						int alt104=2;
+						int LA104_0 = input.LA(1);
+						if ( (LA104_0==216) ) {
+							alt104=1;
+						}
+
+						switch (alt104) {
+						case 1 :
+							// Parser.g:808:65: ',' tableClusteringOrder[stmt]
+							{
+							match(input,216,FOLLOW_216_in_tableProperty5566); if (state.failed) return;
+							pushFollow(FOLLOW_tableClusteringOrder_in_tableProperty5568);
+							tableClusteringOrder(stmt);
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+						default :
+							break loop104;
+						}
+					}
+
+					match(input,213,FOLLOW_213_in_tableProperty5573); if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "tableProperty"
+
+
+
+	// $ANTLR start "tableClusteringOrder"
+	// Parser.g:811:1: tableClusteringOrder[CreateTableStatement.Raw stmt] : k= ident ( K_ASC | K_DESC ) ;
+	public final void tableClusteringOrder(CreateTableStatement.Raw stmt) throws RecognitionException {
+		ColumnIdentifier k =null;
+
+		 boolean ascending = true; 
+		try {
+			// Parser.g:813:5: (k= ident ( K_ASC | K_DESC ) )
+			// Parser.g:813:7: k= ident ( K_ASC | K_DESC )
+			{
+			pushFollow(FOLLOW_ident_in_tableClusteringOrder5601);
+			k=ident();
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:813:15: ( K_ASC | K_DESC )
+			int alt106=2;
+			int LA106_0 = input.LA(1);
+			if ( (LA106_0==K_ASC) ) {
+				alt106=1;
+			}
+			else if ( (LA106_0==K_DESC) ) {
+				alt106=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 106, 0, input);
+				throw nvae;
+			}
+
+			switch (alt106) {
+				case 1 :
+					// Parser.g:813:16: K_ASC
+					{
+					match(input,K_ASC,FOLLOW_K_ASC_in_tableClusteringOrder5604); if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:813:24: K_DESC
+					{
+					match(input,K_DESC,FOLLOW_K_DESC_in_tableClusteringOrder5608); if (state.failed) return;
+					if ( state.backtracking==0 ) { ascending = false; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt.extendClusteringOrder(k, ascending); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "tableClusteringOrder"
+
+
+
+	// $ANTLR start "createTypeStatement"
+	// Parser.g:823:1: createTypeStatement returns [CreateTypeStatement.Raw stmt] : K_CREATE K_TYPE ( K_IF K_NOT K_EXISTS )? tn= userTypeName '(' typeColumns[stmt] ( ',' ( typeColumns[stmt] )? )* ')' ;
+	public final CreateTypeStatement.Raw createTypeStatement() throws RecognitionException {
+		CreateTypeStatement.Raw stmt = null;
+
+
+		UTName tn =null;
+
+		 boolean ifNotExists = false; 
+		try {
+			// Parser.g:825:5: ( K_CREATE K_TYPE ( K_IF K_NOT K_EXISTS )? tn= userTypeName '(' typeColumns[stmt] ( ',' ( typeColumns[stmt] )? )* ')' )
+			// Parser.g:825:7: K_CREATE K_TYPE ( K_IF K_NOT K_EXISTS )? tn= userTypeName '(' typeColumns[stmt] ( ',' ( typeColumns[stmt] )? )* ')'
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createTypeStatement5646); if (state.failed) return stmt;
+			match(input,K_TYPE,FOLLOW_K_TYPE_in_createTypeStatement5648); if (state.failed) return stmt;
+			// Parser.g:825:23: ( K_IF K_NOT K_EXISTS )?
+			int alt107=2;
+			int LA107_0 = input.LA(1);
+			if ( (LA107_0==K_IF) ) {
+				alt107=1;
+			}
+			switch (alt107) {
+				case 1 :
+					// Parser.g:825:24: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createTypeStatement5651); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createTypeStatement5653); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createTypeStatement5655); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_userTypeName_in_createTypeStatement5673);
+			tn=userTypeName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new CreateTypeStatement.Raw(tn, ifNotExists); }
+			match(input,212,FOLLOW_212_in_createTypeStatement5686); if (state.failed) return stmt;
+			pushFollow(FOLLOW_typeColumns_in_createTypeStatement5688);
+			typeColumns(stmt);
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:827:32: ( ',' ( typeColumns[stmt] )? )*
+			loop109:
+			while (true) {
+				int alt109=2;
+				int LA109_0 = input.LA(1);
+				if ( (LA109_0==216) ) {
+					alt109=1;
+				}
+
+				switch (alt109) {
+				case 1 :
+					// Parser.g:827:34: ',' ( typeColumns[stmt] )?
+					{
+					match(input,216,FOLLOW_216_in_createTypeStatement5693); if (state.failed) return stmt;
+					// Parser.g:827:38: ( typeColumns[stmt] )?
+					int alt108=2;
+					int LA108_0 = input.LA(1);
+					if ( (LA108_0==IDENT||LA108_0==K_ACCESS||(LA108_0 >= K_AGGREGATE && LA108_0 <= K_ALL)||LA108_0==K_ANN||LA108_0==K_AS||LA108_0==K_ASCII||(LA108_0 >= K_BETWEEN && LA108_0 <= K_BOOLEAN)||(LA108_0 >= K_CALLED && LA108_0 <= K_CLUSTERING)||(LA108_0 >= K_COMPACT && LA108_0 <= K_COUNTER)||(LA108_0 >= K_CUSTOM && LA108_0 <= K_DEFAULT)||(LA108_0 >= K_DISTINCT && LA108_0 <= K_DOUBLE)||LA108_0==K_DURATION||(LA108_0 >= K_EXISTS && LA108_0 <= K_FLOAT)||LA108_0==K_FROZEN||(LA108_0 >= K_FUNCTION && LA108_0 <= K_GENERATED)||(LA108_0 >= K_GROUP && LA108_0 <= K_IDENTITY)||(LA108_0 >= K_INET && LA108_0 <= K_INPUT)||(LA108_0 >= K_INT && LA108_0 <= K_INTERNALS)||(LA108_0 >= K_JSON && LA108_0 <= K_KEYS)||(LA108_0 >= K_KEYSPACES && LA108_0 <= K_LIKE)||(LA108_0 >= K_LIST && LA108_0 <= K_MASKED)||(LA108_0 >= K_MAXWRITETIME && LA108_0 <= K_MBEANS)||LA108_0==K_NOLOGIN||LA108_0==K_NOSUPERUSER||(LA108_0 >= K_ONLY && LA108_0 <= K_OPTIONS)||(LA108_0 >= K_PARTITION && LA108_0 <= K_PERMISSIONS)||(LA108_0 >= K_REPLACE && LA108_0 <= K_RETURNS)||(LA108_0 >= K_ROLE && LA108_0 <= K_ROLES)||LA108_0==K_SELECT_MASKED||(LA108_0 >= K_SFUNC && LA108_0 <= K_TINYINT)||LA108_0==K_TRIGGER||(LA108_0 >= K_TTL && LA108_0 <= K_TYPES)||(LA108_0 >= K_UNMASK && LA108_0 <= K_UNSET)||(LA108_0 >= K_USER && LA108_0 <= K_USERS)||(LA108_0 >= K_UUID && LA108_0 <= K_VECTOR)||LA108_0==K_WRITETIME||LA108_0==QUOTED_NAME) ) {
+						alt108=1;
+					}
+					switch (alt108) {
+						case 1 :
+							// Parser.g:827:38: typeColumns[stmt]
+							{
+							pushFollow(FOLLOW_typeColumns_in_createTypeStatement5695);
+							typeColumns(stmt);
+							state._fsp--;
+							if (state.failed) return stmt;
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+				default :
+					break loop109;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_createTypeStatement5702); if (state.failed) return stmt;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createTypeStatement"
+
+
+
+	// $ANTLR start "typeColumns"
+	// Parser.g:830:1: typeColumns[CreateTypeStatement.Raw stmt] : k= fident v= comparatorType ;
+	public final void typeColumns(CreateTypeStatement.Raw stmt) throws RecognitionException {
+		FieldIdentifier k =null;
+		CQL3Type.Raw v =null;
+
+		try {
+			// Parser.g:831:5: (k= fident v= comparatorType )
+			// Parser.g:831:7: k= fident v= comparatorType
+			{
+			pushFollow(FOLLOW_fident_in_typeColumns5722);
+			k=fident();
+			state._fsp--;
+			if (state.failed) return;
+			pushFollow(FOLLOW_comparatorType_in_typeColumns5726);
+			v=comparatorType();
+			state._fsp--;
+			if (state.failed) return;
+			if ( state.backtracking==0 ) { stmt.addField(k, v); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "typeColumns"
+
+
+
+	// $ANTLR start "createIndexStatement"
+	// Parser.g:838:1: createIndexStatement returns [CreateIndexStatement.Raw stmt] : K_CREATE ( K_CUSTOM )? K_INDEX ( K_IF K_NOT K_EXISTS )? ( idxName[name] )? K_ON cf= columnFamilyName '(' ( indexIdent[targets] ( ',' indexIdent[targets] )* )? ')' ( K_USING cls= STRING_LITERAL )? ( K_WITH properties[props] )? ;
+	public final CreateIndexStatement.Raw createIndexStatement() throws RecognitionException {
+		CreateIndexStatement.Raw stmt = null;
+
+
+		Token cls=null;
+		QualifiedName cf =null;
+
+
+		        IndexAttributes props = new IndexAttributes();
+		        boolean ifNotExists = false;
+		        QualifiedName name = new QualifiedName();
+		        List<IndexTarget.Raw> targets = new ArrayList<>();
+		    
+		try {
+			// Parser.g:845:5: ( K_CREATE ( K_CUSTOM )? K_INDEX ( K_IF K_NOT K_EXISTS )? ( idxName[name] )? K_ON cf= columnFamilyName '(' ( indexIdent[targets] ( ',' indexIdent[targets] )* )? ')' ( K_USING cls= STRING_LITERAL )? ( K_WITH properties[props] )? )
+			// Parser.g:845:7: K_CREATE ( K_CUSTOM )? K_INDEX ( K_IF K_NOT K_EXISTS )? ( idxName[name] )? K_ON cf= columnFamilyName '(' ( indexIdent[targets] ( ',' indexIdent[targets] )* )? ')' ( K_USING cls= STRING_LITERAL )? ( K_WITH properties[props] )?
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createIndexStatement5760); if (state.failed) return stmt;
+			// Parser.g:845:16: ( K_CUSTOM )?
+			int alt110=2;
+			int LA110_0 = input.LA(1);
+			if ( (LA110_0==K_CUSTOM) ) {
+				alt110=1;
+			}
+			switch (alt110) {
+				case 1 :
+					// Parser.g:845:17: K_CUSTOM
+					{
+					match(input,K_CUSTOM,FOLLOW_K_CUSTOM_in_createIndexStatement5763); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { props.isCustom = true; }
+					}
+					break;
+
+			}
+
+			match(input,K_INDEX,FOLLOW_K_INDEX_in_createIndexStatement5769); if (state.failed) return stmt;
+			// Parser.g:845:63: ( K_IF K_NOT K_EXISTS )?
+			int alt111=2;
+			int LA111_0 = input.LA(1);
+			if ( (LA111_0==K_IF) ) {
+				alt111=1;
+			}
+			switch (alt111) {
+				case 1 :
+					// Parser.g:845:64: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createIndexStatement5772); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createIndexStatement5774); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createIndexStatement5776); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			// Parser.g:846:9: ( idxName[name] )?
+			int alt112=2;
+			int LA112_0 = input.LA(1);
+			if ( (LA112_0==IDENT||LA112_0==K_ACCESS||(LA112_0 >= K_AGGREGATE && LA112_0 <= K_ALL)||LA112_0==K_ANN||LA112_0==K_AS||LA112_0==K_ASCII||(LA112_0 >= K_BETWEEN && LA112_0 <= K_BOOLEAN)||(LA112_0 >= K_CALLED && LA112_0 <= K_CLUSTERING)||(LA112_0 >= K_COMPACT && LA112_0 <= K_COUNTER)||(LA112_0 >= K_CUSTOM && LA112_0 <= K_DEFAULT)||(LA112_0 >= K_DISTINCT && LA112_0 <= K_DOUBLE)||LA112_0==K_DURATION||(LA112_0 >= K_EXISTS && LA112_0 <= K_FLOAT)||LA112_0==K_FROZEN||(LA112_0 >= K_FUNCTION && LA112_0 <= K_GENERATED)||(LA112_0 >= K_GROUP && LA112_0 <= K_IDENTITY)||(LA112_0 >= K_INET && LA112_0 <= K_INPUT)||(LA112_0 >= K_INT && LA112_0 <= K_INTERNALS)||(LA112_0 >= K_JSON && LA112_0 <= K_KEYS)||(LA112_0 >= K_KEYSPACES && LA112_0 <= K_LIKE)||(LA112_0 >= K_LIST && LA112_0 <= K_MASKED)||(LA112_0 >= K_MAXWRITETIME && LA112_0 <= K_MBEANS)||LA112_0==K_NOLOGIN||LA112_0==K_NOSUPERUSER||(LA112_0 >= K_ONLY && LA112_0 <= K_OPTIONS)||(LA112_0 >= K_PARTITION && LA112_0 <= K_PERMISSIONS)||(LA112_0 >= K_REPLACE && LA112_0 <= K_RETURNS)||(LA112_0 >= K_ROLE && LA112_0 <= K_ROLES)||LA112_0==K_SELECT_MASKED||(LA112_0 >= K_SFUNC && LA112_0 <= K_TINYINT)||LA112_0==K_TRIGGER||(LA112_0 >= K_TTL && LA112_0 <= K_TYPES)||(LA112_0 >= K_UNMASK && LA112_0 <= K_UNSET)||(LA112_0 >= K_USER && LA112_0 <= K_USERS)||(LA112_0 >= K_UUID && LA112_0 <= K_VECTOR)||LA112_0==K_WRITETIME||(LA112_0 >= QMARK && LA112_0 <= QUOTED_NAME)) ) {
+				alt112=1;
+			}
+			switch (alt112) {
+				case 1 :
+					// Parser.g:846:10: idxName[name]
+					{
+					pushFollow(FOLLOW_idxName_in_createIndexStatement5792);
+					idxName(name);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			match(input,K_ON,FOLLOW_K_ON_in_createIndexStatement5797); if (state.failed) return stmt;
+			pushFollow(FOLLOW_columnFamilyName_in_createIndexStatement5801);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,212,FOLLOW_212_in_createIndexStatement5803); if (state.failed) return stmt;
+			// Parser.g:846:55: ( indexIdent[targets] ( ',' indexIdent[targets] )* )?
+			int alt114=2;
+			int LA114_0 = input.LA(1);
+			if ( (LA114_0==EMPTY_QUOTED_NAME||LA114_0==IDENT||LA114_0==K_ACCESS||(LA114_0 >= K_AGGREGATE && LA114_0 <= K_ALL)||LA114_0==K_ANN||LA114_0==K_AS||LA114_0==K_ASCII||(LA114_0 >= K_BETWEEN && LA114_0 <= K_BOOLEAN)||(LA114_0 >= K_CALLED && LA114_0 <= K_CLUSTERING)||(LA114_0 >= K_COMPACT && LA114_0 <= K_COUNTER)||(LA114_0 >= K_CUSTOM && LA114_0 <= K_DEFAULT)||(LA114_0 >= K_DISTINCT && LA114_0 <= K_DOUBLE)||(LA114_0 >= K_DURATION && LA114_0 <= K_ENTRIES)||(LA114_0 >= K_EXISTS && LA114_0 <= K_FLOAT)||(LA114_0 >= K_FROZEN && LA114_0 <= K_GENERATED)||(LA114_0 >= K_GROUP && LA114_0 <= K_IDENTITY)||(LA114_0 >= K_INET && LA114_0 <= K_INPUT)||(LA114_0 >= K_INT && LA114_0 <= K_INTERNALS)||(LA114_0 >= K_JSON && LA114_0 <= K_KEYS)||(LA114_0 >= K_KEYSPACES && LA114_0 <= K_LIKE)||(LA114_0 >= K_LIST && LA114_0 <= K_MASKED)||(LA114_0 >= K_MAXWRITETIME && LA114_0 <= K_MBEANS)||LA114_0==K_NOLOGIN||LA114_0==K_NOSUPERUSER||(LA114_0 >= K_ONLY && LA114_0 <= K_OPTIONS)||(LA114_0 >= K_PARTITION && LA114_0 <= K_PERMISSIONS)||(LA114_0 >= K_REPLACE && LA114_0 <= K_RETURNS)||(LA114_0 >= K_ROLE && LA114_0 <= K_ROLES)||LA114_0==K_SELECT_MASKED||(LA114_0 >= K_SFUNC && LA114_0 <= K_TINYINT)||LA114_0==K_TRIGGER||(LA114_0 >= K_TTL && LA114_0 <= K_TYPES)||(LA114_0 >= K_UNMASK && LA114_0 <= K_UNSET)||(LA114_0 >= K_USER && LA114_0 <= K_USERS)||(LA114_0 >= K_UUID && LA114_0 <= K_VECTOR)||LA114_0==K_WRITETIME||LA114_0==QUOTED_NAME) ) {
+				alt114=1;
+			}
+			switch (alt114) {
+				case 1 :
+					// Parser.g:846:56: indexIdent[targets] ( ',' indexIdent[targets] )*
+					{
+					pushFollow(FOLLOW_indexIdent_in_createIndexStatement5806);
+					indexIdent(targets);
+					state._fsp--;
+					if (state.failed) return stmt;
+					// Parser.g:846:76: ( ',' indexIdent[targets] )*
+					loop113:
+					while (true) {
+						int alt113=2;
+						int LA113_0 = input.LA(1);
+						if ( (LA113_0==216) ) {
+							alt113=1;
+						}
+
+						switch (alt113) {
+						case 1 :
+							// Parser.g:846:77: ',' indexIdent[targets]
+							{
+							match(input,216,FOLLOW_216_in_createIndexStatement5810); if (state.failed) return stmt;
+							pushFollow(FOLLOW_indexIdent_in_createIndexStatement5812);
+							indexIdent(targets);
+							state._fsp--;
+							if (state.failed) return stmt;
+							}
+							break;
+
+						default :
+							break loop113;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,213,FOLLOW_213_in_createIndexStatement5819); if (state.failed) return stmt;
+			// Parser.g:847:9: ( K_USING cls= STRING_LITERAL )?
+			int alt115=2;
+			int LA115_0 = input.LA(1);
+			if ( (LA115_0==K_USING) ) {
+				alt115=1;
+			}
+			switch (alt115) {
+				case 1 :
+					// Parser.g:847:10: K_USING cls= STRING_LITERAL
+					{
+					match(input,K_USING,FOLLOW_K_USING_in_createIndexStatement5830); if (state.failed) return stmt;
+					cls=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_createIndexStatement5834); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { props.customClass = (cls!=null?cls.getText():null); }
+					}
+					break;
+
+			}
+
+			// Parser.g:848:9: ( K_WITH properties[props] )?
+			int alt116=2;
+			int LA116_0 = input.LA(1);
+			if ( (LA116_0==K_WITH) ) {
+				alt116=1;
+			}
+			switch (alt116) {
+				case 1 :
+					// Parser.g:848:10: K_WITH properties[props]
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_createIndexStatement5849); if (state.failed) return stmt;
+					pushFollow(FOLLOW_properties_in_createIndexStatement5851);
+					properties(props);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt = new CreateIndexStatement.Raw(cf, name, targets, props, ifNotExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createIndexStatement"
+
+
+
+	// $ANTLR start "indexIdent"
+	// Parser.g:852:1: indexIdent[List<IndexTarget.Raw> targets] : (c= cident | K_VALUES '(' c= cident ')' | K_KEYS '(' c= cident ')' | K_ENTRIES '(' c= cident ')' | K_FULL '(' c= cident ')' );
+	public final void indexIdent(List<IndexTarget.Raw> targets) throws RecognitionException {
+		ColumnIdentifier c =null;
+
+		try {
+			// Parser.g:853:5: (c= cident | K_VALUES '(' c= cident ')' | K_KEYS '(' c= cident ')' | K_ENTRIES '(' c= cident ')' | K_FULL '(' c= cident ')' )
+			int alt117=5;
+			switch ( input.LA(1) ) {
+			case EMPTY_QUOTED_NAME:
+			case IDENT:
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+			case QUOTED_NAME:
+				{
+				alt117=1;
+				}
+				break;
+			case K_VALUES:
+				{
+				int LA117_2 = input.LA(2);
+				if ( (LA117_2==212) ) {
+					alt117=2;
+				}
+				else if ( (LA117_2==213||LA117_2==216) ) {
+					alt117=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 117, 2, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case K_KEYS:
+				{
+				int LA117_3 = input.LA(2);
+				if ( (LA117_3==212) ) {
+					alt117=3;
+				}
+				else if ( (LA117_3==213||LA117_3==216) ) {
+					alt117=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 117, 3, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case K_ENTRIES:
+				{
+				alt117=4;
+				}
+				break;
+			case K_FULL:
+				{
+				alt117=5;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 117, 0, input);
+				throw nvae;
+			}
+			switch (alt117) {
+				case 1 :
+					// Parser.g:853:7: c= cident
+					{
+					pushFollow(FOLLOW_cident_in_indexIdent5883);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { targets.add(IndexTarget.Raw.simpleIndexOn(c)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:854:7: K_VALUES '(' c= cident ')'
+					{
+					match(input,K_VALUES,FOLLOW_K_VALUES_in_indexIdent5911); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_indexIdent5913); if (state.failed) return;
+					pushFollow(FOLLOW_cident_in_indexIdent5917);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,213,FOLLOW_213_in_indexIdent5919); if (state.failed) return;
+					if ( state.backtracking==0 ) { targets.add(IndexTarget.Raw.valuesOf(c)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:855:7: K_KEYS '(' c= cident ')'
+					{
+					match(input,K_KEYS,FOLLOW_K_KEYS_in_indexIdent5930); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_indexIdent5932); if (state.failed) return;
+					pushFollow(FOLLOW_cident_in_indexIdent5936);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,213,FOLLOW_213_in_indexIdent5938); if (state.failed) return;
+					if ( state.backtracking==0 ) { targets.add(IndexTarget.Raw.keysOf(c)); }
+					}
+					break;
+				case 4 :
+					// Parser.g:856:7: K_ENTRIES '(' c= cident ')'
+					{
+					match(input,K_ENTRIES,FOLLOW_K_ENTRIES_in_indexIdent5951); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_indexIdent5953); if (state.failed) return;
+					pushFollow(FOLLOW_cident_in_indexIdent5957);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,213,FOLLOW_213_in_indexIdent5959); if (state.failed) return;
+					if ( state.backtracking==0 ) { targets.add(IndexTarget.Raw.keysAndValuesOf(c)); }
+					}
+					break;
+				case 5 :
+					// Parser.g:857:7: K_FULL '(' c= cident ')'
+					{
+					match(input,K_FULL,FOLLOW_K_FULL_in_indexIdent5969); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_indexIdent5971); if (state.failed) return;
+					pushFollow(FOLLOW_cident_in_indexIdent5975);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,213,FOLLOW_213_in_indexIdent5977); if (state.failed) return;
+					if ( state.backtracking==0 ) { targets.add(IndexTarget.Raw.fullCollection(c)); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "indexIdent"
+
+
+
+	// $ANTLR start "createMaterializedViewStatement"
+	// Parser.g:868:1: createMaterializedViewStatement returns [CreateViewStatement.Raw stmt] : K_CREATE K_MATERIALIZED K_VIEW ( K_IF K_NOT K_EXISTS )? cf= columnFamilyName K_AS K_SELECT sclause= selectors K_FROM basecf= columnFamilyName ( K_WHERE wclause= whereClause )? viewPrimaryKey[stmt] ( K_WITH viewProperty[stmt] ( K_AND viewProperty[stmt] )* )? ;
+	public final CreateViewStatement.Raw createMaterializedViewStatement() throws RecognitionException {
+		CreateViewStatement.Raw stmt = null;
+
+
+		QualifiedName cf =null;
+		List<RawSelector> sclause =null;
+		QualifiedName basecf =null;
+		WhereClause.Builder wclause =null;
+
+
+		        boolean ifNotExists = false;
+		    
+		try {
+			// Parser.g:872:5: ( K_CREATE K_MATERIALIZED K_VIEW ( K_IF K_NOT K_EXISTS )? cf= columnFamilyName K_AS K_SELECT sclause= selectors K_FROM basecf= columnFamilyName ( K_WHERE wclause= whereClause )? viewPrimaryKey[stmt] ( K_WITH viewProperty[stmt] ( K_AND viewProperty[stmt] )* )? )
+			// Parser.g:872:7: K_CREATE K_MATERIALIZED K_VIEW ( K_IF K_NOT K_EXISTS )? cf= columnFamilyName K_AS K_SELECT sclause= selectors K_FROM basecf= columnFamilyName ( K_WHERE wclause= whereClause )? viewPrimaryKey[stmt] ( K_WITH viewProperty[stmt] ( K_AND viewProperty[stmt] )* )?
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createMaterializedViewStatement6014); if (state.failed) return stmt;
+			match(input,K_MATERIALIZED,FOLLOW_K_MATERIALIZED_in_createMaterializedViewStatement6016); if (state.failed) return stmt;
+			match(input,K_VIEW,FOLLOW_K_VIEW_in_createMaterializedViewStatement6018); if (state.failed) return stmt;
+			// Parser.g:872:38: ( K_IF K_NOT K_EXISTS )?
+			int alt118=2;
+			int LA118_0 = input.LA(1);
+			if ( (LA118_0==K_IF) ) {
+				alt118=1;
+			}
+			switch (alt118) {
+				case 1 :
+					// Parser.g:872:39: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createMaterializedViewStatement6021); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createMaterializedViewStatement6023); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createMaterializedViewStatement6025); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_createMaterializedViewStatement6033);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_AS,FOLLOW_K_AS_in_createMaterializedViewStatement6035); if (state.failed) return stmt;
+			match(input,K_SELECT,FOLLOW_K_SELECT_in_createMaterializedViewStatement6045); if (state.failed) return stmt;
+			pushFollow(FOLLOW_selectors_in_createMaterializedViewStatement6049);
+			sclause=selectors();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_FROM,FOLLOW_K_FROM_in_createMaterializedViewStatement6051); if (state.failed) return stmt;
+			pushFollow(FOLLOW_columnFamilyName_in_createMaterializedViewStatement6055);
+			basecf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:874:9: ( K_WHERE wclause= whereClause )?
+			int alt119=2;
+			int LA119_0 = input.LA(1);
+			if ( (LA119_0==K_WHERE) ) {
+				alt119=1;
+			}
+			switch (alt119) {
+				case 1 :
+					// Parser.g:874:10: K_WHERE wclause= whereClause
+					{
+					match(input,K_WHERE,FOLLOW_K_WHERE_in_createMaterializedViewStatement6066); if (state.failed) return stmt;
+					pushFollow(FOLLOW_whereClause_in_createMaterializedViewStatement6070);
+					wclause=whereClause();
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			             WhereClause where = wclause == null ? WhereClause.empty() : wclause.build();
+			             stmt = new CreateViewStatement.Raw(basecf, cf, sclause, where, ifNotExists);
+			        }
+			pushFollow(FOLLOW_viewPrimaryKey_in_createMaterializedViewStatement6092);
+			viewPrimaryKey(stmt);
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:880:9: ( K_WITH viewProperty[stmt] ( K_AND viewProperty[stmt] )* )?
+			int alt121=2;
+			int LA121_0 = input.LA(1);
+			if ( (LA121_0==K_WITH) ) {
+				alt121=1;
+			}
+			switch (alt121) {
+				case 1 :
+					// Parser.g:880:11: K_WITH viewProperty[stmt] ( K_AND viewProperty[stmt] )*
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_createMaterializedViewStatement6105); if (state.failed) return stmt;
+					pushFollow(FOLLOW_viewProperty_in_createMaterializedViewStatement6107);
+					viewProperty(stmt);
+					state._fsp--;
+					if (state.failed) return stmt;
+					// Parser.g:880:37: ( K_AND viewProperty[stmt] )*
+					loop120:
+					while (true) {
+						int alt120=2;
+						int LA120_0 = input.LA(1);
+						if ( (LA120_0==K_AND) ) {
+							alt120=1;
+						}
+
+						switch (alt120) {
+						case 1 :
+							// Parser.g:880:39: K_AND viewProperty[stmt]
+							{
+							match(input,K_AND,FOLLOW_K_AND_in_createMaterializedViewStatement6112); if (state.failed) return stmt;
+							pushFollow(FOLLOW_viewProperty_in_createMaterializedViewStatement6114);
+							viewProperty(stmt);
+							state._fsp--;
+							if (state.failed) return stmt;
+							}
+							break;
+
+						default :
+							break loop120;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createMaterializedViewStatement"
+
+
+
+	// $ANTLR start "viewPrimaryKey"
+	// Parser.g:883:1: viewPrimaryKey[CreateViewStatement.Raw stmt] : K_PRIMARY K_KEY '(' viewPartitionKey[stmt] ( ',' c= ident )* ')' ;
+	public final void viewPrimaryKey(CreateViewStatement.Raw stmt) throws RecognitionException {
+		ColumnIdentifier c =null;
+
+		try {
+			// Parser.g:884:5: ( K_PRIMARY K_KEY '(' viewPartitionKey[stmt] ( ',' c= ident )* ')' )
+			// Parser.g:884:7: K_PRIMARY K_KEY '(' viewPartitionKey[stmt] ( ',' c= ident )* ')'
+			{
+			match(input,K_PRIMARY,FOLLOW_K_PRIMARY_in_viewPrimaryKey6138); if (state.failed) return;
+			match(input,K_KEY,FOLLOW_K_KEY_in_viewPrimaryKey6140); if (state.failed) return;
+			match(input,212,FOLLOW_212_in_viewPrimaryKey6142); if (state.failed) return;
+			pushFollow(FOLLOW_viewPartitionKey_in_viewPrimaryKey6144);
+			viewPartitionKey(stmt);
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:884:50: ( ',' c= ident )*
+			loop122:
+			while (true) {
+				int alt122=2;
+				int LA122_0 = input.LA(1);
+				if ( (LA122_0==216) ) {
+					alt122=1;
+				}
+
+				switch (alt122) {
+				case 1 :
+					// Parser.g:884:51: ',' c= ident
+					{
+					match(input,216,FOLLOW_216_in_viewPrimaryKey6148); if (state.failed) return;
+					pushFollow(FOLLOW_ident_in_viewPrimaryKey6152);
+					c=ident();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { stmt.markClusteringColumn(c); }
+					}
+					break;
+
+				default :
+					break loop122;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_viewPrimaryKey6159); if (state.failed) return;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "viewPrimaryKey"
+
+
+
+	// $ANTLR start "viewPartitionKey"
+	// Parser.g:887:1: viewPartitionKey[CreateViewStatement.Raw stmt] : (k1= ident | '(' k1= ident ( ',' kn= ident )* ')' );
+	public final void viewPartitionKey(CreateViewStatement.Raw stmt) throws RecognitionException {
+		ColumnIdentifier k1 =null;
+		ColumnIdentifier kn =null;
+
+		List<ColumnIdentifier> l = new ArrayList<ColumnIdentifier>();
+		try {
+			// Parser.g:890:5: (k1= ident | '(' k1= ident ( ',' kn= ident )* ')' )
+			int alt124=2;
+			int LA124_0 = input.LA(1);
+			if ( (LA124_0==IDENT||LA124_0==K_ACCESS||(LA124_0 >= K_AGGREGATE && LA124_0 <= K_ALL)||LA124_0==K_ANN||LA124_0==K_AS||LA124_0==K_ASCII||(LA124_0 >= K_BETWEEN && LA124_0 <= K_BOOLEAN)||(LA124_0 >= K_CALLED && LA124_0 <= K_CLUSTERING)||(LA124_0 >= K_COMPACT && LA124_0 <= K_COUNTER)||(LA124_0 >= K_CUSTOM && LA124_0 <= K_DEFAULT)||(LA124_0 >= K_DISTINCT && LA124_0 <= K_DOUBLE)||LA124_0==K_DURATION||(LA124_0 >= K_EXISTS && LA124_0 <= K_FLOAT)||LA124_0==K_FROZEN||(LA124_0 >= K_FUNCTION && LA124_0 <= K_GENERATED)||(LA124_0 >= K_GROUP && LA124_0 <= K_IDENTITY)||(LA124_0 >= K_INET && LA124_0 <= K_INPUT)||(LA124_0 >= K_INT && LA124_0 <= K_INTERNALS)||(LA124_0 >= K_JSON && LA124_0 <= K_KEYS)||(LA124_0 >= K_KEYSPACES && LA124_0 <= K_LIKE)||(LA124_0 >= K_LIST && LA124_0 <= K_MASKED)||(LA124_0 >= K_MAXWRITETIME && LA124_0 <= K_MBEANS)||LA124_0==K_NOLOGIN||LA124_0==K_NOSUPERUSER||(LA124_0 >= K_ONLY && LA124_0 <= K_OPTIONS)||(LA124_0 >= K_PARTITION && LA124_0 <= K_PERMISSIONS)||(LA124_0 >= K_REPLACE && LA124_0 <= K_RETURNS)||(LA124_0 >= K_ROLE && LA124_0 <= K_ROLES)||LA124_0==K_SELECT_MASKED||(LA124_0 >= K_SFUNC && LA124_0 <= K_TINYINT)||LA124_0==K_TRIGGER||(LA124_0 >= K_TTL && LA124_0 <= K_TYPES)||(LA124_0 >= K_UNMASK && LA124_0 <= K_UNSET)||(LA124_0 >= K_USER && LA124_0 <= K_USERS)||(LA124_0 >= K_UUID && LA124_0 <= K_VECTOR)||LA124_0==K_WRITETIME||LA124_0==QUOTED_NAME) ) {
+				alt124=1;
+			}
+			else if ( (LA124_0==212) ) {
+				alt124=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 124, 0, input);
+				throw nvae;
+			}
+
+			switch (alt124) {
+				case 1 :
+					// Parser.g:890:7: k1= ident
+					{
+					pushFollow(FOLLOW_ident_in_viewPartitionKey6196);
+					k1=ident();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { l.add(k1);}
+					}
+					break;
+				case 2 :
+					// Parser.g:891:7: '(' k1= ident ( ',' kn= ident )* ')'
+					{
+					match(input,212,FOLLOW_212_in_viewPartitionKey6206); if (state.failed) return;
+					pushFollow(FOLLOW_ident_in_viewPartitionKey6210);
+					k1=ident();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { l.add(k1); }
+					// Parser.g:891:35: ( ',' kn= ident )*
+					loop123:
+					while (true) {
+						int alt123=2;
+						int LA123_0 = input.LA(1);
+						if ( (LA123_0==216) ) {
+							alt123=1;
+						}
+
+						switch (alt123) {
+						case 1 :
+							// Parser.g:891:37: ',' kn= ident
+							{
+							match(input,216,FOLLOW_216_in_viewPartitionKey6216); if (state.failed) return;
+							pushFollow(FOLLOW_ident_in_viewPartitionKey6220);
+							kn=ident();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { l.add(kn); }
+							}
+							break;
+
+						default :
+							break loop123;
+						}
+					}
+
+					match(input,213,FOLLOW_213_in_viewPartitionKey6227); if (state.failed) return;
+					}
+					break;
+
+			}
+			if ( state.backtracking==0 ) { stmt.setPartitionKeyColumns(l); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "viewPartitionKey"
+
+
+
+	// $ANTLR start "viewProperty"
+	// Parser.g:894:1: viewProperty[CreateViewStatement.Raw stmt] : ( property[stmt.attrs] | K_COMPACT K_STORAGE | K_CLUSTERING K_ORDER K_BY '(' viewClusteringOrder[stmt] ( ',' viewClusteringOrder[stmt] )* ')' );
+	public final void viewProperty(CreateViewStatement.Raw stmt) throws RecognitionException {
+		try {
+			// Parser.g:895:5: ( property[stmt.attrs] | K_COMPACT K_STORAGE | K_CLUSTERING K_ORDER K_BY '(' viewClusteringOrder[stmt] ( ',' viewClusteringOrder[stmt] )* ')' )
+			int alt126=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+			case QUOTED_NAME:
+				{
+				alt126=1;
+				}
+				break;
+			case K_COMPACT:
+				{
+				int LA126_2 = input.LA(2);
+				if ( (LA126_2==K_STORAGE) ) {
+					alt126=2;
+				}
+				else if ( (LA126_2==225) ) {
+					alt126=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 126, 2, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case K_CLUSTERING:
+				{
+				int LA126_3 = input.LA(2);
+				if ( (LA126_3==K_ORDER) ) {
+					alt126=3;
+				}
+				else if ( (LA126_3==225) ) {
+					alt126=1;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 126, 3, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 126, 0, input);
+				throw nvae;
+			}
+			switch (alt126) {
+				case 1 :
+					// Parser.g:895:7: property[stmt.attrs]
+					{
+					pushFollow(FOLLOW_property_in_viewProperty6245);
+					property(stmt.attrs);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:896:7: K_COMPACT K_STORAGE
+					{
+					match(input,K_COMPACT,FOLLOW_K_COMPACT_in_viewProperty6254); if (state.failed) return;
+					match(input,K_STORAGE,FOLLOW_K_STORAGE_in_viewProperty6256); if (state.failed) return;
+					if ( state.backtracking==0 ) { throw new SyntaxException("COMPACT STORAGE tables are not allowed starting with version 4.0"); }
+					}
+					break;
+				case 3 :
+					// Parser.g:897:7: K_CLUSTERING K_ORDER K_BY '(' viewClusteringOrder[stmt] ( ',' viewClusteringOrder[stmt] )* ')'
+					{
+					match(input,K_CLUSTERING,FOLLOW_K_CLUSTERING_in_viewProperty6266); if (state.failed) return;
+					match(input,K_ORDER,FOLLOW_K_ORDER_in_viewProperty6268); if (state.failed) return;
+					match(input,K_BY,FOLLOW_K_BY_in_viewProperty6270); if (state.failed) return;
+					match(input,212,FOLLOW_212_in_viewProperty6272); if (state.failed) return;
+					pushFollow(FOLLOW_viewClusteringOrder_in_viewProperty6274);
+					viewClusteringOrder(stmt);
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:897:63: ( ',' viewClusteringOrder[stmt] )*
+					loop125:
+					while (true) {
+						int alt125=2;
+						int LA125_0 = input.LA(1);
+						if ( (LA125_0==216) ) {
+							alt125=1;
+						}
+
+						switch (alt125) {
+						case 1 :
+							// Parser.g:897:64: ',' viewClusteringOrder[stmt]
+							{
+							match(input,216,FOLLOW_216_in_viewProperty6278); if (state.failed) return;
+							pushFollow(FOLLOW_viewClusteringOrder_in_viewProperty6280);
+							viewClusteringOrder(stmt);
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+						default :
+							break loop125;
+						}
+					}
+
+					match(input,213,FOLLOW_213_in_viewProperty6285); if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "viewProperty"
+
+
+
+	// $ANTLR start "viewClusteringOrder"
+	// Parser.g:900:1: viewClusteringOrder[CreateViewStatement.Raw stmt] : k= ident ( K_ASC | K_DESC ) ;
+	public final void viewClusteringOrder(CreateViewStatement.Raw stmt) throws RecognitionException {
+		ColumnIdentifier k =null;
+
+		 boolean ascending = true; 
+		try {
+			// Parser.g:902:5: (k= ident ( K_ASC | K_DESC ) )
+			// Parser.g:902:7: k= ident ( K_ASC | K_DESC )
+			{
+			pushFollow(FOLLOW_ident_in_viewClusteringOrder6313);
+			k=ident();
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:902:15: ( K_ASC | K_DESC )
+			int alt127=2;
+			int LA127_0 = input.LA(1);
+			if ( (LA127_0==K_ASC) ) {
+				alt127=1;
+			}
+			else if ( (LA127_0==K_DESC) ) {
+				alt127=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 127, 0, input);
+				throw nvae;
+			}
+
+			switch (alt127) {
+				case 1 :
+					// Parser.g:902:16: K_ASC
+					{
+					match(input,K_ASC,FOLLOW_K_ASC_in_viewClusteringOrder6316); if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:902:24: K_DESC
+					{
+					match(input,K_DESC,FOLLOW_K_DESC_in_viewClusteringOrder6320); if (state.failed) return;
+					if ( state.backtracking==0 ) { ascending = false; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt.extendClusteringOrder(k, ascending); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "viewClusteringOrder"
+
+
+
+	// $ANTLR start "createTriggerStatement"
+	// Parser.g:908:1: createTriggerStatement returns [CreateTriggerStatement.Raw stmt] : K_CREATE K_TRIGGER ( K_IF K_NOT K_EXISTS )? (name= ident ) K_ON cf= columnFamilyName K_USING cls= STRING_LITERAL ;
+	public final CreateTriggerStatement.Raw createTriggerStatement() throws RecognitionException {
+		CreateTriggerStatement.Raw stmt = null;
+
+
+		Token cls=null;
+		ColumnIdentifier name =null;
+		QualifiedName cf =null;
+
+
+		        boolean ifNotExists = false;
+		    
+		try {
+			// Parser.g:912:5: ( K_CREATE K_TRIGGER ( K_IF K_NOT K_EXISTS )? (name= ident ) K_ON cf= columnFamilyName K_USING cls= STRING_LITERAL )
+			// Parser.g:912:7: K_CREATE K_TRIGGER ( K_IF K_NOT K_EXISTS )? (name= ident ) K_ON cf= columnFamilyName K_USING cls= STRING_LITERAL
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createTriggerStatement6358); if (state.failed) return stmt;
+			match(input,K_TRIGGER,FOLLOW_K_TRIGGER_in_createTriggerStatement6360); if (state.failed) return stmt;
+			// Parser.g:912:26: ( K_IF K_NOT K_EXISTS )?
+			int alt128=2;
+			int LA128_0 = input.LA(1);
+			if ( (LA128_0==K_IF) ) {
+				alt128=1;
+			}
+			switch (alt128) {
+				case 1 :
+					// Parser.g:912:27: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createTriggerStatement6363); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createTriggerStatement6365); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createTriggerStatement6367); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			// Parser.g:912:74: (name= ident )
+			// Parser.g:912:75: name= ident
+			{
+			pushFollow(FOLLOW_ident_in_createTriggerStatement6377);
+			name=ident();
+			state._fsp--;
+			if (state.failed) return stmt;
+			}
+
+			match(input,K_ON,FOLLOW_K_ON_in_createTriggerStatement6388); if (state.failed) return stmt;
+			pushFollow(FOLLOW_columnFamilyName_in_createTriggerStatement6392);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_USING,FOLLOW_K_USING_in_createTriggerStatement6394); if (state.failed) return stmt;
+			cls=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_createTriggerStatement6398); if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new CreateTriggerStatement.Raw(cf, name.toString(), (cls!=null?cls.getText():null), ifNotExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createTriggerStatement"
+
+
+
+	// $ANTLR start "dropTriggerStatement"
+	// Parser.g:920:1: dropTriggerStatement returns [DropTriggerStatement.Raw stmt] : K_DROP K_TRIGGER ( K_IF K_EXISTS )? (name= ident ) K_ON cf= columnFamilyName ;
+	public final DropTriggerStatement.Raw dropTriggerStatement() throws RecognitionException {
+		DropTriggerStatement.Raw stmt = null;
+
+
+		ColumnIdentifier name =null;
+		QualifiedName cf =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:922:5: ( K_DROP K_TRIGGER ( K_IF K_EXISTS )? (name= ident ) K_ON cf= columnFamilyName )
+			// Parser.g:922:7: K_DROP K_TRIGGER ( K_IF K_EXISTS )? (name= ident ) K_ON cf= columnFamilyName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropTriggerStatement6439); if (state.failed) return stmt;
+			match(input,K_TRIGGER,FOLLOW_K_TRIGGER_in_dropTriggerStatement6441); if (state.failed) return stmt;
+			// Parser.g:922:24: ( K_IF K_EXISTS )?
+			int alt129=2;
+			int LA129_0 = input.LA(1);
+			if ( (LA129_0==K_IF) ) {
+				alt129=1;
+			}
+			switch (alt129) {
+				case 1 :
+					// Parser.g:922:25: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropTriggerStatement6444); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropTriggerStatement6446); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			// Parser.g:922:63: (name= ident )
+			// Parser.g:922:64: name= ident
+			{
+			pushFollow(FOLLOW_ident_in_dropTriggerStatement6456);
+			name=ident();
+			state._fsp--;
+			if (state.failed) return stmt;
+			}
+
+			match(input,K_ON,FOLLOW_K_ON_in_dropTriggerStatement6459); if (state.failed) return stmt;
+			pushFollow(FOLLOW_columnFamilyName_in_dropTriggerStatement6463);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropTriggerStatement.Raw(cf, name.toString(), ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropTriggerStatement"
+
+
+
+	// $ANTLR start "alterKeyspaceStatement"
+	// Parser.g:929:1: alterKeyspaceStatement returns [AlterKeyspaceStatement.Raw stmt] : K_ALTER K_KEYSPACE ( K_IF K_EXISTS )? ks= keyspaceName K_WITH properties[attrs] ;
+	public final AlterKeyspaceStatement.Raw alterKeyspaceStatement() throws RecognitionException {
+		AlterKeyspaceStatement.Raw stmt = null;
+
+
+		String ks =null;
+
+
+		     KeyspaceAttributes attrs = new KeyspaceAttributes();
+		     boolean ifExists = false;
+		    
+		try {
+			// Parser.g:934:5: ( K_ALTER K_KEYSPACE ( K_IF K_EXISTS )? ks= keyspaceName K_WITH properties[attrs] )
+			// Parser.g:934:7: K_ALTER K_KEYSPACE ( K_IF K_EXISTS )? ks= keyspaceName K_WITH properties[attrs]
+			{
+			match(input,K_ALTER,FOLLOW_K_ALTER_in_alterKeyspaceStatement6503); if (state.failed) return stmt;
+			match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_alterKeyspaceStatement6505); if (state.failed) return stmt;
+			// Parser.g:934:26: ( K_IF K_EXISTS )?
+			int alt130=2;
+			int LA130_0 = input.LA(1);
+			if ( (LA130_0==K_IF) ) {
+				alt130=1;
+			}
+			switch (alt130) {
+				case 1 :
+					// Parser.g:934:27: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_alterKeyspaceStatement6508); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterKeyspaceStatement6510); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_keyspaceName_in_alterKeyspaceStatement6519);
+			ks=keyspaceName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_WITH,FOLLOW_K_WITH_in_alterKeyspaceStatement6529); if (state.failed) return stmt;
+			pushFollow(FOLLOW_properties_in_alterKeyspaceStatement6531);
+			properties(attrs);
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new AlterKeyspaceStatement.Raw(ks, attrs, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "alterKeyspaceStatement"
+
+
+
+	// $ANTLR start "alterTableStatement"
+	// Parser.g:947:1: alterTableStatement returns [AlterTableStatement.Raw stmt] : K_ALTER K_COLUMNFAMILY ( K_IF K_EXISTS )? cf= columnFamilyName ( K_ALTER id= cident K_TYPE v= comparatorType | K_ALTER ( K_IF K_EXISTS )? id= cident (mask= columnMask | K_DROP K_MASKED ) | K_ADD ( K_IF K_NOT K_EXISTS )? (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) ) | K_DROP ( K_IF K_EXISTS )? (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) ) ( K_USING K_TIMESTAMP t= INTEGER )? | K_RENAME ( K_IF K_EXISTS )? (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* ) | K_DROP K_COMPACT K_STORAGE | K_WITH properties[$stmt.attrs] ) ;
+	public final AlterTableStatement.Raw alterTableStatement() throws RecognitionException {
+		AlterTableStatement.Raw stmt = null;
+
+
+		Token t=null;
+		QualifiedName cf =null;
+		ColumnIdentifier id =null;
+		CQL3Type.Raw v =null;
+		ColumnMask.Raw mask =null;
+		boolean b =false;
+		ColumnMask.Raw m =null;
+		ColumnIdentifier id1 =null;
+		CQL3Type.Raw v1 =null;
+		boolean b1 =false;
+		ColumnMask.Raw m1 =null;
+		ColumnIdentifier idn =null;
+		CQL3Type.Raw vn =null;
+		boolean bn =false;
+		ColumnMask.Raw mn =null;
+		ColumnIdentifier toId1 =null;
+		ColumnIdentifier toIdn =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:949:5: ( K_ALTER K_COLUMNFAMILY ( K_IF K_EXISTS )? cf= columnFamilyName ( K_ALTER id= cident K_TYPE v= comparatorType | K_ALTER ( K_IF K_EXISTS )? id= cident (mask= columnMask | K_DROP K_MASKED ) | K_ADD ( K_IF K_NOT K_EXISTS )? (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) ) | K_DROP ( K_IF K_EXISTS )? (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) ) ( K_USING K_TIMESTAMP t= INTEGER )? | K_RENAME ( K_IF K_EXISTS )? (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* ) | K_DROP K_COMPACT K_STORAGE | K_WITH properties[$stmt.attrs] ) )
+			// Parser.g:949:7: K_ALTER K_COLUMNFAMILY ( K_IF K_EXISTS )? cf= columnFamilyName ( K_ALTER id= cident K_TYPE v= comparatorType | K_ALTER ( K_IF K_EXISTS )? id= cident (mask= columnMask | K_DROP K_MASKED ) | K_ADD ( K_IF K_NOT K_EXISTS )? (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) ) | K_DROP ( K_IF K_EXISTS )? (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) ) ( K_USING K_TIMESTAMP t= INTEGER )? | K_RENAME ( K_IF K_EXISTS )? (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* ) | K_DROP K_COMPACT K_STORAGE | K_WITH properties[$stmt.attrs] )
+			{
+			match(input,K_ALTER,FOLLOW_K_ALTER_in_alterTableStatement6566); if (state.failed) return stmt;
+			match(input,K_COLUMNFAMILY,FOLLOW_K_COLUMNFAMILY_in_alterTableStatement6568); if (state.failed) return stmt;
+			// Parser.g:949:30: ( K_IF K_EXISTS )?
+			int alt131=2;
+			int LA131_0 = input.LA(1);
+			if ( (LA131_0==K_IF) ) {
+				alt131=1;
+			}
+			switch (alt131) {
+				case 1 :
+					// Parser.g:949:31: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_alterTableStatement6571); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTableStatement6573); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_alterTableStatement6588);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new AlterTableStatement.Raw(cf, ifExists); }
+			// Parser.g:951:7: ( K_ALTER id= cident K_TYPE v= comparatorType | K_ALTER ( K_IF K_EXISTS )? id= cident (mask= columnMask | K_DROP K_MASKED ) | K_ADD ( K_IF K_NOT K_EXISTS )? (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) ) | K_DROP ( K_IF K_EXISTS )? (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) ) ( K_USING K_TIMESTAMP t= INTEGER )? | K_RENAME ( K_IF K_EXISTS )? (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* ) | K_DROP K_COMPACT K_STORAGE | K_WITH properties[$stmt.attrs] )
+			int alt146=7;
+			alt146 = dfa146.predict(input);
+			switch (alt146) {
+				case 1 :
+					// Parser.g:952:9: K_ALTER id= cident K_TYPE v= comparatorType
+					{
+					match(input,K_ALTER,FOLLOW_K_ALTER_in_alterTableStatement6608); if (state.failed) return stmt;
+					pushFollow(FOLLOW_cident_in_alterTableStatement6612);
+					id=cident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					match(input,K_TYPE,FOLLOW_K_TYPE_in_alterTableStatement6614); if (state.failed) return stmt;
+					pushFollow(FOLLOW_comparatorType_in_alterTableStatement6618);
+					v=comparatorType();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.alter(id, v); }
+					}
+					break;
+				case 2 :
+					// Parser.g:954:9: K_ALTER ( K_IF K_EXISTS )? id= cident (mask= columnMask | K_DROP K_MASKED )
+					{
+					match(input,K_ALTER,FOLLOW_K_ALTER_in_alterTableStatement6631); if (state.failed) return stmt;
+					// Parser.g:954:17: ( K_IF K_EXISTS )?
+					int alt132=2;
+					int LA132_0 = input.LA(1);
+					if ( (LA132_0==K_IF) ) {
+						alt132=1;
+					}
+					switch (alt132) {
+						case 1 :
+							// Parser.g:954:19: K_IF K_EXISTS
+							{
+							match(input,K_IF,FOLLOW_K_IF_in_alterTableStatement6635); if (state.failed) return stmt;
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTableStatement6637); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.ifColumnExists(true); }
+							}
+							break;
+
+					}
+
+					pushFollow(FOLLOW_cident_in_alterTableStatement6646);
+					id=cident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					// Parser.g:955:15: (mask= columnMask | K_DROP K_MASKED )
+					int alt133=2;
+					int LA133_0 = input.LA(1);
+					if ( (LA133_0==K_MASKED) ) {
+						alt133=1;
+					}
+					else if ( (LA133_0==K_DROP) ) {
+						alt133=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return stmt;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 133, 0, input);
+						throw nvae;
+					}
+
+					switch (alt133) {
+						case 1 :
+							// Parser.g:955:17: mask= columnMask
+							{
+							pushFollow(FOLLOW_columnMask_in_alterTableStatement6666);
+							mask=columnMask();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.mask(id, mask); }
+							}
+							break;
+						case 2 :
+							// Parser.g:956:17: K_DROP K_MASKED
+							{
+							match(input,K_DROP,FOLLOW_K_DROP_in_alterTableStatement6686); if (state.failed) return stmt;
+							match(input,K_MASKED,FOLLOW_K_MASKED_in_alterTableStatement6688); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.mask(id, null); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 3 :
+					// Parser.g:958:9: K_ADD ( K_IF K_NOT K_EXISTS )? (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) )
+					{
+					match(input,K_ADD,FOLLOW_K_ADD_in_alterTableStatement6703); if (state.failed) return stmt;
+					// Parser.g:958:15: ( K_IF K_NOT K_EXISTS )?
+					int alt134=2;
+					int LA134_0 = input.LA(1);
+					if ( (LA134_0==K_IF) ) {
+						alt134=1;
+					}
+					switch (alt134) {
+						case 1 :
+							// Parser.g:958:17: K_IF K_NOT K_EXISTS
+							{
+							match(input,K_IF,FOLLOW_K_IF_in_alterTableStatement6707); if (state.failed) return stmt;
+							match(input,K_NOT,FOLLOW_K_NOT_in_alterTableStatement6709); if (state.failed) return stmt;
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTableStatement6711); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.ifColumnNotExists(true); }
+							}
+							break;
+
+					}
+
+					// Parser.g:959:15: (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) )
+					int alt139=2;
+					int LA139_0 = input.LA(1);
+					if ( (LA139_0==IDENT||LA139_0==K_ACCESS||(LA139_0 >= K_AGGREGATE && LA139_0 <= K_ALL)||LA139_0==K_ANN||LA139_0==K_AS||LA139_0==K_ASCII||(LA139_0 >= K_BETWEEN && LA139_0 <= K_BOOLEAN)||(LA139_0 >= K_CALLED && LA139_0 <= K_CLUSTERING)||(LA139_0 >= K_COMPACT && LA139_0 <= K_COUNTER)||(LA139_0 >= K_CUSTOM && LA139_0 <= K_DEFAULT)||(LA139_0 >= K_DISTINCT && LA139_0 <= K_DOUBLE)||LA139_0==K_DURATION||(LA139_0 >= K_EXISTS && LA139_0 <= K_FLOAT)||LA139_0==K_FROZEN||(LA139_0 >= K_FUNCTION && LA139_0 <= K_GENERATED)||(LA139_0 >= K_GROUP && LA139_0 <= K_IDENTITY)||(LA139_0 >= K_INET && LA139_0 <= K_INPUT)||(LA139_0 >= K_INT && LA139_0 <= K_INTERNALS)||(LA139_0 >= K_JSON && LA139_0 <= K_KEYS)||(LA139_0 >= K_KEYSPACES && LA139_0 <= K_LIKE)||(LA139_0 >= K_LIST && LA139_0 <= K_MASKED)||(LA139_0 >= K_MAXWRITETIME && LA139_0 <= K_MBEANS)||LA139_0==K_NOLOGIN||LA139_0==K_NOSUPERUSER||(LA139_0 >= K_ONLY && LA139_0 <= K_OPTIONS)||(LA139_0 >= K_PARTITION && LA139_0 <= K_PERMISSIONS)||(LA139_0 >= K_REPLACE && LA139_0 <= K_RETURNS)||(LA139_0 >= K_ROLE && LA139_0 <= K_ROLES)||LA139_0==K_SELECT_MASKED||(LA139_0 >= K_SFUNC && LA139_0 <= K_TINYINT)||LA139_0==K_TRIGGER||(LA139_0 >= K_TTL && LA139_0 <= K_TYPES)||(LA139_0 >= K_UNMASK && LA139_0 <= K_UNSET)||(LA139_0 >= K_USER && LA139_0 <= K_USERS)||(LA139_0 >= K_UUID && LA139_0 <= K_VECTOR)||LA139_0==K_WRITETIME||LA139_0==QUOTED_NAME) ) {
+						alt139=1;
+					}
+					else if ( (LA139_0==212) ) {
+						alt139=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return stmt;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 139, 0, input);
+						throw nvae;
+					}
+
+					switch (alt139) {
+						case 1 :
+							// Parser.g:959:24: id= ident v= comparatorType b= isStaticColumn (m= columnMask )?
+							{
+							pushFollow(FOLLOW_ident_in_alterTableStatement6743);
+							id=ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							pushFollow(FOLLOW_comparatorType_in_alterTableStatement6748);
+							v=comparatorType();
+							state._fsp--;
+							if (state.failed) return stmt;
+							pushFollow(FOLLOW_isStaticColumn_in_alterTableStatement6753);
+							b=isStaticColumn();
+							state._fsp--;
+							if (state.failed) return stmt;
+							// Parser.g:959:69: (m= columnMask )?
+							int alt135=2;
+							int LA135_0 = input.LA(1);
+							if ( (LA135_0==K_MASKED) ) {
+								alt135=1;
+							}
+							switch (alt135) {
+								case 1 :
+									// Parser.g:959:70: m= columnMask
+									{
+									pushFollow(FOLLOW_columnMask_in_alterTableStatement6758);
+									m=columnMask();
+									state._fsp--;
+									if (state.failed) return stmt;
+									}
+									break;
+
+							}
+
+							if ( state.backtracking==0 ) { stmt.add(id,  v,  b, m);  }
+							}
+							break;
+						case 2 :
+							// Parser.g:960:18: ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' )
+							{
+							// Parser.g:960:18: ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' )
+							// Parser.g:960:19: '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')'
+							{
+							match(input,212,FOLLOW_212_in_alterTableStatement6782); if (state.failed) return stmt;
+							pushFollow(FOLLOW_ident_in_alterTableStatement6787);
+							id1=ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							pushFollow(FOLLOW_comparatorType_in_alterTableStatement6791);
+							v1=comparatorType();
+							state._fsp--;
+							if (state.failed) return stmt;
+							pushFollow(FOLLOW_isStaticColumn_in_alterTableStatement6795);
+							b1=isStaticColumn();
+							state._fsp--;
+							if (state.failed) return stmt;
+							// Parser.g:960:70: (m1= columnMask )?
+							int alt136=2;
+							int LA136_0 = input.LA(1);
+							if ( (LA136_0==K_MASKED) ) {
+								alt136=1;
+							}
+							switch (alt136) {
+								case 1 :
+									// Parser.g:960:71: m1= columnMask
+									{
+									pushFollow(FOLLOW_columnMask_in_alterTableStatement6800);
+									m1=columnMask();
+									state._fsp--;
+									if (state.failed) return stmt;
+									}
+									break;
+
+							}
+
+							if ( state.backtracking==0 ) { stmt.add(id1, v1, b1, m1); }
+							// Parser.g:961:18: ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )*
+							loop138:
+							while (true) {
+								int alt138=2;
+								int LA138_0 = input.LA(1);
+								if ( (LA138_0==216) ) {
+									alt138=1;
+								}
+
+								switch (alt138) {
+								case 1 :
+									// Parser.g:961:20: ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )?
+									{
+									match(input,216,FOLLOW_216_in_alterTableStatement6825); if (state.failed) return stmt;
+									pushFollow(FOLLOW_ident_in_alterTableStatement6829);
+									idn=ident();
+									state._fsp--;
+									if (state.failed) return stmt;
+									pushFollow(FOLLOW_comparatorType_in_alterTableStatement6833);
+									vn=comparatorType();
+									state._fsp--;
+									if (state.failed) return stmt;
+									pushFollow(FOLLOW_isStaticColumn_in_alterTableStatement6837);
+									bn=isStaticColumn();
+									state._fsp--;
+									if (state.failed) return stmt;
+									// Parser.g:961:70: (mn= columnMask )?
+									int alt137=2;
+									int LA137_0 = input.LA(1);
+									if ( (LA137_0==K_MASKED) ) {
+										alt137=1;
+									}
+									switch (alt137) {
+										case 1 :
+											// Parser.g:961:71: mn= columnMask
+											{
+											pushFollow(FOLLOW_columnMask_in_alterTableStatement6842);
+											mn=columnMask();
+											state._fsp--;
+											if (state.failed) return stmt;
+											}
+											break;
+
+									}
+
+									if ( state.backtracking==0 ) { stmt.add(idn, vn, bn, mn); mn=null; }
+									}
+									break;
+
+								default :
+									break loop138;
+								}
+							}
+
+							match(input,213,FOLLOW_213_in_alterTableStatement6851); if (state.failed) return stmt;
+							}
+
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 4 :
+					// Parser.g:963:9: K_DROP ( K_IF K_EXISTS )? (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) ) ( K_USING K_TIMESTAMP t= INTEGER )?
+					{
+					match(input,K_DROP,FOLLOW_K_DROP_in_alterTableStatement6865); if (state.failed) return stmt;
+					// Parser.g:963:16: ( K_IF K_EXISTS )?
+					int alt140=2;
+					int LA140_0 = input.LA(1);
+					if ( (LA140_0==K_IF) ) {
+						alt140=1;
+					}
+					switch (alt140) {
+						case 1 :
+							// Parser.g:963:18: K_IF K_EXISTS
+							{
+							match(input,K_IF,FOLLOW_K_IF_in_alterTableStatement6869); if (state.failed) return stmt;
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTableStatement6871); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.ifColumnExists(true); }
+							}
+							break;
+
+					}
+
+					// Parser.g:964:16: (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) )
+					int alt142=2;
+					int LA142_0 = input.LA(1);
+					if ( (LA142_0==IDENT||LA142_0==K_ACCESS||(LA142_0 >= K_AGGREGATE && LA142_0 <= K_ALL)||LA142_0==K_ANN||LA142_0==K_AS||LA142_0==K_ASCII||(LA142_0 >= K_BETWEEN && LA142_0 <= K_BOOLEAN)||(LA142_0 >= K_CALLED && LA142_0 <= K_CLUSTERING)||(LA142_0 >= K_COMPACT && LA142_0 <= K_COUNTER)||(LA142_0 >= K_CUSTOM && LA142_0 <= K_DEFAULT)||(LA142_0 >= K_DISTINCT && LA142_0 <= K_DOUBLE)||LA142_0==K_DURATION||(LA142_0 >= K_EXISTS && LA142_0 <= K_FLOAT)||LA142_0==K_FROZEN||(LA142_0 >= K_FUNCTION && LA142_0 <= K_GENERATED)||(LA142_0 >= K_GROUP && LA142_0 <= K_IDENTITY)||(LA142_0 >= K_INET && LA142_0 <= K_INPUT)||(LA142_0 >= K_INT && LA142_0 <= K_INTERNALS)||(LA142_0 >= K_JSON && LA142_0 <= K_KEYS)||(LA142_0 >= K_KEYSPACES && LA142_0 <= K_LIKE)||(LA142_0 >= K_LIST && LA142_0 <= K_MASKED)||(LA142_0 >= K_MAXWRITETIME && LA142_0 <= K_MBEANS)||LA142_0==K_NOLOGIN||LA142_0==K_NOSUPERUSER||(LA142_0 >= K_ONLY && LA142_0 <= K_OPTIONS)||(LA142_0 >= K_PARTITION && LA142_0 <= K_PERMISSIONS)||(LA142_0 >= K_REPLACE && LA142_0 <= K_RETURNS)||(LA142_0 >= K_ROLE && LA142_0 <= K_ROLES)||LA142_0==K_SELECT_MASKED||(LA142_0 >= K_SFUNC && LA142_0 <= K_TINYINT)||LA142_0==K_TRIGGER||(LA142_0 >= K_TTL && LA142_0 <= K_TYPES)||(LA142_0 >= K_UNMASK && LA142_0 <= K_UNSET)||(LA142_0 >= K_USER && LA142_0 <= K_USERS)||(LA142_0 >= K_UUID && LA142_0 <= K_VECTOR)||LA142_0==K_WRITETIME||LA142_0==QUOTED_NAME) ) {
+						alt142=1;
+					}
+					else if ( (LA142_0==212) ) {
+						alt142=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return stmt;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 142, 0, input);
+						throw nvae;
+					}
+
+					switch (alt142) {
+						case 1 :
+							// Parser.g:964:24: id= ident
+							{
+							pushFollow(FOLLOW_ident_in_alterTableStatement6903);
+							id=ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.drop(id);  }
+							}
+							break;
+						case 2 :
+							// Parser.g:965:18: ( '(' id1= ident ( ',' idn= ident )* ')' )
+							{
+							// Parser.g:965:18: ( '(' id1= ident ( ',' idn= ident )* ')' )
+							// Parser.g:965:19: '(' id1= ident ( ',' idn= ident )* ')'
+							{
+							match(input,212,FOLLOW_212_in_alterTableStatement6925); if (state.failed) return stmt;
+							pushFollow(FOLLOW_ident_in_alterTableStatement6930);
+							id1=ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.drop(id1); }
+							// Parser.g:966:18: ( ',' idn= ident )*
+							loop141:
+							while (true) {
+								int alt141=2;
+								int LA141_0 = input.LA(1);
+								if ( (LA141_0==216) ) {
+									alt141=1;
+								}
+
+								switch (alt141) {
+								case 1 :
+									// Parser.g:966:20: ',' idn= ident
+									{
+									match(input,216,FOLLOW_216_in_alterTableStatement6953); if (state.failed) return stmt;
+									pushFollow(FOLLOW_ident_in_alterTableStatement6957);
+									idn=ident();
+									state._fsp--;
+									if (state.failed) return stmt;
+									if ( state.backtracking==0 ) { stmt.drop(idn); }
+									}
+									break;
+
+								default :
+									break loop141;
+								}
+							}
+
+							match(input,213,FOLLOW_213_in_alterTableStatement6964); if (state.failed) return stmt;
+							}
+
+							}
+							break;
+
+					}
+
+					// Parser.g:967:16: ( K_USING K_TIMESTAMP t= INTEGER )?
+					int alt143=2;
+					int LA143_0 = input.LA(1);
+					if ( (LA143_0==K_USING) ) {
+						alt143=1;
+					}
+					switch (alt143) {
+						case 1 :
+							// Parser.g:967:18: K_USING K_TIMESTAMP t= INTEGER
+							{
+							match(input,K_USING,FOLLOW_K_USING_in_alterTableStatement6986); if (state.failed) return stmt;
+							match(input,K_TIMESTAMP,FOLLOW_K_TIMESTAMP_in_alterTableStatement6988); if (state.failed) return stmt;
+							t=(Token)match(input,INTEGER,FOLLOW_INTEGER_in_alterTableStatement6992); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.timestamp(Long.parseLong(Constants.Literal.integer((t!=null?t.getText():null)).getText())); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 5 :
+					// Parser.g:969:9: K_RENAME ( K_IF K_EXISTS )? (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* )
+					{
+					match(input,K_RENAME,FOLLOW_K_RENAME_in_alterTableStatement7008); if (state.failed) return stmt;
+					// Parser.g:969:18: ( K_IF K_EXISTS )?
+					int alt144=2;
+					int LA144_0 = input.LA(1);
+					if ( (LA144_0==K_IF) ) {
+						alt144=1;
+					}
+					switch (alt144) {
+						case 1 :
+							// Parser.g:969:20: K_IF K_EXISTS
+							{
+							match(input,K_IF,FOLLOW_K_IF_in_alterTableStatement7012); if (state.failed) return stmt;
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTableStatement7014); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.ifColumnExists(true); }
+							}
+							break;
+
+					}
+
+					// Parser.g:970:16: (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* )
+					// Parser.g:970:25: id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )*
+					{
+					pushFollow(FOLLOW_ident_in_alterTableStatement7047);
+					id1=ident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					match(input,K_TO,FOLLOW_K_TO_in_alterTableStatement7049); if (state.failed) return stmt;
+					pushFollow(FOLLOW_ident_in_alterTableStatement7053);
+					toId1=ident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.rename(id1, toId1); }
+					// Parser.g:971:17: ( K_AND idn= ident K_TO toIdn= ident )*
+					loop145:
+					while (true) {
+						int alt145=2;
+						int LA145_0 = input.LA(1);
+						if ( (LA145_0==K_AND) ) {
+							alt145=1;
+						}
+
+						switch (alt145) {
+						case 1 :
+							// Parser.g:971:19: K_AND idn= ident K_TO toIdn= ident
+							{
+							match(input,K_AND,FOLLOW_K_AND_in_alterTableStatement7075); if (state.failed) return stmt;
+							pushFollow(FOLLOW_ident_in_alterTableStatement7079);
+							idn=ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							match(input,K_TO,FOLLOW_K_TO_in_alterTableStatement7081); if (state.failed) return stmt;
+							pushFollow(FOLLOW_ident_in_alterTableStatement7085);
+							toIdn=ident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.rename(idn, toIdn); }
+							}
+							break;
+
+						default :
+							break loop145;
+						}
+					}
+
+					}
+
+					}
+					break;
+				case 6 :
+					// Parser.g:973:9: K_DROP K_COMPACT K_STORAGE
+					{
+					match(input,K_DROP,FOLLOW_K_DROP_in_alterTableStatement7103); if (state.failed) return stmt;
+					match(input,K_COMPACT,FOLLOW_K_COMPACT_in_alterTableStatement7105); if (state.failed) return stmt;
+					match(input,K_STORAGE,FOLLOW_K_STORAGE_in_alterTableStatement7107); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.dropCompactStorage(); }
+					}
+					break;
+				case 7 :
+					// Parser.g:975:9: K_WITH properties[$stmt.attrs]
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_alterTableStatement7120); if (state.failed) return stmt;
+					pushFollow(FOLLOW_properties_in_alterTableStatement7122);
+					properties(stmt.attrs);
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.attrs(); }
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "alterTableStatement"
+
+
+
+	// $ANTLR start "isStaticColumn"
+	// Parser.g:979:1: isStaticColumn returns [boolean isStaticColumn] : ( K_STATIC )? ;
+	public final boolean isStaticColumn() throws RecognitionException {
+		boolean isStaticColumn = false;
+
+
+		 boolean isStatic = false; 
+		try {
+			// Parser.g:981:5: ( ( K_STATIC )? )
+			// Parser.g:981:7: ( K_STATIC )?
+			{
+			// Parser.g:981:7: ( K_STATIC )?
+			int alt147=2;
+			int LA147_0 = input.LA(1);
+			if ( (LA147_0==K_STATIC) ) {
+				alt147=1;
+			}
+			switch (alt147) {
+				case 1 :
+					// Parser.g:981:8: K_STATIC
+					{
+					match(input,K_STATIC,FOLLOW_K_STATIC_in_isStaticColumn7164); if (state.failed) return isStaticColumn;
+					if ( state.backtracking==0 ) { isStatic=true; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { isStaticColumn = isStatic; }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return isStaticColumn;
+	}
+	// $ANTLR end "isStaticColumn"
+
+
+
+	// $ANTLR start "alterMaterializedViewStatement"
+	// Parser.g:984:1: alterMaterializedViewStatement returns [AlterViewStatement.Raw stmt] : K_ALTER K_MATERIALIZED K_VIEW ( K_IF K_EXISTS )? name= columnFamilyName K_WITH properties[attrs] ;
+	public final AlterViewStatement.Raw alterMaterializedViewStatement() throws RecognitionException {
+		AlterViewStatement.Raw stmt = null;
+
+
+		QualifiedName name =null;
+
+
+		        TableAttributes attrs = new TableAttributes();
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:989:5: ( K_ALTER K_MATERIALIZED K_VIEW ( K_IF K_EXISTS )? name= columnFamilyName K_WITH properties[attrs] )
+			// Parser.g:989:7: K_ALTER K_MATERIALIZED K_VIEW ( K_IF K_EXISTS )? name= columnFamilyName K_WITH properties[attrs]
+			{
+			match(input,K_ALTER,FOLLOW_K_ALTER_in_alterMaterializedViewStatement7200); if (state.failed) return stmt;
+			match(input,K_MATERIALIZED,FOLLOW_K_MATERIALIZED_in_alterMaterializedViewStatement7202); if (state.failed) return stmt;
+			match(input,K_VIEW,FOLLOW_K_VIEW_in_alterMaterializedViewStatement7204); if (state.failed) return stmt;
+			// Parser.g:989:37: ( K_IF K_EXISTS )?
+			int alt148=2;
+			int LA148_0 = input.LA(1);
+			if ( (LA148_0==K_IF) ) {
+				alt148=1;
+			}
+			switch (alt148) {
+				case 1 :
+					// Parser.g:989:38: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_alterMaterializedViewStatement7207); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterMaterializedViewStatement7209); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_alterMaterializedViewStatement7218);
+			name=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_WITH,FOLLOW_K_WITH_in_alterMaterializedViewStatement7230); if (state.failed) return stmt;
+			pushFollow(FOLLOW_properties_in_alterMaterializedViewStatement7232);
+			properties(attrs);
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) {
+			        stmt = new AlterViewStatement.Raw(name, attrs, ifExists);
+			    }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "alterMaterializedViewStatement"
+
+
+
+	// $ANTLR start "alterTypeStatement"
+	// Parser.g:1002:1: alterTypeStatement returns [AlterTypeStatement.Raw stmt] : K_ALTER K_TYPE ( K_IF K_EXISTS )? name= userTypeName ( K_ALTER f= fident K_TYPE v= comparatorType | K_ADD ( K_IF K_NOT K_EXISTS )? f= fident v= comparatorType | K_RENAME ( K_IF K_EXISTS )? f1= fident K_TO toF1= fident ( K_AND fn= fident K_TO toFn= fident )* ) ;
+	public final AlterTypeStatement.Raw alterTypeStatement() throws RecognitionException {
+		AlterTypeStatement.Raw stmt = null;
+
+
+		UTName name =null;
+		FieldIdentifier f =null;
+		CQL3Type.Raw v =null;
+		FieldIdentifier f1 =null;
+		FieldIdentifier toF1 =null;
+		FieldIdentifier fn =null;
+		FieldIdentifier toFn =null;
+
+
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:1006:5: ( K_ALTER K_TYPE ( K_IF K_EXISTS )? name= userTypeName ( K_ALTER f= fident K_TYPE v= comparatorType | K_ADD ( K_IF K_NOT K_EXISTS )? f= fident v= comparatorType | K_RENAME ( K_IF K_EXISTS )? f1= fident K_TO toF1= fident ( K_AND fn= fident K_TO toFn= fident )* ) )
+			// Parser.g:1006:7: K_ALTER K_TYPE ( K_IF K_EXISTS )? name= userTypeName ( K_ALTER f= fident K_TYPE v= comparatorType | K_ADD ( K_IF K_NOT K_EXISTS )? f= fident v= comparatorType | K_RENAME ( K_IF K_EXISTS )? f1= fident K_TO toF1= fident ( K_AND fn= fident K_TO toFn= fident )* )
+			{
+			match(input,K_ALTER,FOLLOW_K_ALTER_in_alterTypeStatement7272); if (state.failed) return stmt;
+			match(input,K_TYPE,FOLLOW_K_TYPE_in_alterTypeStatement7274); if (state.failed) return stmt;
+			// Parser.g:1006:22: ( K_IF K_EXISTS )?
+			int alt149=2;
+			int LA149_0 = input.LA(1);
+			if ( (LA149_0==K_IF) ) {
+				alt149=1;
+			}
+			switch (alt149) {
+				case 1 :
+					// Parser.g:1006:23: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_alterTypeStatement7277); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTypeStatement7279); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_userTypeName_in_alterTypeStatement7288);
+			name=userTypeName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new AlterTypeStatement.Raw(name, ifExists); }
+			// Parser.g:1007:7: ( K_ALTER f= fident K_TYPE v= comparatorType | K_ADD ( K_IF K_NOT K_EXISTS )? f= fident v= comparatorType | K_RENAME ( K_IF K_EXISTS )? f1= fident K_TO toF1= fident ( K_AND fn= fident K_TO toFn= fident )* )
+			int alt153=3;
+			switch ( input.LA(1) ) {
+			case K_ALTER:
+				{
+				alt153=1;
+				}
+				break;
+			case K_ADD:
+				{
+				alt153=2;
+				}
+				break;
+			case K_RENAME:
+				{
+				alt153=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return stmt;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 153, 0, input);
+				throw nvae;
+			}
+			switch (alt153) {
+				case 1 :
+					// Parser.g:1008:9: K_ALTER f= fident K_TYPE v= comparatorType
+					{
+					match(input,K_ALTER,FOLLOW_K_ALTER_in_alterTypeStatement7308); if (state.failed) return stmt;
+					pushFollow(FOLLOW_fident_in_alterTypeStatement7314);
+					f=fident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					match(input,K_TYPE,FOLLOW_K_TYPE_in_alterTypeStatement7316); if (state.failed) return stmt;
+					pushFollow(FOLLOW_comparatorType_in_alterTypeStatement7320);
+					v=comparatorType();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.alter(f, v); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1010:9: K_ADD ( K_IF K_NOT K_EXISTS )? f= fident v= comparatorType
+					{
+					match(input,K_ADD,FOLLOW_K_ADD_in_alterTypeStatement7333); if (state.failed) return stmt;
+					// Parser.g:1010:15: ( K_IF K_NOT K_EXISTS )?
+					int alt150=2;
+					int LA150_0 = input.LA(1);
+					if ( (LA150_0==K_IF) ) {
+						alt150=1;
+					}
+					switch (alt150) {
+						case 1 :
+							// Parser.g:1010:16: K_IF K_NOT K_EXISTS
+							{
+							match(input,K_IF,FOLLOW_K_IF_in_alterTypeStatement7336); if (state.failed) return stmt;
+							match(input,K_NOT,FOLLOW_K_NOT_in_alterTypeStatement7338); if (state.failed) return stmt;
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTypeStatement7340); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.ifFieldNotExists(true); }
+							}
+							break;
+
+					}
+
+					pushFollow(FOLLOW_fident_in_alterTypeStatement7353);
+					f=fident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					pushFollow(FOLLOW_comparatorType_in_alterTypeStatement7357);
+					v=comparatorType();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.add(f, v); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1012:9: K_RENAME ( K_IF K_EXISTS )? f1= fident K_TO toF1= fident ( K_AND fn= fident K_TO toFn= fident )*
+					{
+					match(input,K_RENAME,FOLLOW_K_RENAME_in_alterTypeStatement7377); if (state.failed) return stmt;
+					// Parser.g:1012:18: ( K_IF K_EXISTS )?
+					int alt151=2;
+					int LA151_0 = input.LA(1);
+					if ( (LA151_0==K_IF) ) {
+						alt151=1;
+					}
+					switch (alt151) {
+						case 1 :
+							// Parser.g:1012:19: K_IF K_EXISTS
+							{
+							match(input,K_IF,FOLLOW_K_IF_in_alterTypeStatement7380); if (state.failed) return stmt;
+							match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterTypeStatement7382); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.ifFieldExists(true); }
+							}
+							break;
+
+					}
+
+					pushFollow(FOLLOW_fident_in_alterTypeStatement7391);
+					f1=fident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					match(input,K_TO,FOLLOW_K_TO_in_alterTypeStatement7393); if (state.failed) return stmt;
+					pushFollow(FOLLOW_fident_in_alterTypeStatement7397);
+					toF1=fident();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.rename(f1, toF1); }
+					// Parser.g:1013:10: ( K_AND fn= fident K_TO toFn= fident )*
+					loop152:
+					while (true) {
+						int alt152=2;
+						int LA152_0 = input.LA(1);
+						if ( (LA152_0==K_AND) ) {
+							alt152=1;
+						}
+
+						switch (alt152) {
+						case 1 :
+							// Parser.g:1013:12: K_AND fn= fident K_TO toFn= fident
+							{
+							match(input,K_AND,FOLLOW_K_AND_in_alterTypeStatement7419); if (state.failed) return stmt;
+							pushFollow(FOLLOW_fident_in_alterTypeStatement7423);
+							fn=fident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							match(input,K_TO,FOLLOW_K_TO_in_alterTypeStatement7425); if (state.failed) return stmt;
+							pushFollow(FOLLOW_fident_in_alterTypeStatement7429);
+							toFn=fident();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { stmt.rename(fn, toFn); }
+							}
+							break;
+
+						default :
+							break loop152;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "alterTypeStatement"
+
+
+
+	// $ANTLR start "dropKeyspaceStatement"
+	// Parser.g:1020:1: dropKeyspaceStatement returns [DropKeyspaceStatement.Raw stmt] : K_DROP K_KEYSPACE ( K_IF K_EXISTS )? ks= keyspaceName ;
+	public final DropKeyspaceStatement.Raw dropKeyspaceStatement() throws RecognitionException {
+		DropKeyspaceStatement.Raw stmt = null;
+
+
+		String ks =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:1022:5: ( K_DROP K_KEYSPACE ( K_IF K_EXISTS )? ks= keyspaceName )
+			// Parser.g:1022:7: K_DROP K_KEYSPACE ( K_IF K_EXISTS )? ks= keyspaceName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropKeyspaceStatement7481); if (state.failed) return stmt;
+			match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_dropKeyspaceStatement7483); if (state.failed) return stmt;
+			// Parser.g:1022:25: ( K_IF K_EXISTS )?
+			int alt154=2;
+			int LA154_0 = input.LA(1);
+			if ( (LA154_0==K_IF) ) {
+				alt154=1;
+			}
+			switch (alt154) {
+				case 1 :
+					// Parser.g:1022:26: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropKeyspaceStatement7486); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropKeyspaceStatement7488); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_keyspaceName_in_dropKeyspaceStatement7497);
+			ks=keyspaceName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropKeyspaceStatement.Raw(ks, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropKeyspaceStatement"
+
+
+
+	// $ANTLR start "dropTableStatement"
+	// Parser.g:1028:1: dropTableStatement returns [DropTableStatement.Raw stmt] : K_DROP K_COLUMNFAMILY ( K_IF K_EXISTS )? name= columnFamilyName ;
+	public final DropTableStatement.Raw dropTableStatement() throws RecognitionException {
+		DropTableStatement.Raw stmt = null;
+
+
+		QualifiedName name =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:1030:5: ( K_DROP K_COLUMNFAMILY ( K_IF K_EXISTS )? name= columnFamilyName )
+			// Parser.g:1030:7: K_DROP K_COLUMNFAMILY ( K_IF K_EXISTS )? name= columnFamilyName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropTableStatement7531); if (state.failed) return stmt;
+			match(input,K_COLUMNFAMILY,FOLLOW_K_COLUMNFAMILY_in_dropTableStatement7533); if (state.failed) return stmt;
+			// Parser.g:1030:29: ( K_IF K_EXISTS )?
+			int alt155=2;
+			int LA155_0 = input.LA(1);
+			if ( (LA155_0==K_IF) ) {
+				alt155=1;
+			}
+			switch (alt155) {
+				case 1 :
+					// Parser.g:1030:30: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropTableStatement7536); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropTableStatement7538); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_dropTableStatement7547);
+			name=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropTableStatement.Raw(name, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropTableStatement"
+
+
+
+	// $ANTLR start "dropTypeStatement"
+	// Parser.g:1036:1: dropTypeStatement returns [DropTypeStatement.Raw stmt] : K_DROP K_TYPE ( K_IF K_EXISTS )? name= userTypeName ;
+	public final DropTypeStatement.Raw dropTypeStatement() throws RecognitionException {
+		DropTypeStatement.Raw stmt = null;
+
+
+		UTName name =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:1038:5: ( K_DROP K_TYPE ( K_IF K_EXISTS )? name= userTypeName )
+			// Parser.g:1038:7: K_DROP K_TYPE ( K_IF K_EXISTS )? name= userTypeName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropTypeStatement7581); if (state.failed) return stmt;
+			match(input,K_TYPE,FOLLOW_K_TYPE_in_dropTypeStatement7583); if (state.failed) return stmt;
+			// Parser.g:1038:21: ( K_IF K_EXISTS )?
+			int alt156=2;
+			int LA156_0 = input.LA(1);
+			if ( (LA156_0==K_IF) ) {
+				alt156=1;
+			}
+			switch (alt156) {
+				case 1 :
+					// Parser.g:1038:22: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropTypeStatement7586); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropTypeStatement7588); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_userTypeName_in_dropTypeStatement7597);
+			name=userTypeName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropTypeStatement.Raw(name, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropTypeStatement"
+
+
+
+	// $ANTLR start "dropIndexStatement"
+	// Parser.g:1044:1: dropIndexStatement returns [DropIndexStatement.Raw stmt] : K_DROP K_INDEX ( K_IF K_EXISTS )? index= indexName ;
+	public final DropIndexStatement.Raw dropIndexStatement() throws RecognitionException {
+		DropIndexStatement.Raw stmt = null;
+
+
+		QualifiedName index =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:1046:5: ( K_DROP K_INDEX ( K_IF K_EXISTS )? index= indexName )
+			// Parser.g:1046:7: K_DROP K_INDEX ( K_IF K_EXISTS )? index= indexName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropIndexStatement7631); if (state.failed) return stmt;
+			match(input,K_INDEX,FOLLOW_K_INDEX_in_dropIndexStatement7633); if (state.failed) return stmt;
+			// Parser.g:1046:22: ( K_IF K_EXISTS )?
+			int alt157=2;
+			int LA157_0 = input.LA(1);
+			if ( (LA157_0==K_IF) ) {
+				alt157=1;
+			}
+			switch (alt157) {
+				case 1 :
+					// Parser.g:1046:23: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropIndexStatement7636); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropIndexStatement7638); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_indexName_in_dropIndexStatement7647);
+			index=indexName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropIndexStatement.Raw(index, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropIndexStatement"
+
+
+
+	// $ANTLR start "dropMaterializedViewStatement"
+	// Parser.g:1053:1: dropMaterializedViewStatement returns [DropViewStatement.Raw stmt] : K_DROP K_MATERIALIZED K_VIEW ( K_IF K_EXISTS )? cf= columnFamilyName ;
+	public final DropViewStatement.Raw dropMaterializedViewStatement() throws RecognitionException {
+		DropViewStatement.Raw stmt = null;
+
+
+		QualifiedName cf =null;
+
+		 boolean ifExists = false; 
+		try {
+			// Parser.g:1055:5: ( K_DROP K_MATERIALIZED K_VIEW ( K_IF K_EXISTS )? cf= columnFamilyName )
+			// Parser.g:1055:7: K_DROP K_MATERIALIZED K_VIEW ( K_IF K_EXISTS )? cf= columnFamilyName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropMaterializedViewStatement7687); if (state.failed) return stmt;
+			match(input,K_MATERIALIZED,FOLLOW_K_MATERIALIZED_in_dropMaterializedViewStatement7689); if (state.failed) return stmt;
+			match(input,K_VIEW,FOLLOW_K_VIEW_in_dropMaterializedViewStatement7691); if (state.failed) return stmt;
+			// Parser.g:1055:36: ( K_IF K_EXISTS )?
+			int alt158=2;
+			int LA158_0 = input.LA(1);
+			if ( (LA158_0==K_IF) ) {
+				alt158=1;
+			}
+			switch (alt158) {
+				case 1 :
+					// Parser.g:1055:37: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropMaterializedViewStatement7694); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropMaterializedViewStatement7696); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_dropMaterializedViewStatement7705);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropViewStatement.Raw(cf, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropMaterializedViewStatement"
+
+
+
+	// $ANTLR start "truncateStatement"
+	// Parser.g:1062:1: truncateStatement returns [TruncateStatement stmt] : K_TRUNCATE ( K_COLUMNFAMILY )? cf= columnFamilyName ;
+	public final TruncateStatement truncateStatement() throws RecognitionException {
+		TruncateStatement stmt = null;
+
+
+		QualifiedName cf =null;
+
+		try {
+			// Parser.g:1063:5: ( K_TRUNCATE ( K_COLUMNFAMILY )? cf= columnFamilyName )
+			// Parser.g:1063:7: K_TRUNCATE ( K_COLUMNFAMILY )? cf= columnFamilyName
+			{
+			match(input,K_TRUNCATE,FOLLOW_K_TRUNCATE_in_truncateStatement7736); if (state.failed) return stmt;
+			// Parser.g:1063:18: ( K_COLUMNFAMILY )?
+			int alt159=2;
+			int LA159_0 = input.LA(1);
+			if ( (LA159_0==K_COLUMNFAMILY) ) {
+				alt159=1;
+			}
+			switch (alt159) {
+				case 1 :
+					// Parser.g:1063:19: K_COLUMNFAMILY
+					{
+					match(input,K_COLUMNFAMILY,FOLLOW_K_COLUMNFAMILY_in_truncateStatement7739); if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_columnFamilyName_in_truncateStatement7745);
+			cf=columnFamilyName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new TruncateStatement(cf); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "truncateStatement"
+
+
+
+	// $ANTLR start "grantPermissionsStatement"
+	// Parser.g:1069:1: grantPermissionsStatement returns [GrantPermissionsStatement stmt] : K_GRANT permissionOrAll K_ON resource K_TO grantee= userOrRoleName ;
+	public final GrantPermissionsStatement grantPermissionsStatement() throws RecognitionException {
+		GrantPermissionsStatement stmt = null;
+
+
+		RoleName grantee =null;
+		Set<Permission> permissionOrAll1 =null;
+		IResource resource2 =null;
+
+		try {
+			// Parser.g:1070:5: ( K_GRANT permissionOrAll K_ON resource K_TO grantee= userOrRoleName )
+			// Parser.g:1070:7: K_GRANT permissionOrAll K_ON resource K_TO grantee= userOrRoleName
+			{
+			match(input,K_GRANT,FOLLOW_K_GRANT_in_grantPermissionsStatement7770); if (state.failed) return stmt;
+			pushFollow(FOLLOW_permissionOrAll_in_grantPermissionsStatement7782);
+			permissionOrAll1=permissionOrAll();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_ON,FOLLOW_K_ON_in_grantPermissionsStatement7790); if (state.failed) return stmt;
+			pushFollow(FOLLOW_resource_in_grantPermissionsStatement7802);
+			resource2=resource();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_TO,FOLLOW_K_TO_in_grantPermissionsStatement7810); if (state.failed) return stmt;
+			pushFollow(FOLLOW_userOrRoleName_in_grantPermissionsStatement7824);
+			grantee=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new GrantPermissionsStatement(filterPermissions(permissionOrAll1, resource2), resource2, grantee); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "grantPermissionsStatement"
+
+
+
+	// $ANTLR start "revokePermissionsStatement"
+	// Parser.g:1082:1: revokePermissionsStatement returns [RevokePermissionsStatement stmt] : K_REVOKE permissionOrAll K_ON resource K_FROM revokee= userOrRoleName ;
+	public final RevokePermissionsStatement revokePermissionsStatement() throws RecognitionException {
+		RevokePermissionsStatement stmt = null;
+
+
+		RoleName revokee =null;
+		Set<Permission> permissionOrAll3 =null;
+		IResource resource4 =null;
+
+		try {
+			// Parser.g:1083:5: ( K_REVOKE permissionOrAll K_ON resource K_FROM revokee= userOrRoleName )
+			// Parser.g:1083:7: K_REVOKE permissionOrAll K_ON resource K_FROM revokee= userOrRoleName
+			{
+			match(input,K_REVOKE,FOLLOW_K_REVOKE_in_revokePermissionsStatement7855); if (state.failed) return stmt;
+			pushFollow(FOLLOW_permissionOrAll_in_revokePermissionsStatement7867);
+			permissionOrAll3=permissionOrAll();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_ON,FOLLOW_K_ON_in_revokePermissionsStatement7875); if (state.failed) return stmt;
+			pushFollow(FOLLOW_resource_in_revokePermissionsStatement7887);
+			resource4=resource();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_FROM,FOLLOW_K_FROM_in_revokePermissionsStatement7895); if (state.failed) return stmt;
+			pushFollow(FOLLOW_userOrRoleName_in_revokePermissionsStatement7909);
+			revokee=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new RevokePermissionsStatement(filterPermissions(permissionOrAll3, resource4), resource4, revokee); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "revokePermissionsStatement"
+
+
+
+	// $ANTLR start "grantRoleStatement"
+	// Parser.g:1095:1: grantRoleStatement returns [GrantRoleStatement stmt] : K_GRANT role= userOrRoleName K_TO grantee= userOrRoleName ;
+	public final GrantRoleStatement grantRoleStatement() throws RecognitionException {
+		GrantRoleStatement stmt = null;
+
+
+		RoleName role =null;
+		RoleName grantee =null;
+
+		try {
+			// Parser.g:1096:5: ( K_GRANT role= userOrRoleName K_TO grantee= userOrRoleName )
+			// Parser.g:1096:7: K_GRANT role= userOrRoleName K_TO grantee= userOrRoleName
+			{
+			match(input,K_GRANT,FOLLOW_K_GRANT_in_grantRoleStatement7940); if (state.failed) return stmt;
+			pushFollow(FOLLOW_userOrRoleName_in_grantRoleStatement7954);
+			role=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_TO,FOLLOW_K_TO_in_grantRoleStatement7962); if (state.failed) return stmt;
+			pushFollow(FOLLOW_userOrRoleName_in_grantRoleStatement7976);
+			grantee=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new GrantRoleStatement(role, grantee); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "grantRoleStatement"
+
+
+
+	// $ANTLR start "revokeRoleStatement"
+	// Parser.g:1106:1: revokeRoleStatement returns [RevokeRoleStatement stmt] : K_REVOKE role= userOrRoleName K_FROM revokee= userOrRoleName ;
+	public final RevokeRoleStatement revokeRoleStatement() throws RecognitionException {
+		RevokeRoleStatement stmt = null;
+
+
+		RoleName role =null;
+		RoleName revokee =null;
+
+		try {
+			// Parser.g:1107:5: ( K_REVOKE role= userOrRoleName K_FROM revokee= userOrRoleName )
+			// Parser.g:1107:7: K_REVOKE role= userOrRoleName K_FROM revokee= userOrRoleName
+			{
+			match(input,K_REVOKE,FOLLOW_K_REVOKE_in_revokeRoleStatement8007); if (state.failed) return stmt;
+			pushFollow(FOLLOW_userOrRoleName_in_revokeRoleStatement8021);
+			role=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			match(input,K_FROM,FOLLOW_K_FROM_in_revokeRoleStatement8029); if (state.failed) return stmt;
+			pushFollow(FOLLOW_userOrRoleName_in_revokeRoleStatement8043);
+			revokee=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new RevokeRoleStatement(role, revokee); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "revokeRoleStatement"
+
+
+
+	// $ANTLR start "listPermissionsStatement"
+	// Parser.g:1114:1: listPermissionsStatement returns [ListPermissionsStatement stmt] : K_LIST permissionOrAll ( K_ON resource )? ( K_OF roleName[grantee] )? ( K_NORECURSIVE )? ;
+	public final ListPermissionsStatement listPermissionsStatement() throws RecognitionException {
+		ListPermissionsStatement stmt = null;
+
+
+		IResource resource5 =null;
+		Set<Permission> permissionOrAll6 =null;
+
+
+		        IResource resource = null;
+		        boolean recursive = true;
+		        RoleName grantee = new RoleName();
+		    
+		try {
+			// Parser.g:1120:5: ( K_LIST permissionOrAll ( K_ON resource )? ( K_OF roleName[grantee] )? ( K_NORECURSIVE )? )
+			// Parser.g:1120:7: K_LIST permissionOrAll ( K_ON resource )? ( K_OF roleName[grantee] )? ( K_NORECURSIVE )?
+			{
+			match(input,K_LIST,FOLLOW_K_LIST_in_listPermissionsStatement8081); if (state.failed) return stmt;
+			pushFollow(FOLLOW_permissionOrAll_in_listPermissionsStatement8093);
+			permissionOrAll6=permissionOrAll();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:1122:7: ( K_ON resource )?
+			int alt160=2;
+			int LA160_0 = input.LA(1);
+			if ( (LA160_0==K_ON) ) {
+				alt160=1;
+			}
+			switch (alt160) {
+				case 1 :
+					// Parser.g:1122:9: K_ON resource
+					{
+					match(input,K_ON,FOLLOW_K_ON_in_listPermissionsStatement8103); if (state.failed) return stmt;
+					pushFollow(FOLLOW_resource_in_listPermissionsStatement8105);
+					resource5=resource();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { resource = resource5; }
+					}
+					break;
+
+			}
+
+			// Parser.g:1123:7: ( K_OF roleName[grantee] )?
+			int alt161=2;
+			int LA161_0 = input.LA(1);
+			if ( (LA161_0==K_OF) ) {
+				alt161=1;
+			}
+			switch (alt161) {
+				case 1 :
+					// Parser.g:1123:9: K_OF roleName[grantee]
+					{
+					match(input,K_OF,FOLLOW_K_OF_in_listPermissionsStatement8120); if (state.failed) return stmt;
+					pushFollow(FOLLOW_roleName_in_listPermissionsStatement8122);
+					roleName(grantee);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			// Parser.g:1124:7: ( K_NORECURSIVE )?
+			int alt162=2;
+			int LA162_0 = input.LA(1);
+			if ( (LA162_0==K_NORECURSIVE) ) {
+				alt162=1;
+			}
+			switch (alt162) {
+				case 1 :
+					// Parser.g:1124:9: K_NORECURSIVE
+					{
+					match(input,K_NORECURSIVE,FOLLOW_K_NORECURSIVE_in_listPermissionsStatement8136); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { recursive = false; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt = new ListPermissionsStatement(permissionOrAll6, resource, grantee, recursive); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "listPermissionsStatement"
+
+
+
+	// $ANTLR start "permission"
+	// Parser.g:1128:1: permission returns [Permission perm] : p= ( K_CREATE | K_ALTER | K_DROP | K_SELECT | K_MODIFY | K_AUTHORIZE | K_DESCRIBE | K_EXECUTE | K_UNMASK | K_SELECT_MASKED ) ;
+	public final Permission permission() throws RecognitionException {
+		Permission perm = null;
+
+
+		Token p=null;
+
+		try {
+			// Parser.g:1129:5: (p= ( K_CREATE | K_ALTER | K_DROP | K_SELECT | K_MODIFY | K_AUTHORIZE | K_DESCRIBE | K_EXECUTE | K_UNMASK | K_SELECT_MASKED ) )
+			// Parser.g:1129:7: p= ( K_CREATE | K_ALTER | K_DROP | K_SELECT | K_MODIFY | K_AUTHORIZE | K_DESCRIBE | K_EXECUTE | K_UNMASK | K_SELECT_MASKED )
+			{
+			p=input.LT(1);
+			if ( input.LA(1)==K_ALTER||input.LA(1)==K_AUTHORIZE||input.LA(1)==K_CREATE||input.LA(1)==K_DESCRIBE||input.LA(1)==K_DROP||input.LA(1)==K_EXECUTE||input.LA(1)==K_MODIFY||(input.LA(1) >= K_SELECT && input.LA(1) <= K_SELECT_MASKED)||input.LA(1)==K_UNMASK ) {
+				input.consume();
+				state.errorRecovery=false;
+				state.failed=false;
+			}
+			else {
+				if (state.backtracking>0) {state.failed=true; return perm;}
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			if ( state.backtracking==0 ) { perm = Permission.valueOf((p!=null?p.getText():null).toUpperCase()); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return perm;
+	}
+	// $ANTLR end "permission"
+
+
+
+	// $ANTLR start "permissionOrAll"
+	// Parser.g:1133:1: permissionOrAll returns [Set<Permission> perms] : ( K_ALL ( K_PERMISSIONS )? |p= permission ( K_PERMISSION )? ( ',' p= permission ( K_PERMISSION )? )* );
+	public final Set<Permission> permissionOrAll() throws RecognitionException {
+		Set<Permission> perms = null;
+
+
+		Permission p =null;
+
+		try {
+			// Parser.g:1134:5: ( K_ALL ( K_PERMISSIONS )? |p= permission ( K_PERMISSION )? ( ',' p= permission ( K_PERMISSION )? )* )
+			int alt167=2;
+			int LA167_0 = input.LA(1);
+			if ( (LA167_0==K_ALL) ) {
+				alt167=1;
+			}
+			else if ( (LA167_0==K_ALTER||LA167_0==K_AUTHORIZE||LA167_0==K_CREATE||LA167_0==K_DESCRIBE||LA167_0==K_DROP||LA167_0==K_EXECUTE||LA167_0==K_MODIFY||(LA167_0 >= K_SELECT && LA167_0 <= K_SELECT_MASKED)||LA167_0==K_UNMASK) ) {
+				alt167=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return perms;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 167, 0, input);
+				throw nvae;
+			}
+
+			switch (alt167) {
+				case 1 :
+					// Parser.g:1134:7: K_ALL ( K_PERMISSIONS )?
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_permissionOrAll8237); if (state.failed) return perms;
+					// Parser.g:1134:13: ( K_PERMISSIONS )?
+					int alt163=2;
+					int LA163_0 = input.LA(1);
+					if ( (LA163_0==K_PERMISSIONS) ) {
+						alt163=1;
+					}
+					switch (alt163) {
+						case 1 :
+							// Parser.g:1134:15: K_PERMISSIONS
+							{
+							match(input,K_PERMISSIONS,FOLLOW_K_PERMISSIONS_in_permissionOrAll8241); if (state.failed) return perms;
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) { perms = Permission.ALL; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1135:7: p= permission ( K_PERMISSION )? ( ',' p= permission ( K_PERMISSION )? )*
+					{
+					pushFollow(FOLLOW_permission_in_permissionOrAll8262);
+					p=permission();
+					state._fsp--;
+					if (state.failed) return perms;
+					// Parser.g:1135:20: ( K_PERMISSION )?
+					int alt164=2;
+					int LA164_0 = input.LA(1);
+					if ( (LA164_0==K_PERMISSION) ) {
+						alt164=1;
+					}
+					switch (alt164) {
+						case 1 :
+							// Parser.g:1135:22: K_PERMISSION
+							{
+							match(input,K_PERMISSION,FOLLOW_K_PERMISSION_in_permissionOrAll8266); if (state.failed) return perms;
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) { perms = EnumSet.of(p); }
+					// Parser.g:1135:72: ( ',' p= permission ( K_PERMISSION )? )*
+					loop166:
+					while (true) {
+						int alt166=2;
+						int LA166_0 = input.LA(1);
+						if ( (LA166_0==216) ) {
+							alt166=1;
+						}
+
+						switch (alt166) {
+						case 1 :
+							// Parser.g:1135:74: ',' p= permission ( K_PERMISSION )?
+							{
+							match(input,216,FOLLOW_216_in_permissionOrAll8275); if (state.failed) return perms;
+							pushFollow(FOLLOW_permission_in_permissionOrAll8279);
+							p=permission();
+							state._fsp--;
+							if (state.failed) return perms;
+							// Parser.g:1135:91: ( K_PERMISSION )?
+							int alt165=2;
+							int LA165_0 = input.LA(1);
+							if ( (LA165_0==K_PERMISSION) ) {
+								alt165=1;
+							}
+							switch (alt165) {
+								case 1 :
+									// Parser.g:1135:93: K_PERMISSION
+									{
+									match(input,K_PERMISSION,FOLLOW_K_PERMISSION_in_permissionOrAll8283); if (state.failed) return perms;
+									}
+									break;
+
+							}
+
+							if ( state.backtracking==0 ) { perms.add(p); }
+							}
+							break;
+
+						default :
+							break loop166;
+						}
+					}
+
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return perms;
+	}
+	// $ANTLR end "permissionOrAll"
+
+
+
+	// $ANTLR start "resource"
+	// Parser.g:1138:1: resource returns [IResource res] : (d= dataResource |r= roleResource |f= functionResource |j= jmxResource );
+	public final IResource resource() throws RecognitionException {
+		IResource res = null;
+
+
+		DataResource d =null;
+		RoleResource r =null;
+		FunctionResource f =null;
+		JMXResource j =null;
+
+		try {
+			// Parser.g:1139:5: (d= dataResource |r= roleResource |f= functionResource |j= jmxResource )
+			int alt168=4;
+			alt168 = dfa168.predict(input);
+			switch (alt168) {
+				case 1 :
+					// Parser.g:1139:7: d= dataResource
+					{
+					pushFollow(FOLLOW_dataResource_in_resource8314);
+					d=dataResource();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = d; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1140:7: r= roleResource
+					{
+					pushFollow(FOLLOW_roleResource_in_resource8326);
+					r=roleResource();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = r; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1141:7: f= functionResource
+					{
+					pushFollow(FOLLOW_functionResource_in_resource8338);
+					f=functionResource();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = f; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1142:7: j= jmxResource
+					{
+					pushFollow(FOLLOW_jmxResource_in_resource8350);
+					j=jmxResource();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = j; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return res;
+	}
+	// $ANTLR end "resource"
+
+
+
+	// $ANTLR start "dataResource"
+	// Parser.g:1145:1: dataResource returns [DataResource res] : ( K_ALL K_KEYSPACES | K_KEYSPACE ks= keyspaceName | ( K_COLUMNFAMILY )? cf= columnFamilyName | K_ALL K_TABLES K_IN K_KEYSPACE ks= keyspaceName );
+	public final DataResource dataResource() throws RecognitionException {
+		DataResource res = null;
+
+
+		String ks =null;
+		QualifiedName cf =null;
+
+		try {
+			// Parser.g:1146:5: ( K_ALL K_KEYSPACES | K_KEYSPACE ks= keyspaceName | ( K_COLUMNFAMILY )? cf= columnFamilyName | K_ALL K_TABLES K_IN K_KEYSPACE ks= keyspaceName )
+			int alt170=4;
+			switch ( input.LA(1) ) {
+			case K_ALL:
+				{
+				switch ( input.LA(2) ) {
+				case K_KEYSPACES:
+					{
+					alt170=1;
+					}
+					break;
+				case K_TABLES:
+					{
+					alt170=4;
+					}
+					break;
+				case EOF:
+				case K_FROM:
+				case K_NORECURSIVE:
+				case K_OF:
+				case K_TO:
+				case 219:
+				case 222:
+					{
+					alt170=3;
+					}
+					break;
+				default:
+					if (state.backtracking>0) {state.failed=true; return res;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 170, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+				}
+				break;
+			case K_KEYSPACE:
+				{
+				alt170=2;
+				}
+				break;
+			case IDENT:
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COLUMNFAMILY:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+			case QMARK:
+			case QUOTED_NAME:
+				{
+				alt170=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return res;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 170, 0, input);
+				throw nvae;
+			}
+			switch (alt170) {
+				case 1 :
+					// Parser.g:1146:7: K_ALL K_KEYSPACES
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_dataResource8373); if (state.failed) return res;
+					match(input,K_KEYSPACES,FOLLOW_K_KEYSPACES_in_dataResource8375); if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = DataResource.root(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1147:7: K_KEYSPACE ks= keyspaceName
+					{
+					match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_dataResource8385); if (state.failed) return res;
+					pushFollow(FOLLOW_keyspaceName_in_dataResource8391);
+					ks=keyspaceName();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = DataResource.keyspace(ks); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1148:7: ( K_COLUMNFAMILY )? cf= columnFamilyName
+					{
+					// Parser.g:1148:7: ( K_COLUMNFAMILY )?
+					int alt169=2;
+					int LA169_0 = input.LA(1);
+					if ( (LA169_0==K_COLUMNFAMILY) ) {
+						alt169=1;
+					}
+					switch (alt169) {
+						case 1 :
+							// Parser.g:1148:9: K_COLUMNFAMILY
+							{
+							match(input,K_COLUMNFAMILY,FOLLOW_K_COLUMNFAMILY_in_dataResource8403); if (state.failed) return res;
+							}
+							break;
+
+					}
+
+					pushFollow(FOLLOW_columnFamilyName_in_dataResource8412);
+					cf=columnFamilyName();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = DataResource.table(cf.getKeyspace(), cf.getName()); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1149:7: K_ALL K_TABLES K_IN K_KEYSPACE ks= keyspaceName
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_dataResource8422); if (state.failed) return res;
+					match(input,K_TABLES,FOLLOW_K_TABLES_in_dataResource8424); if (state.failed) return res;
+					match(input,K_IN,FOLLOW_K_IN_in_dataResource8426); if (state.failed) return res;
+					match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_dataResource8428); if (state.failed) return res;
+					pushFollow(FOLLOW_keyspaceName_in_dataResource8434);
+					ks=keyspaceName();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = DataResource.allTables(ks); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return res;
+	}
+	// $ANTLR end "dataResource"
+
+
+
+	// $ANTLR start "jmxResource"
+	// Parser.g:1152:1: jmxResource returns [JMXResource res] : ( K_ALL K_MBEANS | K_MBEAN mbean | K_MBEANS mbean );
+	public final JMXResource jmxResource() throws RecognitionException {
+		JMXResource res = null;
+
+
+		ParserRuleReturnScope mbean7 =null;
+		ParserRuleReturnScope mbean8 =null;
+
+		try {
+			// Parser.g:1153:5: ( K_ALL K_MBEANS | K_MBEAN mbean | K_MBEANS mbean )
+			int alt171=3;
+			switch ( input.LA(1) ) {
+			case K_ALL:
+				{
+				alt171=1;
+				}
+				break;
+			case K_MBEAN:
+				{
+				alt171=2;
+				}
+				break;
+			case K_MBEANS:
+				{
+				alt171=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return res;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 171, 0, input);
+				throw nvae;
+			}
+			switch (alt171) {
+				case 1 :
+					// Parser.g:1153:7: K_ALL K_MBEANS
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_jmxResource8457); if (state.failed) return res;
+					match(input,K_MBEANS,FOLLOW_K_MBEANS_in_jmxResource8459); if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = JMXResource.root(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1156:7: K_MBEAN mbean
+					{
+					match(input,K_MBEAN,FOLLOW_K_MBEAN_in_jmxResource8479); if (state.failed) return res;
+					pushFollow(FOLLOW_mbean_in_jmxResource8481);
+					mbean7=mbean();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = JMXResource.mbean(canonicalizeObjectName((mbean7!=null?input.toString(mbean7.start,mbean7.stop):null), false)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1157:7: K_MBEANS mbean
+					{
+					match(input,K_MBEANS,FOLLOW_K_MBEANS_in_jmxResource8491); if (state.failed) return res;
+					pushFollow(FOLLOW_mbean_in_jmxResource8493);
+					mbean8=mbean();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = JMXResource.mbean(canonicalizeObjectName((mbean8!=null?input.toString(mbean8.start,mbean8.stop):null), true)); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return res;
+	}
+	// $ANTLR end "jmxResource"
+
+
+
+	// $ANTLR start "roleResource"
+	// Parser.g:1160:1: roleResource returns [RoleResource res] : ( K_ALL K_ROLES | K_ROLE role= userOrRoleName );
+	public final RoleResource roleResource() throws RecognitionException {
+		RoleResource res = null;
+
+
+		RoleName role =null;
+
+		try {
+			// Parser.g:1161:5: ( K_ALL K_ROLES | K_ROLE role= userOrRoleName )
+			int alt172=2;
+			int LA172_0 = input.LA(1);
+			if ( (LA172_0==K_ALL) ) {
+				alt172=1;
+			}
+			else if ( (LA172_0==K_ROLE) ) {
+				alt172=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return res;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 172, 0, input);
+				throw nvae;
+			}
+
+			switch (alt172) {
+				case 1 :
+					// Parser.g:1161:7: K_ALL K_ROLES
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_roleResource8516); if (state.failed) return res;
+					match(input,K_ROLES,FOLLOW_K_ROLES_in_roleResource8518); if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = RoleResource.root(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1162:7: K_ROLE role= userOrRoleName
+					{
+					match(input,K_ROLE,FOLLOW_K_ROLE_in_roleResource8528); if (state.failed) return res;
+					pushFollow(FOLLOW_userOrRoleName_in_roleResource8534);
+					role=userOrRoleName();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = RoleResource.role(role.getName()); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return res;
+	}
+	// $ANTLR end "roleResource"
+
+
+
+	// $ANTLR start "functionResource"
+	// Parser.g:1165:1: functionResource returns [FunctionResource res] : ( K_ALL K_FUNCTIONS | K_ALL K_FUNCTIONS K_IN K_KEYSPACE ks= keyspaceName | K_FUNCTION fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' ) );
+	public final FunctionResource functionResource() throws RecognitionException {
+		FunctionResource res = null;
+
+
+		String ks =null;
+		FunctionName fn =null;
+		CQL3Type.Raw v =null;
+
+
+		        List<CQL3Type.Raw> argsTypes = new ArrayList<>();
+		    
+		try {
+			// Parser.g:1169:5: ( K_ALL K_FUNCTIONS | K_ALL K_FUNCTIONS K_IN K_KEYSPACE ks= keyspaceName | K_FUNCTION fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' ) )
+			int alt175=3;
+			int LA175_0 = input.LA(1);
+			if ( (LA175_0==K_ALL) ) {
+				int LA175_1 = input.LA(2);
+				if ( (LA175_1==K_FUNCTIONS) ) {
+					int LA175_3 = input.LA(3);
+					if ( (LA175_3==K_IN) ) {
+						alt175=2;
+					}
+					else if ( (LA175_3==EOF||LA175_3==K_FROM||LA175_3==K_NORECURSIVE||LA175_3==K_OF||LA175_3==K_TO||LA175_3==222) ) {
+						alt175=1;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return res;}
+						int nvaeMark = input.mark();
+						try {
+							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
+								input.consume();
+							}
+							NoViableAltException nvae =
+								new NoViableAltException("", 175, 3, input);
+							throw nvae;
+						} finally {
+							input.rewind(nvaeMark);
+						}
+					}
+
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return res;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 175, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+			else if ( (LA175_0==K_FUNCTION) ) {
+				alt175=3;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return res;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 175, 0, input);
+				throw nvae;
+			}
+
+			switch (alt175) {
+				case 1 :
+					// Parser.g:1169:7: K_ALL K_FUNCTIONS
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_functionResource8566); if (state.failed) return res;
+					match(input,K_FUNCTIONS,FOLLOW_K_FUNCTIONS_in_functionResource8568); if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = FunctionResource.root(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1170:7: K_ALL K_FUNCTIONS K_IN K_KEYSPACE ks= keyspaceName
+					{
+					match(input,K_ALL,FOLLOW_K_ALL_in_functionResource8578); if (state.failed) return res;
+					match(input,K_FUNCTIONS,FOLLOW_K_FUNCTIONS_in_functionResource8580); if (state.failed) return res;
+					match(input,K_IN,FOLLOW_K_IN_in_functionResource8582); if (state.failed) return res;
+					match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_functionResource8584); if (state.failed) return res;
+					pushFollow(FOLLOW_keyspaceName_in_functionResource8590);
+					ks=keyspaceName();
+					state._fsp--;
+					if (state.failed) return res;
+					if ( state.backtracking==0 ) { res = FunctionResource.keyspace(ks); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1172:7: K_FUNCTION fn= functionName ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )
+					{
+					match(input,K_FUNCTION,FOLLOW_K_FUNCTION_in_functionResource8605); if (state.failed) return res;
+					pushFollow(FOLLOW_functionName_in_functionResource8609);
+					fn=functionName();
+					state._fsp--;
+					if (state.failed) return res;
+					// Parser.g:1173:7: ( '(' (v= comparatorType ( ',' v= comparatorType )* )? ')' )
+					// Parser.g:1174:9: '(' (v= comparatorType ( ',' v= comparatorType )* )? ')'
+					{
+					match(input,212,FOLLOW_212_in_functionResource8627); if (state.failed) return res;
+					// Parser.g:1175:11: (v= comparatorType ( ',' v= comparatorType )* )?
+					int alt174=2;
+					int LA174_0 = input.LA(1);
+					if ( (LA174_0==IDENT||LA174_0==K_ACCESS||(LA174_0 >= K_AGGREGATE && LA174_0 <= K_ALL)||LA174_0==K_ANN||LA174_0==K_AS||LA174_0==K_ASCII||(LA174_0 >= K_BETWEEN && LA174_0 <= K_BOOLEAN)||(LA174_0 >= K_CALLED && LA174_0 <= K_CLUSTERING)||(LA174_0 >= K_COMPACT && LA174_0 <= K_COUNTER)||(LA174_0 >= K_CUSTOM && LA174_0 <= K_DEFAULT)||(LA174_0 >= K_DISTINCT && LA174_0 <= K_DOUBLE)||LA174_0==K_DURATION||(LA174_0 >= K_EXISTS && LA174_0 <= K_FLOAT)||LA174_0==K_FROZEN||(LA174_0 >= K_FUNCTION && LA174_0 <= K_GENERATED)||(LA174_0 >= K_GROUP && LA174_0 <= K_IDENTITY)||(LA174_0 >= K_INET && LA174_0 <= K_INPUT)||(LA174_0 >= K_INT && LA174_0 <= K_INTERNALS)||(LA174_0 >= K_JSON && LA174_0 <= K_KEYS)||(LA174_0 >= K_KEYSPACES && LA174_0 <= K_LIKE)||(LA174_0 >= K_LIST && LA174_0 <= K_MASKED)||(LA174_0 >= K_MAXWRITETIME && LA174_0 <= K_MBEANS)||LA174_0==K_NOLOGIN||LA174_0==K_NOSUPERUSER||(LA174_0 >= K_ONLY && LA174_0 <= K_OPTIONS)||(LA174_0 >= K_PARTITION && LA174_0 <= K_PERMISSIONS)||(LA174_0 >= K_REPLACE && LA174_0 <= K_RETURNS)||(LA174_0 >= K_ROLE && LA174_0 <= K_ROLES)||(LA174_0 >= K_SELECT_MASKED && LA174_0 <= K_TINYINT)||LA174_0==K_TRIGGER||(LA174_0 >= K_TTL && LA174_0 <= K_TYPES)||(LA174_0 >= K_UNMASK && LA174_0 <= K_UNSET)||(LA174_0 >= K_USER && LA174_0 <= K_USERS)||(LA174_0 >= K_UUID && LA174_0 <= K_VECTOR)||LA174_0==K_WRITETIME||LA174_0==QUOTED_NAME||LA174_0==STRING_LITERAL) ) {
+						alt174=1;
+					}
+					switch (alt174) {
+						case 1 :
+							// Parser.g:1176:13: v= comparatorType ( ',' v= comparatorType )*
+							{
+							pushFollow(FOLLOW_comparatorType_in_functionResource8655);
+							v=comparatorType();
+							state._fsp--;
+							if (state.failed) return res;
+							if ( state.backtracking==0 ) { argsTypes.add(v); }
+							// Parser.g:1177:13: ( ',' v= comparatorType )*
+							loop173:
+							while (true) {
+								int alt173=2;
+								int LA173_0 = input.LA(1);
+								if ( (LA173_0==216) ) {
+									alt173=1;
+								}
+
+								switch (alt173) {
+								case 1 :
+									// Parser.g:1177:15: ',' v= comparatorType
+									{
+									match(input,216,FOLLOW_216_in_functionResource8673); if (state.failed) return res;
+									pushFollow(FOLLOW_comparatorType_in_functionResource8677);
+									v=comparatorType();
+									state._fsp--;
+									if (state.failed) return res;
+									if ( state.backtracking==0 ) { argsTypes.add(v); }
+									}
+									break;
+
+								default :
+									break loop173;
+								}
+							}
+
+							}
+							break;
+
+					}
+
+					match(input,213,FOLLOW_213_in_functionResource8705); if (state.failed) return res;
+					}
+
+					if ( state.backtracking==0 ) { res = FunctionResource.functionFromCql(fn.keyspace, fn.name, argsTypes); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return res;
+	}
+	// $ANTLR end "functionResource"
+
+
+
+	// $ANTLR start "createUserStatement"
+	// Parser.g:1187:1: createUserStatement returns [CreateRoleStatement stmt] : K_CREATE K_USER ( K_IF K_NOT K_EXISTS )? u= username ( K_WITH userPassword[opts] )? ( K_SUPERUSER | K_NOSUPERUSER )? ;
+	public final CreateRoleStatement createUserStatement() throws RecognitionException {
+		CreateRoleStatement stmt = null;
+
+
+		ParserRuleReturnScope u =null;
+
+
+		        RoleOptions opts = new RoleOptions();
+		        opts.setOption(IRoleManager.Option.LOGIN, true);
+		        boolean superuser = false;
+		        boolean ifNotExists = false;
+		        RoleName name = new RoleName();
+		    
+		try {
+			// Parser.g:1195:5: ( K_CREATE K_USER ( K_IF K_NOT K_EXISTS )? u= username ( K_WITH userPassword[opts] )? ( K_SUPERUSER | K_NOSUPERUSER )? )
+			// Parser.g:1195:7: K_CREATE K_USER ( K_IF K_NOT K_EXISTS )? u= username ( K_WITH userPassword[opts] )? ( K_SUPERUSER | K_NOSUPERUSER )?
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createUserStatement8753); if (state.failed) return stmt;
+			match(input,K_USER,FOLLOW_K_USER_in_createUserStatement8755); if (state.failed) return stmt;
+			// Parser.g:1195:23: ( K_IF K_NOT K_EXISTS )?
+			int alt176=2;
+			int LA176_0 = input.LA(1);
+			if ( (LA176_0==K_IF) ) {
+				alt176=1;
+			}
+			switch (alt176) {
+				case 1 :
+					// Parser.g:1195:24: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createUserStatement8758); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createUserStatement8760); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createUserStatement8762); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_username_in_createUserStatement8770);
+			u=username();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { name.setName((u!=null?input.toString(u.start,u.stop):null), true); }
+			// Parser.g:1196:7: ( K_WITH userPassword[opts] )?
+			int alt177=2;
+			int LA177_0 = input.LA(1);
+			if ( (LA177_0==K_WITH) ) {
+				alt177=1;
+			}
+			switch (alt177) {
+				case 1 :
+					// Parser.g:1196:9: K_WITH userPassword[opts]
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_createUserStatement8782); if (state.failed) return stmt;
+					pushFollow(FOLLOW_userPassword_in_createUserStatement8784);
+					userPassword(opts);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			// Parser.g:1197:7: ( K_SUPERUSER | K_NOSUPERUSER )?
+			int alt178=3;
+			int LA178_0 = input.LA(1);
+			if ( (LA178_0==K_SUPERUSER) ) {
+				alt178=1;
+			}
+			else if ( (LA178_0==K_NOSUPERUSER) ) {
+				alt178=2;
+			}
+			switch (alt178) {
+				case 1 :
+					// Parser.g:1197:9: K_SUPERUSER
+					{
+					match(input,K_SUPERUSER,FOLLOW_K_SUPERUSER_in_createUserStatement8798); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { superuser = true; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1197:45: K_NOSUPERUSER
+					{
+					match(input,K_NOSUPERUSER,FOLLOW_K_NOSUPERUSER_in_createUserStatement8804); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { superuser = false; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.SUPERUSER, superuser);
+			        if (opts.getPassword().isPresent() && opts.getHashedPassword().isPresent())
+			        {
+			           throw new SyntaxException("Options 'password' and 'hashed password' are mutually exclusive");
+			        }
+			        if (opts.getPassword().isPresent() && opts.isGeneratedPassword())
+			        {
+			           throw new SyntaxException("Options 'password' and 'generated password' are mutually exclusive");
+			        }
+			        if (opts.getHashedPassword().isPresent() && opts.isGeneratedPassword())
+			        {
+			           throw new SyntaxException("Options 'hashed password' and 'generated password' are mutually exclusive");
+			        }
+			        stmt = new CreateRoleStatement(name, opts, DCPermissions.all(), CIDRPermissions.all(), ifNotExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createUserStatement"
+
+
+
+	// $ANTLR start "alterUserStatement"
+	// Parser.g:1217:1: alterUserStatement returns [AlterRoleStatement stmt] : K_ALTER K_USER ( K_IF K_EXISTS )? u= username ( K_WITH userPassword[opts] )? ( K_SUPERUSER | K_NOSUPERUSER )? ;
+	public final AlterRoleStatement alterUserStatement() throws RecognitionException {
+		AlterRoleStatement stmt = null;
+
+
+		ParserRuleReturnScope u =null;
+
+
+		        RoleOptions opts = new RoleOptions();
+		        RoleName name = new RoleName();
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:1223:5: ( K_ALTER K_USER ( K_IF K_EXISTS )? u= username ( K_WITH userPassword[opts] )? ( K_SUPERUSER | K_NOSUPERUSER )? )
+			// Parser.g:1223:7: K_ALTER K_USER ( K_IF K_EXISTS )? u= username ( K_WITH userPassword[opts] )? ( K_SUPERUSER | K_NOSUPERUSER )?
+			{
+			match(input,K_ALTER,FOLLOW_K_ALTER_in_alterUserStatement8849); if (state.failed) return stmt;
+			match(input,K_USER,FOLLOW_K_USER_in_alterUserStatement8851); if (state.failed) return stmt;
+			// Parser.g:1223:22: ( K_IF K_EXISTS )?
+			int alt179=2;
+			int LA179_0 = input.LA(1);
+			if ( (LA179_0==K_IF) ) {
+				alt179=1;
+			}
+			switch (alt179) {
+				case 1 :
+					// Parser.g:1223:23: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_alterUserStatement8854); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterUserStatement8856); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_username_in_alterUserStatement8864);
+			u=username();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { name.setName((u!=null?input.toString(u.start,u.stop):null), true); }
+			// Parser.g:1224:7: ( K_WITH userPassword[opts] )?
+			int alt180=2;
+			int LA180_0 = input.LA(1);
+			if ( (LA180_0==K_WITH) ) {
+				alt180=1;
+			}
+			switch (alt180) {
+				case 1 :
+					// Parser.g:1224:9: K_WITH userPassword[opts]
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_alterUserStatement8876); if (state.failed) return stmt;
+					pushFollow(FOLLOW_userPassword_in_alterUserStatement8878);
+					userPassword(opts);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			// Parser.g:1225:7: ( K_SUPERUSER | K_NOSUPERUSER )?
+			int alt181=3;
+			int LA181_0 = input.LA(1);
+			if ( (LA181_0==K_SUPERUSER) ) {
+				alt181=1;
+			}
+			else if ( (LA181_0==K_NOSUPERUSER) ) {
+				alt181=2;
+			}
+			switch (alt181) {
+				case 1 :
+					// Parser.g:1225:9: K_SUPERUSER
+					{
+					match(input,K_SUPERUSER,FOLLOW_K_SUPERUSER_in_alterUserStatement8892); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.SUPERUSER, true); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1226:11: K_NOSUPERUSER
+					{
+					match(input,K_NOSUPERUSER,FOLLOW_K_NOSUPERUSER_in_alterUserStatement8906); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.SUPERUSER, false); }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			         if (opts.getPassword().isPresent() && opts.getHashedPassword().isPresent())
+			         {
+			            throw new SyntaxException("Options 'password' and 'hashed password' are mutually exclusive");
+			         }
+			         if (opts.getPassword().isPresent() && opts.isGeneratedPassword())
+			         {
+			            throw new SyntaxException("Options 'password' and 'generated password' are mutually exclusive");
+			         }
+			         if (opts.getHashedPassword().isPresent() && opts.isGeneratedPassword())
+			         {
+			            throw new SyntaxException("Options 'hashed password' and 'generated password' are mutually exclusive");
+			         }
+			         stmt = new AlterRoleStatement(name, opts, null, null, ifExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "alterUserStatement"
+
+
+
+	// $ANTLR start "dropUserStatement"
+	// Parser.g:1247:1: dropUserStatement returns [DropRoleStatement stmt] : K_DROP K_USER ( K_IF K_EXISTS )? u= username ;
+	public final DropRoleStatement dropUserStatement() throws RecognitionException {
+		DropRoleStatement stmt = null;
+
+
+		ParserRuleReturnScope u =null;
+
+
+		        boolean ifExists = false;
+		        RoleName name = new RoleName();
+		    
+		try {
+			// Parser.g:1252:5: ( K_DROP K_USER ( K_IF K_EXISTS )? u= username )
+			// Parser.g:1252:7: K_DROP K_USER ( K_IF K_EXISTS )? u= username
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropUserStatement8952); if (state.failed) return stmt;
+			match(input,K_USER,FOLLOW_K_USER_in_dropUserStatement8954); if (state.failed) return stmt;
+			// Parser.g:1252:21: ( K_IF K_EXISTS )?
+			int alt182=2;
+			int LA182_0 = input.LA(1);
+			if ( (LA182_0==K_IF) ) {
+				alt182=1;
+			}
+			switch (alt182) {
+				case 1 :
+					// Parser.g:1252:22: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropUserStatement8957); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropUserStatement8959); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_username_in_dropUserStatement8967);
+			u=username();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { name.setName((u!=null?input.toString(u.start,u.stop):null), true); stmt = new DropRoleStatement(name, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropUserStatement"
+
+
+
+	// $ANTLR start "addIdentityStatement"
+	// Parser.g:1257:1: addIdentityStatement returns [AddIdentityStatement stmt] : K_ADD K_IDENTITY ( K_IF K_NOT K_EXISTS )? u= identity K_TO K_ROLE r= identity ;
+	public final AddIdentityStatement addIdentityStatement() throws RecognitionException {
+		AddIdentityStatement stmt = null;
+
+
+		ParserRuleReturnScope u =null;
+		ParserRuleReturnScope r =null;
+
+
+		        String identity = null;
+		        String role = null;
+		        boolean ifNotExists = false;
+		    
+		try {
+			// Parser.g:1263:5: ( K_ADD K_IDENTITY ( K_IF K_NOT K_EXISTS )? u= identity K_TO K_ROLE r= identity )
+			// Parser.g:1263:7: K_ADD K_IDENTITY ( K_IF K_NOT K_EXISTS )? u= identity K_TO K_ROLE r= identity
+			{
+			match(input,K_ADD,FOLLOW_K_ADD_in_addIdentityStatement9000); if (state.failed) return stmt;
+			match(input,K_IDENTITY,FOLLOW_K_IDENTITY_in_addIdentityStatement9002); if (state.failed) return stmt;
+			// Parser.g:1263:24: ( K_IF K_NOT K_EXISTS )?
+			int alt183=2;
+			int LA183_0 = input.LA(1);
+			if ( (LA183_0==K_IF) ) {
+				alt183=1;
+			}
+			switch (alt183) {
+				case 1 :
+					// Parser.g:1263:25: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_addIdentityStatement9005); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_addIdentityStatement9007); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_addIdentityStatement9009); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_identity_in_addIdentityStatement9017);
+			u=identity();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { identity= (u!=null?input.toString(u.start,u.stop):null); }
+			match(input,K_TO,FOLLOW_K_TO_in_addIdentityStatement9021); if (state.failed) return stmt;
+			match(input,K_ROLE,FOLLOW_K_ROLE_in_addIdentityStatement9023); if (state.failed) return stmt;
+			pushFollow(FOLLOW_identity_in_addIdentityStatement9027);
+			r=identity();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { role=(r!=null?input.toString(r.start,r.stop):null); stmt = new AddIdentityStatement(identity, role, ifNotExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "addIdentityStatement"
+
+
+
+	// $ANTLR start "dropIdentityStatement"
+	// Parser.g:1269:2: dropIdentityStatement returns [DropIdentityStatement stmt] : K_DROP K_IDENTITY ( K_IF K_EXISTS )? u= identity ;
+	public final DropIdentityStatement dropIdentityStatement() throws RecognitionException {
+		DropIdentityStatement stmt = null;
+
+
+		ParserRuleReturnScope u =null;
+
+
+		          boolean ifExists = false;
+		          String identity = null;
+		      
+		try {
+			// Parser.g:1274:7: ( K_DROP K_IDENTITY ( K_IF K_EXISTS )? u= identity )
+			// Parser.g:1274:9: K_DROP K_IDENTITY ( K_IF K_EXISTS )? u= identity
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropIdentityStatement9066); if (state.failed) return stmt;
+			match(input,K_IDENTITY,FOLLOW_K_IDENTITY_in_dropIdentityStatement9068); if (state.failed) return stmt;
+			// Parser.g:1274:27: ( K_IF K_EXISTS )?
+			int alt184=2;
+			int LA184_0 = input.LA(1);
+			if ( (LA184_0==K_IF) ) {
+				alt184=1;
+			}
+			switch (alt184) {
+				case 1 :
+					// Parser.g:1274:28: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropIdentityStatement9071); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropIdentityStatement9073); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_identity_in_dropIdentityStatement9081);
+			u=identity();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { identity= (u!=null?input.toString(u.start,u.stop):null); stmt = new DropIdentityStatement(identity, ifExists);}
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropIdentityStatement"
+
+
+
+	// $ANTLR start "listUsersStatement"
+	// Parser.g:1280:1: listUsersStatement returns [ListRolesStatement stmt] : K_LIST K_USERS ;
+	public final ListRolesStatement listUsersStatement() throws RecognitionException {
+		ListRolesStatement stmt = null;
+
+
+		try {
+			// Parser.g:1281:5: ( K_LIST K_USERS )
+			// Parser.g:1281:7: K_LIST K_USERS
+			{
+			match(input,K_LIST,FOLLOW_K_LIST_in_listUsersStatement9108); if (state.failed) return stmt;
+			match(input,K_USERS,FOLLOW_K_USERS_in_listUsersStatement9110); if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new ListUsersStatement(); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "listUsersStatement"
+
+
+
+	// $ANTLR start "createRoleStatement"
+	// Parser.g:1297:1: createRoleStatement returns [CreateRoleStatement stmt] : K_CREATE K_ROLE ( K_IF K_NOT K_EXISTS )? name= userOrRoleName ( K_WITH roleOptions[opts, dcperms, cidrperms] )? ;
+	public final CreateRoleStatement createRoleStatement() throws RecognitionException {
+		CreateRoleStatement stmt = null;
+
+
+		RoleName name =null;
+
+
+		        RoleOptions opts = new RoleOptions();
+		        DCPermissions.Builder dcperms = DCPermissions.builder();
+		        CIDRPermissions.Builder cidrperms = CIDRPermissions.builder();
+		        boolean ifNotExists = false;
+		    
+		try {
+			// Parser.g:1304:5: ( K_CREATE K_ROLE ( K_IF K_NOT K_EXISTS )? name= userOrRoleName ( K_WITH roleOptions[opts, dcperms, cidrperms] )? )
+			// Parser.g:1304:7: K_CREATE K_ROLE ( K_IF K_NOT K_EXISTS )? name= userOrRoleName ( K_WITH roleOptions[opts, dcperms, cidrperms] )?
+			{
+			match(input,K_CREATE,FOLLOW_K_CREATE_in_createRoleStatement9144); if (state.failed) return stmt;
+			match(input,K_ROLE,FOLLOW_K_ROLE_in_createRoleStatement9146); if (state.failed) return stmt;
+			// Parser.g:1304:23: ( K_IF K_NOT K_EXISTS )?
+			int alt185=2;
+			int LA185_0 = input.LA(1);
+			if ( (LA185_0==K_IF) ) {
+				alt185=1;
+			}
+			switch (alt185) {
+				case 1 :
+					// Parser.g:1304:24: K_IF K_NOT K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_createRoleStatement9149); if (state.failed) return stmt;
+					match(input,K_NOT,FOLLOW_K_NOT_in_createRoleStatement9151); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_createRoleStatement9153); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifNotExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_userOrRoleName_in_createRoleStatement9161);
+			name=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:1305:7: ( K_WITH roleOptions[opts, dcperms, cidrperms] )?
+			int alt186=2;
+			int LA186_0 = input.LA(1);
+			if ( (LA186_0==K_WITH) ) {
+				alt186=1;
+			}
+			switch (alt186) {
+				case 1 :
+					// Parser.g:1305:9: K_WITH roleOptions[opts, dcperms, cidrperms]
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_createRoleStatement9171); if (state.failed) return stmt;
+					pushFollow(FOLLOW_roleOptions_in_createRoleStatement9173);
+					roleOptions(opts, dcperms, cidrperms);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			        // set defaults if they weren't explictly supplied
+			        if (!opts.getLogin().isPresent())
+			        {
+			            opts.setOption(IRoleManager.Option.LOGIN, false);
+			        }
+			        if (!opts.getSuperuser().isPresent())
+			        {
+			            opts.setOption(IRoleManager.Option.SUPERUSER, false);
+			        }
+			        if (opts.getPassword().isPresent() && opts.getHashedPassword().isPresent())
+			        {
+			            throw new SyntaxException("Options 'password' and 'hashed password' are mutually exclusive");
+			        }
+			        if (opts.getPassword().isPresent() && opts.isGeneratedPassword())
+			        {
+			            throw new SyntaxException("Options 'password' and 'generated password' are mutually exclusive");
+			        }
+			        if (opts.getHashedPassword().isPresent() && opts.isGeneratedPassword())
+			        {
+			           throw new SyntaxException("Options 'hashed password' and 'generated password' are mutually exclusive");
+			        }
+			        stmt = new CreateRoleStatement(name, opts, dcperms.build(), cidrperms.build(), ifNotExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "createRoleStatement"
+
+
+
+	// $ANTLR start "alterRoleStatement"
+	// Parser.g:1345:1: alterRoleStatement returns [AlterRoleStatement stmt] : K_ALTER K_ROLE ( K_IF K_EXISTS )? name= userOrRoleName ( K_WITH roleOptions[opts, dcperms, cidrperms] )? ;
+	public final AlterRoleStatement alterRoleStatement() throws RecognitionException {
+		AlterRoleStatement stmt = null;
+
+
+		RoleName name =null;
+
+
+		        RoleOptions opts = new RoleOptions();
+		        DCPermissions.Builder dcperms = DCPermissions.builder();
+		        CIDRPermissions.Builder cidrperms = CIDRPermissions.builder();
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:1352:5: ( K_ALTER K_ROLE ( K_IF K_EXISTS )? name= userOrRoleName ( K_WITH roleOptions[opts, dcperms, cidrperms] )? )
+			// Parser.g:1352:7: K_ALTER K_ROLE ( K_IF K_EXISTS )? name= userOrRoleName ( K_WITH roleOptions[opts, dcperms, cidrperms] )?
+			{
+			match(input,K_ALTER,FOLLOW_K_ALTER_in_alterRoleStatement9217); if (state.failed) return stmt;
+			match(input,K_ROLE,FOLLOW_K_ROLE_in_alterRoleStatement9219); if (state.failed) return stmt;
+			// Parser.g:1352:22: ( K_IF K_EXISTS )?
+			int alt187=2;
+			int LA187_0 = input.LA(1);
+			if ( (LA187_0==K_IF) ) {
+				alt187=1;
+			}
+			switch (alt187) {
+				case 1 :
+					// Parser.g:1352:23: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_alterRoleStatement9222); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_alterRoleStatement9224); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_userOrRoleName_in_alterRoleStatement9232);
+			name=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			// Parser.g:1353:7: ( K_WITH roleOptions[opts, dcperms, cidrperms] )?
+			int alt188=2;
+			int LA188_0 = input.LA(1);
+			if ( (LA188_0==K_WITH) ) {
+				alt188=1;
+			}
+			switch (alt188) {
+				case 1 :
+					// Parser.g:1353:9: K_WITH roleOptions[opts, dcperms, cidrperms]
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_alterRoleStatement9242); if (state.failed) return stmt;
+					pushFollow(FOLLOW_roleOptions_in_alterRoleStatement9244);
+					roleOptions(opts, dcperms, cidrperms);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) {
+			         if (opts.getPassword().isPresent() && opts.getHashedPassword().isPresent())
+			         {
+			            throw new SyntaxException("Options 'password' and 'hashed password' are mutually exclusive");
+			         }
+			         if (opts.getPassword().isPresent() && opts.isGeneratedPassword())
+			         {
+			            throw new SyntaxException("Options 'password' and 'generated password' are mutually exclusive");
+			         }
+			         if (opts.getHashedPassword().isPresent() && opts.isGeneratedPassword())
+			         {
+			            throw new SyntaxException("Options 'hashed password' and 'generated password' are mutually exclusive");
+			         }
+			         stmt = new AlterRoleStatement(name, opts, dcperms.isModified() ? dcperms.build() : null, cidrperms.isModified() ? cidrperms.build() : null, ifExists);
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "alterRoleStatement"
+
+
+
+	// $ANTLR start "dropRoleStatement"
+	// Parser.g:1374:1: dropRoleStatement returns [DropRoleStatement stmt] : K_DROP K_ROLE ( K_IF K_EXISTS )? name= userOrRoleName ;
+	public final DropRoleStatement dropRoleStatement() throws RecognitionException {
+		DropRoleStatement stmt = null;
+
+
+		RoleName name =null;
+
+
+		        boolean ifExists = false;
+		    
+		try {
+			// Parser.g:1378:5: ( K_DROP K_ROLE ( K_IF K_EXISTS )? name= userOrRoleName )
+			// Parser.g:1378:7: K_DROP K_ROLE ( K_IF K_EXISTS )? name= userOrRoleName
+			{
+			match(input,K_DROP,FOLLOW_K_DROP_in_dropRoleStatement9288); if (state.failed) return stmt;
+			match(input,K_ROLE,FOLLOW_K_ROLE_in_dropRoleStatement9290); if (state.failed) return stmt;
+			// Parser.g:1378:21: ( K_IF K_EXISTS )?
+			int alt189=2;
+			int LA189_0 = input.LA(1);
+			if ( (LA189_0==K_IF) ) {
+				alt189=1;
+			}
+			switch (alt189) {
+				case 1 :
+					// Parser.g:1378:22: K_IF K_EXISTS
+					{
+					match(input,K_IF,FOLLOW_K_IF_in_dropRoleStatement9293); if (state.failed) return stmt;
+					match(input,K_EXISTS,FOLLOW_K_EXISTS_in_dropRoleStatement9295); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { ifExists = true; }
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_userOrRoleName_in_dropRoleStatement9303);
+			name=userOrRoleName();
+			state._fsp--;
+			if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new DropRoleStatement(name, ifExists); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "dropRoleStatement"
+
+
+
+	// $ANTLR start "listRolesStatement"
+	// Parser.g:1385:1: listRolesStatement returns [ListRolesStatement stmt] : K_LIST K_ROLES ( K_OF roleName[grantee] )? ( K_NORECURSIVE )? ;
+	public final ListRolesStatement listRolesStatement() throws RecognitionException {
+		ListRolesStatement stmt = null;
+
+
+
+		        boolean recursive = true;
+		        RoleName grantee = new RoleName();
+		    
+		try {
+			// Parser.g:1390:5: ( K_LIST K_ROLES ( K_OF roleName[grantee] )? ( K_NORECURSIVE )? )
+			// Parser.g:1390:7: K_LIST K_ROLES ( K_OF roleName[grantee] )? ( K_NORECURSIVE )?
+			{
+			match(input,K_LIST,FOLLOW_K_LIST_in_listRolesStatement9343); if (state.failed) return stmt;
+			match(input,K_ROLES,FOLLOW_K_ROLES_in_listRolesStatement9345); if (state.failed) return stmt;
+			// Parser.g:1391:7: ( K_OF roleName[grantee] )?
+			int alt190=2;
+			int LA190_0 = input.LA(1);
+			if ( (LA190_0==K_OF) ) {
+				alt190=1;
+			}
+			switch (alt190) {
+				case 1 :
+					// Parser.g:1391:9: K_OF roleName[grantee]
+					{
+					match(input,K_OF,FOLLOW_K_OF_in_listRolesStatement9355); if (state.failed) return stmt;
+					pushFollow(FOLLOW_roleName_in_listRolesStatement9357);
+					roleName(grantee);
+					state._fsp--;
+					if (state.failed) return stmt;
+					}
+					break;
+
+			}
+
+			// Parser.g:1392:7: ( K_NORECURSIVE )?
+			int alt191=2;
+			int LA191_0 = input.LA(1);
+			if ( (LA191_0==K_NORECURSIVE) ) {
+				alt191=1;
+			}
+			switch (alt191) {
+				case 1 :
+					// Parser.g:1392:9: K_NORECURSIVE
+					{
+					match(input,K_NORECURSIVE,FOLLOW_K_NORECURSIVE_in_listRolesStatement9370); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { recursive = false; }
+					}
+					break;
+
+			}
+
+			if ( state.backtracking==0 ) { stmt = new ListRolesStatement(grantee, recursive); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "listRolesStatement"
+
+
+
+	// $ANTLR start "listSuperUsersStatement"
+	// Parser.g:1399:1: listSuperUsersStatement returns [ListSuperUsersStatement stmt] : K_LIST K_SUPERUSERS ;
+	public final ListSuperUsersStatement listSuperUsersStatement() throws RecognitionException {
+		ListSuperUsersStatement stmt = null;
+
+
+
+		    
+		try {
+			// Parser.g:1402:5: ( K_LIST K_SUPERUSERS )
+			// Parser.g:1402:7: K_LIST K_SUPERUSERS
+			{
+			match(input,K_LIST,FOLLOW_K_LIST_in_listSuperUsersStatement9415); if (state.failed) return stmt;
+			match(input,K_SUPERUSERS,FOLLOW_K_SUPERUSERS_in_listSuperUsersStatement9417); if (state.failed) return stmt;
+			if ( state.backtracking==0 ) { stmt = new ListSuperUsersStatement(); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "listSuperUsersStatement"
+
+
+
+	// $ANTLR start "roleOptions"
+	// Parser.g:1405:1: roleOptions[RoleOptions opts, DCPermissions.Builder dcperms, CIDRPermissions.Builder cidrperms] : roleOption[opts, dcperms, cidrperms] ( K_AND roleOption[opts, dcperms, cidrperms] )* ;
+	public final void roleOptions(RoleOptions opts, DCPermissions.Builder dcperms, CIDRPermissions.Builder cidrperms) throws RecognitionException {
+		try {
+			// Parser.g:1406:5: ( roleOption[opts, dcperms, cidrperms] ( K_AND roleOption[opts, dcperms, cidrperms] )* )
+			// Parser.g:1406:7: roleOption[opts, dcperms, cidrperms] ( K_AND roleOption[opts, dcperms, cidrperms] )*
+			{
+			pushFollow(FOLLOW_roleOption_in_roleOptions9437);
+			roleOption(opts, dcperms, cidrperms);
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:1406:44: ( K_AND roleOption[opts, dcperms, cidrperms] )*
+			loop192:
+			while (true) {
+				int alt192=2;
+				int LA192_0 = input.LA(1);
+				if ( (LA192_0==K_AND) ) {
+					alt192=1;
+				}
+
+				switch (alt192) {
+				case 1 :
+					// Parser.g:1406:45: K_AND roleOption[opts, dcperms, cidrperms]
+					{
+					match(input,K_AND,FOLLOW_K_AND_in_roleOptions9441); if (state.failed) return;
+					pushFollow(FOLLOW_roleOption_in_roleOptions9443);
+					roleOption(opts, dcperms, cidrperms);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+
+				default :
+					break loop192;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "roleOptions"
+
+
+
+	// $ANTLR start "roleOption"
+	// Parser.g:1409:1: roleOption[RoleOptions opts, DCPermissions.Builder dcperms, CIDRPermissions.Builder cidrperms] : ( K_PASSWORD '=' v= STRING_LITERAL | K_GENERATED K_PASSWORD | K_HASHED K_PASSWORD '=' v= STRING_LITERAL | K_OPTIONS '=' m= fullMapLiteral | K_SUPERUSER '=' b= BOOLEAN | K_LOGIN '=' b= BOOLEAN | K_ACCESS K_TO K_ALL K_DATACENTERS | K_ACCESS K_TO K_DATACENTERS '{' dcPermission[dcperms] ( ',' dcPermission[dcperms] )* '}' | K_ACCESS K_FROM K_ALL K_CIDRS | K_ACCESS K_FROM K_CIDRS '{' cidrPermission[cidrperms] ( ',' cidrPermission[cidrperms] )* '}' );
+	public final void roleOption(RoleOptions opts, DCPermissions.Builder dcperms, CIDRPermissions.Builder cidrperms) throws RecognitionException {
+		Token v=null;
+		Token b=null;
+		Maps.Literal m =null;
+
+		try {
+			// Parser.g:1410:5: ( K_PASSWORD '=' v= STRING_LITERAL | K_GENERATED K_PASSWORD | K_HASHED K_PASSWORD '=' v= STRING_LITERAL | K_OPTIONS '=' m= fullMapLiteral | K_SUPERUSER '=' b= BOOLEAN | K_LOGIN '=' b= BOOLEAN | K_ACCESS K_TO K_ALL K_DATACENTERS | K_ACCESS K_TO K_DATACENTERS '{' dcPermission[dcperms] ( ',' dcPermission[dcperms] )* '}' | K_ACCESS K_FROM K_ALL K_CIDRS | K_ACCESS K_FROM K_CIDRS '{' cidrPermission[cidrperms] ( ',' cidrPermission[cidrperms] )* '}' )
+			int alt195=10;
+			alt195 = dfa195.predict(input);
+			switch (alt195) {
+				case 1 :
+					// Parser.g:1410:8: K_PASSWORD '=' v= STRING_LITERAL
+					{
+					match(input,K_PASSWORD,FOLLOW_K_PASSWORD_in_roleOption9465); if (state.failed) return;
+					match(input,225,FOLLOW_225_in_roleOption9467); if (state.failed) return;
+					v=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_roleOption9471); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.PASSWORD, (v!=null?v.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1411:8: K_GENERATED K_PASSWORD
+					{
+					match(input,K_GENERATED,FOLLOW_K_GENERATED_in_roleOption9482); if (state.failed) return;
+					match(input,K_PASSWORD,FOLLOW_K_PASSWORD_in_roleOption9484); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.GENERATED_PASSWORD, Boolean.TRUE); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1412:8: K_HASHED K_PASSWORD '=' v= STRING_LITERAL
+					{
+					match(input,K_HASHED,FOLLOW_K_HASHED_in_roleOption9496); if (state.failed) return;
+					match(input,K_PASSWORD,FOLLOW_K_PASSWORD_in_roleOption9498); if (state.failed) return;
+					match(input,225,FOLLOW_225_in_roleOption9500); if (state.failed) return;
+					v=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_roleOption9504); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.HASHED_PASSWORD, (v!=null?v.getText():null)); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1413:8: K_OPTIONS '=' m= fullMapLiteral
+					{
+					match(input,K_OPTIONS,FOLLOW_K_OPTIONS_in_roleOption9515); if (state.failed) return;
+					match(input,225,FOLLOW_225_in_roleOption9517); if (state.failed) return;
+					pushFollow(FOLLOW_fullMapLiteral_in_roleOption9521);
+					m=fullMapLiteral();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.OPTIONS, convertPropertyMap(m)); }
+					}
+					break;
+				case 5 :
+					// Parser.g:1414:8: K_SUPERUSER '=' b= BOOLEAN
+					{
+					match(input,K_SUPERUSER,FOLLOW_K_SUPERUSER_in_roleOption9532); if (state.failed) return;
+					match(input,225,FOLLOW_225_in_roleOption9534); if (state.failed) return;
+					b=(Token)match(input,BOOLEAN,FOLLOW_BOOLEAN_in_roleOption9538); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.SUPERUSER, Boolean.valueOf((b!=null?b.getText():null))); }
+					}
+					break;
+				case 6 :
+					// Parser.g:1415:8: K_LOGIN '=' b= BOOLEAN
+					{
+					match(input,K_LOGIN,FOLLOW_K_LOGIN_in_roleOption9549); if (state.failed) return;
+					match(input,225,FOLLOW_225_in_roleOption9551); if (state.failed) return;
+					b=(Token)match(input,BOOLEAN,FOLLOW_BOOLEAN_in_roleOption9555); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.LOGIN, Boolean.valueOf((b!=null?b.getText():null))); }
+					}
+					break;
+				case 7 :
+					// Parser.g:1416:8: K_ACCESS K_TO K_ALL K_DATACENTERS
+					{
+					match(input,K_ACCESS,FOLLOW_K_ACCESS_in_roleOption9566); if (state.failed) return;
+					match(input,K_TO,FOLLOW_K_TO_in_roleOption9568); if (state.failed) return;
+					match(input,K_ALL,FOLLOW_K_ALL_in_roleOption9570); if (state.failed) return;
+					match(input,K_DATACENTERS,FOLLOW_K_DATACENTERS_in_roleOption9572); if (state.failed) return;
+					if ( state.backtracking==0 ) { dcperms.all(); }
+					}
+					break;
+				case 8 :
+					// Parser.g:1417:8: K_ACCESS K_TO K_DATACENTERS '{' dcPermission[dcperms] ( ',' dcPermission[dcperms] )* '}'
+					{
+					match(input,K_ACCESS,FOLLOW_K_ACCESS_in_roleOption9583); if (state.failed) return;
+					match(input,K_TO,FOLLOW_K_TO_in_roleOption9585); if (state.failed) return;
+					match(input,K_DATACENTERS,FOLLOW_K_DATACENTERS_in_roleOption9587); if (state.failed) return;
+					match(input,232,FOLLOW_232_in_roleOption9589); if (state.failed) return;
+					pushFollow(FOLLOW_dcPermission_in_roleOption9591);
+					dcPermission(dcperms);
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:1417:62: ( ',' dcPermission[dcperms] )*
+					loop193:
+					while (true) {
+						int alt193=2;
+						int LA193_0 = input.LA(1);
+						if ( (LA193_0==216) ) {
+							alt193=1;
+						}
+
+						switch (alt193) {
+						case 1 :
+							// Parser.g:1417:63: ',' dcPermission[dcperms]
+							{
+							match(input,216,FOLLOW_216_in_roleOption9595); if (state.failed) return;
+							pushFollow(FOLLOW_dcPermission_in_roleOption9597);
+							dcPermission(dcperms);
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+						default :
+							break loop193;
+						}
+					}
+
+					match(input,233,FOLLOW_233_in_roleOption9602); if (state.failed) return;
+					}
+					break;
+				case 9 :
+					// Parser.g:1418:8: K_ACCESS K_FROM K_ALL K_CIDRS
+					{
+					match(input,K_ACCESS,FOLLOW_K_ACCESS_in_roleOption9611); if (state.failed) return;
+					match(input,K_FROM,FOLLOW_K_FROM_in_roleOption9613); if (state.failed) return;
+					match(input,K_ALL,FOLLOW_K_ALL_in_roleOption9615); if (state.failed) return;
+					match(input,K_CIDRS,FOLLOW_K_CIDRS_in_roleOption9617); if (state.failed) return;
+					if ( state.backtracking==0 ) { cidrperms.all(); }
+					}
+					break;
+				case 10 :
+					// Parser.g:1419:8: K_ACCESS K_FROM K_CIDRS '{' cidrPermission[cidrperms] ( ',' cidrPermission[cidrperms] )* '}'
+					{
+					match(input,K_ACCESS,FOLLOW_K_ACCESS_in_roleOption9628); if (state.failed) return;
+					match(input,K_FROM,FOLLOW_K_FROM_in_roleOption9630); if (state.failed) return;
+					match(input,K_CIDRS,FOLLOW_K_CIDRS_in_roleOption9632); if (state.failed) return;
+					match(input,232,FOLLOW_232_in_roleOption9634); if (state.failed) return;
+					pushFollow(FOLLOW_cidrPermission_in_roleOption9636);
+					cidrPermission(cidrperms);
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:1419:62: ( ',' cidrPermission[cidrperms] )*
+					loop194:
+					while (true) {
+						int alt194=2;
+						int LA194_0 = input.LA(1);
+						if ( (LA194_0==216) ) {
+							alt194=1;
+						}
+
+						switch (alt194) {
+						case 1 :
+							// Parser.g:1419:63: ',' cidrPermission[cidrperms]
+							{
+							match(input,216,FOLLOW_216_in_roleOption9640); if (state.failed) return;
+							pushFollow(FOLLOW_cidrPermission_in_roleOption9642);
+							cidrPermission(cidrperms);
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+						default :
+							break loop194;
+						}
+					}
+
+					match(input,233,FOLLOW_233_in_roleOption9647); if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "roleOption"
+
+
+
+	// $ANTLR start "dcPermission"
+	// Parser.g:1422:1: dcPermission[DCPermissions.Builder builder] : dc= STRING_LITERAL ;
+	public final void dcPermission(DCPermissions.Builder builder) throws RecognitionException {
+		Token dc=null;
+
+		try {
+			// Parser.g:1423:5: (dc= STRING_LITERAL )
+			// Parser.g:1423:7: dc= STRING_LITERAL
+			{
+			dc=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_dcPermission9667); if (state.failed) return;
+			if ( state.backtracking==0 ) { builder.add((dc!=null?dc.getText():null)); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "dcPermission"
+
+
+
+	// $ANTLR start "cidrPermission"
+	// Parser.g:1426:1: cidrPermission[CIDRPermissions.Builder builder] : cidr= STRING_LITERAL ;
+	public final void cidrPermission(CIDRPermissions.Builder builder) throws RecognitionException {
+		Token cidr=null;
+
+		try {
+			// Parser.g:1427:5: (cidr= STRING_LITERAL )
+			// Parser.g:1427:7: cidr= STRING_LITERAL
+			{
+			cidr=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_cidrPermission9689); if (state.failed) return;
+			if ( state.backtracking==0 ) { builder.add((cidr!=null?cidr.getText():null)); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "cidrPermission"
+
+
+
+	// $ANTLR start "userPassword"
+	// Parser.g:1431:1: userPassword[RoleOptions opts] : ( K_PASSWORD v= STRING_LITERAL | K_HASHED K_PASSWORD v= STRING_LITERAL | K_GENERATED K_PASSWORD );
+	public final void userPassword(RoleOptions opts) throws RecognitionException {
+		Token v=null;
+
+		try {
+			// Parser.g:1432:5: ( K_PASSWORD v= STRING_LITERAL | K_HASHED K_PASSWORD v= STRING_LITERAL | K_GENERATED K_PASSWORD )
+			int alt196=3;
+			switch ( input.LA(1) ) {
+			case K_PASSWORD:
+				{
+				alt196=1;
+				}
+				break;
+			case K_HASHED:
+				{
+				alt196=2;
+				}
+				break;
+			case K_GENERATED:
+				{
+				alt196=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 196, 0, input);
+				throw nvae;
+			}
+			switch (alt196) {
+				case 1 :
+					// Parser.g:1432:8: K_PASSWORD v= STRING_LITERAL
+					{
+					match(input,K_PASSWORD,FOLLOW_K_PASSWORD_in_userPassword9711); if (state.failed) return;
+					v=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_userPassword9715); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.PASSWORD, (v!=null?v.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1433:8: K_HASHED K_PASSWORD v= STRING_LITERAL
+					{
+					match(input,K_HASHED,FOLLOW_K_HASHED_in_userPassword9726); if (state.failed) return;
+					match(input,K_PASSWORD,FOLLOW_K_PASSWORD_in_userPassword9728); if (state.failed) return;
+					v=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_userPassword9732); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.HASHED_PASSWORD, (v!=null?v.getText():null)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1434:8: K_GENERATED K_PASSWORD
+					{
+					match(input,K_GENERATED,FOLLOW_K_GENERATED_in_userPassword9743); if (state.failed) return;
+					match(input,K_PASSWORD,FOLLOW_K_PASSWORD_in_userPassword9745); if (state.failed) return;
+					if ( state.backtracking==0 ) { opts.setOption(IRoleManager.Option.GENERATED_PASSWORD, Boolean.TRUE); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "userPassword"
+
+
+
+	// $ANTLR start "describeStatement"
+	// Parser.g:1443:1: describeStatement returns [DescribeStatement stmt] : ( K_DESCRIBE | K_DESC ) ( ( K_CLUSTER )=> K_CLUSTER | ( K_FULL )? K_SCHEMA | ( K_KEYSPACES )=> K_KEYSPACES | ( K_ONLY )? K_KEYSPACE (ks= keyspaceName )? | ( K_TABLES )=> K_TABLES | K_COLUMNFAMILY cf= columnFamilyName | K_INDEX idx= columnFamilyName | K_MATERIALIZED K_VIEW view= columnFamilyName | ( K_TYPES )=> K_TYPES | K_TYPE tn= userTypeName | ( K_FUNCTIONS )=> K_FUNCTIONS | K_FUNCTION fn= functionName | ( K_AGGREGATES )=> K_AGGREGATES | K_AGGREGATE ag= functionName | ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )? (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword ) ) ( K_WITH K_INTERNALS )? ;
+	public final DescribeStatement describeStatement() throws RecognitionException {
+		DescribeStatement stmt = null;
+
+
+		Token ksT=null;
+		Token tT=null;
+		String ks =null;
+		QualifiedName cf =null;
+		QualifiedName idx =null;
+		QualifiedName view =null;
+		UTName tn =null;
+		FunctionName fn =null;
+		FunctionName ag =null;
+		String ksK =null;
+		String tK =null;
+
+
+		        boolean fullSchema = false;
+		        boolean pending = false;
+		        boolean config = false;
+		        boolean only = false;
+		        QualifiedName gen = new QualifiedName();
+		    
+		try {
+			// Parser.g:1451:5: ( ( K_DESCRIBE | K_DESC ) ( ( K_CLUSTER )=> K_CLUSTER | ( K_FULL )? K_SCHEMA | ( K_KEYSPACES )=> K_KEYSPACES | ( K_ONLY )? K_KEYSPACE (ks= keyspaceName )? | ( K_TABLES )=> K_TABLES | K_COLUMNFAMILY cf= columnFamilyName | K_INDEX idx= columnFamilyName | K_MATERIALIZED K_VIEW view= columnFamilyName | ( K_TYPES )=> K_TYPES | K_TYPE tn= userTypeName | ( K_FUNCTIONS )=> K_FUNCTIONS | K_FUNCTION fn= functionName | ( K_AGGREGATES )=> K_AGGREGATES | K_AGGREGATE ag= functionName | ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )? (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword ) ) ( K_WITH K_INTERNALS )? )
+			// Parser.g:1451:7: ( K_DESCRIBE | K_DESC ) ( ( K_CLUSTER )=> K_CLUSTER | ( K_FULL )? K_SCHEMA | ( K_KEYSPACES )=> K_KEYSPACES | ( K_ONLY )? K_KEYSPACE (ks= keyspaceName )? | ( K_TABLES )=> K_TABLES | K_COLUMNFAMILY cf= columnFamilyName | K_INDEX idx= columnFamilyName | K_MATERIALIZED K_VIEW view= columnFamilyName | ( K_TYPES )=> K_TYPES | K_TYPE tn= userTypeName | ( K_FUNCTIONS )=> K_FUNCTIONS | K_FUNCTION fn= functionName | ( K_AGGREGATES )=> K_AGGREGATES | K_AGGREGATE ag= functionName | ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )? (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword ) ) ( K_WITH K_INTERNALS )?
+			{
+			if ( (input.LA(1) >= K_DESC && input.LA(1) <= K_DESCRIBE) ) {
+				input.consume();
+				state.errorRecovery=false;
+				state.failed=false;
+			}
+			else {
+				if (state.backtracking>0) {state.failed=true; return stmt;}
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			// Parser.g:1452:5: ( ( K_CLUSTER )=> K_CLUSTER | ( K_FULL )? K_SCHEMA | ( K_KEYSPACES )=> K_KEYSPACES | ( K_ONLY )? K_KEYSPACE (ks= keyspaceName )? | ( K_TABLES )=> K_TABLES | K_COLUMNFAMILY cf= columnFamilyName | K_INDEX idx= columnFamilyName | K_MATERIALIZED K_VIEW view= columnFamilyName | ( K_TYPES )=> K_TYPES | K_TYPE tn= userTypeName | ( K_FUNCTIONS )=> K_FUNCTIONS | K_FUNCTION fn= functionName | ( K_AGGREGATES )=> K_AGGREGATES | K_AGGREGATE ag= functionName | ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )? (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword ) )
+			int alt203=15;
+			alt203 = dfa203.predict(input);
+			switch (alt203) {
+				case 1 :
+					// Parser.g:1452:7: ( K_CLUSTER )=> K_CLUSTER
+					{
+					match(input,K_CLUSTER,FOLLOW_K_CLUSTER_in_describeStatement9800); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.cluster(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1453:7: ( K_FULL )? K_SCHEMA
+					{
+					// Parser.g:1453:7: ( K_FULL )?
+					int alt197=2;
+					int LA197_0 = input.LA(1);
+					if ( (LA197_0==K_FULL) ) {
+						alt197=1;
+					}
+					switch (alt197) {
+						case 1 :
+							// Parser.g:1453:8: K_FULL
+							{
+							match(input,K_FULL,FOLLOW_K_FULL_in_describeStatement9831); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { fullSchema=true; }
+							}
+							break;
+
+					}
+
+					match(input,K_SCHEMA,FOLLOW_K_SCHEMA_in_describeStatement9837); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.schema(fullSchema); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1454:7: ( K_KEYSPACES )=> K_KEYSPACES
+					{
+					match(input,K_KEYSPACES,FOLLOW_K_KEYSPACES_in_describeStatement9856); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.keyspaces(); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1455:7: ( K_ONLY )? K_KEYSPACE (ks= keyspaceName )?
+					{
+					// Parser.g:1455:7: ( K_ONLY )?
+					int alt198=2;
+					int LA198_0 = input.LA(1);
+					if ( (LA198_0==K_ONLY) ) {
+						alt198=1;
+					}
+					switch (alt198) {
+						case 1 :
+							// Parser.g:1455:8: K_ONLY
+							{
+							match(input,K_ONLY,FOLLOW_K_ONLY_in_describeStatement9883); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { only=true; }
+							}
+							break;
+
+					}
+
+					match(input,K_KEYSPACE,FOLLOW_K_KEYSPACE_in_describeStatement9889); if (state.failed) return stmt;
+					// Parser.g:1455:43: (ks= keyspaceName )?
+					int alt199=2;
+					int LA199_0 = input.LA(1);
+					if ( (LA199_0==IDENT||LA199_0==K_ACCESS||(LA199_0 >= K_AGGREGATE && LA199_0 <= K_ALL)||LA199_0==K_ANN||LA199_0==K_AS||LA199_0==K_ASCII||(LA199_0 >= K_BETWEEN && LA199_0 <= K_BOOLEAN)||(LA199_0 >= K_CALLED && LA199_0 <= K_CLUSTERING)||(LA199_0 >= K_COMPACT && LA199_0 <= K_COUNTER)||(LA199_0 >= K_CUSTOM && LA199_0 <= K_DEFAULT)||(LA199_0 >= K_DISTINCT && LA199_0 <= K_DOUBLE)||LA199_0==K_DURATION||(LA199_0 >= K_EXISTS && LA199_0 <= K_FLOAT)||LA199_0==K_FROZEN||(LA199_0 >= K_FUNCTION && LA199_0 <= K_GENERATED)||(LA199_0 >= K_GROUP && LA199_0 <= K_IDENTITY)||(LA199_0 >= K_INET && LA199_0 <= K_INPUT)||(LA199_0 >= K_INT && LA199_0 <= K_INTERNALS)||(LA199_0 >= K_JSON && LA199_0 <= K_KEYS)||(LA199_0 >= K_KEYSPACES && LA199_0 <= K_LIKE)||(LA199_0 >= K_LIST && LA199_0 <= K_MASKED)||(LA199_0 >= K_MAXWRITETIME && LA199_0 <= K_MBEANS)||LA199_0==K_NOLOGIN||LA199_0==K_NOSUPERUSER||(LA199_0 >= K_ONLY && LA199_0 <= K_OPTIONS)||(LA199_0 >= K_PARTITION && LA199_0 <= K_PERMISSIONS)||(LA199_0 >= K_REPLACE && LA199_0 <= K_RETURNS)||(LA199_0 >= K_ROLE && LA199_0 <= K_ROLES)||LA199_0==K_SELECT_MASKED||(LA199_0 >= K_SFUNC && LA199_0 <= K_TINYINT)||LA199_0==K_TRIGGER||(LA199_0 >= K_TTL && LA199_0 <= K_TYPES)||(LA199_0 >= K_UNMASK && LA199_0 <= K_UNSET)||(LA199_0 >= K_USER && LA199_0 <= K_USERS)||(LA199_0 >= K_UUID && LA199_0 <= K_VECTOR)||LA199_0==K_WRITETIME||(LA199_0 >= QMARK && LA199_0 <= QUOTED_NAME)) ) {
+						alt199=1;
+					}
+					switch (alt199) {
+						case 1 :
+							// Parser.g:1455:45: ks= keyspaceName
+							{
+							pushFollow(FOLLOW_keyspaceName_in_describeStatement9895);
+							ks=keyspaceName();
+							state._fsp--;
+							if (state.failed) return stmt;
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.keyspace(ks, only); }
+					}
+					break;
+				case 5 :
+					// Parser.g:1457:7: ( K_TABLES )=> K_TABLES
+					{
+					match(input,K_TABLES,FOLLOW_K_TABLES_in_describeStatement9964); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.tables(); }
+					}
+					break;
+				case 6 :
+					// Parser.g:1458:7: K_COLUMNFAMILY cf= columnFamilyName
+					{
+					match(input,K_COLUMNFAMILY,FOLLOW_K_COLUMNFAMILY_in_describeStatement9995); if (state.failed) return stmt;
+					pushFollow(FOLLOW_columnFamilyName_in_describeStatement9999);
+					cf=columnFamilyName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.table(cf.getKeyspace(), cf.getName()); }
+					}
+					break;
+				case 7 :
+					// Parser.g:1459:7: K_INDEX idx= columnFamilyName
+					{
+					match(input,K_INDEX,FOLLOW_K_INDEX_in_describeStatement10018); if (state.failed) return stmt;
+					pushFollow(FOLLOW_columnFamilyName_in_describeStatement10022);
+					idx=columnFamilyName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.index(idx.getKeyspace(), idx.getName()); }
+					}
+					break;
+				case 8 :
+					// Parser.g:1460:7: K_MATERIALIZED K_VIEW view= columnFamilyName
+					{
+					match(input,K_MATERIALIZED,FOLLOW_K_MATERIALIZED_in_describeStatement10047); if (state.failed) return stmt;
+					match(input,K_VIEW,FOLLOW_K_VIEW_in_describeStatement10049); if (state.failed) return stmt;
+					pushFollow(FOLLOW_columnFamilyName_in_describeStatement10053);
+					view=columnFamilyName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.view(view.getKeyspace(), view.getName()); }
+					}
+					break;
+				case 9 :
+					// Parser.g:1461:7: ( K_TYPES )=> K_TYPES
+					{
+					match(input,K_TYPES,FOLLOW_K_TYPES_in_describeStatement10069); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.types(); }
+					}
+					break;
+				case 10 :
+					// Parser.g:1462:7: K_TYPE tn= userTypeName
+					{
+					match(input,K_TYPE,FOLLOW_K_TYPE_in_describeStatement10102); if (state.failed) return stmt;
+					pushFollow(FOLLOW_userTypeName_in_describeStatement10106);
+					tn=userTypeName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.type(tn.getKeyspace(), tn.getStringTypeName()); }
+					}
+					break;
+				case 11 :
+					// Parser.g:1463:7: ( K_FUNCTIONS )=> K_FUNCTIONS
+					{
+					match(input,K_FUNCTIONS,FOLLOW_K_FUNCTIONS_in_describeStatement10143); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.functions(); }
+					}
+					break;
+				case 12 :
+					// Parser.g:1464:7: K_FUNCTION fn= functionName
+					{
+					match(input,K_FUNCTION,FOLLOW_K_FUNCTION_in_describeStatement10168); if (state.failed) return stmt;
+					pushFollow(FOLLOW_functionName_in_describeStatement10172);
+					fn=functionName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.function(fn.keyspace, fn.name); }
+					}
+					break;
+				case 13 :
+					// Parser.g:1465:7: ( K_AGGREGATES )=> K_AGGREGATES
+					{
+					match(input,K_AGGREGATES,FOLLOW_K_AGGREGATES_in_describeStatement10205); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.aggregates(); }
+					}
+					break;
+				case 14 :
+					// Parser.g:1466:7: K_AGGREGATE ag= functionName
+					{
+					match(input,K_AGGREGATE,FOLLOW_K_AGGREGATE_in_describeStatement10228); if (state.failed) return stmt;
+					pushFollow(FOLLOW_functionName_in_describeStatement10232);
+					ag=functionName();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.aggregate(ag.keyspace, ag.name); }
+					}
+					break;
+				case 15 :
+					// Parser.g:1467:7: ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )? (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword )
+					{
+					// Parser.g:1467:7: ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )?
+					int alt201=2;
+					alt201 = dfa201.predict(input);
+					switch (alt201) {
+						case 1 :
+							// Parser.g:1467:9: (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.'
+							{
+							// Parser.g:1467:9: (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword )
+							int alt200=3;
+							switch ( input.LA(1) ) {
+							case IDENT:
+								{
+								alt200=1;
+								}
+								break;
+							case QUOTED_NAME:
+								{
+								alt200=2;
+								}
+								break;
+							case K_ACCESS:
+							case K_AGGREGATE:
+							case K_AGGREGATES:
+							case K_ALL:
+							case K_ANN:
+							case K_AS:
+							case K_ASCII:
+							case K_BETWEEN:
+							case K_BIGINT:
+							case K_BLOB:
+							case K_BOOLEAN:
+							case K_CALLED:
+							case K_CAST:
+							case K_CIDRS:
+							case K_CLUSTER:
+							case K_CLUSTERING:
+							case K_COMPACT:
+							case K_CONTAINS:
+							case K_COUNT:
+							case K_COUNTER:
+							case K_CUSTOM:
+							case K_DATACENTERS:
+							case K_DATE:
+							case K_DECIMAL:
+							case K_DEFAULT:
+							case K_DISTINCT:
+							case K_DOUBLE:
+							case K_DURATION:
+							case K_EXISTS:
+							case K_FILTERING:
+							case K_FINALFUNC:
+							case K_FLOAT:
+							case K_FROZEN:
+							case K_FUNCTION:
+							case K_FUNCTIONS:
+							case K_GENERATED:
+							case K_GROUP:
+							case K_HASHED:
+							case K_IDENTITY:
+							case K_INET:
+							case K_INITCOND:
+							case K_INPUT:
+							case K_INT:
+							case K_INTERNALS:
+							case K_JSON:
+							case K_KEY:
+							case K_KEYS:
+							case K_KEYSPACES:
+							case K_LANGUAGE:
+							case K_LIKE:
+							case K_LIST:
+							case K_LOGIN:
+							case K_MAP:
+							case K_MASKED:
+							case K_MAXWRITETIME:
+							case K_MBEAN:
+							case K_MBEANS:
+							case K_NOLOGIN:
+							case K_NOSUPERUSER:
+							case K_ONLY:
+							case K_OPTIONS:
+							case K_PARTITION:
+							case K_PASSWORD:
+							case K_PER:
+							case K_PERMISSION:
+							case K_PERMISSIONS:
+							case K_REPLACE:
+							case K_RETURNS:
+							case K_ROLE:
+							case K_ROLES:
+							case K_SELECT_MASKED:
+							case K_SFUNC:
+							case K_SMALLINT:
+							case K_STATIC:
+							case K_STORAGE:
+							case K_STYPE:
+							case K_SUPERUSER:
+							case K_SUPERUSERS:
+							case K_TABLES:
+							case K_TEXT:
+							case K_TIME:
+							case K_TIMESTAMP:
+							case K_TIMEUUID:
+							case K_TINYINT:
+							case K_TRIGGER:
+							case K_TTL:
+							case K_TUPLE:
+							case K_TYPE:
+							case K_TYPES:
+							case K_UNMASK:
+							case K_UNSET:
+							case K_USER:
+							case K_USERS:
+							case K_UUID:
+							case K_VALUES:
+							case K_VARCHAR:
+							case K_VARINT:
+							case K_VECTOR:
+							case K_WRITETIME:
+								{
+								alt200=3;
+								}
+								break;
+							default:
+								if (state.backtracking>0) {state.failed=true; return stmt;}
+								NoViableAltException nvae =
+									new NoViableAltException("", 200, 0, input);
+								throw nvae;
+							}
+							switch (alt200) {
+								case 1 :
+									// Parser.g:1467:11: ksT= IDENT
+									{
+									ksT=(Token)match(input,IDENT,FOLLOW_IDENT_in_describeStatement10264); if (state.failed) return stmt;
+									if ( state.backtracking==0 ) { gen.setKeyspace((ksT!=null?ksT.getText():null), false);}
+									}
+									break;
+								case 2 :
+									// Parser.g:1468:13: ksT= QUOTED_NAME
+									{
+									ksT=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_describeStatement10304); if (state.failed) return stmt;
+									if ( state.backtracking==0 ) { gen.setKeyspace((ksT!=null?ksT.getText():null), true);}
+									}
+									break;
+								case 3 :
+									// Parser.g:1469:13: ksK= unreserved_keyword
+									{
+									pushFollow(FOLLOW_unreserved_keyword_in_describeStatement10338);
+									ksK=unreserved_keyword();
+									state._fsp--;
+									if (state.failed) return stmt;
+									if ( state.backtracking==0 ) { gen.setKeyspace(ksK, false);}
+									}
+									break;
+
+							}
+
+							match(input,219,FOLLOW_219_in_describeStatement10353); if (state.failed) return stmt;
+							}
+							break;
+
+					}
+
+					// Parser.g:1470:9: (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword )
+					int alt202=3;
+					switch ( input.LA(1) ) {
+					case IDENT:
+						{
+						alt202=1;
+						}
+						break;
+					case QUOTED_NAME:
+						{
+						alt202=2;
+						}
+						break;
+					case K_ACCESS:
+					case K_AGGREGATE:
+					case K_AGGREGATES:
+					case K_ALL:
+					case K_ANN:
+					case K_AS:
+					case K_ASCII:
+					case K_BETWEEN:
+					case K_BIGINT:
+					case K_BLOB:
+					case K_BOOLEAN:
+					case K_CALLED:
+					case K_CAST:
+					case K_CIDRS:
+					case K_CLUSTER:
+					case K_CLUSTERING:
+					case K_COMPACT:
+					case K_CONTAINS:
+					case K_COUNT:
+					case K_COUNTER:
+					case K_CUSTOM:
+					case K_DATACENTERS:
+					case K_DATE:
+					case K_DECIMAL:
+					case K_DEFAULT:
+					case K_DISTINCT:
+					case K_DOUBLE:
+					case K_DURATION:
+					case K_EXISTS:
+					case K_FILTERING:
+					case K_FINALFUNC:
+					case K_FLOAT:
+					case K_FROZEN:
+					case K_FUNCTION:
+					case K_FUNCTIONS:
+					case K_GENERATED:
+					case K_GROUP:
+					case K_HASHED:
+					case K_IDENTITY:
+					case K_INET:
+					case K_INITCOND:
+					case K_INPUT:
+					case K_INT:
+					case K_INTERNALS:
+					case K_JSON:
+					case K_KEY:
+					case K_KEYS:
+					case K_KEYSPACES:
+					case K_LANGUAGE:
+					case K_LIKE:
+					case K_LIST:
+					case K_LOGIN:
+					case K_MAP:
+					case K_MASKED:
+					case K_MAXWRITETIME:
+					case K_MBEAN:
+					case K_MBEANS:
+					case K_NOLOGIN:
+					case K_NOSUPERUSER:
+					case K_ONLY:
+					case K_OPTIONS:
+					case K_PARTITION:
+					case K_PASSWORD:
+					case K_PER:
+					case K_PERMISSION:
+					case K_PERMISSIONS:
+					case K_REPLACE:
+					case K_RETURNS:
+					case K_ROLE:
+					case K_ROLES:
+					case K_SELECT_MASKED:
+					case K_SFUNC:
+					case K_SMALLINT:
+					case K_STATIC:
+					case K_STORAGE:
+					case K_STYPE:
+					case K_SUPERUSER:
+					case K_SUPERUSERS:
+					case K_TABLES:
+					case K_TEXT:
+					case K_TIME:
+					case K_TIMESTAMP:
+					case K_TIMEUUID:
+					case K_TINYINT:
+					case K_TRIGGER:
+					case K_TTL:
+					case K_TUPLE:
+					case K_TYPE:
+					case K_TYPES:
+					case K_UNMASK:
+					case K_UNSET:
+					case K_USER:
+					case K_USERS:
+					case K_UUID:
+					case K_VALUES:
+					case K_VARCHAR:
+					case K_VARINT:
+					case K_VECTOR:
+					case K_WRITETIME:
+						{
+						alt202=3;
+						}
+						break;
+					default:
+						if (state.backtracking>0) {state.failed=true; return stmt;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 202, 0, input);
+						throw nvae;
+					}
+					switch (alt202) {
+						case 1 :
+							// Parser.g:1470:11: tT= IDENT
+							{
+							tT=(Token)match(input,IDENT,FOLLOW_IDENT_in_describeStatement10370); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { gen.setName((tT!=null?tT.getText():null), false);}
+							}
+							break;
+						case 2 :
+							// Parser.g:1471:11: tT= QUOTED_NAME
+							{
+							tT=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_describeStatement10411); if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { gen.setName((tT!=null?tT.getText():null), true);}
+							}
+							break;
+						case 3 :
+							// Parser.g:1472:11: tK= unreserved_keyword
+							{
+							pushFollow(FOLLOW_unreserved_keyword_in_describeStatement10446);
+							tK=unreserved_keyword();
+							state._fsp--;
+							if (state.failed) return stmt;
+							if ( state.backtracking==0 ) { gen.setName(tK, false);}
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) { stmt = DescribeStatement.generic(gen.getKeyspace(), gen.getName()); }
+					}
+					break;
+
+			}
+
+			// Parser.g:1475:5: ( K_WITH K_INTERNALS )?
+			int alt204=2;
+			int LA204_0 = input.LA(1);
+			if ( (LA204_0==K_WITH) ) {
+				alt204=1;
+			}
+			switch (alt204) {
+				case 1 :
+					// Parser.g:1475:7: K_WITH K_INTERNALS
+					{
+					match(input,K_WITH,FOLLOW_K_WITH_in_describeStatement10530); if (state.failed) return stmt;
+					match(input,K_INTERNALS,FOLLOW_K_INTERNALS_in_describeStatement10532); if (state.failed) return stmt;
+					if ( state.backtracking==0 ) { stmt.withInternalDetails(); }
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return stmt;
+	}
+	// $ANTLR end "describeStatement"
+
+
+
+	// $ANTLR start "cident"
+	// Parser.g:1482:1: cident returns [ColumnIdentifier id] : ( EMPTY_QUOTED_NAME |t= ident );
+	public final ColumnIdentifier cident() throws RecognitionException {
+		ColumnIdentifier id = null;
+
+
+		ColumnIdentifier t =null;
+
+		try {
+			// Parser.g:1483:5: ( EMPTY_QUOTED_NAME |t= ident )
+			int alt205=2;
+			int LA205_0 = input.LA(1);
+			if ( (LA205_0==EMPTY_QUOTED_NAME) ) {
+				alt205=1;
+			}
+			else if ( (LA205_0==IDENT||LA205_0==K_ACCESS||(LA205_0 >= K_AGGREGATE && LA205_0 <= K_ALL)||LA205_0==K_ANN||LA205_0==K_AS||LA205_0==K_ASCII||(LA205_0 >= K_BETWEEN && LA205_0 <= K_BOOLEAN)||(LA205_0 >= K_CALLED && LA205_0 <= K_CLUSTERING)||(LA205_0 >= K_COMPACT && LA205_0 <= K_COUNTER)||(LA205_0 >= K_CUSTOM && LA205_0 <= K_DEFAULT)||(LA205_0 >= K_DISTINCT && LA205_0 <= K_DOUBLE)||LA205_0==K_DURATION||(LA205_0 >= K_EXISTS && LA205_0 <= K_FLOAT)||LA205_0==K_FROZEN||(LA205_0 >= K_FUNCTION && LA205_0 <= K_GENERATED)||(LA205_0 >= K_GROUP && LA205_0 <= K_IDENTITY)||(LA205_0 >= K_INET && LA205_0 <= K_INPUT)||(LA205_0 >= K_INT && LA205_0 <= K_INTERNALS)||(LA205_0 >= K_JSON && LA205_0 <= K_KEYS)||(LA205_0 >= K_KEYSPACES && LA205_0 <= K_LIKE)||(LA205_0 >= K_LIST && LA205_0 <= K_MASKED)||(LA205_0 >= K_MAXWRITETIME && LA205_0 <= K_MBEANS)||LA205_0==K_NOLOGIN||LA205_0==K_NOSUPERUSER||(LA205_0 >= K_ONLY && LA205_0 <= K_OPTIONS)||(LA205_0 >= K_PARTITION && LA205_0 <= K_PERMISSIONS)||(LA205_0 >= K_REPLACE && LA205_0 <= K_RETURNS)||(LA205_0 >= K_ROLE && LA205_0 <= K_ROLES)||LA205_0==K_SELECT_MASKED||(LA205_0 >= K_SFUNC && LA205_0 <= K_TINYINT)||LA205_0==K_TRIGGER||(LA205_0 >= K_TTL && LA205_0 <= K_TYPES)||(LA205_0 >= K_UNMASK && LA205_0 <= K_UNSET)||(LA205_0 >= K_USER && LA205_0 <= K_USERS)||(LA205_0 >= K_UUID && LA205_0 <= K_VECTOR)||LA205_0==K_WRITETIME||LA205_0==QUOTED_NAME) ) {
+				alt205=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return id;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 205, 0, input);
+				throw nvae;
+			}
+
+			switch (alt205) {
+				case 1 :
+					// Parser.g:1483:7: EMPTY_QUOTED_NAME
+					{
+					match(input,EMPTY_QUOTED_NAME,FOLLOW_EMPTY_QUOTED_NAME_in_cident10563); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = ColumnIdentifier.getInterned("", true); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1484:7: t= ident
+					{
+					pushFollow(FOLLOW_ident_in_cident10578);
+					t=ident();
+					state._fsp--;
+					if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = t; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "cident"
+
+
+
+	// $ANTLR start "ident"
+	// Parser.g:1487:1: ident returns [ColumnIdentifier id] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword );
+	public final ColumnIdentifier ident() throws RecognitionException {
+		ColumnIdentifier id = null;
+
+
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:1488:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword )
+			int alt206=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt206=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt206=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt206=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return id;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 206, 0, input);
+				throw nvae;
+			}
+			switch (alt206) {
+				case 1 :
+					// Parser.g:1488:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_ident10616); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = ColumnIdentifier.getInterned((t!=null?t.getText():null), false); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1489:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_ident10641); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = ColumnIdentifier.getInterned((t!=null?t.getText():null), true); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1490:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_ident10660);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = ColumnIdentifier.getInterned(k, false); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "ident"
+
+
+
+	// $ANTLR start "fident"
+	// Parser.g:1493:1: fident returns [FieldIdentifier id] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword );
+	public final FieldIdentifier fident() throws RecognitionException {
+		FieldIdentifier id = null;
+
+
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:1494:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword )
+			int alt207=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt207=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt207=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt207=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return id;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 207, 0, input);
+				throw nvae;
+			}
+			switch (alt207) {
+				case 1 :
+					// Parser.g:1494:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_fident10685); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = FieldIdentifier.forUnquoted((t!=null?t.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1495:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_fident10710); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = FieldIdentifier.forQuoted((t!=null?t.getText():null)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1496:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_fident10729);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = FieldIdentifier.forUnquoted(k); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "fident"
+
+
+
+	// $ANTLR start "noncol_ident"
+	// Parser.g:1500:1: noncol_ident returns [ColumnIdentifier id] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword );
+	public final ColumnIdentifier noncol_ident() throws RecognitionException {
+		ColumnIdentifier id = null;
+
+
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:1501:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword )
+			int alt208=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt208=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt208=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt208=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return id;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 208, 0, input);
+				throw nvae;
+			}
+			switch (alt208) {
+				case 1 :
+					// Parser.g:1501:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_noncol_ident10755); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = new ColumnIdentifier((t!=null?t.getText():null), false); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1502:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_noncol_ident10780); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = new ColumnIdentifier((t!=null?t.getText():null), true); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1503:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_noncol_ident10799);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = new ColumnIdentifier(k, false); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "noncol_ident"
+
+
+
+	// $ANTLR start "keyspaceName"
+	// Parser.g:1507:1: keyspaceName returns [String id] : ksName[name] ;
+	public final String keyspaceName() throws RecognitionException {
+		String id = null;
+
+
+		 QualifiedName name = new QualifiedName(); 
+		try {
+			// Parser.g:1509:5: ( ksName[name] )
+			// Parser.g:1509:7: ksName[name]
+			{
+			pushFollow(FOLLOW_ksName_in_keyspaceName10832);
+			ksName(name);
+			state._fsp--;
+			if (state.failed) return id;
+			if ( state.backtracking==0 ) { id = name.getKeyspace(); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "keyspaceName"
+
+
+
+	// $ANTLR start "indexName"
+	// Parser.g:1512:1: indexName returns [QualifiedName name] : ( ksName[name] '.' )? idxName[name] ;
+	public final QualifiedName indexName() throws RecognitionException {
+		QualifiedName name = null;
+
+
+		 name = new QualifiedName(); 
+		try {
+			// Parser.g:1514:5: ( ( ksName[name] '.' )? idxName[name] )
+			// Parser.g:1514:7: ( ksName[name] '.' )? idxName[name]
+			{
+			// Parser.g:1514:7: ( ksName[name] '.' )?
+			int alt209=2;
+			alt209 = dfa209.predict(input);
+			switch (alt209) {
+				case 1 :
+					// Parser.g:1514:8: ksName[name] '.'
+					{
+					pushFollow(FOLLOW_ksName_in_indexName10866);
+					ksName(name);
+					state._fsp--;
+					if (state.failed) return name;
+					match(input,219,FOLLOW_219_in_indexName10869); if (state.failed) return name;
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_idxName_in_indexName10873);
+			idxName(name);
+			state._fsp--;
+			if (state.failed) return name;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return name;
+	}
+	// $ANTLR end "indexName"
+
+
+
+	// $ANTLR start "columnFamilyName"
+	// Parser.g:1517:1: columnFamilyName returns [QualifiedName name] : ( ksName[name] '.' )? cfName[name] ;
+	public final QualifiedName columnFamilyName() throws RecognitionException {
+		QualifiedName name = null;
+
+
+		 name = new QualifiedName(); 
+		try {
+			// Parser.g:1519:5: ( ( ksName[name] '.' )? cfName[name] )
+			// Parser.g:1519:7: ( ksName[name] '.' )? cfName[name]
+			{
+			// Parser.g:1519:7: ( ksName[name] '.' )?
+			int alt210=2;
+			alt210 = dfa210.predict(input);
+			switch (alt210) {
+				case 1 :
+					// Parser.g:1519:8: ksName[name] '.'
+					{
+					pushFollow(FOLLOW_ksName_in_columnFamilyName10905);
+					ksName(name);
+					state._fsp--;
+					if (state.failed) return name;
+					match(input,219,FOLLOW_219_in_columnFamilyName10908); if (state.failed) return name;
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_cfName_in_columnFamilyName10912);
+			cfName(name);
+			state._fsp--;
+			if (state.failed) return name;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return name;
+	}
+	// $ANTLR end "columnFamilyName"
+
+
+
+	// $ANTLR start "userTypeName"
+	// Parser.g:1522:1: userTypeName returns [UTName name] : (ks= noncol_ident '.' )? ut= non_type_ident ;
+	public final UTName userTypeName() throws RecognitionException {
+		UTName name = null;
+
+
+		ColumnIdentifier ks =null;
+		ColumnIdentifier ut =null;
+
+		try {
+			// Parser.g:1523:5: ( (ks= noncol_ident '.' )? ut= non_type_ident )
+			// Parser.g:1523:7: (ks= noncol_ident '.' )? ut= non_type_ident
+			{
+			// Parser.g:1523:7: (ks= noncol_ident '.' )?
+			int alt211=2;
+			switch ( input.LA(1) ) {
+				case IDENT:
+					{
+					int LA211_1 = input.LA(2);
+					if ( (LA211_1==219) ) {
+						alt211=1;
+					}
+					}
+					break;
+				case QUOTED_NAME:
+					{
+					int LA211_2 = input.LA(2);
+					if ( (LA211_2==219) ) {
+						alt211=1;
+					}
+					}
+					break;
+				case K_ACCESS:
+				case K_AGGREGATE:
+				case K_AGGREGATES:
+				case K_ALL:
+				case K_ANN:
+				case K_AS:
+				case K_BETWEEN:
+				case K_CALLED:
+				case K_CIDRS:
+				case K_CLUSTER:
+				case K_CLUSTERING:
+				case K_COMPACT:
+				case K_CONTAINS:
+				case K_CUSTOM:
+				case K_DATACENTERS:
+				case K_DEFAULT:
+				case K_EXISTS:
+				case K_FILTERING:
+				case K_FINALFUNC:
+				case K_FROZEN:
+				case K_FUNCTION:
+				case K_FUNCTIONS:
+				case K_GENERATED:
+				case K_GROUP:
+				case K_HASHED:
+				case K_IDENTITY:
+				case K_INITCOND:
+				case K_INPUT:
+				case K_INTERNALS:
+				case K_KEYS:
+				case K_KEYSPACES:
+				case K_LANGUAGE:
+				case K_LIKE:
+				case K_LIST:
+				case K_LOGIN:
+				case K_MAP:
+				case K_MASKED:
+				case K_MBEAN:
+				case K_MBEANS:
+				case K_NOLOGIN:
+				case K_NOSUPERUSER:
+				case K_ONLY:
+				case K_OPTIONS:
+				case K_PARTITION:
+				case K_PASSWORD:
+				case K_PER:
+				case K_PERMISSION:
+				case K_PERMISSIONS:
+				case K_REPLACE:
+				case K_RETURNS:
+				case K_ROLE:
+				case K_ROLES:
+				case K_SELECT_MASKED:
+				case K_SFUNC:
+				case K_STATIC:
+				case K_STORAGE:
+				case K_STYPE:
+				case K_SUPERUSER:
+				case K_SUPERUSERS:
+				case K_TABLES:
+				case K_TRIGGER:
+				case K_TUPLE:
+				case K_TYPE:
+				case K_TYPES:
+				case K_UNMASK:
+				case K_UNSET:
+				case K_USER:
+				case K_USERS:
+				case K_VALUES:
+				case K_VECTOR:
+					{
+					int LA211_3 = input.LA(2);
+					if ( (LA211_3==219) ) {
+						alt211=1;
+					}
+					}
+					break;
+				case K_ASCII:
+				case K_BIGINT:
+				case K_BLOB:
+				case K_BOOLEAN:
+				case K_CAST:
+				case K_COUNT:
+				case K_COUNTER:
+				case K_DATE:
+				case K_DECIMAL:
+				case K_DISTINCT:
+				case K_DOUBLE:
+				case K_DURATION:
+				case K_FLOAT:
+				case K_INET:
+				case K_INT:
+				case K_JSON:
+				case K_MAXWRITETIME:
+				case K_SMALLINT:
+				case K_TEXT:
+				case K_TIME:
+				case K_TIMESTAMP:
+				case K_TIMEUUID:
+				case K_TINYINT:
+				case K_TTL:
+				case K_UUID:
+				case K_VARCHAR:
+				case K_VARINT:
+				case K_WRITETIME:
+					{
+					alt211=1;
+					}
+					break;
+				case K_KEY:
+					{
+					int LA211_5 = input.LA(2);
+					if ( (LA211_5==219) ) {
+						alt211=1;
+					}
+					}
+					break;
+			}
+			switch (alt211) {
+				case 1 :
+					// Parser.g:1523:8: ks= noncol_ident '.'
+					{
+					pushFollow(FOLLOW_noncol_ident_in_userTypeName10937);
+					ks=noncol_ident();
+					state._fsp--;
+					if (state.failed) return name;
+					match(input,219,FOLLOW_219_in_userTypeName10939); if (state.failed) return name;
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_non_type_ident_in_userTypeName10945);
+			ut=non_type_ident();
+			state._fsp--;
+			if (state.failed) return name;
+			if ( state.backtracking==0 ) { name = new UTName(ks, ut); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return name;
+	}
+	// $ANTLR end "userTypeName"
+
+
+
+	// $ANTLR start "userOrRoleName"
+	// Parser.g:1526:1: userOrRoleName returns [RoleName name] : roleName[role] ;
+	public final RoleName userOrRoleName() throws RecognitionException {
+		RoleName name = null;
+
+
+		 RoleName role = new RoleName(); 
+		try {
+			// Parser.g:1528:5: ( roleName[role] )
+			// Parser.g:1528:7: roleName[role]
+			{
+			pushFollow(FOLLOW_roleName_in_userOrRoleName10977);
+			roleName(role);
+			state._fsp--;
+			if (state.failed) return name;
+			if ( state.backtracking==0 ) {name = role;}
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return name;
+	}
+	// $ANTLR end "userOrRoleName"
+
+
+
+	// $ANTLR start "ksName"
+	// Parser.g:1531:1: ksName[QualifiedName name] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword | QMARK );
+	public final void ksName(QualifiedName name) throws RecognitionException {
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:1532:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword | QMARK )
+			int alt212=4;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt212=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt212=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt212=3;
+				}
+				break;
+			case QMARK:
+				{
+				alt212=4;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 212, 0, input);
+				throw nvae;
+			}
+			switch (alt212) {
+				case 1 :
+					// Parser.g:1532:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_ksName11000); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setKeyspace((t!=null?t.getText():null), false);}
+					}
+					break;
+				case 2 :
+					// Parser.g:1533:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_ksName11025); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setKeyspace((t!=null?t.getText():null), true);}
+					}
+					break;
+				case 3 :
+					// Parser.g:1534:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_ksName11044);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setKeyspace(k, false);}
+					}
+					break;
+				case 4 :
+					// Parser.g:1535:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_ksName11054); if (state.failed) return;
+					if ( state.backtracking==0 ) {addRecognitionError("Bind variables cannot be used for keyspace names");}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ksName"
+
+
+
+	// $ANTLR start "cfName"
+	// Parser.g:1538:1: cfName[QualifiedName name] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword | QMARK );
+	public final void cfName(QualifiedName name) throws RecognitionException {
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:1539:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword | QMARK )
+			int alt213=4;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt213=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt213=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt213=3;
+				}
+				break;
+			case QMARK:
+				{
+				alt213=4;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 213, 0, input);
+				throw nvae;
+			}
+			switch (alt213) {
+				case 1 :
+					// Parser.g:1539:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_cfName11076); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((t!=null?t.getText():null), false); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1540:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_cfName11101); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((t!=null?t.getText():null), true); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1541:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_cfName11120);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName(k, false); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1542:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_cfName11130); if (state.failed) return;
+					if ( state.backtracking==0 ) {addRecognitionError("Bind variables cannot be used for table names");}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "cfName"
+
+
+
+	// $ANTLR start "idxName"
+	// Parser.g:1545:1: idxName[QualifiedName name] : (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword | QMARK );
+	public final void idxName(QualifiedName name) throws RecognitionException {
+		Token t=null;
+		String k =null;
+
+		try {
+			// Parser.g:1546:5: (t= IDENT |t= QUOTED_NAME |k= unreserved_keyword | QMARK )
+			int alt214=4;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt214=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt214=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt214=3;
+				}
+				break;
+			case QMARK:
+				{
+				alt214=4;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 214, 0, input);
+				throw nvae;
+			}
+			switch (alt214) {
+				case 1 :
+					// Parser.g:1546:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_idxName11152); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((t!=null?t.getText():null), false); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1547:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_idxName11177); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((t!=null?t.getText():null), true);}
+					}
+					break;
+				case 3 :
+					// Parser.g:1548:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_idxName11196);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName(k, false); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1549:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_idxName11206); if (state.failed) return;
+					if ( state.backtracking==0 ) {addRecognitionError("Bind variables cannot be used for index names");}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "idxName"
+
+
+
+	// $ANTLR start "roleName"
+	// Parser.g:1552:1: roleName[RoleName name] : (t= IDENT |s= STRING_LITERAL |t= QUOTED_NAME |k= unreserved_keyword | QMARK );
+	public final void roleName(RoleName name) throws RecognitionException {
+		Token t=null;
+		Token s=null;
+		String k =null;
+
+		try {
+			// Parser.g:1553:5: (t= IDENT |s= STRING_LITERAL |t= QUOTED_NAME |k= unreserved_keyword | QMARK )
+			int alt215=5;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt215=1;
+				}
+				break;
+			case STRING_LITERAL:
+				{
+				alt215=2;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt215=3;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CAST:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNT:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DISTINCT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_JSON:
+			case K_KEY:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MAXWRITETIME:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TTL:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+			case K_WRITETIME:
+				{
+				alt215=4;
+				}
+				break;
+			case QMARK:
+				{
+				alt215=5;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 215, 0, input);
+				throw nvae;
+			}
+			switch (alt215) {
+				case 1 :
+					// Parser.g:1553:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_roleName11228); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((t!=null?t.getText():null), false); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1554:7: s= STRING_LITERAL
+					{
+					s=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_roleName11253); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((s!=null?s.getText():null), true); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1555:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_roleName11269); if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName((t!=null?t.getText():null), true); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1556:7: k= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_roleName11288);
+					k=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { name.setName(k, false); }
+					}
+					break;
+				case 5 :
+					// Parser.g:1557:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_roleName11298); if (state.failed) return;
+					if ( state.backtracking==0 ) {addRecognitionError("Bind variables cannot be used for role names");}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "roleName"
+
+
+
+	// $ANTLR start "constant"
+	// Parser.g:1560:1: constant returns [Constants.Literal constant] : (t= STRING_LITERAL |t= INTEGER |t= FLOAT |t= BOOLEAN |t= DURATION |t= UUID |t= HEXNUMBER | ( ( K_POSITIVE_NAN | K_NEGATIVE_NAN ) | K_POSITIVE_INFINITY | K_NEGATIVE_INFINITY ) );
+	public final Constants.Literal constant() throws RecognitionException {
+		Constants.Literal constant = null;
+
+
+		Token t=null;
+
+		try {
+			// Parser.g:1561:5: (t= STRING_LITERAL |t= INTEGER |t= FLOAT |t= BOOLEAN |t= DURATION |t= UUID |t= HEXNUMBER | ( ( K_POSITIVE_NAN | K_NEGATIVE_NAN ) | K_POSITIVE_INFINITY | K_NEGATIVE_INFINITY ) )
+			int alt217=8;
+			switch ( input.LA(1) ) {
+			case STRING_LITERAL:
+				{
+				alt217=1;
+				}
+				break;
+			case INTEGER:
+				{
+				alt217=2;
+				}
+				break;
+			case FLOAT:
+				{
+				alt217=3;
+				}
+				break;
+			case BOOLEAN:
+				{
+				alt217=4;
+				}
+				break;
+			case DURATION:
+				{
+				alt217=5;
+				}
+				break;
+			case UUID:
+				{
+				alt217=6;
+				}
+				break;
+			case HEXNUMBER:
+				{
+				alt217=7;
+				}
+				break;
+			case K_NEGATIVE_INFINITY:
+			case K_NEGATIVE_NAN:
+			case K_POSITIVE_INFINITY:
+			case K_POSITIVE_NAN:
+				{
+				alt217=8;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return constant;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 217, 0, input);
+				throw nvae;
+			}
+			switch (alt217) {
+				case 1 :
+					// Parser.g:1561:7: t= STRING_LITERAL
+					{
+					t=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_constant11323); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.string((t!=null?t.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1562:7: t= INTEGER
+					{
+					t=(Token)match(input,INTEGER,FOLLOW_INTEGER_in_constant11335); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.integer((t!=null?t.getText():null)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1563:7: t= FLOAT
+					{
+					t=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_constant11354); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.floatingPoint((t!=null?t.getText():null)); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1564:7: t= BOOLEAN
+					{
+					t=(Token)match(input,BOOLEAN,FOLLOW_BOOLEAN_in_constant11375); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.bool((t!=null?t.getText():null)); }
+					}
+					break;
+				case 5 :
+					// Parser.g:1565:7: t= DURATION
+					{
+					t=(Token)match(input,DURATION,FOLLOW_DURATION_in_constant11394); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.duration((t!=null?t.getText():null));}
+					}
+					break;
+				case 6 :
+					// Parser.g:1566:7: t= UUID
+					{
+					t=(Token)match(input,UUID,FOLLOW_UUID_in_constant11412); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.uuid((t!=null?t.getText():null)); }
+					}
+					break;
+				case 7 :
+					// Parser.g:1567:7: t= HEXNUMBER
+					{
+					t=(Token)match(input,HEXNUMBER,FOLLOW_HEXNUMBER_in_constant11434); if (state.failed) return constant;
+					if ( state.backtracking==0 ) { constant = Constants.Literal.hex((t!=null?t.getText():null)); }
+					}
+					break;
+				case 8 :
+					// Parser.g:1568:7: ( ( K_POSITIVE_NAN | K_NEGATIVE_NAN ) | K_POSITIVE_INFINITY | K_NEGATIVE_INFINITY )
+					{
+					// Parser.g:1568:7: ( ( K_POSITIVE_NAN | K_NEGATIVE_NAN ) | K_POSITIVE_INFINITY | K_NEGATIVE_INFINITY )
+					int alt216=3;
+					switch ( input.LA(1) ) {
+					case K_NEGATIVE_NAN:
+					case K_POSITIVE_NAN:
+						{
+						alt216=1;
+						}
+						break;
+					case K_POSITIVE_INFINITY:
+						{
+						alt216=2;
+						}
+						break;
+					case K_NEGATIVE_INFINITY:
+						{
+						alt216=3;
+						}
+						break;
+					default:
+						if (state.backtracking>0) {state.failed=true; return constant;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 216, 0, input);
+						throw nvae;
+					}
+					switch (alt216) {
+						case 1 :
+							// Parser.g:1568:8: ( K_POSITIVE_NAN | K_NEGATIVE_NAN )
+							{
+							if ( input.LA(1)==K_NEGATIVE_NAN||input.LA(1)==K_POSITIVE_NAN ) {
+								input.consume();
+								state.errorRecovery=false;
+								state.failed=false;
+							}
+							else {
+								if (state.backtracking>0) {state.failed=true; return constant;}
+								MismatchedSetException mse = new MismatchedSetException(null,input);
+								throw mse;
+							}
+							if ( state.backtracking==0 ) { constant = Constants.Literal.floatingPoint("NaN"); }
+							}
+							break;
+						case 2 :
+							// Parser.g:1569:11: K_POSITIVE_INFINITY
+							{
+							match(input,K_POSITIVE_INFINITY,FOLLOW_K_POSITIVE_INFINITY_in_constant11470); if (state.failed) return constant;
+							if ( state.backtracking==0 ) { constant = Constants.Literal.floatingPoint("Infinity"); }
+							}
+							break;
+						case 3 :
+							// Parser.g:1570:11: K_NEGATIVE_INFINITY
+							{
+							match(input,K_NEGATIVE_INFINITY,FOLLOW_K_NEGATIVE_INFINITY_in_constant11485); if (state.failed) return constant;
+							if ( state.backtracking==0 ) { constant = Constants.Literal.floatingPoint("-Infinity"); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return constant;
+	}
+	// $ANTLR end "constant"
+
+
+
+	// $ANTLR start "fullMapLiteral"
+	// Parser.g:1573:1: fullMapLiteral returns [Maps.Literal map] : '{' (k1= term ':' v1= term ( ',' kn= term ':' vn= term )* )? '}' ;
+	public final Maps.Literal fullMapLiteral() throws RecognitionException {
+		Maps.Literal map = null;
+
+
+		Term.Raw k1 =null;
+		Term.Raw v1 =null;
+		Term.Raw kn =null;
+		Term.Raw vn =null;
+
+		 List<Pair<Term.Raw, Term.Raw>> m = new ArrayList<Pair<Term.Raw, Term.Raw>>();
+		try {
+			// Parser.g:1576:5: ( '{' (k1= term ':' v1= term ( ',' kn= term ':' vn= term )* )? '}' )
+			// Parser.g:1576:7: '{' (k1= term ':' v1= term ( ',' kn= term ':' vn= term )* )? '}'
+			{
+			match(input,232,FOLLOW_232_in_fullMapLiteral11526); if (state.failed) return map;
+			// Parser.g:1576:11: (k1= term ':' v1= term ( ',' kn= term ':' vn= term )* )?
+			int alt219=2;
+			int LA219_0 = input.LA(1);
+			if ( (LA219_0==BOOLEAN||LA219_0==DURATION||LA219_0==FLOAT||LA219_0==HEXNUMBER||(LA219_0 >= IDENT && LA219_0 <= INTEGER)||LA219_0==K_ACCESS||(LA219_0 >= K_AGGREGATE && LA219_0 <= K_ALL)||LA219_0==K_ANN||LA219_0==K_AS||LA219_0==K_ASCII||(LA219_0 >= K_BETWEEN && LA219_0 <= K_BOOLEAN)||(LA219_0 >= K_CALLED && LA219_0 <= K_CLUSTERING)||(LA219_0 >= K_COMPACT && LA219_0 <= K_COUNTER)||(LA219_0 >= K_CUSTOM && LA219_0 <= K_DEFAULT)||(LA219_0 >= K_DISTINCT && LA219_0 <= K_DOUBLE)||LA219_0==K_DURATION||(LA219_0 >= K_EXISTS && LA219_0 <= K_FLOAT)||LA219_0==K_FROZEN||(LA219_0 >= K_FUNCTION && LA219_0 <= K_GENERATED)||(LA219_0 >= K_GROUP && LA219_0 <= K_IDENTITY)||(LA219_0 >= K_INET && LA219_0 <= K_INPUT)||(LA219_0 >= K_INT && LA219_0 <= K_INTERNALS)||(LA219_0 >= K_JSON && LA219_0 <= K_KEYS)||(LA219_0 >= K_KEYSPACES && LA219_0 <= K_LIKE)||(LA219_0 >= K_LIST && LA219_0 <= K_MASKED)||(LA219_0 >= K_MAXWRITETIME && LA219_0 <= K_MBEANS)||(LA219_0 >= K_NEGATIVE_INFINITY && LA219_0 <= K_NOLOGIN)||LA219_0==K_NOSUPERUSER||LA219_0==K_NULL||(LA219_0 >= K_ONLY && LA219_0 <= K_OPTIONS)||(LA219_0 >= K_PARTITION && LA219_0 <= K_POSITIVE_NAN)||(LA219_0 >= K_REPLACE && LA219_0 <= K_RETURNS)||(LA219_0 >= K_ROLE && LA219_0 <= K_ROLES)||LA219_0==K_SELECT_MASKED||(LA219_0 >= K_SFUNC && LA219_0 <= K_TINYINT)||(LA219_0 >= K_TOKEN && LA219_0 <= K_TRIGGER)||(LA219_0 >= K_TTL && LA219_0 <= K_TYPES)||(LA219_0 >= K_UNMASK && LA219_0 <= K_UNSET)||(LA219_0 >= K_USER && LA219_0 <= K_USERS)||(LA219_0 >= K_UUID && LA219_0 <= K_VECTOR)||LA219_0==K_WRITETIME||(LA219_0 >= QMARK && LA219_0 <= QUOTED_NAME)||LA219_0==STRING_LITERAL||LA219_0==UUID||LA219_0==212||LA219_0==217||LA219_0==221||LA219_0==228||LA219_0==232) ) {
+				alt219=1;
+			}
+			switch (alt219) {
+				case 1 :
+					// Parser.g:1576:13: k1= term ':' v1= term ( ',' kn= term ':' vn= term )*
+					{
+					pushFollow(FOLLOW_term_in_fullMapLiteral11532);
+					k1=term();
+					state._fsp--;
+					if (state.failed) return map;
+					match(input,221,FOLLOW_221_in_fullMapLiteral11534); if (state.failed) return map;
+					pushFollow(FOLLOW_term_in_fullMapLiteral11538);
+					v1=term();
+					state._fsp--;
+					if (state.failed) return map;
+					if ( state.backtracking==0 ) { m.add(Pair.create(k1, v1)); }
+					// Parser.g:1576:65: ( ',' kn= term ':' vn= term )*
+					loop218:
+					while (true) {
+						int alt218=2;
+						int LA218_0 = input.LA(1);
+						if ( (LA218_0==216) ) {
+							alt218=1;
+						}
+
+						switch (alt218) {
+						case 1 :
+							// Parser.g:1576:67: ',' kn= term ':' vn= term
+							{
+							match(input,216,FOLLOW_216_in_fullMapLiteral11544); if (state.failed) return map;
+							pushFollow(FOLLOW_term_in_fullMapLiteral11548);
+							kn=term();
+							state._fsp--;
+							if (state.failed) return map;
+							match(input,221,FOLLOW_221_in_fullMapLiteral11550); if (state.failed) return map;
+							pushFollow(FOLLOW_term_in_fullMapLiteral11554);
+							vn=term();
+							state._fsp--;
+							if (state.failed) return map;
+							if ( state.backtracking==0 ) { m.add(Pair.create(kn, vn)); }
+							}
+							break;
+
+						default :
+							break loop218;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,233,FOLLOW_233_in_fullMapLiteral11570); if (state.failed) return map;
+			}
+
+			if ( state.backtracking==0 ) { map = new Maps.Literal(m); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return map;
+	}
+	// $ANTLR end "fullMapLiteral"
+
+
+
+	// $ANTLR start "setOrMapLiteral"
+	// Parser.g:1580:1: setOrMapLiteral[Term.Raw t] returns [Term.Raw value] : (m= mapLiteral[t] |s= setLiteral[t] );
+	public final Term.Raw setOrMapLiteral(Term.Raw t) throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Term.Raw m =null;
+		Term.Raw s =null;
+
+		try {
+			// Parser.g:1581:5: (m= mapLiteral[t] |s= setLiteral[t] )
+			int alt220=2;
+			int LA220_0 = input.LA(1);
+			if ( (LA220_0==221) ) {
+				alt220=1;
+			}
+			else if ( (LA220_0==216||LA220_0==233) ) {
+				alt220=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return value;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 220, 0, input);
+				throw nvae;
+			}
+
+			switch (alt220) {
+				case 1 :
+					// Parser.g:1581:7: m= mapLiteral[t]
+					{
+					pushFollow(FOLLOW_mapLiteral_in_setOrMapLiteral11594);
+					m=mapLiteral(t);
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value =m; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1582:7: s= setLiteral[t]
+					{
+					pushFollow(FOLLOW_setLiteral_in_setOrMapLiteral11607);
+					s=setLiteral(t);
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value =s; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "setOrMapLiteral"
+
+
+
+	// $ANTLR start "setLiteral"
+	// Parser.g:1585:1: setLiteral[Term.Raw t] returns [Term.Raw value] : ( ',' tn= term )* ;
+	public final Term.Raw setLiteral(Term.Raw t) throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Term.Raw tn =null;
+
+		 List<Term.Raw> s = new ArrayList<Term.Raw>(); s.add(t); 
+		try {
+			// Parser.g:1588:5: ( ( ',' tn= term )* )
+			// Parser.g:1588:7: ( ',' tn= term )*
+			{
+			// Parser.g:1588:7: ( ',' tn= term )*
+			loop221:
+			while (true) {
+				int alt221=2;
+				int LA221_0 = input.LA(1);
+				if ( (LA221_0==216) ) {
+					alt221=1;
+				}
+
+				switch (alt221) {
+				case 1 :
+					// Parser.g:1588:9: ',' tn= term
+					{
+					match(input,216,FOLLOW_216_in_setLiteral11652); if (state.failed) return value;
+					pushFollow(FOLLOW_term_in_setLiteral11656);
+					tn=term();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { s.add(tn); }
+					}
+					break;
+
+				default :
+					break loop221;
+				}
+			}
+
+			}
+
+			if ( state.backtracking==0 ) { value = new Sets.Literal(s); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "setLiteral"
+
+
+
+	// $ANTLR start "mapLiteral"
+	// Parser.g:1591:1: mapLiteral[Term.Raw k] returns [Term.Raw value] : ':' v= term ( ',' kn= term ':' vn= term )* ;
+	public final Term.Raw mapLiteral(Term.Raw k) throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Term.Raw v =null;
+		Term.Raw kn =null;
+		Term.Raw vn =null;
+
+		 List<Pair<Term.Raw, Term.Raw>> m = new ArrayList<Pair<Term.Raw, Term.Raw>>(); 
+		try {
+			// Parser.g:1594:5: ( ':' v= term ( ',' kn= term ':' vn= term )* )
+			// Parser.g:1594:7: ':' v= term ( ',' kn= term ':' vn= term )*
+			{
+			match(input,221,FOLLOW_221_in_mapLiteral11701); if (state.failed) return value;
+			pushFollow(FOLLOW_term_in_mapLiteral11705);
+			v=term();
+			state._fsp--;
+			if (state.failed) return value;
+			if ( state.backtracking==0 ) {  m.add(Pair.create(k, v)); }
+			// Parser.g:1594:49: ( ',' kn= term ':' vn= term )*
+			loop222:
+			while (true) {
+				int alt222=2;
+				int LA222_0 = input.LA(1);
+				if ( (LA222_0==216) ) {
+					alt222=1;
+				}
+
+				switch (alt222) {
+				case 1 :
+					// Parser.g:1594:51: ',' kn= term ':' vn= term
+					{
+					match(input,216,FOLLOW_216_in_mapLiteral11711); if (state.failed) return value;
+					pushFollow(FOLLOW_term_in_mapLiteral11715);
+					kn=term();
+					state._fsp--;
+					if (state.failed) return value;
+					match(input,221,FOLLOW_221_in_mapLiteral11717); if (state.failed) return value;
+					pushFollow(FOLLOW_term_in_mapLiteral11721);
+					vn=term();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { m.add(Pair.create(kn, vn)); }
+					}
+					break;
+
+				default :
+					break loop222;
+				}
+			}
+
+			}
+
+			if ( state.backtracking==0 ) { value = new Maps.Literal(m); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "mapLiteral"
+
+
+
+	// $ANTLR start "collectionLiteral"
+	// Parser.g:1597:1: collectionLiteral returns [Term.Raw value] : (l= listLiteral | '{' t= term v= setOrMapLiteral[t] '}' | '{' '}' );
+	public final Term.Raw collectionLiteral() throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Term.Raw l =null;
+		Term.Raw t =null;
+		Term.Raw v =null;
+
+		try {
+			// Parser.g:1598:5: (l= listLiteral | '{' t= term v= setOrMapLiteral[t] '}' | '{' '}' )
+			int alt223=3;
+			int LA223_0 = input.LA(1);
+			if ( (LA223_0==228) ) {
+				alt223=1;
+			}
+			else if ( (LA223_0==232) ) {
+				int LA223_2 = input.LA(2);
+				if ( (LA223_2==233) ) {
+					alt223=3;
+				}
+				else if ( (LA223_2==BOOLEAN||LA223_2==DURATION||LA223_2==FLOAT||LA223_2==HEXNUMBER||(LA223_2 >= IDENT && LA223_2 <= INTEGER)||LA223_2==K_ACCESS||(LA223_2 >= K_AGGREGATE && LA223_2 <= K_ALL)||LA223_2==K_ANN||LA223_2==K_AS||LA223_2==K_ASCII||(LA223_2 >= K_BETWEEN && LA223_2 <= K_BOOLEAN)||(LA223_2 >= K_CALLED && LA223_2 <= K_CLUSTERING)||(LA223_2 >= K_COMPACT && LA223_2 <= K_COUNTER)||(LA223_2 >= K_CUSTOM && LA223_2 <= K_DEFAULT)||(LA223_2 >= K_DISTINCT && LA223_2 <= K_DOUBLE)||LA223_2==K_DURATION||(LA223_2 >= K_EXISTS && LA223_2 <= K_FLOAT)||LA223_2==K_FROZEN||(LA223_2 >= K_FUNCTION && LA223_2 <= K_GENERATED)||(LA223_2 >= K_GROUP && LA223_2 <= K_IDENTITY)||(LA223_2 >= K_INET && LA223_2 <= K_INPUT)||(LA223_2 >= K_INT && LA223_2 <= K_INTERNALS)||(LA223_2 >= K_JSON && LA223_2 <= K_KEYS)||(LA223_2 >= K_KEYSPACES && LA223_2 <= K_LIKE)||(LA223_2 >= K_LIST && LA223_2 <= K_MASKED)||(LA223_2 >= K_MAXWRITETIME && LA223_2 <= K_MBEANS)||(LA223_2 >= K_NEGATIVE_INFINITY && LA223_2 <= K_NOLOGIN)||LA223_2==K_NOSUPERUSER||LA223_2==K_NULL||(LA223_2 >= K_ONLY && LA223_2 <= K_OPTIONS)||(LA223_2 >= K_PARTITION && LA223_2 <= K_POSITIVE_NAN)||(LA223_2 >= K_REPLACE && LA223_2 <= K_RETURNS)||(LA223_2 >= K_ROLE && LA223_2 <= K_ROLES)||LA223_2==K_SELECT_MASKED||(LA223_2 >= K_SFUNC && LA223_2 <= K_TINYINT)||(LA223_2 >= K_TOKEN && LA223_2 <= K_TRIGGER)||(LA223_2 >= K_TTL && LA223_2 <= K_TYPES)||(LA223_2 >= K_UNMASK && LA223_2 <= K_UNSET)||(LA223_2 >= K_USER && LA223_2 <= K_USERS)||(LA223_2 >= K_UUID && LA223_2 <= K_VECTOR)||LA223_2==K_WRITETIME||(LA223_2 >= QMARK && LA223_2 <= QUOTED_NAME)||LA223_2==STRING_LITERAL||LA223_2==UUID||LA223_2==212||LA223_2==217||LA223_2==221||LA223_2==228||LA223_2==232) ) {
+					alt223=2;
+				}
+
+				else {
+					if (state.backtracking>0) {state.failed=true; return value;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 223, 2, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return value;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 223, 0, input);
+				throw nvae;
+			}
+
+			switch (alt223) {
+				case 1 :
+					// Parser.g:1598:7: l= listLiteral
+					{
+					pushFollow(FOLLOW_listLiteral_in_collectionLiteral11749);
+					l=listLiteral();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = l; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1599:7: '{' t= term v= setOrMapLiteral[t] '}'
+					{
+					match(input,232,FOLLOW_232_in_collectionLiteral11759); if (state.failed) return value;
+					pushFollow(FOLLOW_term_in_collectionLiteral11763);
+					t=term();
+					state._fsp--;
+					if (state.failed) return value;
+					pushFollow(FOLLOW_setOrMapLiteral_in_collectionLiteral11767);
+					v=setOrMapLiteral(t);
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = v; }
+					match(input,233,FOLLOW_233_in_collectionLiteral11772); if (state.failed) return value;
+					}
+					break;
+				case 3 :
+					// Parser.g:1602:7: '{' '}'
+					{
+					match(input,232,FOLLOW_232_in_collectionLiteral11790); if (state.failed) return value;
+					match(input,233,FOLLOW_233_in_collectionLiteral11792); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = new Sets.Literal(Collections.<Term.Raw>emptyList()); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "collectionLiteral"
+
+
+
+	// $ANTLR start "listLiteral"
+	// Parser.g:1605:1: listLiteral returns [Term.Raw value] : '[' (t1= term ( ',' tn= term )* )? ']' ;
+	public final Term.Raw listLiteral() throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Term.Raw t1 =null;
+		Term.Raw tn =null;
+
+		List<Term.Raw> l = new ArrayList<Term.Raw>();
+		try {
+			// Parser.g:1608:5: ( '[' (t1= term ( ',' tn= term )* )? ']' )
+			// Parser.g:1608:7: '[' (t1= term ( ',' tn= term )* )? ']'
+			{
+			match(input,228,FOLLOW_228_in_listLiteral11833); if (state.failed) return value;
+			// Parser.g:1608:11: (t1= term ( ',' tn= term )* )?
+			int alt225=2;
+			int LA225_0 = input.LA(1);
+			if ( (LA225_0==BOOLEAN||LA225_0==DURATION||LA225_0==FLOAT||LA225_0==HEXNUMBER||(LA225_0 >= IDENT && LA225_0 <= INTEGER)||LA225_0==K_ACCESS||(LA225_0 >= K_AGGREGATE && LA225_0 <= K_ALL)||LA225_0==K_ANN||LA225_0==K_AS||LA225_0==K_ASCII||(LA225_0 >= K_BETWEEN && LA225_0 <= K_BOOLEAN)||(LA225_0 >= K_CALLED && LA225_0 <= K_CLUSTERING)||(LA225_0 >= K_COMPACT && LA225_0 <= K_COUNTER)||(LA225_0 >= K_CUSTOM && LA225_0 <= K_DEFAULT)||(LA225_0 >= K_DISTINCT && LA225_0 <= K_DOUBLE)||LA225_0==K_DURATION||(LA225_0 >= K_EXISTS && LA225_0 <= K_FLOAT)||LA225_0==K_FROZEN||(LA225_0 >= K_FUNCTION && LA225_0 <= K_GENERATED)||(LA225_0 >= K_GROUP && LA225_0 <= K_IDENTITY)||(LA225_0 >= K_INET && LA225_0 <= K_INPUT)||(LA225_0 >= K_INT && LA225_0 <= K_INTERNALS)||(LA225_0 >= K_JSON && LA225_0 <= K_KEYS)||(LA225_0 >= K_KEYSPACES && LA225_0 <= K_LIKE)||(LA225_0 >= K_LIST && LA225_0 <= K_MASKED)||(LA225_0 >= K_MAXWRITETIME && LA225_0 <= K_MBEANS)||(LA225_0 >= K_NEGATIVE_INFINITY && LA225_0 <= K_NOLOGIN)||LA225_0==K_NOSUPERUSER||LA225_0==K_NULL||(LA225_0 >= K_ONLY && LA225_0 <= K_OPTIONS)||(LA225_0 >= K_PARTITION && LA225_0 <= K_POSITIVE_NAN)||(LA225_0 >= K_REPLACE && LA225_0 <= K_RETURNS)||(LA225_0 >= K_ROLE && LA225_0 <= K_ROLES)||LA225_0==K_SELECT_MASKED||(LA225_0 >= K_SFUNC && LA225_0 <= K_TINYINT)||(LA225_0 >= K_TOKEN && LA225_0 <= K_TRIGGER)||(LA225_0 >= K_TTL && LA225_0 <= K_TYPES)||(LA225_0 >= K_UNMASK && LA225_0 <= K_UNSET)||(LA225_0 >= K_USER && LA225_0 <= K_USERS)||(LA225_0 >= K_UUID && LA225_0 <= K_VECTOR)||LA225_0==K_WRITETIME||(LA225_0 >= QMARK && LA225_0 <= QUOTED_NAME)||LA225_0==STRING_LITERAL||LA225_0==UUID||LA225_0==212||LA225_0==217||LA225_0==221||LA225_0==228||LA225_0==232) ) {
+				alt225=1;
+			}
+			switch (alt225) {
+				case 1 :
+					// Parser.g:1608:13: t1= term ( ',' tn= term )*
+					{
+					pushFollow(FOLLOW_term_in_listLiteral11839);
+					t1=term();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { l.add(t1); }
+					// Parser.g:1608:36: ( ',' tn= term )*
+					loop224:
+					while (true) {
+						int alt224=2;
+						int LA224_0 = input.LA(1);
+						if ( (LA224_0==216) ) {
+							alt224=1;
+						}
+
+						switch (alt224) {
+						case 1 :
+							// Parser.g:1608:38: ',' tn= term
+							{
+							match(input,216,FOLLOW_216_in_listLiteral11845); if (state.failed) return value;
+							pushFollow(FOLLOW_term_in_listLiteral11849);
+							tn=term();
+							state._fsp--;
+							if (state.failed) return value;
+							if ( state.backtracking==0 ) { l.add(tn); }
+							}
+							break;
+
+						default :
+							break loop224;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,230,FOLLOW_230_in_listLiteral11859); if (state.failed) return value;
+			if ( state.backtracking==0 ) { value = new ArrayLiteral(l); }
+			}
+
+			if ( state.backtracking==0 ) {value = new ArrayLiteral(l);}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "listLiteral"
+
+
+
+	// $ANTLR start "usertypeLiteral"
+	// Parser.g:1611:1: usertypeLiteral returns [UserTypes.Literal ut] : '{' k1= fident ':' v1= term ( ',' kn= fident ':' vn= term )* '}' ;
+	public final UserTypes.Literal usertypeLiteral() throws RecognitionException {
+		UserTypes.Literal ut = null;
+
+
+		FieldIdentifier k1 =null;
+		Term.Raw v1 =null;
+		FieldIdentifier kn =null;
+		Term.Raw vn =null;
+
+		 Map<FieldIdentifier, Term.Raw> m = new HashMap<>(); 
+		try {
+			// Parser.g:1615:5: ( '{' k1= fident ':' v1= term ( ',' kn= fident ':' vn= term )* '}' )
+			// Parser.g:1615:7: '{' k1= fident ':' v1= term ( ',' kn= fident ':' vn= term )* '}'
+			{
+			match(input,232,FOLLOW_232_in_usertypeLiteral11903); if (state.failed) return ut;
+			pushFollow(FOLLOW_fident_in_usertypeLiteral11907);
+			k1=fident();
+			state._fsp--;
+			if (state.failed) return ut;
+			match(input,221,FOLLOW_221_in_usertypeLiteral11909); if (state.failed) return ut;
+			pushFollow(FOLLOW_term_in_usertypeLiteral11913);
+			v1=term();
+			state._fsp--;
+			if (state.failed) return ut;
+			if ( state.backtracking==0 ) { m.put(k1, v1); }
+			// Parser.g:1615:52: ( ',' kn= fident ':' vn= term )*
+			loop226:
+			while (true) {
+				int alt226=2;
+				int LA226_0 = input.LA(1);
+				if ( (LA226_0==216) ) {
+					alt226=1;
+				}
+
+				switch (alt226) {
+				case 1 :
+					// Parser.g:1615:54: ',' kn= fident ':' vn= term
+					{
+					match(input,216,FOLLOW_216_in_usertypeLiteral11919); if (state.failed) return ut;
+					pushFollow(FOLLOW_fident_in_usertypeLiteral11923);
+					kn=fident();
+					state._fsp--;
+					if (state.failed) return ut;
+					match(input,221,FOLLOW_221_in_usertypeLiteral11925); if (state.failed) return ut;
+					pushFollow(FOLLOW_term_in_usertypeLiteral11929);
+					vn=term();
+					state._fsp--;
+					if (state.failed) return ut;
+					if ( state.backtracking==0 ) { m.put(kn, vn); }
+					}
+					break;
+
+				default :
+					break loop226;
+				}
+			}
+
+			match(input,233,FOLLOW_233_in_usertypeLiteral11936); if (state.failed) return ut;
+			}
+
+			if ( state.backtracking==0 ) { ut = new UserTypes.Literal(m); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return ut;
+	}
+	// $ANTLR end "usertypeLiteral"
+
+
+
+	// $ANTLR start "tupleLiteral"
+	// Parser.g:1618:1: tupleLiteral returns [Tuples.Literal tt] : '(' t1= term ( ',' tn= term )* ')' ;
+	public final Tuples.Literal tupleLiteral() throws RecognitionException {
+		Tuples.Literal tt = null;
+
+
+		Term.Raw t1 =null;
+		Term.Raw tn =null;
+
+		 List<Term.Raw> l = new ArrayList<Term.Raw>(); 
+		try {
+			// Parser.g:1621:5: ( '(' t1= term ( ',' tn= term )* ')' )
+			// Parser.g:1621:7: '(' t1= term ( ',' tn= term )* ')'
+			{
+			match(input,212,FOLLOW_212_in_tupleLiteral11973); if (state.failed) return tt;
+			pushFollow(FOLLOW_term_in_tupleLiteral11977);
+			t1=term();
+			state._fsp--;
+			if (state.failed) return tt;
+			if ( state.backtracking==0 ) { l.add(t1); }
+			// Parser.g:1621:34: ( ',' tn= term )*
+			loop227:
+			while (true) {
+				int alt227=2;
+				int LA227_0 = input.LA(1);
+				if ( (LA227_0==216) ) {
+					alt227=1;
+				}
+
+				switch (alt227) {
+				case 1 :
+					// Parser.g:1621:36: ',' tn= term
+					{
+					match(input,216,FOLLOW_216_in_tupleLiteral11983); if (state.failed) return tt;
+					pushFollow(FOLLOW_term_in_tupleLiteral11987);
+					tn=term();
+					state._fsp--;
+					if (state.failed) return tt;
+					if ( state.backtracking==0 ) { l.add(tn); }
+					}
+					break;
+
+				default :
+					break loop227;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_tupleLiteral11994); if (state.failed) return tt;
+			}
+
+			if ( state.backtracking==0 ) { tt = new Tuples.Literal(l); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return tt;
+	}
+	// $ANTLR end "tupleLiteral"
+
+
+
+	// $ANTLR start "value"
+	// Parser.g:1624:1: value returns [Term.Raw value] : (c= constant |l= collectionLiteral |u= usertypeLiteral |t= tupleLiteral | K_NULL |m= marker );
+	public final Term.Raw value() throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Constants.Literal c =null;
+		Term.Raw l =null;
+		UserTypes.Literal u =null;
+		Tuples.Literal t =null;
+		Term.Raw m =null;
+
+		try {
+			// Parser.g:1625:5: (c= constant |l= collectionLiteral |u= usertypeLiteral |t= tupleLiteral | K_NULL |m= marker )
+			int alt228=6;
+			alt228 = dfa228.predict(input);
+			switch (alt228) {
+				case 1 :
+					// Parser.g:1625:7: c= constant
+					{
+					pushFollow(FOLLOW_constant_in_value12017);
+					c=constant();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = c; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1626:7: l= collectionLiteral
+					{
+					pushFollow(FOLLOW_collectionLiteral_in_value12039);
+					l=collectionLiteral();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = l; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1627:7: u= usertypeLiteral
+					{
+					pushFollow(FOLLOW_usertypeLiteral_in_value12052);
+					u=usertypeLiteral();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = u; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1628:7: t= tupleLiteral
+					{
+					pushFollow(FOLLOW_tupleLiteral_in_value12067);
+					t=tupleLiteral();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = t; }
+					}
+					break;
+				case 5 :
+					// Parser.g:1629:7: K_NULL
+					{
+					match(input,K_NULL,FOLLOW_K_NULL_in_value12083); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = Constants.NULL_LITERAL; }
+					}
+					break;
+				case 6 :
+					// Parser.g:1630:7: m= marker
+					{
+					pushFollow(FOLLOW_marker_in_value12109);
+					m=marker();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = m; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "value"
+
+
+
+	// $ANTLR start "intValue"
+	// Parser.g:1633:1: intValue returns [Term.Raw value] : (t= INTEGER |m= marker );
+	public final Term.Raw intValue() throws RecognitionException {
+		Term.Raw value = null;
+
+
+		Token t=null;
+		Term.Raw m =null;
+
+		try {
+			// Parser.g:1634:5: (t= INTEGER |m= marker )
+			int alt229=2;
+			int LA229_0 = input.LA(1);
+			if ( (LA229_0==INTEGER) ) {
+				alt229=1;
+			}
+			else if ( (LA229_0==QMARK||LA229_0==221) ) {
+				alt229=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return value;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 229, 0, input);
+				throw nvae;
+			}
+
+			switch (alt229) {
+				case 1 :
+					// Parser.g:1634:7: t= INTEGER
+					{
+					t=(Token)match(input,INTEGER,FOLLOW_INTEGER_in_intValue12146); if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = Constants.Literal.integer((t!=null?t.getText():null)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1635:7: m= marker
+					{
+					pushFollow(FOLLOW_marker_in_intValue12158);
+					m=marker();
+					state._fsp--;
+					if (state.failed) return value;
+					if ( state.backtracking==0 ) { value = m; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return value;
+	}
+	// $ANTLR end "intValue"
+
+
+
+	// $ANTLR start "functionName"
+	// Parser.g:1638:1: functionName returns [FunctionName s] : (ks= keyspaceName '.' )? f= allowedFunctionName ;
+	public final FunctionName functionName() throws RecognitionException {
+		FunctionName s = null;
+
+
+		String ks =null;
+		String f =null;
+
+		try {
+			// Parser.g:1641:5: ( (ks= keyspaceName '.' )? f= allowedFunctionName )
+			// Parser.g:1641:7: (ks= keyspaceName '.' )? f= allowedFunctionName
+			{
+			// Parser.g:1641:7: (ks= keyspaceName '.' )?
+			int alt230=2;
+			alt230 = dfa230.predict(input);
+			switch (alt230) {
+				case 1 :
+					// Parser.g:1641:8: ks= keyspaceName '.'
+					{
+					pushFollow(FOLLOW_keyspaceName_in_functionName12197);
+					ks=keyspaceName();
+					state._fsp--;
+					if (state.failed) return s;
+					match(input,219,FOLLOW_219_in_functionName12199); if (state.failed) return s;
+					}
+					break;
+
+			}
+
+			pushFollow(FOLLOW_allowedFunctionName_in_functionName12205);
+			f=allowedFunctionName();
+			state._fsp--;
+			if (state.failed) return s;
+			if ( state.backtracking==0 ) { s = f == null ? null : new FunctionName(ks, f); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "functionName"
+
+
+
+	// $ANTLR start "allowedFunctionName"
+	// Parser.g:1644:1: allowedFunctionName returns [String s] : (f= IDENT |f= QUOTED_NAME |u= unreserved_function_keyword | K_TOKEN | K_COUNT );
+	public final String allowedFunctionName() throws RecognitionException {
+		String s = null;
+
+
+		Token f=null;
+		String u =null;
+
+		try {
+			// Parser.g:1645:5: (f= IDENT |f= QUOTED_NAME |u= unreserved_function_keyword | K_TOKEN | K_COUNT )
+			int alt231=5;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt231=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt231=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_ASCII:
+			case K_BETWEEN:
+			case K_BIGINT:
+			case K_BLOB:
+			case K_BOOLEAN:
+			case K_CALLED:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_COUNTER:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DATE:
+			case K_DECIMAL:
+			case K_DEFAULT:
+			case K_DOUBLE:
+			case K_DURATION:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FLOAT:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INET:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INT:
+			case K_INTERNALS:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_SMALLINT:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TEXT:
+			case K_TIME:
+			case K_TIMESTAMP:
+			case K_TIMEUUID:
+			case K_TINYINT:
+			case K_TRIGGER:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_UUID:
+			case K_VALUES:
+			case K_VARCHAR:
+			case K_VARINT:
+			case K_VECTOR:
+				{
+				alt231=3;
+				}
+				break;
+			case K_TOKEN:
+				{
+				alt231=4;
+				}
+				break;
+			case K_COUNT:
+				{
+				alt231=5;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return s;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 231, 0, input);
+				throw nvae;
+			}
+			switch (alt231) {
+				case 1 :
+					// Parser.g:1645:7: f= IDENT
+					{
+					f=(Token)match(input,IDENT,FOLLOW_IDENT_in_allowedFunctionName12232); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = (f!=null?f.getText():null).toLowerCase(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1646:7: f= QUOTED_NAME
+					{
+					f=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_allowedFunctionName12266); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = (f!=null?f.getText():null); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1647:7: u= unreserved_function_keyword
+					{
+					pushFollow(FOLLOW_unreserved_function_keyword_in_allowedFunctionName12294);
+					u=unreserved_function_keyword();
+					state._fsp--;
+					if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = u; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1648:7: K_TOKEN
+					{
+					match(input,K_TOKEN,FOLLOW_K_TOKEN_in_allowedFunctionName12304); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = "token"; }
+					}
+					break;
+				case 5 :
+					// Parser.g:1649:7: K_COUNT
+					{
+					match(input,K_COUNT,FOLLOW_K_COUNT_in_allowedFunctionName12336); if (state.failed) return s;
+					if ( state.backtracking==0 ) { s = "count"; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return s;
+	}
+	// $ANTLR end "allowedFunctionName"
+
+
+
+	// $ANTLR start "function"
+	// Parser.g:1652:1: function returns [Term.Raw t] : (f= functionName '(' ')' |f= functionName '(' args= functionArgs ')' );
+	public final Term.Raw function() throws RecognitionException {
+		Term.Raw t = null;
+
+
+		FunctionName f =null;
+		List<Term.Raw> args =null;
+
+		try {
+			// Parser.g:1653:5: (f= functionName '(' ')' |f= functionName '(' args= functionArgs ')' )
+			int alt232=2;
+			alt232 = dfa232.predict(input);
+			switch (alt232) {
+				case 1 :
+					// Parser.g:1653:7: f= functionName '(' ')'
+					{
+					pushFollow(FOLLOW_functionName_in_function12383);
+					f=functionName();
+					state._fsp--;
+					if (state.failed) return t;
+					match(input,212,FOLLOW_212_in_function12385); if (state.failed) return t;
+					match(input,213,FOLLOW_213_in_function12387); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = new FunctionCall.Raw(f, Collections.<Term.Raw>emptyList()); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1654:7: f= functionName '(' args= functionArgs ')'
+					{
+					pushFollow(FOLLOW_functionName_in_function12417);
+					f=functionName();
+					state._fsp--;
+					if (state.failed) return t;
+					match(input,212,FOLLOW_212_in_function12419); if (state.failed) return t;
+					pushFollow(FOLLOW_functionArgs_in_function12423);
+					args=functionArgs();
+					state._fsp--;
+					if (state.failed) return t;
+					match(input,213,FOLLOW_213_in_function12425); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = new FunctionCall.Raw(f, args); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return t;
+	}
+	// $ANTLR end "function"
+
+
+
+	// $ANTLR start "functionArgs"
+	// Parser.g:1657:1: functionArgs returns [List<Term.Raw> args] : t1= term ( ',' tn= term )* ;
+	public final List<Term.Raw> functionArgs() throws RecognitionException {
+		List<Term.Raw> args = null;
+
+
+		Term.Raw t1 =null;
+		Term.Raw tn =null;
+
+		 args = new ArrayList<Term.Raw>(); 
+		try {
+			// Parser.g:1659:5: (t1= term ( ',' tn= term )* )
+			// Parser.g:1659:7: t1= term ( ',' tn= term )*
+			{
+			pushFollow(FOLLOW_term_in_functionArgs12458);
+			t1=term();
+			state._fsp--;
+			if (state.failed) return args;
+			if ( state.backtracking==0 ) {args.add(t1); }
+			// Parser.g:1659:32: ( ',' tn= term )*
+			loop233:
+			while (true) {
+				int alt233=2;
+				int LA233_0 = input.LA(1);
+				if ( (LA233_0==216) ) {
+					alt233=1;
+				}
+
+				switch (alt233) {
+				case 1 :
+					// Parser.g:1659:34: ',' tn= term
+					{
+					match(input,216,FOLLOW_216_in_functionArgs12464); if (state.failed) return args;
+					pushFollow(FOLLOW_term_in_functionArgs12468);
+					tn=term();
+					state._fsp--;
+					if (state.failed) return args;
+					if ( state.backtracking==0 ) { args.add(tn); }
+					}
+					break;
+
+				default :
+					break loop233;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return args;
+	}
+	// $ANTLR end "functionArgs"
+
+
+
+	// $ANTLR start "term"
+	// Parser.g:1662:1: term returns [Term.Raw term] : t= termAddition ;
+	public final Term.Raw term() throws RecognitionException {
+		Term.Raw term = null;
+
+
+		Term.Raw t =null;
+
+		try {
+			// Parser.g:1663:5: (t= termAddition )
+			// Parser.g:1663:7: t= termAddition
+			{
+			pushFollow(FOLLOW_termAddition_in_term12496);
+			t=termAddition();
+			state._fsp--;
+			if (state.failed) return term;
+			if ( state.backtracking==0 ) { term = t; }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return term;
+	}
+	// $ANTLR end "term"
+
+
+
+	// $ANTLR start "termAddition"
+	// Parser.g:1666:1: termAddition returns [Term.Raw term] : l= termMultiplication ( '+' r= termMultiplication | '-' r= termMultiplication )* ;
+	public final Term.Raw termAddition() throws RecognitionException {
+		Term.Raw term = null;
+
+
+		Term.Raw l =null;
+		Term.Raw r =null;
+
+		try {
+			// Parser.g:1667:5: (l= termMultiplication ( '+' r= termMultiplication | '-' r= termMultiplication )* )
+			// Parser.g:1667:9: l= termMultiplication ( '+' r= termMultiplication | '-' r= termMultiplication )*
+			{
+			pushFollow(FOLLOW_termMultiplication_in_termAddition12548);
+			l=termMultiplication();
+			state._fsp--;
+			if (state.failed) return term;
+			if ( state.backtracking==0 ) {term = l;}
+			// Parser.g:1668:9: ( '+' r= termMultiplication | '-' r= termMultiplication )*
+			loop234:
+			while (true) {
+				int alt234=3;
+				alt234 = dfa234.predict(input);
+				switch (alt234) {
+				case 1 :
+					// Parser.g:1668:11: '+' r= termMultiplication
+					{
+					match(input,214,FOLLOW_214_in_termAddition12564); if (state.failed) return term;
+					pushFollow(FOLLOW_termMultiplication_in_termAddition12568);
+					r=termMultiplication();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) {term = FunctionCall.Raw.newOperation('+', term, r);}
+					}
+					break;
+				case 2 :
+					// Parser.g:1669:11: '-' r= termMultiplication
+					{
+					match(input,217,FOLLOW_217_in_termAddition12582); if (state.failed) return term;
+					pushFollow(FOLLOW_termMultiplication_in_termAddition12586);
+					r=termMultiplication();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) {term = FunctionCall.Raw.newOperation('-', term, r);}
+					}
+					break;
+
+				default :
+					break loop234;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return term;
+	}
+	// $ANTLR end "termAddition"
+
+
+
+	// $ANTLR start "termMultiplication"
+	// Parser.g:1673:1: termMultiplication returns [Term.Raw term] : l= termGroup ( '\\*' r= termGroup | '/' r= termGroup | '%' r= termGroup )* ;
+	public final Term.Raw termMultiplication() throws RecognitionException {
+		Term.Raw term = null;
+
+
+		Term.Raw l =null;
+		Term.Raw r =null;
+
+		try {
+			// Parser.g:1674:5: (l= termGroup ( '\\*' r= termGroup | '/' r= termGroup | '%' r= termGroup )* )
+			// Parser.g:1674:9: l= termGroup ( '\\*' r= termGroup | '/' r= termGroup | '%' r= termGroup )*
+			{
+			pushFollow(FOLLOW_termGroup_in_termMultiplication12624);
+			l=termGroup();
+			state._fsp--;
+			if (state.failed) return term;
+			if ( state.backtracking==0 ) {term = l;}
+			// Parser.g:1675:9: ( '\\*' r= termGroup | '/' r= termGroup | '%' r= termGroup )*
+			loop235:
+			while (true) {
+				int alt235=4;
+				switch ( input.LA(1) ) {
+				case 229:
+					{
+					alt235=1;
+					}
+					break;
+				case 220:
+					{
+					alt235=2;
+					}
+					break;
+				case 211:
+					{
+					alt235=3;
+					}
+					break;
+				}
+				switch (alt235) {
+				case 1 :
+					// Parser.g:1675:11: '\\*' r= termGroup
+					{
+					match(input,229,FOLLOW_229_in_termMultiplication12640); if (state.failed) return term;
+					pushFollow(FOLLOW_termGroup_in_termMultiplication12644);
+					r=termGroup();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) {term = FunctionCall.Raw.newOperation('*', term, r);}
+					}
+					break;
+				case 2 :
+					// Parser.g:1676:11: '/' r= termGroup
+					{
+					match(input,220,FOLLOW_220_in_termMultiplication12658); if (state.failed) return term;
+					pushFollow(FOLLOW_termGroup_in_termMultiplication12662);
+					r=termGroup();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) {term = FunctionCall.Raw.newOperation('/', term, r);}
+					}
+					break;
+				case 3 :
+					// Parser.g:1677:11: '%' r= termGroup
+					{
+					match(input,211,FOLLOW_211_in_termMultiplication12676); if (state.failed) return term;
+					pushFollow(FOLLOW_termGroup_in_termMultiplication12680);
+					r=termGroup();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) {term = FunctionCall.Raw.newOperation('%', term, r);}
+					}
+					break;
+
+				default :
+					break loop235;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return term;
+	}
+	// $ANTLR end "termMultiplication"
+
+
+
+	// $ANTLR start "termGroup"
+	// Parser.g:1681:1: termGroup returns [Term.Raw term] : (t= simpleTerm | '-' t= simpleTerm );
+	public final Term.Raw termGroup() throws RecognitionException {
+		Term.Raw term = null;
+
+
+		Term.Raw t =null;
+
+		try {
+			// Parser.g:1682:5: (t= simpleTerm | '-' t= simpleTerm )
+			int alt236=2;
+			int LA236_0 = input.LA(1);
+			if ( (LA236_0==BOOLEAN||LA236_0==DURATION||LA236_0==FLOAT||LA236_0==HEXNUMBER||(LA236_0 >= IDENT && LA236_0 <= INTEGER)||LA236_0==K_ACCESS||(LA236_0 >= K_AGGREGATE && LA236_0 <= K_ALL)||LA236_0==K_ANN||LA236_0==K_AS||LA236_0==K_ASCII||(LA236_0 >= K_BETWEEN && LA236_0 <= K_BOOLEAN)||(LA236_0 >= K_CALLED && LA236_0 <= K_CLUSTERING)||(LA236_0 >= K_COMPACT && LA236_0 <= K_COUNTER)||(LA236_0 >= K_CUSTOM && LA236_0 <= K_DEFAULT)||(LA236_0 >= K_DISTINCT && LA236_0 <= K_DOUBLE)||LA236_0==K_DURATION||(LA236_0 >= K_EXISTS && LA236_0 <= K_FLOAT)||LA236_0==K_FROZEN||(LA236_0 >= K_FUNCTION && LA236_0 <= K_GENERATED)||(LA236_0 >= K_GROUP && LA236_0 <= K_IDENTITY)||(LA236_0 >= K_INET && LA236_0 <= K_INPUT)||(LA236_0 >= K_INT && LA236_0 <= K_INTERNALS)||(LA236_0 >= K_JSON && LA236_0 <= K_KEYS)||(LA236_0 >= K_KEYSPACES && LA236_0 <= K_LIKE)||(LA236_0 >= K_LIST && LA236_0 <= K_MASKED)||(LA236_0 >= K_MAXWRITETIME && LA236_0 <= K_MBEANS)||(LA236_0 >= K_NEGATIVE_INFINITY && LA236_0 <= K_NOLOGIN)||LA236_0==K_NOSUPERUSER||LA236_0==K_NULL||(LA236_0 >= K_ONLY && LA236_0 <= K_OPTIONS)||(LA236_0 >= K_PARTITION && LA236_0 <= K_POSITIVE_NAN)||(LA236_0 >= K_REPLACE && LA236_0 <= K_RETURNS)||(LA236_0 >= K_ROLE && LA236_0 <= K_ROLES)||LA236_0==K_SELECT_MASKED||(LA236_0 >= K_SFUNC && LA236_0 <= K_TINYINT)||(LA236_0 >= K_TOKEN && LA236_0 <= K_TRIGGER)||(LA236_0 >= K_TTL && LA236_0 <= K_TYPES)||(LA236_0 >= K_UNMASK && LA236_0 <= K_UNSET)||(LA236_0 >= K_USER && LA236_0 <= K_USERS)||(LA236_0 >= K_UUID && LA236_0 <= K_VECTOR)||LA236_0==K_WRITETIME||(LA236_0 >= QMARK && LA236_0 <= QUOTED_NAME)||LA236_0==STRING_LITERAL||LA236_0==UUID||LA236_0==212||LA236_0==221||LA236_0==228||LA236_0==232) ) {
+				alt236=1;
+			}
+			else if ( (LA236_0==217) ) {
+				alt236=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return term;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 236, 0, input);
+				throw nvae;
+			}
+
+			switch (alt236) {
+				case 1 :
+					// Parser.g:1682:7: t= simpleTerm
+					{
+					pushFollow(FOLLOW_simpleTerm_in_termGroup12716);
+					t=simpleTerm();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = t; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1683:7: '-' t= simpleTerm
+					{
+					match(input,217,FOLLOW_217_in_termGroup12739); if (state.failed) return term;
+					pushFollow(FOLLOW_simpleTerm_in_termGroup12744);
+					t=simpleTerm();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = FunctionCall.Raw.newNegation(t); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return term;
+	}
+	// $ANTLR end "termGroup"
+
+
+
+	// $ANTLR start "simpleTerm"
+	// Parser.g:1686:1: simpleTerm returns [Term.Raw term] : (v= value |f= function | '(' c= comparatorType ')' t= simpleTerm | K_CAST '(' t= simpleTerm K_AS n= native_type ')' );
+	public final Term.Raw simpleTerm() throws RecognitionException {
+		Term.Raw term = null;
+
+
+		Term.Raw v =null;
+		Term.Raw f =null;
+		CQL3Type.Raw c =null;
+		Term.Raw t =null;
+		CQL3Type n =null;
+
+		try {
+			// Parser.g:1687:5: (v= value |f= function | '(' c= comparatorType ')' t= simpleTerm | K_CAST '(' t= simpleTerm K_AS n= native_type ')' )
+			int alt237=4;
+			alt237 = dfa237.predict(input);
+			switch (alt237) {
+				case 1 :
+					// Parser.g:1687:7: v= value
+					{
+					pushFollow(FOLLOW_value_in_simpleTerm12777);
+					v=value();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = v; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1688:7: f= function
+					{
+					pushFollow(FOLLOW_function_in_simpleTerm12828);
+					f=function();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = f; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1689:7: '(' c= comparatorType ')' t= simpleTerm
+					{
+					match(input,212,FOLLOW_212_in_simpleTerm12874); if (state.failed) return term;
+					pushFollow(FOLLOW_comparatorType_in_simpleTerm12878);
+					c=comparatorType();
+					state._fsp--;
+					if (state.failed) return term;
+					match(input,213,FOLLOW_213_in_simpleTerm12880); if (state.failed) return term;
+					pushFollow(FOLLOW_simpleTerm_in_simpleTerm12884);
+					t=simpleTerm();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = new TypeCast(c, t); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1690:7: K_CAST '(' t= simpleTerm K_AS n= native_type ')'
+					{
+					match(input,K_CAST,FOLLOW_K_CAST_in_simpleTerm12903); if (state.failed) return term;
+					match(input,212,FOLLOW_212_in_simpleTerm12905); if (state.failed) return term;
+					pushFollow(FOLLOW_simpleTerm_in_simpleTerm12909);
+					t=simpleTerm();
+					state._fsp--;
+					if (state.failed) return term;
+					match(input,K_AS,FOLLOW_K_AS_in_simpleTerm12911); if (state.failed) return term;
+					pushFollow(FOLLOW_native_type_in_simpleTerm12915);
+					n=native_type();
+					state._fsp--;
+					if (state.failed) return term;
+					match(input,213,FOLLOW_213_in_simpleTerm12917); if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = FunctionCall.Raw.newCast(t, n); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return term;
+	}
+	// $ANTLR end "simpleTerm"
+
+
+
+	// $ANTLR start "columnOperation"
+	// Parser.g:1693:1: columnOperation[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations] : key= cident columnOperationDifferentiator[operations, key] ;
+	public final void columnOperation(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations) throws RecognitionException {
+		ColumnIdentifier key =null;
+
+		try {
+			// Parser.g:1694:5: (key= cident columnOperationDifferentiator[operations, key] )
+			// Parser.g:1694:7: key= cident columnOperationDifferentiator[operations, key]
+			{
+			pushFollow(FOLLOW_cident_in_columnOperation12939);
+			key=cident();
+			state._fsp--;
+			if (state.failed) return;
+			pushFollow(FOLLOW_columnOperationDifferentiator_in_columnOperation12941);
+			columnOperationDifferentiator(operations, key);
+			state._fsp--;
+			if (state.failed) return;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "columnOperation"
+
+
+
+	// $ANTLR start "columnOperationDifferentiator"
+	// Parser.g:1697:1: columnOperationDifferentiator[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key] : ( '=' normalColumnOperation[operations, key] | shorthandColumnOperation[operations, key] | '[' k= term ']' collectionColumnOperation[operations, key, k] | '.' field= fident udtColumnOperation[operations, key, field] );
+	public final void columnOperationDifferentiator(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key) throws RecognitionException {
+		Term.Raw k =null;
+		FieldIdentifier field =null;
+
+		try {
+			// Parser.g:1698:5: ( '=' normalColumnOperation[operations, key] | shorthandColumnOperation[operations, key] | '[' k= term ']' collectionColumnOperation[operations, key, k] | '.' field= fident udtColumnOperation[operations, key, field] )
+			int alt238=4;
+			switch ( input.LA(1) ) {
+			case 225:
+				{
+				alt238=1;
+				}
+				break;
+			case 215:
+			case 218:
+				{
+				alt238=2;
+				}
+				break;
+			case 228:
+				{
+				alt238=3;
+				}
+				break;
+			case 219:
+				{
+				alt238=4;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 238, 0, input);
+				throw nvae;
+			}
+			switch (alt238) {
+				case 1 :
+					// Parser.g:1698:7: '=' normalColumnOperation[operations, key]
+					{
+					match(input,225,FOLLOW_225_in_columnOperationDifferentiator12960); if (state.failed) return;
+					pushFollow(FOLLOW_normalColumnOperation_in_columnOperationDifferentiator12962);
+					normalColumnOperation(operations, key);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+				case 2 :
+					// Parser.g:1699:7: shorthandColumnOperation[operations, key]
+					{
+					pushFollow(FOLLOW_shorthandColumnOperation_in_columnOperationDifferentiator12971);
+					shorthandColumnOperation(operations, key);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+				case 3 :
+					// Parser.g:1700:7: '[' k= term ']' collectionColumnOperation[operations, key, k]
+					{
+					match(input,228,FOLLOW_228_in_columnOperationDifferentiator12980); if (state.failed) return;
+					pushFollow(FOLLOW_term_in_columnOperationDifferentiator12984);
+					k=term();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,230,FOLLOW_230_in_columnOperationDifferentiator12986); if (state.failed) return;
+					pushFollow(FOLLOW_collectionColumnOperation_in_columnOperationDifferentiator12988);
+					collectionColumnOperation(operations, key, k);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+				case 4 :
+					// Parser.g:1701:7: '.' field= fident udtColumnOperation[operations, key, field]
+					{
+					match(input,219,FOLLOW_219_in_columnOperationDifferentiator12997); if (state.failed) return;
+					pushFollow(FOLLOW_fident_in_columnOperationDifferentiator13001);
+					field=fident();
+					state._fsp--;
+					if (state.failed) return;
+					pushFollow(FOLLOW_udtColumnOperation_in_columnOperationDifferentiator13003);
+					udtColumnOperation(operations, key, field);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "columnOperationDifferentiator"
+
+
+
+	// $ANTLR start "normalColumnOperation"
+	// Parser.g:1704:1: normalColumnOperation[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key] : (t= term ( '+' c= cident )? |c= cident sig= ( '+' | '-' ) t= term |c= cident i= INTEGER );
+	public final void normalColumnOperation(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key) throws RecognitionException {
+		Token sig=null;
+		Token i=null;
+		Term.Raw t =null;
+		ColumnIdentifier c =null;
+
+		try {
+			// Parser.g:1705:5: (t= term ( '+' c= cident )? |c= cident sig= ( '+' | '-' ) t= term |c= cident i= INTEGER )
+			int alt240=3;
+			alt240 = dfa240.predict(input);
+			switch (alt240) {
+				case 1 :
+					// Parser.g:1705:7: t= term ( '+' c= cident )?
+					{
+					pushFollow(FOLLOW_term_in_normalColumnOperation13024);
+					t=term();
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:1705:14: ( '+' c= cident )?
+					int alt239=2;
+					int LA239_0 = input.LA(1);
+					if ( (LA239_0==214) ) {
+						alt239=1;
+					}
+					switch (alt239) {
+						case 1 :
+							// Parser.g:1705:15: '+' c= cident
+							{
+							match(input,214,FOLLOW_214_in_normalColumnOperation13027); if (state.failed) return;
+							pushFollow(FOLLOW_cident_in_normalColumnOperation13031);
+							c=cident();
+							state._fsp--;
+							if (state.failed) return;
+							}
+							break;
+
+					}
+
+					if ( state.backtracking==0 ) {
+					          if (c == null)
+					          {
+					              addRawUpdate(operations, key, new Operation.SetValue(t));
+					          }
+					          else
+					          {
+					              if (!key.equals(c))
+					                  addRecognitionError("Only expressions of the form X = <value> + X are supported.");
+					              addRawUpdate(operations, key, new Operation.Prepend(t));
+					          }
+					      }
+					}
+					break;
+				case 2 :
+					// Parser.g:1718:7: c= cident sig= ( '+' | '-' ) t= term
+					{
+					pushFollow(FOLLOW_cident_in_normalColumnOperation13052);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					sig=input.LT(1);
+					if ( input.LA(1)==214||input.LA(1)==217 ) {
+						input.consume();
+						state.errorRecovery=false;
+						state.failed=false;
+					}
+					else {
+						if (state.backtracking>0) {state.failed=true; return;}
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						throw mse;
+					}
+					pushFollow(FOLLOW_term_in_normalColumnOperation13066);
+					t=term();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) {
+					          if (!key.equals(c))
+					              addRecognitionError("Only expressions of the form X = X " + (sig!=null?sig.getText():null) + "<value> are supported.");
+					          addRawUpdate(operations, key, (sig!=null?sig.getText():null).equals("+") ? new Operation.Addition(t) : new Operation.Substraction(t));
+					      }
+					}
+					break;
+				case 3 :
+					// Parser.g:1724:7: c= cident i= INTEGER
+					{
+					pushFollow(FOLLOW_cident_in_normalColumnOperation13084);
+					c=cident();
+					state._fsp--;
+					if (state.failed) return;
+					i=(Token)match(input,INTEGER,FOLLOW_INTEGER_in_normalColumnOperation13088); if (state.failed) return;
+					if ( state.backtracking==0 ) {
+					          // Note that this production *is* necessary because X = X - 3 will in fact be lexed as [ X, '=', X, INTEGER].
+					          if (!key.equals(c))
+					              // We don't yet allow a '+' in front of an integer, but we could in the future really, so let's be future-proof in our error message
+					              addRecognitionError("Only expressions of the form X = X " + ((i!=null?i.getText():null).charAt(0) == '-' ? '-' : '+') + " <value> are supported.");
+					          addRawUpdate(operations, key, new Operation.Addition(Constants.Literal.integer((i!=null?i.getText():null))));
+					      }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "normalColumnOperation"
+
+
+
+	// $ANTLR start "shorthandColumnOperation"
+	// Parser.g:1734:1: shorthandColumnOperation[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key] : sig= ( '+=' | '-=' ) t= term ;
+	public final void shorthandColumnOperation(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key) throws RecognitionException {
+		Token sig=null;
+		Term.Raw t =null;
+
+		try {
+			// Parser.g:1735:5: (sig= ( '+=' | '-=' ) t= term )
+			// Parser.g:1735:7: sig= ( '+=' | '-=' ) t= term
+			{
+			sig=input.LT(1);
+			if ( input.LA(1)==215||input.LA(1)==218 ) {
+				input.consume();
+				state.errorRecovery=false;
+				state.failed=false;
+			}
+			else {
+				if (state.backtracking>0) {state.failed=true; return;}
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			pushFollow(FOLLOW_term_in_shorthandColumnOperation13126);
+			t=term();
+			state._fsp--;
+			if (state.failed) return;
+			if ( state.backtracking==0 ) {
+			          addRawUpdate(operations, key, (sig!=null?sig.getText():null).equals("+=") ? new Operation.Addition(t) : new Operation.Substraction(t));
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "shorthandColumnOperation"
+
+
+
+	// $ANTLR start "collectionColumnOperation"
+	// Parser.g:1741:1: collectionColumnOperation[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key, Term.Raw k] : '=' t= term ;
+	public final void collectionColumnOperation(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key, Term.Raw k) throws RecognitionException {
+		Term.Raw t =null;
+
+		try {
+			// Parser.g:1742:5: ( '=' t= term )
+			// Parser.g:1742:7: '=' t= term
+			{
+			match(input,225,FOLLOW_225_in_collectionColumnOperation13152); if (state.failed) return;
+			pushFollow(FOLLOW_term_in_collectionColumnOperation13156);
+			t=term();
+			state._fsp--;
+			if (state.failed) return;
+			if ( state.backtracking==0 ) {
+			          addRawUpdate(operations, key, new Operation.SetElement(k, t));
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "collectionColumnOperation"
+
+
+
+	// $ANTLR start "udtColumnOperation"
+	// Parser.g:1748:1: udtColumnOperation[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key, FieldIdentifier field] : '=' t= term ;
+	public final void udtColumnOperation(List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key, FieldIdentifier field) throws RecognitionException {
+		Term.Raw t =null;
+
+		try {
+			// Parser.g:1749:5: ( '=' t= term )
+			// Parser.g:1749:7: '=' t= term
+			{
+			match(input,225,FOLLOW_225_in_udtColumnOperation13182); if (state.failed) return;
+			pushFollow(FOLLOW_term_in_udtColumnOperation13186);
+			t=term();
+			state._fsp--;
+			if (state.failed) return;
+			if ( state.backtracking==0 ) {
+			          addRawUpdate(operations, key, new Operation.SetField(field, t));
+			      }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "udtColumnOperation"
+
+
+
+	// $ANTLR start "columnCondition"
+	// Parser.g:1755:1: columnCondition returns [ColumnCondition.Raw condition] : column= cident (op= relationType t= term | K_CONTAINS ( K_KEY )? t= term | K_IN v= singleColumnInValues | '[' element= term ']' (op= relationType t= term | K_IN v= singleColumnInValues ) | '.' field= fident (op= relationType t= term | K_IN v= singleColumnInValues ) ) ;
+	public final ColumnCondition.Raw columnCondition() throws RecognitionException {
+		ColumnCondition.Raw condition = null;
+
+
+		Token K_KEY9=null;
+		ColumnIdentifier column =null;
+		Operator op =null;
+		Term.Raw t =null;
+		Terms.Raw v =null;
+		Term.Raw element =null;
+		FieldIdentifier field =null;
+
+		try {
+			// Parser.g:1757:5: (column= cident (op= relationType t= term | K_CONTAINS ( K_KEY )? t= term | K_IN v= singleColumnInValues | '[' element= term ']' (op= relationType t= term | K_IN v= singleColumnInValues ) | '.' field= fident (op= relationType t= term | K_IN v= singleColumnInValues ) ) )
+			// Parser.g:1757:7: column= cident (op= relationType t= term | K_CONTAINS ( K_KEY )? t= term | K_IN v= singleColumnInValues | '[' element= term ']' (op= relationType t= term | K_IN v= singleColumnInValues ) | '.' field= fident (op= relationType t= term | K_IN v= singleColumnInValues ) )
+			{
+			pushFollow(FOLLOW_cident_in_columnCondition13222);
+			column=cident();
+			state._fsp--;
+			if (state.failed) return condition;
+			// Parser.g:1758:9: (op= relationType t= term | K_CONTAINS ( K_KEY )? t= term | K_IN v= singleColumnInValues | '[' element= term ']' (op= relationType t= term | K_IN v= singleColumnInValues ) | '.' field= fident (op= relationType t= term | K_IN v= singleColumnInValues ) )
+			int alt244=5;
+			switch ( input.LA(1) ) {
+			case 210:
+			case 223:
+			case 224:
+			case 225:
+			case 226:
+			case 227:
+				{
+				alt244=1;
+				}
+				break;
+			case K_CONTAINS:
+				{
+				alt244=2;
+				}
+				break;
+			case K_IN:
+				{
+				alt244=3;
+				}
+				break;
+			case 228:
+				{
+				alt244=4;
+				}
+				break;
+			case 219:
+				{
+				alt244=5;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return condition;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 244, 0, input);
+				throw nvae;
+			}
+			switch (alt244) {
+				case 1 :
+					// Parser.g:1758:11: op= relationType t= term
+					{
+					pushFollow(FOLLOW_relationType_in_columnCondition13236);
+					op=relationType();
+					state._fsp--;
+					if (state.failed) return condition;
+					pushFollow(FOLLOW_term_in_columnCondition13240);
+					t=term();
+					state._fsp--;
+					if (state.failed) return condition;
+					if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.simpleCondition(column, op, Terms.Raw.of(t)); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1759:11: K_CONTAINS ( K_KEY )? t= term
+					{
+					match(input,K_CONTAINS,FOLLOW_K_CONTAINS_in_columnCondition13260); if (state.failed) return condition;
+					// Parser.g:1759:22: ( K_KEY )?
+					int alt241=2;
+					int LA241_0 = input.LA(1);
+					if ( (LA241_0==K_KEY) ) {
+						int LA241_1 = input.LA(2);
+						if ( (LA241_1==BOOLEAN||LA241_1==DURATION||LA241_1==FLOAT||LA241_1==HEXNUMBER||(LA241_1 >= IDENT && LA241_1 <= INTEGER)||LA241_1==K_ACCESS||(LA241_1 >= K_AGGREGATE && LA241_1 <= K_ALL)||LA241_1==K_ANN||LA241_1==K_AS||LA241_1==K_ASCII||(LA241_1 >= K_BETWEEN && LA241_1 <= K_BOOLEAN)||(LA241_1 >= K_CALLED && LA241_1 <= K_CLUSTERING)||(LA241_1 >= K_COMPACT && LA241_1 <= K_COUNTER)||(LA241_1 >= K_CUSTOM && LA241_1 <= K_DEFAULT)||(LA241_1 >= K_DISTINCT && LA241_1 <= K_DOUBLE)||LA241_1==K_DURATION||(LA241_1 >= K_EXISTS && LA241_1 <= K_FLOAT)||LA241_1==K_FROZEN||(LA241_1 >= K_FUNCTION && LA241_1 <= K_GENERATED)||(LA241_1 >= K_GROUP && LA241_1 <= K_IDENTITY)||(LA241_1 >= K_INET && LA241_1 <= K_INPUT)||(LA241_1 >= K_INT && LA241_1 <= K_INTERNALS)||(LA241_1 >= K_JSON && LA241_1 <= K_KEYS)||(LA241_1 >= K_KEYSPACES && LA241_1 <= K_LIKE)||(LA241_1 >= K_LIST && LA241_1 <= K_MASKED)||(LA241_1 >= K_MAXWRITETIME && LA241_1 <= K_MBEANS)||(LA241_1 >= K_NEGATIVE_INFINITY && LA241_1 <= K_NOLOGIN)||LA241_1==K_NOSUPERUSER||LA241_1==K_NULL||(LA241_1 >= K_ONLY && LA241_1 <= K_OPTIONS)||(LA241_1 >= K_PARTITION && LA241_1 <= K_POSITIVE_NAN)||(LA241_1 >= K_REPLACE && LA241_1 <= K_RETURNS)||(LA241_1 >= K_ROLE && LA241_1 <= K_ROLES)||LA241_1==K_SELECT_MASKED||(LA241_1 >= K_SFUNC && LA241_1 <= K_TINYINT)||(LA241_1 >= K_TOKEN && LA241_1 <= K_TRIGGER)||(LA241_1 >= K_TTL && LA241_1 <= K_TYPES)||(LA241_1 >= K_UNMASK && LA241_1 <= K_UNSET)||(LA241_1 >= K_USER && LA241_1 <= K_USERS)||(LA241_1 >= K_UUID && LA241_1 <= K_VECTOR)||LA241_1==K_WRITETIME||(LA241_1 >= QMARK && LA241_1 <= QUOTED_NAME)||LA241_1==STRING_LITERAL||LA241_1==UUID||LA241_1==212||LA241_1==217||LA241_1==221||LA241_1==228||LA241_1==232) ) {
+							alt241=1;
+						}
+					}
+					switch (alt241) {
+						case 1 :
+							// Parser.g:1759:23: K_KEY
+							{
+							K_KEY9=(Token)match(input,K_KEY,FOLLOW_K_KEY_in_columnCondition13263); if (state.failed) return condition;
+							}
+							break;
+
+					}
+
+					pushFollow(FOLLOW_term_in_columnCondition13269);
+					t=term();
+					state._fsp--;
+					if (state.failed) return condition;
+					if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.simpleCondition(column, K_KEY9 != null ? Operator.CONTAINS_KEY : Operator.CONTAINS, Terms.Raw.of(t)); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1760:11: K_IN v= singleColumnInValues
+					{
+					match(input,K_IN,FOLLOW_K_IN_in_columnCondition13285); if (state.failed) return condition;
+					pushFollow(FOLLOW_singleColumnInValues_in_columnCondition13289);
+					v=singleColumnInValues();
+					state._fsp--;
+					if (state.failed) return condition;
+					if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.simpleCondition(column, Operator.IN, v); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1761:11: '[' element= term ']' (op= relationType t= term | K_IN v= singleColumnInValues )
+					{
+					match(input,228,FOLLOW_228_in_columnCondition13304); if (state.failed) return condition;
+					pushFollow(FOLLOW_term_in_columnCondition13308);
+					element=term();
+					state._fsp--;
+					if (state.failed) return condition;
+					match(input,230,FOLLOW_230_in_columnCondition13310); if (state.failed) return condition;
+					// Parser.g:1762:13: (op= relationType t= term | K_IN v= singleColumnInValues )
+					int alt242=2;
+					int LA242_0 = input.LA(1);
+					if ( (LA242_0==210||(LA242_0 >= 223 && LA242_0 <= 227)) ) {
+						alt242=1;
+					}
+					else if ( (LA242_0==K_IN) ) {
+						alt242=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return condition;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 242, 0, input);
+						throw nvae;
+					}
+
+					switch (alt242) {
+						case 1 :
+							// Parser.g:1762:15: op= relationType t= term
+							{
+							pushFollow(FOLLOW_relationType_in_columnCondition13328);
+							op=relationType();
+							state._fsp--;
+							if (state.failed) return condition;
+							pushFollow(FOLLOW_term_in_columnCondition13332);
+							t=term();
+							state._fsp--;
+							if (state.failed) return condition;
+							if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.collectionElementCondition(column, element, op, Terms.Raw.of(t)); }
+							}
+							break;
+						case 2 :
+							// Parser.g:1763:15: K_IN v= singleColumnInValues
+							{
+							match(input,K_IN,FOLLOW_K_IN_in_columnCondition13355); if (state.failed) return condition;
+							pushFollow(FOLLOW_singleColumnInValues_in_columnCondition13359);
+							v=singleColumnInValues();
+							state._fsp--;
+							if (state.failed) return condition;
+							if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.collectionElementCondition(column, element, Operator.IN, v); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 5 :
+					// Parser.g:1765:11: '.' field= fident (op= relationType t= term | K_IN v= singleColumnInValues )
+					{
+					match(input,219,FOLLOW_219_in_columnCondition13387); if (state.failed) return condition;
+					pushFollow(FOLLOW_fident_in_columnCondition13391);
+					field=fident();
+					state._fsp--;
+					if (state.failed) return condition;
+					// Parser.g:1766:13: (op= relationType t= term | K_IN v= singleColumnInValues )
+					int alt243=2;
+					int LA243_0 = input.LA(1);
+					if ( (LA243_0==210||(LA243_0 >= 223 && LA243_0 <= 227)) ) {
+						alt243=1;
+					}
+					else if ( (LA243_0==K_IN) ) {
+						alt243=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return condition;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 243, 0, input);
+						throw nvae;
+					}
+
+					switch (alt243) {
+						case 1 :
+							// Parser.g:1766:15: op= relationType t= term
+							{
+							pushFollow(FOLLOW_relationType_in_columnCondition13409);
+							op=relationType();
+							state._fsp--;
+							if (state.failed) return condition;
+							pushFollow(FOLLOW_term_in_columnCondition13413);
+							t=term();
+							state._fsp--;
+							if (state.failed) return condition;
+							if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.udtFieldCondition(column, field, op, Terms.Raw.of(t)); }
+							}
+							break;
+						case 2 :
+							// Parser.g:1767:15: K_IN v= singleColumnInValues
+							{
+							match(input,K_IN,FOLLOW_K_IN_in_columnCondition13436); if (state.failed) return condition;
+							pushFollow(FOLLOW_singleColumnInValues_in_columnCondition13440);
+							v=singleColumnInValues();
+							state._fsp--;
+							if (state.failed) return condition;
+							if ( state.backtracking==0 ) { condition = ColumnCondition.Raw.udtFieldCondition(column, field, Operator.IN, v); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return condition;
+	}
+	// $ANTLR end "columnCondition"
+
+
+
+	// $ANTLR start "properties"
+	// Parser.g:1772:1: properties[PropertyDefinitions props] : property[props] ( K_AND property[props] )* ;
+	public final void properties(PropertyDefinitions props) throws RecognitionException {
+		try {
+			// Parser.g:1773:5: ( property[props] ( K_AND property[props] )* )
+			// Parser.g:1773:7: property[props] ( K_AND property[props] )*
+			{
+			pushFollow(FOLLOW_property_in_properties13484);
+			property(props);
+			state._fsp--;
+			if (state.failed) return;
+			// Parser.g:1773:23: ( K_AND property[props] )*
+			loop245:
+			while (true) {
+				int alt245=2;
+				int LA245_0 = input.LA(1);
+				if ( (LA245_0==K_AND) ) {
+					alt245=1;
+				}
+
+				switch (alt245) {
+				case 1 :
+					// Parser.g:1773:24: K_AND property[props]
+					{
+					match(input,K_AND,FOLLOW_K_AND_in_properties13488); if (state.failed) return;
+					pushFollow(FOLLOW_property_in_properties13490);
+					property(props);
+					state._fsp--;
+					if (state.failed) return;
+					}
+					break;
+
+				default :
+					break loop245;
+				}
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "properties"
+
+
+
+	// $ANTLR start "property"
+	// Parser.g:1776:1: property[PropertyDefinitions props] : (k= noncol_ident '=' simple= propertyValue |k= noncol_ident '=' map= fullMapLiteral );
+	public final void property(PropertyDefinitions props) throws RecognitionException {
+		ColumnIdentifier k =null;
+		String simple =null;
+		Maps.Literal map =null;
+
+		try {
+			// Parser.g:1777:5: (k= noncol_ident '=' simple= propertyValue |k= noncol_ident '=' map= fullMapLiteral )
+			int alt246=2;
+			alt246 = dfa246.predict(input);
+			switch (alt246) {
+				case 1 :
+					// Parser.g:1777:7: k= noncol_ident '=' simple= propertyValue
+					{
+					pushFollow(FOLLOW_noncol_ident_in_property13513);
+					k=noncol_ident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,225,FOLLOW_225_in_property13515); if (state.failed) return;
+					pushFollow(FOLLOW_propertyValue_in_property13519);
+					simple=propertyValue();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { try { props.addProperty(k.toString(), simple); } catch (SyntaxException e) { addRecognitionError(e.getMessage()); } }
+					}
+					break;
+				case 2 :
+					// Parser.g:1778:7: k= noncol_ident '=' map= fullMapLiteral
+					{
+					pushFollow(FOLLOW_noncol_ident_in_property13531);
+					k=noncol_ident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,225,FOLLOW_225_in_property13533); if (state.failed) return;
+					pushFollow(FOLLOW_fullMapLiteral_in_property13537);
+					map=fullMapLiteral();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { try { props.addProperty(k.toString(), convertPropertyMap(map)); } catch (SyntaxException e) { addRecognitionError(e.getMessage()); } }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "property"
+
+
+
+	// $ANTLR start "propertyValue"
+	// Parser.g:1781:1: propertyValue returns [String str] : (c= constant |u= unreserved_keyword );
+	public final String propertyValue() throws RecognitionException {
+		String str = null;
+
+
+		Constants.Literal c =null;
+		String u =null;
+
+		try {
+			// Parser.g:1782:5: (c= constant |u= unreserved_keyword )
+			int alt247=2;
+			int LA247_0 = input.LA(1);
+			if ( (LA247_0==BOOLEAN||LA247_0==DURATION||LA247_0==FLOAT||LA247_0==HEXNUMBER||LA247_0==INTEGER||(LA247_0 >= K_NEGATIVE_INFINITY && LA247_0 <= K_NEGATIVE_NAN)||(LA247_0 >= K_POSITIVE_INFINITY && LA247_0 <= K_POSITIVE_NAN)||LA247_0==STRING_LITERAL||LA247_0==UUID) ) {
+				alt247=1;
+			}
+			else if ( (LA247_0==K_ACCESS||(LA247_0 >= K_AGGREGATE && LA247_0 <= K_ALL)||LA247_0==K_ANN||LA247_0==K_AS||LA247_0==K_ASCII||(LA247_0 >= K_BETWEEN && LA247_0 <= K_BOOLEAN)||(LA247_0 >= K_CALLED && LA247_0 <= K_CLUSTERING)||(LA247_0 >= K_COMPACT && LA247_0 <= K_COUNTER)||(LA247_0 >= K_CUSTOM && LA247_0 <= K_DEFAULT)||(LA247_0 >= K_DISTINCT && LA247_0 <= K_DOUBLE)||LA247_0==K_DURATION||(LA247_0 >= K_EXISTS && LA247_0 <= K_FLOAT)||LA247_0==K_FROZEN||(LA247_0 >= K_FUNCTION && LA247_0 <= K_GENERATED)||(LA247_0 >= K_GROUP && LA247_0 <= K_IDENTITY)||(LA247_0 >= K_INET && LA247_0 <= K_INPUT)||(LA247_0 >= K_INT && LA247_0 <= K_INTERNALS)||(LA247_0 >= K_JSON && LA247_0 <= K_KEYS)||(LA247_0 >= K_KEYSPACES && LA247_0 <= K_LIKE)||(LA247_0 >= K_LIST && LA247_0 <= K_MASKED)||(LA247_0 >= K_MAXWRITETIME && LA247_0 <= K_MBEANS)||LA247_0==K_NOLOGIN||LA247_0==K_NOSUPERUSER||(LA247_0 >= K_ONLY && LA247_0 <= K_OPTIONS)||(LA247_0 >= K_PARTITION && LA247_0 <= K_PERMISSIONS)||(LA247_0 >= K_REPLACE && LA247_0 <= K_RETURNS)||(LA247_0 >= K_ROLE && LA247_0 <= K_ROLES)||LA247_0==K_SELECT_MASKED||(LA247_0 >= K_SFUNC && LA247_0 <= K_TINYINT)||LA247_0==K_TRIGGER||(LA247_0 >= K_TTL && LA247_0 <= K_TYPES)||(LA247_0 >= K_UNMASK && LA247_0 <= K_UNSET)||(LA247_0 >= K_USER && LA247_0 <= K_USERS)||(LA247_0 >= K_UUID && LA247_0 <= K_VECTOR)||LA247_0==K_WRITETIME) ) {
+				alt247=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return str;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 247, 0, input);
+				throw nvae;
+			}
+
+			switch (alt247) {
+				case 1 :
+					// Parser.g:1782:7: c= constant
+					{
+					pushFollow(FOLLOW_constant_in_propertyValue13562);
+					c=constant();
+					state._fsp--;
+					if (state.failed) return str;
+					if ( state.backtracking==0 ) { str = c.getRawText(); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1783:7: u= unreserved_keyword
+					{
+					pushFollow(FOLLOW_unreserved_keyword_in_propertyValue13584);
+					u=unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return str;
+					if ( state.backtracking==0 ) { str = u; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return str;
+	}
+	// $ANTLR end "propertyValue"
+
+
+
+	// $ANTLR start "singleColumnBetweenValues"
+	// Parser.g:1786:1: singleColumnBetweenValues returns [Terms.Raw terms] : t1= term K_AND t2= term ;
+	public final Terms.Raw singleColumnBetweenValues() throws RecognitionException {
+		Terms.Raw terms = null;
+
+
+		Term.Raw t1 =null;
+		Term.Raw t2 =null;
+
+		 List<Term.Raw> list = new ArrayList<>(); 
+		try {
+			// Parser.g:1789:5: (t1= term K_AND t2= term )
+			// Parser.g:1789:7: t1= term K_AND t2= term
+			{
+			pushFollow(FOLLOW_term_in_singleColumnBetweenValues13627);
+			t1=term();
+			state._fsp--;
+			if (state.failed) return terms;
+			if ( state.backtracking==0 ) { list.add(t1); }
+			match(input,K_AND,FOLLOW_K_AND_in_singleColumnBetweenValues13631); if (state.failed) return terms;
+			pushFollow(FOLLOW_term_in_singleColumnBetweenValues13635);
+			t2=term();
+			state._fsp--;
+			if (state.failed) return terms;
+			if ( state.backtracking==0 ) { list.add(t2); }
+			}
+
+			if ( state.backtracking==0 ) { terms = Terms.Raw.of(list); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return terms;
+	}
+	// $ANTLR end "singleColumnBetweenValues"
+
+
+
+	// $ANTLR start "relationType"
+	// Parser.g:1792:1: relationType returns [Operator op] : ( '=' | '<' | '<=' | '>' | '>=' | '!=' );
+	public final Operator relationType() throws RecognitionException {
+		Operator op = null;
+
+
+		try {
+			// Parser.g:1793:5: ( '=' | '<' | '<=' | '>' | '>=' | '!=' )
+			int alt248=6;
+			switch ( input.LA(1) ) {
+			case 225:
+				{
+				alt248=1;
+				}
+				break;
+			case 223:
+				{
+				alt248=2;
+				}
+				break;
+			case 224:
+				{
+				alt248=3;
+				}
+				break;
+			case 226:
+				{
+				alt248=4;
+				}
+				break;
+			case 227:
+				{
+				alt248=5;
+				}
+				break;
+			case 210:
+				{
+				alt248=6;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return op;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 248, 0, input);
+				throw nvae;
+			}
+			switch (alt248) {
+				case 1 :
+					// Parser.g:1793:7: '='
+					{
+					match(input,225,FOLLOW_225_in_relationType13658); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = Operator.EQ; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1794:7: '<'
+					{
+					match(input,223,FOLLOW_223_in_relationType13669); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = Operator.LT; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1795:7: '<='
+					{
+					match(input,224,FOLLOW_224_in_relationType13680); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = Operator.LTE; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1796:7: '>'
+					{
+					match(input,226,FOLLOW_226_in_relationType13690); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = Operator.GT; }
+					}
+					break;
+				case 5 :
+					// Parser.g:1797:7: '>='
+					{
+					match(input,227,FOLLOW_227_in_relationType13701); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = Operator.GTE; }
+					}
+					break;
+				case 6 :
+					// Parser.g:1798:7: '!='
+					{
+					match(input,210,FOLLOW_210_in_relationType13711); if (state.failed) return op;
+					if ( state.backtracking==0 ) { op = Operator.NEQ; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return op;
+	}
+	// $ANTLR end "relationType"
+
+
+
+	// $ANTLR start "relation"
+	// Parser.g:1801:1: relation[WhereClause.Builder clauses] : (name= cident (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues | K_LIKE t= term | K_IS K_NOT K_NULL |rtInOperator= inOperator inValue= singleColumnInValues |rtContainsOperator= containsOperator t= term ) | K_TOKEN l= tupleOfIdentifiers (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues ) |name= cident '[' key= term ']' type= relationType t= term |ids= tupleOfIdentifiers (rt= inOperator inValue= multiColumnInValues |type= relationType v= multiColumnValue | K_BETWEEN t1= multiColumnValue K_AND t2= multiColumnValue ) | '(' relation[$clauses] ')' );
+	public final void relation(WhereClause.Builder clauses) throws RecognitionException {
+		ColumnIdentifier name =null;
+		Operator type =null;
+		Term.Raw t =null;
+		Terms.Raw betweenValues =null;
+		Operator rtInOperator =null;
+		Terms.Raw inValue =null;
+		Operator rtContainsOperator =null;
+		List<ColumnIdentifier> l =null;
+		Term.Raw key =null;
+		List<ColumnIdentifier> ids =null;
+		Operator rt =null;
+		Term.Raw v =null;
+		Term.Raw t1 =null;
+		Term.Raw t2 =null;
+
+		try {
+			// Parser.g:1802:5: (name= cident (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues | K_LIKE t= term | K_IS K_NOT K_NULL |rtInOperator= inOperator inValue= singleColumnInValues |rtContainsOperator= containsOperator t= term ) | K_TOKEN l= tupleOfIdentifiers (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues ) |name= cident '[' key= term ']' type= relationType t= term |ids= tupleOfIdentifiers (rt= inOperator inValue= multiColumnInValues |type= relationType v= multiColumnValue | K_BETWEEN t1= multiColumnValue K_AND t2= multiColumnValue ) | '(' relation[$clauses] ')' )
+			int alt252=5;
+			alt252 = dfa252.predict(input);
+			switch (alt252) {
+				case 1 :
+					// Parser.g:1802:7: name= cident (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues | K_LIKE t= term | K_IS K_NOT K_NULL |rtInOperator= inOperator inValue= singleColumnInValues |rtContainsOperator= containsOperator t= term )
+					{
+					pushFollow(FOLLOW_cident_in_relation13733);
+					name=cident();
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:1803:12: (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues | K_LIKE t= term | K_IS K_NOT K_NULL |rtInOperator= inOperator inValue= singleColumnInValues |rtContainsOperator= containsOperator t= term )
+					int alt249=6;
+					switch ( input.LA(1) ) {
+					case 210:
+					case 223:
+					case 224:
+					case 225:
+					case 226:
+					case 227:
+						{
+						alt249=1;
+						}
+						break;
+					case K_BETWEEN:
+						{
+						alt249=2;
+						}
+						break;
+					case K_LIKE:
+						{
+						alt249=3;
+						}
+						break;
+					case K_IS:
+						{
+						alt249=4;
+						}
+						break;
+					case K_IN:
+						{
+						alt249=5;
+						}
+						break;
+					case K_NOT:
+						{
+						int LA249_6 = input.LA(2);
+						if ( (LA249_6==K_IN) ) {
+							alt249=5;
+						}
+						else if ( (LA249_6==K_CONTAINS) ) {
+							alt249=6;
+						}
+
+						else {
+							if (state.backtracking>0) {state.failed=true; return;}
+							int nvaeMark = input.mark();
+							try {
+								input.consume();
+								NoViableAltException nvae =
+									new NoViableAltException("", 249, 6, input);
+								throw nvae;
+							} finally {
+								input.rewind(nvaeMark);
+							}
+						}
+
+						}
+						break;
+					case K_CONTAINS:
+						{
+						alt249=6;
+						}
+						break;
+					default:
+						if (state.backtracking>0) {state.failed=true; return;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 249, 0, input);
+						throw nvae;
+					}
+					switch (alt249) {
+						case 1 :
+							// Parser.g:1803:14: type= relationType t= term
+							{
+							pushFollow(FOLLOW_relationType_in_relation13750);
+							type=relationType();
+							state._fsp--;
+							if (state.failed) return;
+							pushFollow(FOLLOW_term_in_relation13754);
+							t=term();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.singleColumn(name, type, t)); }
+							}
+							break;
+						case 2 :
+							// Parser.g:1804:14: K_BETWEEN betweenValues= singleColumnBetweenValues
+							{
+							match(input,K_BETWEEN,FOLLOW_K_BETWEEN_in_relation13771); if (state.failed) return;
+							pushFollow(FOLLOW_singleColumnBetweenValues_in_relation13775);
+							betweenValues=singleColumnBetweenValues();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.singleColumn(name, Operator.BETWEEN, betweenValues)); }
+							}
+							break;
+						case 3 :
+							// Parser.g:1805:14: K_LIKE t= term
+							{
+							match(input,K_LIKE,FOLLOW_K_LIKE_in_relation13792); if (state.failed) return;
+							pushFollow(FOLLOW_term_in_relation13796);
+							t=term();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.singleColumn(name, Operator.LIKE, t)); }
+							}
+							break;
+						case 4 :
+							// Parser.g:1806:14: K_IS K_NOT K_NULL
+							{
+							match(input,K_IS,FOLLOW_K_IS_in_relation13813); if (state.failed) return;
+							match(input,K_NOT,FOLLOW_K_NOT_in_relation13815); if (state.failed) return;
+							match(input,K_NULL,FOLLOW_K_NULL_in_relation13817); if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.singleColumn(name, Operator.IS_NOT, Constants.NULL_LITERAL)); }
+							}
+							break;
+						case 5 :
+							// Parser.g:1807:14: rtInOperator= inOperator inValue= singleColumnInValues
+							{
+							pushFollow(FOLLOW_inOperator_in_relation13836);
+							rtInOperator=inOperator();
+							state._fsp--;
+							if (state.failed) return;
+							pushFollow(FOLLOW_singleColumnInValues_in_relation13840);
+							inValue=singleColumnInValues();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.singleColumn(name, rtInOperator, inValue)); }
+							}
+							break;
+						case 6 :
+							// Parser.g:1808:14: rtContainsOperator= containsOperator t= term
+							{
+							pushFollow(FOLLOW_containsOperator_in_relation13859);
+							rtContainsOperator=containsOperator();
+							state._fsp--;
+							if (state.failed) return;
+							pushFollow(FOLLOW_term_in_relation13863);
+							t=term();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.singleColumn(name, rtContainsOperator, t)); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 2 :
+					// Parser.g:1810:7: K_TOKEN l= tupleOfIdentifiers (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues )
+					{
+					match(input,K_TOKEN,FOLLOW_K_TOKEN_in_relation13886); if (state.failed) return;
+					pushFollow(FOLLOW_tupleOfIdentifiers_in_relation13890);
+					l=tupleOfIdentifiers();
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:1811:9: (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues )
+					int alt250=2;
+					int LA250_0 = input.LA(1);
+					if ( (LA250_0==210||(LA250_0 >= 223 && LA250_0 <= 227)) ) {
+						alt250=1;
+					}
+					else if ( (LA250_0==K_BETWEEN) ) {
+						alt250=2;
+					}
+
+					else {
+						if (state.backtracking>0) {state.failed=true; return;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 250, 0, input);
+						throw nvae;
+					}
+
+					switch (alt250) {
+						case 1 :
+							// Parser.g:1811:11: type= relationType t= term
+							{
+							pushFollow(FOLLOW_relationType_in_relation13904);
+							type=relationType();
+							state._fsp--;
+							if (state.failed) return;
+							pushFollow(FOLLOW_term_in_relation13908);
+							t=term();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.token(l, type, t)); }
+							}
+							break;
+						case 2 :
+							// Parser.g:1812:11: K_BETWEEN betweenValues= singleColumnBetweenValues
+							{
+							match(input,K_BETWEEN,FOLLOW_K_BETWEEN_in_relation13922); if (state.failed) return;
+							pushFollow(FOLLOW_singleColumnBetweenValues_in_relation13926);
+							betweenValues=singleColumnBetweenValues();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.token(l, Operator.BETWEEN, betweenValues)); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 3 :
+					// Parser.g:1814:7: name= cident '[' key= term ']' type= relationType t= term
+					{
+					pushFollow(FOLLOW_cident_in_relation13948);
+					name=cident();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,228,FOLLOW_228_in_relation13950); if (state.failed) return;
+					pushFollow(FOLLOW_term_in_relation13954);
+					key=term();
+					state._fsp--;
+					if (state.failed) return;
+					match(input,230,FOLLOW_230_in_relation13956); if (state.failed) return;
+					pushFollow(FOLLOW_relationType_in_relation13960);
+					type=relationType();
+					state._fsp--;
+					if (state.failed) return;
+					pushFollow(FOLLOW_term_in_relation13964);
+					t=term();
+					state._fsp--;
+					if (state.failed) return;
+					if ( state.backtracking==0 ) { clauses.add(Relation.mapElement(name, key, type, t)); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1815:7: ids= tupleOfIdentifiers (rt= inOperator inValue= multiColumnInValues |type= relationType v= multiColumnValue | K_BETWEEN t1= multiColumnValue K_AND t2= multiColumnValue )
+					{
+					pushFollow(FOLLOW_tupleOfIdentifiers_in_relation13976);
+					ids=tupleOfIdentifiers();
+					state._fsp--;
+					if (state.failed) return;
+					// Parser.g:1816:9: (rt= inOperator inValue= multiColumnInValues |type= relationType v= multiColumnValue | K_BETWEEN t1= multiColumnValue K_AND t2= multiColumnValue )
+					int alt251=3;
+					switch ( input.LA(1) ) {
+					case K_IN:
+					case K_NOT:
+						{
+						alt251=1;
+						}
+						break;
+					case 210:
+					case 223:
+					case 224:
+					case 225:
+					case 226:
+					case 227:
+						{
+						alt251=2;
+						}
+						break;
+					case K_BETWEEN:
+						{
+						alt251=3;
+						}
+						break;
+					default:
+						if (state.backtracking>0) {state.failed=true; return;}
+						NoViableAltException nvae =
+							new NoViableAltException("", 251, 0, input);
+						throw nvae;
+					}
+					switch (alt251) {
+						case 1 :
+							// Parser.g:1816:11: rt= inOperator inValue= multiColumnInValues
+							{
+							pushFollow(FOLLOW_inOperator_in_relation13990);
+							rt=inOperator();
+							state._fsp--;
+							if (state.failed) return;
+							pushFollow(FOLLOW_multiColumnInValues_in_relation13994);
+							inValue=multiColumnInValues();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.multiColumn(ids, rt, inValue)); }
+							}
+							break;
+						case 2 :
+							// Parser.g:1817:11: type= relationType v= multiColumnValue
+							{
+							pushFollow(FOLLOW_relationType_in_relation14010);
+							type=relationType();
+							state._fsp--;
+							if (state.failed) return;
+							pushFollow(FOLLOW_multiColumnValue_in_relation14014);
+							v=multiColumnValue();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) {clauses.add(Relation.multiColumn(ids, type, v)); }
+							}
+							break;
+						case 3 :
+							// Parser.g:1818:11: K_BETWEEN t1= multiColumnValue K_AND t2= multiColumnValue
+							{
+							match(input,K_BETWEEN,FOLLOW_K_BETWEEN_in_relation14028); if (state.failed) return;
+							pushFollow(FOLLOW_multiColumnValue_in_relation14032);
+							t1=multiColumnValue();
+							state._fsp--;
+							if (state.failed) return;
+							match(input,K_AND,FOLLOW_K_AND_in_relation14034); if (state.failed) return;
+							pushFollow(FOLLOW_multiColumnValue_in_relation14038);
+							t2=multiColumnValue();
+							state._fsp--;
+							if (state.failed) return;
+							if ( state.backtracking==0 ) { clauses.add(Relation.multiColumn(ids, Operator.BETWEEN, Terms.Raw.of(List.of(t1, t2)))); }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 5 :
+					// Parser.g:1820:7: '(' relation[$clauses] ')'
+					{
+					match(input,212,FOLLOW_212_in_relation14058); if (state.failed) return;
+					pushFollow(FOLLOW_relation_in_relation14060);
+					relation(clauses);
+					state._fsp--;
+					if (state.failed) return;
+					match(input,213,FOLLOW_213_in_relation14063); if (state.failed) return;
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "relation"
+
+
+
+	// $ANTLR start "containsOperator"
+	// Parser.g:1823:1: containsOperator returns [Operator o] : ( K_CONTAINS ( K_KEY )? | K_NOT K_CONTAINS ( K_KEY )? );
+	public final Operator containsOperator() throws RecognitionException {
+		Operator o = null;
+
+
+		try {
+			// Parser.g:1824:5: ( K_CONTAINS ( K_KEY )? | K_NOT K_CONTAINS ( K_KEY )? )
+			int alt255=2;
+			int LA255_0 = input.LA(1);
+			if ( (LA255_0==K_CONTAINS) ) {
+				alt255=1;
+			}
+			else if ( (LA255_0==K_NOT) ) {
+				alt255=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return o;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 255, 0, input);
+				throw nvae;
+			}
+
+			switch (alt255) {
+				case 1 :
+					// Parser.g:1824:7: K_CONTAINS ( K_KEY )?
+					{
+					match(input,K_CONTAINS,FOLLOW_K_CONTAINS_in_containsOperator14084); if (state.failed) return o;
+					if ( state.backtracking==0 ) { o = Operator.CONTAINS; }
+					// Parser.g:1824:45: ( K_KEY )?
+					int alt253=2;
+					int LA253_0 = input.LA(1);
+					if ( (LA253_0==K_KEY) ) {
+						int LA253_1 = input.LA(2);
+						if ( (LA253_1==BOOLEAN||LA253_1==DURATION||LA253_1==FLOAT||LA253_1==HEXNUMBER||(LA253_1 >= IDENT && LA253_1 <= INTEGER)||LA253_1==K_ACCESS||(LA253_1 >= K_AGGREGATE && LA253_1 <= K_ALL)||LA253_1==K_ANN||LA253_1==K_AS||LA253_1==K_ASCII||(LA253_1 >= K_BETWEEN && LA253_1 <= K_BOOLEAN)||(LA253_1 >= K_CALLED && LA253_1 <= K_CLUSTERING)||(LA253_1 >= K_COMPACT && LA253_1 <= K_COUNTER)||(LA253_1 >= K_CUSTOM && LA253_1 <= K_DEFAULT)||(LA253_1 >= K_DISTINCT && LA253_1 <= K_DOUBLE)||LA253_1==K_DURATION||(LA253_1 >= K_EXISTS && LA253_1 <= K_FLOAT)||LA253_1==K_FROZEN||(LA253_1 >= K_FUNCTION && LA253_1 <= K_GENERATED)||(LA253_1 >= K_GROUP && LA253_1 <= K_IDENTITY)||(LA253_1 >= K_INET && LA253_1 <= K_INPUT)||(LA253_1 >= K_INT && LA253_1 <= K_INTERNALS)||(LA253_1 >= K_JSON && LA253_1 <= K_KEYS)||(LA253_1 >= K_KEYSPACES && LA253_1 <= K_LIKE)||(LA253_1 >= K_LIST && LA253_1 <= K_MASKED)||(LA253_1 >= K_MAXWRITETIME && LA253_1 <= K_MBEANS)||(LA253_1 >= K_NEGATIVE_INFINITY && LA253_1 <= K_NOLOGIN)||LA253_1==K_NOSUPERUSER||LA253_1==K_NULL||(LA253_1 >= K_ONLY && LA253_1 <= K_OPTIONS)||(LA253_1 >= K_PARTITION && LA253_1 <= K_POSITIVE_NAN)||(LA253_1 >= K_REPLACE && LA253_1 <= K_RETURNS)||(LA253_1 >= K_ROLE && LA253_1 <= K_ROLES)||LA253_1==K_SELECT_MASKED||(LA253_1 >= K_SFUNC && LA253_1 <= K_TINYINT)||(LA253_1 >= K_TOKEN && LA253_1 <= K_TRIGGER)||(LA253_1 >= K_TTL && LA253_1 <= K_TYPES)||(LA253_1 >= K_UNMASK && LA253_1 <= K_UNSET)||(LA253_1 >= K_USER && LA253_1 <= K_USERS)||(LA253_1 >= K_UUID && LA253_1 <= K_VECTOR)||LA253_1==K_WRITETIME||(LA253_1 >= QMARK && LA253_1 <= QUOTED_NAME)||LA253_1==STRING_LITERAL||LA253_1==UUID||LA253_1==212||LA253_1==217||LA253_1==221||LA253_1==228||LA253_1==232) ) {
+							alt253=1;
+						}
+					}
+					switch (alt253) {
+						case 1 :
+							// Parser.g:1824:46: K_KEY
+							{
+							match(input,K_KEY,FOLLOW_K_KEY_in_containsOperator14089); if (state.failed) return o;
+							if ( state.backtracking==0 ) { o = Operator.CONTAINS_KEY; }
+							}
+							break;
+
+					}
+
+					}
+					break;
+				case 2 :
+					// Parser.g:1825:7: K_NOT K_CONTAINS ( K_KEY )?
+					{
+					match(input,K_NOT,FOLLOW_K_NOT_in_containsOperator14101); if (state.failed) return o;
+					match(input,K_CONTAINS,FOLLOW_K_CONTAINS_in_containsOperator14103); if (state.failed) return o;
+					if ( state.backtracking==0 ) { o = Operator.NOT_CONTAINS; }
+					// Parser.g:1825:55: ( K_KEY )?
+					int alt254=2;
+					int LA254_0 = input.LA(1);
+					if ( (LA254_0==K_KEY) ) {
+						int LA254_1 = input.LA(2);
+						if ( (LA254_1==BOOLEAN||LA254_1==DURATION||LA254_1==FLOAT||LA254_1==HEXNUMBER||(LA254_1 >= IDENT && LA254_1 <= INTEGER)||LA254_1==K_ACCESS||(LA254_1 >= K_AGGREGATE && LA254_1 <= K_ALL)||LA254_1==K_ANN||LA254_1==K_AS||LA254_1==K_ASCII||(LA254_1 >= K_BETWEEN && LA254_1 <= K_BOOLEAN)||(LA254_1 >= K_CALLED && LA254_1 <= K_CLUSTERING)||(LA254_1 >= K_COMPACT && LA254_1 <= K_COUNTER)||(LA254_1 >= K_CUSTOM && LA254_1 <= K_DEFAULT)||(LA254_1 >= K_DISTINCT && LA254_1 <= K_DOUBLE)||LA254_1==K_DURATION||(LA254_1 >= K_EXISTS && LA254_1 <= K_FLOAT)||LA254_1==K_FROZEN||(LA254_1 >= K_FUNCTION && LA254_1 <= K_GENERATED)||(LA254_1 >= K_GROUP && LA254_1 <= K_IDENTITY)||(LA254_1 >= K_INET && LA254_1 <= K_INPUT)||(LA254_1 >= K_INT && LA254_1 <= K_INTERNALS)||(LA254_1 >= K_JSON && LA254_1 <= K_KEYS)||(LA254_1 >= K_KEYSPACES && LA254_1 <= K_LIKE)||(LA254_1 >= K_LIST && LA254_1 <= K_MASKED)||(LA254_1 >= K_MAXWRITETIME && LA254_1 <= K_MBEANS)||(LA254_1 >= K_NEGATIVE_INFINITY && LA254_1 <= K_NOLOGIN)||LA254_1==K_NOSUPERUSER||LA254_1==K_NULL||(LA254_1 >= K_ONLY && LA254_1 <= K_OPTIONS)||(LA254_1 >= K_PARTITION && LA254_1 <= K_POSITIVE_NAN)||(LA254_1 >= K_REPLACE && LA254_1 <= K_RETURNS)||(LA254_1 >= K_ROLE && LA254_1 <= K_ROLES)||LA254_1==K_SELECT_MASKED||(LA254_1 >= K_SFUNC && LA254_1 <= K_TINYINT)||(LA254_1 >= K_TOKEN && LA254_1 <= K_TRIGGER)||(LA254_1 >= K_TTL && LA254_1 <= K_TYPES)||(LA254_1 >= K_UNMASK && LA254_1 <= K_UNSET)||(LA254_1 >= K_USER && LA254_1 <= K_USERS)||(LA254_1 >= K_UUID && LA254_1 <= K_VECTOR)||LA254_1==K_WRITETIME||(LA254_1 >= QMARK && LA254_1 <= QUOTED_NAME)||LA254_1==STRING_LITERAL||LA254_1==UUID||LA254_1==212||LA254_1==217||LA254_1==221||LA254_1==228||LA254_1==232) ) {
+							alt254=1;
+						}
+					}
+					switch (alt254) {
+						case 1 :
+							// Parser.g:1825:56: K_KEY
+							{
+							match(input,K_KEY,FOLLOW_K_KEY_in_containsOperator14108); if (state.failed) return o;
+							if ( state.backtracking==0 ) { o = Operator.NOT_CONTAINS_KEY; }
+							}
+							break;
+
+					}
+
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return o;
+	}
+	// $ANTLR end "containsOperator"
+
+
+
+	// $ANTLR start "inOperator"
+	// Parser.g:1828:1: inOperator returns [Operator o] : ( K_IN | K_NOT K_IN );
+	public final Operator inOperator() throws RecognitionException {
+		Operator o = null;
+
+
+		try {
+			// Parser.g:1829:5: ( K_IN | K_NOT K_IN )
+			int alt256=2;
+			int LA256_0 = input.LA(1);
+			if ( (LA256_0==K_IN) ) {
+				alt256=1;
+			}
+			else if ( (LA256_0==K_NOT) ) {
+				alt256=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return o;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 256, 0, input);
+				throw nvae;
+			}
+
+			switch (alt256) {
+				case 1 :
+					// Parser.g:1829:7: K_IN
+					{
+					match(input,K_IN,FOLLOW_K_IN_in_inOperator14133); if (state.failed) return o;
+					if ( state.backtracking==0 ) { o = Operator.IN; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1830:7: K_NOT K_IN
+					{
+					match(input,K_NOT,FOLLOW_K_NOT_in_inOperator14143); if (state.failed) return o;
+					match(input,K_IN,FOLLOW_K_IN_in_inOperator14145); if (state.failed) return o;
+					if ( state.backtracking==0 ) { o = Operator.NOT_IN; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return o;
+	}
+	// $ANTLR end "inOperator"
+
+
+
+	// $ANTLR start "inMarker"
+	// Parser.g:1833:1: inMarker returns [Terms.Raw marker] : ( QMARK | ':' name= noncol_ident );
+	public final Terms.Raw inMarker() throws RecognitionException {
+		Terms.Raw marker = null;
+
+
+		ColumnIdentifier name =null;
+
+		try {
+			// Parser.g:1834:5: ( QMARK | ':' name= noncol_ident )
+			int alt257=2;
+			int LA257_0 = input.LA(1);
+			if ( (LA257_0==QMARK) ) {
+				alt257=1;
+			}
+			else if ( (LA257_0==221) ) {
+				alt257=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return marker;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 257, 0, input);
+				throw nvae;
+			}
+
+			switch (alt257) {
+				case 1 :
+					// Parser.g:1834:7: QMARK
+					{
+					match(input,QMARK,FOLLOW_QMARK_in_inMarker14168); if (state.failed) return marker;
+					if ( state.backtracking==0 ) { marker = newINBindVariables(null); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1835:7: ':' name= noncol_ident
+					{
+					match(input,221,FOLLOW_221_in_inMarker14178); if (state.failed) return marker;
+					pushFollow(FOLLOW_noncol_ident_in_inMarker14182);
+					name=noncol_ident();
+					state._fsp--;
+					if (state.failed) return marker;
+					if ( state.backtracking==0 ) { marker = newINBindVariables(name); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return marker;
+	}
+	// $ANTLR end "inMarker"
+
+
+
+	// $ANTLR start "tupleOfIdentifiers"
+	// Parser.g:1838:1: tupleOfIdentifiers returns [List<ColumnIdentifier> ids] : '(' n1= cident ( ',' ni= cident )* ')' ;
+	public final List<ColumnIdentifier> tupleOfIdentifiers() throws RecognitionException {
+		List<ColumnIdentifier> ids = null;
+
+
+		ColumnIdentifier n1 =null;
+		ColumnIdentifier ni =null;
+
+		 ids = new ArrayList<ColumnIdentifier>(); 
+		try {
+			// Parser.g:1840:5: ( '(' n1= cident ( ',' ni= cident )* ')' )
+			// Parser.g:1840:7: '(' n1= cident ( ',' ni= cident )* ')'
+			{
+			match(input,212,FOLLOW_212_in_tupleOfIdentifiers14214); if (state.failed) return ids;
+			pushFollow(FOLLOW_cident_in_tupleOfIdentifiers14218);
+			n1=cident();
+			state._fsp--;
+			if (state.failed) return ids;
+			if ( state.backtracking==0 ) { ids.add(n1); }
+			// Parser.g:1840:39: ( ',' ni= cident )*
+			loop258:
+			while (true) {
+				int alt258=2;
+				int LA258_0 = input.LA(1);
+				if ( (LA258_0==216) ) {
+					alt258=1;
+				}
+
+				switch (alt258) {
+				case 1 :
+					// Parser.g:1840:40: ',' ni= cident
+					{
+					match(input,216,FOLLOW_216_in_tupleOfIdentifiers14223); if (state.failed) return ids;
+					pushFollow(FOLLOW_cident_in_tupleOfIdentifiers14227);
+					ni=cident();
+					state._fsp--;
+					if (state.failed) return ids;
+					if ( state.backtracking==0 ) { ids.add(ni); }
+					}
+					break;
+
+				default :
+					break loop258;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_tupleOfIdentifiers14233); if (state.failed) return ids;
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return ids;
+	}
+	// $ANTLR end "tupleOfIdentifiers"
+
+
+
+	// $ANTLR start "singleColumnInValues"
+	// Parser.g:1843:1: singleColumnInValues returns [Terms.Raw terms] : (t= terms |m= inMarker );
+	public final Terms.Raw singleColumnInValues() throws RecognitionException {
+		Terms.Raw terms = null;
+
+
+		Terms.Raw t =null;
+		Terms.Raw m =null;
+
+		try {
+			// Parser.g:1844:5: (t= terms |m= inMarker )
+			int alt259=2;
+			int LA259_0 = input.LA(1);
+			if ( (LA259_0==212) ) {
+				alt259=1;
+			}
+			else if ( (LA259_0==QMARK||LA259_0==221) ) {
+				alt259=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return terms;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 259, 0, input);
+				throw nvae;
+			}
+
+			switch (alt259) {
+				case 1 :
+					// Parser.g:1844:7: t= terms
+					{
+					pushFollow(FOLLOW_terms_in_singleColumnInValues14256);
+					t=terms();
+					state._fsp--;
+					if (state.failed) return terms;
+					if ( state.backtracking==0 ) { terms = t;}
+					}
+					break;
+				case 2 :
+					// Parser.g:1845:7: m= inMarker
+					{
+					pushFollow(FOLLOW_inMarker_in_singleColumnInValues14272);
+					m=inMarker();
+					state._fsp--;
+					if (state.failed) return terms;
+					if ( state.backtracking==0 ) { terms = m;}
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return terms;
+	}
+	// $ANTLR end "singleColumnInValues"
+
+
+
+	// $ANTLR start "terms"
+	// Parser.g:1848:1: terms returns [Terms.Raw terms] : '(' (t1= term ( ',' ti= term )* )? ')' ;
+	public final Terms.Raw terms() throws RecognitionException {
+		Terms.Raw terms = null;
+
+
+		Term.Raw t1 =null;
+		Term.Raw ti =null;
+
+		 List<Term.Raw> list = new ArrayList<>(); 
+		try {
+			// Parser.g:1851:5: ( '(' (t1= term ( ',' ti= term )* )? ')' )
+			// Parser.g:1851:7: '(' (t1= term ( ',' ti= term )* )? ')'
+			{
+			match(input,212,FOLLOW_212_in_terms14314); if (state.failed) return terms;
+			// Parser.g:1851:11: (t1= term ( ',' ti= term )* )?
+			int alt261=2;
+			int LA261_0 = input.LA(1);
+			if ( (LA261_0==BOOLEAN||LA261_0==DURATION||LA261_0==FLOAT||LA261_0==HEXNUMBER||(LA261_0 >= IDENT && LA261_0 <= INTEGER)||LA261_0==K_ACCESS||(LA261_0 >= K_AGGREGATE && LA261_0 <= K_ALL)||LA261_0==K_ANN||LA261_0==K_AS||LA261_0==K_ASCII||(LA261_0 >= K_BETWEEN && LA261_0 <= K_BOOLEAN)||(LA261_0 >= K_CALLED && LA261_0 <= K_CLUSTERING)||(LA261_0 >= K_COMPACT && LA261_0 <= K_COUNTER)||(LA261_0 >= K_CUSTOM && LA261_0 <= K_DEFAULT)||(LA261_0 >= K_DISTINCT && LA261_0 <= K_DOUBLE)||LA261_0==K_DURATION||(LA261_0 >= K_EXISTS && LA261_0 <= K_FLOAT)||LA261_0==K_FROZEN||(LA261_0 >= K_FUNCTION && LA261_0 <= K_GENERATED)||(LA261_0 >= K_GROUP && LA261_0 <= K_IDENTITY)||(LA261_0 >= K_INET && LA261_0 <= K_INPUT)||(LA261_0 >= K_INT && LA261_0 <= K_INTERNALS)||(LA261_0 >= K_JSON && LA261_0 <= K_KEYS)||(LA261_0 >= K_KEYSPACES && LA261_0 <= K_LIKE)||(LA261_0 >= K_LIST && LA261_0 <= K_MASKED)||(LA261_0 >= K_MAXWRITETIME && LA261_0 <= K_MBEANS)||(LA261_0 >= K_NEGATIVE_INFINITY && LA261_0 <= K_NOLOGIN)||LA261_0==K_NOSUPERUSER||LA261_0==K_NULL||(LA261_0 >= K_ONLY && LA261_0 <= K_OPTIONS)||(LA261_0 >= K_PARTITION && LA261_0 <= K_POSITIVE_NAN)||(LA261_0 >= K_REPLACE && LA261_0 <= K_RETURNS)||(LA261_0 >= K_ROLE && LA261_0 <= K_ROLES)||LA261_0==K_SELECT_MASKED||(LA261_0 >= K_SFUNC && LA261_0 <= K_TINYINT)||(LA261_0 >= K_TOKEN && LA261_0 <= K_TRIGGER)||(LA261_0 >= K_TTL && LA261_0 <= K_TYPES)||(LA261_0 >= K_UNMASK && LA261_0 <= K_UNSET)||(LA261_0 >= K_USER && LA261_0 <= K_USERS)||(LA261_0 >= K_UUID && LA261_0 <= K_VECTOR)||LA261_0==K_WRITETIME||(LA261_0 >= QMARK && LA261_0 <= QUOTED_NAME)||LA261_0==STRING_LITERAL||LA261_0==UUID||LA261_0==212||LA261_0==217||LA261_0==221||LA261_0==228||LA261_0==232) ) {
+				alt261=1;
+			}
+			switch (alt261) {
+				case 1 :
+					// Parser.g:1851:13: t1= term ( ',' ti= term )*
+					{
+					pushFollow(FOLLOW_term_in_terms14322);
+					t1=term();
+					state._fsp--;
+					if (state.failed) return terms;
+					if ( state.backtracking==0 ) { list.add(t1); }
+					// Parser.g:1851:41: ( ',' ti= term )*
+					loop260:
+					while (true) {
+						int alt260=2;
+						int LA260_0 = input.LA(1);
+						if ( (LA260_0==216) ) {
+							alt260=1;
+						}
+
+						switch (alt260) {
+						case 1 :
+							// Parser.g:1851:42: ',' ti= term
+							{
+							match(input,216,FOLLOW_216_in_terms14327); if (state.failed) return terms;
+							pushFollow(FOLLOW_term_in_terms14331);
+							ti=term();
+							state._fsp--;
+							if (state.failed) return terms;
+							if ( state.backtracking==0 ) { list.add(ti); }
+							}
+							break;
+
+						default :
+							break loop260;
+						}
+					}
+
+					}
+					break;
+
+			}
+
+			match(input,213,FOLLOW_213_in_terms14340); if (state.failed) return terms;
+			}
+
+			if ( state.backtracking==0 ) { terms = Terms.Raw.of(list); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return terms;
+	}
+	// $ANTLR end "terms"
+
+
+
+	// $ANTLR start "multiColumnValue"
+	// Parser.g:1854:1: multiColumnValue returns [Term.Raw term] : (l= tupleLiteral |m= marker );
+	public final Term.Raw multiColumnValue() throws RecognitionException {
+		Term.Raw term = null;
+
+
+		Tuples.Literal l =null;
+		Term.Raw m =null;
+
+		try {
+			// Parser.g:1855:5: (l= tupleLiteral |m= marker )
+			int alt262=2;
+			int LA262_0 = input.LA(1);
+			if ( (LA262_0==212) ) {
+				alt262=1;
+			}
+			else if ( (LA262_0==QMARK||LA262_0==221) ) {
+				alt262=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return term;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 262, 0, input);
+				throw nvae;
+			}
+
+			switch (alt262) {
+				case 1 :
+					// Parser.g:1855:7: l= tupleLiteral
+					{
+					pushFollow(FOLLOW_tupleLiteral_in_multiColumnValue14363);
+					l=tupleLiteral();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = l; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1856:7: m= marker
+					{
+					pushFollow(FOLLOW_marker_in_multiColumnValue14377);
+					m=marker();
+					state._fsp--;
+					if (state.failed) return term;
+					if ( state.backtracking==0 ) { term = m; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return term;
+	}
+	// $ANTLR end "multiColumnValue"
+
+
+
+	// $ANTLR start "multiColumnInValues"
+	// Parser.g:1859:1: multiColumnInValues returns [Terms.Raw terms] : ( '(' ')' |m= inMarker |tl= tupleOfTupleLiterals |tm= tupleOfMarkersForTuples );
+	public final Terms.Raw multiColumnInValues() throws RecognitionException {
+		Terms.Raw terms = null;
+
+
+		Terms.Raw m =null;
+		Terms.Raw tl =null;
+		Terms.Raw tm =null;
+
+		try {
+			// Parser.g:1860:5: ( '(' ')' |m= inMarker |tl= tupleOfTupleLiterals |tm= tupleOfMarkersForTuples )
+			int alt263=4;
+			int LA263_0 = input.LA(1);
+			if ( (LA263_0==212) ) {
+				switch ( input.LA(2) ) {
+				case 213:
+					{
+					alt263=1;
+					}
+					break;
+				case 212:
+					{
+					alt263=3;
+					}
+					break;
+				case QMARK:
+				case 221:
+					{
+					alt263=4;
+					}
+					break;
+				default:
+					if (state.backtracking>0) {state.failed=true; return terms;}
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 263, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+			}
+			else if ( (LA263_0==QMARK||LA263_0==221) ) {
+				alt263=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return terms;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 263, 0, input);
+				throw nvae;
+			}
+
+			switch (alt263) {
+				case 1 :
+					// Parser.g:1860:7: '(' ')'
+					{
+					match(input,212,FOLLOW_212_in_multiColumnInValues14408); if (state.failed) return terms;
+					match(input,213,FOLLOW_213_in_multiColumnInValues14410); if (state.failed) return terms;
+					if ( state.backtracking==0 ) { terms = Terms.Raw.of();}
+					}
+					break;
+				case 2 :
+					// Parser.g:1861:7: m= inMarker
+					{
+					pushFollow(FOLLOW_inMarker_in_multiColumnInValues14444);
+					m=inMarker();
+					state._fsp--;
+					if (state.failed) return terms;
+					if ( state.backtracking==0 ) { terms = m; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1862:7: tl= tupleOfTupleLiterals
+					{
+					pushFollow(FOLLOW_tupleOfTupleLiterals_in_multiColumnInValues14487);
+					tl=tupleOfTupleLiterals();
+					state._fsp--;
+					if (state.failed) return terms;
+					if ( state.backtracking==0 ) { terms = tl; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1863:7: tm= tupleOfMarkersForTuples
+					{
+					pushFollow(FOLLOW_tupleOfMarkersForTuples_in_multiColumnInValues14516);
+					tm=tupleOfMarkersForTuples();
+					state._fsp--;
+					if (state.failed) return terms;
+					if ( state.backtracking==0 ) { terms = tm; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return terms;
+	}
+	// $ANTLR end "multiColumnInValues"
+
+
+
+	// $ANTLR start "tupleOfTupleLiterals"
+	// Parser.g:1866:1: tupleOfTupleLiterals returns [Terms.Raw literals] : '(' t1= tupleLiteral ( ',' ti= tupleLiteral )* ')' ;
+	public final Terms.Raw tupleOfTupleLiterals() throws RecognitionException {
+		Terms.Raw literals = null;
+
+
+		Tuples.Literal t1 =null;
+		Tuples.Literal ti =null;
+
+		 List<Term.Raw> list = new ArrayList<>(); 
+		try {
+			// Parser.g:1869:5: ( '(' t1= tupleLiteral ( ',' ti= tupleLiteral )* ')' )
+			// Parser.g:1869:7: '(' t1= tupleLiteral ( ',' ti= tupleLiteral )* ')'
+			{
+			match(input,212,FOLLOW_212_in_tupleOfTupleLiterals14571); if (state.failed) return literals;
+			pushFollow(FOLLOW_tupleLiteral_in_tupleOfTupleLiterals14575);
+			t1=tupleLiteral();
+			state._fsp--;
+			if (state.failed) return literals;
+			if ( state.backtracking==0 ) { list.add(t1); }
+			// Parser.g:1869:45: ( ',' ti= tupleLiteral )*
+			loop264:
+			while (true) {
+				int alt264=2;
+				int LA264_0 = input.LA(1);
+				if ( (LA264_0==216) ) {
+					alt264=1;
+				}
+
+				switch (alt264) {
+				case 1 :
+					// Parser.g:1869:46: ',' ti= tupleLiteral
+					{
+					match(input,216,FOLLOW_216_in_tupleOfTupleLiterals14580); if (state.failed) return literals;
+					pushFollow(FOLLOW_tupleLiteral_in_tupleOfTupleLiterals14584);
+					ti=tupleLiteral();
+					state._fsp--;
+					if (state.failed) return literals;
+					if ( state.backtracking==0 ) { list.add(ti); }
+					}
+					break;
+
+				default :
+					break loop264;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_tupleOfTupleLiterals14590); if (state.failed) return literals;
+			}
+
+			if ( state.backtracking==0 ) { literals = Terms.Raw.of(list); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return literals;
+	}
+	// $ANTLR end "tupleOfTupleLiterals"
+
+
+
+	// $ANTLR start "tupleOfMarkersForTuples"
+	// Parser.g:1872:1: tupleOfMarkersForTuples returns [Terms.Raw markers] : '(' m1= marker ( ',' mi= marker )* ')' ;
+	public final Terms.Raw tupleOfMarkersForTuples() throws RecognitionException {
+		Terms.Raw markers = null;
+
+
+		Term.Raw m1 =null;
+		Term.Raw mi =null;
+
+		 List<Term.Raw> list = new ArrayList<>(); 
+		try {
+			// Parser.g:1875:5: ( '(' m1= marker ( ',' mi= marker )* ')' )
+			// Parser.g:1875:7: '(' m1= marker ( ',' mi= marker )* ')'
+			{
+			match(input,212,FOLLOW_212_in_tupleOfMarkersForTuples14629); if (state.failed) return markers;
+			pushFollow(FOLLOW_marker_in_tupleOfMarkersForTuples14633);
+			m1=marker();
+			state._fsp--;
+			if (state.failed) return markers;
+			if ( state.backtracking==0 ) { list.add(m1); }
+			// Parser.g:1875:39: ( ',' mi= marker )*
+			loop265:
+			while (true) {
+				int alt265=2;
+				int LA265_0 = input.LA(1);
+				if ( (LA265_0==216) ) {
+					alt265=1;
+				}
+
+				switch (alt265) {
+				case 1 :
+					// Parser.g:1875:40: ',' mi= marker
+					{
+					match(input,216,FOLLOW_216_in_tupleOfMarkersForTuples14638); if (state.failed) return markers;
+					pushFollow(FOLLOW_marker_in_tupleOfMarkersForTuples14642);
+					mi=marker();
+					state._fsp--;
+					if (state.failed) return markers;
+					if ( state.backtracking==0 ) { list.add(mi); }
+					}
+					break;
+
+				default :
+					break loop265;
+				}
+			}
+
+			match(input,213,FOLLOW_213_in_tupleOfMarkersForTuples14648); if (state.failed) return markers;
+			}
+
+			if ( state.backtracking==0 ) { markers = Terms.Raw.of(list); }
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return markers;
+	}
+	// $ANTLR end "tupleOfMarkersForTuples"
+
+
+
+	// $ANTLR start "comparatorType"
+	// Parser.g:1878:1: comparatorType returns [CQL3Type.Raw t] : (n= native_type |c= collection_type |tt= tuple_type |vc= vector_type |id= userTypeName | K_FROZEN '<' f= comparatorType '>' |s= STRING_LITERAL );
+	public final CQL3Type.Raw comparatorType() throws RecognitionException {
+		CQL3Type.Raw t = null;
+
+
+		Token s=null;
+		CQL3Type n =null;
+		CQL3Type.Raw c =null;
+		CQL3Type.Raw tt =null;
+		CQL3Type.Raw vc =null;
+		UTName id =null;
+		CQL3Type.Raw f =null;
+
+		try {
+			// Parser.g:1879:5: (n= native_type |c= collection_type |tt= tuple_type |vc= vector_type |id= userTypeName | K_FROZEN '<' f= comparatorType '>' |s= STRING_LITERAL )
+			int alt266=7;
+			alt266 = dfa266.predict(input);
+			switch (alt266) {
+				case 1 :
+					// Parser.g:1879:7: n= native_type
+					{
+					pushFollow(FOLLOW_native_type_in_comparatorType14671);
+					n=native_type();
+					state._fsp--;
+					if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Raw.from(n); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1880:7: c= collection_type
+					{
+					pushFollow(FOLLOW_collection_type_in_comparatorType14687);
+					c=collection_type();
+					state._fsp--;
+					if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = c; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1881:7: tt= tuple_type
+					{
+					pushFollow(FOLLOW_tuple_type_in_comparatorType14699);
+					tt=tuple_type();
+					state._fsp--;
+					if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = tt; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1882:7: vc= vector_type
+					{
+					pushFollow(FOLLOW_vector_type_in_comparatorType14715);
+					vc=vector_type();
+					state._fsp--;
+					if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = vc; }
+					}
+					break;
+				case 5 :
+					// Parser.g:1883:7: id= userTypeName
+					{
+					pushFollow(FOLLOW_userTypeName_in_comparatorType14730);
+					id=userTypeName();
+					state._fsp--;
+					if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Raw.userType(id); }
+					}
+					break;
+				case 6 :
+					// Parser.g:1884:7: K_FROZEN '<' f= comparatorType '>'
+					{
+					match(input,K_FROZEN,FOLLOW_K_FROZEN_in_comparatorType14742); if (state.failed) return t;
+					match(input,223,FOLLOW_223_in_comparatorType14744); if (state.failed) return t;
+					pushFollow(FOLLOW_comparatorType_in_comparatorType14748);
+					f=comparatorType();
+					state._fsp--;
+					if (state.failed) return t;
+					match(input,226,FOLLOW_226_in_comparatorType14750); if (state.failed) return t;
+					if ( state.backtracking==0 ) {
+					        try {
+					            t = f.freeze();
+					        } catch (InvalidRequestException e) {
+					            addRecognitionError(e.getMessage());
+					        }
+					      }
+					}
+					break;
+				case 7 :
+					// Parser.g:1892:7: s= STRING_LITERAL
+					{
+					s=(Token)match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_comparatorType14768); if (state.failed) return t;
+					if ( state.backtracking==0 ) {
+					        try {
+					            t = CQL3Type.Raw.from(new CQL3Type.Custom((s!=null?s.getText():null)));
+					        } catch (SyntaxException e) {
+					            addRecognitionError("Cannot parse type " + (s!=null?s.getText():null) + ": " + e.getMessage());
+					        } catch (ConfigurationException e) {
+					            addRecognitionError("Error setting type " + (s!=null?s.getText():null) + ": " + e.getMessage());
+					        }
+					      }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return t;
+	}
+	// $ANTLR end "comparatorType"
+
+
+
+	// $ANTLR start "native_type"
+	// Parser.g:1904:1: native_type returns [CQL3Type t] : ( K_ASCII | K_BIGINT | K_BLOB | K_BOOLEAN | K_COUNTER | K_DECIMAL | K_DOUBLE | K_DURATION | K_FLOAT | K_INET | K_INT | K_SMALLINT | K_TEXT | K_TIMESTAMP | K_TINYINT | K_UUID | K_VARCHAR | K_VARINT | K_TIMEUUID | K_DATE | K_TIME );
+	public final CQL3Type native_type() throws RecognitionException {
+		CQL3Type t = null;
+
+
+		try {
+			// Parser.g:1905:5: ( K_ASCII | K_BIGINT | K_BLOB | K_BOOLEAN | K_COUNTER | K_DECIMAL | K_DOUBLE | K_DURATION | K_FLOAT | K_INET | K_INT | K_SMALLINT | K_TEXT | K_TIMESTAMP | K_TINYINT | K_UUID | K_VARCHAR | K_VARINT | K_TIMEUUID | K_DATE | K_TIME )
+			int alt267=21;
+			switch ( input.LA(1) ) {
+			case K_ASCII:
+				{
+				alt267=1;
+				}
+				break;
+			case K_BIGINT:
+				{
+				alt267=2;
+				}
+				break;
+			case K_BLOB:
+				{
+				alt267=3;
+				}
+				break;
+			case K_BOOLEAN:
+				{
+				alt267=4;
+				}
+				break;
+			case K_COUNTER:
+				{
+				alt267=5;
+				}
+				break;
+			case K_DECIMAL:
+				{
+				alt267=6;
+				}
+				break;
+			case K_DOUBLE:
+				{
+				alt267=7;
+				}
+				break;
+			case K_DURATION:
+				{
+				alt267=8;
+				}
+				break;
+			case K_FLOAT:
+				{
+				alt267=9;
+				}
+				break;
+			case K_INET:
+				{
+				alt267=10;
+				}
+				break;
+			case K_INT:
+				{
+				alt267=11;
+				}
+				break;
+			case K_SMALLINT:
+				{
+				alt267=12;
+				}
+				break;
+			case K_TEXT:
+				{
+				alt267=13;
+				}
+				break;
+			case K_TIMESTAMP:
+				{
+				alt267=14;
+				}
+				break;
+			case K_TINYINT:
+				{
+				alt267=15;
+				}
+				break;
+			case K_UUID:
+				{
+				alt267=16;
+				}
+				break;
+			case K_VARCHAR:
+				{
+				alt267=17;
+				}
+				break;
+			case K_VARINT:
+				{
+				alt267=18;
+				}
+				break;
+			case K_TIMEUUID:
+				{
+				alt267=19;
+				}
+				break;
+			case K_DATE:
+				{
+				alt267=20;
+				}
+				break;
+			case K_TIME:
+				{
+				alt267=21;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return t;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 267, 0, input);
+				throw nvae;
+			}
+			switch (alt267) {
+				case 1 :
+					// Parser.g:1905:7: K_ASCII
+					{
+					match(input,K_ASCII,FOLLOW_K_ASCII_in_native_type14797); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.ASCII; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1906:7: K_BIGINT
+					{
+					match(input,K_BIGINT,FOLLOW_K_BIGINT_in_native_type14811); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.BIGINT; }
+					}
+					break;
+				case 3 :
+					// Parser.g:1907:7: K_BLOB
+					{
+					match(input,K_BLOB,FOLLOW_K_BLOB_in_native_type14824); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.BLOB; }
+					}
+					break;
+				case 4 :
+					// Parser.g:1908:7: K_BOOLEAN
+					{
+					match(input,K_BOOLEAN,FOLLOW_K_BOOLEAN_in_native_type14839); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.BOOLEAN; }
+					}
+					break;
+				case 5 :
+					// Parser.g:1909:7: K_COUNTER
+					{
+					match(input,K_COUNTER,FOLLOW_K_COUNTER_in_native_type14851); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.COUNTER; }
+					}
+					break;
+				case 6 :
+					// Parser.g:1910:7: K_DECIMAL
+					{
+					match(input,K_DECIMAL,FOLLOW_K_DECIMAL_in_native_type14863); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.DECIMAL; }
+					}
+					break;
+				case 7 :
+					// Parser.g:1911:7: K_DOUBLE
+					{
+					match(input,K_DOUBLE,FOLLOW_K_DOUBLE_in_native_type14875); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.DOUBLE; }
+					}
+					break;
+				case 8 :
+					// Parser.g:1912:7: K_DURATION
+					{
+					match(input,K_DURATION,FOLLOW_K_DURATION_in_native_type14888); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.DURATION; }
+					}
+					break;
+				case 9 :
+					// Parser.g:1913:7: K_FLOAT
+					{
+					match(input,K_FLOAT,FOLLOW_K_FLOAT_in_native_type14899); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.FLOAT; }
+					}
+					break;
+				case 10 :
+					// Parser.g:1914:7: K_INET
+					{
+					match(input,K_INET,FOLLOW_K_INET_in_native_type14913); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.INET;}
+					}
+					break;
+				case 11 :
+					// Parser.g:1915:7: K_INT
+					{
+					match(input,K_INT,FOLLOW_K_INT_in_native_type14928); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.INT; }
+					}
+					break;
+				case 12 :
+					// Parser.g:1916:7: K_SMALLINT
+					{
+					match(input,K_SMALLINT,FOLLOW_K_SMALLINT_in_native_type14944); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.SMALLINT; }
+					}
+					break;
+				case 13 :
+					// Parser.g:1917:7: K_TEXT
+					{
+					match(input,K_TEXT,FOLLOW_K_TEXT_in_native_type14955); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.TEXT; }
+					}
+					break;
+				case 14 :
+					// Parser.g:1918:7: K_TIMESTAMP
+					{
+					match(input,K_TIMESTAMP,FOLLOW_K_TIMESTAMP_in_native_type14970); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.TIMESTAMP; }
+					}
+					break;
+				case 15 :
+					// Parser.g:1919:7: K_TINYINT
+					{
+					match(input,K_TINYINT,FOLLOW_K_TINYINT_in_native_type14980); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.TINYINT; }
+					}
+					break;
+				case 16 :
+					// Parser.g:1920:7: K_UUID
+					{
+					match(input,K_UUID,FOLLOW_K_UUID_in_native_type14992); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.UUID; }
+					}
+					break;
+				case 17 :
+					// Parser.g:1921:7: K_VARCHAR
+					{
+					match(input,K_VARCHAR,FOLLOW_K_VARCHAR_in_native_type15007); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.VARCHAR; }
+					}
+					break;
+				case 18 :
+					// Parser.g:1922:7: K_VARINT
+					{
+					match(input,K_VARINT,FOLLOW_K_VARINT_in_native_type15019); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.VARINT; }
+					}
+					break;
+				case 19 :
+					// Parser.g:1923:7: K_TIMEUUID
+					{
+					match(input,K_TIMEUUID,FOLLOW_K_TIMEUUID_in_native_type15032); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.TIMEUUID; }
+					}
+					break;
+				case 20 :
+					// Parser.g:1924:7: K_DATE
+					{
+					match(input,K_DATE,FOLLOW_K_DATE_in_native_type15043); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.DATE; }
+					}
+					break;
+				case 21 :
+					// Parser.g:1925:7: K_TIME
+					{
+					match(input,K_TIME,FOLLOW_K_TIME_in_native_type15058); if (state.failed) return t;
+					if ( state.backtracking==0 ) { t = CQL3Type.Native.TIME; }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return t;
+	}
+	// $ANTLR end "native_type"
+
+
+
+	// $ANTLR start "collection_type"
+	// Parser.g:1928:1: collection_type returns [CQL3Type.Raw pt] : ( K_MAP '<' t1= comparatorType ',' t2= comparatorType '>' | K_LIST '<' t= comparatorType '>' | K_SET '<' t= comparatorType '>' );
+	public final CQL3Type.Raw collection_type() throws RecognitionException {
+		CQL3Type.Raw pt = null;
+
+
+		CQL3Type.Raw t1 =null;
+		CQL3Type.Raw t2 =null;
+		CQL3Type.Raw t =null;
+
+		try {
+			// Parser.g:1929:5: ( K_MAP '<' t1= comparatorType ',' t2= comparatorType '>' | K_LIST '<' t= comparatorType '>' | K_SET '<' t= comparatorType '>' )
+			int alt268=3;
+			switch ( input.LA(1) ) {
+			case K_MAP:
+				{
+				alt268=1;
+				}
+				break;
+			case K_LIST:
+				{
+				alt268=2;
+				}
+				break;
+			case K_SET:
+				{
+				alt268=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return pt;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 268, 0, input);
+				throw nvae;
+			}
+			switch (alt268) {
+				case 1 :
+					// Parser.g:1929:7: K_MAP '<' t1= comparatorType ',' t2= comparatorType '>'
+					{
+					match(input,K_MAP,FOLLOW_K_MAP_in_collection_type15086); if (state.failed) return pt;
+					match(input,223,FOLLOW_223_in_collection_type15089); if (state.failed) return pt;
+					pushFollow(FOLLOW_comparatorType_in_collection_type15093);
+					t1=comparatorType();
+					state._fsp--;
+					if (state.failed) return pt;
+					match(input,216,FOLLOW_216_in_collection_type15095); if (state.failed) return pt;
+					pushFollow(FOLLOW_comparatorType_in_collection_type15099);
+					t2=comparatorType();
+					state._fsp--;
+					if (state.failed) return pt;
+					match(input,226,FOLLOW_226_in_collection_type15101); if (state.failed) return pt;
+					if ( state.backtracking==0 ) {
+					            // if we can't parse either t1 or t2, antlr will "recover" and we may have t1 or t2 null.
+					            if (t1 != null && t2 != null)
+					                pt = CQL3Type.Raw.map(t1, t2);
+					        }
+					}
+					break;
+				case 2 :
+					// Parser.g:1935:7: K_LIST '<' t= comparatorType '>'
+					{
+					match(input,K_LIST,FOLLOW_K_LIST_in_collection_type15119); if (state.failed) return pt;
+					match(input,223,FOLLOW_223_in_collection_type15121); if (state.failed) return pt;
+					pushFollow(FOLLOW_comparatorType_in_collection_type15125);
+					t=comparatorType();
+					state._fsp--;
+					if (state.failed) return pt;
+					match(input,226,FOLLOW_226_in_collection_type15127); if (state.failed) return pt;
+					if ( state.backtracking==0 ) { if (t != null) pt = CQL3Type.Raw.list(t); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1937:7: K_SET '<' t= comparatorType '>'
+					{
+					match(input,K_SET,FOLLOW_K_SET_in_collection_type15145); if (state.failed) return pt;
+					match(input,223,FOLLOW_223_in_collection_type15148); if (state.failed) return pt;
+					pushFollow(FOLLOW_comparatorType_in_collection_type15152);
+					t=comparatorType();
+					state._fsp--;
+					if (state.failed) return pt;
+					match(input,226,FOLLOW_226_in_collection_type15154); if (state.failed) return pt;
+					if ( state.backtracking==0 ) { if (t != null) pt = CQL3Type.Raw.set(t); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return pt;
+	}
+	// $ANTLR end "collection_type"
+
+
+
+	// $ANTLR start "tuple_type"
+	// Parser.g:1941:1: tuple_type returns [CQL3Type.Raw t] : K_TUPLE '<' t1= comparatorType ( ',' tn= comparatorType )* '>' ;
+	public final CQL3Type.Raw tuple_type() throws RecognitionException {
+		CQL3Type.Raw t = null;
+
+
+		CQL3Type.Raw t1 =null;
+		CQL3Type.Raw tn =null;
+
+		List<CQL3Type.Raw> types = new ArrayList<>();
+		try {
+			// Parser.g:1944:5: ( K_TUPLE '<' t1= comparatorType ( ',' tn= comparatorType )* '>' )
+			// Parser.g:1944:7: K_TUPLE '<' t1= comparatorType ( ',' tn= comparatorType )* '>'
+			{
+			match(input,K_TUPLE,FOLLOW_K_TUPLE_in_tuple_type15203); if (state.failed) return t;
+			match(input,223,FOLLOW_223_in_tuple_type15205); if (state.failed) return t;
+			pushFollow(FOLLOW_comparatorType_in_tuple_type15209);
+			t1=comparatorType();
+			state._fsp--;
+			if (state.failed) return t;
+			if ( state.backtracking==0 ) { types.add(t1); }
+			// Parser.g:1944:56: ( ',' tn= comparatorType )*
+			loop269:
+			while (true) {
+				int alt269=2;
+				int LA269_0 = input.LA(1);
+				if ( (LA269_0==216) ) {
+					alt269=1;
+				}
+
+				switch (alt269) {
+				case 1 :
+					// Parser.g:1944:57: ',' tn= comparatorType
+					{
+					match(input,216,FOLLOW_216_in_tuple_type15214); if (state.failed) return t;
+					pushFollow(FOLLOW_comparatorType_in_tuple_type15218);
+					tn=comparatorType();
+					state._fsp--;
+					if (state.failed) return t;
+					if ( state.backtracking==0 ) { types.add(tn); }
+					}
+					break;
+
+				default :
+					break loop269;
+				}
+			}
+
+			match(input,226,FOLLOW_226_in_tuple_type15224); if (state.failed) return t;
+			}
+
+			if ( state.backtracking==0 ) {t = CQL3Type.Raw.tuple(types);}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return t;
+	}
+	// $ANTLR end "tuple_type"
+
+
+
+	// $ANTLR start "vector_type"
+	// Parser.g:1947:1: vector_type returns [CQL3Type.Raw vt] : K_VECTOR '<' t1= comparatorType ',' d= INTEGER '>' ;
+	public final CQL3Type.Raw vector_type() throws RecognitionException {
+		CQL3Type.Raw vt = null;
+
+
+		Token d=null;
+		CQL3Type.Raw t1 =null;
+
+		try {
+			// Parser.g:1948:5: ( K_VECTOR '<' t1= comparatorType ',' d= INTEGER '>' )
+			// Parser.g:1948:7: K_VECTOR '<' t1= comparatorType ',' d= INTEGER '>'
+			{
+			match(input,K_VECTOR,FOLLOW_K_VECTOR_in_vector_type15245); if (state.failed) return vt;
+			match(input,223,FOLLOW_223_in_vector_type15247); if (state.failed) return vt;
+			pushFollow(FOLLOW_comparatorType_in_vector_type15251);
+			t1=comparatorType();
+			state._fsp--;
+			if (state.failed) return vt;
+			match(input,216,FOLLOW_216_in_vector_type15253); if (state.failed) return vt;
+			d=(Token)match(input,INTEGER,FOLLOW_INTEGER_in_vector_type15258); if (state.failed) return vt;
+			match(input,226,FOLLOW_226_in_vector_type15260); if (state.failed) return vt;
+			if ( state.backtracking==0 ) { vt = CQL3Type.Raw.vector(t1, Integer.parseInt((d!=null?d.getText():null))); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return vt;
+	}
+	// $ANTLR end "vector_type"
+
+
+	public static class username_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "username"
+	// Parser.g:1952:1: username : ( IDENT | STRING_LITERAL | QUOTED_NAME );
+	public final Cql_Parser.username_return username() throws RecognitionException {
+		Cql_Parser.username_return retval = new Cql_Parser.username_return();
+		retval.start = input.LT(1);
+
+		try {
+			// Parser.g:1953:5: ( IDENT | STRING_LITERAL | QUOTED_NAME )
+			int alt270=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt270=1;
+				}
+				break;
+			case STRING_LITERAL:
+				{
+				alt270=2;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt270=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return retval;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 270, 0, input);
+				throw nvae;
+			}
+			switch (alt270) {
+				case 1 :
+					// Parser.g:1953:7: IDENT
+					{
+					match(input,IDENT,FOLLOW_IDENT_in_username15287); if (state.failed) return retval;
+					}
+					break;
+				case 2 :
+					// Parser.g:1954:7: STRING_LITERAL
+					{
+					match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_username15295); if (state.failed) return retval;
+					}
+					break;
+				case 3 :
+					// Parser.g:1955:7: QUOTED_NAME
+					{
+					match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_username15303); if (state.failed) return retval;
+					if ( state.backtracking==0 ) { addRecognitionError("Quoted strings are are not supported for user names and USER is deprecated, please use ROLE");}
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "username"
+
+
+	public static class identity_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "identity"
+	// Parser.g:1958:1: identity : ( IDENT | STRING_LITERAL | QUOTED_NAME );
+	public final Cql_Parser.identity_return identity() throws RecognitionException {
+		Cql_Parser.identity_return retval = new Cql_Parser.identity_return();
+		retval.start = input.LT(1);
+
+		try {
+			// Parser.g:1959:5: ( IDENT | STRING_LITERAL | QUOTED_NAME )
+			int alt271=3;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt271=1;
+				}
+				break;
+			case STRING_LITERAL:
+				{
+				alt271=2;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt271=3;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return retval;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 271, 0, input);
+				throw nvae;
+			}
+			switch (alt271) {
+				case 1 :
+					// Parser.g:1959:7: IDENT
+					{
+					match(input,IDENT,FOLLOW_IDENT_in_identity15322); if (state.failed) return retval;
+					}
+					break;
+				case 2 :
+					// Parser.g:1960:7: STRING_LITERAL
+					{
+					match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_identity15330); if (state.failed) return retval;
+					}
+					break;
+				case 3 :
+					// Parser.g:1961:7: QUOTED_NAME
+					{
+					match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_identity15338); if (state.failed) return retval;
+					if ( state.backtracking==0 ) { addRecognitionError("Quoted strings are are not supported for identity");}
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "identity"
+
+
+	public static class mbean_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "mbean"
+	// Parser.g:1964:1: mbean : STRING_LITERAL ;
+	public final Cql_Parser.mbean_return mbean() throws RecognitionException {
+		Cql_Parser.mbean_return retval = new Cql_Parser.mbean_return();
+		retval.start = input.LT(1);
+
+		try {
+			// Parser.g:1965:5: ( STRING_LITERAL )
+			// Parser.g:1965:7: STRING_LITERAL
+			{
+			match(input,STRING_LITERAL,FOLLOW_STRING_LITERAL_in_mbean15357); if (state.failed) return retval;
+			}
+
+			retval.stop = input.LT(-1);
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "mbean"
+
+
+
+	// $ANTLR start "non_type_ident"
+	// Parser.g:1970:1: non_type_ident returns [ColumnIdentifier id] : (t= IDENT |t= QUOTED_NAME |k= basic_unreserved_keyword |kk= K_KEY );
+	public final ColumnIdentifier non_type_ident() throws RecognitionException {
+		ColumnIdentifier id = null;
+
+
+		Token t=null;
+		Token kk=null;
+		String k =null;
+
+		try {
+			// Parser.g:1971:5: (t= IDENT |t= QUOTED_NAME |k= basic_unreserved_keyword |kk= K_KEY )
+			int alt272=4;
+			switch ( input.LA(1) ) {
+			case IDENT:
+				{
+				alt272=1;
+				}
+				break;
+			case QUOTED_NAME:
+				{
+				alt272=2;
+				}
+				break;
+			case K_ACCESS:
+			case K_AGGREGATE:
+			case K_AGGREGATES:
+			case K_ALL:
+			case K_ANN:
+			case K_AS:
+			case K_BETWEEN:
+			case K_CALLED:
+			case K_CIDRS:
+			case K_CLUSTER:
+			case K_CLUSTERING:
+			case K_COMPACT:
+			case K_CONTAINS:
+			case K_CUSTOM:
+			case K_DATACENTERS:
+			case K_DEFAULT:
+			case K_EXISTS:
+			case K_FILTERING:
+			case K_FINALFUNC:
+			case K_FROZEN:
+			case K_FUNCTION:
+			case K_FUNCTIONS:
+			case K_GENERATED:
+			case K_GROUP:
+			case K_HASHED:
+			case K_IDENTITY:
+			case K_INITCOND:
+			case K_INPUT:
+			case K_INTERNALS:
+			case K_KEYS:
+			case K_KEYSPACES:
+			case K_LANGUAGE:
+			case K_LIKE:
+			case K_LIST:
+			case K_LOGIN:
+			case K_MAP:
+			case K_MASKED:
+			case K_MBEAN:
+			case K_MBEANS:
+			case K_NOLOGIN:
+			case K_NOSUPERUSER:
+			case K_ONLY:
+			case K_OPTIONS:
+			case K_PARTITION:
+			case K_PASSWORD:
+			case K_PER:
+			case K_PERMISSION:
+			case K_PERMISSIONS:
+			case K_REPLACE:
+			case K_RETURNS:
+			case K_ROLE:
+			case K_ROLES:
+			case K_SELECT_MASKED:
+			case K_SFUNC:
+			case K_STATIC:
+			case K_STORAGE:
+			case K_STYPE:
+			case K_SUPERUSER:
+			case K_SUPERUSERS:
+			case K_TABLES:
+			case K_TRIGGER:
+			case K_TUPLE:
+			case K_TYPE:
+			case K_TYPES:
+			case K_UNMASK:
+			case K_UNSET:
+			case K_USER:
+			case K_USERS:
+			case K_VALUES:
+			case K_VECTOR:
+				{
+				alt272=3;
+				}
+				break;
+			case K_KEY:
+				{
+				alt272=4;
+				}
+				break;
+			default:
+				if (state.backtracking>0) {state.failed=true; return id;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 272, 0, input);
+				throw nvae;
+			}
+			switch (alt272) {
+				case 1 :
+					// Parser.g:1971:7: t= IDENT
+					{
+					t=(Token)match(input,IDENT,FOLLOW_IDENT_in_non_type_ident15382); if (state.failed) return id;
+					if ( state.backtracking==0 ) { if (reservedTypeNames.contains((t!=null?t.getText():null))) addRecognitionError("Invalid (reserved) user type name " + (t!=null?t.getText():null)); id = new ColumnIdentifier((t!=null?t.getText():null), false); }
+					}
+					break;
+				case 2 :
+					// Parser.g:1972:7: t= QUOTED_NAME
+					{
+					t=(Token)match(input,QUOTED_NAME,FOLLOW_QUOTED_NAME_in_non_type_ident15413); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = new ColumnIdentifier((t!=null?t.getText():null), true); }
+					}
+					break;
+				case 3 :
+					// Parser.g:1973:7: k= basic_unreserved_keyword
+					{
+					pushFollow(FOLLOW_basic_unreserved_keyword_in_non_type_ident15438);
+					k=basic_unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = new ColumnIdentifier(k, false); }
+					}
+					break;
+				case 4 :
+					// Parser.g:1974:7: kk= K_KEY
+					{
+					kk=(Token)match(input,K_KEY,FOLLOW_K_KEY_in_non_type_ident15450); if (state.failed) return id;
+					if ( state.backtracking==0 ) { id = new ColumnIdentifier((kk!=null?kk.getText():null), false); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return id;
+	}
+	// $ANTLR end "non_type_ident"
+
+
+
+	// $ANTLR start "unreserved_keyword"
+	// Parser.g:1977:1: unreserved_keyword returns [String str] : (u= unreserved_function_keyword |k= ( K_TTL | K_COUNT | K_WRITETIME | K_MAXWRITETIME | K_KEY | K_CAST | K_JSON | K_DISTINCT ) );
+	public final String unreserved_keyword() throws RecognitionException {
+		String str = null;
+
+
+		Token k=null;
+		String u =null;
+
+		try {
+			// Parser.g:1978:5: (u= unreserved_function_keyword |k= ( K_TTL | K_COUNT | K_WRITETIME | K_MAXWRITETIME | K_KEY | K_CAST | K_JSON | K_DISTINCT ) )
+			int alt273=2;
+			int LA273_0 = input.LA(1);
+			if ( (LA273_0==K_ACCESS||(LA273_0 >= K_AGGREGATE && LA273_0 <= K_ALL)||LA273_0==K_ANN||LA273_0==K_AS||LA273_0==K_ASCII||(LA273_0 >= K_BETWEEN && LA273_0 <= K_BOOLEAN)||LA273_0==K_CALLED||(LA273_0 >= K_CIDRS && LA273_0 <= K_CLUSTERING)||(LA273_0 >= K_COMPACT && LA273_0 <= K_CONTAINS)||LA273_0==K_COUNTER||(LA273_0 >= K_CUSTOM && LA273_0 <= K_DEFAULT)||LA273_0==K_DOUBLE||LA273_0==K_DURATION||(LA273_0 >= K_EXISTS && LA273_0 <= K_FLOAT)||LA273_0==K_FROZEN||(LA273_0 >= K_FUNCTION && LA273_0 <= K_GENERATED)||(LA273_0 >= K_GROUP && LA273_0 <= K_IDENTITY)||(LA273_0 >= K_INET && LA273_0 <= K_INPUT)||(LA273_0 >= K_INT && LA273_0 <= K_INTERNALS)||LA273_0==K_KEYS||(LA273_0 >= K_KEYSPACES && LA273_0 <= K_LIKE)||(LA273_0 >= K_LIST && LA273_0 <= K_MASKED)||(LA273_0 >= K_MBEAN && LA273_0 <= K_MBEANS)||LA273_0==K_NOLOGIN||LA273_0==K_NOSUPERUSER||(LA273_0 >= K_ONLY && LA273_0 <= K_OPTIONS)||(LA273_0 >= K_PARTITION && LA273_0 <= K_PERMISSIONS)||(LA273_0 >= K_REPLACE && LA273_0 <= K_RETURNS)||(LA273_0 >= K_ROLE && LA273_0 <= K_ROLES)||LA273_0==K_SELECT_MASKED||(LA273_0 >= K_SFUNC && LA273_0 <= K_TINYINT)||LA273_0==K_TRIGGER||(LA273_0 >= K_TUPLE && LA273_0 <= K_TYPES)||(LA273_0 >= K_UNMASK && LA273_0 <= K_UNSET)||(LA273_0 >= K_USER && LA273_0 <= K_USERS)||(LA273_0 >= K_UUID && LA273_0 <= K_VECTOR)) ) {
+				alt273=1;
+			}
+			else if ( (LA273_0==K_CAST||LA273_0==K_COUNT||LA273_0==K_DISTINCT||(LA273_0 >= K_JSON && LA273_0 <= K_KEY)||LA273_0==K_MAXWRITETIME||LA273_0==K_TTL||LA273_0==K_WRITETIME) ) {
+				alt273=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return str;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 273, 0, input);
+				throw nvae;
+			}
+
+			switch (alt273) {
+				case 1 :
+					// Parser.g:1978:7: u= unreserved_function_keyword
+					{
+					pushFollow(FOLLOW_unreserved_function_keyword_in_unreserved_keyword15493);
+					u=unreserved_function_keyword();
+					state._fsp--;
+					if (state.failed) return str;
+					if ( state.backtracking==0 ) { str = u; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1979:7: k= ( K_TTL | K_COUNT | K_WRITETIME | K_MAXWRITETIME | K_KEY | K_CAST | K_JSON | K_DISTINCT )
+					{
+					k=input.LT(1);
+					if ( input.LA(1)==K_CAST||input.LA(1)==K_COUNT||input.LA(1)==K_DISTINCT||(input.LA(1) >= K_JSON && input.LA(1) <= K_KEY)||input.LA(1)==K_MAXWRITETIME||input.LA(1)==K_TTL||input.LA(1)==K_WRITETIME ) {
+						input.consume();
+						state.errorRecovery=false;
+						state.failed=false;
+					}
+					else {
+						if (state.backtracking>0) {state.failed=true; return str;}
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						throw mse;
+					}
+					if ( state.backtracking==0 ) { str = (k!=null?k.getText():null); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return str;
+	}
+	// $ANTLR end "unreserved_keyword"
+
+
+
+	// $ANTLR start "unreserved_function_keyword"
+	// Parser.g:1982:1: unreserved_function_keyword returns [String str] : (u= basic_unreserved_keyword |t= native_type );
+	public final String unreserved_function_keyword() throws RecognitionException {
+		String str = null;
+
+
+		String u =null;
+		CQL3Type t =null;
+
+		try {
+			// Parser.g:1983:5: (u= basic_unreserved_keyword |t= native_type )
+			int alt274=2;
+			int LA274_0 = input.LA(1);
+			if ( (LA274_0==K_ACCESS||(LA274_0 >= K_AGGREGATE && LA274_0 <= K_ALL)||LA274_0==K_ANN||LA274_0==K_AS||LA274_0==K_BETWEEN||LA274_0==K_CALLED||(LA274_0 >= K_CIDRS && LA274_0 <= K_CLUSTERING)||(LA274_0 >= K_COMPACT && LA274_0 <= K_CONTAINS)||(LA274_0 >= K_CUSTOM && LA274_0 <= K_DATACENTERS)||LA274_0==K_DEFAULT||(LA274_0 >= K_EXISTS && LA274_0 <= K_FINALFUNC)||LA274_0==K_FROZEN||(LA274_0 >= K_FUNCTION && LA274_0 <= K_GENERATED)||(LA274_0 >= K_GROUP && LA274_0 <= K_IDENTITY)||(LA274_0 >= K_INITCOND && LA274_0 <= K_INPUT)||LA274_0==K_INTERNALS||LA274_0==K_KEYS||(LA274_0 >= K_KEYSPACES && LA274_0 <= K_LIKE)||(LA274_0 >= K_LIST && LA274_0 <= K_MASKED)||(LA274_0 >= K_MBEAN && LA274_0 <= K_MBEANS)||LA274_0==K_NOLOGIN||LA274_0==K_NOSUPERUSER||(LA274_0 >= K_ONLY && LA274_0 <= K_OPTIONS)||(LA274_0 >= K_PARTITION && LA274_0 <= K_PERMISSIONS)||(LA274_0 >= K_REPLACE && LA274_0 <= K_RETURNS)||(LA274_0 >= K_ROLE && LA274_0 <= K_ROLES)||LA274_0==K_SELECT_MASKED||LA274_0==K_SFUNC||(LA274_0 >= K_STATIC && LA274_0 <= K_TABLES)||LA274_0==K_TRIGGER||(LA274_0 >= K_TUPLE && LA274_0 <= K_TYPES)||(LA274_0 >= K_UNMASK && LA274_0 <= K_UNSET)||(LA274_0 >= K_USER && LA274_0 <= K_USERS)||LA274_0==K_VALUES||LA274_0==K_VECTOR) ) {
+				alt274=1;
+			}
+			else if ( (LA274_0==K_ASCII||(LA274_0 >= K_BIGINT && LA274_0 <= K_BOOLEAN)||LA274_0==K_COUNTER||(LA274_0 >= K_DATE && LA274_0 <= K_DECIMAL)||LA274_0==K_DOUBLE||LA274_0==K_DURATION||LA274_0==K_FLOAT||LA274_0==K_INET||LA274_0==K_INT||LA274_0==K_SMALLINT||(LA274_0 >= K_TEXT && LA274_0 <= K_TINYINT)||LA274_0==K_UUID||(LA274_0 >= K_VARCHAR && LA274_0 <= K_VARINT)) ) {
+				alt274=2;
+			}
+
+			else {
+				if (state.backtracking>0) {state.failed=true; return str;}
+				NoViableAltException nvae =
+					new NoViableAltException("", 274, 0, input);
+				throw nvae;
+			}
+
+			switch (alt274) {
+				case 1 :
+					// Parser.g:1983:7: u= basic_unreserved_keyword
+					{
+					pushFollow(FOLLOW_basic_unreserved_keyword_in_unreserved_function_keyword15564);
+					u=basic_unreserved_keyword();
+					state._fsp--;
+					if (state.failed) return str;
+					if ( state.backtracking==0 ) { str = u; }
+					}
+					break;
+				case 2 :
+					// Parser.g:1984:7: t= native_type
+					{
+					pushFollow(FOLLOW_native_type_in_unreserved_function_keyword15576);
+					t=native_type();
+					state._fsp--;
+					if (state.failed) return str;
+					if ( state.backtracking==0 ) { str = t.toString(); }
+					}
+					break;
+
+			}
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return str;
+	}
+	// $ANTLR end "unreserved_function_keyword"
+
+
+
+	// $ANTLR start "basic_unreserved_keyword"
+	// Parser.g:1987:1: basic_unreserved_keyword returns [String str] : k= ( K_KEYS | K_AS | K_CLUSTER | K_CLUSTERING | K_COMPACT | K_STORAGE | K_TABLES | K_TYPE | K_TYPES | K_VALUES | K_MAP | K_LIST | K_FILTERING | K_PERMISSION | K_PERMISSIONS | K_KEYSPACES | K_ALL | K_USER | K_USERS | K_ROLE | K_ROLES | K_IDENTITY | K_SUPERUSER | K_SUPERUSERS | K_NOSUPERUSER | K_LOGIN | K_NOLOGIN | K_OPTIONS | K_PASSWORD | K_GENERATED | K_HASHED | K_EXISTS | K_CUSTOM | K_TRIGGER | K_CONTAINS | K_INTERNALS | K_ONLY | K_STATIC | K_FROZEN | K_TUPLE | K_FUNCTION | K_FUNCTIONS | K_AGGREGATE | K_AGGREGATES | K_SFUNC | K_STYPE | K_FINALFUNC | K_INITCOND | K_RETURNS | K_LANGUAGE | K_CALLED | K_INPUT | K_LIKE | K_PER | K_PARTITION | K_GROUP | K_DATACENTERS | K_CIDRS | K_ACCESS | K_DEFAULT | K_MBEAN | K_MBEANS | K_REPLACE | K_UNSET | K_MASKED | K_UNMASK | K_SELECT_MASKED | K_VECTOR | K_ANN | K_BETWEEN ) ;
+	public final String basic_unreserved_keyword() throws RecognitionException {
+		String str = null;
+
+
+		Token k=null;
+
+		try {
+			// Parser.g:1988:5: (k= ( K_KEYS | K_AS | K_CLUSTER | K_CLUSTERING | K_COMPACT | K_STORAGE | K_TABLES | K_TYPE | K_TYPES | K_VALUES | K_MAP | K_LIST | K_FILTERING | K_PERMISSION | K_PERMISSIONS | K_KEYSPACES | K_ALL | K_USER | K_USERS | K_ROLE | K_ROLES | K_IDENTITY | K_SUPERUSER | K_SUPERUSERS | K_NOSUPERUSER | K_LOGIN | K_NOLOGIN | K_OPTIONS | K_PASSWORD | K_GENERATED | K_HASHED | K_EXISTS | K_CUSTOM | K_TRIGGER | K_CONTAINS | K_INTERNALS | K_ONLY | K_STATIC | K_FROZEN | K_TUPLE | K_FUNCTION | K_FUNCTIONS | K_AGGREGATE | K_AGGREGATES | K_SFUNC | K_STYPE | K_FINALFUNC | K_INITCOND | K_RETURNS | K_LANGUAGE | K_CALLED | K_INPUT | K_LIKE | K_PER | K_PARTITION | K_GROUP | K_DATACENTERS | K_CIDRS | K_ACCESS | K_DEFAULT | K_MBEAN | K_MBEANS | K_REPLACE | K_UNSET | K_MASKED | K_UNMASK | K_SELECT_MASKED | K_VECTOR | K_ANN | K_BETWEEN ) )
+			// Parser.g:1988:7: k= ( K_KEYS | K_AS | K_CLUSTER | K_CLUSTERING | K_COMPACT | K_STORAGE | K_TABLES | K_TYPE | K_TYPES | K_VALUES | K_MAP | K_LIST | K_FILTERING | K_PERMISSION | K_PERMISSIONS | K_KEYSPACES | K_ALL | K_USER | K_USERS | K_ROLE | K_ROLES | K_IDENTITY | K_SUPERUSER | K_SUPERUSERS | K_NOSUPERUSER | K_LOGIN | K_NOLOGIN | K_OPTIONS | K_PASSWORD | K_GENERATED | K_HASHED | K_EXISTS | K_CUSTOM | K_TRIGGER | K_CONTAINS | K_INTERNALS | K_ONLY | K_STATIC | K_FROZEN | K_TUPLE | K_FUNCTION | K_FUNCTIONS | K_AGGREGATE | K_AGGREGATES | K_SFUNC | K_STYPE | K_FINALFUNC | K_INITCOND | K_RETURNS | K_LANGUAGE | K_CALLED | K_INPUT | K_LIKE | K_PER | K_PARTITION | K_GROUP | K_DATACENTERS | K_CIDRS | K_ACCESS | K_DEFAULT | K_MBEAN | K_MBEANS | K_REPLACE | K_UNSET | K_MASKED | K_UNMASK | K_SELECT_MASKED | K_VECTOR | K_ANN | K_BETWEEN )
+			{
+			k=input.LT(1);
+			if ( input.LA(1)==K_ACCESS||(input.LA(1) >= K_AGGREGATE && input.LA(1) <= K_ALL)||input.LA(1)==K_ANN||input.LA(1)==K_AS||input.LA(1)==K_BETWEEN||input.LA(1)==K_CALLED||(input.LA(1) >= K_CIDRS && input.LA(1) <= K_CLUSTERING)||(input.LA(1) >= K_COMPACT && input.LA(1) <= K_CONTAINS)||(input.LA(1) >= K_CUSTOM && input.LA(1) <= K_DATACENTERS)||input.LA(1)==K_DEFAULT||(input.LA(1) >= K_EXISTS && input.LA(1) <= K_FINALFUNC)||input.LA(1)==K_FROZEN||(input.LA(1) >= K_FUNCTION && input.LA(1) <= K_GENERATED)||(input.LA(1) >= K_GROUP && input.LA(1) <= K_IDENTITY)||(input.LA(1) >= K_INITCOND && input.LA(1) <= K_INPUT)||input.LA(1)==K_INTERNALS||input.LA(1)==K_KEYS||(input.LA(1) >= K_KEYSPACES && input.LA(1) <= K_LIKE)||(input.LA(1) >= K_LIST && input.LA(1) <= K_MASKED)||(input.LA(1) >= K_MBEAN && input.LA(1) <= K_MBEANS)||input.LA(1)==K_NOLOGIN||input.LA(1)==K_NOSUPERUSER||(input.LA(1) >= K_ONLY && input.LA(1) <= K_OPTIONS)||(input.LA(1) >= K_PARTITION && input.LA(1) <= K_PERMISSIONS)||(input.LA(1) >= K_REPLACE && input.LA(1) <= K_RETURNS)||(input.LA(1) >= K_ROLE && input.LA(1) <= K_ROLES)||input.LA(1)==K_SELECT_MASKED||input.LA(1)==K_SFUNC||(input.LA(1) >= K_STATIC && input.LA(1) <= K_TABLES)||input.LA(1)==K_TRIGGER||(input.LA(1) >= K_TUPLE && input.LA(1) <= K_TYPES)||(input.LA(1) >= K_UNMASK && input.LA(1) <= K_UNSET)||(input.LA(1) >= K_USER && input.LA(1) <= K_USERS)||input.LA(1)==K_VALUES||input.LA(1)==K_VECTOR ) {
+				input.consume();
+				state.errorRecovery=false;
+				state.failed=false;
+			}
+			else {
+				if (state.backtracking>0) {state.failed=true; return str;}
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			if ( state.backtracking==0 ) { str = (k!=null?k.getText():null); }
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return str;
+	}
+	// $ANTLR end "basic_unreserved_keyword"
+
+	// $ANTLR start synpred1_Parser
+	public final void synpred1_Parser_fragment() throws RecognitionException {
+		// Parser.g:265:9: ( K_JSON selectClause )
+		// Parser.g:265:10: K_JSON selectClause
+		{
+		match(input,K_JSON,FOLLOW_K_JSON_in_synpred1_Parser1153); if (state.failed) return;
+		pushFollow(FOLLOW_selectClause_in_synpred1_Parser1155);
+		selectClause();
+		state._fsp--;
+		if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred1_Parser
+
+	// $ANTLR start synpred2_Parser
+	public final void synpred2_Parser_fragment() throws RecognitionException {
+		// Parser.g:287:7: ( K_DISTINCT selectors )
+		// Parser.g:287:8: K_DISTINCT selectors
+		{
+		match(input,K_DISTINCT,FOLLOW_K_DISTINCT_in_synpred2_Parser1356); if (state.failed) return;
+		pushFollow(FOLLOW_selectors_in_synpred2_Parser1358);
+		selectors();
+		state._fsp--;
+		if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred2_Parser
+
+	// $ANTLR start synpred3_Parser
+	public final void synpred3_Parser_fragment() throws RecognitionException {
+		// Parser.g:321:7: ( selectionGroupWithField )
+		// Parser.g:321:8: selectionGroupWithField
+		{
+		pushFollow(FOLLOW_selectionGroupWithField_in_synpred3_Parser1687);
+		selectionGroupWithField();
+		state._fsp--;
+		if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred3_Parser
+
+	// $ANTLR start synpred4_Parser
+	public final void synpred4_Parser_fragment() throws RecognitionException {
+		// Parser.g:355:7: ( selectionTypeHint )
+		// Parser.g:355:8: selectionTypeHint
+		{
+		pushFollow(FOLLOW_selectionTypeHint_in_synpred4_Parser1974);
+		selectionTypeHint();
+		state._fsp--;
+		if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred4_Parser
+
+	// $ANTLR start synpred5_Parser
+	public final void synpred5_Parser_fragment() throws RecognitionException {
+		// Parser.g:1452:7: ( K_CLUSTER )
+		// Parser.g:1452:8: K_CLUSTER
+		{
+		match(input,K_CLUSTER,FOLLOW_K_CLUSTER_in_synpred5_Parser9796); if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred5_Parser
+
+	// $ANTLR start synpred6_Parser
+	public final void synpred6_Parser_fragment() throws RecognitionException {
+		// Parser.g:1454:7: ( K_KEYSPACES )
+		// Parser.g:1454:8: K_KEYSPACES
+		{
+		match(input,K_KEYSPACES,FOLLOW_K_KEYSPACES_in_synpred6_Parser9852); if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred6_Parser
+
+	// $ANTLR start synpred7_Parser
+	public final void synpred7_Parser_fragment() throws RecognitionException {
+		// Parser.g:1457:7: ( K_TABLES )
+		// Parser.g:1457:8: K_TABLES
+		{
+		match(input,K_TABLES,FOLLOW_K_TABLES_in_synpred7_Parser9959); if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred7_Parser
+
+	// $ANTLR start synpred8_Parser
+	public final void synpred8_Parser_fragment() throws RecognitionException {
+		// Parser.g:1461:7: ( K_TYPES )
+		// Parser.g:1461:8: K_TYPES
+		{
+		match(input,K_TYPES,FOLLOW_K_TYPES_in_synpred8_Parser10064); if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred8_Parser
+
+	// $ANTLR start synpred9_Parser
+	public final void synpred9_Parser_fragment() throws RecognitionException {
+		// Parser.g:1463:7: ( K_FUNCTIONS )
+		// Parser.g:1463:8: K_FUNCTIONS
+		{
+		match(input,K_FUNCTIONS,FOLLOW_K_FUNCTIONS_in_synpred9_Parser10138); if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred9_Parser
+
+	// $ANTLR start synpred10_Parser
+	public final void synpred10_Parser_fragment() throws RecognitionException {
+		// Parser.g:1465:7: ( K_AGGREGATES )
+		// Parser.g:1465:8: K_AGGREGATES
+		{
+		match(input,K_AGGREGATES,FOLLOW_K_AGGREGATES_in_synpred10_Parser10200); if (state.failed) return;
+		}
+
+	}
+	// $ANTLR end synpred10_Parser
+
+	// Delegated rules
+
+	public final boolean synpred2_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred2_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred10_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred10_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred1_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred1_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred3_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred3_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred4_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred4_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred5_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred5_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred6_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred6_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred7_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred7_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred8_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred8_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+	public final boolean synpred9_Parser() {
+		state.backtracking++;
+		int start = input.mark();
+		try {
+			synpred9_Parser_fragment(); // can never throw exception
+		} catch (RecognitionException re) {
+			System.err.println("impossible: "+re);
+		}
+		boolean success = !state.failed;
+		input.rewind(start);
+		state.backtracking--;
+		state.failed=false;
+		return success;
+	}
+
+
+	protected DFA1 dfa1 = new DFA1(this);
+	protected DFA2 dfa2 = new DFA2(this);
+	protected DFA11 dfa11 = new DFA11(this);
+	protected DFA17 dfa17 = new DFA17(this);
+	protected DFA22 dfa22 = new DFA22(this);
+	protected DFA30 dfa30 = new DFA30(this);
+	protected DFA31 dfa31 = new DFA31(this);
+	protected DFA63 dfa63 = new DFA63(this);
+	protected DFA146 dfa146 = new DFA146(this);
+	protected DFA168 dfa168 = new DFA168(this);
+	protected DFA195 dfa195 = new DFA195(this);
+	protected DFA203 dfa203 = new DFA203(this);
+	protected DFA201 dfa201 = new DFA201(this);
+	protected DFA209 dfa209 = new DFA209(this);
+	protected DFA210 dfa210 = new DFA210(this);
+	protected DFA228 dfa228 = new DFA228(this);
+	protected DFA230 dfa230 = new DFA230(this);
+	protected DFA232 dfa232 = new DFA232(this);
+	protected DFA234 dfa234 = new DFA234(this);
+	protected DFA237 dfa237 = new DFA237(this);
+	protected DFA240 dfa240 = new DFA240(this);
+	protected DFA246 dfa246 = new DFA246(this);
+	protected DFA252 dfa252 = new DFA252(this);
+	protected DFA266 dfa266 = new DFA266(this);
+	static final String DFA1_eotS =
+		"\71\uffff";
+	static final String DFA1_eofS =
+		"\71\uffff";
+	static final String DFA1_minS =
+		"\1\37\7\uffff\2\40\1\70\2\32\1\42\12\uffff\1\u008c\23\uffff\2\176\2\uffff"+
+		"\2\120\6\uffff\1\40";
+	static final String DFA1_maxS =
+		"\1\u00ae\7\uffff\3\u00af\2\u00c8\1\u00b0\12\uffff\1\u008c\23\uffff\1\u00a2"+
+		"\1\u00d8\2\uffff\1\u0087\1\u00d8\6\uffff\1\123";
+	static final String DFA1_acceptS =
+		"\1\uffff\1\1\1\2\1\3\1\4\1\5\1\6\1\7\6\uffff\1\51\1\52\1\10\1\11\1\23"+
+		"\1\27\1\31\1\40\1\46\1\12\1\uffff\1\34\1\36\1\13\1\14\1\15\1\25\1\30\1"+
+		"\33\1\35\1\37\1\42\1\47\1\53\1\16\1\17\1\24\1\32\1\41\1\50\2\uffff\1\44"+
+		"\1\20\2\uffff\1\45\1\21\1\26\1\43\1\54\1\22\1\uffff";
+	static final String DFA1_specialS =
+		"\71\uffff}>";
+	static final String[] DFA1_transitionS = {
+			"\1\17\4\uffff\1\12\10\uffff\1\4\17\uffff\1\10\5\uffff\1\5\2\16\2\uffff"+
+			"\1\11\15\uffff\1\13\11\uffff\1\2\14\uffff\1\15\40\uffff\1\14\3\uffff"+
+			"\1\1\22\uffff\1\7\7\uffff\1\3\1\6",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\32\27\uffff\1\21\5\uffff\1\27\24\uffff\1\31\10\uffff\1\27\13\uffff"+
+			"\1\20\10\uffff\1\26\17\uffff\1\30\15\uffff\1\25\24\uffff\1\23\3\uffff"+
+			"\1\24\6\uffff\1\22",
+			"\1\42\27\uffff\1\34\32\uffff\1\41\5\uffff\1\45\2\uffff\1\35\13\uffff"+
+			"\1\33\10\uffff\1\44\35\uffff\1\43\24\uffff\1\37\3\uffff\1\40\6\uffff"+
+			"\1\36",
+			"\1\46\57\uffff\1\47\10\uffff\1\53\35\uffff\1\52\30\uffff\1\51\6\uffff"+
+			"\1\50",
+			"\1\56\3\uffff\1\56\1\uffff\2\56\1\54\1\uffff\1\57\1\uffff\1\56\1\uffff"+
+			"\1\56\1\uffff\1\56\1\57\2\uffff\4\56\1\uffff\5\56\1\uffff\4\56\1\57\5"+
+			"\56\2\uffff\1\57\2\56\1\57\1\56\1\uffff\1\57\4\56\1\uffff\1\56\1\uffff"+
+			"\3\56\1\uffff\3\56\3\uffff\3\56\1\uffff\2\56\2\uffff\3\56\1\uffff\3\56"+
+			"\1\uffff\4\56\1\uffff\3\56\1\57\2\uffff\1\56\1\uffff\1\56\4\uffff\2\56"+
+			"\2\uffff\5\56\4\uffff\2\56\1\uffff\2\56\1\uffff\1\57\1\55\1\uffff\15"+
+			"\56\2\uffff\1\56\1\uffff\4\56\1\uffff\1\55\1\56\2\uffff\2\56\1\uffff"+
+			"\5\56\3\uffff\1\56\10\uffff\2\56\3\uffff\1\56",
+			"\1\62\3\uffff\1\62\1\uffff\2\62\1\60\1\uffff\1\63\1\uffff\1\62\1\uffff"+
+			"\1\62\1\uffff\1\62\1\63\2\uffff\4\62\1\uffff\5\62\1\uffff\4\62\1\63\5"+
+			"\62\2\uffff\1\63\2\62\1\63\1\62\1\uffff\1\63\4\62\1\uffff\1\62\1\uffff"+
+			"\3\62\1\uffff\3\62\3\uffff\3\62\1\uffff\2\62\2\uffff\3\62\1\uffff\3\62"+
+			"\1\uffff\4\62\1\uffff\3\62\1\63\2\uffff\1\62\1\uffff\1\62\4\uffff\2\62"+
+			"\2\uffff\5\62\4\uffff\2\62\1\uffff\2\62\1\uffff\1\63\1\61\1\uffff\15"+
+			"\62\2\uffff\1\62\1\uffff\4\62\1\uffff\1\61\1\62\2\uffff\2\62\1\uffff"+
+			"\5\62\3\uffff\1\62\10\uffff\2\62\3\uffff\1\62",
+			"\1\67\1\uffff\1\67\6\uffff\1\67\21\uffff\1\67\7\uffff\1\67\2\uffff\1"+
+			"\67\2\uffff\1\67\51\uffff\1\67\32\uffff\1\65\1\uffff\2\67\7\uffff\1\66"+
+			"\17\uffff\1\67\4\uffff\1\64",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\70",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\57\10\uffff\1\57\32\uffff\1\56",
+			"\1\57\7\uffff\1\57\33\uffff\1\56\65\uffff\1\57",
+			"",
+			"",
+			"\1\62\55\uffff\1\63\10\uffff\1\63",
+			"\1\62\55\uffff\1\63\7\uffff\1\63\121\uffff\1\63",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\32\62\uffff\1\31"
+	};
+
+	static final short[] DFA1_eot = DFA.unpackEncodedString(DFA1_eotS);
+	static final short[] DFA1_eof = DFA.unpackEncodedString(DFA1_eofS);
+	static final char[] DFA1_min = DFA.unpackEncodedStringToUnsignedChars(DFA1_minS);
+	static final char[] DFA1_max = DFA.unpackEncodedStringToUnsignedChars(DFA1_maxS);
+	static final short[] DFA1_accept = DFA.unpackEncodedString(DFA1_acceptS);
+	static final short[] DFA1_special = DFA.unpackEncodedString(DFA1_specialS);
+	static final short[][] DFA1_transition;
+
+	static {
+		int numStates = DFA1_transitionS.length;
+		DFA1_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA1_transition[i] = DFA.unpackEncodedString(DFA1_transitionS[i]);
+		}
+	}
+
+	protected class DFA1 extends DFA {
+
+		public DFA1(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 1;
+			this.eot = DFA1_eot;
+			this.eof = DFA1_eof;
+			this.min = DFA1_min;
+			this.max = DFA1_max;
+			this.accept = DFA1_accept;
+			this.special = DFA1_special;
+			this.transition = DFA1_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "193:1: cqlStatement returns [CQLStatement.Raw stmt] : (st1= selectStatement |st2= insertStatement |st3= updateStatement |st4= batchStatement |st5= deleteStatement |st6= useStatement |st7= truncateStatement |st8= createKeyspaceStatement |st9= createTableStatement |st10= createIndexStatement |st11= dropKeyspaceStatement |st12= dropTableStatement |st13= dropIndexStatement |st14= alterTableStatement |st15= alterKeyspaceStatement |st16= grantPermissionsStatement |st17= revokePermissionsStatement |st18= listPermissionsStatement |st19= createUserStatement |st20= alterUserStatement |st21= dropUserStatement |st22= listUsersStatement |st23= createTriggerStatement |st24= dropTriggerStatement |st25= createTypeStatement |st26= alterTypeStatement |st27= dropTypeStatement |st28= createFunctionStatement |st29= dropFunctionStatement |st30= createAggregateStatement |st31= dropAggregateStatement |st32= createRoleStatement |st33= alterRoleStatement |st34= dropRoleStatement |st35= listRolesStatement |st36= grantRoleStatement |st37= revokeRoleStatement |st38= createMaterializedViewStatement |st39= dropMaterializedViewStatement |st40= alterMaterializedViewStatement |st41= describeStatement |st42= addIdentityStatement |st43= dropIdentityStatement |st44= listSuperUsersStatement );";
+		}
+	}
+
+	static final String DFA2_eotS =
+		"\65\uffff";
+	static final String DFA2_eofS =
+		"\65\uffff";
+	static final String DFA2_minS =
+		"\1\6\1\0\63\uffff";
+	static final String DFA2_maxS =
+		"\1\u00e8\1\0\63\uffff";
+	static final String DFA2_acceptS =
+		"\2\uffff\1\2\61\uffff\1\1";
+	static final String DFA2_specialS =
+		"\1\uffff\1\0\63\uffff}>";
+	static final String[] DFA2_transitionS = {
+			"\1\2\4\uffff\1\2\10\uffff\1\2\3\uffff\1\2\1\uffff\2\2\2\uffff\1\2\1\uffff"+
+			"\3\2\3\uffff\1\2\1\uffff\1\2\1\uffff\1\2\3\uffff\4\2\1\uffff\5\2\1\uffff"+
+			"\4\2\1\uffff\5\2\3\uffff\2\2\1\uffff\1\2\2\uffff\4\2\1\uffff\1\2\1\uffff"+
+			"\3\2\1\uffff\3\2\3\uffff\3\2\1\uffff\2\2\2\uffff\1\1\2\2\1\uffff\3\2"+
+			"\1\uffff\4\2\1\uffff\3\2\1\uffff\3\2\1\uffff\1\2\1\uffff\1\2\2\uffff"+
+			"\2\2\2\uffff\7\2\2\uffff\2\2\1\uffff\2\2\2\uffff\1\2\1\uffff\15\2\1\uffff"+
+			"\2\2\1\uffff\4\2\1\uffff\2\2\2\uffff\2\2\1\uffff\5\2\3\uffff\1\2\10\uffff"+
+			"\2\2\3\uffff\1\2\2\uffff\1\2\10\uffff\1\2\4\uffff\1\2\3\uffff\1\2\6\uffff"+
+			"\2\2\2\uffff\1\2",
+			"\1\uffff",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA2_eot = DFA.unpackEncodedString(DFA2_eotS);
+	static final short[] DFA2_eof = DFA.unpackEncodedString(DFA2_eofS);
+	static final char[] DFA2_min = DFA.unpackEncodedStringToUnsignedChars(DFA2_minS);
+	static final char[] DFA2_max = DFA.unpackEncodedStringToUnsignedChars(DFA2_maxS);
+	static final short[] DFA2_accept = DFA.unpackEncodedString(DFA2_acceptS);
+	static final short[] DFA2_special = DFA.unpackEncodedString(DFA2_specialS);
+	static final short[][] DFA2_transition;
+
+	static {
+		int numStates = DFA2_transitionS.length;
+		DFA2_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA2_transition[i] = DFA.unpackEncodedString(DFA2_transitionS[i]);
+		}
+	}
+
+	protected class DFA2 extends DFA {
+
+		public DFA2(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 2;
+			this.eot = DFA2_eot;
+			this.eof = DFA2_eof;
+			this.min = DFA2_min;
+			this.max = DFA2_max;
+			this.accept = DFA2_accept;
+			this.special = DFA2_special;
+			this.transition = DFA2_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "265:7: ( ( K_JSON selectClause )=> K_JSON )?";
+		}
+		@Override
+		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+			TokenStream input = (TokenStream)_input;
+			int _s = s;
+			switch ( s ) {
+					case 0 : 
+						int LA2_1 = input.LA(1);
+						 
+						int index2_1 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred1_Parser()) ) {s = 52;}
+						else if ( (true) ) {s = 2;}
+						 
+						input.seek(index2_1);
+						if ( s>=0 ) return s;
+						break;
+			}
+			if (state.backtracking>0) {state.failed=true; return -1;}
+			NoViableAltException nvae =
+				new NoViableAltException(getDescription(), 2, _s, input);
+			error(nvae);
+			throw nvae;
+		}
+	}
+
+	static final String DFA11_eotS =
+		"\64\uffff";
+	static final String DFA11_eofS =
+		"\64\uffff";
+	static final String DFA11_minS =
+		"\1\6\1\0\62\uffff";
+	static final String DFA11_maxS =
+		"\1\u00e8\1\0\62\uffff";
+	static final String DFA11_acceptS =
+		"\2\uffff\1\2\60\uffff\1\1";
+	static final String DFA11_specialS =
+		"\1\uffff\1\0\62\uffff}>";
+	static final String[] DFA11_transitionS = {
+			"\1\2\4\uffff\1\2\10\uffff\1\2\3\uffff\1\2\1\uffff\2\2\2\uffff\1\2\1\uffff"+
+			"\3\2\3\uffff\1\2\1\uffff\1\2\1\uffff\1\2\3\uffff\4\2\1\uffff\5\2\1\uffff"+
+			"\4\2\1\uffff\5\2\3\uffff\1\1\1\2\1\uffff\1\2\2\uffff\4\2\1\uffff\1\2"+
+			"\1\uffff\3\2\1\uffff\3\2\3\uffff\3\2\1\uffff\2\2\2\uffff\3\2\1\uffff"+
+			"\3\2\1\uffff\4\2\1\uffff\3\2\1\uffff\3\2\1\uffff\1\2\1\uffff\1\2\2\uffff"+
+			"\2\2\2\uffff\7\2\2\uffff\2\2\1\uffff\2\2\2\uffff\1\2\1\uffff\15\2\1\uffff"+
+			"\2\2\1\uffff\4\2\1\uffff\2\2\2\uffff\2\2\1\uffff\5\2\3\uffff\1\2\10\uffff"+
+			"\2\2\3\uffff\1\2\2\uffff\1\2\10\uffff\1\2\4\uffff\1\2\3\uffff\1\2\6\uffff"+
+			"\2\2\2\uffff\1\2",
+			"\1\uffff",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA11_eot = DFA.unpackEncodedString(DFA11_eotS);
+	static final short[] DFA11_eof = DFA.unpackEncodedString(DFA11_eofS);
+	static final char[] DFA11_min = DFA.unpackEncodedStringToUnsignedChars(DFA11_minS);
+	static final char[] DFA11_max = DFA.unpackEncodedStringToUnsignedChars(DFA11_maxS);
+	static final short[] DFA11_accept = DFA.unpackEncodedString(DFA11_acceptS);
+	static final short[] DFA11_special = DFA.unpackEncodedString(DFA11_specialS);
+	static final short[][] DFA11_transition;
+
+	static {
+		int numStates = DFA11_transitionS.length;
+		DFA11_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA11_transition[i] = DFA.unpackEncodedString(DFA11_transitionS[i]);
+		}
+	}
+
+	protected class DFA11 extends DFA {
+
+		public DFA11(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 11;
+			this.eot = DFA11_eot;
+			this.eof = DFA11_eof;
+			this.min = DFA11_min;
+			this.max = DFA11_max;
+			this.accept = DFA11_accept;
+			this.special = DFA11_special;
+			this.transition = DFA11_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "284:1: selectClause returns [boolean isDistinct, List<RawSelector> selectors] : ( ( K_DISTINCT selectors )=> K_DISTINCT s= selectors |s= selectors );";
+		}
+		@Override
+		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+			TokenStream input = (TokenStream)_input;
+			int _s = s;
+			switch ( s ) {
+					case 0 : 
+						int LA11_1 = input.LA(1);
+						 
+						int index11_1 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred2_Parser()) ) {s = 51;}
+						else if ( (true) ) {s = 2;}
+						 
+						input.seek(index11_1);
+						if ( s>=0 ) return s;
+						break;
+			}
+			if (state.backtracking>0) {state.failed=true; return -1;}
+			NoViableAltException nvae =
+				new NoViableAltException(getDescription(), 11, _s, input);
+			error(nvae);
+			throw nvae;
+		}
+	}
+
+	static final String DFA17_eotS =
+		"\63\uffff";
+	static final String DFA17_eofS =
+		"\63\uffff";
+	static final String DFA17_minS =
+		"\1\6\57\0\3\uffff";
+	static final String DFA17_maxS =
+		"\1\u00e8\57\0\3\uffff";
+	static final String DFA17_acceptS =
+		"\60\uffff\1\3\1\1\1\2";
+	static final String DFA17_specialS =
+		"\1\uffff\1\0\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11\1\12\1\13\1\14\1\15"+
+		"\1\16\1\17\1\20\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1\30\1\31\1\32\1\33"+
+		"\1\34\1\35\1\36\1\37\1\40\1\41\1\42\1\43\1\44\1\45\1\46\1\47\1\50\1\51"+
+		"\1\52\1\53\1\54\1\55\1\56\3\uffff}>";
+	static final String[] DFA17_transitionS = {
+			"\1\35\4\uffff\1\36\10\uffff\1\34\3\uffff\1\40\1\uffff\1\1\1\33\2\uffff"+
+			"\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff\1\3\1\5"+
+			"\1\6\1\7\1\uffff\1\3\1\52\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2\3\1\27"+
+			"\1\11\1\3\3\uffff\1\53\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff\1\3"+
+			"\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff\2"+
+			"\53\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\47\2\3\1\uffff\1\43\1\41\1"+
+			"\3\1\uffff\1\3\1\uffff\1\44\2\uffff\2\3\2\uffff\5\3\1\42\1\41\2\uffff"+
+			"\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff\1\3\1\17\6\3\1\20\1\30\1\21\1\26"+
+			"\1\22\1\uffff\1\54\1\3\1\uffff\1\51\3\3\1\uffff\2\3\2\uffff\2\3\1\uffff"+
+			"\1\23\1\3\1\24\1\25\1\3\3\uffff\1\50\10\uffff\1\46\1\2\3\uffff\1\32\2"+
+			"\uffff\1\37\10\uffff\1\55\4\uffff\1\60\3\uffff\1\45\6\uffff\1\56\3\uffff"+
+			"\1\57",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"\1\uffff",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA17_eot = DFA.unpackEncodedString(DFA17_eotS);
+	static final short[] DFA17_eof = DFA.unpackEncodedString(DFA17_eofS);
+	static final char[] DFA17_min = DFA.unpackEncodedStringToUnsignedChars(DFA17_minS);
+	static final char[] DFA17_max = DFA.unpackEncodedStringToUnsignedChars(DFA17_maxS);
+	static final short[] DFA17_accept = DFA.unpackEncodedString(DFA17_acceptS);
+	static final short[] DFA17_special = DFA.unpackEncodedString(DFA17_specialS);
+	static final short[][] DFA17_transition;
+
+	static {
+		int numStates = DFA17_transitionS.length;
+		DFA17_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA17_transition[i] = DFA.unpackEncodedString(DFA17_transitionS[i]);
+		}
+	}
+
+	protected class DFA17 extends DFA {
+
+		public DFA17(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 17;
+			this.eot = DFA17_eot;
+			this.eof = DFA17_eof;
+			this.min = DFA17_min;
+			this.max = DFA17_max;
+			this.accept = DFA17_accept;
+			this.special = DFA17_special;
+			this.transition = DFA17_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "320:1: selectionGroup returns [Selectable.Raw s] : ( ( selectionGroupWithField )=>f= selectionGroupWithField |g= selectionGroupWithoutField | '-' g= selectionGroup );";
+		}
+		@Override
+		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+			TokenStream input = (TokenStream)_input;
+			int _s = s;
+			switch ( s ) {
+					case 0 : 
+						int LA17_1 = input.LA(1);
+						 
+						int index17_1 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_1);
+						if ( s>=0 ) return s;
+						break;
+
+					case 1 : 
+						int LA17_2 = input.LA(1);
+						 
+						int index17_2 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_2);
+						if ( s>=0 ) return s;
+						break;
+
+					case 2 : 
+						int LA17_3 = input.LA(1);
+						 
+						int index17_3 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_3);
+						if ( s>=0 ) return s;
+						break;
+
+					case 3 : 
+						int LA17_4 = input.LA(1);
+						 
+						int index17_4 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_4);
+						if ( s>=0 ) return s;
+						break;
+
+					case 4 : 
+						int LA17_5 = input.LA(1);
+						 
+						int index17_5 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_5);
+						if ( s>=0 ) return s;
+						break;
+
+					case 5 : 
+						int LA17_6 = input.LA(1);
+						 
+						int index17_6 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_6);
+						if ( s>=0 ) return s;
+						break;
+
+					case 6 : 
+						int LA17_7 = input.LA(1);
+						 
+						int index17_7 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_7);
+						if ( s>=0 ) return s;
+						break;
+
+					case 7 : 
+						int LA17_8 = input.LA(1);
+						 
+						int index17_8 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_8);
+						if ( s>=0 ) return s;
+						break;
+
+					case 8 : 
+						int LA17_9 = input.LA(1);
+						 
+						int index17_9 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_9);
+						if ( s>=0 ) return s;
+						break;
+
+					case 9 : 
+						int LA17_10 = input.LA(1);
+						 
+						int index17_10 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_10);
+						if ( s>=0 ) return s;
+						break;
+
+					case 10 : 
+						int LA17_11 = input.LA(1);
+						 
+						int index17_11 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_11);
+						if ( s>=0 ) return s;
+						break;
+
+					case 11 : 
+						int LA17_12 = input.LA(1);
+						 
+						int index17_12 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_12);
+						if ( s>=0 ) return s;
+						break;
+
+					case 12 : 
+						int LA17_13 = input.LA(1);
+						 
+						int index17_13 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_13);
+						if ( s>=0 ) return s;
+						break;
+
+					case 13 : 
+						int LA17_14 = input.LA(1);
+						 
+						int index17_14 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_14);
+						if ( s>=0 ) return s;
+						break;
+
+					case 14 : 
+						int LA17_15 = input.LA(1);
+						 
+						int index17_15 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_15);
+						if ( s>=0 ) return s;
+						break;
+
+					case 15 : 
+						int LA17_16 = input.LA(1);
+						 
+						int index17_16 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_16);
+						if ( s>=0 ) return s;
+						break;
+
+					case 16 : 
+						int LA17_17 = input.LA(1);
+						 
+						int index17_17 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_17);
+						if ( s>=0 ) return s;
+						break;
+
+					case 17 : 
+						int LA17_18 = input.LA(1);
+						 
+						int index17_18 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_18);
+						if ( s>=0 ) return s;
+						break;
+
+					case 18 : 
+						int LA17_19 = input.LA(1);
+						 
+						int index17_19 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_19);
+						if ( s>=0 ) return s;
+						break;
+
+					case 19 : 
+						int LA17_20 = input.LA(1);
+						 
+						int index17_20 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_20);
+						if ( s>=0 ) return s;
+						break;
+
+					case 20 : 
+						int LA17_21 = input.LA(1);
+						 
+						int index17_21 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_21);
+						if ( s>=0 ) return s;
+						break;
+
+					case 21 : 
+						int LA17_22 = input.LA(1);
+						 
+						int index17_22 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_22);
+						if ( s>=0 ) return s;
+						break;
+
+					case 22 : 
+						int LA17_23 = input.LA(1);
+						 
+						int index17_23 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_23);
+						if ( s>=0 ) return s;
+						break;
+
+					case 23 : 
+						int LA17_24 = input.LA(1);
+						 
+						int index17_24 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_24);
+						if ( s>=0 ) return s;
+						break;
+
+					case 24 : 
+						int LA17_25 = input.LA(1);
+						 
+						int index17_25 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_25);
+						if ( s>=0 ) return s;
+						break;
+
+					case 25 : 
+						int LA17_26 = input.LA(1);
+						 
+						int index17_26 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_26);
+						if ( s>=0 ) return s;
+						break;
+
+					case 26 : 
+						int LA17_27 = input.LA(1);
+						 
+						int index17_27 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_27);
+						if ( s>=0 ) return s;
+						break;
+
+					case 27 : 
+						int LA17_28 = input.LA(1);
+						 
+						int index17_28 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_28);
+						if ( s>=0 ) return s;
+						break;
+
+					case 28 : 
+						int LA17_29 = input.LA(1);
+						 
+						int index17_29 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_29);
+						if ( s>=0 ) return s;
+						break;
+
+					case 29 : 
+						int LA17_30 = input.LA(1);
+						 
+						int index17_30 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_30);
+						if ( s>=0 ) return s;
+						break;
+
+					case 30 : 
+						int LA17_31 = input.LA(1);
+						 
+						int index17_31 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_31);
+						if ( s>=0 ) return s;
+						break;
+
+					case 31 : 
+						int LA17_32 = input.LA(1);
+						 
+						int index17_32 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_32);
+						if ( s>=0 ) return s;
+						break;
+
+					case 32 : 
+						int LA17_33 = input.LA(1);
+						 
+						int index17_33 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_33);
+						if ( s>=0 ) return s;
+						break;
+
+					case 33 : 
+						int LA17_34 = input.LA(1);
+						 
+						int index17_34 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_34);
+						if ( s>=0 ) return s;
+						break;
+
+					case 34 : 
+						int LA17_35 = input.LA(1);
+						 
+						int index17_35 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_35);
+						if ( s>=0 ) return s;
+						break;
+
+					case 35 : 
+						int LA17_36 = input.LA(1);
+						 
+						int index17_36 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_36);
+						if ( s>=0 ) return s;
+						break;
+
+					case 36 : 
+						int LA17_37 = input.LA(1);
+						 
+						int index17_37 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_37);
+						if ( s>=0 ) return s;
+						break;
+
+					case 37 : 
+						int LA17_38 = input.LA(1);
+						 
+						int index17_38 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_38);
+						if ( s>=0 ) return s;
+						break;
+
+					case 38 : 
+						int LA17_39 = input.LA(1);
+						 
+						int index17_39 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_39);
+						if ( s>=0 ) return s;
+						break;
+
+					case 39 : 
+						int LA17_40 = input.LA(1);
+						 
+						int index17_40 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_40);
+						if ( s>=0 ) return s;
+						break;
+
+					case 40 : 
+						int LA17_41 = input.LA(1);
+						 
+						int index17_41 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_41);
+						if ( s>=0 ) return s;
+						break;
+
+					case 41 : 
+						int LA17_42 = input.LA(1);
+						 
+						int index17_42 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_42);
+						if ( s>=0 ) return s;
+						break;
+
+					case 42 : 
+						int LA17_43 = input.LA(1);
+						 
+						int index17_43 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_43);
+						if ( s>=0 ) return s;
+						break;
+
+					case 43 : 
+						int LA17_44 = input.LA(1);
+						 
+						int index17_44 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_44);
+						if ( s>=0 ) return s;
+						break;
+
+					case 44 : 
+						int LA17_45 = input.LA(1);
+						 
+						int index17_45 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_45);
+						if ( s>=0 ) return s;
+						break;
+
+					case 45 : 
+						int LA17_46 = input.LA(1);
+						 
+						int index17_46 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_46);
+						if ( s>=0 ) return s;
+						break;
+
+					case 46 : 
+						int LA17_47 = input.LA(1);
+						 
+						int index17_47 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred3_Parser()) ) {s = 49;}
+						else if ( (true) ) {s = 50;}
+						 
+						input.seek(index17_47);
+						if ( s>=0 ) return s;
+						break;
+			}
+			if (state.backtracking>0) {state.failed=true; return -1;}
+			NoViableAltException nvae =
+				new NoViableAltException(getDescription(), 17, _s, input);
+			error(nvae);
+			throw nvae;
+		}
+	}
+
+	static final String DFA22_eotS =
+		"\62\uffff";
+	static final String DFA22_eofS =
+		"\62\uffff";
+	static final String DFA22_minS =
+		"\1\6\54\uffff\1\0\4\uffff";
+	static final String DFA22_maxS =
+		"\1\u00e8\54\uffff\1\0\4\uffff";
+	static final String DFA22_acceptS =
+		"\1\uffff\1\1\54\uffff\1\4\1\5\1\2\1\3";
+	static final String DFA22_specialS =
+		"\55\uffff\1\0\4\uffff}>";
+	static final String[] DFA22_transitionS = {
+			"\1\1\4\uffff\1\1\10\uffff\1\1\3\uffff\1\1\1\uffff\2\1\2\uffff\1\1\1\uffff"+
+			"\3\1\3\uffff\1\1\1\uffff\1\1\1\uffff\1\1\3\uffff\4\1\1\uffff\5\1\1\uffff"+
+			"\4\1\1\uffff\5\1\3\uffff\2\1\1\uffff\1\1\2\uffff\4\1\1\uffff\1\1\1\uffff"+
+			"\3\1\1\uffff\3\1\3\uffff\3\1\1\uffff\2\1\2\uffff\3\1\1\uffff\3\1\1\uffff"+
+			"\4\1\1\uffff\3\1\1\uffff\3\1\1\uffff\1\1\1\uffff\1\1\2\uffff\2\1\2\uffff"+
+			"\7\1\2\uffff\2\1\1\uffff\2\1\2\uffff\1\1\1\uffff\15\1\1\uffff\2\1\1\uffff"+
+			"\4\1\1\uffff\2\1\2\uffff\2\1\1\uffff\5\1\3\uffff\1\1\10\uffff\2\1\3\uffff"+
+			"\1\1\2\uffff\1\1\10\uffff\1\55\10\uffff\1\1\6\uffff\1\56\3\uffff\1\57",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\uffff",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA22_eot = DFA.unpackEncodedString(DFA22_eotS);
+	static final short[] DFA22_eof = DFA.unpackEncodedString(DFA22_eofS);
+	static final char[] DFA22_min = DFA.unpackEncodedStringToUnsignedChars(DFA22_minS);
+	static final char[] DFA22_max = DFA.unpackEncodedStringToUnsignedChars(DFA22_maxS);
+	static final short[] DFA22_accept = DFA.unpackEncodedString(DFA22_acceptS);
+	static final short[] DFA22_special = DFA.unpackEncodedString(DFA22_specialS);
+	static final short[][] DFA22_transition;
+
+	static {
+		int numStates = DFA22_transitionS.length;
+		DFA22_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA22_transition[i] = DFA.unpackEncodedString(DFA22_transitionS[i]);
+		}
+	}
+
+	protected class DFA22 extends DFA {
+
+		public DFA22(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 22;
+			this.eot = DFA22_eot;
+			this.eof = DFA22_eof;
+			this.min = DFA22_min;
+			this.max = DFA22_max;
+			this.accept = DFA22_accept;
+			this.special = DFA22_special;
+			this.transition = DFA22_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "351:1: selectionGroupWithoutField returns [Selectable.Raw s] : (sn= simpleUnaliasedSelector | ( selectionTypeHint )=>h= selectionTypeHint |t= selectionTupleOrNestedSelector |l= selectionList |m= selectionMapOrSet );";
+		}
+		@Override
+		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+			TokenStream input = (TokenStream)_input;
+			int _s = s;
+			switch ( s ) {
+					case 0 : 
+						int LA22_45 = input.LA(1);
+						 
+						int index22_45 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred4_Parser()) ) {s = 48;}
+						else if ( (true) ) {s = 49;}
+						 
+						input.seek(index22_45);
+						if ( s>=0 ) return s;
+						break;
+			}
+			if (state.backtracking>0) {state.failed=true; return -1;}
+			NoViableAltException nvae =
+				new NoViableAltException(getDescription(), 22, _s, input);
+			error(nvae);
+			throw nvae;
+		}
+	}
+
+	static final String DFA30_eotS =
+		"\127\uffff";
+	static final String DFA30_eofS =
+		"\1\uffff\31\42\1\uffff\1\32\5\42\4\uffff\31\42\31\32";
+	static final String DFA30_minS =
+		"\1\6\31\43\1\uffff\6\43\2\uffff\2\32\62\43";
+	static final String DFA30_maxS =
+		"\1\u00dd\31\u00e9\1\uffff\6\u00e9\2\uffff\2\u00c4\62\u00e9";
+	static final String DFA30_acceptS =
+		"\32\uffff\1\2\6\uffff\1\3\1\1\64\uffff";
+	static final String DFA30_specialS =
+		"\127\uffff}>";
+	static final String[] DFA30_transitionS = {
+			"\1\32\4\uffff\1\32\10\uffff\1\32\3\uffff\1\32\1\uffff\1\1\1\32\2\uffff"+
+			"\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff\1\3\1\5"+
+			"\1\6\1\7\1\uffff\1\3\1\37\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2\3\1\27"+
+			"\1\11\1\3\3\uffff\1\40\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff\1\3"+
+			"\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff\2"+
+			"\40\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\34\2\3\1\uffff\2\32\1\3\1\uffff"+
+			"\1\3\1\uffff\1\32\2\uffff\2\3\2\uffff\5\3\2\32\2\uffff\2\3\1\uffff\2"+
+			"\3\2\uffff\1\3\1\uffff\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\1\uffff"+
+			"\1\41\1\3\1\uffff\1\36\3\3\1\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1"+
+			"\24\1\25\1\3\3\uffff\1\35\10\uffff\1\33\1\2\3\uffff\1\32\2\uffff\1\32"+
+			"\21\uffff\1\32",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\uffff\2\32\1\uffff\2\32\1\uffff\1\44\3\32\5\uffff"+
+			"\3\32\2\uffff\1\32",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\uffff\2\42\1\uffff\2\42\1\uffff\1\43\3\42\5\uffff"+
+			"\3\42\2\uffff\1\42",
+			"",
+			"",
+			"\1\45\3\uffff\1\47\1\uffff\3\47\3\uffff\1\47\1\uffff\1\47\1\uffff\1"+
+			"\50\3\uffff\1\47\1\51\1\52\1\53\1\uffff\1\47\1\42\3\47\1\uffff\2\47\1"+
+			"\75\1\54\1\uffff\2\47\1\73\1\55\1\47\3\uffff\1\42\1\56\1\uffff\1\57\2"+
+			"\uffff\3\47\1\60\1\uffff\1\47\1\uffff\3\47\1\uffff\3\47\3\uffff\1\61"+
+			"\2\47\1\uffff\1\62\1\47\2\uffff\2\42\1\47\1\uffff\3\47\1\uffff\4\47\1"+
+			"\uffff\1\42\2\47\3\uffff\1\47\1\uffff\1\47\4\uffff\2\47\2\uffff\5\47"+
+			"\4\uffff\2\47\1\uffff\2\47\2\uffff\1\47\1\uffff\1\47\1\63\6\47\1\64\1"+
+			"\74\1\65\1\72\1\66\1\uffff\1\41\1\47\1\uffff\1\42\3\47\1\uffff\2\47\2"+
+			"\uffff\2\47\1\uffff\1\67\1\47\1\70\1\71\1\47\3\uffff\1\42\11\uffff\1"+
+			"\46",
+			"\1\76\3\uffff\1\100\1\uffff\3\100\3\uffff\1\100\1\uffff\1\100\1\uffff"+
+			"\1\101\3\uffff\1\100\1\102\1\103\1\104\1\uffff\1\100\1\32\3\100\1\uffff"+
+			"\2\100\1\126\1\105\1\uffff\2\100\1\124\1\106\1\100\3\uffff\1\32\1\107"+
+			"\1\uffff\1\110\2\uffff\3\100\1\111\1\uffff\1\100\1\uffff\3\100\1\uffff"+
+			"\3\100\3\uffff\1\112\2\100\1\uffff\1\113\1\100\2\uffff\2\32\1\100\1\uffff"+
+			"\3\100\1\uffff\4\100\1\uffff\1\32\2\100\3\uffff\1\100\1\uffff\1\100\4"+
+			"\uffff\2\100\2\uffff\5\100\4\uffff\2\100\1\uffff\2\100\2\uffff\1\100"+
+			"\1\uffff\1\100\1\114\6\100\1\115\1\125\1\116\1\123\1\117\1\uffff\1\41"+
+			"\1\100\1\uffff\1\32\3\100\1\uffff\2\100\2\uffff\2\100\1\uffff\1\120\1"+
+			"\100\1\121\1\122\1\100\3\uffff\1\32\11\uffff\1\77",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\42\4\uffff\1\42\47\uffff\1\42\33\uffff\1\42\25\uffff\1\42\2\uffff"+
+			"\1\42\115\uffff\1\42\1\41\2\42\1\uffff\2\42\1\uffff\4\42\5\uffff\3\42"+
+			"\2\uffff\1\42",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32",
+			"\1\32\4\uffff\1\32\47\uffff\1\32\33\uffff\1\32\25\uffff\1\32\2\uffff"+
+			"\1\32\115\uffff\1\32\1\41\2\32\1\uffff\2\32\1\uffff\4\32\5\uffff\3\32"+
+			"\2\uffff\1\32"
+	};
+
+	static final short[] DFA30_eot = DFA.unpackEncodedString(DFA30_eotS);
+	static final short[] DFA30_eof = DFA.unpackEncodedString(DFA30_eofS);
+	static final char[] DFA30_min = DFA.unpackEncodedStringToUnsignedChars(DFA30_minS);
+	static final char[] DFA30_max = DFA.unpackEncodedStringToUnsignedChars(DFA30_maxS);
+	static final short[] DFA30_accept = DFA.unpackEncodedString(DFA30_acceptS);
+	static final short[] DFA30_special = DFA.unpackEncodedString(DFA30_specialS);
+	static final short[][] DFA30_transition;
+
+	static {
+		int numStates = DFA30_transitionS.length;
+		DFA30_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA30_transition[i] = DFA.unpackEncodedString(DFA30_transitionS[i]);
+		}
+	}
+
+	protected class DFA30 extends DFA {
+
+		public DFA30(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 30;
+			this.eot = DFA30_eot;
+			this.eof = DFA30_eof;
+			this.min = DFA30_min;
+			this.max = DFA30_max;
+			this.accept = DFA30_accept;
+			this.special = DFA30_special;
+			this.transition = DFA30_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "399:1: simpleUnaliasedSelector returns [Selectable.Raw s] : (c= sident |l= selectionLiteral |f= selectionFunction );";
+		}
+	}
+
+	static final String DFA31_eotS =
+		"\15\uffff";
+	static final String DFA31_eofS =
+		"\15\uffff";
+	static final String DFA31_minS =
+		"\1\32\5\u00d4\1\uffff\1\6\5\uffff";
+	static final String DFA31_maxS =
+		"\1\u00c4\5\u00db\1\uffff\1\u00e8\5\uffff";
+	static final String DFA31_acceptS =
+		"\6\uffff\1\6\1\uffff\1\2\1\3\1\4\1\5\1\1";
+	static final String DFA31_specialS =
+		"\15\uffff}>";
+	static final String[] DFA31_transitionS = {
+			"\1\6\3\uffff\1\6\1\uffff\3\6\3\uffff\1\6\1\uffff\1\6\1\uffff\1\6\3\uffff"+
+			"\4\6\1\uffff\1\6\1\5\3\6\1\uffff\2\6\1\1\1\6\1\uffff\5\6\3\uffff\2\6"+
+			"\1\uffff\1\6\2\uffff\4\6\1\uffff\1\6\1\uffff\3\6\1\uffff\3\6\3\uffff"+
+			"\3\6\1\uffff\2\6\2\uffff\3\6\1\uffff\3\6\1\uffff\4\6\1\uffff\1\2\2\6"+
+			"\3\uffff\1\6\1\uffff\1\6\4\uffff\2\6\2\uffff\5\6\4\uffff\2\6\1\uffff"+
+			"\2\6\2\uffff\1\6\1\uffff\15\6\1\uffff\2\6\1\uffff\1\4\3\6\1\uffff\2\6"+
+			"\2\uffff\2\6\1\uffff\5\6\3\uffff\1\3\10\uffff\2\6",
+			"\1\7\6\uffff\1\6",
+			"\1\10\6\uffff\1\6",
+			"\1\11\6\uffff\1\6",
+			"\1\12\6\uffff\1\6",
+			"\1\13\6\uffff\1\6",
+			"",
+			"\1\6\4\uffff\1\6\10\uffff\1\6\3\uffff\1\6\1\uffff\2\6\2\uffff\1\6\1"+
+			"\uffff\3\6\3\uffff\1\6\1\uffff\1\6\1\uffff\1\6\3\uffff\4\6\1\uffff\5"+
+			"\6\1\uffff\4\6\1\uffff\5\6\3\uffff\2\6\1\uffff\1\6\2\uffff\4\6\1\uffff"+
+			"\1\6\1\uffff\3\6\1\uffff\3\6\3\uffff\3\6\1\uffff\2\6\2\uffff\3\6\1\uffff"+
+			"\3\6\1\uffff\4\6\1\uffff\3\6\1\uffff\3\6\1\uffff\1\6\1\uffff\1\6\2\uffff"+
+			"\2\6\2\uffff\7\6\2\uffff\2\6\1\uffff\2\6\2\uffff\1\6\1\uffff\15\6\1\uffff"+
+			"\2\6\1\uffff\4\6\1\uffff\2\6\2\uffff\2\6\1\uffff\5\6\3\uffff\1\6\10\uffff"+
+			"\2\6\3\uffff\1\6\2\uffff\1\6\10\uffff\2\6\3\uffff\1\6\3\uffff\1\6\6\uffff"+
+			"\1\6\1\14\2\uffff\1\6",
+			"",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA31_eot = DFA.unpackEncodedString(DFA31_eotS);
+	static final short[] DFA31_eof = DFA.unpackEncodedString(DFA31_eofS);
+	static final char[] DFA31_min = DFA.unpackEncodedStringToUnsignedChars(DFA31_minS);
+	static final char[] DFA31_max = DFA.unpackEncodedStringToUnsignedChars(DFA31_maxS);
+	static final short[] DFA31_accept = DFA.unpackEncodedString(DFA31_acceptS);
+	static final short[] DFA31_special = DFA.unpackEncodedString(DFA31_specialS);
+	static final short[][] DFA31_transition;
+
+	static {
+		int numStates = DFA31_transitionS.length;
+		DFA31_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA31_transition[i] = DFA.unpackEncodedString(DFA31_transitionS[i]);
+		}
+	}
+
+	protected class DFA31 extends DFA {
+
+		public DFA31(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 31;
+			this.eot = DFA31_eot;
+			this.eof = DFA31_eof;
+			this.min = DFA31_min;
+			this.max = DFA31_max;
+			this.accept = DFA31_accept;
+			this.special = DFA31_special;
+			this.transition = DFA31_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "405:1: selectionFunction returns [Selectable.Raw s] : ( K_COUNT '(' '\\*' ')' | K_MAXWRITETIME '(' c= sident m= selectorModifier[c] ')' | K_WRITETIME '(' c= sident m= selectorModifier[c] ')' | K_TTL '(' c= sident m= selectorModifier[c] ')' | K_CAST '(' sn= unaliasedSelector K_AS t= native_type ')' |f= functionName args= selectionFunctionArgs );";
+		}
+	}
+
+	static final String DFA63_eotS =
+		"\36\uffff";
+	static final String DFA63_eofS =
+		"\36\uffff";
+	static final String DFA63_minS =
+		"\1\21\32\120\3\uffff";
+	static final String DFA63_maxS =
+		"\1\u00c4\32\u00e4\3\uffff";
+	static final String DFA63_acceptS =
+		"\33\uffff\1\1\1\2\1\3";
+	static final String DFA63_specialS =
+		"\36\uffff}>";
+	static final String[] DFA63_transitionS = {
+			"\1\1\10\uffff\1\2\3\uffff\1\4\1\uffff\3\4\3\uffff\1\4\1\uffff\1\4\1\uffff"+
+			"\1\5\3\uffff\1\4\1\6\1\7\1\10\1\uffff\1\4\1\32\3\4\1\uffff\2\4\1\32\1"+
+			"\11\1\uffff\2\4\1\30\1\12\1\4\3\uffff\1\32\1\13\1\uffff\1\14\2\uffff"+
+			"\3\4\1\15\1\uffff\1\4\1\uffff\3\4\1\uffff\3\4\3\uffff\1\16\2\4\1\uffff"+
+			"\1\17\1\4\2\uffff\2\32\1\4\1\uffff\3\4\1\uffff\4\4\1\uffff\1\32\2\4\3"+
+			"\uffff\1\4\1\uffff\1\4\4\uffff\2\4\2\uffff\5\4\4\uffff\2\4\1\uffff\2"+
+			"\4\2\uffff\1\4\1\uffff\1\4\1\20\6\4\1\21\1\31\1\22\1\27\1\23\2\uffff"+
+			"\1\4\1\uffff\1\32\3\4\1\uffff\2\4\2\uffff\2\4\1\uffff\1\24\1\4\1\25\1"+
+			"\26\1\4\3\uffff\1\32\11\uffff\1\3",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"\1\33\u0087\uffff\1\33\2\uffff\1\35\10\uffff\1\34",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA63_eot = DFA.unpackEncodedString(DFA63_eotS);
+	static final short[] DFA63_eof = DFA.unpackEncodedString(DFA63_eofS);
+	static final char[] DFA63_min = DFA.unpackEncodedStringToUnsignedChars(DFA63_minS);
+	static final char[] DFA63_max = DFA.unpackEncodedStringToUnsignedChars(DFA63_maxS);
+	static final short[] DFA63_accept = DFA.unpackEncodedString(DFA63_acceptS);
+	static final short[] DFA63_special = DFA.unpackEncodedString(DFA63_specialS);
+	static final short[][] DFA63_transition;
+
+	static {
+		int numStates = DFA63_transitionS.length;
+		DFA63_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA63_transition[i] = DFA.unpackEncodedString(DFA63_transitionS[i]);
+		}
+	}
+
+	protected class DFA63 extends DFA {
+
+		public DFA63(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 63;
+			this.eot = DFA63_eot;
+			this.eof = DFA63_eof;
+			this.min = DFA63_min;
+			this.max = DFA63_max;
+			this.accept = DFA63_accept;
+			this.special = DFA63_special;
+			this.transition = DFA63_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "596:1: deleteOp returns [Operation.RawDeletion op] : (c= cident |c= cident '[' t= term ']' |c= cident '.' field= fident );";
+		}
+	}
+
+	static final String DFA146_eotS =
+		"\45\uffff";
+	static final String DFA146_eofS =
+		"\41\uffff\1\42\3\uffff";
+	static final String DFA146_minS =
+		"\1\37\1\21\1\uffff\1\32\2\uffff\32\110\1\uffff\1\u0098\3\uffff";
+	static final String DFA146_maxS =
+		"\1\u00b9\1\u00c4\1\uffff\1\u00d4\2\uffff\32\u00a8\1\uffff\1\u00de\3\uffff";
+	static final String DFA146_acceptS =
+		"\2\uffff\1\3\1\uffff\1\5\1\7\32\uffff\1\2\1\uffff\1\4\1\1\1\6";
+	static final String DFA146_specialS =
+		"\45\uffff}>";
+	static final String[] DFA146_transitionS = {
+			"\1\2\4\uffff\1\1\43\uffff\1\3\102\uffff\1\4\55\uffff\1\5",
+			"\1\6\10\uffff\1\7\3\uffff\1\11\1\uffff\3\11\3\uffff\1\11\1\uffff\1\11"+
+			"\1\uffff\1\12\3\uffff\1\11\1\13\1\14\1\15\1\uffff\1\11\1\37\3\11\1\uffff"+
+			"\2\11\1\37\1\16\1\uffff\2\11\1\35\1\17\1\11\3\uffff\1\37\1\20\1\uffff"+
+			"\1\21\2\uffff\3\11\1\22\1\uffff\1\11\1\uffff\3\11\1\uffff\3\11\1\40\2"+
+			"\uffff\1\23\2\11\1\uffff\1\24\1\11\2\uffff\2\37\1\11\1\uffff\3\11\1\uffff"+
+			"\4\11\1\uffff\1\37\2\11\3\uffff\1\11\1\uffff\1\11\4\uffff\2\11\2\uffff"+
+			"\5\11\4\uffff\2\11\1\uffff\2\11\2\uffff\1\11\1\uffff\1\11\1\25\6\11\1"+
+			"\26\1\36\1\27\1\34\1\30\2\uffff\1\11\1\uffff\1\37\3\11\1\uffff\2\11\2"+
+			"\uffff\2\11\1\uffff\1\31\1\11\1\32\1\33\1\11\3\uffff\1\37\11\uffff\1"+
+			"\10",
+			"",
+			"\1\42\3\uffff\1\42\1\uffff\3\42\3\uffff\1\42\1\uffff\1\42\1\uffff\1"+
+			"\42\3\uffff\4\42\1\uffff\5\42\1\uffff\1\41\3\42\1\uffff\5\42\3\uffff"+
+			"\2\42\1\uffff\1\42\2\uffff\4\42\1\uffff\1\42\1\uffff\3\42\1\uffff\4\42"+
+			"\2\uffff\3\42\1\uffff\2\42\2\uffff\3\42\1\uffff\3\42\1\uffff\4\42\1\uffff"+
+			"\3\42\3\uffff\1\42\1\uffff\1\42\4\uffff\2\42\2\uffff\5\42\4\uffff\2\42"+
+			"\1\uffff\2\42\2\uffff\1\42\1\uffff\15\42\2\uffff\1\42\1\uffff\4\42\1"+
+			"\uffff\2\42\2\uffff\2\42\1\uffff\5\42\3\uffff\1\42\11\uffff\1\42\17\uffff"+
+			"\1\42",
+			"",
+			"",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"\1\40\47\uffff\1\40\67\uffff\1\43",
+			"",
+			"\1\44\30\uffff\1\42\54\uffff\1\42",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA146_eot = DFA.unpackEncodedString(DFA146_eotS);
+	static final short[] DFA146_eof = DFA.unpackEncodedString(DFA146_eofS);
+	static final char[] DFA146_min = DFA.unpackEncodedStringToUnsignedChars(DFA146_minS);
+	static final char[] DFA146_max = DFA.unpackEncodedStringToUnsignedChars(DFA146_maxS);
+	static final short[] DFA146_accept = DFA.unpackEncodedString(DFA146_acceptS);
+	static final short[] DFA146_special = DFA.unpackEncodedString(DFA146_specialS);
+	static final short[][] DFA146_transition;
+
+	static {
+		int numStates = DFA146_transitionS.length;
+		DFA146_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA146_transition[i] = DFA.unpackEncodedString(DFA146_transitionS[i]);
+		}
+	}
+
+	protected class DFA146 extends DFA {
+
+		public DFA146(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 146;
+			this.eot = DFA146_eot;
+			this.eof = DFA146_eof;
+			this.min = DFA146_min;
+			this.max = DFA146_max;
+			this.accept = DFA146_accept;
+			this.special = DFA146_special;
+			this.transition = DFA146_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "951:7: ( K_ALTER id= cident K_TYPE v= comparatorType | K_ALTER ( K_IF K_EXISTS )? id= cident (mask= columnMask | K_DROP K_MASKED ) | K_ADD ( K_IF K_NOT K_EXISTS )? (id= ident v= comparatorType b= isStaticColumn (m= columnMask )? | ( '(' id1= ident v1= comparatorType b1= isStaticColumn (m1= columnMask )? ( ',' idn= ident vn= comparatorType bn= isStaticColumn (mn= columnMask )? )* ')' ) ) | K_DROP ( K_IF K_EXISTS )? (id= ident | ( '(' id1= ident ( ',' idn= ident )* ')' ) ) ( K_USING K_TIMESTAMP t= INTEGER )? | K_RENAME ( K_IF K_EXISTS )? (id1= ident K_TO toId1= ident ( K_AND idn= ident K_TO toIdn= ident )* ) | K_DROP K_COMPACT K_STORAGE | K_WITH properties[$stmt.attrs] )";
+		}
+	}
+
+	static final String DFA168_eotS =
+		"\12\uffff";
+	static final String DFA168_eofS =
+		"\1\uffff\1\2\1\uffff\4\2\3\uffff";
+	static final String DFA168_minS =
+		"\1\32\1\120\1\uffff\2\32\2\120\3\uffff";
+	static final String DFA168_maxS =
+		"\1\u00c4\1\u00de\1\uffff\4\u00de\3\uffff";
+	static final String DFA168_acceptS =
+		"\2\uffff\1\1\4\uffff\1\2\1\3\1\4";
+	static final String DFA168_specialS =
+		"\12\uffff}>";
+	static final String[] DFA168_transitionS = {
+			"\1\2\3\uffff\1\2\1\uffff\2\2\1\1\3\uffff\1\2\1\uffff\1\2\1\uffff\1\2"+
+			"\3\uffff\4\2\1\uffff\12\2\1\uffff\5\2\3\uffff\2\2\1\uffff\1\2\2\uffff"+
+			"\4\2\1\uffff\1\2\1\uffff\1\4\2\2\1\uffff\3\2\3\uffff\3\2\1\uffff\2\2"+
+			"\2\uffff\7\2\1\uffff\4\2\1\uffff\1\2\1\5\1\6\3\uffff\1\2\1\uffff\1\2"+
+			"\4\uffff\2\2\2\uffff\5\2\4\uffff\2\2\1\uffff\1\3\1\2\2\uffff\1\2\1\uffff"+
+			"\15\2\2\uffff\1\2\1\uffff\4\2\1\uffff\2\2\2\uffff\2\2\1\uffff\5\2\3\uffff"+
+			"\1\2\10\uffff\2\2",
+			"\1\2\3\uffff\1\10\24\uffff\1\2\12\uffff\1\11\4\uffff\1\2\3\uffff\1\2"+
+			"\22\uffff\1\7\13\uffff\1\2\5\uffff\1\2\70\uffff\1\2\2\uffff\1\2",
+			"",
+			"\1\7\3\uffff\1\7\1\uffff\3\7\3\uffff\1\7\1\uffff\1\7\1\uffff\1\7\3\uffff"+
+			"\4\7\1\uffff\5\7\1\uffff\4\7\1\uffff\5\7\3\uffff\2\7\1\uffff\1\7\2\uffff"+
+			"\4\7\1\2\1\7\1\uffff\3\7\1\uffff\3\7\3\uffff\3\7\1\uffff\2\7\2\uffff"+
+			"\3\7\1\uffff\3\7\1\uffff\4\7\1\uffff\3\7\3\uffff\1\7\1\2\1\7\2\uffff"+
+			"\1\2\1\uffff\2\7\2\uffff\5\7\4\uffff\2\7\1\uffff\2\7\2\uffff\1\7\1\uffff"+
+			"\15\7\1\2\1\uffff\1\7\1\uffff\4\7\1\uffff\2\7\2\uffff\2\7\1\uffff\5\7"+
+			"\3\uffff\1\7\10\uffff\2\7\3\uffff\1\7\22\uffff\1\2\2\uffff\1\2",
+			"\1\10\3\uffff\1\10\1\uffff\3\10\3\uffff\1\10\1\uffff\1\10\1\uffff\1"+
+			"\10\3\uffff\4\10\1\uffff\5\10\1\uffff\4\10\1\uffff\5\10\3\uffff\2\10"+
+			"\1\uffff\1\10\2\uffff\4\10\1\2\1\10\1\uffff\3\10\1\uffff\3\10\3\uffff"+
+			"\3\10\1\uffff\2\10\2\uffff\3\10\1\uffff\3\10\1\uffff\4\10\1\uffff\3\10"+
+			"\3\uffff\1\10\1\2\1\10\2\uffff\1\2\1\uffff\2\10\2\uffff\5\10\4\uffff"+
+			"\2\10\1\uffff\2\10\2\uffff\1\10\1\uffff\15\10\1\2\2\10\1\uffff\4\10\1"+
+			"\uffff\2\10\2\uffff\2\10\1\uffff\5\10\3\uffff\1\10\10\uffff\2\10\26\uffff"+
+			"\1\2\2\uffff\1\2",
+			"\1\2\50\uffff\1\2\3\uffff\1\2\44\uffff\1\2\45\uffff\1\11\22\uffff\1"+
+			"\2\2\uffff\1\2",
+			"\1\2\50\uffff\1\2\3\uffff\1\2\44\uffff\1\2\45\uffff\1\11\22\uffff\1"+
+			"\2\2\uffff\1\2",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA168_eot = DFA.unpackEncodedString(DFA168_eotS);
+	static final short[] DFA168_eof = DFA.unpackEncodedString(DFA168_eofS);
+	static final char[] DFA168_min = DFA.unpackEncodedStringToUnsignedChars(DFA168_minS);
+	static final char[] DFA168_max = DFA.unpackEncodedStringToUnsignedChars(DFA168_maxS);
+	static final short[] DFA168_accept = DFA.unpackEncodedString(DFA168_acceptS);
+	static final short[] DFA168_special = DFA.unpackEncodedString(DFA168_specialS);
+	static final short[][] DFA168_transition;
+
+	static {
+		int numStates = DFA168_transitionS.length;
+		DFA168_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA168_transition[i] = DFA.unpackEncodedString(DFA168_transitionS[i]);
+		}
+	}
+
+	protected class DFA168 extends DFA {
+
+		public DFA168(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 168;
+			this.eot = DFA168_eot;
+			this.eof = DFA168_eof;
+			this.min = DFA168_min;
+			this.max = DFA168_max;
+			this.accept = DFA168_accept;
+			this.special = DFA168_special;
+			this.transition = DFA168_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1138:1: resource returns [IResource res] : (d= dataResource |r= roleResource |f= functionResource |j= jmxResource );";
+		}
+	}
+
+	static final String DFA195_eotS =
+		"\16\uffff";
+	static final String DFA195_eofS =
+		"\16\uffff";
+	static final String DFA195_minS =
+		"\1\36\6\uffff\1\120\2\42\4\uffff";
+	static final String DFA195_maxS =
+		"\1\u009a\6\uffff\1\u00a2\1\77\1\65\4\uffff";
+	static final String DFA195_acceptS =
+		"\1\uffff\1\1\1\2\1\3\1\4\1\5\1\6\3\uffff\1\7\1\10\1\11\1\12";
+	static final String DFA195_specialS =
+		"\16\uffff}>";
+	static final String[] DFA195_transitionS = {
+			"\1\7\66\uffff\1\2\2\uffff\1\3\25\uffff\1\6\21\uffff\1\4\3\uffff\1\1\25"+
+			"\uffff\1\5",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\11\121\uffff\1\10",
+			"\1\12\34\uffff\1\13",
+			"\1\14\22\uffff\1\15",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA195_eot = DFA.unpackEncodedString(DFA195_eotS);
+	static final short[] DFA195_eof = DFA.unpackEncodedString(DFA195_eofS);
+	static final char[] DFA195_min = DFA.unpackEncodedStringToUnsignedChars(DFA195_minS);
+	static final char[] DFA195_max = DFA.unpackEncodedStringToUnsignedChars(DFA195_maxS);
+	static final short[] DFA195_accept = DFA.unpackEncodedString(DFA195_acceptS);
+	static final short[] DFA195_special = DFA.unpackEncodedString(DFA195_specialS);
+	static final short[][] DFA195_transition;
+
+	static {
+		int numStates = DFA195_transitionS.length;
+		DFA195_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA195_transition[i] = DFA.unpackEncodedString(DFA195_transitionS[i]);
+		}
+	}
+
+	protected class DFA195 extends DFA {
+
+		public DFA195(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 195;
+			this.eot = DFA195_eot;
+			this.eof = DFA195_eof;
+			this.min = DFA195_min;
+			this.max = DFA195_max;
+			this.accept = DFA195_accept;
+			this.special = DFA195_special;
+			this.transition = DFA195_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1409:1: roleOption[RoleOptions opts, DCPermissions.Builder dcperms, CIDRPermissions.Builder cidrperms] : ( K_PASSWORD '=' v= STRING_LITERAL | K_GENERATED K_PASSWORD | K_HASHED K_PASSWORD '=' v= STRING_LITERAL | K_OPTIONS '=' m= fullMapLiteral | K_SUPERUSER '=' b= BOOLEAN | K_LOGIN '=' b= BOOLEAN | K_ACCESS K_TO K_ALL K_DATACENTERS | K_ACCESS K_TO K_DATACENTERS '{' dcPermission[dcperms] ( ',' dcPermission[dcperms] )* '}' | K_ACCESS K_FROM K_ALL K_CIDRS | K_ACCESS K_FROM K_CIDRS '{' cidrPermission[cidrperms] ( ',' cidrPermission[cidrperms] )* '}' );";
+		}
+	}
+
+	static final String DFA203_eotS =
+		"\32\uffff";
+	static final String DFA203_eofS =
+		"\4\uffff\1\20\6\uffff\1\20\1\uffff\1\20\1\uffff\1\20\12\uffff";
+	static final String DFA203_minS =
+		"\1\32\1\0\1\uffff\1\0\1\150\1\uffff\1\0\3\uffff\1\0\1\32\1\0\1\32\1\0"+
+		"\1\32\12\uffff";
+	static final String DFA203_maxS =
+		"\1\u00c4\1\0\1\uffff\1\0\1\u00de\1\uffff\1\0\3\uffff\1\0\1\u00de\1\0\1"+
+		"\u00de\1\0\1\u00de\12\uffff";
+	static final String DFA203_acceptS =
+		"\2\uffff\1\2\2\uffff\1\4\1\uffff\1\6\1\7\1\10\6\uffff\1\17\1\1\1\3\1\5"+
+		"\1\11\1\12\1\13\1\14\1\15\1\16";
+	static final String DFA203_specialS =
+		"\1\uffff\1\0\1\uffff\1\1\2\uffff\1\2\3\uffff\1\3\1\uffff\1\4\1\uffff\1"+
+		"\5\13\uffff}>";
+	static final String[] DFA203_transitionS = {
+			"\1\20\3\uffff\1\20\1\uffff\1\17\1\16\1\20\3\uffff\1\20\1\uffff\1\20\1"+
+			"\uffff\1\20\3\uffff\4\20\1\uffff\3\20\1\1\1\20\1\7\4\20\1\uffff\5\20"+
+			"\3\uffff\2\20\1\uffff\1\20\2\uffff\4\20\1\uffff\1\20\1\2\1\15\1\14\1"+
+			"\20\1\uffff\3\20\2\uffff\1\10\3\20\1\uffff\2\20\2\uffff\3\20\1\5\1\3"+
+			"\2\20\1\uffff\4\20\1\11\3\20\3\uffff\1\20\1\uffff\1\20\4\uffff\1\4\1"+
+			"\20\2\uffff\5\20\4\uffff\2\20\1\uffff\2\20\1\2\1\uffff\1\20\1\uffff\7"+
+			"\20\1\6\5\20\2\uffff\1\20\1\uffff\2\20\1\13\1\12\1\uffff\2\20\2\uffff"+
+			"\2\20\1\uffff\5\20\3\uffff\1\20\11\uffff\1\20",
+			"\1\uffff",
+			"",
+			"\1\uffff",
+			"\1\5\120\uffff\1\20\41\uffff\1\20\2\uffff\1\20",
+			"",
+			"\1\uffff",
+			"",
+			"",
+			"",
+			"\1\uffff",
+			"\1\25\3\uffff\1\25\1\uffff\3\25\3\uffff\1\25\1\uffff\1\25\1\uffff\1"+
+			"\25\3\uffff\4\25\1\uffff\5\25\1\uffff\4\25\1\uffff\5\25\3\uffff\2\25"+
+			"\1\uffff\1\25\2\uffff\4\25\1\uffff\1\25\1\uffff\3\25\1\uffff\3\25\3\uffff"+
+			"\3\25\1\uffff\2\25\2\uffff\3\25\1\uffff\3\25\1\uffff\4\25\1\uffff\3\25"+
+			"\3\uffff\1\25\1\uffff\1\25\4\uffff\2\25\2\uffff\5\25\4\uffff\2\25\1\uffff"+
+			"\2\25\2\uffff\1\25\1\uffff\15\25\2\uffff\1\25\1\uffff\4\25\1\uffff\2"+
+			"\25\2\uffff\2\25\1\uffff\5\25\2\uffff\1\20\1\25\11\uffff\1\25\26\uffff"+
+			"\1\20\2\uffff\1\20",
+			"\1\uffff",
+			"\1\27\3\uffff\1\27\1\uffff\3\27\3\uffff\1\27\1\uffff\1\27\1\uffff\1"+
+			"\27\3\uffff\4\27\1\uffff\5\27\1\uffff\4\27\1\uffff\5\27\3\uffff\2\27"+
+			"\1\uffff\1\27\2\uffff\4\27\1\uffff\1\27\1\uffff\3\27\1\uffff\3\27\3\uffff"+
+			"\3\27\1\uffff\2\27\2\uffff\3\27\1\uffff\3\27\1\uffff\4\27\1\uffff\3\27"+
+			"\3\uffff\1\27\1\uffff\1\27\4\uffff\2\27\2\uffff\5\27\4\uffff\2\27\1\uffff"+
+			"\2\27\2\uffff\1\27\1\uffff\15\27\1\uffff\2\27\1\uffff\4\27\1\uffff\2"+
+			"\27\2\uffff\2\27\1\uffff\5\27\2\uffff\1\20\1\27\10\uffff\2\27\26\uffff"+
+			"\1\20\2\uffff\1\20",
+			"\1\uffff",
+			"\1\31\3\uffff\1\31\1\uffff\3\31\3\uffff\1\31\1\uffff\1\31\1\uffff\1"+
+			"\31\3\uffff\4\31\1\uffff\5\31\1\uffff\4\31\1\uffff\5\31\3\uffff\2\31"+
+			"\1\uffff\1\31\2\uffff\4\31\1\uffff\1\31\1\uffff\3\31\1\uffff\3\31\3\uffff"+
+			"\3\31\1\uffff\2\31\2\uffff\3\31\1\uffff\3\31\1\uffff\4\31\1\uffff\3\31"+
+			"\3\uffff\1\31\1\uffff\1\31\4\uffff\2\31\2\uffff\5\31\4\uffff\2\31\1\uffff"+
+			"\2\31\2\uffff\1\31\1\uffff\15\31\1\uffff\2\31\1\uffff\4\31\1\uffff\2"+
+			"\31\2\uffff\2\31\1\uffff\5\31\2\uffff\1\20\1\31\10\uffff\2\31\26\uffff"+
+			"\1\20\2\uffff\1\20",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA203_eot = DFA.unpackEncodedString(DFA203_eotS);
+	static final short[] DFA203_eof = DFA.unpackEncodedString(DFA203_eofS);
+	static final char[] DFA203_min = DFA.unpackEncodedStringToUnsignedChars(DFA203_minS);
+	static final char[] DFA203_max = DFA.unpackEncodedStringToUnsignedChars(DFA203_maxS);
+	static final short[] DFA203_accept = DFA.unpackEncodedString(DFA203_acceptS);
+	static final short[] DFA203_special = DFA.unpackEncodedString(DFA203_specialS);
+	static final short[][] DFA203_transition;
+
+	static {
+		int numStates = DFA203_transitionS.length;
+		DFA203_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA203_transition[i] = DFA.unpackEncodedString(DFA203_transitionS[i]);
+		}
+	}
+
+	protected class DFA203 extends DFA {
+
+		public DFA203(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 203;
+			this.eot = DFA203_eot;
+			this.eof = DFA203_eof;
+			this.min = DFA203_min;
+			this.max = DFA203_max;
+			this.accept = DFA203_accept;
+			this.special = DFA203_special;
+			this.transition = DFA203_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1452:5: ( ( K_CLUSTER )=> K_CLUSTER | ( K_FULL )? K_SCHEMA | ( K_KEYSPACES )=> K_KEYSPACES | ( K_ONLY )? K_KEYSPACE (ks= keyspaceName )? | ( K_TABLES )=> K_TABLES | K_COLUMNFAMILY cf= columnFamilyName | K_INDEX idx= columnFamilyName | K_MATERIALIZED K_VIEW view= columnFamilyName | ( K_TYPES )=> K_TYPES | K_TYPE tn= userTypeName | ( K_FUNCTIONS )=> K_FUNCTIONS | K_FUNCTION fn= functionName | ( K_AGGREGATES )=> K_AGGREGATES | K_AGGREGATE ag= functionName | ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )? (tT= IDENT |tT= QUOTED_NAME |tK= unreserved_keyword ) )";
+		}
+		@Override
+		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+			TokenStream input = (TokenStream)_input;
+			int _s = s;
+			switch ( s ) {
+					case 0 : 
+						int LA203_1 = input.LA(1);
+						 
+						int index203_1 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred5_Parser()) ) {s = 17;}
+						else if ( (true) ) {s = 16;}
+						 
+						input.seek(index203_1);
+						if ( s>=0 ) return s;
+						break;
+
+					case 1 : 
+						int LA203_3 = input.LA(1);
+						 
+						int index203_3 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred6_Parser()) ) {s = 18;}
+						else if ( (true) ) {s = 16;}
+						 
+						input.seek(index203_3);
+						if ( s>=0 ) return s;
+						break;
+
+					case 2 : 
+						int LA203_6 = input.LA(1);
+						 
+						int index203_6 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred7_Parser()) ) {s = 19;}
+						else if ( (true) ) {s = 16;}
+						 
+						input.seek(index203_6);
+						if ( s>=0 ) return s;
+						break;
+
+					case 3 : 
+						int LA203_10 = input.LA(1);
+						 
+						int index203_10 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred8_Parser()) ) {s = 20;}
+						else if ( (true) ) {s = 16;}
+						 
+						input.seek(index203_10);
+						if ( s>=0 ) return s;
+						break;
+
+					case 4 : 
+						int LA203_12 = input.LA(1);
+						 
+						int index203_12 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred9_Parser()) ) {s = 22;}
+						else if ( (true) ) {s = 16;}
+						 
+						input.seek(index203_12);
+						if ( s>=0 ) return s;
+						break;
+
+					case 5 : 
+						int LA203_14 = input.LA(1);
+						 
+						int index203_14 = input.index();
+						input.rewind();
+						s = -1;
+						if ( (synpred10_Parser()) ) {s = 24;}
+						else if ( (true) ) {s = 16;}
+						 
+						input.seek(index203_14);
+						if ( s>=0 ) return s;
+						break;
+			}
+			if (state.backtracking>0) {state.failed=true; return -1;}
+			NoViableAltException nvae =
+				new NoViableAltException(getDescription(), 203, _s, input);
+			error(nvae);
+			throw nvae;
+		}
+	}
+
+	static final String DFA201_eotS =
+		"\34\uffff";
+	static final String DFA201_eofS =
+		"\1\uffff\31\33\2\uffff";
+	static final String DFA201_minS =
+		"\1\32\31\u00b9\2\uffff";
+	static final String DFA201_maxS =
+		"\1\u00c4\31\u00de\2\uffff";
+	static final String DFA201_acceptS =
+		"\32\uffff\1\1\1\2";
+	static final String DFA201_specialS =
+		"\34\uffff}>";
+	static final String[] DFA201_transitionS = {
+			"\1\1\3\uffff\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff"+
+			"\1\3\1\5\1\6\1\7\1\uffff\1\3\1\31\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2"+
+			"\3\1\27\1\11\1\3\3\uffff\1\31\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff"+
+			"\1\3\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff"+
+			"\2\31\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\31\2\3\3\uffff\1\3\1\uffff"+
+			"\1\3\4\uffff\2\3\2\uffff\5\3\4\uffff\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff"+
+			"\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\2\uffff\1\3\1\uffff\1\31\3\3\1"+
+			"\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1\24\1\25\1\3\3\uffff\1\31\11"+
+			"\uffff\1\2",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"\1\33\41\uffff\1\32\2\uffff\1\33",
+			"",
+			""
+	};
+
+	static final short[] DFA201_eot = DFA.unpackEncodedString(DFA201_eotS);
+	static final short[] DFA201_eof = DFA.unpackEncodedString(DFA201_eofS);
+	static final char[] DFA201_min = DFA.unpackEncodedStringToUnsignedChars(DFA201_minS);
+	static final char[] DFA201_max = DFA.unpackEncodedStringToUnsignedChars(DFA201_maxS);
+	static final short[] DFA201_accept = DFA.unpackEncodedString(DFA201_acceptS);
+	static final short[] DFA201_special = DFA.unpackEncodedString(DFA201_specialS);
+	static final short[][] DFA201_transition;
+
+	static {
+		int numStates = DFA201_transitionS.length;
+		DFA201_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA201_transition[i] = DFA.unpackEncodedString(DFA201_transitionS[i]);
+		}
+	}
+
+	protected class DFA201 extends DFA {
+
+		public DFA201(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 201;
+			this.eot = DFA201_eot;
+			this.eof = DFA201_eof;
+			this.min = DFA201_min;
+			this.max = DFA201_max;
+			this.accept = DFA201_accept;
+			this.special = DFA201_special;
+			this.transition = DFA201_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1467:7: ( (ksT= IDENT |ksT= QUOTED_NAME |ksK= unreserved_keyword ) '.' )?";
+		}
+	}
+
+	static final String DFA209_eotS =
+		"\35\uffff";
+	static final String DFA209_eofS =
+		"\1\uffff\32\34\2\uffff";
+	static final String DFA209_minS =
+		"\1\32\32\u00db\2\uffff";
+	static final String DFA209_maxS =
+		"\1\u00c4\32\u00de\2\uffff";
+	static final String DFA209_acceptS =
+		"\33\uffff\1\1\1\2";
+	static final String DFA209_specialS =
+		"\35\uffff}>";
+	static final String[] DFA209_transitionS = {
+			"\1\1\3\uffff\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff"+
+			"\1\3\1\5\1\6\1\7\1\uffff\1\3\1\31\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2"+
+			"\3\1\27\1\11\1\3\3\uffff\1\31\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff"+
+			"\1\3\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff"+
+			"\2\31\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\31\2\3\3\uffff\1\3\1\uffff"+
+			"\1\3\4\uffff\2\3\2\uffff\5\3\4\uffff\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff"+
+			"\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\2\uffff\1\3\1\uffff\1\31\3\3\1"+
+			"\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1\24\1\25\1\3\3\uffff\1\31\10"+
+			"\uffff\1\32\1\2",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"\1\33\2\uffff\1\34",
+			"",
+			""
+	};
+
+	static final short[] DFA209_eot = DFA.unpackEncodedString(DFA209_eotS);
+	static final short[] DFA209_eof = DFA.unpackEncodedString(DFA209_eofS);
+	static final char[] DFA209_min = DFA.unpackEncodedStringToUnsignedChars(DFA209_minS);
+	static final char[] DFA209_max = DFA.unpackEncodedStringToUnsignedChars(DFA209_maxS);
+	static final short[] DFA209_accept = DFA.unpackEncodedString(DFA209_acceptS);
+	static final short[] DFA209_special = DFA.unpackEncodedString(DFA209_specialS);
+	static final short[][] DFA209_transition;
+
+	static {
+		int numStates = DFA209_transitionS.length;
+		DFA209_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA209_transition[i] = DFA.unpackEncodedString(DFA209_transitionS[i]);
+		}
+	}
+
+	protected class DFA209 extends DFA {
+
+		public DFA209(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 209;
+			this.eot = DFA209_eot;
+			this.eof = DFA209_eof;
+			this.min = DFA209_min;
+			this.max = DFA209_max;
+			this.accept = DFA209_accept;
+			this.special = DFA209_special;
+			this.transition = DFA209_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1514:7: ( ksName[name] '.' )?";
+		}
+	}
+
+	static final String DFA210_eotS =
+		"\35\uffff";
+	static final String DFA210_eofS =
+		"\1\uffff\32\34\2\uffff";
+	static final String DFA210_minS =
+		"\1\32\32\37\2\uffff";
+	static final String DFA210_maxS =
+		"\1\u00c4\32\u00de\2\uffff";
+	static final String DFA210_acceptS =
+		"\33\uffff\1\1\1\2";
+	static final String DFA210_specialS =
+		"\35\uffff}>";
+	static final String[] DFA210_transitionS = {
+			"\1\1\3\uffff\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff"+
+			"\1\3\1\5\1\6\1\7\1\uffff\1\3\1\31\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2"+
+			"\3\1\27\1\11\1\3\3\uffff\1\31\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff"+
+			"\1\3\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff"+
+			"\2\31\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\31\2\3\3\uffff\1\3\1\uffff"+
+			"\1\3\4\uffff\2\3\2\uffff\5\3\4\uffff\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff"+
+			"\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\2\uffff\1\3\1\uffff\1\31\3\3\1"+
+			"\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1\24\1\25\1\3\3\uffff\1\31\10"+
+			"\uffff\1\32\1\2",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"\1\34\3\uffff\2\34\3\uffff\1\34\37\uffff\1\34\7\uffff\1\34\6\uffff\1"+
+			"\34\15\uffff\1\34\6\uffff\1\34\14\uffff\1\34\3\uffff\1\34\4\uffff\1\34"+
+			"\2\uffff\1\34\4\uffff\2\34\10\uffff\1\34\15\uffff\1\34\16\uffff\1\34"+
+			"\6\uffff\2\34\32\uffff\1\34\6\uffff\1\33\2\uffff\1\34",
+			"",
+			""
+	};
+
+	static final short[] DFA210_eot = DFA.unpackEncodedString(DFA210_eotS);
+	static final short[] DFA210_eof = DFA.unpackEncodedString(DFA210_eofS);
+	static final char[] DFA210_min = DFA.unpackEncodedStringToUnsignedChars(DFA210_minS);
+	static final char[] DFA210_max = DFA.unpackEncodedStringToUnsignedChars(DFA210_maxS);
+	static final short[] DFA210_accept = DFA.unpackEncodedString(DFA210_acceptS);
+	static final short[] DFA210_special = DFA.unpackEncodedString(DFA210_specialS);
+	static final short[][] DFA210_transition;
+
+	static {
+		int numStates = DFA210_transitionS.length;
+		DFA210_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA210_transition[i] = DFA.unpackEncodedString(DFA210_transitionS[i]);
+		}
+	}
+
+	protected class DFA210 extends DFA {
+
+		public DFA210(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 210;
+			this.eot = DFA210_eot;
+			this.eof = DFA210_eof;
+			this.min = DFA210_min;
+			this.max = DFA210_max;
+			this.accept = DFA210_accept;
+			this.special = DFA210_special;
+			this.transition = DFA210_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1519:7: ( ksName[name] '.' )?";
+		}
+	}
+
+	static final String DFA228_eotS =
+		"\43\uffff";
+	static final String DFA228_eofS =
+		"\43\uffff";
+	static final String DFA228_minS =
+		"\1\6\2\uffff\1\6\3\uffff\32\u00d4\1\u00db\1\uffff";
+	static final String DFA228_maxS =
+		"\1\u00e8\2\uffff\1\u00e9\3\uffff\33\u00dd\1\uffff";
+	static final String DFA228_acceptS =
+		"\1\uffff\1\1\1\2\1\uffff\1\4\1\5\1\6\33\uffff\1\3";
+	static final String DFA228_specialS =
+		"\43\uffff}>";
+	static final String[] DFA228_transitionS = {
+			"\1\1\4\uffff\1\1\10\uffff\1\1\3\uffff\1\1\2\uffff\1\1\132\uffff\2\1\4"+
+			"\uffff\1\5\13\uffff\2\1\71\uffff\1\6\4\uffff\1\1\2\uffff\1\1\10\uffff"+
+			"\1\4\10\uffff\1\6\6\uffff\1\2\3\uffff\1\3",
+			"",
+			"",
+			"\1\2\4\uffff\1\2\10\uffff\1\2\3\uffff\1\2\1\uffff\1\7\1\2\2\uffff\1"+
+			"\11\1\uffff\3\11\3\uffff\1\11\1\uffff\1\11\1\uffff\1\12\3\uffff\1\11"+
+			"\1\13\1\14\1\15\1\uffff\1\11\1\40\3\11\1\uffff\2\11\1\37\1\16\1\uffff"+
+			"\2\11\1\35\1\17\1\11\3\uffff\1\41\1\20\1\uffff\1\21\2\uffff\3\11\1\22"+
+			"\1\uffff\1\11\1\uffff\3\11\1\uffff\3\11\3\uffff\1\23\2\11\1\uffff\1\24"+
+			"\1\11\2\uffff\2\41\1\11\1\uffff\3\11\1\uffff\4\11\1\uffff\1\41\2\11\1"+
+			"\uffff\2\2\1\11\1\uffff\1\11\1\uffff\1\2\2\uffff\2\11\2\uffff\5\11\2"+
+			"\2\2\uffff\2\11\1\uffff\2\11\2\uffff\1\11\1\uffff\1\11\1\25\6\11\1\26"+
+			"\1\36\1\27\1\34\1\30\1\uffff\1\2\1\11\1\uffff\1\41\3\11\1\uffff\2\11"+
+			"\2\uffff\2\11\1\uffff\1\31\1\11\1\32\1\33\1\11\3\uffff\1\41\10\uffff"+
+			"\1\2\1\10\3\uffff\1\2\2\uffff\1\2\10\uffff\1\2\4\uffff\1\2\3\uffff\1"+
+			"\2\6\uffff\1\2\3\uffff\2\2",
+			"",
+			"",
+			"",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\6\uffff\1\2\1\uffff\1\42",
+			"\1\2\1\uffff\1\42",
+			""
+	};
+
+	static final short[] DFA228_eot = DFA.unpackEncodedString(DFA228_eotS);
+	static final short[] DFA228_eof = DFA.unpackEncodedString(DFA228_eofS);
+	static final char[] DFA228_min = DFA.unpackEncodedStringToUnsignedChars(DFA228_minS);
+	static final char[] DFA228_max = DFA.unpackEncodedStringToUnsignedChars(DFA228_maxS);
+	static final short[] DFA228_accept = DFA.unpackEncodedString(DFA228_acceptS);
+	static final short[] DFA228_special = DFA.unpackEncodedString(DFA228_specialS);
+	static final short[][] DFA228_transition;
+
+	static {
+		int numStates = DFA228_transitionS.length;
+		DFA228_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA228_transition[i] = DFA.unpackEncodedString(DFA228_transitionS[i]);
+		}
+	}
+
+	protected class DFA228 extends DFA {
+
+		public DFA228(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 228;
+			this.eot = DFA228_eot;
+			this.eof = DFA228_eof;
+			this.min = DFA228_min;
+			this.max = DFA228_max;
+			this.accept = DFA228_accept;
+			this.special = DFA228_special;
+			this.transition = DFA228_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1624:1: value returns [Term.Raw value] : (c= constant |l= collectionLiteral |u= usertypeLiteral |t= tupleLiteral | K_NULL |m= marker );";
+		}
+	}
+
+	static final String DFA230_eotS =
+		"\34\uffff";
+	static final String DFA230_eofS =
+		"\1\uffff\31\33\2\uffff";
+	static final String DFA230_minS =
+		"\1\32\31\u00b9\2\uffff";
+	static final String DFA230_maxS =
+		"\1\u00c4\31\u00de\2\uffff";
+	static final String DFA230_acceptS =
+		"\32\uffff\1\1\1\2";
+	static final String DFA230_specialS =
+		"\34\uffff}>";
+	static final String[] DFA230_transitionS = {
+			"\1\1\3\uffff\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff"+
+			"\1\3\1\5\1\6\1\7\1\uffff\1\3\1\32\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2"+
+			"\3\1\27\1\11\1\3\3\uffff\1\32\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff"+
+			"\1\3\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff"+
+			"\2\32\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\32\2\3\3\uffff\1\3\1\uffff"+
+			"\1\3\4\uffff\2\3\2\uffff\5\3\4\uffff\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff"+
+			"\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\1\uffff\1\33\1\3\1\uffff\1\32"+
+			"\3\3\1\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1\24\1\25\1\3\3\uffff\1"+
+			"\32\10\uffff\1\32\1\2",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"\1\33\32\uffff\1\33\6\uffff\1\32\2\uffff\1\33",
+			"",
+			""
+	};
+
+	static final short[] DFA230_eot = DFA.unpackEncodedString(DFA230_eotS);
+	static final short[] DFA230_eof = DFA.unpackEncodedString(DFA230_eofS);
+	static final char[] DFA230_min = DFA.unpackEncodedStringToUnsignedChars(DFA230_minS);
+	static final char[] DFA230_max = DFA.unpackEncodedStringToUnsignedChars(DFA230_maxS);
+	static final short[] DFA230_accept = DFA.unpackEncodedString(DFA230_acceptS);
+	static final short[] DFA230_special = DFA.unpackEncodedString(DFA230_specialS);
+	static final short[][] DFA230_transition;
+
+	static {
+		int numStates = DFA230_transitionS.length;
+		DFA230_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA230_transition[i] = DFA.unpackEncodedString(DFA230_transitionS[i]);
+		}
+	}
+
+	protected class DFA230 extends DFA {
+
+		public DFA230(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 230;
+			this.eot = DFA230_eot;
+			this.eof = DFA230_eof;
+			this.min = DFA230_min;
+			this.max = DFA230_max;
+			this.accept = DFA230_accept;
+			this.special = DFA230_special;
+			this.transition = DFA230_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1641:7: (ks= keyspaceName '.' )?";
+		}
+	}
+
+	static final String DFA232_eotS =
+		"\72\uffff";
+	static final String DFA232_eofS =
+		"\72\uffff";
+	static final String DFA232_minS =
+		"\1\32\31\u00d4\1\u00db\1\u00d4\1\u00db\1\32\1\6\31\u00d4\2\uffff";
+	static final String DFA232_maxS =
+		"\1\u00c4\32\u00db\1\u00d4\1\u00db\1\u00c4\1\u00e8\31\u00d4\2\uffff";
+	static final String DFA232_acceptS =
+		"\70\uffff\1\1\1\2";
+	static final String DFA232_specialS =
+		"\72\uffff}>";
+	static final String[] DFA232_transitionS = {
+			"\1\1\3\uffff\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff"+
+			"\1\3\1\5\1\6\1\7\1\uffff\1\3\1\34\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2"+
+			"\3\1\27\1\11\1\3\3\uffff\1\34\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff"+
+			"\1\3\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff"+
+			"\2\34\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\34\2\3\3\uffff\1\3\1\uffff"+
+			"\1\3\4\uffff\2\3\2\uffff\5\3\4\uffff\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff"+
+			"\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\1\uffff\1\33\1\3\1\uffff\1\34"+
+			"\3\3\1\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1\24\1\25\1\3\3\uffff\1"+
+			"\34\10\uffff\1\32\1\2",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\36\6\uffff\1\35",
+			"\1\35",
+			"\1\36",
+			"\1\35",
+			"\1\37\3\uffff\1\41\1\uffff\3\41\3\uffff\1\41\1\uffff\1\41\1\uffff\1"+
+			"\42\3\uffff\1\41\1\43\1\44\1\45\1\uffff\1\41\1\uffff\3\41\1\uffff\2\41"+
+			"\1\67\1\46\1\uffff\2\41\1\65\1\47\1\41\4\uffff\1\50\1\uffff\1\51\2\uffff"+
+			"\3\41\1\52\1\uffff\1\41\1\uffff\3\41\1\uffff\3\41\3\uffff\1\53\2\41\1"+
+			"\uffff\1\54\1\41\4\uffff\1\41\1\uffff\3\41\1\uffff\4\41\2\uffff\2\41"+
+			"\3\uffff\1\41\1\uffff\1\41\4\uffff\2\41\2\uffff\5\41\4\uffff\2\41\1\uffff"+
+			"\2\41\2\uffff\1\41\1\uffff\1\41\1\55\6\41\1\56\1\66\1\57\1\64\1\60\1"+
+			"\uffff\1\33\1\41\2\uffff\3\41\1\uffff\2\41\2\uffff\2\41\1\uffff\1\61"+
+			"\1\41\1\62\1\63\1\41\15\uffff\1\40",
+			"\1\71\4\uffff\1\71\10\uffff\1\71\3\uffff\1\71\1\uffff\2\71\2\uffff\1"+
+			"\71\1\uffff\3\71\3\uffff\1\71\1\uffff\1\71\1\uffff\1\71\3\uffff\4\71"+
+			"\1\uffff\5\71\1\uffff\4\71\1\uffff\5\71\3\uffff\2\71\1\uffff\1\71\2\uffff"+
+			"\4\71\1\uffff\1\71\1\uffff\3\71\1\uffff\3\71\3\uffff\3\71\1\uffff\2\71"+
+			"\2\uffff\3\71\1\uffff\3\71\1\uffff\4\71\1\uffff\3\71\1\uffff\3\71\1\uffff"+
+			"\1\71\1\uffff\1\71\2\uffff\2\71\2\uffff\7\71\2\uffff\2\71\1\uffff\2\71"+
+			"\2\uffff\1\71\1\uffff\15\71\1\uffff\2\71\1\uffff\4\71\1\uffff\2\71\2"+
+			"\uffff\2\71\1\uffff\5\71\3\uffff\1\71\10\uffff\2\71\3\uffff\1\71\2\uffff"+
+			"\1\71\10\uffff\1\71\1\70\3\uffff\1\71\3\uffff\1\71\6\uffff\1\71\3\uffff"+
+			"\1\71",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"",
+			""
+	};
+
+	static final short[] DFA232_eot = DFA.unpackEncodedString(DFA232_eotS);
+	static final short[] DFA232_eof = DFA.unpackEncodedString(DFA232_eofS);
+	static final char[] DFA232_min = DFA.unpackEncodedStringToUnsignedChars(DFA232_minS);
+	static final char[] DFA232_max = DFA.unpackEncodedStringToUnsignedChars(DFA232_maxS);
+	static final short[] DFA232_accept = DFA.unpackEncodedString(DFA232_acceptS);
+	static final short[] DFA232_special = DFA.unpackEncodedString(DFA232_specialS);
+	static final short[][] DFA232_transition;
+
+	static {
+		int numStates = DFA232_transitionS.length;
+		DFA232_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA232_transition[i] = DFA.unpackEncodedString(DFA232_transitionS[i]);
+		}
+	}
+
+	protected class DFA232 extends DFA {
+
+		public DFA232(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 232;
+			this.eot = DFA232_eot;
+			this.eof = DFA232_eof;
+			this.min = DFA232_min;
+			this.max = DFA232_max;
+			this.accept = DFA232_accept;
+			this.special = DFA232_special;
+			this.transition = DFA232_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1652:1: function returns [Term.Raw t] : (f= functionName '(' ')' |f= functionName '(' args= functionArgs ')' );";
+		}
+	}
+
+	static final String DFA234_eotS =
+		"\40\uffff";
+	static final String DFA234_eofS =
+		"\1\1\37\uffff";
+	static final String DFA234_minS =
+		"\1\43\1\uffff\1\6\1\uffff\31\u00b8\1\uffff\2\u00b8";
+	static final String DFA234_maxS =
+		"\1\u00e9\1\uffff\1\u00e8\1\uffff\31\u00db\1\uffff\2\u00db";
+	static final String DFA234_acceptS =
+		"\1\uffff\1\3\1\uffff\1\2\31\uffff\1\1\2\uffff";
+	static final String DFA234_specialS =
+		"\40\uffff}>";
+	static final String[] DFA234_transitionS = {
+			"\1\1\1\uffff\1\1\1\uffff\1\1\1\uffff\1\1\31\uffff\2\1\22\uffff\1\1\2"+
+			"\uffff\1\1\5\uffff\1\1\13\uffff\1\1\25\uffff\1\1\2\uffff\1\1\4\uffff"+
+			"\1\1\42\uffff\1\1\12\uffff\1\1\15\uffff\1\1\16\uffff\1\1\1\2\1\uffff"+
+			"\1\1\1\3\3\uffff\2\1\7\uffff\1\1\2\uffff\1\1",
+			"",
+			"\1\35\4\uffff\1\35\5\uffff\1\1\2\uffff\1\35\3\uffff\1\35\1\uffff\1\4"+
+			"\1\35\2\uffff\1\6\1\uffff\3\6\3\uffff\1\6\1\uffff\1\6\1\uffff\1\7\3\uffff"+
+			"\1\6\1\10\1\11\1\12\1\uffff\1\6\1\36\3\6\1\uffff\2\6\1\34\1\13\1\uffff"+
+			"\2\6\1\32\1\14\1\6\3\uffff\1\37\1\15\1\uffff\1\16\2\uffff\3\6\1\17\1"+
+			"\uffff\1\6\1\uffff\3\6\1\uffff\3\6\3\uffff\1\20\2\6\1\uffff\1\21\1\6"+
+			"\2\uffff\2\37\1\6\1\uffff\3\6\1\uffff\4\6\1\uffff\1\37\2\6\1\uffff\2"+
+			"\35\1\6\1\uffff\1\6\1\uffff\1\35\2\uffff\2\6\2\uffff\5\6\2\35\2\uffff"+
+			"\2\6\1\uffff\2\6\2\uffff\1\6\1\uffff\1\6\1\22\6\6\1\23\1\33\1\24\1\31"+
+			"\1\25\1\uffff\1\35\1\6\1\uffff\1\37\3\6\1\uffff\2\6\2\uffff\2\6\1\uffff"+
+			"\1\26\1\6\1\27\1\30\1\6\3\uffff\1\37\10\uffff\1\35\1\5\3\uffff\1\35\2"+
+			"\uffff\1\35\10\uffff\1\35\4\uffff\1\35\3\uffff\1\35\6\uffff\1\35\3\uffff"+
+			"\1\35",
+			"",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"",
+			"\1\1\33\uffff\1\35\3\uffff\1\1\2\uffff\1\35",
+			"\1\1\37\uffff\1\1\2\uffff\1\35"
+	};
+
+	static final short[] DFA234_eot = DFA.unpackEncodedString(DFA234_eotS);
+	static final short[] DFA234_eof = DFA.unpackEncodedString(DFA234_eofS);
+	static final char[] DFA234_min = DFA.unpackEncodedStringToUnsignedChars(DFA234_minS);
+	static final char[] DFA234_max = DFA.unpackEncodedStringToUnsignedChars(DFA234_maxS);
+	static final short[] DFA234_accept = DFA.unpackEncodedString(DFA234_acceptS);
+	static final short[] DFA234_special = DFA.unpackEncodedString(DFA234_specialS);
+	static final short[][] DFA234_transition;
+
+	static {
+		int numStates = DFA234_transitionS.length;
+		DFA234_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA234_transition[i] = DFA.unpackEncodedString(DFA234_transitionS[i]);
+		}
+	}
+
+	protected class DFA234 extends DFA {
+
+		public DFA234(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 234;
+			this.eot = DFA234_eot;
+			this.eof = DFA234_eof;
+			this.min = DFA234_min;
+			this.max = DFA234_max;
+			this.accept = DFA234_accept;
+			this.special = DFA234_special;
+			this.transition = DFA234_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "()* loopback of 1668:9: ( '+' r= termMultiplication | '-' r= termMultiplication )*";
+		}
+	}
+
+	static final String DFA237_eotS =
+		"\116\uffff";
+	static final String DFA237_eofS =
+		"\3\uffff\1\1\46\uffff\1\1\10\uffff\33\44";
+	static final String DFA237_minS =
+		"\1\6\1\uffff\1\6\1\43\1\uffff\1\u00d4\1\u00d3\32\u00d4\1\u00d5\2\u00d4"+
+		"\1\uffff\2\u00d4\1\u00db\1\u00d4\1\uffff\1\6\1\32\1\u0083\1\6\1\62\1\52"+
+		"\3\u00d4\33\43";
+	static final String DFA237_maxS =
+		"\1\u00e8\1\uffff\1\u00e8\1\u00e9\1\uffff\1\u00db\1\u00e5\2\u00db\1\u00df"+
+		"\30\u00db\2\u00df\1\uffff\2\u00df\2\u00db\1\uffff\1\u00e9\1\u00c4\1\u00db"+
+		"\1\u00e8\2\u00db\3\u00d5\33\u00e9";
+	static final String DFA237_acceptS =
+		"\1\uffff\1\1\2\uffff\1\2\37\uffff\1\3\4\uffff\1\4\44\uffff";
+	static final String DFA237_specialS =
+		"\116\uffff}>";
+	static final String[] DFA237_transitionS = {
+			"\1\1\4\uffff\1\1\10\uffff\1\1\3\uffff\1\1\1\uffff\1\4\1\1\2\uffff\1\4"+
+			"\1\uffff\3\4\3\uffff\1\4\1\uffff\1\4\1\uffff\1\4\3\uffff\4\4\1\uffff"+
+			"\1\4\1\5\3\4\1\uffff\4\4\1\uffff\5\4\3\uffff\2\4\1\uffff\1\4\2\uffff"+
+			"\4\4\1\uffff\1\4\1\uffff\3\4\1\uffff\3\4\3\uffff\3\4\1\uffff\2\4\2\uffff"+
+			"\3\4\1\uffff\3\4\1\uffff\4\4\1\uffff\3\4\1\uffff\2\1\1\4\1\uffff\1\4"+
+			"\1\uffff\1\1\2\uffff\2\4\2\uffff\5\4\2\1\2\uffff\2\4\1\uffff\2\4\2\uffff"+
+			"\1\4\1\uffff\15\4\1\uffff\2\4\1\uffff\4\4\1\uffff\2\4\2\uffff\2\4\1\uffff"+
+			"\5\4\3\uffff\1\4\10\uffff\1\3\1\4\3\uffff\1\1\2\uffff\1\1\10\uffff\1"+
+			"\2\10\uffff\1\1\6\uffff\1\1\3\uffff\1\1",
+			"",
+			"\1\1\4\uffff\1\1\10\uffff\1\1\3\uffff\1\1\1\uffff\1\7\1\1\2\uffff\1"+
+			"\50\1\uffff\3\50\3\uffff\1\50\1\uffff\1\50\1\uffff\1\12\3\uffff\1\50"+
+			"\1\13\1\14\1\15\1\uffff\1\50\1\40\3\50\1\uffff\2\50\1\37\1\16\1\uffff"+
+			"\2\50\1\35\1\17\1\50\3\uffff\1\47\1\20\1\uffff\1\21\2\uffff\3\50\1\22"+
+			"\1\uffff\1\46\1\uffff\3\50\1\uffff\3\50\3\uffff\1\23\2\50\1\uffff\1\24"+
+			"\1\50\2\uffff\1\47\1\41\1\50\1\uffff\3\50\1\uffff\1\42\1\50\1\11\1\50"+
+			"\1\uffff\1\47\2\50\1\uffff\2\1\1\50\1\uffff\1\50\1\uffff\1\1\2\uffff"+
+			"\2\50\2\uffff\5\50\2\1\2\uffff\2\50\1\uffff\2\50\2\uffff\1\50\1\44\1"+
+			"\50\1\25\6\50\1\26\1\36\1\27\1\34\1\30\1\uffff\1\1\1\50\1\uffff\1\47"+
+			"\1\43\2\50\1\uffff\2\50\2\uffff\2\50\1\uffff\1\31\1\50\1\32\1\33\1\45"+
+			"\3\uffff\1\47\10\uffff\1\1\1\10\3\uffff\1\6\2\uffff\1\1\10\uffff\1\1"+
+			"\4\uffff\1\1\3\uffff\1\1\6\uffff\1\1\3\uffff\1\1",
+			"\1\1\1\uffff\1\1\1\uffff\3\1\31\uffff\2\1\22\uffff\1\1\2\uffff\1\1\5"+
+			"\uffff\1\1\13\uffff\1\1\25\uffff\1\1\2\uffff\1\1\4\uffff\1\1\42\uffff"+
+			"\1\1\12\uffff\1\1\15\uffff\1\1\14\uffff\1\1\1\uffff\2\1\1\uffff\2\1\1"+
+			"\uffff\1\4\3\1\6\uffff\2\1\2\uffff\1\1",
+			"",
+			"\1\51\6\uffff\1\4",
+			"\1\1\1\uffff\1\52\1\1\1\uffff\2\1\2\uffff\1\1\10\uffff\1\1",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53\3\uffff\1\44",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"\1\1\6\uffff\1\53",
+			"\1\1\6\uffff\1\53",
+			"\1\44\5\uffff\1\53",
+			"\1\1\1\44\5\uffff\1\53\3\uffff\1\44",
+			"\1\1\1\44\5\uffff\1\53\3\uffff\1\44",
+			"",
+			"\1\1\1\44\5\uffff\1\53\3\uffff\1\44",
+			"\1\1\1\44\5\uffff\1\53\3\uffff\1\44",
+			"\1\53",
+			"\1\1\1\44\5\uffff\1\53",
+			"",
+			"\1\44\4\uffff\1\44\10\uffff\1\44\3\uffff\1\44\1\uffff\2\44\2\uffff\1"+
+			"\44\1\uffff\3\44\1\1\1\uffff\1\1\1\44\1\1\1\57\1\1\1\44\3\uffff\4\44"+
+			"\1\uffff\5\44\1\uffff\4\44\1\uffff\5\44\2\1\1\uffff\2\44\1\uffff\1\44"+
+			"\2\uffff\4\44\1\uffff\1\44\1\uffff\3\44\1\uffff\1\56\2\44\1\1\2\uffff"+
+			"\3\44\1\1\2\44\2\uffff\3\44\1\uffff\3\44\1\1\4\44\1\uffff\3\44\1\uffff"+
+			"\3\44\1\uffff\1\44\1\uffff\1\44\2\uffff\2\44\1\uffff\1\1\2\44\1\54\4"+
+			"\44\1\1\1\uffff\2\44\1\uffff\2\44\2\uffff\1\44\1\uffff\15\44\1\uffff"+
+			"\2\44\1\uffff\4\44\1\uffff\2\44\1\1\1\uffff\2\44\1\uffff\5\44\1\uffff"+
+			"\1\1\1\uffff\1\44\10\uffff\2\44\1\uffff\1\1\1\uffff\1\44\2\uffff\1\44"+
+			"\7\uffff\1\1\1\44\2\1\1\uffff\2\1\2\uffff\1\1\1\55\1\1\5\uffff\1\44\2"+
+			"\1\1\uffff\1\44\1\1",
+			"\1\60\3\uffff\1\62\1\uffff\3\62\3\uffff\1\62\1\uffff\1\62\1\uffff\1"+
+			"\1\3\uffff\1\62\3\1\1\uffff\1\62\1\uffff\3\62\1\uffff\2\62\2\1\1\uffff"+
+			"\2\62\2\1\1\62\4\uffff\1\1\1\uffff\1\1\2\uffff\3\62\1\1\1\uffff\1\62"+
+			"\1\uffff\3\62\1\uffff\3\62\3\uffff\1\1\2\62\1\uffff\1\1\1\62\3\uffff"+
+			"\1\44\1\62\1\uffff\3\62\1\uffff\4\62\2\uffff\2\62\3\uffff\1\62\1\uffff"+
+			"\1\62\4\uffff\2\62\2\uffff\5\62\4\uffff\2\62\1\uffff\2\62\2\uffff\1\62"+
+			"\1\uffff\1\62\1\1\6\62\5\1\1\uffff\1\1\1\62\2\uffff\3\62\1\uffff\2\62"+
+			"\2\uffff\2\62\1\uffff\1\1\1\62\2\1\1\62\15\uffff\1\61",
+			"\1\1\120\uffff\1\44\6\uffff\1\44",
+			"\1\1\4\uffff\1\1\10\uffff\1\1\3\uffff\1\1\1\uffff\1\63\1\1\2\uffff\1"+
+			"\65\1\uffff\3\65\3\uffff\1\65\1\uffff\1\65\1\uffff\1\66\3\uffff\1\65"+
+			"\1\67\1\70\1\71\1\uffff\1\65\1\114\3\65\1\uffff\2\65\1\113\1\72\1\uffff"+
+			"\2\65\1\111\1\73\1\65\3\uffff\1\115\1\74\1\uffff\1\75\2\uffff\3\65\1"+
+			"\76\1\uffff\1\65\1\uffff\3\65\1\uffff\3\65\3\uffff\1\77\2\65\1\uffff"+
+			"\1\100\1\65\2\uffff\2\115\1\65\1\uffff\3\65\1\uffff\4\65\1\uffff\1\115"+
+			"\2\65\1\uffff\2\1\1\65\1\uffff\1\65\1\uffff\1\1\2\uffff\2\65\2\uffff"+
+			"\5\65\2\1\2\uffff\2\65\1\uffff\2\65\2\uffff\1\65\1\uffff\1\65\1\101\6"+
+			"\65\1\102\1\112\1\103\1\110\1\104\1\uffff\1\1\1\65\1\uffff\1\115\3\65"+
+			"\1\uffff\2\65\2\uffff\2\65\1\uffff\1\105\1\65\1\106\1\107\1\65\3\uffff"+
+			"\1\115\10\uffff\1\1\1\64\3\uffff\1\1\2\uffff\1\1\10\uffff\1\1\4\uffff"+
+			"\1\1\3\uffff\1\1\6\uffff\1\1\3\uffff\1\1",
+			"\1\1\u00a1\uffff\1\44\6\uffff\1\44",
+			"\1\1\4\uffff\3\1\12\uffff\1\1\3\uffff\2\1\5\uffff\1\1\1\uffff\1\1\5"+
+			"\uffff\1\1\15\uffff\1\1\3\uffff\1\1\64\uffff\1\1\6\uffff\5\1\20\uffff"+
+			"\1\1\1\uffff\2\1\36\uffff\1\44\6\uffff\1\44",
+			"\1\1\1\44",
+			"\1\1\1\44",
+			"\1\1\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\1\2\44"+
+			"\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44",
+			"\1\44\1\uffff\1\44\1\uffff\3\44\31\uffff\2\44\22\uffff\1\44\2\uffff"+
+			"\1\44\5\uffff\1\44\13\uffff\1\44\25\uffff\1\44\2\uffff\1\44\4\uffff\1"+
+			"\44\42\uffff\1\44\12\uffff\1\44\15\uffff\1\44\14\uffff\1\44\1\uffff\2"+
+			"\44\1\uffff\2\44\1\uffff\1\1\3\44\6\uffff\2\44\2\uffff\1\44"
+	};
+
+	static final short[] DFA237_eot = DFA.unpackEncodedString(DFA237_eotS);
+	static final short[] DFA237_eof = DFA.unpackEncodedString(DFA237_eofS);
+	static final char[] DFA237_min = DFA.unpackEncodedStringToUnsignedChars(DFA237_minS);
+	static final char[] DFA237_max = DFA.unpackEncodedStringToUnsignedChars(DFA237_maxS);
+	static final short[] DFA237_accept = DFA.unpackEncodedString(DFA237_acceptS);
+	static final short[] DFA237_special = DFA.unpackEncodedString(DFA237_specialS);
+	static final short[][] DFA237_transition;
+
+	static {
+		int numStates = DFA237_transitionS.length;
+		DFA237_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA237_transition[i] = DFA.unpackEncodedString(DFA237_transitionS[i]);
+		}
+	}
+
+	protected class DFA237 extends DFA {
+
+		public DFA237(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 237;
+			this.eot = DFA237_eot;
+			this.eof = DFA237_eof;
+			this.min = DFA237_min;
+			this.max = DFA237_max;
+			this.accept = DFA237_accept;
+			this.special = DFA237_special;
+			this.transition = DFA237_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1686:1: simpleTerm returns [Term.Raw term] : (v= value |f= function | '(' c= comparatorType ')' t= simpleTerm | K_CAST '(' t= simpleTerm K_AS n= native_type ')' );";
+		}
+	}
+
+	static final String DFA240_eotS =
+		"\40\uffff";
+	static final String DFA240_eofS =
+		"\40\uffff";
+	static final String DFA240_minS =
+		"\1\6\1\uffff\34\33\2\uffff";
+	static final String DFA240_maxS =
+		"\1\u00e8\1\uffff\33\u00db\1\u00d9\2\uffff";
+	static final String DFA240_acceptS =
+		"\1\uffff\1\1\34\uffff\1\2\1\3";
+	static final String DFA240_specialS =
+		"\40\uffff}>";
+	static final String[] DFA240_transitionS = {
+			"\1\1\4\uffff\1\1\5\uffff\1\35\2\uffff\1\1\3\uffff\1\1\1\uffff\1\2\1\1"+
+			"\2\uffff\1\4\1\uffff\3\4\3\uffff\1\4\1\uffff\1\4\1\uffff\1\5\3\uffff"+
+			"\1\4\1\6\1\7\1\10\1\uffff\1\4\1\33\3\4\1\uffff\2\4\1\32\1\11\1\uffff"+
+			"\2\4\1\30\1\12\1\4\3\uffff\1\34\1\13\1\uffff\1\14\2\uffff\3\4\1\15\1"+
+			"\uffff\1\4\1\uffff\3\4\1\uffff\3\4\3\uffff\1\16\2\4\1\uffff\1\17\1\4"+
+			"\2\uffff\2\34\1\4\1\uffff\3\4\1\uffff\4\4\1\uffff\1\34\2\4\1\uffff\2"+
+			"\1\1\4\1\uffff\1\4\1\uffff\1\1\2\uffff\2\4\2\uffff\5\4\2\1\2\uffff\2"+
+			"\4\1\uffff\2\4\2\uffff\1\4\1\uffff\1\4\1\20\6\4\1\21\1\31\1\22\1\27\1"+
+			"\23\1\uffff\1\1\1\4\1\uffff\1\34\3\4\1\uffff\2\4\2\uffff\2\4\1\uffff"+
+			"\1\24\1\4\1\25\1\26\1\4\3\uffff\1\34\10\uffff\1\1\1\3\3\uffff\1\1\2\uffff"+
+			"\1\1\10\uffff\1\1\4\uffff\1\1\3\uffff\1\1\6\uffff\1\1\3\uffff\1\1",
+			"",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00b8\uffff\1\1\1\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00ba\uffff\1\36\2\uffff\1\36\1\uffff\1\1",
+			"\1\37\u00ba\uffff\1\36\2\uffff\1\36",
+			"",
+			""
+	};
+
+	static final short[] DFA240_eot = DFA.unpackEncodedString(DFA240_eotS);
+	static final short[] DFA240_eof = DFA.unpackEncodedString(DFA240_eofS);
+	static final char[] DFA240_min = DFA.unpackEncodedStringToUnsignedChars(DFA240_minS);
+	static final char[] DFA240_max = DFA.unpackEncodedStringToUnsignedChars(DFA240_maxS);
+	static final short[] DFA240_accept = DFA.unpackEncodedString(DFA240_acceptS);
+	static final short[] DFA240_special = DFA.unpackEncodedString(DFA240_specialS);
+	static final short[][] DFA240_transition;
+
+	static {
+		int numStates = DFA240_transitionS.length;
+		DFA240_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA240_transition[i] = DFA.unpackEncodedString(DFA240_transitionS[i]);
+		}
+	}
+
+	protected class DFA240 extends DFA {
+
+		public DFA240(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 240;
+			this.eot = DFA240_eot;
+			this.eof = DFA240_eof;
+			this.min = DFA240_min;
+			this.max = DFA240_max;
+			this.accept = DFA240_accept;
+			this.special = DFA240_special;
+			this.transition = DFA240_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1704:1: normalColumnOperation[List<Pair<ColumnIdentifier, Operation.RawUpdate>> operations, ColumnIdentifier key] : (t= term ( '+' c= cident )? |c= cident sig= ( '+' | '-' ) t= term |c= cident i= INTEGER );";
+		}
+	}
+
+	static final String DFA246_eotS =
+		"\35\uffff";
+	static final String DFA246_eofS =
+		"\35\uffff";
+	static final String DFA246_minS =
+		"\1\32\31\u00e1\1\6\2\uffff";
+	static final String DFA246_maxS =
+		"\1\u00c4\31\u00e1\1\u00e8\2\uffff";
+	static final String DFA246_acceptS =
+		"\33\uffff\1\1\1\2";
+	static final String DFA246_specialS =
+		"\35\uffff}>";
+	static final String[] DFA246_transitionS = {
+			"\1\1\3\uffff\1\3\1\uffff\3\3\3\uffff\1\3\1\uffff\1\3\1\uffff\1\4\3\uffff"+
+			"\1\3\1\5\1\6\1\7\1\uffff\1\3\1\31\3\3\1\uffff\2\3\1\31\1\10\1\uffff\2"+
+			"\3\1\27\1\11\1\3\3\uffff\1\31\1\12\1\uffff\1\13\2\uffff\3\3\1\14\1\uffff"+
+			"\1\3\1\uffff\3\3\1\uffff\3\3\3\uffff\1\15\2\3\1\uffff\1\16\1\3\2\uffff"+
+			"\2\31\1\3\1\uffff\3\3\1\uffff\4\3\1\uffff\1\31\2\3\3\uffff\1\3\1\uffff"+
+			"\1\3\4\uffff\2\3\2\uffff\5\3\4\uffff\2\3\1\uffff\2\3\2\uffff\1\3\1\uffff"+
+			"\1\3\1\17\6\3\1\20\1\30\1\21\1\26\1\22\2\uffff\1\3\1\uffff\1\31\3\3\1"+
+			"\uffff\2\3\2\uffff\2\3\1\uffff\1\23\1\3\1\24\1\25\1\3\3\uffff\1\31\11"+
+			"\uffff\1\2",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\32",
+			"\1\33\4\uffff\1\33\10\uffff\1\33\3\uffff\1\33\2\uffff\1\33\2\uffff\1"+
+			"\33\1\uffff\3\33\3\uffff\1\33\1\uffff\1\33\1\uffff\1\33\3\uffff\4\33"+
+			"\1\uffff\5\33\1\uffff\4\33\1\uffff\5\33\3\uffff\2\33\1\uffff\1\33\2\uffff"+
+			"\4\33\1\uffff\1\33\1\uffff\3\33\1\uffff\3\33\3\uffff\3\33\1\uffff\2\33"+
+			"\2\uffff\3\33\1\uffff\3\33\1\uffff\4\33\1\uffff\3\33\1\uffff\3\33\1\uffff"+
+			"\1\33\4\uffff\2\33\2\uffff\7\33\2\uffff\2\33\1\uffff\2\33\2\uffff\1\33"+
+			"\1\uffff\15\33\2\uffff\1\33\1\uffff\4\33\1\uffff\2\33\2\uffff\2\33\1"+
+			"\uffff\5\33\3\uffff\1\33\15\uffff\1\33\2\uffff\1\33\34\uffff\1\34",
+			"",
+			""
+	};
+
+	static final short[] DFA246_eot = DFA.unpackEncodedString(DFA246_eotS);
+	static final short[] DFA246_eof = DFA.unpackEncodedString(DFA246_eofS);
+	static final char[] DFA246_min = DFA.unpackEncodedStringToUnsignedChars(DFA246_minS);
+	static final char[] DFA246_max = DFA.unpackEncodedStringToUnsignedChars(DFA246_maxS);
+	static final short[] DFA246_accept = DFA.unpackEncodedString(DFA246_acceptS);
+	static final short[] DFA246_special = DFA.unpackEncodedString(DFA246_specialS);
+	static final short[][] DFA246_transition;
+
+	static {
+		int numStates = DFA246_transitionS.length;
+		DFA246_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA246_transition[i] = DFA.unpackEncodedString(DFA246_transitionS[i]);
+		}
+	}
+
+	protected class DFA246 extends DFA {
+
+		public DFA246(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 246;
+			this.eot = DFA246_eot;
+			this.eof = DFA246_eof;
+			this.min = DFA246_min;
+			this.max = DFA246_max;
+			this.accept = DFA246_accept;
+			this.special = DFA246_special;
+			this.transition = DFA246_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1776:1: property[PropertyDefinitions props] : (k= noncol_ident '=' simple= propertyValue |k= noncol_ident '=' map= fullMapLiteral );";
+		}
+	}
+
+	static final String DFA252_eotS =
+		"\73\uffff";
+	static final String DFA252_eofS =
+		"\73\uffff";
+	static final String DFA252_minS =
+		"\1\21\32\56\1\uffff\1\21\2\uffff\32\56\2\uffff";
+	static final String DFA252_maxS =
+		"\1\u00d4\32\u00e4\1\uffff\1\u00d4\2\uffff\32\u00e4\2\uffff";
+	static final String DFA252_acceptS =
+		"\33\uffff\1\2\1\uffff\1\1\1\3\32\uffff\1\5\1\4";
+	static final String DFA252_specialS =
+		"\73\uffff}>";
+	static final String[] DFA252_transitionS = {
+			"\1\1\10\uffff\1\2\3\uffff\1\4\1\uffff\3\4\3\uffff\1\4\1\uffff\1\4\1\uffff"+
+			"\1\5\3\uffff\1\4\1\6\1\7\1\10\1\uffff\1\4\1\32\3\4\1\uffff\2\4\1\32\1"+
+			"\11\1\uffff\2\4\1\30\1\12\1\4\3\uffff\1\32\1\13\1\uffff\1\14\2\uffff"+
+			"\3\4\1\15\1\uffff\1\4\1\uffff\3\4\1\uffff\3\4\3\uffff\1\16\2\4\1\uffff"+
+			"\1\17\1\4\2\uffff\2\32\1\4\1\uffff\3\4\1\uffff\4\4\1\uffff\1\32\2\4\3"+
+			"\uffff\1\4\1\uffff\1\4\4\uffff\2\4\2\uffff\5\4\4\uffff\2\4\1\uffff\2"+
+			"\4\2\uffff\1\4\1\uffff\1\4\1\20\6\4\1\21\1\31\1\22\1\27\1\23\1\uffff"+
+			"\1\33\1\4\1\uffff\1\32\3\4\1\uffff\2\4\2\uffff\2\4\1\uffff\1\24\1\4\1"+
+			"\25\1\26\1\4\3\uffff\1\32\11\uffff\1\3\17\uffff\1\34",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"\1\35\13\uffff\1\35\40\uffff\1\35\10\uffff\1\35\6\uffff\1\35\17\uffff"+
+			"\1\35\126\uffff\1\35\14\uffff\5\35\1\36",
+			"",
+			"\1\37\10\uffff\1\40\3\uffff\1\42\1\uffff\3\42\3\uffff\1\42\1\uffff\1"+
+			"\42\1\uffff\1\43\3\uffff\1\42\1\44\1\45\1\46\1\uffff\1\42\1\70\3\42\1"+
+			"\uffff\2\42\1\70\1\47\1\uffff\2\42\1\66\1\50\1\42\3\uffff\1\70\1\51\1"+
+			"\uffff\1\52\2\uffff\3\42\1\53\1\uffff\1\42\1\uffff\3\42\1\uffff\3\42"+
+			"\3\uffff\1\54\2\42\1\uffff\1\55\1\42\2\uffff\2\70\1\42\1\uffff\3\42\1"+
+			"\uffff\4\42\1\uffff\1\70\2\42\3\uffff\1\42\1\uffff\1\42\4\uffff\2\42"+
+			"\2\uffff\5\42\4\uffff\2\42\1\uffff\2\42\2\uffff\1\42\1\uffff\1\42\1\56"+
+			"\6\42\1\57\1\67\1\60\1\65\1\61\1\uffff\1\71\1\42\1\uffff\1\70\3\42\1"+
+			"\uffff\2\42\2\uffff\2\42\1\uffff\1\62\1\42\1\63\1\64\1\42\3\uffff\1\70"+
+			"\11\uffff\1\41\17\uffff\1\71",
+			"",
+			"",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"\1\71\13\uffff\1\71\40\uffff\1\71\10\uffff\1\71\6\uffff\1\71\17\uffff"+
+			"\1\71\126\uffff\1\71\2\uffff\1\72\2\uffff\1\72\6\uffff\6\71",
+			"",
+			""
+	};
+
+	static final short[] DFA252_eot = DFA.unpackEncodedString(DFA252_eotS);
+	static final short[] DFA252_eof = DFA.unpackEncodedString(DFA252_eofS);
+	static final char[] DFA252_min = DFA.unpackEncodedStringToUnsignedChars(DFA252_minS);
+	static final char[] DFA252_max = DFA.unpackEncodedStringToUnsignedChars(DFA252_maxS);
+	static final short[] DFA252_accept = DFA.unpackEncodedString(DFA252_acceptS);
+	static final short[] DFA252_special = DFA.unpackEncodedString(DFA252_specialS);
+	static final short[][] DFA252_transition;
+
+	static {
+		int numStates = DFA252_transitionS.length;
+		DFA252_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA252_transition[i] = DFA.unpackEncodedString(DFA252_transitionS[i]);
+		}
+	}
+
+	protected class DFA252 extends DFA {
+
+		public DFA252(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 252;
+			this.eot = DFA252_eot;
+			this.eof = DFA252_eof;
+			this.min = DFA252_min;
+			this.max = DFA252_max;
+			this.accept = DFA252_accept;
+			this.special = DFA252_special;
+			this.transition = DFA252_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1801:1: relation[WhereClause.Builder clauses] : (name= cident (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues | K_LIKE t= term | K_IS K_NOT K_NULL |rtInOperator= inOperator inValue= singleColumnInValues |rtContainsOperator= containsOperator t= term ) | K_TOKEN l= tupleOfIdentifiers (type= relationType t= term | K_BETWEEN betweenValues= singleColumnBetweenValues ) |name= cident '[' key= term ']' type= relationType t= term |ids= tupleOfIdentifiers (rt= inOperator inValue= multiColumnInValues |type= relationType v= multiColumnValue | K_BETWEEN t1= multiColumnValue K_AND t2= multiColumnValue ) | '(' relation[$clauses] ')' );";
+		}
+	}
+
+	static final String DFA266_eotS =
+		"\42\uffff";
+	static final String DFA266_eofS =
+		"\1\uffff\25\36\2\33\1\uffff\2\33\1\uffff\1\33\5\uffff";
+	static final String DFA266_minS =
+		"\1\32\27\116\1\uffff\2\116\1\uffff\1\116\5\uffff";
+	static final String DFA266_maxS =
+		"\1\u00c8\27\u00e2\1\uffff\2\u00e2\1\uffff\1\u00e2\5\uffff";
+	static final String DFA266_acceptS =
+		"\30\uffff\1\2\2\uffff\1\5\1\uffff\1\7\1\1\1\3\1\4\1\6";
+	static final String DFA266_specialS =
+		"\42\uffff}>";
+	static final String[] DFA266_transitionS = {
+			"\1\33\3\uffff\1\33\1\uffff\3\33\3\uffff\1\33\1\uffff\1\33\1\uffff\1\1"+
+			"\3\uffff\1\33\1\2\1\3\1\4\1\uffff\5\33\1\uffff\3\33\1\5\1\uffff\2\33"+
+			"\1\24\1\6\1\33\3\uffff\1\33\1\7\1\uffff\1\10\2\uffff\3\33\1\11\1\uffff"+
+			"\1\34\1\uffff\3\33\1\uffff\3\33\3\uffff\1\12\2\33\1\uffff\1\13\1\33\2"+
+			"\uffff\3\33\1\uffff\3\33\1\uffff\1\27\1\33\1\26\1\33\1\uffff\3\33\3\uffff"+
+			"\1\33\1\uffff\1\33\4\uffff\2\33\2\uffff\5\33\4\uffff\2\33\1\uffff\2\33"+
+			"\2\uffff\1\33\1\30\1\33\1\14\6\33\1\15\1\25\1\16\1\23\1\17\2\uffff\1"+
+			"\33\1\uffff\1\33\1\31\2\33\1\uffff\2\33\2\uffff\2\33\1\uffff\1\20\1\33"+
+			"\1\21\1\22\1\32\3\uffff\1\33\11\uffff\1\33\3\uffff\1\35",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\36\17\uffff\1\36\13\uffff\1\36\5\uffff\1\36\31\uffff\1\36\14\uffff"+
+			"\1\36\75\uffff\1\36\2\uffff\1\36\2\uffff\1\33\2\uffff\1\36\3\uffff\1"+
+			"\36",
+			"\1\33\17\uffff\1\33\13\uffff\1\33\5\uffff\1\33\31\uffff\1\33\14\uffff"+
+			"\1\33\75\uffff\1\33\2\uffff\1\33\2\uffff\1\33\2\uffff\1\33\1\30\2\uffff"+
+			"\1\33",
+			"\1\33\17\uffff\1\33\13\uffff\1\33\5\uffff\1\33\31\uffff\1\33\14\uffff"+
+			"\1\33\75\uffff\1\33\2\uffff\1\33\2\uffff\1\33\2\uffff\1\33\1\30\2\uffff"+
+			"\1\33",
+			"",
+			"\1\33\17\uffff\1\33\13\uffff\1\33\5\uffff\1\33\31\uffff\1\33\14\uffff"+
+			"\1\33\75\uffff\1\33\2\uffff\1\33\2\uffff\1\33\2\uffff\1\33\1\37\2\uffff"+
+			"\1\33",
+			"\1\33\17\uffff\1\33\13\uffff\1\33\5\uffff\1\33\31\uffff\1\33\14\uffff"+
+			"\1\33\75\uffff\1\33\2\uffff\1\33\2\uffff\1\33\2\uffff\1\33\1\40\2\uffff"+
+			"\1\33",
+			"",
+			"\1\33\17\uffff\1\33\13\uffff\1\33\5\uffff\1\33\31\uffff\1\33\14\uffff"+
+			"\1\33\75\uffff\1\33\2\uffff\1\33\2\uffff\1\33\2\uffff\1\33\1\41\2\uffff"+
+			"\1\33",
+			"",
+			"",
+			"",
+			"",
+			""
+	};
+
+	static final short[] DFA266_eot = DFA.unpackEncodedString(DFA266_eotS);
+	static final short[] DFA266_eof = DFA.unpackEncodedString(DFA266_eofS);
+	static final char[] DFA266_min = DFA.unpackEncodedStringToUnsignedChars(DFA266_minS);
+	static final char[] DFA266_max = DFA.unpackEncodedStringToUnsignedChars(DFA266_maxS);
+	static final short[] DFA266_accept = DFA.unpackEncodedString(DFA266_acceptS);
+	static final short[] DFA266_special = DFA.unpackEncodedString(DFA266_specialS);
+	static final short[][] DFA266_transition;
+
+	static {
+		int numStates = DFA266_transitionS.length;
+		DFA266_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA266_transition[i] = DFA.unpackEncodedString(DFA266_transitionS[i]);
+		}
+	}
+
+	protected class DFA266 extends DFA {
+
+		public DFA266(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 266;
+			this.eot = DFA266_eot;
+			this.eof = DFA266_eof;
+			this.min = DFA266_min;
+			this.max = DFA266_max;
+			this.accept = DFA266_accept;
+			this.special = DFA266_special;
+			this.transition = DFA266_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1878:1: comparatorType returns [CQL3Type.Raw t] : (n= native_type |c= collection_type |tt= tuple_type |vc= vector_type |id= userTypeName | K_FROZEN '<' f= comparatorType '>' |s= STRING_LITERAL );";
+		}
+	}
+
+	public static final BitSet FOLLOW_selectStatement_in_cqlStatement59 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_insertStatement_in_cqlStatement88 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_updateStatement_in_cqlStatement117 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_batchStatement_in_cqlStatement146 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_deleteStatement_in_cqlStatement176 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_useStatement_in_cqlStatement205 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_truncateStatement_in_cqlStatement237 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createKeyspaceStatement_in_cqlStatement264 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createTableStatement_in_cqlStatement285 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createIndexStatement_in_cqlStatement308 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropKeyspaceStatement_in_cqlStatement331 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropTableStatement_in_cqlStatement353 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropIndexStatement_in_cqlStatement378 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alterTableStatement_in_cqlStatement403 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alterKeyspaceStatement_in_cqlStatement427 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_grantPermissionsStatement_in_cqlStatement448 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_revokePermissionsStatement_in_cqlStatement466 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_listPermissionsStatement_in_cqlStatement483 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createUserStatement_in_cqlStatement502 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alterUserStatement_in_cqlStatement526 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropUserStatement_in_cqlStatement551 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_listUsersStatement_in_cqlStatement577 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createTriggerStatement_in_cqlStatement602 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropTriggerStatement_in_cqlStatement623 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createTypeStatement_in_cqlStatement646 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alterTypeStatement_in_cqlStatement670 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropTypeStatement_in_cqlStatement695 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createFunctionStatement_in_cqlStatement721 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropFunctionStatement_in_cqlStatement741 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createAggregateStatement_in_cqlStatement763 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropAggregateStatement_in_cqlStatement782 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createRoleStatement_in_cqlStatement803 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alterRoleStatement_in_cqlStatement827 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropRoleStatement_in_cqlStatement852 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_listRolesStatement_in_cqlStatement878 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_grantRoleStatement_in_cqlStatement903 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_revokeRoleStatement_in_cqlStatement928 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createMaterializedViewStatement_in_cqlStatement952 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropMaterializedViewStatement_in_cqlStatement964 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alterMaterializedViewStatement_in_cqlStatement978 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_describeStatement_in_cqlStatement991 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_addIdentityStatement_in_cqlStatement1017 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dropIdentityStatement_in_cqlStatement1040 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_listSuperUsersStatement_in_cqlStatement1062 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_USE_in_useStatement1095 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_useStatement1099 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_SELECT_in_selectStatement1133 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000013022100918L});
+	public static final BitSet FOLLOW_K_JSON_in_selectStatement1159 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000013022100918L});
+	public static final BitSet FOLLOW_selectClause_in_selectStatement1168 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_selectStatement1176 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_selectStatement1180 = new BitSet(new long[]{0x0000000800000002L,0x0000100000800000L,0x0100000000000024L});
+	public static final BitSet FOLLOW_K_WHERE_in_selectStatement1190 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000008000100010L});
+	public static final BitSet FOLLOW_whereClause_in_selectStatement1194 = new BitSet(new long[]{0x0000000800000002L,0x0000100000800000L,0x0000000000000024L});
+	public static final BitSet FOLLOW_K_GROUP_in_selectStatement1207 = new BitSet(new long[]{0x0004000000000000L});
+	public static final BitSet FOLLOW_K_BY_in_selectStatement1209 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_groupByClause_in_selectStatement1211 = new BitSet(new long[]{0x0000000800000002L,0x0000100000000000L,0x0000000000000024L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_selectStatement1216 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_groupByClause_in_selectStatement1218 = new BitSet(new long[]{0x0000000800000002L,0x0000100000000000L,0x0000000000000024L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_ORDER_in_selectStatement1235 = new BitSet(new long[]{0x0004000000000000L});
+	public static final BitSet FOLLOW_K_BY_in_selectStatement1237 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_orderByClause_in_selectStatement1239 = new BitSet(new long[]{0x0000000800000002L,0x0000100000000000L,0x0000000000000020L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_selectStatement1244 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_orderByClause_in_selectStatement1246 = new BitSet(new long[]{0x0000000800000002L,0x0000100000000000L,0x0000000000000020L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_PER_in_selectStatement1263 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000008L});
+	public static final BitSet FOLLOW_K_PARTITION_in_selectStatement1265 = new BitSet(new long[]{0x0000000000000000L,0x0000100000000000L});
+	public static final BitSet FOLLOW_K_LIMIT_in_selectStatement1267 = new BitSet(new long[]{0x0000000008000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_intValue_in_selectStatement1271 = new BitSet(new long[]{0x0000000800000002L,0x0000100000000000L});
+	public static final BitSet FOLLOW_K_LIMIT_in_selectStatement1286 = new BitSet(new long[]{0x0000000008000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_intValue_in_selectStatement1290 = new BitSet(new long[]{0x0000000800000002L});
+	public static final BitSet FOLLOW_K_ALLOW_in_selectStatement1305 = new BitSet(new long[]{0x0000000000000000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_K_FILTERING_in_selectStatement1307 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DISTINCT_in_selectClause1362 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000013022100918L});
+	public static final BitSet FOLLOW_selectors_in_selectClause1366 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectors_in_selectClause1378 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selector_in_selectors1403 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_selectors1408 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selector_in_selectors1412 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_229_in_selectors1424 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selector1457 = new BitSet(new long[]{0x0000010000000002L});
+	public static final BitSet FOLLOW_K_AS_in_selector1460 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_noncol_ident_in_selector1464 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionAddition_in_unaliasedSelector1493 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionMultiplication_in_selectionAddition1520 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_214_in_selectionAddition1536 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selectionMultiplication_in_selectionAddition1540 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_217_in_selectionAddition1554 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selectionMultiplication_in_selectionAddition1558 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_selectionGroup_in_selectionMultiplication1596 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_229_in_selectionMultiplication1612 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selectionGroup_in_selectionMultiplication1616 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_220_in_selectionMultiplication1630 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selectionGroup_in_selectionMultiplication1634 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_211_in_selectionMultiplication1648 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selectionGroup_in_selectionMultiplication1652 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_selectionGroupWithField_in_selectionGroup1694 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionGroupWithoutField_in_selectionGroup1706 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_217_in_selectionGroup1716 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_selectionGroup_in_selectionGroup1720 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionGroupWithoutField_in_selectionGroupWithField1745 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001008000000L});
+	public static final BitSet FOLLOW_selectorModifier_in_selectionGroupWithField1749 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_fieldSelectorModifier_in_selectorModifier1776 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001008000000L});
+	public static final BitSet FOLLOW_selectorModifier_in_selectorModifier1781 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_228_in_selectorModifier1792 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100958L});
+	public static final BitSet FOLLOW_collectionSubSelection_in_selectorModifier1796 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_230_in_selectorModifier1799 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001008000000L});
+	public static final BitSet FOLLOW_selectorModifier_in_selectorModifier1803 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_219_in_fieldSelectorModifier1836 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_fieldSelectorModifier1840 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_term_in_collectionSubSelection1878 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000000000040L});
+	public static final BitSet FOLLOW_RANGE_in_collectionSubSelection1884 = new BitSet(new long[]{0xDEFBC5474D100842L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_collectionSubSelection1889 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_RANGE_in_collectionSubSelection1904 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_collectionSubSelection1910 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_simpleUnaliasedSelector_in_selectionGroupWithoutField1962 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionTypeHint_in_selectionGroupWithoutField1980 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionTupleOrNestedSelector_in_selectionGroupWithoutField1992 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionList_in_selectionGroupWithoutField2004 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionMapOrSet_in_selectionGroupWithoutField2016 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_selectionTypeHint2044 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_selectionTypeHint2048 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_selectionTypeHint2050 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011020100918L});
+	public static final BitSet FOLLOW_selectionGroupWithoutField_in_selectionTypeHint2054 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_228_in_selectionList2095 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000015022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionList2101 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004001000000L});
+	public static final BitSet FOLLOW_216_in_selectionList2107 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionList2111 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004001000000L});
+	public static final BitSet FOLLOW_230_in_selectionList2121 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_232_in_selectionMapOrSet2142 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionMapOrSet2146 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020021000000L});
+	public static final BitSet FOLLOW_selectionMap_in_selectionMapOrSet2152 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020000000000L});
+	public static final BitSet FOLLOW_selectionSet_in_selectionMapOrSet2161 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020000000000L});
+	public static final BitSet FOLLOW_233_in_selectionMapOrSet2167 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_232_in_selectionMapOrSet2175 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020000000000L});
+	public static final BitSet FOLLOW_233_in_selectionMapOrSet2177 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_221_in_selectionMap2222 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionMap2226 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_selectionMap2234 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionMap2238 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000000L});
+	public static final BitSet FOLLOW_221_in_selectionMap2240 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionMap2244 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_selectionSet2296 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionSet2300 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_212_in_selectionTupleOrNestedSelector2346 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionTupleOrNestedSelector2350 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_selectionTupleOrNestedSelector2355 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionTupleOrNestedSelector2359 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_selectionTupleOrNestedSelector2366 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_sident_in_simpleUnaliasedSelector2391 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionLiteral_in_simpleUnaliasedSelector2437 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionFunction_in_simpleUnaliasedSelector2473 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_COUNT_in_selectionFunction2519 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_selectionFunction2528 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000002000000000L});
+	public static final BitSet FOLLOW_229_in_selectionFunction2530 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_selectionFunction2532 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_MAXWRITETIME_in_selectionFunction2577 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_selectionFunction2579 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_sident_in_selectionFunction2583 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001008200000L});
+	public static final BitSet FOLLOW_selectorModifier_in_selectionFunction2587 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_selectionFunction2590 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_WRITETIME_in_selectionFunction2609 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_selectionFunction2614 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_sident_in_selectionFunction2618 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001008200000L});
+	public static final BitSet FOLLOW_selectorModifier_in_selectionFunction2622 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_selectionFunction2625 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TTL_in_selectionFunction2644 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_selectionFunction2655 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_sident_in_selectionFunction2659 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001008200000L});
+	public static final BitSet FOLLOW_selectorModifier_in_selectionFunction2663 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_selectionFunction2666 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CAST_in_selectionFunction2685 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_selectionFunction2695 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionFunction2699 = new BitSet(new long[]{0x0000010000000000L});
+	public static final BitSet FOLLOW_K_AS_in_selectionFunction2701 = new BitSet(new long[]{0x1003840000000000L,0x0000000220008283L,0x00340003E0400000L});
+	public static final BitSet FOLLOW_native_type_in_selectionFunction2705 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_selectionFunction2707 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_functionName_in_selectionFunction2719 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_selectionFunctionArgs_in_selectionFunction2723 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_constant_in_selectionLiteral2769 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NULL_in_selectionLiteral2780 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_marker_in_selectionLiteral2797 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_221_in_marker2823 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_noncol_ident_in_marker2827 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_marker2838 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_selectionFunctionArgs2884 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022300918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionFunctionArgs2889 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_selectionFunctionArgs2905 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_selectionFunctionArgs2909 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_selectionFunctionArgs2924 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_sident2947 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_sident2972 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_sident2991 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_relationOrExpression_in_whereClause3022 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_whereClause3026 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000008000100010L});
+	public static final BitSet FOLLOW_relationOrExpression_in_whereClause3028 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_relation_in_relationOrExpression3050 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_customIndexExpression_in_relationOrExpression3059 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_231_in_customIndexExpression3087 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_idxName_in_customIndexExpression3089 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_customIndexExpression3092 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_customIndexExpression3096 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_customIndexExpression3098 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_orderByClause3128 = new BitSet(new long[]{0x0000024000000002L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_ANN_in_orderByClause3131 = new BitSet(new long[]{0x0000000000000000L,0x2000000000000000L});
+	public static final BitSet FOLLOW_K_OF_in_orderByClause3133 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_orderByClause3137 = new BitSet(new long[]{0x0000020000000002L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_ASC_in_orderByClause3142 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DESC_in_orderByClause3146 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unaliasedSelector_in_groupByClause3176 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_INSERT_in_insertStatement3201 = new BitSet(new long[]{0x0000000000000000L,0x0000000800000000L});
+	public static final BitSet FOLLOW_K_INTO_in_insertStatement3203 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_insertStatement3207 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_normalInsertStatement_in_insertStatement3221 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_JSON_in_insertStatement3236 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000108L});
+	public static final BitSet FOLLOW_jsonInsertStatement_in_insertStatement3240 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_normalInsertStatement3276 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_normalInsertStatement3280 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_normalInsertStatement3287 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_normalInsertStatement3291 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_normalInsertStatement3298 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0008000000000000L});
+	public static final BitSet FOLLOW_K_VALUES_in_normalInsertStatement3306 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_normalInsertStatement3314 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_normalInsertStatement3318 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_normalInsertStatement3324 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_normalInsertStatement3328 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_normalInsertStatement3335 = new BitSet(new long[]{0x0000000000000002L,0x0000000004000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_IF_in_normalInsertStatement3345 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_normalInsertStatement3347 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_normalInsertStatement3349 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_usingClause_in_normalInsertStatement3364 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_jsonValue_in_jsonInsertStatement3410 = new BitSet(new long[]{0x0000000000000002L,0x0000000004000004L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_DEFAULT_in_jsonInsertStatement3420 = new BitSet(new long[]{0x0000000000000000L,0x1000000000000000L,0x0000100000000000L});
+	public static final BitSet FOLLOW_K_NULL_in_jsonInsertStatement3424 = new BitSet(new long[]{0x0000000000000002L,0x0000000004000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_UNSET_in_jsonInsertStatement3432 = new BitSet(new long[]{0x0000000000000002L,0x0000000004000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_IF_in_jsonInsertStatement3448 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_jsonInsertStatement3450 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_jsonInsertStatement3452 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_usingClause_in_jsonInsertStatement3467 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_jsonValue3502 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_221_in_jsonValue3512 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_noncol_ident_in_jsonValue3516 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_jsonValue3530 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_USING_in_usingClause3561 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000004080000000L});
+	public static final BitSet FOLLOW_usingClauseObjective_in_usingClause3563 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_usingClause3568 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000004080000000L});
+	public static final BitSet FOLLOW_usingClauseObjective_in_usingClause3570 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_TIMESTAMP_in_usingClauseObjective3592 = new BitSet(new long[]{0x0000000008000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_intValue_in_usingClauseObjective3596 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TTL_in_usingClauseObjective3606 = new BitSet(new long[]{0x0000000008000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_intValue_in_usingClauseObjective3610 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_UPDATE_in_updateStatement3644 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_updateStatement3648 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0002000000100000L});
+	public static final BitSet FOLLOW_usingClause_in_updateStatement3658 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_K_SET_in_updateStatement3670 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_columnOperation_in_updateStatement3672 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0100000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_updateStatement3676 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_columnOperation_in_updateStatement3678 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0100000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_WHERE_in_updateStatement3689 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000008000100010L});
+	public static final BitSet FOLLOW_whereClause_in_updateStatement3693 = new BitSet(new long[]{0x0000000000000002L,0x0000000004000000L});
+	public static final BitSet FOLLOW_K_IF_in_updateStatement3703 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_EXISTS_in_updateStatement3707 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_updateConditions_in_updateStatement3715 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_columnCondition_in_updateConditions3759 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_updateConditions3765 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_columnCondition_in_updateConditions3769 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_DELETE_in_deleteStatement3805 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BBF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_deleteSelection_in_deleteStatement3811 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_deleteStatement3824 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_deleteStatement3828 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0102000000000000L});
+	public static final BitSet FOLLOW_usingClauseDelete_in_deleteStatement3838 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0100000000000000L});
+	public static final BitSet FOLLOW_K_WHERE_in_deleteStatement3850 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000008000100010L});
+	public static final BitSet FOLLOW_whereClause_in_deleteStatement3854 = new BitSet(new long[]{0x0000000000000002L,0x0000000004000000L});
+	public static final BitSet FOLLOW_K_IF_in_deleteStatement3864 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_EXISTS_in_deleteStatement3868 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_updateConditions_in_deleteStatement3876 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_deleteOp_in_deleteSelection3923 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_deleteSelection3938 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_deleteOp_in_deleteSelection3942 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_cident_in_deleteOp3969 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_deleteOp3996 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+	public static final BitSet FOLLOW_228_in_deleteOp3998 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_deleteOp4002 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_230_in_deleteOp4004 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_deleteOp4016 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_219_in_deleteOp4018 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_deleteOp4022 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_USING_in_usingClauseDelete4042 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_K_TIMESTAMP_in_usingClauseDelete4044 = new BitSet(new long[]{0x0000000008000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_intValue_in_usingClauseDelete4048 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BEGIN_in_batchStatement4082 = new BitSet(new long[]{0x1000100000000000L,0x0000000000000000L,0x0000040000000000L});
+	public static final BitSet FOLLOW_K_UNLOGGED_in_batchStatement4092 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_K_COUNTER_in_batchStatement4098 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_K_BATCH_in_batchStatement4111 = new BitSet(new long[]{0x0000008000000000L,0x0000000100000008L,0x0002200000000000L});
+	public static final BitSet FOLLOW_usingClause_in_batchStatement4115 = new BitSet(new long[]{0x0000008000000000L,0x0000000100000008L,0x0000200000000000L});
+	public static final BitSet FOLLOW_batchStatementObjective_in_batchStatement4135 = new BitSet(new long[]{0x0000008000000000L,0x0000000100000008L,0x0000200000000000L,0x0000000040000000L});
+	public static final BitSet FOLLOW_222_in_batchStatement4137 = new BitSet(new long[]{0x0000008000000000L,0x0000000100000008L,0x0000200000000000L});
+	public static final BitSet FOLLOW_K_APPLY_in_batchStatement4151 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_K_BATCH_in_batchStatement4153 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_insertStatement_in_batchStatementObjective4184 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_updateStatement_in_batchStatementObjective4197 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_deleteStatement_in_batchStatementObjective4210 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createAggregateStatement4243 = new BitSet(new long[]{0x0000000100000000L,0x0000000000000000L,0x0000000000000002L});
+	public static final BitSet FOLLOW_K_OR_in_createAggregateStatement4246 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_REPLACE_in_createAggregateStatement4248 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_K_AGGREGATE_in_createAggregateStatement4260 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_createAggregateStatement4269 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createAggregateStatement4271 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createAggregateStatement4273 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_createAggregateStatement4287 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_createAggregateStatement4295 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000200110L});
+	public static final BitSet FOLLOW_comparatorType_in_createAggregateStatement4319 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_createAggregateStatement4335 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_createAggregateStatement4339 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_createAggregateStatement4363 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_K_SFUNC_in_createAggregateStatement4371 = new BitSet(new long[]{0xDEEBC54744000000L,0x8519EE86E3BAF287L,0x007D9B9BFFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_allowedFunctionName_in_createAggregateStatement4377 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000002000000L});
+	public static final BitSet FOLLOW_K_STYPE_in_createAggregateStatement4385 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_createAggregateStatement4391 = new BitSet(new long[]{0x0000000000000002L,0x0000000040004000L});
+	public static final BitSet FOLLOW_K_FINALFUNC_in_createAggregateStatement4409 = new BitSet(new long[]{0xDEEBC54744000000L,0x8519EE86E3BAF287L,0x007D9B9BFFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_allowedFunctionName_in_createAggregateStatement4415 = new BitSet(new long[]{0x0000000000000002L,0x0000000040000000L});
+	public static final BitSet FOLLOW_K_INITCOND_in_createAggregateStatement4442 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_createAggregateStatement4448 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropAggregateStatement4495 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_K_AGGREGATE_in_dropAggregateStatement4497 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_dropAggregateStatement4506 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropAggregateStatement4508 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_dropAggregateStatement4523 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_dropAggregateStatement4541 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000200110L});
+	public static final BitSet FOLLOW_comparatorType_in_dropAggregateStatement4569 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_dropAggregateStatement4587 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_dropAggregateStatement4591 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_dropAggregateStatement4619 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createFunctionStatement4676 = new BitSet(new long[]{0x0000000000000000L,0x0000000000080000L,0x0000000000000002L});
+	public static final BitSet FOLLOW_K_OR_in_createFunctionStatement4679 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_REPLACE_in_createFunctionStatement4681 = new BitSet(new long[]{0x0000000000000000L,0x0000000000080000L});
+	public static final BitSet FOLLOW_K_FUNCTION_in_createFunctionStatement4693 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_createFunctionStatement4702 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createFunctionStatement4704 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createFunctionStatement4706 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_createFunctionStatement4720 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_createFunctionStatement4728 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000200010L});
+	public static final BitSet FOLLOW_noncol_ident_in_createFunctionStatement4752 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_createFunctionStatement4756 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_createFunctionStatement4772 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_noncol_ident_in_createFunctionStatement4776 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_createFunctionStatement4780 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_createFunctionStatement4804 = new BitSet(new long[]{0x0008000000000000L,0x0000000000000000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_K_RETURNS_in_createFunctionStatement4815 = new BitSet(new long[]{0x0000000000000000L,0x1000000000000000L});
+	public static final BitSet FOLLOW_K_NULL_in_createFunctionStatement4817 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_CALLED_in_createFunctionStatement4823 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_createFunctionStatement4829 = new BitSet(new long[]{0x0000000000000000L,0x1000000000000000L});
+	public static final BitSet FOLLOW_K_NULL_in_createFunctionStatement4831 = new BitSet(new long[]{0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_K_INPUT_in_createFunctionStatement4833 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_K_RETURNS_in_createFunctionStatement4841 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_createFunctionStatement4847 = new BitSet(new long[]{0x0000000000000000L,0x0000040000000000L});
+	public static final BitSet FOLLOW_K_LANGUAGE_in_createFunctionStatement4855 = new BitSet(new long[]{0x0000000004000000L});
+	public static final BitSet FOLLOW_IDENT_in_createFunctionStatement4861 = new BitSet(new long[]{0x0000010000000000L});
+	public static final BitSet FOLLOW_K_AS_in_createFunctionStatement4869 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_createFunctionStatement4875 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropFunctionStatement4913 = new BitSet(new long[]{0x0000000000000000L,0x0000000000080000L});
+	public static final BitSet FOLLOW_K_FUNCTION_in_dropFunctionStatement4915 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_dropFunctionStatement4924 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropFunctionStatement4926 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_dropFunctionStatement4941 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_dropFunctionStatement4959 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000200110L});
+	public static final BitSet FOLLOW_comparatorType_in_dropFunctionStatement4987 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_dropFunctionStatement5005 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_dropFunctionStatement5009 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_dropFunctionStatement5037 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createKeyspaceStatement5096 = new BitSet(new long[]{0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_createKeyspaceStatement5098 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_createKeyspaceStatement5101 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createKeyspaceStatement5103 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createKeyspaceStatement5105 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_createKeyspaceStatement5114 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_createKeyspaceStatement5122 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_properties_in_createKeyspaceStatement5124 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createTableStatement5159 = new BitSet(new long[]{0x0100000000000000L});
+	public static final BitSet FOLLOW_K_COLUMNFAMILY_in_createTableStatement5161 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_createTableStatement5164 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createTableStatement5166 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createTableStatement5168 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_createTableStatement5183 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_tableDefinition_in_createTableStatement5193 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_tableDefinition5212 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B4F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_tableColumns_in_tableDefinition5214 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tableDefinition5219 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B4F9L,0x0000000001200010L});
+	public static final BitSet FOLLOW_tableColumns_in_tableDefinition5221 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tableDefinition5228 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_tableDefinition5238 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_tableProperty_in_tableDefinition5240 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_tableDefinition5245 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_tableProperty_in_tableDefinition5247 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_ident_in_tableColumns5282 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_tableColumns5286 = new BitSet(new long[]{0x0000000000000002L,0x0001000000000000L,0x0000000000800400L});
+	public static final BitSet FOLLOW_K_STATIC_in_tableColumns5289 = new BitSet(new long[]{0x0000000000000002L,0x0001000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_columnMask_in_tableColumns5298 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_K_PRIMARY_in_tableColumns5313 = new BitSet(new long[]{0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_K_KEY_in_tableColumns5315 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_PRIMARY_in_tableColumns5327 = new BitSet(new long[]{0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_K_KEY_in_tableColumns5329 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_tableColumns5331 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_tablePartitionKey_in_tableColumns5333 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tableColumns5337 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_tableColumns5341 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tableColumns5348 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_MASKED_in_columnMask5378 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_columnMask5380 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_columnMask5384 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_columnMaskArguments_in_columnMask5386 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_MASKED_in_columnMask5397 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_columnMask5399 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000004L});
+	public static final BitSet FOLLOW_K_DEFAULT_in_columnMask5401 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_columnMaskArguments5421 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_columnMaskArguments5424 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_columnMaskArguments5428 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnMaskArguments5432 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_columnMaskArguments5437 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnMaskArguments5441 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_columnMaskArguments5447 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ident_in_tablePartitionKey5484 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_tablePartitionKey5494 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_tablePartitionKey5498 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tablePartitionKey5504 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_tablePartitionKey5508 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tablePartitionKey5515 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_property_in_tableProperty5533 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_COMPACT_in_tableProperty5542 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_STORAGE_in_tableProperty5544 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CLUSTERING_in_tableProperty5554 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000004L});
+	public static final BitSet FOLLOW_K_ORDER_in_tableProperty5556 = new BitSet(new long[]{0x0004000000000000L});
+	public static final BitSet FOLLOW_K_BY_in_tableProperty5558 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_tableProperty5560 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_tableClusteringOrder_in_tableProperty5562 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tableProperty5566 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_tableClusteringOrder_in_tableProperty5568 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tableProperty5573 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ident_in_tableClusteringOrder5601 = new BitSet(new long[]{0x0000020000000000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_ASC_in_tableClusteringOrder5604 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DESC_in_tableClusteringOrder5608 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createTypeStatement5646 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_TYPE_in_createTypeStatement5648 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_createTypeStatement5651 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createTypeStatement5653 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createTypeStatement5655 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_userTypeName_in_createTypeStatement5673 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_createTypeStatement5686 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_typeColumns_in_createTypeStatement5688 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_createTypeStatement5693 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000001200010L});
+	public static final BitSet FOLLOW_typeColumns_in_createTypeStatement5695 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_createTypeStatement5702 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_fident_in_typeColumns5722 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_typeColumns5726 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createIndexStatement5760 = new BitSet(new long[]{0x4000000000000000L,0x0000000010000000L});
+	public static final BitSet FOLLOW_K_CUSTOM_in_createIndexStatement5763 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+	public static final BitSet FOLLOW_K_INDEX_in_createIndexStatement5769 = new BitSet(new long[]{0xDEFBC54744000000L,0xC51DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_createIndexStatement5772 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createIndexStatement5774 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createIndexStatement5776 = new BitSet(new long[]{0xDEFBC54744000000L,0xC51DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_idxName_in_createIndexStatement5792 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_createIndexStatement5797 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_createIndexStatement5801 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_createIndexStatement5803 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BEF6C7L,0x047D9BD3FFE9B0F9L,0x0000000000200010L});
+	public static final BitSet FOLLOW_indexIdent_in_createIndexStatement5806 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_createIndexStatement5810 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BEF6C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_indexIdent_in_createIndexStatement5812 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_createIndexStatement5819 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0202000000000000L});
+	public static final BitSet FOLLOW_K_USING_in_createIndexStatement5830 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_createIndexStatement5834 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_createIndexStatement5849 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_properties_in_createIndexStatement5851 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_indexIdent5883 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_VALUES_in_indexIdent5911 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_indexIdent5913 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_indexIdent5917 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_indexIdent5919 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_KEYS_in_indexIdent5930 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_indexIdent5932 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_indexIdent5936 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_indexIdent5938 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ENTRIES_in_indexIdent5951 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_indexIdent5953 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_indexIdent5957 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_indexIdent5959 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_FULL_in_indexIdent5969 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_indexIdent5971 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_indexIdent5975 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_indexIdent5977 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createMaterializedViewStatement6014 = new BitSet(new long[]{0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_MATERIALIZED_in_createMaterializedViewStatement6016 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0080000000000000L});
+	public static final BitSet FOLLOW_K_VIEW_in_createMaterializedViewStatement6018 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_createMaterializedViewStatement6021 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createMaterializedViewStatement6023 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createMaterializedViewStatement6025 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_createMaterializedViewStatement6033 = new BitSet(new long[]{0x0000010000000000L});
+	public static final BitSet FOLLOW_K_AS_in_createMaterializedViewStatement6035 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000040000L});
+	public static final BitSet FOLLOW_K_SELECT_in_createMaterializedViewStatement6045 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000013022100918L});
+	public static final BitSet FOLLOW_selectors_in_createMaterializedViewStatement6049 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_createMaterializedViewStatement6051 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_createMaterializedViewStatement6055 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0100000000000400L});
+	public static final BitSet FOLLOW_K_WHERE_in_createMaterializedViewStatement6066 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000008000100010L});
+	public static final BitSet FOLLOW_whereClause_in_createMaterializedViewStatement6070 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_viewPrimaryKey_in_createMaterializedViewStatement6092 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_createMaterializedViewStatement6105 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_viewProperty_in_createMaterializedViewStatement6107 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_createMaterializedViewStatement6112 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_viewProperty_in_createMaterializedViewStatement6114 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_PRIMARY_in_viewPrimaryKey6138 = new BitSet(new long[]{0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_K_KEY_in_viewPrimaryKey6140 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_viewPrimaryKey6142 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_viewPartitionKey_in_viewPrimaryKey6144 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_viewPrimaryKey6148 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_viewPrimaryKey6152 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_viewPrimaryKey6159 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ident_in_viewPartitionKey6196 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_viewPartitionKey6206 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_viewPartitionKey6210 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_viewPartitionKey6216 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_viewPartitionKey6220 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_viewPartitionKey6227 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_property_in_viewProperty6245 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_COMPACT_in_viewProperty6254 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_STORAGE_in_viewProperty6256 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CLUSTERING_in_viewProperty6266 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000004L});
+	public static final BitSet FOLLOW_K_ORDER_in_viewProperty6268 = new BitSet(new long[]{0x0004000000000000L});
+	public static final BitSet FOLLOW_K_BY_in_viewProperty6270 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_viewProperty6272 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_viewClusteringOrder_in_viewProperty6274 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_viewProperty6278 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_viewClusteringOrder_in_viewProperty6280 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_viewProperty6285 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ident_in_viewClusteringOrder6313 = new BitSet(new long[]{0x0000020000000000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_ASC_in_viewClusteringOrder6316 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DESC_in_viewClusteringOrder6320 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createTriggerStatement6358 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+	public static final BitSet FOLLOW_K_TRIGGER_in_createTriggerStatement6360 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_createTriggerStatement6363 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createTriggerStatement6365 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createTriggerStatement6367 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_createTriggerStatement6377 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_createTriggerStatement6388 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_createTriggerStatement6392 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_USING_in_createTriggerStatement6394 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_createTriggerStatement6398 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropTriggerStatement6439 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+	public static final BitSet FOLLOW_K_TRIGGER_in_dropTriggerStatement6441 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_dropTriggerStatement6444 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropTriggerStatement6446 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_dropTriggerStatement6456 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_dropTriggerStatement6459 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_dropTriggerStatement6463 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterKeyspaceStatement6503 = new BitSet(new long[]{0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_alterKeyspaceStatement6505 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_alterKeyspaceStatement6508 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterKeyspaceStatement6510 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_alterKeyspaceStatement6519 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_alterKeyspaceStatement6529 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_properties_in_alterKeyspaceStatement6531 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterTableStatement6566 = new BitSet(new long[]{0x0100000000000000L});
+	public static final BitSet FOLLOW_K_COLUMNFAMILY_in_alterTableStatement6568 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_alterTableStatement6571 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTableStatement6573 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_alterTableStatement6588 = new BitSet(new long[]{0x0000001080000000L,0x0000000000000100L,0x0200000000000800L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterTableStatement6608 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_alterTableStatement6612 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_TYPE_in_alterTableStatement6614 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_alterTableStatement6618 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterTableStatement6631 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTableStatement6635 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTableStatement6637 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_alterTableStatement6646 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000100L});
+	public static final BitSet FOLLOW_columnMask_in_alterTableStatement6666 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_alterTableStatement6686 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000000L});
+	public static final BitSet FOLLOW_K_MASKED_in_alterTableStatement6688 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ADD_in_alterTableStatement6703 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTableStatement6707 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_alterTableStatement6709 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTableStatement6711 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement6743 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_alterTableStatement6748 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_isStaticColumn_in_alterTableStatement6753 = new BitSet(new long[]{0x0000000000000002L,0x0001000000000000L});
+	public static final BitSet FOLLOW_columnMask_in_alterTableStatement6758 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_alterTableStatement6782 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement6787 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_alterTableStatement6791 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000000L,0x0000000000800000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_isStaticColumn_in_alterTableStatement6795 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_columnMask_in_alterTableStatement6800 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_alterTableStatement6825 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement6829 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_alterTableStatement6833 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000000L,0x0000000000800000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_isStaticColumn_in_alterTableStatement6837 = new BitSet(new long[]{0x0000000000000000L,0x0001000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_columnMask_in_alterTableStatement6842 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_alterTableStatement6851 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_alterTableStatement6865 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTableStatement6869 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTableStatement6871 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement6903 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_212_in_alterTableStatement6925 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement6930 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_alterTableStatement6953 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement6957 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_alterTableStatement6964 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_USING_in_alterTableStatement6986 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_K_TIMESTAMP_in_alterTableStatement6988 = new BitSet(new long[]{0x0000000008000000L});
+	public static final BitSet FOLLOW_INTEGER_in_alterTableStatement6992 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_RENAME_in_alterTableStatement7008 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTableStatement7012 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTableStatement7014 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement7047 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_alterTableStatement7049 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement7053 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_alterTableStatement7075 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement7079 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_alterTableStatement7081 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_ident_in_alterTableStatement7085 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_alterTableStatement7103 = new BitSet(new long[]{0x0200000000000000L});
+	public static final BitSet FOLLOW_K_COMPACT_in_alterTableStatement7105 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_STORAGE_in_alterTableStatement7107 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_WITH_in_alterTableStatement7120 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_properties_in_alterTableStatement7122 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_STATIC_in_isStaticColumn7164 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterMaterializedViewStatement7200 = new BitSet(new long[]{0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_MATERIALIZED_in_alterMaterializedViewStatement7202 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0080000000000000L});
+	public static final BitSet FOLLOW_K_VIEW_in_alterMaterializedViewStatement7204 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_alterMaterializedViewStatement7207 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterMaterializedViewStatement7209 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_alterMaterializedViewStatement7218 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_alterMaterializedViewStatement7230 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_properties_in_alterMaterializedViewStatement7232 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterTypeStatement7272 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_TYPE_in_alterTypeStatement7274 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTypeStatement7277 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTypeStatement7279 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_userTypeName_in_alterTypeStatement7288 = new BitSet(new long[]{0x0000001080000000L,0x0000000000000000L,0x0000000000000800L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterTypeStatement7308 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_alterTypeStatement7314 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_TYPE_in_alterTypeStatement7316 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_alterTypeStatement7320 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ADD_in_alterTypeStatement7333 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTypeStatement7336 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_alterTypeStatement7338 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTypeStatement7340 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_alterTypeStatement7353 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_alterTypeStatement7357 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_RENAME_in_alterTypeStatement7377 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_alterTypeStatement7380 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterTypeStatement7382 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_alterTypeStatement7391 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_alterTypeStatement7393 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_alterTypeStatement7397 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_alterTypeStatement7419 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_alterTypeStatement7423 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_alterTypeStatement7425 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_alterTypeStatement7429 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropKeyspaceStatement7481 = new BitSet(new long[]{0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_dropKeyspaceStatement7483 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_dropKeyspaceStatement7486 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropKeyspaceStatement7488 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_dropKeyspaceStatement7497 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropTableStatement7531 = new BitSet(new long[]{0x0100000000000000L});
+	public static final BitSet FOLLOW_K_COLUMNFAMILY_in_dropTableStatement7533 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_dropTableStatement7536 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropTableStatement7538 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_dropTableStatement7547 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropTypeStatement7581 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_TYPE_in_dropTypeStatement7583 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_IF_in_dropTypeStatement7586 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropTypeStatement7588 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_userTypeName_in_dropTypeStatement7597 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropIndexStatement7631 = new BitSet(new long[]{0x0000000000000000L,0x0000000010000000L});
+	public static final BitSet FOLLOW_K_INDEX_in_dropIndexStatement7633 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_dropIndexStatement7636 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropIndexStatement7638 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_indexName_in_dropIndexStatement7647 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropMaterializedViewStatement7687 = new BitSet(new long[]{0x0000000000000000L,0x0002000000000000L});
+	public static final BitSet FOLLOW_K_MATERIALIZED_in_dropMaterializedViewStatement7689 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0080000000000000L});
+	public static final BitSet FOLLOW_K_VIEW_in_dropMaterializedViewStatement7691 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_IF_in_dropMaterializedViewStatement7694 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropMaterializedViewStatement7696 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_dropMaterializedViewStatement7705 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TRUNCATE_in_truncateStatement7736 = new BitSet(new long[]{0xDFFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_K_COLUMNFAMILY_in_truncateStatement7739 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_truncateStatement7745 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_GRANT_in_grantPermissionsStatement7770 = new BitSet(new long[]{0x2000081400000000L,0x0020000000000920L,0x00000800000C0000L});
+	public static final BitSet FOLLOW_permissionOrAll_in_grantPermissionsStatement7782 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_grantPermissionsStatement7790 = new BitSet(new long[]{0xDFFBC54744000000L,0x851DEFE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_resource_in_grantPermissionsStatement7802 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_grantPermissionsStatement7810 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_grantPermissionsStatement7824 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_REVOKE_in_revokePermissionsStatement7855 = new BitSet(new long[]{0x2000081400000000L,0x0020000000000920L,0x00000800000C0000L});
+	public static final BitSet FOLLOW_permissionOrAll_in_revokePermissionsStatement7867 = new BitSet(new long[]{0x0000000000000000L,0x4000000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_revokePermissionsStatement7875 = new BitSet(new long[]{0xDFFBC54744000000L,0x851DEFE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_resource_in_revokePermissionsStatement7887 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_revokePermissionsStatement7895 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_revokePermissionsStatement7909 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_GRANT_in_grantRoleStatement7940 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_grantRoleStatement7954 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_grantRoleStatement7962 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_grantRoleStatement7976 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_REVOKE_in_revokeRoleStatement8007 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_revokeRoleStatement8021 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_revokeRoleStatement8029 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_revokeRoleStatement8043 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LIST_in_listPermissionsStatement8081 = new BitSet(new long[]{0x2000081400000000L,0x0020000000000920L,0x00000800000C0000L});
+	public static final BitSet FOLLOW_permissionOrAll_in_listPermissionsStatement8093 = new BitSet(new long[]{0x0000000000000002L,0x6200000000000000L});
+	public static final BitSet FOLLOW_K_ON_in_listPermissionsStatement8103 = new BitSet(new long[]{0xDFFBC54744000000L,0x851DEFE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_resource_in_listPermissionsStatement8105 = new BitSet(new long[]{0x0000000000000002L,0x2200000000000000L});
+	public static final BitSet FOLLOW_K_OF_in_listPermissionsStatement8120 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_roleName_in_listPermissionsStatement8122 = new BitSet(new long[]{0x0000000000000002L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_NORECURSIVE_in_listPermissionsStatement8136 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_permission8172 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_permissionOrAll8237 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000080L});
+	public static final BitSet FOLLOW_K_PERMISSIONS_in_permissionOrAll8241 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_permission_in_permissionOrAll8262 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000040L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_PERMISSION_in_permissionOrAll8266 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_permissionOrAll8275 = new BitSet(new long[]{0x2000081000000000L,0x0020000000000920L,0x00000800000C0000L});
+	public static final BitSet FOLLOW_permission_in_permissionOrAll8279 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000040L,0x0000000001000000L});
+	public static final BitSet FOLLOW_K_PERMISSION_in_permissionOrAll8283 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_dataResource_in_resource8314 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_roleResource_in_resource8326 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_functionResource_in_resource8338 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_jmxResource_in_resource8350 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_dataResource8373 = new BitSet(new long[]{0x0000000000000000L,0x0000020000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACES_in_dataResource8375 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_dataResource8385 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_dataResource8391 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_COLUMNFAMILY_in_dataResource8403 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_dataResource8412 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_dataResource8422 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000010000000L});
+	public static final BitSet FOLLOW_K_TABLES_in_dataResource8424 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_K_IN_in_dataResource8426 = new BitSet(new long[]{0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_dataResource8428 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_dataResource8434 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_jmxResource8457 = new BitSet(new long[]{0x0000000000000000L,0x0010000000000000L});
+	public static final BitSet FOLLOW_K_MBEANS_in_jmxResource8459 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_MBEAN_in_jmxResource8479 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_mbean_in_jmxResource8481 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_MBEANS_in_jmxResource8491 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_mbean_in_jmxResource8493 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_roleResource8516 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_ROLES_in_roleResource8518 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ROLE_in_roleResource8528 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_roleResource8534 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_functionResource8566 = new BitSet(new long[]{0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_K_FUNCTIONS_in_functionResource8568 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALL_in_functionResource8578 = new BitSet(new long[]{0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_K_FUNCTIONS_in_functionResource8580 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_K_IN_in_functionResource8582 = new BitSet(new long[]{0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_functionResource8584 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_functionResource8590 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_FUNCTION_in_functionResource8605 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_functionResource8609 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_functionResource8627 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000200110L});
+	public static final BitSet FOLLOW_comparatorType_in_functionResource8655 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_functionResource8673 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_functionResource8677 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_functionResource8705 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createUserStatement8753 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000800000000000L});
+	public static final BitSet FOLLOW_K_USER_in_createUserStatement8755 = new BitSet(new long[]{0x0000000004000000L,0x0000000004000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_K_IF_in_createUserStatement8758 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createUserStatement8760 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createUserStatement8762 = new BitSet(new long[]{0x0000000004000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_username_in_createUserStatement8770 = new BitSet(new long[]{0x0000000000000002L,0x0400000000000000L,0x0200000004000000L});
+	public static final BitSet FOLLOW_K_WITH_in_createUserStatement8782 = new BitSet(new long[]{0x0000000000000000L,0x0000000001200000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_userPassword_in_createUserStatement8784 = new BitSet(new long[]{0x0000000000000002L,0x0400000000000000L,0x0000000004000000L});
+	public static final BitSet FOLLOW_K_SUPERUSER_in_createUserStatement8798 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NOSUPERUSER_in_createUserStatement8804 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterUserStatement8849 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000800000000000L});
+	public static final BitSet FOLLOW_K_USER_in_alterUserStatement8851 = new BitSet(new long[]{0x0000000004000000L,0x0000000004000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_K_IF_in_alterUserStatement8854 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterUserStatement8856 = new BitSet(new long[]{0x0000000004000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_username_in_alterUserStatement8864 = new BitSet(new long[]{0x0000000000000002L,0x0400000000000000L,0x0200000004000000L});
+	public static final BitSet FOLLOW_K_WITH_in_alterUserStatement8876 = new BitSet(new long[]{0x0000000000000000L,0x0000000001200000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_userPassword_in_alterUserStatement8878 = new BitSet(new long[]{0x0000000000000002L,0x0400000000000000L,0x0000000004000000L});
+	public static final BitSet FOLLOW_K_SUPERUSER_in_alterUserStatement8892 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NOSUPERUSER_in_alterUserStatement8906 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropUserStatement8952 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000800000000000L});
+	public static final BitSet FOLLOW_K_USER_in_dropUserStatement8954 = new BitSet(new long[]{0x0000000004000000L,0x0000000004000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_K_IF_in_dropUserStatement8957 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropUserStatement8959 = new BitSet(new long[]{0x0000000004000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_username_in_dropUserStatement8967 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ADD_in_addIdentityStatement9000 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+	public static final BitSet FOLLOW_K_IDENTITY_in_addIdentityStatement9002 = new BitSet(new long[]{0x0000000004000000L,0x0000000004000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_K_IF_in_addIdentityStatement9005 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_addIdentityStatement9007 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_addIdentityStatement9009 = new BitSet(new long[]{0x0000000004000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_identity_in_addIdentityStatement9017 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_addIdentityStatement9021 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000008000L});
+	public static final BitSet FOLLOW_K_ROLE_in_addIdentityStatement9023 = new BitSet(new long[]{0x0000000004000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_identity_in_addIdentityStatement9027 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropIdentityStatement9066 = new BitSet(new long[]{0x0000000000000000L,0x0000000002000000L});
+	public static final BitSet FOLLOW_K_IDENTITY_in_dropIdentityStatement9068 = new BitSet(new long[]{0x0000000004000000L,0x0000000004000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_K_IF_in_dropIdentityStatement9071 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropIdentityStatement9073 = new BitSet(new long[]{0x0000000004000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000110L});
+	public static final BitSet FOLLOW_identity_in_dropIdentityStatement9081 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LIST_in_listUsersStatement9108 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0001000000000000L});
+	public static final BitSet FOLLOW_K_USERS_in_listUsersStatement9110 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CREATE_in_createRoleStatement9144 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000008000L});
+	public static final BitSet FOLLOW_K_ROLE_in_createRoleStatement9146 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_K_IF_in_createRoleStatement9149 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_createRoleStatement9151 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_createRoleStatement9153 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_createRoleStatement9161 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_createRoleStatement9171 = new BitSet(new long[]{0x0000000040000000L,0x0000400001200000L,0x0000000004000011L});
+	public static final BitSet FOLLOW_roleOptions_in_createRoleStatement9173 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ALTER_in_alterRoleStatement9217 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000008000L});
+	public static final BitSet FOLLOW_K_ROLE_in_alterRoleStatement9219 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_K_IF_in_alterRoleStatement9222 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_alterRoleStatement9224 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_alterRoleStatement9232 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_alterRoleStatement9242 = new BitSet(new long[]{0x0000000040000000L,0x0000400001200000L,0x0000000004000011L});
+	public static final BitSet FOLLOW_roleOptions_in_alterRoleStatement9244 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DROP_in_dropRoleStatement9288 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000008000L});
+	public static final BitSet FOLLOW_K_ROLE_in_dropRoleStatement9290 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E7BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_K_IF_in_dropRoleStatement9293 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_K_EXISTS_in_dropRoleStatement9295 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_userOrRoleName_in_dropRoleStatement9303 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LIST_in_listRolesStatement9343 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_ROLES_in_listRolesStatement9345 = new BitSet(new long[]{0x0000000000000002L,0x2200000000000000L});
+	public static final BitSet FOLLOW_K_OF_in_listRolesStatement9355 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000118L});
+	public static final BitSet FOLLOW_roleName_in_listRolesStatement9357 = new BitSet(new long[]{0x0000000000000002L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_NORECURSIVE_in_listRolesStatement9370 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LIST_in_listSuperUsersStatement9415 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_K_SUPERUSERS_in_listSuperUsersStatement9417 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_roleOption_in_roleOptions9437 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_roleOptions9441 = new BitSet(new long[]{0x0000000040000000L,0x0000400001200000L,0x0000000004000011L});
+	public static final BitSet FOLLOW_roleOption_in_roleOptions9443 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_PASSWORD_in_roleOption9465 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_roleOption9467 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_roleOption9471 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_GENERATED_in_roleOption9482 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_PASSWORD_in_roleOption9484 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_HASHED_in_roleOption9496 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_PASSWORD_in_roleOption9498 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_roleOption9500 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_roleOption9504 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_OPTIONS_in_roleOption9515 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_roleOption9517 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_fullMapLiteral_in_roleOption9521 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_SUPERUSER_in_roleOption9532 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_roleOption9534 = new BitSet(new long[]{0x0000000000000040L});
+	public static final BitSet FOLLOW_BOOLEAN_in_roleOption9538 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LOGIN_in_roleOption9549 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_roleOption9551 = new BitSet(new long[]{0x0000000000000040L});
+	public static final BitSet FOLLOW_BOOLEAN_in_roleOption9555 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ACCESS_in_roleOption9566 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_roleOption9568 = new BitSet(new long[]{0x0000000400000000L});
+	public static final BitSet FOLLOW_K_ALL_in_roleOption9570 = new BitSet(new long[]{0x8000000000000000L});
+	public static final BitSet FOLLOW_K_DATACENTERS_in_roleOption9572 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ACCESS_in_roleOption9583 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_TO_in_roleOption9585 = new BitSet(new long[]{0x8000000000000000L});
+	public static final BitSet FOLLOW_K_DATACENTERS_in_roleOption9587 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_232_in_roleOption9589 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_dcPermission_in_roleOption9591 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_216_in_roleOption9595 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_dcPermission_in_roleOption9597 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_233_in_roleOption9602 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ACCESS_in_roleOption9611 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_roleOption9613 = new BitSet(new long[]{0x0000000400000000L});
+	public static final BitSet FOLLOW_K_ALL_in_roleOption9615 = new BitSet(new long[]{0x0020000000000000L});
+	public static final BitSet FOLLOW_K_CIDRS_in_roleOption9617 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ACCESS_in_roleOption9628 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_K_FROM_in_roleOption9630 = new BitSet(new long[]{0x0020000000000000L});
+	public static final BitSet FOLLOW_K_CIDRS_in_roleOption9632 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_232_in_roleOption9634 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_cidrPermission_in_roleOption9636 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_216_in_roleOption9640 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_cidrPermission_in_roleOption9642 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_233_in_roleOption9647 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_dcPermission9667 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_cidrPermission9689 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_PASSWORD_in_userPassword9711 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_userPassword9715 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_HASHED_in_userPassword9726 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_PASSWORD_in_userPassword9728 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_userPassword9732 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_GENERATED_in_userPassword9743 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_PASSWORD_in_userPassword9745 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_describeStatement9779 = new BitSet(new long[]{0xDFFBC54744000000L,0x851FEFE6F3BEF2C7L,0x047D9BD3FFEBB0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_K_CLUSTER_in_describeStatement9800 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_FULL_in_describeStatement9831 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000020000L});
+	public static final BitSet FOLLOW_K_SCHEMA_in_describeStatement9837 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACES_in_describeStatement9856 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_ONLY_in_describeStatement9883 = new BitSet(new long[]{0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_K_KEYSPACE_in_describeStatement9889 = new BitSet(new long[]{0xDEFBC54744000002L,0x851DEEE6E3BAF2C7L,0x067D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_keyspaceName_in_describeStatement9895 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_TABLES_in_describeStatement9964 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_COLUMNFAMILY_in_describeStatement9995 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_describeStatement9999 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_INDEX_in_describeStatement10018 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_describeStatement10022 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_MATERIALIZED_in_describeStatement10047 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0080000000000000L});
+	public static final BitSet FOLLOW_K_VIEW_in_describeStatement10049 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_columnFamilyName_in_describeStatement10053 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_TYPES_in_describeStatement10069 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_TYPE_in_describeStatement10102 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_userTypeName_in_describeStatement10106 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_FUNCTIONS_in_describeStatement10143 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_FUNCTION_in_describeStatement10168 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_describeStatement10172 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_AGGREGATES_in_describeStatement10205 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_AGGREGATE_in_describeStatement10228 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_functionName_in_describeStatement10232 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_IDENT_in_describeStatement10264 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_describeStatement10304 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_describeStatement10338 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_219_in_describeStatement10353 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_IDENT_in_describeStatement10370 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_describeStatement10411 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_describeStatement10446 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0200000000000000L});
+	public static final BitSet FOLLOW_K_WITH_in_describeStatement10530 = new BitSet(new long[]{0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_K_INTERNALS_in_describeStatement10532 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_EMPTY_QUOTED_NAME_in_cident10563 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ident_in_cident10578 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_ident10616 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_ident10641 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_ident10660 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_fident10685 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_fident10710 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_fident10729 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_noncol_ident10755 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_noncol_ident10780 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_noncol_ident10799 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ksName_in_keyspaceName10832 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ksName_in_indexName10866 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_219_in_indexName10869 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_idxName_in_indexName10873 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ksName_in_columnFamilyName10905 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_219_in_columnFamilyName10908 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000018L});
+	public static final BitSet FOLLOW_cfName_in_columnFamilyName10912 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_noncol_ident_in_userTypeName10937 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_219_in_userTypeName10939 = new BitSet(new long[]{0xC6E8414744000000L,0x8519EEC4C3BA7004L,0x00499B901FA9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_non_type_ident_in_userTypeName10945 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_roleName_in_userOrRoleName10977 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_ksName11000 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_ksName11025 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_ksName11044 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_ksName11054 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_cfName11076 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_cfName11101 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_cfName11120 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_cfName11130 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_idxName11152 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_idxName11177 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_idxName11196 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_idxName11206 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_roleName11228 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_roleName11253 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_roleName11269 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_roleName11288 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_roleName11298 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_constant11323 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INTEGER_in_constant11335 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_FLOAT_in_constant11354 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_BOOLEAN_in_constant11375 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_DURATION_in_constant11394 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_UUID_in_constant11412 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_HEXNUMBER_in_constant11434 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_constant11450 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_POSITIVE_INFINITY_in_constant11470 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NEGATIVE_INFINITY_in_constant11485 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_232_in_fullMapLiteral11526 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000031022100918L});
+	public static final BitSet FOLLOW_term_in_fullMapLiteral11532 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000000L});
+	public static final BitSet FOLLOW_221_in_fullMapLiteral11534 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_fullMapLiteral11538 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_216_in_fullMapLiteral11544 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_fullMapLiteral11548 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000000L});
+	public static final BitSet FOLLOW_221_in_fullMapLiteral11550 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_fullMapLiteral11554 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_233_in_fullMapLiteral11570 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_mapLiteral_in_setOrMapLiteral11594 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_setLiteral_in_setOrMapLiteral11607 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_216_in_setLiteral11652 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_setLiteral11656 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_221_in_mapLiteral11701 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_mapLiteral11705 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_mapLiteral11711 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_mapLiteral11715 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000000L});
+	public static final BitSet FOLLOW_221_in_mapLiteral11717 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_mapLiteral11721 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_listLiteral_in_collectionLiteral11749 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_232_in_collectionLiteral11759 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_collectionLiteral11763 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000021000000L});
+	public static final BitSet FOLLOW_setOrMapLiteral_in_collectionLiteral11767 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020000000000L});
+	public static final BitSet FOLLOW_233_in_collectionLiteral11772 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_232_in_collectionLiteral11790 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020000000000L});
+	public static final BitSet FOLLOW_233_in_collectionLiteral11792 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_228_in_listLiteral11833 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000015022100918L});
+	public static final BitSet FOLLOW_term_in_listLiteral11839 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004001000000L});
+	public static final BitSet FOLLOW_216_in_listLiteral11845 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_listLiteral11849 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004001000000L});
+	public static final BitSet FOLLOW_230_in_listLiteral11859 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_232_in_usertypeLiteral11903 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_usertypeLiteral11907 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000000L});
+	public static final BitSet FOLLOW_221_in_usertypeLiteral11909 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_usertypeLiteral11913 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_216_in_usertypeLiteral11919 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_usertypeLiteral11923 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000000L});
+	public static final BitSet FOLLOW_221_in_usertypeLiteral11925 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_usertypeLiteral11929 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000020001000000L});
+	public static final BitSet FOLLOW_233_in_usertypeLiteral11936 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_tupleLiteral11973 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_tupleLiteral11977 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tupleLiteral11983 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_tupleLiteral11987 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tupleLiteral11994 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_constant_in_value12017 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_collectionLiteral_in_value12039 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_usertypeLiteral_in_value12052 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tupleLiteral_in_value12067 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NULL_in_value12083 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_marker_in_value12109 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INTEGER_in_intValue12146 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_marker_in_intValue12158 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_keyspaceName_in_functionName12197 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_219_in_functionName12199 = new BitSet(new long[]{0xDEEBC54744000000L,0x8519EE86E3BAF287L,0x007D9B9BFFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_allowedFunctionName_in_functionName12205 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_allowedFunctionName12232 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_allowedFunctionName12266 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_function_keyword_in_allowedFunctionName12294 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TOKEN_in_allowedFunctionName12304 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_COUNT_in_allowedFunctionName12336 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_functionName_in_function12383 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_function12385 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_function12387 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_functionName_in_function12417 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_function12419 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_functionArgs_in_function12423 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_function12425 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_term_in_functionArgs12458 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_functionArgs12464 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_functionArgs12468 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_termAddition_in_term12496 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_termMultiplication_in_termAddition12548 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_214_in_termAddition12564 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_termMultiplication_in_termAddition12568 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_217_in_termAddition12582 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_termMultiplication_in_termAddition12586 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_termGroup_in_termMultiplication12624 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_229_in_termMultiplication12640 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_termGroup_in_termMultiplication12644 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_220_in_termMultiplication12658 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_termGroup_in_termMultiplication12662 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_211_in_termMultiplication12676 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_termGroup_in_termMultiplication12680 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000002010080000L});
+	public static final BitSet FOLLOW_simpleTerm_in_termGroup12716 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_217_in_termGroup12739 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011020100918L});
+	public static final BitSet FOLLOW_simpleTerm_in_termGroup12744 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_value_in_simpleTerm12777 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_function_in_simpleTerm12828 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_simpleTerm12874 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_simpleTerm12878 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_simpleTerm12880 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011020100918L});
+	public static final BitSet FOLLOW_simpleTerm_in_simpleTerm12884 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CAST_in_simpleTerm12903 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_212_in_simpleTerm12905 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011020100918L});
+	public static final BitSet FOLLOW_simpleTerm_in_simpleTerm12909 = new BitSet(new long[]{0x0000010000000000L});
+	public static final BitSet FOLLOW_K_AS_in_simpleTerm12911 = new BitSet(new long[]{0x1003840000000000L,0x0000000220008283L,0x00340003E0400000L});
+	public static final BitSet FOLLOW_native_type_in_simpleTerm12915 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_simpleTerm12917 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_columnOperation12939 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x000000120C800000L});
+	public static final BitSet FOLLOW_columnOperationDifferentiator_in_columnOperation12941 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_225_in_columnOperationDifferentiator12960 = new BitSet(new long[]{0xDEFBC5474D120840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_normalColumnOperation_in_columnOperationDifferentiator12962 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_shorthandColumnOperation_in_columnOperationDifferentiator12971 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_228_in_columnOperationDifferentiator12980 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnOperationDifferentiator12984 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_230_in_columnOperationDifferentiator12986 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_collectionColumnOperation_in_columnOperationDifferentiator12988 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_219_in_columnOperationDifferentiator12997 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_columnOperationDifferentiator13001 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_udtColumnOperation_in_columnOperationDifferentiator13003 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_term_in_normalColumnOperation13024 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000000L,0x0000000000000000L,0x0000000000400000L});
+	public static final BitSet FOLLOW_214_in_normalColumnOperation13027 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_normalColumnOperation13031 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_normalColumnOperation13052 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000002400000L});
+	public static final BitSet FOLLOW_set_in_normalColumnOperation13056 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_normalColumnOperation13066 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_normalColumnOperation13084 = new BitSet(new long[]{0x0000000008000000L});
+	public static final BitSet FOLLOW_INTEGER_in_normalColumnOperation13088 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_shorthandColumnOperation13116 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_shorthandColumnOperation13126 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_225_in_collectionColumnOperation13152 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_collectionColumnOperation13156 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_225_in_udtColumnOperation13182 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_udtColumnOperation13186 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_columnCondition13222 = new BitSet(new long[]{0x0400000000000000L,0x0000000008000000L,0x0000000000000000L,0x0000001F88040000L});
+	public static final BitSet FOLLOW_relationType_in_columnCondition13236 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnCondition13240 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CONTAINS_in_columnCondition13260 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_K_KEY_in_columnCondition13263 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnCondition13269 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_IN_in_columnCondition13285 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_singleColumnInValues_in_columnCondition13289 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_228_in_columnCondition13304 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnCondition13308 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_230_in_columnCondition13310 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L,0x0000000000000000L,0x0000000F80040000L});
+	public static final BitSet FOLLOW_relationType_in_columnCondition13328 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnCondition13332 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_IN_in_columnCondition13355 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_singleColumnInValues_in_columnCondition13359 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_219_in_columnCondition13387 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_fident_in_columnCondition13391 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L,0x0000000000000000L,0x0000000F80040000L});
+	public static final BitSet FOLLOW_relationType_in_columnCondition13409 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_columnCondition13413 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_IN_in_columnCondition13436 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_singleColumnInValues_in_columnCondition13440 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_property_in_properties13484 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_K_AND_in_properties13488 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_property_in_properties13490 = new BitSet(new long[]{0x0000002000000002L});
+	public static final BitSet FOLLOW_noncol_ident_in_property13513 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_property13515 = new BitSet(new long[]{0xDEFBC54749100840L,0x85DDEEE6E3BAF2C7L,0x047D9BD3FFE9B3F9L,0x0000000000000900L});
+	public static final BitSet FOLLOW_propertyValue_in_property13519 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_noncol_ident_in_property13531 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000200000000L});
+	public static final BitSet FOLLOW_225_in_property13533 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000010000000000L});
+	public static final BitSet FOLLOW_fullMapLiteral_in_property13537 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_constant_in_propertyValue13562 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_keyword_in_propertyValue13584 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_term_in_singleColumnBetweenValues13627 = new BitSet(new long[]{0x0000002000000000L});
+	public static final BitSet FOLLOW_K_AND_in_singleColumnBetweenValues13631 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_singleColumnBetweenValues13635 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_225_in_relationType13658 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_223_in_relationType13669 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_224_in_relationType13680 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_226_in_relationType13690 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_227_in_relationType13701 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_210_in_relationType13711 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_relation13733 = new BitSet(new long[]{0x0400400000000000L,0x0800081008000000L,0x0000000000000000L,0x0000000F80040000L});
+	public static final BitSet FOLLOW_relationType_in_relation13750 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_relation13754 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BETWEEN_in_relation13771 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_singleColumnBetweenValues_in_relation13775 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LIKE_in_relation13792 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_relation13796 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_IS_in_relation13813 = new BitSet(new long[]{0x0000000000000000L,0x0800000000000000L});
+	public static final BitSet FOLLOW_K_NOT_in_relation13815 = new BitSet(new long[]{0x0000000000000000L,0x1000000000000000L});
+	public static final BitSet FOLLOW_K_NULL_in_relation13817 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_inOperator_in_relation13836 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_singleColumnInValues_in_relation13840 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_containsOperator_in_relation13859 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_relation13863 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TOKEN_in_relation13886 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_tupleOfIdentifiers_in_relation13890 = new BitSet(new long[]{0x0000400000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000F80040000L});
+	public static final BitSet FOLLOW_relationType_in_relation13904 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_relation13908 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BETWEEN_in_relation13922 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_singleColumnBetweenValues_in_relation13926 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_cident_in_relation13948 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000001000000000L});
+	public static final BitSet FOLLOW_228_in_relation13950 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_relation13954 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_230_in_relation13956 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000F80040000L});
+	public static final BitSet FOLLOW_relationType_in_relation13960 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_relation13964 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tupleOfIdentifiers_in_relation13976 = new BitSet(new long[]{0x0000400000000000L,0x0800000008000000L,0x0000000000000000L,0x0000000F80040000L});
+	public static final BitSet FOLLOW_inOperator_in_relation13990 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_multiColumnInValues_in_relation13994 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_relationType_in_relation14010 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_multiColumnValue_in_relation14014 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BETWEEN_in_relation14028 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_multiColumnValue_in_relation14032 = new BitSet(new long[]{0x0000002000000000L});
+	public static final BitSet FOLLOW_K_AND_in_relation14034 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020100008L});
+	public static final BitSet FOLLOW_multiColumnValue_in_relation14038 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_relation14058 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BDBFFE9B0F9L,0x0000000000100010L});
+	public static final BitSet FOLLOW_relation_in_relation14060 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_relation14063 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CONTAINS_in_containsOperator14084 = new BitSet(new long[]{0x0000000000000002L,0x0000004000000000L});
+	public static final BitSet FOLLOW_K_KEY_in_containsOperator14089 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NOT_in_containsOperator14101 = new BitSet(new long[]{0x0400000000000000L});
+	public static final BitSet FOLLOW_K_CONTAINS_in_containsOperator14103 = new BitSet(new long[]{0x0000000000000002L,0x0000004000000000L});
+	public static final BitSet FOLLOW_K_KEY_in_containsOperator14108 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_IN_in_inOperator14133 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_NOT_in_inOperator14143 = new BitSet(new long[]{0x0000000000000000L,0x0000000008000000L});
+	public static final BitSet FOLLOW_K_IN_in_inOperator14145 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QMARK_in_inMarker14168 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_221_in_inMarker14178 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_noncol_ident_in_inMarker14182 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_tupleOfIdentifiers14214 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_tupleOfIdentifiers14218 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tupleOfIdentifiers14223 = new BitSet(new long[]{0xDEFBC54744020000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFE9B0F9L,0x0000000000000010L});
+	public static final BitSet FOLLOW_cident_in_tupleOfIdentifiers14227 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tupleOfIdentifiers14233 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_terms_in_singleColumnInValues14256 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_inMarker_in_singleColumnInValues14272 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_terms14314 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022300918L});
+	public static final BitSet FOLLOW_term_in_terms14322 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_terms14327 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000011022100918L});
+	public static final BitSet FOLLOW_term_in_terms14331 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_terms14340 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tupleLiteral_in_multiColumnValue14363 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_marker_in_multiColumnValue14377 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_multiColumnInValues14408 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000200000L});
+	public static final BitSet FOLLOW_213_in_multiColumnInValues14410 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_inMarker_in_multiColumnInValues14444 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tupleOfTupleLiterals_in_multiColumnInValues14487 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tupleOfMarkersForTuples_in_multiColumnInValues14516 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_tupleOfTupleLiterals14571 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_tupleLiteral_in_tupleOfTupleLiterals14575 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tupleOfTupleLiterals14580 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_tupleLiteral_in_tupleOfTupleLiterals14584 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tupleOfTupleLiterals14590 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_212_in_tupleOfMarkersForTuples14629 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_marker_in_tupleOfMarkersForTuples14633 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_216_in_tupleOfMarkersForTuples14638 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000020000008L});
+	public static final BitSet FOLLOW_marker_in_tupleOfMarkersForTuples14642 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001200000L});
+	public static final BitSet FOLLOW_213_in_tupleOfMarkersForTuples14648 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_native_type_in_comparatorType14671 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_collection_type_in_comparatorType14687 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tuple_type_in_comparatorType14699 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_vector_type_in_comparatorType14715 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_userTypeName_in_comparatorType14730 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_FROZEN_in_comparatorType14742 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_223_in_comparatorType14744 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_comparatorType14748 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_226_in_comparatorType14750 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_comparatorType14768 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_ASCII_in_native_type14797 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BIGINT_in_native_type14811 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BLOB_in_native_type14824 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_BOOLEAN_in_native_type14839 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_COUNTER_in_native_type14851 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DECIMAL_in_native_type14863 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DOUBLE_in_native_type14875 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DURATION_in_native_type14888 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_FLOAT_in_native_type14899 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_INET_in_native_type14913 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_INT_in_native_type14928 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_SMALLINT_in_native_type14944 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TEXT_in_native_type14955 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TIMESTAMP_in_native_type14970 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TINYINT_in_native_type14980 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_UUID_in_native_type14992 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_VARCHAR_in_native_type15007 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_VARINT_in_native_type15019 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TIMEUUID_in_native_type15032 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DATE_in_native_type15043 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TIME_in_native_type15058 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_MAP_in_collection_type15086 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_223_in_collection_type15089 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_collection_type15093 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_collection_type15095 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_collection_type15099 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_226_in_collection_type15101 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_LIST_in_collection_type15119 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_223_in_collection_type15121 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_collection_type15125 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_226_in_collection_type15127 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_SET_in_collection_type15145 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_223_in_collection_type15148 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_collection_type15152 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_226_in_collection_type15154 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TUPLE_in_tuple_type15203 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_223_in_tuple_type15205 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_tuple_type15209 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000401000000L});
+	public static final BitSet FOLLOW_216_in_tuple_type15214 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_tuple_type15218 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000401000000L});
+	public static final BitSet FOLLOW_226_in_tuple_type15224 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_VECTOR_in_vector_type15245 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000080000000L});
+	public static final BitSet FOLLOW_223_in_vector_type15247 = new BitSet(new long[]{0xDEFBC54744000000L,0x851DEEE6E3BAF2C7L,0x047D9BD3FFF9B0F9L,0x0000000000000110L});
+	public static final BitSet FOLLOW_comparatorType_in_vector_type15251 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000001000000L});
+	public static final BitSet FOLLOW_216_in_vector_type15253 = new BitSet(new long[]{0x0000000008000000L});
+	public static final BitSet FOLLOW_INTEGER_in_vector_type15258 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000000L,0x0000000000000000L,0x0000000400000000L});
+	public static final BitSet FOLLOW_226_in_vector_type15260 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_username15287 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_username15295 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_username15303 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_identity15322 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_identity15330 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_identity15338 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STRING_LITERAL_in_mbean15357 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENT_in_non_type_ident15382 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTED_NAME_in_non_type_ident15413 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_basic_unreserved_keyword_in_non_type_ident15438 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_KEY_in_non_type_ident15450 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_unreserved_function_keyword_in_unreserved_keyword15493 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_unreserved_keyword15509 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_basic_unreserved_keyword_in_unreserved_function_keyword15564 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_native_type_in_unreserved_function_keyword15576 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_basic_unreserved_keyword15614 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_JSON_in_synpred1_Parser1153 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000013022100918L});
+	public static final BitSet FOLLOW_selectClause_in_synpred1_Parser1155 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_DISTINCT_in_synpred2_Parser1356 = new BitSet(new long[]{0xDEFBC5474D100840L,0x95DDEEE6E3BAF2C7L,0x047D9BDBFFE9B3F9L,0x0000013022100918L});
+	public static final BitSet FOLLOW_selectors_in_synpred2_Parser1358 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionGroupWithField_in_synpred3_Parser1687 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_selectionTypeHint_in_synpred4_Parser1974 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_CLUSTER_in_synpred5_Parser9796 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_KEYSPACES_in_synpred6_Parser9852 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TABLES_in_synpred7_Parser9959 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_TYPES_in_synpred8_Parser10064 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_FUNCTIONS_in_synpred9_Parser10138 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_K_AGGREGATES_in_synpred10_Parser10200 = new BitSet(new long[]{0x0000000000000002L});
+}
@@ -237,6 +237,17 @@ public class AuthCache<K, V> implements AuthCacheMBean, UnweightedCacheSize, Shu
         return cache.get(k);
     }
 
+    /**
+     * Whether a value for the key is cached, so that {@link #get} would not have to load it. Does not trigger "load",
+     * nor count as a hit or miss.
+     * @param k key
+     */
+    public boolean isCached(K k)
+    {
+        LoadingCache<K, V> cache = this.cache;
+        return cache != null && cache.asMap().containsKey(k);
+    }
+
     /**
      * Invalidate the entire cache.
      */
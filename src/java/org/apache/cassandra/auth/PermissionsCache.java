@@ -46,6 +46,11 @@ public class PermissionsCache extends AuthCache<Pair<AuthenticatedUser, IResourc
         return get(Pair.create(user, resource));
     }
 
+    public boolean isCached(AuthenticatedUser user, IResource resource)
+    {
+        return isCached(Pair.create(user, resource));
+    }
+
     public void invalidatePermissions(String roleName, String resourceName)
     {
         invalidate(Pair.create(new AuthenticatedUser(roleName), Resources.fromName(resourceName)));
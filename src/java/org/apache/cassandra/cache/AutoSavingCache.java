@@ -189,7 +189,7 @@ public class AutoSavingCache<K extends CacheKey, V> extends InstrumentingCache<K
             if (size() > 0)
                 logger.info("Completed loading ({} ms; {} keys) {} cache",
                         TimeUnit.NANOSECONDS.toMillis(nanoTime() - start),
-                        CacheService.instance.keyCache.size(),
+                        size(),
                         cacheType);
             es.shutdown();
         });
@@ -322,6 +322,8 @@ public class AutoSavingCache<K extends CacheKey, V> extends InstrumentingCache<K
                 type = OperationType.ROW_CACHE_SAVE;
             else if (cacheType == CacheService.CacheType.COUNTER_CACHE)
                 type = OperationType.COUNTER_CACHE_SAVE;
+            else if (cacheType == CacheService.CacheType.CHUNK_CACHE)
+                type = OperationType.CHUNK_CACHE_SAVE;
             else
                 type = OperationType.UNKNOWN;
 
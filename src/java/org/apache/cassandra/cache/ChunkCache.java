@@ -21,10 +21,14 @@
 package org.apache.cassandra.cache;
 
 import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -32,14 +36,22 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import org.apache.cassandra.concurrent.ImmediateExecutor;
+import org.apache.cassandra.config.Config;
 import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.io.sstable.Component;
 import org.apache.cassandra.io.sstable.CorruptSSTableException;
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.io.sstable.format.SSTableFormat.Components;
 import org.apache.cassandra.io.util.ChannelProxy;
 import org.apache.cassandra.io.util.ChunkReader;
+import org.apache.cassandra.io.util.File;
 import org.apache.cassandra.io.util.FileHandle;
 import org.apache.cassandra.io.util.Rebufferer;
 import org.apache.cassandra.io.util.RebuffererFactory;
 import org.apache.cassandra.metrics.ChunkCacheMetrics;
+import org.apache.cassandra.schema.Schema;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.utils.Pair;
 import org.apache.cassandra.utils.memory.BufferPool;
 import org.apache.cassandra.utils.memory.BufferPools;
 
@@ -50,11 +62,23 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
     public static final boolean roundUp = DatabaseDescriptor.getFileCacheRoundUp();
 
     private static boolean enabled = DatabaseDescriptor.getFileCacheEnabled() && cacheSize > 0;
-    public static final ChunkCache instance = enabled ? new ChunkCache(BufferPools.forChunkCache()) : null;
+    public static final ChunkCache instance = enabled ? new ChunkCache(BufferPools.forChunkCache(),
+                                                                       cacheSize,
+                                                                       DatabaseDescriptor.getFileCacheBackend(),
+                                                                       DatabaseDescriptor.getFileCacheMode(),
+                                                                       DatabaseDescriptor.getFileCacheTableQuotaPercent(),
+                                                                       DatabaseDescriptor.getFileCacheScanDetectionThreshold())
+                                                      : null;
 
     private final BufferPool bufferPool;
+    private final long capacity;
+    private final boolean scanResistant;
+    private final long tableQuota;
+    private final int scanDetectionThreshold;
 
+    // exactly one of these is used, depending on the configured backend
     private final LoadingCache<Key, Buffer> cache;
+    private final SlabChunkCache slabs;
     public final ChunkCacheMetrics metrics;
 
     static class Key
@@ -62,13 +86,16 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
         final ChunkReader file;
         final String path;
         final long position;
+        // Not part of the key identity; used to attribute the chunk to its table.
+        final ChunkCacheMetrics.TableMetrics table;
 
-        public Key(ChunkReader file, long position)
+        public Key(ChunkReader file, long position, ChunkCacheMetrics.TableMetrics table)
         {
             super();
             this.file = file;
             this.position = position;
             this.path = file.channel().filePath();
+            this.table = table;
         }
 
         public int hashCode()
@@ -143,17 +170,69 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
         }
     }
 
-    private ChunkCache(BufferPool pool)
+    /**
+     * Buffer read for a single reader around the cache. It is not shared and is returned to the pool on release.
+     */
+    class UncachedBuffer implements Rebufferer.BufferHolder
+    {
+        private final ByteBuffer buffer;
+        private final long offset;
+
+        UncachedBuffer(ByteBuffer buffer, long offset)
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        @Override
+        public ByteBuffer buffer()
+        {
+            return buffer.duplicate();
+        }
+
+        @Override
+        public long offset()
+        {
+            return offset;
+        }
+
+        @Override
+        public void release()
+        {
+            bufferPool.put(buffer);
+        }
+    }
+
+    @VisibleForTesting
+    ChunkCache(BufferPool pool,
+               long capacity,
+               Config.FileCacheBackend backend,
+               Config.FileCacheMode mode,
+               int tableQuotaPercent,
+               int scanDetectionThreshold)
     {
         bufferPool = pool;
+        this.capacity = capacity;
+        this.scanResistant = mode == Config.FileCacheMode.scan_resistant;
+        this.tableQuota = capacity * tableQuotaPercent / 100;
+        this.scanDetectionThreshold = scanDetectionThreshold;
         metrics = new ChunkCacheMetrics(this);
-        cache = Caffeine.newBuilder()
-                        .maximumWeight(cacheSize)
-                        .executor(ImmediateExecutor.INSTANCE)
-                        .weigher((key, buffer) -> ((Buffer) buffer).buffer.capacity())
-                        .removalListener(this)
-                        .recordStats(() -> metrics)
-                        .build(this);
+        if (backend == Config.FileCacheBackend.slab)
+        {
+            slabs = new SlabChunkCache(pool, metrics, capacity);
+            cache = null;
+        }
+        else
+        {
+            slabs = null;
+            cache = Caffeine.newBuilder()
+                            .maximumWeight(capacity)
+                            .executor(ImmediateExecutor.INSTANCE)
+                            .weigher((key, buffer) -> ((Buffer) buffer).buffer.capacity())
+                            .removalListener(this)
+                            .recordStats(() -> metrics)
+                            .build(this);
+        }
     }
 
     @Override
@@ -162,22 +241,89 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
         ByteBuffer buffer = bufferPool.get(key.file.chunkSize(), key.file.preferredBufferType());
         assert buffer != null;
         key.file.readChunk(key.position, buffer);
+        if (key.table != null)
+        {
+            key.table.recordMiss();
+            key.table.addWeight(buffer.capacity());
+        }
         return new Buffer(buffer, key.position);
     }
 
     @Override
     public void onRemoval(Key key, Buffer buffer, RemovalCause cause)
     {
+        if (key.table != null)
+            key.table.addWeight(-buffer.buffer.capacity());
         buffer.release();
     }
 
+    /**
+     * Serves the chunk from the cache if it is present, otherwise reads it into a private buffer without admitting it.
+     */
+    private Rebufferer.BufferHolder getBypassingCache(Key key)
+    {
+        Buffer cached = cache.getIfPresent(key);
+        if (cached != null && (cached = cached.reference()) != null)
+        {
+            if (key.table != null)
+                key.table.recordRequest();
+            return cached;
+        }
+
+        metrics.bypasses.mark();
+        if (key.table != null)
+            key.table.recordBypass();
+
+        ByteBuffer buffer = bufferPool.get(key.file.chunkSize(), key.file.preferredBufferType());
+        assert buffer != null;
+        try
+        {
+            key.file.readChunk(key.position, buffer);
+        }
+        catch (Throwable t)
+        {
+            bufferPool.put(buffer);
+            throw t;
+        }
+        return new UncachedBuffer(buffer, key.position);
+    }
+
+    private boolean isOverQuota(ChunkCacheMetrics.TableMetrics table)
+    {
+        return scanResistant && table != null && table.weight() >= tableQuota;
+    }
+
+    /**
+     * Returns the per-table metrics of the table the given file belongs to, or null if the file is not an sstable
+     * component in a keyspace/table directory.
+     */
+    private ChunkCacheMetrics.TableMetrics tableMetricsFor(ChunkReader file)
+    {
+        try
+        {
+            Descriptor descriptor = Descriptor.fromFileWithComponent(new File(file.channel().filePath()), false).left;
+            if (descriptor.ksname.isEmpty() || descriptor.cfname.isEmpty())
+                return null;
+            return metrics.forTable(descriptor.ksname, descriptor.cfname);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+
     public void clear()
     {
-        cache.invalidateAll();
+        if (slabs != null)
+            slabs.clear();
+        else
+            cache.invalidateAll();
     }
 
     public RebuffererFactory wrap(ChunkReader file)
     {
+        if (slabs != null)
+            return slabs.wrap(file);
         return new CachingRebufferer(file);
     }
 
@@ -191,15 +337,79 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
 
     public void invalidatePosition(FileHandle dfile, long position)
     {
-        if (!(dfile.rebuffererFactory() instanceof CachingRebufferer))
-            return;
-
-        ((CachingRebufferer) dfile.rebuffererFactory()).invalidate(position);
+        if (dfile.rebuffererFactory() instanceof CachingRebufferer)
+            ((CachingRebufferer) dfile.rebuffererFactory()).invalidate(position);
+        else if (dfile.rebuffererFactory() instanceof SlabChunkCache.SlabRebufferer)
+            ((SlabChunkCache.SlabRebufferer) dfile.rebuffererFactory()).invalidate(position);
     }
 
     public void invalidateFile(String fileName)
     {
-        cache.invalidateAll(Iterables.filter(cache.asMap().keySet(), x -> x.path.equals(fileName)));
+        if (slabs != null)
+            slabs.invalidateFile(fileName);
+        else
+            cache.invalidateAll(Iterables.filter(cache.asMap().keySet(), x -> x.path.equals(fileName)));
+    }
+
+    /**
+     * Returns up to n cached chunks as (file path, chunk position) pairs, most frequently used first.
+     */
+    public Iterator<Pair<String, Long>> hotChunks(int n)
+    {
+        if (slabs != null)
+            return slabs.hotChunks(n).iterator();
+        return Iterators.transform(cache.policy().eviction().get().hottest(n).keySet().iterator(),
+                                   key -> Pair.create(key.path, key.position));
+    }
+
+    /**
+     * Reads the chunk containing the given position of the file into the cache, unless it is cached already.
+     *
+     * @return the size of the chunk, or 0 if the file is not read through this cache or the position is past its end
+     */
+    public int prefetch(FileHandle file, long position)
+    {
+        RebuffererFactory factory = file.rebuffererFactory();
+        if (cachedSource(factory) == null)
+            return 0;
+        if (position < 0 || position >= factory.fileLength())
+            return 0;
+
+        Rebufferer rebufferer = factory.instantiateRebufferer();
+        try
+        {
+            Rebufferer.BufferHolder holder = rebufferer.rebuffer(position);
+            try
+            {
+                return holder.buffer().capacity();
+            }
+            finally
+            {
+                holder.release();
+            }
+        }
+        finally
+        {
+            rebufferer.closeReader();
+        }
+    }
+
+    /**
+     * Returns the size of the chunks the given file is cached in, or 0 if the file is not read through this cache.
+     */
+    public int chunkSize(FileHandle file)
+    {
+        ChunkReader source = cachedSource(file.rebuffererFactory());
+        return source != null ? source.chunkSize() : 0;
+    }
+
+    private static ChunkReader cachedSource(RebuffererFactory factory)
+    {
+        if (factory instanceof CachingRebufferer)
+            return ((CachingRebufferer) factory).source;
+        if (factory instanceof SlabChunkCache.SlabRebufferer)
+            return ((SlabChunkCache.SlabRebufferer) factory).source;
+        return null;
     }
 
     // TODO: Invalidate caches for obsoleted/MOVED_START tables?
@@ -211,25 +421,38 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
     class CachingRebufferer implements Rebufferer, RebuffererFactory
     {
         private final ChunkReader source;
+        private final ChunkCacheMetrics.TableMetrics table;
         final long alignmentMask;
 
         public CachingRebufferer(ChunkReader file)
         {
             source = file;
+            table = tableMetricsFor(file);
             int chunkSize = file.chunkSize();
             assert Integer.bitCount(chunkSize) == 1 : String.format("%d must be a power of two", chunkSize);
             alignmentMask = -chunkSize;
         }
 
         @Override
-        public Buffer rebuffer(long position)
+        public BufferHolder rebuffer(long position)
+        {
+            return rebuffer(position, false);
+        }
+
+        BufferHolder rebuffer(long position, boolean scanning)
         {
             try
             {
                 long pageAlignedPos = position & alignmentMask;
+                Key key = new Key(source, pageAlignedPos, table);
+                if (scanning || isOverQuota(table))
+                    return getBypassingCache(key);
+
+                if (table != null)
+                    table.recordRequest();
                 Buffer buf;
                 do
-                    buf = cache.get(new Key(source, pageAlignedPos)).reference();
+                    buf = cache.get(key).reference();
                 while (buf == null);
 
                 return buf;
@@ -246,13 +469,14 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
         public void invalidate(long position)
         {
             long pageAlignedPos = position & alignmentMask;
-            cache.invalidate(new Key(source, pageAlignedPos));
+            cache.invalidate(new Key(source, pageAlignedPos, table));
         }
 
         @Override
         public Rebufferer instantiateRebufferer()
         {
-            return this;
+            // Scan detection needs per-reader state; otherwise the instance is shared among readers.
+            return scanResistant ? new ScanDetectingRebufferer() : this;
         }
 
         @Override
@@ -290,12 +514,168 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
         {
             return "CachingRebufferer:" + source;
         }
+
+        /**
+         * Per-reader view of the caching rebufferer that tracks the reader's access pattern. Once the reader has read
+         * more than {@link #scanDetectionThreshold} consecutive chunks it is considered to be scanning (e.g. a range
+         * read or compaction through an SSTableScanner) and its reads are served around the cache, so that they
+         * cannot evict the chunks of latency-sensitive point reads.
+         */
+        class ScanDetectingRebufferer implements Rebufferer
+        {
+            private long lastChunk = Long.MIN_VALUE;
+            private int sequentialChunks = 0;
+
+            @Override
+            public BufferHolder rebuffer(long position)
+            {
+                long pageAlignedPos = position & alignmentMask;
+                if (pageAlignedPos == lastChunk + source.chunkSize())
+                    ++sequentialChunks;
+                else if (pageAlignedPos != lastChunk)
+                    sequentialChunks = 0;
+                lastChunk = pageAlignedPos;
+
+                return CachingRebufferer.this.rebuffer(pageAlignedPos, sequentialChunks >= scanDetectionThreshold);
+            }
+
+            @Override
+            public void closeReader()
+            {
+                // Nothing to release, buffers are released by the reader.
+            }
+
+            @Override
+            public void close()
+            {
+                CachingRebufferer.this.close();
+            }
+
+            @Override
+            public ChannelProxy channel()
+            {
+                return source.channel();
+            }
+
+            @Override
+            public long fileLength()
+            {
+                return source.fileLength();
+            }
+
+            @Override
+            public double getCrcCheckChance()
+            {
+                return source.getCrcCheckChance();
+            }
+
+            @Override
+            public String toString()
+            {
+                return "ScanDetectingRebufferer:" + source;
+            }
+        }
+    }
+
+    /**
+     * Returns a view of the chunk cache used to save its hot chunks with {@link AutoSavingCache}, so that they can be
+     * prefetched on startup (see {@link org.apache.cassandra.service.CacheService.ChunkCacheSerializer}). Only chunks
+     * of the data component of live tables are exposed. The chunk cache is populated by reads, not through this view,
+     * so its {@code put} and {@code get} do nothing.
+     */
+    public ICache<ChunkCacheKey, Integer> savedChunks()
+    {
+        return new SavedChunks();
+    }
+
+    private class SavedChunks implements ICache<ChunkCacheKey, Integer>
+    {
+        public void put(ChunkCacheKey key, Integer value)
+        {
+        }
+
+        public boolean putIfAbsent(ChunkCacheKey key, Integer value)
+        {
+            return false;
+        }
+
+        public boolean replace(ChunkCacheKey key, Integer old, Integer value)
+        {
+            return false;
+        }
+
+        public Integer get(ChunkCacheKey key)
+        {
+            return null;
+        }
+
+        public void remove(ChunkCacheKey key)
+        {
+        }
+
+        public void clear()
+        {
+            ChunkCache.this.clear();
+        }
+
+        public Iterator<ChunkCacheKey> keyIterator()
+        {
+            return hotKeyIterator(Integer.MAX_VALUE);
+        }
+
+        public Iterator<ChunkCacheKey> hotKeyIterator(int n)
+        {
+            // Saved hottest first, so that a warm-up that runs out of budget skips the coldest chunks.
+            return Iterators.filter(Iterators.transform(hotChunks(n), chunk -> toKey(chunk.left, chunk.right)),
+                                    Objects::nonNull);
+        }
+
+        private ChunkCacheKey toKey(String path, long position)
+        {
+            try
+            {
+                Pair<Descriptor, Component> parsed = Descriptor.fromFileWithComponent(new File(path), false);
+                if (!Components.DATA.equals(parsed.right))
+                    return null;
+                TableMetadata metadata = Schema.instance.getTableMetadata(parsed.left.ksname, parsed.left.cfname);
+                return metadata == null ? null : new ChunkCacheKey(metadata, parsed.left, position);
+            }
+            catch (IllegalArgumentException e)
+            {
+                return null;
+            }
+        }
+
+        public boolean containsKey(ChunkCacheKey key)
+        {
+            return false;
+        }
+
+        public long capacity()
+        {
+            return ChunkCache.this.capacity();
+        }
+
+        public void setCapacity(long capacity)
+        {
+            ChunkCache.this.setCapacity(capacity);
+        }
+
+        public int size()
+        {
+            return ChunkCache.this.size();
+        }
+
+        public long weightedSize()
+        {
+            return ChunkCache.this.weightedSize();
+        }
     }
 
     @Override
     public long capacity()
     {
-        return cacheSize;
+        return capacity;
     }
 
     @Override
@@ -307,12 +687,16 @@ public class ChunkCache implements CacheLoader<ChunkCache.Key, ChunkCache.Buffer
     @Override
     public int size()
     {
+        if (slabs != null)
+            return slabs.size();
         return cache.asMap().size();
     }
 
     @Override
     public long weightedSize()
     {
+        if (slabs != null)
+            return slabs.weightedSize();
         return cache.policy().eviction()
                 .map(policy -> policy.weightedSize().orElseGet(cache::estimatedSize))
                 .orElseGet(cache::estimatedSize);
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.Objects;
+
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.schema.TableId;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.utils.ObjectSizes;
+
+/**
+ * Identifies a chunk of the data component of an sstable, as saved by the chunk cache for warm-up on startup.
+ */
+public class ChunkCacheKey extends CacheKey
+{
+    private static final long EMPTY_SIZE = ObjectSizes.measure(new ChunkCacheKey(null, null, null, 0));
+
+    public final Descriptor desc;
+    public final long position;
+
+    public ChunkCacheKey(TableMetadata tableMetadata, Descriptor desc, long position)
+    {
+        super(tableMetadata);
+        this.desc = desc;
+        this.position = position;
+    }
+
+    private ChunkCacheKey(TableId tableId, String indexName, Descriptor desc, long position)
+    {
+        super(tableId, indexName);
+        this.desc = desc;
+        this.position = position;
+    }
+
+    public String toString()
+    {
+        return String.format("ChunkCacheKey(%s, %d)", desc, position);
+    }
+
+    public long unsharedHeapSize()
+    {
+        return EMPTY_SIZE;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ChunkCacheKey that = (ChunkCacheKey) o;
+
+        return tableId.equals(that.tableId)
+               && Objects.equals(indexName, that.indexName)
+               && desc.equals(that.desc)
+               && position == that.position;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = tableId.hashCode();
+        result = 31 * result + Objects.hashCode(indexName);
+        result = 31 * result + desc.hashCode();
+        result = 31 * result + Long.hashCode(position);
+        return result;
+    }
+}
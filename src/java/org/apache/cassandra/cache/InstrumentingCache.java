@@ -69,6 +69,11 @@ public class InstrumentingCache<K, V>
         return map.get(key);
     }
 
+    public ICache<K, V> getCache()
+    {
+        return map;
+    }
+
     public void remove(K key)
     {
         map.remove(key);
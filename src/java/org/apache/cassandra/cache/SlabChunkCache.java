@@ -0,0 +1,1054 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongPredicate;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.io.compress.BufferType;
+import org.apache.cassandra.io.util.ChannelProxy;
+import org.apache.cassandra.io.util.ChunkReader;
+import org.apache.cassandra.io.util.Rebufferer;
+import org.apache.cassandra.io.util.RebuffererFactory;
+import org.apache.cassandra.metrics.ChunkCacheMetrics;
+import org.apache.cassandra.utils.NoSpamLogger;
+import org.apache.cassandra.utils.Pair;
+import org.apache.cassandra.utils.memory.BufferPool;
+import org.apache.cassandra.utils.memory.MemoryUtil;
+
+import static org.apache.cassandra.utils.Clock.Global.nanoTime;
+
+/**
+ * Off-heap storage for the chunk cache, used by {@link ChunkCache} when {@code file_cache_backend} is {@code slab}.
+ * <p>
+ * Chunks are stored in large off-heap slabs. Each slab is dedicated to a single power-of-two slot size when it is
+ * first needed, in the manner of a slab allocator. Slots are found through an open-addressing hash table keyed by a
+ * (file id, chunk position) pair of longs, so the cache holds no per-entry objects on heap. Eviction uses the CLOCK
+ * algorithm over the slots of a slot size. Chunks larger than a slab are not cached.
+ * <p>
+ * Once all slabs are assigned, a slot size which has evicted, or failed to cache, a slab's worth of chunks takes the
+ * slab with the fewest recently referenced chunks from the slot size under the least pressure, if that is less than
+ * half its own, so that the slabs follow the sizes of the chunks read as the tables and their compression change.
+ * <p>
+ * Lookups do not lock: a reader finds the slot in the index, pins it by incrementing its reference count and then
+ * verifies that the slot still holds the requested chunk, treating any mismatch as a miss. Loads and evictions lock
+ * the slot size they work on, and index updates lock one of several index segments.
+ */
+class SlabChunkCache implements CacheSize
+{
+    private static final Logger logger = LoggerFactory.getLogger(SlabChunkCache.class);
+
+    static final int MIN_SLOT_SIZE = 4096;
+    static final int MIN_SLAB_SIZE = 65536;
+    private static final int MAX_SLAB_SIZE = 16 << 20;
+    private static final int INDEX_SEGMENT_BITS = 6;
+
+    private static final long NO_FILE = -1;
+    private static final int NOT_FOUND = -1;
+    private static final int REMOVED = -2;
+    private static final int EXCLUSIVE = -1;
+
+    private final BufferPool bufferPool;
+    private final ChunkCacheMetrics metrics;
+    private final long capacity;
+    private final int slabSize;
+    private final int slotBits;
+
+    // Written before the slab's first slot is published in the index, which makes it visible to readers.
+    private final Slab[] slabs;
+    private final AtomicInteger assignedSlabs = new AtomicInteger();
+    // slabs whose memory could not be allocated when they were claimed, to be assigned again
+    private final Queue<Integer> releasedSlabs = new ConcurrentLinkedQueue<>();
+    // set while a slab is moved from one slot size to another
+    private final AtomicBoolean rebalancing = new AtomicBoolean();
+    private final SizeClass[] sizeClasses;
+    private final IndexSegment[] index;
+
+    private final ConcurrentMap<Pair<String, Class<?>>, Long> fileIds = new ConcurrentHashMap<>();
+    private final AtomicLong nextFileId = new AtomicLong();
+    private final AtomicInteger entries = new AtomicInteger();
+    private final AtomicLong occupiedBytes = new AtomicLong();
+
+    SlabChunkCache(BufferPool bufferPool, ChunkCacheMetrics metrics, long capacity)
+    {
+        this.bufferPool = bufferPool;
+        this.metrics = metrics;
+        this.capacity = capacity;
+        this.slabSize = slabSizeFor(capacity);
+        this.slotBits = Integer.numberOfTrailingZeros(slabSize / MIN_SLOT_SIZE);
+        this.slabs = new Slab[Math.toIntExact(capacity / slabSize)];
+
+        int classes = Integer.numberOfTrailingZeros(slabSize / MIN_SLOT_SIZE) + 1;
+        sizeClasses = new SizeClass[classes];
+        for (int i = 0; i < classes; ++i)
+            sizeClasses[i] = new SizeClass(MIN_SLOT_SIZE << i);
+
+        index = new IndexSegment[1 << INDEX_SEGMENT_BITS];
+        for (int i = 0; i < index.length; ++i)
+            index[i] = new IndexSegment();
+    }
+
+    /**
+     * Slabs are sized so that there are at least 16 of them, between {@link #MIN_SLAB_SIZE} and 16 MiB.
+     */
+    @VisibleForTesting
+    static int slabSizeFor(long capacity)
+    {
+        long size = Long.highestOneBit(Math.max(1, capacity / 16));
+        return (int) Math.max(MIN_SLAB_SIZE, Math.min(MAX_SLAB_SIZE, size));
+    }
+
+    public RebuffererFactory wrap(ChunkReader file)
+    {
+        long fileId = fileIds.computeIfAbsent(Pair.create(file.channel().filePath(), file.getClass()),
+                                              k -> nextFileId.getAndIncrement());
+        return new SlabRebufferer(file, fileId);
+    }
+
+    public void invalidateFile(String fileName)
+    {
+        Set<Long> ids = new HashSet<>();
+        for (Iterator<Map.Entry<Pair<String, Class<?>>, Long>> it = fileIds.entrySet().iterator(); it.hasNext(); )
+        {
+            Map.Entry<Pair<String, Class<?>>, Long> entry = it.next();
+            if (entry.getKey().left.equals(fileName))
+            {
+                ids.add(entry.getValue());
+                it.remove();
+            }
+        }
+
+        if (!ids.isEmpty())
+            invalidateIf(ids::contains);
+    }
+
+    public void clear()
+    {
+        invalidateIf(fileId -> true);
+    }
+
+    /**
+     * Returns up to n cached chunks as (file path, chunk position) pairs, chunks referenced since the last eviction
+     * pass over their slot first. CLOCK only keeps a single reference bit per slot, so this is a coarser order than
+     * the one provided by the caffeine backend. Slots are read without pinning, so the result is only a hint.
+     */
+    public List<Pair<String, Long>> hotChunks(int n)
+    {
+        Map<Long, String> paths = new HashMap<>();
+        for (Map.Entry<Pair<String, Class<?>>, Long> entry : fileIds.entrySet())
+            paths.put(entry.getValue(), entry.getKey().left);
+
+        List<Pair<String, Long>> hot = new ArrayList<>();
+        List<Pair<String, Long>> cold = new ArrayList<>();
+        int count = Math.min(assignedSlabs.get(), slabs.length);
+        for (int s = 0; s < count && hot.size() < n; ++s)
+        {
+            Slab slab = slabs[s];
+            if (slab == null)
+                continue;
+
+            for (int slot = 0; slot < slab.slots && hot.size() < n; ++slot)
+            {
+                long fileId = slab.fileId(slot);
+                String path = fileId == NO_FILE ? null : paths.get(fileId);
+                if (path == null)
+                    continue;
+
+                Pair<String, Long> chunk = Pair.create(path, slab.position(slot));
+                if (slab.referenced[slot] != 0)
+                    hot.add(chunk);
+                else if (cold.size() < n)
+                    cold.add(chunk);
+            }
+        }
+
+        hot.addAll(cold.subList(0, Math.min(cold.size(), n - hot.size())));
+        return hot;
+    }
+
+    private void invalidateIf(LongPredicate filter)
+    {
+        int count = Math.min(assignedSlabs.get(), slabs.length);
+        for (int s = 0; s < count; ++s)
+        {
+            Slab slab = slabs[s];
+            if (slab == null)
+                continue;
+
+            for (int slot = 0; slot < slab.slots; ++slot)
+            {
+                long fileId = slab.fileId(slot);
+                if (fileId != NO_FILE && filter.test(fileId))
+                    invalidate(s, slab, slot, fileId, slab.position(slot));
+            }
+        }
+    }
+
+    /**
+     * Removes the given slot from the index, and empties it if it is not in use. Slots that are pinned by a reader are
+     * left in place; they can no longer be found and will be reclaimed by eviction.
+     */
+    private void invalidate(int slabIndex, Slab slab, int slot, long fileId, long position)
+    {
+        int handle = handle(slabIndex, slot);
+        segmentFor(hash(fileId, position)).remove(fileId, position, hash(fileId, position), handle);
+
+        if (slab.state.compareAndSet(slot, 0, EXCLUSIVE))
+        {
+            if (slab.holds(slot, fileId, position))
+                empty(slab, slot);
+            slab.state.set(slot, 0);
+        }
+    }
+
+    private void empty(Slab slab, int slot)
+    {
+        if (slab.fileId(slot) == NO_FILE)
+            return;
+
+        slab.keys.set(2 * slot, NO_FILE);
+        slab.referenced[slot] = 0;
+        entries.decrementAndGet();
+        occupiedBytes.addAndGet(-slab.slotSize);
+    }
+
+    private int handle(int slabIndex, int slot)
+    {
+        return (slabIndex << slotBits) | slot;
+    }
+
+    private IndexSegment segmentFor(long hash)
+    {
+        return index[(int) (hash >>> (64 - INDEX_SEGMENT_BITS))];
+    }
+
+    private static long hash(long fileId, long position)
+    {
+        long h = fileId * 0x9E3779B97F4A7C15L ^ position;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Returns the slot size of chunks of the given size, the smallest chunks sharing the smallest slots, or null if
+     * the chunks are larger than a slab.
+     */
+    private SizeClass sizeClassFor(int chunkSize)
+    {
+        if (chunkSize > slabSize)
+            return null;
+        return sizeClasses[Integer.numberOfTrailingZeros(Math.max(chunkSize, MIN_SLOT_SIZE) / MIN_SLOT_SIZE)];
+    }
+
+    /**
+     * Assigns an unused slab to the given slot size, or returns -1 if all slabs are assigned. Slab memory is allocated
+     * on first assignment and lives as long as the cache, i.e. the process.
+     */
+    private int assignSlab(int slotSize)
+    {
+        Integer released = releasedSlabs.poll();
+        int slabIndex = released != null ? released : claimSlab();
+        if (slabIndex < 0)
+            return -1;
+
+        long address;
+        try
+        {
+            address = MemoryUtil.allocate(slabSize);
+        }
+        catch (Throwable t)
+        {
+            // roll back the claim, for the slab to be assigned once memory is available
+            releasedSlabs.add(slabIndex);
+            throw t;
+        }
+        slabs[slabIndex] = new Slab(address, slotSize, slabSize / slotSize);
+        return slabIndex;
+    }
+
+    private int claimSlab()
+    {
+        while (true)
+        {
+            int assigned = assignedSlabs.get();
+            if (assigned >= slabs.length)
+                return -1;
+            if (assignedSlabs.compareAndSet(assigned, assigned + 1))
+                return assigned;
+        }
+    }
+
+    private boolean allSlabsAssigned()
+    {
+        return assignedSlabs.get() >= slabs.length && releasedSlabs.isEmpty();
+    }
+
+    /**
+     * Moves a slab to the given slot size from the one under the least pressure, if that is less than half the
+     * pressure of the given size. Does nothing if another slab is being moved, or if the slab to move holds chunks in
+     * use by readers.
+     */
+    private void rebalanceTo(SizeClass recipient)
+    {
+        if (!rebalancing.compareAndSet(false, true))
+            return;
+
+        try
+        {
+            SizeClass donor = null;
+            double donorPressure = recipient.pressurePerSlab() / 2;
+            for (SizeClass sizeClass : sizeClasses)
+            {
+                if (sizeClass == recipient)
+                    continue;
+
+                double pressure = sizeClass.pressurePerSlab();
+                if (pressure < donorPressure)
+                {
+                    donor = sizeClass;
+                    donorPressure = pressure;
+                }
+            }
+            if (donor == null)
+                return;
+
+            int slabIndex = donor.release();
+            if (slabIndex < 0)
+                return;
+
+            recipient.add(slabIndex);
+            logger.debug("Moved chunk cache slab {} from {} to {} byte slots", slabIndex, donor.slotSize, recipient.slotSize);
+        }
+        finally
+        {
+            rebalancing.set(false);
+        }
+    }
+
+    @Override
+    public long capacity()
+    {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(long capacity)
+    {
+        throw new UnsupportedOperationException("Chunk cache size cannot be changed.");
+    }
+
+    @Override
+    public int size()
+    {
+        return entries.get();
+    }
+
+    @Override
+    public long weightedSize()
+    {
+        return occupiedBytes.get();
+    }
+
+    /**
+     * A region of off-heap memory divided into equally sized slots, with the metadata of each slot kept in primitive
+     * arrays.
+     */
+    private static final class Slab
+    {
+        final long address;
+        final int slotSize;
+        final int slots;
+        // file id and position of the chunk held by each slot; file id is NO_FILE for empty slots
+        final AtomicLongArray keys;
+        // number of readers holding each slot, or EXCLUSIVE while it is being filled or emptied
+        final AtomicIntegerArray state;
+        // length of the chunk held by each slot, published by the write to state that makes the slot available
+        final int[] lengths;
+        // CLOCK reference bits; races between readers setting and the clock hand clearing them are benign
+        final byte[] referenced;
+
+        Slab(long address, int slotSize, int slots)
+        {
+            this.address = address;
+            this.slotSize = slotSize;
+            this.slots = slots;
+            this.keys = new AtomicLongArray(2 * slots);
+            this.state = new AtomicIntegerArray(slots);
+            this.lengths = new int[slots];
+            this.referenced = new byte[slots];
+            for (int i = 0; i < slots; ++i)
+                keys.set(2 * i, NO_FILE);
+        }
+
+        long fileId(int slot)
+        {
+            return keys.get(2 * slot);
+        }
+
+        long position(int slot)
+        {
+            return keys.get(2 * slot + 1);
+        }
+
+        boolean holds(int slot, long fileId, long position)
+        {
+            return keys.get(2 * slot) == fileId && keys.get(2 * slot + 1) == position;
+        }
+
+        boolean tryPin(int slot)
+        {
+            while (true)
+            {
+                int current = state.get(slot);
+                if (current < 0)
+                    return false;
+                if (state.compareAndSet(slot, current, current + 1))
+                    return true;
+            }
+        }
+
+        void unpin(int slot)
+        {
+            state.decrementAndGet(slot);
+        }
+
+        ByteBuffer buffer(int slot, int length)
+        {
+            return MemoryUtil.getByteBuffer(address + (long) slot * slotSize, length, ByteOrder.BIG_ENDIAN);
+        }
+    }
+
+    /**
+     * The slabs assigned to one slot size, and the CLOCK hand sweeping over their slots.
+     */
+    private final class SizeClass
+    {
+        final int slotSize;
+        final int slotsPerSlab;
+
+        // all guarded by this
+        private int[] assigned = new int[8];
+        private int assignedCount = 0;
+        private int nextUnused = 0;
+        private int clockSlab = 0;
+        private int clockSlot = 0;
+        // chunks evicted, or not cached for lack of a slot, since a slab was last moved to or from this size
+        private volatile int pressure = 0;
+
+        SizeClass(int slotSize)
+        {
+            this.slotSize = slotSize;
+            this.slotsPerSlab = slabSize / slotSize;
+        }
+
+        /**
+         * Returns the handle of an empty slot held exclusively by the caller, evicting a chunk if necessary, or -1 if
+         * all slots are in use. Takes a slab from another slot size first if this one is under enough pressure.
+         */
+        int allocate()
+        {
+            if (pressure >= slotsPerSlab && allSlabsAssigned())
+                rebalanceTo(this);
+            return allocateOrEvict();
+        }
+
+        private synchronized int allocateOrEvict()
+        {
+            if (assignedCount > 0)
+            {
+                int slabIndex = assigned[assignedCount - 1];
+                Slab slab = slabs[slabIndex];
+                if (nextUnused < slab.slots)
+                    return take(slabIndex, slab, nextUnused++);
+            }
+
+            int slabIndex = assignSlab(slotSize);
+            if (slabIndex >= 0)
+            {
+                if (assignedCount == assigned.length)
+                    assigned = Arrays.copyOf(assigned, assignedCount * 2);
+                assigned[assignedCount++] = slabIndex;
+                nextUnused = 1;
+                return take(slabIndex, slabs[slabIndex], 0);
+            }
+
+            int handle = evict();
+            if (handle < 0)
+                ++pressure;
+            return handle;
+        }
+
+        private int take(int slabIndex, Slab slab, int slot)
+        {
+            // a reader holding the handle of a chunk of a slab since moved may pin the slot until it finds it empty
+            while (!slab.state.compareAndSet(slot, 0, EXCLUSIVE))
+                Thread.onSpinWait();
+            return handle(slabIndex, slot);
+        }
+
+        synchronized double pressurePerSlab()
+        {
+            return assignedCount == 0 ? Double.MAX_VALUE : (double) pressure / assignedCount;
+        }
+
+        /**
+         * Empties the slab with the fewest recently referenced chunks and removes it from this slot size, or returns -1
+         * if that slab holds chunks in use.
+         */
+        synchronized int release()
+        {
+            if (assignedCount == 0)
+                return -1;
+
+            int victim = 0;
+            int fewestReferenced = Integer.MAX_VALUE;
+            for (int i = 0; i < assignedCount; ++i)
+            {
+                Slab slab = slabs[assigned[i]];
+                int referenced = 0;
+                for (int slot = 0; slot < slab.slots; ++slot)
+                    referenced += slab.referenced[slot];
+                if (referenced < fewestReferenced)
+                {
+                    victim = i;
+                    fewestReferenced = referenced;
+                }
+            }
+
+            int slabIndex = assigned[victim];
+            Slab slab = slabs[slabIndex];
+            for (int slot = 0; slot < slab.slots; ++slot)
+            {
+                if (!slab.state.compareAndSet(slot, 0, EXCLUSIVE))
+                {
+                    for (int taken = 0; taken < slot; ++taken)
+                        slab.state.set(taken, 0);
+                    return -1;
+                }
+            }
+
+            // the slots are left exclusive, so that readers which still find this instance cannot pin them
+            for (int slot = 0; slot < slab.slots; ++slot)
+            {
+                long fileId = slab.fileId(slot);
+                if (fileId != NO_FILE)
+                {
+                    long position = slab.position(slot);
+                    segmentFor(hash(fileId, position)).remove(fileId, position, hash(fileId, position), handle(slabIndex, slot));
+                    empty(slab, slot);
+                }
+            }
+
+            System.arraycopy(assigned, victim + 1, assigned, victim, assignedCount - victim - 1);
+            --assignedCount;
+            if (victim == assignedCount)
+                nextUnused = assignedCount == 0 ? 0 : slabs[assigned[assignedCount - 1]].slots;
+            if (victim < clockSlab)
+            {
+                --clockSlab;
+            }
+            else if (victim == clockSlab)
+            {
+                clockSlot = 0;
+                if (clockSlab == assignedCount)
+                    clockSlab = 0;
+            }
+            pressure = 0;
+            return slabIndex;
+        }
+
+        /**
+         * Divides the memory of a slab released by another slot size into slots of this size, to be used next.
+         */
+        synchronized void add(int slabIndex)
+        {
+            slabs[slabIndex] = new Slab(slabs[slabIndex].address, slotSize, slotsPerSlab);
+            if (assignedCount == assigned.length)
+                assigned = Arrays.copyOf(assigned, assignedCount * 2);
+            assigned[assignedCount++] = slabIndex;
+            nextUnused = 0;
+            pressure = 0;
+        }
+
+        private int evict()
+        {
+            if (assignedCount == 0)
+                return -1;
+
+            // Two full turns of the clock: the first may only clear reference bits. If every slot is still pinned
+            // after that, give up rather than wait.
+            long limit = 2L * assignedCount * slabs[assigned[0]].slots;
+            for (long i = 0; i < limit; ++i)
+            {
+                int slabIndex = assigned[clockSlab];
+                Slab slab = slabs[slabIndex];
+                int slot = clockSlot;
+                if (++clockSlot == slab.slots)
+                {
+                    clockSlot = 0;
+                    clockSlab = (clockSlab + 1) % assignedCount;
+                }
+
+                if (slab.referenced[slot] != 0)
+                {
+                    slab.referenced[slot] = 0;
+                    continue;
+                }
+
+                if (!slab.state.compareAndSet(slot, 0, EXCLUSIVE))
+                    continue;
+
+                long fileId = slab.fileId(slot);
+                if (fileId != NO_FILE)
+                {
+                    long position = slab.position(slot);
+                    int handle = handle(slabIndex, slot);
+                    segmentFor(hash(fileId, position)).remove(fileId, position, hash(fileId, position), handle);
+                    empty(slab, slot);
+                    ++pressure;
+                }
+                return handle(slabIndex, slot);
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * One segment of the open-addressing index from (file id, position) to slot handle. Readers do not lock and may
+     * observe an entry while it is being changed; they guard against this by verifying the key held by the slot.
+     */
+    private static final class IndexSegment
+    {
+        private volatile Table table = new Table(16);
+
+        int get(long fileId, long position, long hash)
+        {
+            Table t = table;
+            int i = (int) hash & t.mask;
+            for (int probes = 0; probes <= t.mask; ++probes, i = (i + 1) & t.mask)
+            {
+                int value = t.values.get(i);
+                if (value == NOT_FOUND)
+                    return NOT_FOUND;
+                if (value != REMOVED && t.keys.get(2 * i) == fileId && t.keys.get(2 * i + 1) == position)
+                    return value;
+            }
+            return NOT_FOUND;
+        }
+
+        synchronized void put(long fileId, long position, long hash, int handle)
+        {
+            Table t = table;
+            if ((t.used + 1) * 2 > t.mask + 1)
+                table = t = t.rehash();
+
+            int i = (int) hash & t.mask;
+            int target = -1;
+            for (int probes = 0; probes <= t.mask; ++probes, i = (i + 1) & t.mask)
+            {
+                int value = t.values.get(i);
+                if (value == NOT_FOUND)
+                {
+                    if (target < 0)
+                    {
+                        target = i;
+                        ++t.used;
+                    }
+                    break;
+                }
+                if (value == REMOVED)
+                {
+                    if (target < 0)
+                        target = i;
+                    continue;
+                }
+                if (t.keys.get(2 * i) == fileId && t.keys.get(2 * i + 1) == position)
+                {
+                    // a concurrent load of the same chunk; the slot it replaces is reclaimed by eviction
+                    t.values.set(i, handle);
+                    return;
+                }
+            }
+
+            assert target >= 0;
+            t.keys.set(2 * target, fileId);
+            t.keys.set(2 * target + 1, position);
+            t.values.set(target, handle);
+            ++t.live;
+        }
+
+        synchronized void remove(long fileId, long position, long hash, int handle)
+        {
+            Table t = table;
+            int i = (int) hash & t.mask;
+            for (int probes = 0; probes <= t.mask; ++probes, i = (i + 1) & t.mask)
+            {
+                int value = t.values.get(i);
+                if (value == NOT_FOUND)
+                    return;
+                if (value == handle && t.keys.get(2 * i) == fileId && t.keys.get(2 * i + 1) == position)
+                {
+                    t.values.set(i, REMOVED);
+                    --t.live;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Table
+    {
+        final int mask;
+        final AtomicLongArray keys;
+        final AtomicIntegerArray values;
+        // guarded by the owning segment
+        int live = 0;
+        int used = 0;
+
+        Table(int capacity)
+        {
+            mask = capacity - 1;
+            keys = new AtomicLongArray(2 * capacity);
+            values = new AtomicIntegerArray(capacity);
+            for (int i = 0; i < capacity; ++i)
+                values.set(i, NOT_FOUND);
+        }
+
+        /**
+         * Returns a copy of this table without removed entries, sized for the live entries to fill at most a quarter.
+         */
+        Table rehash()
+        {
+            Table copy = new Table(Math.max(16, Integer.highestOneBit(Math.max(1, live)) * 4));
+            for (int i = 0; i <= mask; ++i)
+            {
+                int value = values.get(i);
+                if (value < 0)
+                    continue;
+
+                long fileId = keys.get(2 * i);
+                long position = keys.get(2 * i + 1);
+                int j = (int) hash(fileId, position) & copy.mask;
+                while (copy.values.get(j) != NOT_FOUND)
+                    j = (j + 1) & copy.mask;
+                copy.keys.set(2 * j, fileId);
+                copy.keys.set(2 * j + 1, position);
+                copy.values.set(j, value);
+                ++copy.live;
+                ++copy.used;
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * Chunk handed out from a pinned slot. The slot cannot be evicted or reused until the holder is released.
+     */
+    private static final class SlotBuffer implements Rebufferer.BufferHolder
+    {
+        private final Slab slab;
+        private final int slot;
+        private final long offset;
+
+        SlotBuffer(Slab slab, int slot, long offset)
+        {
+            this.slab = slab;
+            this.slot = slot;
+            this.offset = offset;
+        }
+
+        @Override
+        public ByteBuffer buffer()
+        {
+            return slab.buffer(slot, slab.lengths[slot]);
+        }
+
+        @Override
+        public long offset()
+        {
+            return offset;
+        }
+
+        @Override
+        public void release()
+        {
+            slab.unpin(slot);
+        }
+    }
+
+    /**
+     * Chunk read for a single reader because it could not be placed in the cache.
+     */
+    private final class UncachedBuffer implements Rebufferer.BufferHolder
+    {
+        private final ByteBuffer buffer;
+        private final long offset;
+
+        UncachedBuffer(ByteBuffer buffer, long offset)
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        @Override
+        public ByteBuffer buffer()
+        {
+            return buffer.duplicate();
+        }
+
+        @Override
+        public long offset()
+        {
+            return offset;
+        }
+
+        @Override
+        public void release()
+        {
+            bufferPool.put(buffer);
+        }
+    }
+
+    /**
+     * Rebufferer providing chunks stored in the slabs, where data is obtained from the specified ChunkReader.
+     * Thread-safe. One instance per file, shared among its readers.
+     */
+    class SlabRebufferer implements Rebufferer, RebuffererFactory
+    {
+        final ChunkReader source;
+        private final long fileId;
+        private final long alignmentMask;
+        private final SizeClass sizeClass;
+
+        SlabRebufferer(ChunkReader source, long fileId)
+        {
+            this.source = source;
+            this.fileId = fileId;
+            int chunkSize = source.chunkSize();
+            assert Integer.bitCount(chunkSize) == 1 : String.format("%d must be a power of two", chunkSize);
+            this.alignmentMask = -chunkSize;
+            this.sizeClass = sizeClassFor(chunkSize);
+            if (sizeClass == null)
+                NoSpamLogger.log(logger, NoSpamLogger.Level.WARN, 1, TimeUnit.MINUTES,
+                                 "Chunks of {} bytes are larger than the {} byte slabs of the chunk cache and are not cached, " +
+                                 "e.g. for {}; increase file_cache_size or use a smaller compression chunk_length_in_kb",
+                                 chunkSize, slabSize, source.channel().filePath());
+        }
+
+        @Override
+        public BufferHolder rebuffer(long position)
+        {
+            long pageAlignedPos = position & alignmentMask;
+            long hash = hash(fileId, pageAlignedPos);
+
+            BufferHolder cached = lookup(pageAlignedPos, hash);
+            if (cached != null)
+            {
+                metrics.recordHits(1);
+                return cached;
+            }
+
+            metrics.recordMisses(1);
+            long startTime = nanoTime();
+            BufferHolder loaded = load(pageAlignedPos, hash);
+            metrics.recordLoadSuccess(nanoTime() - startTime);
+            return loaded;
+        }
+
+        private BufferHolder lookup(long position, long hash)
+        {
+            if (sizeClass == null)
+                return null;
+
+            int handle = segmentFor(hash).get(fileId, position, hash);
+            if (handle < 0)
+                return null;
+
+            Slab slab = slabs[handle >>> slotBits];
+            int slot = handle & ((1 << slotBits) - 1);
+            if (!isOfSizeClass(slab, slot) || !slab.tryPin(slot))
+                return null;
+
+            if (!slab.holds(slot, fileId, position))
+            {
+                slab.unpin(slot);
+                return null;
+            }
+
+            slab.referenced[slot] = 1;
+            return new SlotBuffer(slab, slot, position);
+        }
+
+        private BufferHolder load(long position, long hash)
+        {
+            int handle = sizeClass != null ? sizeClass.allocate() : -1;
+            if (handle < 0)
+                return readUncached(position);
+
+            Slab slab = slabs[handle >>> slotBits];
+            int slot = handle & ((1 << slotBits) - 1);
+            ByteBuffer target = slab.buffer(slot, source.chunkSize());
+            try
+            {
+                if (source.preferredBufferType() == BufferType.OFF_HEAP)
+                {
+                    source.readChunk(position, target);
+                }
+                else
+                {
+                    // the source cannot read into direct memory, e.g. because its compressor needs heap buffers
+                    ByteBuffer onHeap = bufferPool.get(source.chunkSize(), BufferType.ON_HEAP);
+                    try
+                    {
+                        source.readChunk(position, onHeap);
+                        target.put(onHeap);
+                        target.flip();
+                    }
+                    finally
+                    {
+                        bufferPool.put(onHeap);
+                    }
+                }
+            }
+            catch (Throwable t)
+            {
+                slab.state.set(slot, 0);
+                throw t;
+            }
+
+            slab.lengths[slot] = target.limit();
+            slab.keys.set(2 * slot + 1, position);
+            slab.keys.set(2 * slot, fileId);
+            slab.referenced[slot] = 1;
+            entries.incrementAndGet();
+            occupiedBytes.addAndGet(slab.slotSize);
+            // publish the chunk, pinned for the caller
+            slab.state.set(slot, 1);
+            segmentFor(hash).put(fileId, position, hash, handle);
+            return new SlotBuffer(slab, slot, position);
+        }
+
+        private BufferHolder readUncached(long position)
+        {
+            ByteBuffer buffer = bufferPool.get(source.chunkSize(), source.preferredBufferType());
+            try
+            {
+                source.readChunk(position, buffer);
+            }
+            catch (Throwable t)
+            {
+                bufferPool.put(buffer);
+                throw t;
+            }
+            return new UncachedBuffer(buffer, position);
+        }
+
+        public void invalidate(long position)
+        {
+            if (sizeClass == null)
+                return;
+
+            long pageAlignedPos = position & alignmentMask;
+            int handle = segmentFor(hash(fileId, pageAlignedPos)).get(fileId, pageAlignedPos, hash(fileId, pageAlignedPos));
+            if (handle < 0)
+                return;
+
+            int slabIndex = handle >>> slotBits;
+            Slab slab = slabs[slabIndex];
+            int slot = handle & ((1 << slotBits) - 1);
+            if (isOfSizeClass(slab, slot))
+                SlabChunkCache.this.invalidate(slabIndex, slab, slot, fileId, pageAlignedPos);
+        }
+
+        /**
+         * Whether the given slab still has slots of the size of the chunks of this file, and the given slot among them.
+         * A handle read from the index may be of a slab since moved to another slot size, and divided into fewer slots.
+         */
+        private boolean isOfSizeClass(Slab slab, int slot)
+        {
+            return slab.slotSize == sizeClass.slotSize && slot < slab.slots;
+        }
+
+        @Override
+        public Rebufferer instantiateRebufferer()
+        {
+            return this;
+        }
+
+        @Override
+        public void close()
+        {
+            source.close();
+        }
+
+        @Override
+        public void closeReader()
+        {
+            // Instance is shared among readers. Nothing to release.
+        }
+
+        @Override
+        public ChannelProxy channel()
+        {
+            return source.channel();
+        }
+
+        @Override
+        public long fileLength()
+        {
+            return source.fileLength();
+        }
+
+        @Override
+        public double getCrcCheckChance()
+        {
+            return source.getCrcCheckChance();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "SlabRebufferer:" + source;
+        }
+    }
+}
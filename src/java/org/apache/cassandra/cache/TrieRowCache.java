@@ -0,0 +1,882 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.apache.cassandra.db.Clustering;
+import org.apache.cassandra.db.ClusteringBound;
+import org.apache.cassandra.db.ClusteringPrefix;
+import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.db.DeletionTime;
+import org.apache.cassandra.db.SerializationHeader;
+import org.apache.cassandra.db.partitions.CachedBTreePartition;
+import org.apache.cassandra.db.partitions.CachedPartition;
+import org.apache.cassandra.db.partitions.PartitionUpdate;
+import org.apache.cassandra.db.rows.BTreeRow;
+import org.apache.cassandra.db.rows.DeserializationHelper;
+import org.apache.cassandra.db.rows.EncodingStats;
+import org.apache.cassandra.db.rows.Row;
+import org.apache.cassandra.db.rows.Rows;
+import org.apache.cassandra.db.rows.SerializationHelper;
+import org.apache.cassandra.db.rows.UnfilteredSerializer;
+import org.apache.cassandra.db.tries.InMemoryTrie;
+import org.apache.cassandra.db.tries.Trie;
+import org.apache.cassandra.io.compress.BufferType;
+import org.apache.cassandra.io.util.DataInputBuffer;
+import org.apache.cassandra.io.util.DataOutputBuffer;
+import org.apache.cassandra.net.MessagingService;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.bytecomparable.ByteComparable;
+import org.apache.cassandra.utils.bytecomparable.ByteSource;
+
+import static org.apache.cassandra.db.memtable.TrieMemtable.MAX_RECURSIVE_KEY_LENGTH;
+import static org.apache.cassandra.utils.Clock.Global.nanoTime;
+
+/**
+ * A row cache which keeps the rows of the cached partitions encoded off-heap, in tries indexed by the byte-comparable
+ * representation of their table, partition key and clustering.
+ * <p>
+ * Unlike the serializing caches, which have to drop a cached partition whenever it is written to, this cache
+ * {@link #update updates} the rows a write touches in place, which keeps the tables that are read much more often than
+ * they are written to cacheable even if they are not read-only. As with the other caches, only the head of a partition
+ * is cached when the table caches a limited number of rows per partition; the writes to rows after that head are
+ * ignored, as the reads that the cached head cannot satisfy are not served from the cache.
+ * <p>
+ * Each cached partition has a state at the path of its key, holding its partition deletion, its static row and the
+ * counts of its rows, and its rows are at the paths which extend it with their clustering. The rows are serialized with
+ * {@link UnfilteredSerializer} in off-heap regions, the trie only mapping them to a small handle, and are decoded into a
+ * {@link CachedBTreePartition} when the partition is read. Partitions with range tombstones are not cached.
+ * <p>
+ * The cache is split in shards, each of which has a trie modified by a single writer at a time and read concurrently.
+ * As in {@link org.apache.cassandra.db.memtable.NativeTrieMemtable}, the writes to a partition are isolated from reads
+ * by a per-partition version: a read that overlaps a write to its partition is retried, and a read that keeps failing
+ * to complete between writes takes the shard's lock. As neither a trie nor the regions can release space, removed
+ * entries are marked as such and the previous versions of rows are left in their region; a shard is rebuilt, its live
+ * entries copied into a new trie and new regions, once as many of its entries are removed ones as live ones, or as much
+ * of its regions is unused as used. The trie nodes and regions are left to the garbage collector rather than released
+ * when a shard is rebuilt, as readers may still be using them.
+ * <p>
+ * Eviction is approximately least-recently-used: when a shard holds more than its share of the capacity, its least
+ * recently accessed partitions are removed until it is back under {@link #EVICTION_TARGET} of that share. Partitions
+ * are weighed by the serialized size of their key and rows.
+ */
+public class TrieRowCache implements ICache<RowCacheKey, IRowCacheEntry>, UpdatableRowCache
+{
+    static final double EVICTION_TARGET = 0.9;
+
+    /** The number of times a read is attempted without locking before it takes the lock of the partition's shard. */
+    @VisibleForTesting
+    static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+    /** The minimum number of entries, live or removed, a shard must have before it is rebuilt. */
+    private static final int MIN_REBUILD_ENTRIES = 64;
+
+    /** The size of the off-heap regions the rows are encoded in; larger rows are given a buffer of their own. */
+    @VisibleForTesting
+    static final int REGION_SIZE = 1 << 20;
+
+    /** The content of the paths of the removed partitions and rows, which a trie cannot remove. */
+    private static final Object REMOVED = new Object();
+
+    private final Shard[] shards;
+    private volatile long capacity;
+
+    @VisibleForTesting
+    TrieRowCache(long capacity, int shardCount)
+    {
+        this.capacity = capacity;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++)
+            shards[i] = new Shard();
+    }
+
+    public static TrieRowCache create(long capacity)
+    {
+        return new TrieRowCache(capacity, FBUtilities.getAvailableProcessors());
+    }
+
+    /**
+     * The state of a cached partition, or of a partition being cached if it holds a sentinel. Its fields are modified
+     * by the writes to the partition, which are made under the lock of its shard.
+     */
+    private static final class PartitionState
+    {
+        final RowCacheKey key;
+        final RowCacheSentinel sentinel;
+        final TableMetadata metadata;
+        final SerializationHeader header;
+        final DecoratedKey partitionKey;
+        final DeletionTime partitionDeletion;
+        final long createdAtInSec;
+
+        /** Odd while a write to the partition is in progress. */
+        volatile int version;
+        volatile boolean removed;
+        volatile EncodedRow staticRow;
+        /** The clustering of the last cached row, which is the last row covered by the partition if only its head is. */
+        volatile Clustering<?> lastClustering;
+        volatile int rows;
+        volatile int cachedLiveRows;
+        volatile int rowsWithNonExpiringCells;
+        volatile long weight;
+        volatile long lastAccess = nanoTime();
+
+        PartitionState(RowCacheKey key, RowCacheSentinel sentinel)
+        {
+            this(key, sentinel, null, null, null, null, 0);
+            this.weight = key.key.length;
+        }
+
+        PartitionState(RowCacheKey key, CachedPartition partition, long createdAtInSec)
+        {
+            this(key,
+                 null,
+                 partition.metadata(),
+                 new SerializationHeader(false, partition.metadata(), partition.columns(), EncodingStats.NO_STATS),
+                 partition.partitionKey(),
+                 partition.partitionLevelDeletion(),
+                 createdAtInSec);
+            this.weight = key.key.length;
+        }
+
+        private PartitionState(RowCacheKey key,
+                               RowCacheSentinel sentinel,
+                               TableMetadata metadata,
+                               SerializationHeader header,
+                               DecoratedKey partitionKey,
+                               DeletionTime partitionDeletion,
+                               long createdAtInSec)
+        {
+            this.key = key;
+            this.sentinel = sentinel;
+            this.metadata = metadata;
+            this.header = header;
+            this.partitionKey = partitionKey;
+            this.partitionDeletion = partitionDeletion;
+            this.createdAtInSec = createdAtInSec;
+        }
+
+        /**
+         * Returns the cached partition, decoding its rows from the given trie, or null if it has been removed.
+         */
+        IRowCacheEntry read(Trie<Object> trie)
+        {
+            if (removed)
+                return null;
+            if (sentinel != null)
+                return sentinel;
+
+            EncodedRow staticRow = this.staticRow;
+            List<Row> decoded = new ArrayList<>(rows);
+            for (Object row : trie.subtrie(rowPath(key, metadata, ClusteringBound.BOTTOM), true, rowPath(key, metadata, ClusteringBound.TOP), true).values())
+            {
+                if (row instanceof EncodedRow)
+                    decoded.add(decode((EncodedRow) row, false));
+            }
+
+            return CachedBTreePartition.create(metadata,
+                                               partitionKey,
+                                               header.columns(),
+                                               partitionDeletion,
+                                               staticRow != null ? decode(staticRow, true) : Rows.EMPTY_STATIC_ROW,
+                                               decoded,
+                                               createdAtInSec,
+                                               cachedLiveRows,
+                                               rowsWithNonExpiringCells);
+        }
+
+        Row decode(EncodedRow row, boolean isStatic)
+        {
+            try (DataInputBuffer in = new DataInputBuffer(row.bytes, true))
+            {
+                DeserializationHelper helper = new DeserializationHelper(metadata, MessagingService.current_version, DeserializationHelper.Flag.LOCAL);
+                if (isStatic)
+                    return UnfilteredSerializer.serializer.deserializeStaticRow(in, header, helper);
+                return (Row) UnfilteredSerializer.serializer.deserialize(in, header, helper, BTreeRow.sortedBuilder());
+            }
+            catch (IOException e)
+            {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * The handle of a row encoded with {@link UnfilteredSerializer} in an off-heap region.
+     */
+    private static final class EncodedRow
+    {
+        final ByteBuffer bytes;
+
+        EncodedRow(ByteBuffer bytes)
+        {
+            this.bytes = bytes;
+        }
+
+        int size()
+        {
+            return bytes.remaining();
+        }
+    }
+
+    private final class Shard
+    {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Maps the partition keys to their PartitionState, and the keys followed by the clusterings to their EncodedRow.
+        private volatile InMemoryTrie<Object> trie = new InMemoryTrie<>(BufferType.OFF_HEAP);
+
+        /** The region the rows are currently encoded in. */
+        private ByteBuffer region;
+
+        private volatile long weight;
+        private volatile int partitions;
+
+        /** The number of entries of the trie which are not removed ones. */
+        private int liveEntries;
+
+        /** The size of the encoded rows which have been replaced or removed. */
+        private long unusedRegionSize;
+
+        PartitionState state(RowCacheKey key)
+        {
+            Object state = trie.get(partitionPath(key));
+            return state instanceof PartitionState && !((PartitionState) state).removed ? (PartitionState) state : null;
+        }
+
+        IRowCacheEntry get(RowCacheKey key)
+        {
+            PartitionState state = state(key);
+            if (state == null)
+                return null;
+
+            state.lastAccess = nanoTime();
+            for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++)
+            {
+                int version = state.version;
+                if ((version & 1) != 0)
+                {
+                    Thread.yield();
+                    continue;
+                }
+
+                IRowCacheEntry value = state.read(trie);
+                // The trie content is read with volatile semantics, so this cannot be reordered before the reads above.
+                if (state.version == version)
+                    return value;
+            }
+
+            lock.lock();
+            try
+            {
+                return state.read(trie);
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Caches the given value for the key if the state currently cached for it, which may be null, satisfies the
+         * given condition.
+         *
+         * @return true if the value has been cached
+         */
+        boolean put(RowCacheKey key, IRowCacheEntry value, Predicate<PartitionState> condition)
+        {
+            lock.lock();
+            try
+            {
+                PartitionState existing = state(key);
+                if (!condition.test(existing))
+                    return false;
+                if (existing != null)
+                    remove(existing);
+
+                boolean cached = value instanceof RowCacheSentinel ? insert(new PartitionState(key, (RowCacheSentinel) value))
+                                                                   : insert(key, (CachedBTreePartition) value);
+                maybeEvict();
+                return cached && state(key) != null;
+            }
+            catch (InMemoryTrie.SpaceExhaustedException e)
+            {
+                // only possible if the capacity of a shard is close to the 2GiB limit of a trie; start over
+                clear();
+                return false;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        void remove(RowCacheKey key)
+        {
+            lock.lock();
+            try
+            {
+                PartitionState state = state(key);
+                if (state != null)
+                {
+                    remove(state);
+                    maybeRebuild();
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        void update(RowCacheKey key, PartitionUpdate update, int rowsPerPartitionToCache, long nowInSec)
+        {
+            lock.lock();
+            try
+            {
+                PartitionState state = state(key);
+                if (state == null)
+                    return;
+
+                // The read caching the partition may have missed the update, so it must not cache it. Deletions other
+                // than of rows would have to be applied to all the rows of the partition, and the rows are encoded with
+                // the columns of the table at the time the partition was cached.
+                if (state.sentinel != null || !update.deletionInfo().isLive() || !state.header.columns().includes(update.columns()))
+                {
+                    remove(state);
+                }
+                else
+                {
+                    long weight = state.weight;
+                    boolean applied = apply(state, update, rowsPerPartitionToCache, nowInSec);
+                    this.weight += state.weight - weight;
+                    if (!applied || state.weight > shardCapacity())
+                        remove(state);
+                }
+                maybeEvict();
+            }
+            catch (InMemoryTrie.SpaceExhaustedException e)
+            {
+                clear();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Merges the rows of the update into the cached partition, and updates the counts of its rows. Must be called
+         * with the lock held.
+         *
+         * @return false if the partition cannot be kept in the cache
+         */
+        private boolean apply(PartitionState state, PartitionUpdate update, int rowsPerPartitionToCache, long nowInSec) throws InMemoryTrie.SpaceExhaustedException
+        {
+            // Unless this is the whole partition, which is the case if it has less than rowsPerPartitionToCache live
+            // rows, it only holds the head of the partition, up to its last row.
+            boolean wholePartition = state.cachedLiveRows < rowsPerPartitionToCache;
+            boolean enforceStrictLiveness = state.metadata.enforceStrictLiveness();
+            state.version++;
+            try
+            {
+                Row staticRow = update.staticRow();
+                if (!staticRow.isEmpty())
+                {
+                    EncodedRow existing = state.staticRow;
+                    Row merged = existing != null ? Rows.merge(state.decode(existing, true), staticRow) : staticRow;
+                    EncodedRow encoded = encode(merged, state.header);
+                    state.staticRow = encoded;
+                    state.weight += encoded.size() - (existing != null ? existing.size() : 0);
+                    if (existing != null)
+                        unusedRegionSize += existing.size();
+                }
+
+                for (Row row : update)
+                {
+                    Clustering<?> clustering = row.clustering();
+                    Clustering<?> last = state.lastClustering;
+                    boolean afterLast = last == null || state.metadata.comparator.compare(clustering, last) > 0;
+                    if (afterLast && !wholePartition)
+                        continue;
+
+                    ByteComparable path = rowPath(state.key, state.metadata, clustering);
+                    Object value = trie.get(path);
+                    EncodedRow existing = value instanceof EncodedRow ? (EncodedRow) value : null;
+                    Row existingRow = existing != null ? state.decode(existing, false) : null;
+                    Row merged = existingRow != null ? Rows.merge(existingRow, row) : row;
+                    EncodedRow encoded = encode(merged, state.header);
+                    if (value != null)
+                    {
+                        trie.updateExisting(path, encoded, (previous, inserted) -> inserted);
+                    }
+                    else
+                    {
+                        boolean recursive = state.key.key.length + clustering.dataSize() < MAX_RECURSIVE_KEY_LENGTH;
+                        trie.putSingleton(path, encoded, (previous, inserted) -> inserted, recursive);
+                    }
+
+                    if (existing != null)
+                    {
+                        unusedRegionSize += existing.size();
+                    }
+                    else
+                    {
+                        liveEntries++;
+                        state.rows++;
+                    }
+                    state.weight += encoded.size() - (existing != null ? existing.size() : 0);
+                    state.cachedLiveRows += isLive(merged, nowInSec, enforceStrictLiveness) - isLive(existingRow, nowInSec, enforceStrictLiveness);
+                    state.rowsWithNonExpiringCells += hasNonExpiringLiveCell(merged) - hasNonExpiringLiveCell(existingRow);
+                    if (afterLast)
+                        state.lastClustering = clustering;
+                }
+            }
+            finally
+            {
+                state.version++;
+            }
+
+            // the head of the partition would be taken for the whole of it if it has lost live rows; the whole partition
+            // remains correctly cached if it grows past the rows to cache, as the head of the partition up to its last row
+            return wholePartition || state.cachedLiveRows >= rowsPerPartitionToCache;
+        }
+
+        /**
+         * Inserts the state of a new partition. Must be called with the lock held.
+         */
+        private boolean insert(PartitionState state) throws InMemoryTrie.SpaceExhaustedException
+        {
+            if (state.weight > shardCapacity())
+                return false;
+
+            ByteComparable path = partitionPath(state.key);
+            trie.putSingleton(path, state, (previous, inserted) -> inserted, state.key.key.length < MAX_RECURSIVE_KEY_LENGTH);
+            liveEntries++;
+            partitions++;
+            weight += state.weight;
+            return true;
+        }
+
+        /**
+         * Encodes the rows of the given partition and inserts them along with its state. Must be called with the lock
+         * held.
+         */
+        private boolean insert(RowCacheKey key, CachedBTreePartition partition) throws InMemoryTrie.SpaceExhaustedException
+        {
+            if (partition.deletionInfo().hasRanges())
+                return false;
+
+            PartitionState state = new PartitionState(key, partition, FBUtilities.nowInSeconds());
+            List<Map.Entry<ByteComparable, EncodedRow>> rows = new ArrayList<>(partition.rowCount());
+            Row staticRow = partition.staticRow();
+            if (!staticRow.isEmpty())
+            {
+                state.staticRow = encode(staticRow, state.header);
+                state.weight += state.staticRow.size();
+            }
+            for (Row row : partition)
+            {
+                EncodedRow encoded = encode(row, state.header);
+                rows.add(Map.entry(rowPath(key, state.metadata, row.clustering()), encoded));
+                state.weight += encoded.size();
+                state.lastClustering = row.clustering();
+            }
+            state.rows = rows.size();
+            state.cachedLiveRows = partition.cachedLiveRows();
+            state.rowsWithNonExpiringCells = partition.rowsWithNonExpiringCells();
+
+            if (state.weight > shardCapacity())
+            {
+                for (Map.Entry<ByteComparable, EncodedRow> row : rows)
+                    unusedRegionSize += row.getValue().size();
+                return false;
+            }
+
+            // the rows are inserted before the state, so that a read cannot find the partition without them
+            for (Map.Entry<ByteComparable, EncodedRow> row : rows)
+            {
+                trie.putSingleton(row.getKey(), row.getValue(), (previous, inserted) -> inserted, key.key.length < MAX_RECURSIVE_KEY_LENGTH);
+                liveEntries++;
+            }
+            return insert(state);
+        }
+
+        /**
+         * Marks the partition and its rows as removed. Must be called with the lock held.
+         */
+        private void remove(PartitionState state)
+        {
+            state.version++;
+            try
+            {
+                state.removed = true;
+                trie.updateExisting(partitionPath(state.key), REMOVED, (previous, removed) -> removed);
+                liveEntries--;
+                partitions--;
+                weight -= state.weight;
+                if (state.staticRow != null)
+                    unusedRegionSize += state.staticRow.size();
+
+                if (state.sentinel == null)
+                {
+                    List<ByteComparable> rows = new ArrayList<>(state.rows);
+                    for (Map.Entry<ByteComparable, Object> row : trie.subtrie(rowPath(state.key, state.metadata, ClusteringBound.BOTTOM), true,
+                                                                              rowPath(state.key, state.metadata, ClusteringBound.TOP), true).entrySet())
+                    {
+                        if (row.getValue() instanceof EncodedRow)
+                        {
+                            rows.add(row.getKey());
+                            unusedRegionSize += ((EncodedRow) row.getValue()).size();
+                        }
+                    }
+                    for (ByteComparable row : rows)
+                        trie.updateExisting(row, REMOVED, (previous, removed) -> removed);
+                    liveEntries -= rows.size();
+                }
+            }
+            finally
+            {
+                state.version++;
+            }
+        }
+
+        private EncodedRow encode(Row row, SerializationHeader header)
+        {
+            try (DataOutputBuffer out = DataOutputBuffer.scratchBuffer.get())
+            {
+                UnfilteredSerializer.serializer.serialize(row, new SerializationHelper(header), out, MessagingService.current_version);
+                ByteBuffer bytes = allocate(out.getLength());
+                bytes.put(out.buffer()).flip();
+                return new EncodedRow(bytes);
+            }
+            catch (IOException e)
+            {
+                // writing to a buffer cannot fail
+                throw new AssertionError(e);
+            }
+        }
+
+        /**
+         * Returns a buffer of the given size, taken from the current region. Must be called with the lock held.
+         */
+        private ByteBuffer allocate(int size)
+        {
+            if (size > REGION_SIZE / 4)
+                return BufferType.OFF_HEAP.allocate(size);
+
+            if (region == null || region.remaining() < size)
+                region = BufferType.OFF_HEAP.allocate(REGION_SIZE);
+
+            ByteBuffer bytes = region.duplicate();
+            bytes.limit(bytes.position() + size);
+            region.position(bytes.limit());
+            return bytes.slice();
+        }
+
+        void evict()
+        {
+            lock.lock();
+            try
+            {
+                maybeEvict();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Must be called with the lock held.
+         */
+        private void maybeEvict()
+        {
+            long limit = shardCapacity();
+            if (weight > limit)
+            {
+                List<PartitionState> states = states();
+                states.sort(Comparator.comparingLong(s -> s.lastAccess));
+                long target = (long) (limit * EVICTION_TARGET);
+                for (int i = 0; i < states.size() && weight > target; i++)
+                    remove(states.get(i));
+            }
+            maybeRebuild();
+        }
+
+        /**
+         * Must be called with the lock held.
+         */
+        private void maybeRebuild()
+        {
+            int entries = trie.valuesCount();
+            boolean unusedEntries = entries >= MIN_REBUILD_ENTRIES && entries - liveEntries >= liveEntries;
+            boolean unusedRegions = unusedRegionSize >= REGION_SIZE && unusedRegionSize >= weight;
+            if (!unusedEntries && !unusedRegions)
+                return;
+
+            InMemoryTrie<Object> rebuilt = new InMemoryTrie<>(BufferType.OFF_HEAP);
+            region = null;
+            try
+            {
+                for (Map.Entry<ByteComparable, Object> entry : trie.entrySet())
+                {
+                    Object value = entry.getValue();
+                    if (value == REMOVED)
+                        continue;
+
+                    if (value instanceof EncodedRow)
+                    {
+                        ByteBuffer bytes = ((EncodedRow) value).bytes;
+                        value = new EncodedRow(allocate(bytes.remaining()).put(bytes.duplicate()).flip());
+                    }
+                    else if (((PartitionState) value).staticRow != null)
+                    {
+                        // the state is kept, as readers may hold it, but its static row is moved to the new regions
+                        PartitionState state = (PartitionState) value;
+                        ByteBuffer bytes = state.staticRow.bytes;
+                        state.staticRow = new EncodedRow(allocate(bytes.remaining()).put(bytes.duplicate()).flip());
+                    }
+                    rebuilt.putRecursive(entry.getKey(), value, (e, u) -> u);
+                }
+            }
+            catch (InMemoryTrie.SpaceExhaustedException e)
+            {
+                // cannot happen as the rebuilt trie is smaller than the current one
+                throw new AssertionError(e);
+            }
+            trie = rebuilt;
+            unusedRegionSize = 0;
+        }
+
+        void clear()
+        {
+            lock.lock();
+            try
+            {
+                for (PartitionState state : states())
+                    state.removed = true;
+                trie = new InMemoryTrie<>(BufferType.OFF_HEAP);
+                region = null;
+                weight = 0;
+                partitions = 0;
+                liveEntries = 0;
+                unusedRegionSize = 0;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        List<PartitionState> states()
+        {
+            List<PartitionState> states = new ArrayList<>(partitions);
+            for (Object value : trie.valuesUnordered())
+            {
+                if (value instanceof PartitionState && !((PartitionState) value).removed)
+                    states.add((PartitionState) value);
+            }
+            return states;
+        }
+    }
+
+    private static int isLive(Row row, long nowInSec, boolean enforceStrictLiveness)
+    {
+        return row != null && row.hasLiveData(nowInSec, enforceStrictLiveness) ? 1 : 0;
+    }
+
+    private static int hasNonExpiringLiveCell(Row row)
+    {
+        return row != null && CachedBTreePartition.hasNonExpiringLiveCell(row) ? 1 : 0;
+    }
+
+    private static ByteComparable partitionPath(RowCacheKey key)
+    {
+        return version -> path(key, version);
+    }
+
+    private static ByteComparable rowPath(RowCacheKey key, TableMetadata metadata, ClusteringPrefix<?> clustering)
+    {
+        // The partition key and the clustering are both prefix-free, so the rows sort by clustering after their partition.
+        ByteComparable clusteringPath = metadata.comparator.asByteComparable(clustering);
+        return version -> path(key, version, clusteringPath.asComparableBytes(version));
+    }
+
+    private static ByteSource path(RowCacheKey key, ByteComparable.Version version, ByteSource... clustering)
+    {
+        UUID tableId = key.tableId.asUUID();
+        ByteSource[] components = new ByteSource[4 + clustering.length];
+        components[0] = ByteSource.of(tableId.getMostSignificantBits());
+        components[1] = ByteSource.of(tableId.getLeastSignificantBits());
+        components[2] = ByteSource.of(key.indexName != null ? key.indexName : "", version);
+        components[3] = ByteSource.of(key.key, version);
+        System.arraycopy(clustering, 0, components, 4, clustering.length);
+        return ByteSource.withTerminator(ByteSource.TERMINATOR, components);
+    }
+
+    private Shard shard(RowCacheKey key)
+    {
+        return shards[(key.hashCode() & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private long shardCapacity()
+    {
+        return capacity / shards.length;
+    }
+
+    public long capacity()
+    {
+        return capacity;
+    }
+
+    public void setCapacity(long capacity)
+    {
+        this.capacity = capacity;
+        for (Shard shard : shards)
+            shard.evict();
+    }
+
+    public int size()
+    {
+        int size = 0;
+        for (Shard shard : shards)
+            size += shard.partitions;
+        return size;
+    }
+
+    public long weightedSize()
+    {
+        long size = 0;
+        for (Shard shard : shards)
+            size += shard.weight;
+        return size;
+    }
+
+    public void put(RowCacheKey key, IRowCacheEntry value)
+    {
+        shard(key).put(key, value, existing -> true);
+    }
+
+    public boolean putIfAbsent(RowCacheKey key, IRowCacheEntry value)
+    {
+        return shard(key).put(key, value, existing -> existing == null);
+    }
+
+    /**
+     * Replaces the value cached for the key, if it is {@code old}. Only sentinels can be replaced, as the partitions
+     * are decoded anew on every read.
+     */
+    public boolean replace(RowCacheKey key, IRowCacheEntry old, IRowCacheEntry value)
+    {
+        return shard(key).put(key, value, existing -> existing != null && existing.sentinel != null && existing.sentinel.equals(old));
+    }
+
+    public IRowCacheEntry get(RowCacheKey key)
+    {
+        return shard(key).get(key);
+    }
+
+    public void remove(RowCacheKey key)
+    {
+        shard(key).remove(key);
+    }
+
+    public void update(RowCacheKey key, PartitionUpdate update, int rowsPerPartitionToCache, long nowInSec)
+    {
+        shard(key).update(key, update, rowsPerPartitionToCache, nowInSec);
+    }
+
+    public void clear()
+    {
+        for (Shard shard : shards)
+            shard.clear();
+    }
+
+    public Iterator<RowCacheKey> keyIterator()
+    {
+        List<RowCacheKey> keys = new ArrayList<>();
+        for (Shard shard : shards)
+        {
+            for (PartitionState state : shard.states())
+                keys.add(state.key);
+        }
+        return removingIterator(keys);
+    }
+
+    public Iterator<RowCacheKey> hotKeyIterator(int n)
+    {
+        List<PartitionState> states = new ArrayList<>();
+        for (Shard shard : shards)
+            states.addAll(shard.states());
+        states.sort(Comparator.comparingLong((PartitionState s) -> s.lastAccess).reversed());
+
+        List<RowCacheKey> keys = new ArrayList<>(Math.min(n, states.size()));
+        for (int i = 0; i < n && i < states.size(); i++)
+            keys.add(states.get(i).key);
+        return removingIterator(keys);
+    }
+
+    /**
+     * An iterator over the given keys whose {@link Iterator#remove} removes the current key from the cache.
+     */
+    private Iterator<RowCacheKey> removingIterator(List<RowCacheKey> keys)
+    {
+        Iterator<RowCacheKey> iterator = keys.iterator();
+        return new Iterator<RowCacheKey>()
+        {
+            private RowCacheKey current;
+
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public RowCacheKey next()
+            {
+                return current = iterator.next();
+            }
+
+            public void remove()
+            {
+                if (current == null)
+                    throw new IllegalStateException();
+                TrieRowCache.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    public boolean containsKey(RowCacheKey key)
+    {
+        return shard(key).state(key) != null;
+    }
+}
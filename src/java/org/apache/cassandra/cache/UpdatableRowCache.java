@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import org.apache.cassandra.db.partitions.PartitionUpdate;
+
+/**
+ * A row cache which applies the writes to the partitions it holds, rather than having them invalidated.
+ */
+public interface UpdatableRowCache
+{
+    /**
+     * Applies the given update to the cached partition it belongs to, if there is one, or removes that partition if
+     * the update cannot be applied to it.
+     *
+     * @param key the key of the partition.
+     * @param update the update to apply.
+     * @param rowsPerPartitionToCache the number of rows to cache of the table of the partition.
+     * @param nowInSec the time of the update in seconds.
+     */
+    void update(RowCacheKey key, PartitionUpdate update, int rowsPerPartitionToCache, long nowInSec);
+}
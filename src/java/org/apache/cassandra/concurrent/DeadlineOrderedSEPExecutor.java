@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.concurrent;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.apache.cassandra.utils.WithResources;
+
+import static org.apache.cassandra.utils.Clock.Global.nanoTime;
+import static org.apache.cassandra.utils.MonotonicClock.Global.approxTime;
+
+/**
+ * A {@link SEPExecutor} which runs its queued tasks in order of deadline rather than of arrival.
+ * <p>
+ * The deadline of a {@link DeadlineTask} is its own; any other task is given one of its arrival time plus the timeout
+ * supplied on construction, so that it is treated like a request arriving at the same time. When a task is dequeued,
+ * it is {@link DeadlineTask#shed shed} rather than run if it would not complete before its deadline, judging by an
+ * exponentially weighted moving average of the time the tasks of this executor take to run. During overload, this
+ * spends the capacity of the executor on the requests which can still succeed rather than on those which will time
+ * out anyway.
+ * <p>
+ * As the head of the queue is the task with the closest deadline rather than the oldest one, the queued tasks are also
+ * kept in order of arrival for {@link #oldestTaskQueueTime}; the tasks which have left the queue are pruned from the
+ * head of that order as they are run.
+ */
+public class DeadlineOrderedSEPExecutor extends SEPExecutor
+{
+    /** The weight of the latest run time in the moving average, as a power of two: 1/16. */
+    private static final int RUN_TIME_AVERAGE_SHIFT = 4;
+
+    private static final Comparator<Runnable> BY_DEADLINE = Comparator.comparingLong((Runnable task) -> ((Ordered) task).deadlineNanos)
+                                                                      .thenComparingLong(task -> ((Ordered) task).sequence);
+
+    private final LongSupplier defaultTimeoutNanos;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long averageRunTimeNanos;
+
+    /** The queued tasks in order of arrival, followed by tasks already dequeued until they are pruned. */
+    private final Queue<Ordered> arrivals = new ConcurrentLinkedQueue<>();
+    /** Held while pruning {@link #arrivals}, which is only polled by its holder. */
+    private final AtomicBoolean pruning = new AtomicBoolean();
+
+    DeadlineOrderedSEPExecutor(SharedExecutorPool pool, int maximumPoolSize, MaximumPoolSizeListener maximumPoolSizeListener,
+                               String jmxPath, String name, LongSupplier defaultTimeoutNanos)
+    {
+        super(pool, maximumPoolSize, maximumPoolSizeListener, jmxPath, name, new PriorityBlockingQueue<>(64, BY_DEADLINE));
+        this.defaultTimeoutNanos = defaultTimeoutNanos;
+    }
+
+    /**
+     * A queued task, as wrapped by the task factory, with the deadline it is ordered by.
+     */
+    final class Ordered implements Runnable
+    {
+        final Runnable task;
+        final DeadlineTask deadlineTask;
+        final long deadlineNanos;
+        final long sequence;
+        final long enqueuedAtNanos;
+        volatile boolean dequeued;
+
+        Ordered(Runnable task, DeadlineTask deadlineTask, long deadlineNanos)
+        {
+            this.task = task;
+            this.deadlineTask = deadlineTask;
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = DeadlineOrderedSEPExecutor.this.sequence.getAndIncrement();
+            this.enqueuedAtNanos = approxTime.now();
+        }
+
+        @Override
+        public void run()
+        {
+            dequeued = true;
+            pruneArrivals();
+
+            if (deadlineTask != null)
+            {
+                long now = approxTime.now();
+                if (now + averageRunTimeNanos > deadlineNanos)
+                {
+                    deadlineTask.shed(now);
+                    return;
+                }
+            }
+
+            long start = nanoTime();
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                long average = averageRunTimeNanos;
+                averageRunTimeNanos = average + ((nanoTime() - start - average) >> RUN_TIME_AVERAGE_SHIFT);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    long averageRunTimeNanos()
+    {
+        return averageRunTimeNanos;
+    }
+
+    @Override
+    protected Runnable toExecute(Runnable run)
+    {
+        return ordered(run, super.toExecute(run));
+    }
+
+    @Override
+    protected Runnable toExecute(WithResources withResources, Runnable run)
+    {
+        return ordered(run, super.toExecute(withResources, run));
+    }
+
+    private Runnable ordered(Runnable run, Runnable wrapped)
+    {
+        if (!(run instanceof DeadlineTask))
+            return wrapped;
+
+        DeadlineTask deadlineTask = (DeadlineTask) run;
+        return new Ordered(wrapped, deadlineTask, deadlineTask.deadlineNanos());
+    }
+
+    @Override
+    protected void enqueue(Runnable task)
+    {
+        Ordered ordered = task instanceof Ordered ? (Ordered) task : new Ordered(task, null, approxTime.now() + defaultTimeoutNanos.getAsLong());
+        arrivals.add(ordered);
+        super.enqueue(ordered);
+    }
+
+    private void pruneArrivals()
+    {
+        if (!pruning.compareAndSet(false, true))
+            return;
+
+        try
+        {
+            Ordered head;
+            while ((head = arrivals.peek()) != null && head.dequeued)
+                arrivals.poll();
+        }
+        finally
+        {
+            pruning.set(false);
+        }
+    }
+
+    @Override
+    public long oldestTaskQueueTime()
+    {
+        pruneArrivals();
+        // a concurrent pruning may have left dequeued tasks at the head
+        for (Ordered task : arrivals)
+        {
+            if (!task.dequeued)
+                return Math.max(0, approxTime.now() - task.enqueuedAtNanos);
+        }
+        return 0L;
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow()
+    {
+        List<Runnable> aborted = super.shutdownNow();
+        arrivals.clear();
+        return aborted;
+    }
+}
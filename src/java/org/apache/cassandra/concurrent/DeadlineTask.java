@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.concurrent;
+
+/**
+ * A task whose result is of no use past some point in time, such as the processing of a request the coordinator will
+ * have given up on by then. A {@link DeadlineOrderedSEPExecutor} runs these tasks in order of deadline, and sheds
+ * those which cannot complete before their deadline instead of running them.
+ */
+public interface DeadlineTask extends Runnable
+{
+    /**
+     * @return the time, per {@link org.apache.cassandra.utils.MonotonicClock.Global#approxTime}, past which the task
+     * is of no use
+     */
+    long deadlineNanos();
+
+    /**
+     * Invoked instead of {@link #run()} if the task is shed; releases whatever the task holds and records it as dropped.
+     *
+     * @param nowNanos the current time, per {@link org.apache.cassandra.utils.MonotonicClock.Global#approxTime}
+     */
+    void shed(long nowNanos);
+}
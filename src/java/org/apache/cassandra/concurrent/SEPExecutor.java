@@ -19,6 +19,7 @@ package org.apache.cassandra.concurrent;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
@@ -65,11 +66,17 @@ public class SEPExecutor implements LocalAwareExecutorPlus, SEPExecutorMBean
     final Condition shutdown = newOneTimeCondition();
 
     // TODO: see if other queue implementations might improve throughput
-    protected final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    protected final Queue<Runnable> tasks;
 
     SEPExecutor(SharedExecutorPool pool, int maximumPoolSize, MaximumPoolSizeListener maximumPoolSizeListener, String jmxPath, String name)
+    {
+        this(pool, maximumPoolSize, maximumPoolSizeListener, jmxPath, name, new ConcurrentLinkedQueue<>());
+    }
+
+    SEPExecutor(SharedExecutorPool pool, int maximumPoolSize, MaximumPoolSizeListener maximumPoolSizeListener, String jmxPath, String name, Queue<Runnable> tasks)
     {
         this.pool = pool;
+        this.tasks = tasks;
         this.name = NamedThreadFactory.globalPrefix() + name;
         this.mbeanName = "org.apache.cassandra." + jmxPath + ":type=" + name;
         this.maximumPoolSize = new AtomicInteger(maximumPoolSize);
@@ -120,7 +127,7 @@ public class SEPExecutor implements LocalAwareExecutorPlus, SEPExecutorMBean
     {
         // we add to the queue first, so that when a worker takes a task permit it can be certain there is a task available
         // this permits us to schedule threads non-spuriously; it also means work is serviced fairly
-        tasks.add(task);
+        enqueue(task);
         int taskPermits;
         while (true)
         {
@@ -144,6 +151,11 @@ public class SEPExecutor implements LocalAwareExecutorPlus, SEPExecutorMBean
         return task;
     }
 
+    protected void enqueue(Runnable task)
+    {
+        tasks.add(task);
+    }
+
     public enum TakeTaskPermitResult
     {
         NONE_AVAILABLE,        // No task permits available
@@ -217,7 +229,7 @@ public class SEPExecutor implements LocalAwareExecutorPlus, SEPExecutorMBean
     @Override
     public void maybeExecuteImmediately(Runnable task)
     {
-        task = taskFactory.toExecute(task);
+        task = toExecute(task);
         if (!takeWorkPermit(false))
         {
             addTask(task);
@@ -242,13 +254,23 @@ public class SEPExecutor implements LocalAwareExecutorPlus, SEPExecutorMBean
     @Override
     public void execute(Runnable run)
     {
-        addTask(taskFactory.toExecute(run));
+        addTask(toExecute(run));
     }
 
     @Override
     public void execute(WithResources withResources, Runnable run)
     {
-        addTask(taskFactory.toExecute(withResources, run));
+        addTask(toExecute(withResources, run));
+    }
+
+    protected Runnable toExecute(Runnable run)
+    {
+        return taskFactory.toExecute(run);
+    }
+
+    protected Runnable toExecute(WithResources withResources, Runnable run)
+    {
+        return taskFactory.toExecute(withResources, run);
     }
 
     @Override
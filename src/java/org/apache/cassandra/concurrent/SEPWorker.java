@@ -68,6 +68,8 @@ final class SEPWorker extends AtomicReference<SEPWorker.Work> implements Runnabl
     {
         // can change after null check so go off local reference
         Runnable task = currentTask.get();
+        if (task instanceof DeadlineOrderedSEPExecutor.Ordered)
+            task = ((DeadlineOrderedSEPExecutor.Ordered) task).task;
 
         // Local read and mutation Runnables are themselves debuggable
         if (task instanceof DebuggableTask)
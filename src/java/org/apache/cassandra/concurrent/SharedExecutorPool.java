@@ -29,6 +29,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import org.apache.cassandra.concurrent.DebuggableTask.RunningDebuggableTask;
@@ -150,6 +151,17 @@ public class SharedExecutorPool
         return executor;
     }
 
+    /**
+     * @see DeadlineOrderedSEPExecutor
+     */
+    public LocalAwareExecutorPlus newDeadlineOrderedExecutor(int maxConcurrency, ExecutorPlus.MaximumPoolSizeListener maximumPoolSizeListener,
+                                                             String jmxPath, String name, LongSupplier defaultTimeoutNanos)
+    {
+        SEPExecutor executor = new DeadlineOrderedSEPExecutor(this, maxConcurrency, maximumPoolSizeListener, jmxPath, name, defaultTimeoutNanos);
+        executors.add(executor);
+        return executor;
+    }
+
     public synchronized void shutdownAndWait(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException
     {
         shuttingDown = true;
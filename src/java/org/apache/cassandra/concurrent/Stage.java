@@ -30,6 +30,8 @@ import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 
+import io.netty.util.concurrent.FastThreadLocal;
+
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.net.Verb;
@@ -42,10 +44,10 @@ import static org.apache.cassandra.concurrent.ExecutorFactory.Global.executorFac
 
 public enum Stage
 {
-    READ              (false, "ReadStage",             "request",  DatabaseDescriptor::getConcurrentReaders,        DatabaseDescriptor::setConcurrentReaders,        Stage::multiThreadedLowSignalStage),
-    MUTATION          (true,  "MutationStage",         "request",  DatabaseDescriptor::getConcurrentWriters,        DatabaseDescriptor::setConcurrentWriters,        Stage::multiThreadedLowSignalStage),
-    COUNTER_MUTATION  (true,  "CounterMutationStage",  "request",  DatabaseDescriptor::getConcurrentCounterWriters, DatabaseDescriptor::setConcurrentCounterWriters, Stage::multiThreadedLowSignalStage),
-    VIEW_MUTATION     (true,  "ViewMutationStage",     "request",  DatabaseDescriptor::getConcurrentViewWriters,    DatabaseDescriptor::setConcurrentViewWriters,    Stage::multiThreadedLowSignalStage),
+    READ              (false, "ReadStage",             "request",  DatabaseDescriptor::getConcurrentReaders,        DatabaseDescriptor::setConcurrentReaders,        Stage::requestStage),
+    MUTATION          (true,  "MutationStage",         "request",  DatabaseDescriptor::getConcurrentWriters,        DatabaseDescriptor::setConcurrentWriters,        Stage::requestStage),
+    COUNTER_MUTATION  (true,  "CounterMutationStage",  "request",  DatabaseDescriptor::getConcurrentCounterWriters, DatabaseDescriptor::setConcurrentCounterWriters, Stage::requestStage),
+    VIEW_MUTATION     (true,  "ViewMutationStage",     "request",  DatabaseDescriptor::getConcurrentViewWriters,    DatabaseDescriptor::setConcurrentViewWriters,    Stage::requestStage),
     GOSSIP            (true,  "GossipStage",           "internal", () -> 1,                                         null,                                            Stage::singleThreadedStage),
     REQUEST_RESPONSE  (false, "RequestResponseStage",  "request",  FBUtilities::getAvailableProcessors,             null,                                            Stage::multiThreadedLowSignalStage),
     ANTI_ENTROPY      (false, "AntiEntropyStage",      "internal", () -> 1,                                         null,                                            Stage::singleThreadedStage),
@@ -59,6 +61,16 @@ public enum Stage
     FETCH_LOG         (false, "MetadataFetchLogStage", "internal", () -> 1,                                         null,                                            Stage::singleThreadedStage)
     ;
 
+    /** Whether the tasks handed to {@link #maybeExecuteImmediately} run on the current thread unconditionally. */
+    private static final FastThreadLocal<Boolean> runsImmediately = new FastThreadLocal<Boolean>()
+    {
+        @Override
+        protected Boolean initialValue()
+        {
+            return false;
+        }
+    };
+
     public final String jmxName;
     private final Supplier<ExecutorPlus> executorSupplier;
     private volatile ExecutorPlus executor;
@@ -123,10 +135,35 @@ public enum Stage
         }
     }
 
+    /**
+     * Runs {@code task} on the current thread, as well as the tasks it hands to {@link #maybeExecuteImmediately} of any
+     * stage, however busy the stage is. This is for the threads which run some requests to completion themselves
+     * rather than hand them to the stages, see {@link org.apache.cassandra.transport.Dispatcher}.
+     */
+    public static void runImmediately(Runnable task)
+    {
+        boolean wasRunningImmediately = runsImmediately.get();
+        runsImmediately.set(true);
+        try
+        {
+            task.run();
+        }
+        finally
+        {
+            runsImmediately.set(wasRunningImmediately);
+        }
+    }
+
     // Convenience functions to execute on this stage
     public void execute(Runnable task) { executor().execute(task); }
     public void execute(ExecutorLocals locals, Runnable task) { executor().execute(locals, task); }
-    public void maybeExecuteImmediately(Runnable task) { executor().maybeExecuteImmediately(task); }
+    public void maybeExecuteImmediately(Runnable task)
+    {
+        if (runsImmediately.get())
+            task.run();
+        else
+            executor().maybeExecuteImmediately(task);
+    }
     public <T> Future<T> submit(Callable<T> task) { return executor().submit(task); }
     public Future<?> submit(Runnable task) { return executor().submit(task); }
     public <T> Future<T> submit(Runnable task, T result) { return executor().submit(task, result); }
@@ -236,6 +273,19 @@ public enum Stage
                 .shared(jmxName, numThreads, onSetMaximumPoolSize);
     }
 
+    /**
+     * The stages processing requests run their tasks in order of deadline if
+     * {@link DatabaseDescriptor#getRequestStageDeadlineOrderingEnabled()}, see {@link DeadlineOrderedSEPExecutor}.
+     */
+    static LocalAwareExecutorPlus requestStage(String jmxName, String jmxType, int numThreads, LocalAwareExecutorPlus.MaximumPoolSizeListener onSetMaximumPoolSize)
+    {
+        if (!DatabaseDescriptor.getRequestStageDeadlineOrderingEnabled())
+            return multiThreadedLowSignalStage(jmxName, jmxType, numThreads, onSetMaximumPoolSize);
+
+        return SharedExecutorPool.SHARED.newDeadlineOrderedExecutor(numThreads, onSetMaximumPoolSize, jmxType, jmxName,
+                                                                    () -> DatabaseDescriptor.getRpcTimeout(TimeUnit.NANOSECONDS));
+    }
+
     static LocalAwareExecutorPlus immediateExecutor(String jmxName, String jmxType, int numThreads, LocalAwareExecutorPlus.MaximumPoolSizeListener onSetMaximumPoolSize)
     {
         return ImmediateExecutor.INSTANCE;
@@ -110,10 +110,21 @@ public enum CassandraRelevantProperties
     CLOCK_GLOBAL("cassandra.clock"),
     CLOCK_MONOTONIC_APPROX("cassandra.monotonic_clock.approx"),
     CLOCK_MONOTONIC_PRECISE("cassandra.monotonic_clock.precise"),
+    /**
+     * The most entries per partition the clustering filter of an sstable is sized for, so that the filters of the
+     * sstables of tables with wide partitions stay within this many times the size of their partition bloom filters.
+     * Partitions with more distinct first clustering values are still matched, with more false positives.
+     */
+    CLUSTERING_FILTER_MAX_ENTRIES_PER_PARTITION("cassandra.clustering_filter.max_entries_per_partition", "64"),
     COMMITLOG_ALLOW_IGNORE_SYNC_CRC("cassandra.commitlog.allow_ignore_sync_crc"),
     COMMITLOG_IGNORE_REPLAY_ERRORS("cassandra.commitlog.ignorereplayerrors"),
     COMMITLOG_MAX_OUTSTANDING_REPLAY_BYTES("cassandra.commitlog_max_outstanding_replay_bytes", convertToString(1024 * 1024 * 64)),
     COMMITLOG_MAX_OUTSTANDING_REPLAY_COUNT("cassandra.commitlog_max_outstanding_replay_count", "1024"),
+    /**
+     * The number of threads reading commit log segments concurrently on replay. Defaults to half the available
+     * processors; 1 reads the segments sequentially.
+     */
+    COMMITLOG_REPLAY_THREADS("cassandra.commitlog.replay_threads"),
     COMMITLOG_STOP_ON_ERRORS("cassandra.commitlog.stop_on_errors"),
     /**
      * Entities to replay mutations for upon commit log replay, property is meant to contain
@@ -129,6 +140,11 @@ public enum CassandraRelevantProperties
      * If only keyspaces are specified, mutations for all tables in such keyspace will be replayed
      * */
     COMMIT_LOG_REPLAY_LIST("cassandra.replayList"),
+    /**
+     * Whether compaction returns the partitions that are present in a single input sstable, and that have nothing to
+     * purge, as they are read rather than merging their rows.
+     */
+    COMPACTION_SKIP_MERGE_OF_DISJOINT_PARTITIONS("cassandra.compaction.skip_merge_of_disjoint_partitions", "true"),
     /**
      * This property indicates the location for the access file. If com.sun.management.jmxremote.authenticate is false,
      * then this property and the password and access files, are ignored. Otherwise, the access file must exist and
@@ -351,6 +367,29 @@ public enum CassandraRelevantProperties
     MAX_LOCAL_PAUSE_IN_MS("cassandra.max_local_pause_in_ms", "5000"),
     /** what class to use for mbean registeration */
     MBEAN_REGISTRATION_CLASS("org.apache.cassandra.mbean_registration_class"),
+    /**
+     * Default for the adaptive_shards option of sharded memtables, which sizes and places the shards of each memtable
+     * from the writes to the memtable it replaces.
+     */
+    MEMTABLE_ADAPTIVE_SHARDS("cassandra.memtable.shard.adaptive", "false"),
+    /**
+     * Tables of a keyspace whose memtables hold less data than this, and that are flushed at the same time, e.g. on
+     * commit log pressure or by a keyspace flush, are flushed together: their memtables are switched out behind a
+     * single write barrier and written one table after the other by a single flush task. This saves the fixed costs
+     * of a flush task per table when a lot of low-volume tables are flushed. Defaults to 0B, i.e. disabled.
+     */
+    MEMTABLE_FLUSH_BATCH_THRESHOLD("cassandra.memtable.flush.batch_threshold", "0B"),
+    /**
+     * The maximum number of parts, flushed concurrently by separate writers, each data directory's share of a memtable
+     * flush is split into. Defaults to memtable_flush_writers; 1 disables splitting.
+     */
+    MEMTABLE_FLUSH_MAX_PARALLEL_PARTS("cassandra.memtable.flush.max_parallel_parts"),
+    /**
+     * Whether memtable flushes of tables whose compaction strategy does not shard its sstables are split at the shard
+     * boundaries of sharded memtables. This produces more sstables per flush, which strategies like STCS may not
+     * expect, hence it is disabled by default. Flushes of tables using UCS are always split at the UCS shards.
+     */
+    MEMTABLE_FLUSH_SPLIT_AT_MEMTABLE_SHARDS("cassandra.memtable.flush.split_at_memtable_shards", "false"),
     MEMTABLE_OVERHEAD_COMPUTE_STEPS("cassandra.memtable_row_overhead_computation_step", "100000"),
     MEMTABLE_OVERHEAD_SIZE("cassandra.memtable.row_overhead_size", "-1"),
     MEMTABLE_SHARD_COUNT("cassandra.memtable.shard.count"),
@@ -610,6 +649,7 @@ public enum CassandraRelevantProperties
     UCS_BASE_SHARD_COUNT("unified_compaction.base_shard_count", "4"),
     UCS_MIN_SSTABLE_SIZE("unified_compaction.min_sstable_size", "100MiB"),
     UCS_OVERLAP_INCLUSION_METHOD("unified_compaction.overlap_inclusion_method"),
+    UCS_PARALLELIZE_OUTPUT_SHARDS("unified_compaction.parallelize_output_shards", "false"),
     UCS_SCALING_PARAMETER("unified_compaction.scaling_parameters", "T4"),
     UCS_SSTABLE_GROWTH("unified_compaction.sstable_growth", "0.333"),
     UCS_SURVIVAL_FACTOR("unified_compaction.survival_factor", "1"),
@@ -189,6 +189,12 @@ public class Config
     public int concurrent_writes = 32;
     public int concurrent_counter_writes = 32;
     public int concurrent_materialized_view_writes = 32;
+    /**
+     * Whether the read and mutation stages run their tasks in order of deadline, shedding those which cannot complete
+     * in time, rather than in order of arrival. Only read on startup.
+     */
+    public boolean request_stage_deadline_ordering_enabled = false;
+    public int concurrent_chunk_prefetches = 0;
     public int available_processors = -1;
 
     public int memtable_flush_writers = 0;
@@ -303,6 +309,25 @@ public class Config
     public volatile DataStorageSpec.LongBytesBound native_transport_max_request_data_in_flight = null;
     public volatile boolean native_transport_rate_limiting_enabled = false;
     public volatile int native_transport_max_requests_per_second = 1000000;
+    /**
+     * The scheduler ordering the native transport requests handed to the request executor, which processes them in
+     * arrival order if null. See {@link org.apache.cassandra.transport.RequestScheduler}.
+     */
+    public ParameterizedClass native_transport_request_scheduler = null;
+    /**
+     * Whether single-partition prepared reads and writes at consistency level ONE or LOCAL_ONE which only contact this
+     * node execute on the event loop of their connection, local data access included, rather than being handed over
+     * to the request executor and the read or mutation stage.
+     */
+    public volatile boolean native_transport_inline_local_requests_enabled = false;
+    /**
+     * Whether the number of coordinator requests in flight of each message type is capped by a limit adapting to their
+     * latency, between native_transport_min_concurrency_limit and native_transport_max_concurrency_limit. See
+     * {@link org.apache.cassandra.transport.AdaptiveConcurrencyLimiter}.
+     */
+    public volatile boolean native_transport_adaptive_concurrency_limit_enabled = false;
+    public volatile int native_transport_min_concurrency_limit = 16;
+    public volatile int native_transport_max_concurrency_limit = 1024;
     @Replaces(oldName = "native_transport_receive_queue_capacity_in_bytes", converter = Converters.BYTES_DATASTORAGE, deprecated = true)
     public DataStorageSpec.IntBytesBound native_transport_receive_queue_capacity = new DataStorageSpec.IntBytesBound("1MiB");
 
@@ -389,9 +414,11 @@ public class Config
     public String commitlog_directory;
     @Replaces(oldName = "commitlog_total_space_in_mb", converter = Converters.MEBIBYTES_DATA_STORAGE_INT, deprecated = true)
     public DataStorageSpec.IntMebibytesBound commitlog_total_space;
+    public Map<String, SegregatedCommitLogOptions> commitlog_segregated_keyspaces = new HashMap<>();
     public CommitLogSync commitlog_sync;
     @Replaces(oldName = "commitlog_sync_group_window_in_ms", converter = Converters.MILLIS_DURATION_DOUBLE, deprecated = true)
     public DurationSpec.IntMillisecondsBound commitlog_sync_group_window = new DurationSpec.IntMillisecondsBound("0ms");
+    public boolean commitlog_sync_group_adaptive = false;
     @Replaces(oldName = "commitlog_sync_period_in_ms", converter = Converters.MILLIS_DURATION_INT, deprecated = true)
     public DurationSpec.IntMillisecondsBound commitlog_sync_period = new DurationSpec.IntMillisecondsBound("0ms");
     @Replaces(oldName = "commitlog_segment_size_in_mb", converter = Converters.MEBIBYTES_DATA_STORAGE_INT, deprecated = true)
@@ -507,6 +534,47 @@ public class Config
      */
     public Boolean file_cache_round_up;
 
+    /**
+     * Admission policy of the chunk cache. With {@code standard} all tables share a single cache and every chunk read
+     * through it is admitted. With {@code scan_resistant} no single table may occupy more than
+     * {@link #file_cache_table_quota_percent} of the cache, and readers that are detected to be scanning sequentially
+     * (see {@link #file_cache_scan_detection_threshold}) are served around the cache instead of populating it.
+     */
+    public FileCacheMode file_cache_mode = FileCacheMode.standard;
+
+    /**
+     * Storage used by the chunk cache. {@code caffeine} keeps an on-heap map entry and buffer wrapper per cached chunk.
+     * {@code slab} stores chunks in large off-heap slabs indexed by primitive keys, which avoids per-chunk heap objects
+     * for very large caches; it does not support {@link #file_cache_mode} {@code scan_resistant}.
+     */
+    public FileCacheBackend file_cache_backend = FileCacheBackend.caffeine;
+
+    /**
+     * Maximum share of the chunk cache, in percent, that chunks of a single table may occupy when
+     * {@link #file_cache_mode} is {@code scan_resistant}. Reads of a table over its quota are still served from cached
+     * chunks, but new chunks for it are not admitted.
+     */
+    public int file_cache_table_quota_percent = 25;
+
+    /**
+     * Number of consecutive chunks a single reader must read sequentially before it is considered to be scanning and
+     * bypasses the chunk cache when {@link #file_cache_mode} is {@code scan_resistant}.
+     */
+    public int file_cache_scan_detection_threshold = 16;
+
+    /**
+     * How often the hot chunks of the chunk cache are saved to the saved caches directory, so that they can be read
+     * back into the cache on startup. 0 disables saving.
+     */
+    public volatile DurationSpec.IntSecondsBound file_cache_save_period = new DurationSpec.IntSecondsBound("1h");
+    public volatile int file_cache_chunks_to_save = Integer.MAX_VALUE;
+
+    /**
+     * Maximum amount of data read to warm up the chunk cache from its saved chunks on startup. Defaults to
+     * {@link #file_cache_size}.
+     */
+    public DataStorageSpec.IntMebibytesBound file_cache_warmup_budget;
+
     /** @deprecated See CASSANDRA-15358 */
     @Deprecated(since = "4.0")
     public boolean buffer_pool_use_heap_if_exhausted;
@@ -1233,6 +1301,18 @@ public class Config
         die_immediate
     }
 
+    public enum FileCacheMode
+    {
+        standard,
+        scan_resistant
+    }
+
+    public enum FileCacheBackend
+    {
+        caffeine,
+        slab
+    }
+
     public enum DiskOptimizationStrategy
     {
         ssd,
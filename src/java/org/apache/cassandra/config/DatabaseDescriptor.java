@@ -624,6 +624,9 @@ public class DatabaseDescriptor
         if (conf.concurrent_counter_writes < 2)
             throw new ConfigurationException("concurrent_counter_writes must be at least 2, but was " + conf.concurrent_counter_writes, false);
 
+        if (conf.concurrent_chunk_prefetches < 0)
+            throw new ConfigurationException("concurrent_chunk_prefetches must be non-negative, but was " + conf.concurrent_chunk_prefetches, false);
+
         if (conf.networking_cache_size == null)
             conf.networking_cache_size = new DataStorageSpec.IntMebibytesBound(Math.min(128, (int) (Runtime.getRuntime().maxMemory() / (16 * 1048576))));
 
@@ -634,6 +637,18 @@ public class DatabaseDescriptor
         if (conf.file_cache_round_up == null)
             conf.file_cache_round_up = conf.disk_optimization_strategy == Config.DiskOptimizationStrategy.spinning;
 
+        if (conf.file_cache_table_quota_percent <= 0 || conf.file_cache_table_quota_percent > 100)
+            throw new ConfigurationException("file_cache_table_quota_percent must be between 1 and 100, but was " + conf.file_cache_table_quota_percent, false);
+
+        if (conf.file_cache_scan_detection_threshold < 1)
+            throw new ConfigurationException("file_cache_scan_detection_threshold must be at least 1, but was " + conf.file_cache_scan_detection_threshold, false);
+
+        if (conf.file_cache_backend == Config.FileCacheBackend.slab && conf.file_cache_mode == Config.FileCacheMode.scan_resistant)
+            throw new ConfigurationException("file_cache_mode: scan_resistant is not supported with file_cache_backend: slab", false);
+
+        if (conf.file_cache_warmup_budget == null)
+            conf.file_cache_warmup_budget = conf.file_cache_size;
+
         if (conf.memtable_offheap_space == null)
             conf.memtable_offheap_space = new DataStorageSpec.IntMebibytesBound((int) (Runtime.getRuntime().maxMemory() / (4 * 1048576)));
         // for the moment, we default to twice as much on-heap space as off-heap, as heap overhead is very large
@@ -715,6 +730,10 @@ public class DatabaseDescriptor
         else
             logger.info("Native transport rate-limiting disabled.");
 
+        if (conf.native_transport_min_concurrency_limit <= 0 || conf.native_transport_max_concurrency_limit < conf.native_transport_min_concurrency_limit)
+            throw new ConfigurationException(String.format("native_transport_min_concurrency_limit (%d) must be positive and no greater than native_transport_max_concurrency_limit (%d)",
+                                                           conf.native_transport_min_concurrency_limit, conf.native_transport_max_concurrency_limit), false);
+
         if (conf.commitlog_total_space == null)
         {
             final int preferredSizeInMiB = 8192;
@@ -728,6 +747,35 @@ public class DatabaseDescriptor
             conf.commitlog_total_space = new DataStorageSpec.IntMebibytesBound(defaultSpaceInMiB);
         }
 
+        if (conf.commitlog_segregated_keyspaces == null)
+            conf.commitlog_segregated_keyspaces = new HashMap<>();
+
+        Set<File> commitLogDirectories = new HashSet<>();
+        if (conf.commitlog_directory != null)
+            commitLogDirectories.add(new File(conf.commitlog_directory).toAbsolute());
+        for (Map.Entry<String, SegregatedCommitLogOptions> entry : conf.commitlog_segregated_keyspaces.entrySet())
+        {
+            String keyspace = entry.getKey();
+            SegregatedCommitLogOptions options = entry.getValue();
+            if (options == null || options.directory == null)
+                throw new ConfigurationException("Missing directory for the segregated commit log of keyspace " + keyspace, false);
+            if (!commitLogDirectories.add(new File(options.directory).toAbsolute()))
+                throw new ConfigurationException("The directory of the segregated commit log of keyspace " + keyspace +
+                                                 " must differ from the directories of the other commit logs", false);
+
+            if (options.total_space == null)
+            {
+                final int preferredSizeInMiB = 8192;
+                final long totalSpaceInBytes = tryGetSpace(options.directory, FileStore::getTotalSpace);
+                int defaultSpaceInMiB = calculateDefaultSpaceInMiB("commitlog",
+                                                                   options.directory,
+                                                                   "commitlog_segregated_keyspaces." + keyspace + ".total_space",
+                                                                   preferredSizeInMiB,
+                                                                   totalSpaceInBytes, 1, 4);
+                options.total_space = new DataStorageSpec.IntMebibytesBound(defaultSpaceInMiB);
+            }
+        }
+
         if (conf.cdc_enabled)
         {
             if (conf.cdc_raw_directory == null)
@@ -1554,15 +1602,20 @@ public class DatabaseDescriptor
 
     private static void validateCommitLogWriteDiskAccessMode(Pair<DiskAccessMode, Boolean> accessModeDirectIoPair) throws ConfigurationException
     {
-        boolean compressOrEncrypt = getCommitLogCompression() != null || (getEncryptionContext() != null && getEncryptionContext().isEnabled());
+        boolean encrypt = getEncryptionContext() != null && getEncryptionContext().isEnabled();
+        boolean compressOrEncrypt = getCommitLogCompression() != null || encrypt;
 
         if (!accessModeDirectIoPair.right && accessModeDirectIoPair.left == DiskAccessMode.direct)
         {
             throw new ConfigurationException("commitlog_disk_access_mode can not be set to direct when direct IO is not supported by the file system.");
         }
-        else if (compressOrEncrypt && accessModeDirectIoPair.left != DiskAccessMode.standard)
+        else if (encrypt && accessModeDirectIoPair.left != DiskAccessMode.standard)
         {
-            throw new ConfigurationException("commitlog_disk_access_mode = " + accessModeDirectIoPair.left + " is not supported with compression or encryption. Please use 'auto' when unsure.", false);
+            throw new ConfigurationException("commitlog_disk_access_mode = " + accessModeDirectIoPair.left + " is not supported with encryption. Please use 'auto' when unsure.", false);
+        }
+        else if (compressOrEncrypt && accessModeDirectIoPair.left != DiskAccessMode.standard && accessModeDirectIoPair.left != DiskAccessMode.direct)
+        {
+            throw new ConfigurationException("commitlog_disk_access_mode = " + accessModeDirectIoPair.left + " is not supported with compression. Please use 'auto' when unsure.", false);
         }
         else if (!compressOrEncrypt && accessModeDirectIoPair.left != DiskAccessMode.mmap && accessModeDirectIoPair.left != DiskAccessMode.direct)
         {
@@ -1994,6 +2047,8 @@ public class DatabaseDescriptor
             if (conf.commitlog_directory == null)
                 throw new ConfigurationException("commitlog_directory must be specified", false);
             FileUtils.createDirectory(conf.commitlog_directory);
+            for (SegregatedCommitLogOptions options : conf.commitlog_segregated_keyspaces.values())
+                FileUtils.createDirectory(options.directory);
 
             if (conf.hints_directory == null)
                 throw new ConfigurationException("hints_directory must be specified", false);
@@ -2493,6 +2548,11 @@ public class DatabaseDescriptor
         return conf.concurrent_materialized_view_writes;
     }
 
+    public static boolean getRequestStageDeadlineOrderingEnabled()
+    {
+        return conf.request_stage_deadline_ordering_enabled;
+    }
+
     public static void setConcurrentViewWriters(int concurrent_materialized_view_writes)
     {
         if (concurrent_materialized_view_writes < 0)
@@ -2502,6 +2562,11 @@ public class DatabaseDescriptor
         conf.concurrent_materialized_view_writes = concurrent_materialized_view_writes;
     }
 
+    public static int getConcurrentChunkPrefetches()
+    {
+        return conf.concurrent_chunk_prefetches;
+    }
+
     public static int getFlushWriters()
     {
         return conf.memtable_flush_writers;
@@ -3154,6 +3219,11 @@ public class DatabaseDescriptor
         conf.native_transport_max_threads = max_threads;
     }
 
+    public static ParameterizedClass getNativeTransportRequestScheduler()
+    {
+        return conf.native_transport_request_scheduler;
+    }
+
     public static Integer getNativeTransportMaxAuthThreads()
     {
         return conf.native_transport_max_auth_threads;
@@ -3225,6 +3295,16 @@ public class DatabaseDescriptor
         conf.commitlog_sync_group_window = new DurationSpec.IntMillisecondsBound(windowMillis);
     }
 
+    public static boolean isCommitLogSyncGroupAdaptive()
+    {
+        return conf.commitlog_sync_group_adaptive;
+    }
+
+    public static void setCommitLogSyncGroupAdaptive(boolean adaptive)
+    {
+        conf.commitlog_sync_group_adaptive = adaptive;
+    }
+
     public static int getNativeTransportReceiveQueueCapacityInBytes()
     {
         return conf.native_transport_receive_queue_capacity.toBytes();
@@ -3403,6 +3483,38 @@ public class DatabaseDescriptor
         return conf.native_transport_rate_limiting_enabled;
     }
 
+    public static boolean getNativeTransportInlineLocalRequestsEnabled()
+    {
+        return conf.native_transport_inline_local_requests_enabled;
+    }
+
+    public static void setNativeTransportInlineLocalRequestsEnabled(boolean enabled)
+    {
+        logger.info("native_transport_inline_local_requests_enabled set to {}", enabled);
+        conf.native_transport_inline_local_requests_enabled = enabled;
+    }
+
+    public static boolean getNativeTransportAdaptiveConcurrencyLimitEnabled()
+    {
+        return conf.native_transport_adaptive_concurrency_limit_enabled;
+    }
+
+    public static void setNativeTransportAdaptiveConcurrencyLimitEnabled(boolean enabled)
+    {
+        logger.info("native_transport_adaptive_concurrency_limit_enabled set to {}", enabled);
+        conf.native_transport_adaptive_concurrency_limit_enabled = enabled;
+    }
+
+    public static int getNativeTransportMinConcurrencyLimit()
+    {
+        return conf.native_transport_min_concurrency_limit;
+    }
+
+    public static int getNativeTransportMaxConcurrencyLimit()
+    {
+        return conf.native_transport_max_concurrency_limit;
+    }
+
     public static int getCommitLogSyncPeriod()
     {
         return conf.commitlog_sync_period.toMilliseconds();
@@ -3776,6 +3888,58 @@ public class DatabaseDescriptor
         return conf.file_cache_round_up;
     }
 
+    public static Config.FileCacheMode getFileCacheMode()
+    {
+        return conf.file_cache_mode;
+    }
+
+    public static Config.FileCacheBackend getFileCacheBackend()
+    {
+        return conf.file_cache_backend;
+    }
+
+    public static int getFileCacheTableQuotaPercent()
+    {
+        return conf.file_cache_table_quota_percent;
+    }
+
+    public static int getFileCacheScanDetectionThreshold()
+    {
+        return conf.file_cache_scan_detection_threshold;
+    }
+
+    public static int getFileCacheSavePeriod()
+    {
+        return conf.file_cache_save_period.toSeconds();
+    }
+
+    public static void setFileCacheSavePeriod(int fileCacheSavePeriod)
+    {
+        conf.file_cache_save_period = new DurationSpec.IntSecondsBound(fileCacheSavePeriod);
+    }
+
+    public static int getFileCacheChunksToSave()
+    {
+        return conf.file_cache_chunks_to_save;
+    }
+
+    public static void setFileCacheChunksToSave(int fileCacheChunksToSave)
+    {
+        conf.file_cache_chunks_to_save = fileCacheChunksToSave;
+    }
+
+    public static long getFileCacheWarmupBudget()
+    {
+        if (conf.file_cache_warmup_budget == null)
+        {
+            // In client mode the value is not set.
+            assert DatabaseDescriptor.isClientInitialized();
+            return 0;
+        }
+
+        return conf.file_cache_warmup_budget.toBytesInLong();
+    }
+
     public static DiskOptimizationStrategy getDiskOptimizationStrategy()
     {
         return diskOptimizationStrategy;
@@ -3791,6 +3955,21 @@ public class DatabaseDescriptor
         return conf.commitlog_total_space.toMebibytes();
     }
 
+    /**
+     * @return the options of the commit logs of the keyspaces whose writes are segregated from the main commit log,
+     * by keyspace name
+     */
+    public static Map<String, SegregatedCommitLogOptions> getSegregatedCommitLogs()
+    {
+        return conf.commitlog_segregated_keyspaces;
+    }
+
+    @VisibleForTesting
+    public static void setSegregatedCommitLogs(Map<String, SegregatedCommitLogOptions> segregatedCommitLogs)
+    {
+        conf.commitlog_segregated_keyspaces = segregatedCommitLogs;
+    }
+
     public static boolean shouldMigrateKeycacheOnCompaction()
     {
         return conf.key_cache_migrate_during_compaction;
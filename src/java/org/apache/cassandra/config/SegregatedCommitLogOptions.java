@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.config;
+
+/**
+ * The options of the commit log of a keyspace whose writes are segregated from the main commit log, see
+ * {@code commitlog_segregated_keyspaces}.
+ */
+public class SegregatedCommitLogOptions
+{
+    /** The directory of the commit log segments of the keyspace, which must differ from any other commit log's. */
+    public String directory;
+
+    /** The space limit of the commit log of the keyspace; defaults as {@code commitlog_total_space} does. */
+    public DataStorageSpec.IntMebibytesBound total_space;
+
+    public SegregatedCommitLogOptions()
+    {
+    }
+
+    public SegregatedCommitLogOptions(String directory, DataStorageSpec.IntMebibytesBound total_space)
+    {
+        this.directory = directory;
+        this.total_space = total_space;
+    }
+}
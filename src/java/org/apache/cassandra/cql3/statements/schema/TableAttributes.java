@@ -34,6 +34,7 @@ import org.apache.cassandra.schema.TableParams;
 import org.apache.cassandra.schema.TableParams.Option;
 import org.apache.cassandra.service.reads.SpeculativeRetryPolicy;
 import org.apache.cassandra.service.reads.repair.ReadRepairStrategy;
+import org.apache.cassandra.utils.FilterFactory;
 
 import static java.lang.String.format;
 import static org.apache.cassandra.schema.TableParams.Option.*;
@@ -103,9 +104,15 @@ public final class TableAttributes extends PropertyDefinitions
         if (hasOption(BLOOM_FILTER_FP_CHANCE))
             builder.bloomFilterFpChance(getDouble(BLOOM_FILTER_FP_CHANCE));
 
+        if (hasOption(BLOOM_FILTER_TYPE))
+            builder.bloomFilterType(FilterFactory.Type.fromString(getString(BLOOM_FILTER_TYPE)));
+
         if (hasOption(CACHING))
             builder.caching(CachingParams.fromMap(getMap(CACHING)));
 
+        if (hasOption(CLUSTERING_FILTER_FP_CHANCE))
+            builder.clusteringFilterFpChance(getDouble(CLUSTERING_FILTER_FP_CHANCE));
+
         if (hasOption(COMMENT))
             builder.comment(getString(COMMENT));
 
@@ -96,7 +96,7 @@ public class CassandraKeyspaceWriteHandler implements KeyspaceWriteHandler
         // or memoize the mutation.getTableIds()->ids map (needs invalidation on schema version change).
 
         Tracing.trace("Appending to commitlog");
-        return CommitLog.instance.add(mutation);
+        return CommitLog.instance.forKeyspace(mutation.getKeyspaceName()).add(mutation);
     }
 
     private WriteContext createEmptyContext()
@@ -48,6 +48,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 import javax.management.openmbean.CompositeData;
@@ -73,9 +74,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.apache.cassandra.cache.CounterCacheKey;
+import org.apache.cassandra.cache.ICache;
 import org.apache.cassandra.cache.IRowCacheEntry;
 import org.apache.cassandra.cache.RowCacheKey;
 import org.apache.cassandra.cache.RowCacheSentinel;
+import org.apache.cassandra.cache.UpdatableRowCache;
 import org.apache.cassandra.concurrent.ExecutorPlus;
 import org.apache.cassandra.concurrent.FutureTask;
 import org.apache.cassandra.config.DatabaseDescriptor;
@@ -176,11 +179,14 @@ import org.apache.cassandra.utils.TimeUUID;
 import org.apache.cassandra.utils.WrappedRunnable;
 import org.apache.cassandra.utils.concurrent.CountDownLatch;
 import org.apache.cassandra.utils.concurrent.Future;
+import org.apache.cassandra.utils.concurrent.FutureCombiner;
+import org.apache.cassandra.utils.concurrent.ImmediateFuture;
 import org.apache.cassandra.utils.concurrent.OpOrder;
 import org.apache.cassandra.utils.concurrent.Refs;
 import org.apache.cassandra.utils.concurrent.UncheckedInterruptedException;
 
 import static org.apache.cassandra.concurrent.ExecutorFactory.Global.executorFactory;
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_FLUSH_BATCH_THRESHOLD;
 import static org.apache.cassandra.config.DatabaseDescriptor.getFlushWriters;
 import static org.apache.cassandra.db.commitlog.CommitLogPosition.NONE;
 import static org.apache.cassandra.utils.Clock.Global.currentTimeMillis;
@@ -197,10 +203,12 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
     /*
     We keep a pool of threads for each data directory, size of each pool is memtable_flush_writers.
     When flushing we start a Flush runnable in the flushExecutor. Flush calculates how to split the
-    memtable ranges over the existing data directories and creates a FlushRunnable for each of the directories.
+    memtable ranges over the existing data directories and creates a FlushRunnable for each of the directories, or
+    several when a directory's range is split in parts that are written concurrently (see Flushing.splitPoints).
     The FlushRunnables are executed in the perDiskflushExecutors and the Flush will block until all FlushRunnables
     are finished. By having flushExecutor size the same size as each of the perDiskflushExecutors we make sure we can
-    have that many flushes going at the same time.
+    have that many flushes going at the same time. The small memtables of tables flushed together (see
+    forceFlushTogether) are written by a single task in the flushExecutor instead.
     */
     private static final ExecutorPlus flushExecutor = DatabaseDescriptor.isDaemonInitialized() 
                                                       ? executorFactory().withJmxInternal().pooled("MemtableFlushWriter", getFlushWriters())
@@ -343,6 +351,9 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
 
     private volatile boolean neverPurgeTombstones = false;
 
+    /** The distinct first clustering values per partition of the last sstable written with a clustering filter. */
+    private volatile double clusteringPrefixesPerPartition = Double.NaN;
+
     private class PaxosRepairHistoryLoader
     {
         private TablePaxosRepairHistory history;
@@ -508,7 +519,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         logger.info("Initializing {}.{}", getKeyspaceName(), name);
 
         Memtable initialMemtable = DatabaseDescriptor.isDaemonInitialized() ?
-                                   createMemtable(new AtomicReference<>(CommitLog.instance.getCurrentPosition())) :
+                                   createMemtable(new AtomicReference<>(commitLog().getCurrentPosition())) :
                                    null;
         memtableMetricsReleaser = memtableFactory.createMemtableMetricsReleaser(metadata);
 
@@ -1116,6 +1127,106 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         return postFlushExecutor.submit(current::getCommitLogLowerBound);
     }
 
+    /**
+     * Flushes the tables of a keyspace among {@code tables} which have unflushed data, or only data written to the
+     * commit log before {@code flushIfDirtyBefore} if it is not null, like {@link #forceFlush(FlushReason)} and {@link
+     * #forceFlush(CommitLogPosition)} do table by table, except that the tables whose memtables hold less than {@link
+     * org.apache.cassandra.config.CassandraRelevantProperties#MEMTABLE_FLUSH_BATCH_THRESHOLD} of data are flushed together: their memtables are
+     * switched out behind a single write barrier and written one table after the other by a single flush task, rather
+     * than each by a flush task of its own handing the writes to the per-disk flush executors.
+     *
+     * @return a Future completing once all the tables are flushed
+     */
+    public static Future<?> forceFlushTogether(Collection<ColumnFamilyStore> tables, FlushReason reason, @Nullable CommitLogPosition flushIfDirtyBefore)
+    {
+        long threshold = MEMTABLE_FLUSH_BATCH_THRESHOLD.getSizeInBytes();
+        List<Future<?>> futures = new ArrayList<>(tables.size());
+        List<ColumnFamilyStore> small = new ArrayList<>();
+        for (ColumnFamilyStore cfs : tables)
+        {
+            if (cfs.memtableLiveDataSize() < threshold)
+                small.add(cfs);
+            else
+                futures.add(flushIfDirtyBefore == null ? cfs.forceFlush(reason) : cfs.forceFlush(flushIfDirtyBefore));
+        }
+
+        if (small.size() == 1)
+        {
+            ColumnFamilyStore cfs = small.get(0);
+            futures.add(flushIfDirtyBefore == null ? cfs.forceFlush(reason) : cfs.forceFlush(flushIfDirtyBefore));
+        }
+        else if (!small.isEmpty())
+        {
+            OpOrder.Barrier writeBarrier = Keyspace.writeOrder.newBarrier();
+            List<Flush> flushes = new ArrayList<>(small.size());
+            for (ColumnFamilyStore cfs : small)
+            {
+                synchronized (cfs.data)
+                {
+                    Memtable current = cfs.data.getView().getCurrentMemtable();
+                    boolean dirty = flushIfDirtyBefore == null
+                                    ? Iterables.any(cfs.concatWithIndexes(), c -> !c.data.getView().getCurrentMemtable().isClean())
+                                    : current.mayContainDataBefore(flushIfDirtyBefore);
+                    if (!dirty || !current.shouldSwitch(flushIfDirtyBefore == null ? reason : FlushReason.COMMITLOG_DIRTY))
+                    {
+                        futures.add(cfs.waitForFlushes());
+                        continue;
+                    }
+
+                    cfs.logFlush(reason);
+                    Flush flush = cfs.new Flush(false, writeBarrier);
+                    postFlushExecutor.execute(flush.postFlushTask);
+                    flushes.add(flush);
+                    futures.add(flush.postFlushTask);
+                }
+            }
+
+            // the memtables of all the tables are switched out, so the writes to them are all started before the barrier
+            writeBarrier.issue();
+            if (!flushes.isEmpty())
+                flushExecutor.execute(new BatchedFlush(writeBarrier, flushes));
+        }
+        return FutureCombiner.allOf(futures);
+    }
+
+    private long memtableLiveDataSize()
+    {
+        long size = 0;
+        for (ColumnFamilyStore cfs : concatWithIndexes())
+            size += cfs.data.getView().getCurrentMemtable().getLiveDataSize();
+        return size;
+    }
+
+    /**
+     * The flushes of several tables sharing a write barrier, waited for once, and written by a single task.
+     */
+    private static final class BatchedFlush implements Runnable
+    {
+        private final OpOrder.Barrier writeBarrier;
+        private final List<Flush> flushes;
+
+        private BatchedFlush(OpOrder.Barrier writeBarrier, List<Flush> flushes)
+        {
+            this.writeBarrier = writeBarrier;
+            this.flushes = flushes;
+        }
+
+        @Override
+        public void run()
+        {
+            writeBarrier.markBlocking();
+            writeBarrier.await();
+            for (Flush flush : flushes)
+                flush.flushSwitchedOut();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Flush of " + flushes.size() + " tables";
+        }
+    }
+
     public CommitLogPosition forceBlockingFlush(FlushReason reason)
     {
         return FBUtilities.waitOnFuture(forceFlush(reason));
@@ -1154,7 +1265,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
             if (flushFailure == null && mainMemtable != null)
             {
                 commitLogUpperBound = mainMemtable.getFinalCommitLogUpperBound();
-                CommitLog.instance.discardCompletedSegments(metadata.id, mainMemtable.getCommitLogLowerBound(), commitLogUpperBound);
+                commitLog().discardCompletedSegments(metadata.id, mainMemtable.getCommitLogLowerBound(), commitLogUpperBound);
             }
 
             metric.pendingFlushes.dec();
@@ -1184,13 +1295,25 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         final FutureTask<CommitLogPosition> postFlushTask;
         final PostFlush postFlush;
         final boolean truncate;
+        // whether the memtables are written by the thread running this flush rather than by the per-disk executors
+        final boolean writesInline;
 
         private Flush(boolean truncate)
+        {
+            this(truncate, null);
+        }
+
+        /**
+         * @param sharedBarrier the write barrier of a batch of flushes of several tables, issued by the batch once all
+         *                      their memtables are switched out, or null for this flush to issue a barrier of its own
+         */
+        private Flush(boolean truncate, OpOrder.Barrier sharedBarrier)
         {
             if (logger.isTraceEnabled())
                 logger.trace("Creating flush task {}@{}", hashCode(), name);
             // if true, we won't flush, we'll just wait for any outstanding writes, switch the memtable, and discard
             this.truncate = truncate;
+            this.writesInline = sharedBarrier != null;
 
             metric.pendingFlushes.inc();
             /*
@@ -1202,7 +1325,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
              * In doing so it also tells the write operations to update the commitLogUpperBound of the memtable, so
              * that we know the CL position we are dirty to, which can be marked clean when we complete.
              */
-            writeBarrier = Keyspace.writeOrder.newBarrier();
+            writeBarrier = sharedBarrier != null ? sharedBarrier : Keyspace.writeOrder.newBarrier();
 
             memtables = new LinkedHashMap<>();
 
@@ -1221,12 +1344,13 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
 
             // we then ensure an atomic decision is made about the upper bound of the continuous range of commit log
             // records owned by this memtable
-            setCommitLogUpperBound(commitLogUpperBound);
+            setCommitLogUpperBound(commitLogUpperBound, commitLog());
 
             // we then issue the barrier; this lets us wait for all operations started prior to the barrier to complete;
             // since this happens after wiring up the commitLogUpperBound, we also know all operations with earlier
             // commit log segment position have also completed, i.e. the memtables are done and ready to flush
-            writeBarrier.issue();
+            if (sharedBarrier == null)
+                writeBarrier.issue();
             postFlush = new PostFlush(Iterables.get(memtables.values(), 0, null));
             postFlushTask = new FutureTask<>(postFlush);
         }
@@ -1246,6 +1370,14 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
             if (logger.isTraceEnabled())
                 logger.trace("Flush task for task {}@{} waited {} ms at the barrier", hashCode(), name, TimeUnit.NANOSECONDS.toMillis(nanoTime() - start));
 
+            flushSwitchedOut();
+        }
+
+        /**
+         * Writes the memtables switched out by this flush, once all the writes to them have completed.
+         */
+        void flushSwitchedOut()
+        {
             // mark all memtables as flushing, removing them from the live memtable list
             for (Map.Entry<ColumnFamilyStore, Memtable> entry : memtables.entrySet())
                 entry.getKey().data.markFlushing(entry.getValue());
@@ -1306,8 +1438,9 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
                     flushRunnables = Flushing.flushRunnables(cfs, memtable, txn);
                     ExecutorPlus[] executors = perDiskflushExecutors.getExecutorsFor(getKeyspaceName(), name);
 
-                    for (int i = 0; i < flushRunnables.size(); i++)
-                        futures.add(executors[i].submit(flushRunnables.get(i)));
+                    for (Flushing.FlushRunnable flushRunnable : flushRunnables)
+                        futures.add(writesInline ? ImmediateFuture.success(flushRunnable.call())
+                                                 : executors[flushRunnable.diskIndex].submit(flushRunnable));
 
                     /**
                      * we can flush 2is as soon as the barrier completes, as they will be consistent with (or ahead of) the
@@ -1415,13 +1548,21 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         }
     }
 
+    /**
+     * @return the commit log the writes to this table go to
+     */
+    public CommitLog commitLog()
+    {
+        return CommitLog.instance.forKeyspace(getKeyspaceName());
+    }
+
     public Memtable createMemtable(AtomicReference<CommitLogPosition> commitLogUpperBound)
     {
         return memtableFactory.create(commitLogUpperBound, metadata, this);
     }
 
     // atomically set the upper bound for the commit log
-    private static void setCommitLogUpperBound(AtomicReference<CommitLogPosition> commitLogUpperBound)
+    private static void setCommitLogUpperBound(AtomicReference<CommitLogPosition> commitLogUpperBound, CommitLog commitLog)
     {
         // we attempt to set the holder to the current commit log context. at the same time all writes to the memtables are
         // also maintaining this value, so if somebody sneaks ahead of us somehow (should be rare) we simply retry,
@@ -1429,7 +1570,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         CommitLogPosition lastReplayPosition;
         while (true)
         {
-            lastReplayPosition = new Memtable.LastCommitLogPosition((CommitLog.instance.getCurrentPosition()));
+            lastReplayPosition = new Memtable.LastCommitLogPosition((commitLog.getCurrentPosition()));
             CommitLogPosition currentLast = commitLogUpperBound.get();
             if ((currentLast == null || currentLast.compareTo(lastReplayPosition) <= 0)
                 && commitLogUpperBound.compareAndSet(currentLast, lastReplayPosition))
@@ -1446,7 +1587,9 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
     @Override
     public Memtable getCurrentMemtable()
     {
-        return data.getView().getCurrentMemtable();
+        // the tracker is not yet set while the initial memtable is created
+        Tracker tracker = data;
+        return tracker != null ? tracker.getView().getCurrentMemtable() : null;
     }
 
     public static Iterable<Memtable> activeMemtables()
@@ -1481,7 +1624,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
             UpdateTransaction indexer = newUpdateTransaction(update, context, updateIndexes, mt);
             long timeDelta = mt.put(update, indexer, opGroup);
             DecoratedKey key = update.partitionKey();
-            invalidateCachedPartition(key);
+            updateCachedPartition(update);
             metric.topWritePartitionFrequency.addSample(key.getKey(), 1);
             if (metric.topWritePartitionSize.isEnabled()) // dont compute datasize if not needed
                 metric.topWritePartitionSize.addSample(key.getKey(), update.dataSize());
@@ -2449,6 +2592,23 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         return CacheService.instance.rowCache.getCapacity() != 0 && CacheService.instance.rowCache.containsKey(new RowCacheKey(metadata(), key));
     }
 
+    /**
+     * Applies the given update to the cached partition it belongs to, if any, or invalidates that partition if the row
+     * cache cannot update it in place.
+     */
+    public void updateCachedPartition(PartitionUpdate update)
+    {
+        if (!isRowCacheEnabled())
+            return;
+
+        RowCacheKey key = new RowCacheKey(metadata(), update.partitionKey());
+        ICache<RowCacheKey, IRowCacheEntry> cache = CacheService.instance.rowCache.getCache();
+        if (cache instanceof UpdatableRowCache)
+            ((UpdatableRowCache) cache).update(key, update, metadata().params.caching.rowsPerPartitionToCache(), FBUtilities.nowInSeconds());
+        else
+            invalidateCachedPartition(key);
+    }
+
     public void invalidateCachedPartition(RowCacheKey key)
     {
         CacheService.instance.rowCache.remove(key);
@@ -3103,6 +3263,20 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         return count > 0 ? sum * 1.0 / count : 0;
     }
 
+    /**
+     * @return the mean number of distinct first clustering values per partition of the last sstable written with a
+     * {@link org.apache.cassandra.io.sstable.format.ClusteringPrefixFilter} since startup, or NaN if there is none
+     */
+    public double getClusteringPrefixesPerPartition()
+    {
+        return clusteringPrefixesPerPartition;
+    }
+
+    public void setClusteringPrefixesPerPartition(double prefixesPerPartition)
+    {
+        clusteringPrefixesPerPartition = prefixesPerPartition;
+    }
+
     public int getMeanRowCount()
     {
         long totalRows = 0;
@@ -3429,7 +3603,7 @@ public class ColumnFamilyStore implements ColumnFamilyStoreMBean, Memtable.Owner
         if (isAutoSnapshotEnabled())
             snapshot(Keyspace.getTimestampedSnapshotNameWithPrefix(name, ColumnFamilyStore.SNAPSHOT_DROP_PREFIX), DatabaseDescriptor.getAutoSnapshotTtl());
 
-        CommitLog.instance.forceRecycleAllSegments(Collections.singleton(metadata.id));
+        commitLog().forceRecycleAllSegments(Collections.singleton(metadata.id));
 
         compactionStrategyManager.shutdown();
 
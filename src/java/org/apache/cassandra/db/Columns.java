@@ -548,6 +548,36 @@ public class Columns extends AbstractCollection<ColumnMetadata> implements Colle
             }
         }
 
+        /**
+         * Applies the function to the columns of the subset serialized by {@link #serializeSubset}, in order, without
+         * building the subset when it is encoded as a bitmap. The function is applied once the subset has been read,
+         * so it can read from {@code in} itself.
+         */
+        public void applyToSubset(Columns superset, DataInputPlus in, Consumer<ColumnMetadata> function) throws IOException
+        {
+            long encoded = in.readUnsignedVInt();
+            if (encoded == 0L)
+            {
+                superset.apply(function);
+            }
+            else if (superset.size() >= 64)
+            {
+                deserializeLargeSubset(in, superset, (int) encoded).apply(function);
+            }
+            else
+            {
+                int supersetCount = superset.size();
+                if ((encoded >>> supersetCount) != 0)
+                    throw new IOException("Invalid Columns subset bytes; too many bits set:" + Long.toBinaryString(encoded >>> supersetCount));
+
+                for (int i = 0; i < supersetCount; i++, encoded >>>= 1)
+                {
+                    if ((encoded & 1) == 0)
+                        function.accept(BTree.findByIndex(superset.columns, i));
+                }
+            }
+        }
+
         public Columns deserializeSubset(Columns superset, DataInputPlus in) throws IOException
         {
             long encoded = in.readUnsignedVInt();
@@ -671,10 +671,8 @@ public class Keyspace
 
     public List<Future<?>> flush(ColumnFamilyStore.FlushReason reason)
     {
-        List<Future<?>> futures = new ArrayList<>(columnFamilyStores.size());
-        for (ColumnFamilyStore cfs : columnFamilyStores.values())
-            futures.add(cfs.forceFlush(reason));
-        return futures;
+        // the tables with little data are flushed together
+        return Collections.singletonList(ColumnFamilyStore.forceFlushTogether(columnFamilyStores.values(), reason, null));
     }
 
     public Iterable<ColumnFamilyStore> getValidColumnFamilies(boolean allowIndexes,
@@ -67,6 +67,7 @@ import org.apache.cassandra.exceptions.RequestExecutionException;
 import org.apache.cassandra.index.Index;
 import org.apache.cassandra.io.sstable.SSTableReadsListener;
 import org.apache.cassandra.io.sstable.format.SSTableReader;
+import org.apache.cassandra.io.util.ChunkPrefetchExecutor;
 import org.apache.cassandra.io.util.DataInputPlus;
 import org.apache.cassandra.io.util.DataOutputPlus;
 import org.apache.cassandra.metrics.TableMetrics;
@@ -513,7 +514,8 @@ public class SinglePartitionReadCommand extends ReadCommand implements SinglePar
 
         // Attempt a sentinel-read-cache sequence.  if a write invalidates our sentinel, we'll return our
         // (now potentially obsolete) data, but won't cache it. see CASSANDRA-3862
-        // TODO: don't evict entire partitions on writes (#2864)
+        // Writes evict entire cached partitions unless the cache can update them in place (#2864), see
+        // ColumnFamilyStore#updateCachedPartition.
         IRowCacheEntry cached = CacheService.instance.rowCache.get(key);
         if (cached != null)
         {
@@ -738,6 +740,8 @@ public class SinglePartitionReadCommand extends ReadCommand implements SinglePar
             if (controller.isTrackingRepairedStatus())
                 Tracing.trace("Collecting data from sstables and tracking repaired status");
 
+            prefetchFromSSTables(view.sstables);
+
             for (SSTableReader sstable : view.sstables)
             {
                 // if we've already seen a partition tombstone with a timestamp greater
@@ -830,10 +834,30 @@ public class SinglePartitionReadCommand extends ReadCommand implements SinglePar
         }
     }
 
+    /**
+     * Issues the reads of this partition from all the given sstables but the first at once, so that they proceed in
+     * parallel while the sstables are iterated in order; the first one is about to be read by the calling thread
+     * anyway. SSTables that will only be checked for a partition deletion are not prefetched, as they are usually
+     * skipped after reading the partition header.
+     */
+    private void prefetchFromSSTables(List<SSTableReader> sstables)
+    {
+        if (sstables.size() < 2 || !ChunkPrefetchExecutor.instance.isEnabled())
+            return;
+
+        for (int i = 1; i < sstables.size(); i++)
+        {
+            SSTableReader sstable = sstables.get(i);
+            if (intersects(sstable) || hasRequiredStatics(sstable))
+                sstable.prefetchPartitionAsync(partitionKey());
+        }
+    }
+
     @Override
     protected boolean intersects(SSTableReader sstable)
     {
-        return clusteringIndexFilter().intersects(sstable.metadata().comparator, sstable.getSSTableMetadata().coveredClustering);
+        return clusteringIndexFilter().intersects(sstable.metadata().comparator, sstable.getSSTableMetadata().coveredClustering)
+               && sstable.mayContainClusterings(partitionKey(), clusteringIndexFilter());
     }
 
     private UnfilteredRowIteratorWithLowerBound makeRowIteratorWithLowerBound(ColumnFamilyStore cfs,
@@ -45,6 +45,7 @@ public class UnfilteredDeserializer
     private boolean isDone;
 
     private final Row.Builder builder;
+    private final UnfilteredSerializer.ColumnReader columnReader = new UnfilteredSerializer.ColumnReader();
 
     private UnfilteredDeserializer(TableMetadata metadata,
                                    DataInputPlus in,
@@ -140,7 +141,7 @@ public class UnfilteredDeserializer
         else
         {
             builder.newRow(clusteringDeserializer.deserializeNextClustering());
-            return UnfilteredSerializer.serializer.deserializeRowBody(in, header, helper, nextFlags, nextExtendedFlags, builder);
+            return UnfilteredSerializer.serializer.deserializeRowBody(in, header, helper, nextFlags, nextExtendedFlags, builder, columnReader);
         }
     }
 
@@ -22,8 +22,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -38,13 +40,13 @@ import net.nicoulaj.compilecommand.annotations.DontInline;
 import org.apache.cassandra.concurrent.Interruptible;
 import org.apache.cassandra.concurrent.Interruptible.TerminateException;
 import org.apache.cassandra.config.Config.DiskAccessMode;
-import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.Keyspace;
 import org.apache.cassandra.db.Mutation;
 import org.apache.cassandra.io.util.File;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.io.util.SimpleCachedBufferPool;
+import org.apache.cassandra.metrics.CommitLogMetrics;
 import org.apache.cassandra.schema.Schema;
 import org.apache.cassandra.schema.TableId;
 import org.apache.cassandra.schema.TableMetadata;
@@ -127,6 +129,9 @@ public abstract class AbstractCommitLogSegmentManager
         }
         else if (config.useCompression())
         {
+            if (config.diskAccessMode == DiskAccessMode.direct)
+                return new CompressedDirectIOSegment.CompressedDirectIOSegmentBuilder(this);
+
             assert config.diskAccessMode == DiskAccessMode.standard;
             return new CompressedSegment.CompressedSegmentBuilder(this);
         }
@@ -147,6 +152,11 @@ public abstract class AbstractCommitLogSegmentManager
         return commitLog.configuration;
     }
 
+    CommitLogMetrics getMetrics()
+    {
+        return commitLog.metrics;
+    }
+
     void start()
     {
         assert this.segmentBuilder == null;
@@ -444,7 +454,7 @@ public abstract class AbstractCommitLogSegmentManager
 
     private long unusedCapacity()
     {
-        long total = DatabaseDescriptor.getTotalCommitlogSpaceInMiB() * 1024 * 1024;
+        long total = commitLog.getTotalSpaceInMiB() * 1024 * 1024;
         long currentSize = size.get();
         logger.trace("Total active commitlog segment space used is {} out of {}", currentSize, total);
         return total - currentSize;
@@ -461,8 +471,8 @@ public abstract class AbstractCommitLogSegmentManager
             return ImmediateFuture.success(null);
         final CommitLogPosition maxCommitLogPosition = segments.get(segments.size() - 1).getCurrentCommitLogPosition();
 
-        // a map of CfId -> forceFlush() to ensure we only queue one flush per cf
-        final Map<TableId, Future<?>> flushes = new LinkedHashMap<>();
+        // the tables to flush, once each, by keyspace, so that those with little data may be flushed together
+        final Map<String, Set<ColumnFamilyStore>> flushes = new LinkedHashMap<>();
 
         for (CommitLogSegment segment : segments)
         {
@@ -478,7 +488,7 @@ public abstract class AbstractCommitLogSegmentManager
                     logger.trace("Marking clean CF {} that doesn't exist anymore", dirtyTableId);
                     segment.markClean(dirtyTableId, CommitLogPosition.NONE, segment.getCurrentCommitLogPosition());
                 }
-                else if (!flushes.containsKey(dirtyTableId))
+                else
                 {
                     final ColumnFamilyStore cfs = Keyspace.open(metadata.keyspace).getColumnFamilyStore(dirtyTableId);
 
@@ -489,17 +499,18 @@ public abstract class AbstractCommitLogSegmentManager
                     }
                     else
                     {
-                        // can safely call forceFlush here as we will only ever block (briefly) for other attempts to flush,
-                        // no deadlock possibility since switchLock removal
-                        flushes.put(dirtyTableId, force
-                                                  ? cfs.forceFlush(ColumnFamilyStore.FlushReason.COMMITLOG_DIRTY)
-                                                  : cfs.forceFlush(maxCommitLogPosition));
+                        flushes.computeIfAbsent(metadata.keyspace, keyspace -> new LinkedHashSet<>()).add(cfs);
                     }
                 }
             }
         }
 
-        return FutureCombiner.allOf(flushes.values());
+        // can safely flush here as we will only ever block (briefly) for other attempts to flush,
+        // no deadlock possibility since switchLock removal
+        List<Future<?>> futures = new ArrayList<>(flushes.size());
+        for (Set<ColumnFamilyStore> tables : flushes.values())
+            futures.add(ColumnFamilyStore.forceFlushTogether(tables, ColumnFamilyStore.FlushReason.COMMITLOG_DIRTY, force ? null : maxCommitLogPosition));
+        return FutureCombiner.allOf(futures);
     }
 
     /**
@@ -176,7 +176,8 @@ public abstract class AbstractCommitLogService
             {
                 // sync and signal
                 long pollStarted = clock.now();
-                boolean flushToDisk = lastSyncedAt + syncIntervalNanos <= pollStarted || state != NORMAL || syncRequested;
+                long syncInterval = nextSyncIntervalNanos();
+                boolean flushToDisk = lastSyncedAt + syncInterval <= pollStarted || state != NORMAL || syncRequested;
                 // synchronized to prevent thread interrupts while performing IO operations and also
                 // clear interrupted status to prevent ClosedByInterruptException in CommitLog::sync
                 synchronized (this)
@@ -190,6 +191,7 @@ public abstract class AbstractCommitLogService
                         lastSyncedAt = pollStarted;
                         syncComplete.signalAll();
                         syncCount++;
+                        onSyncToDisk(pollStarted, clock.now());
                     }
                     else
                     {
@@ -211,7 +213,7 @@ public abstract class AbstractCommitLogService
                     if (flushToDisk)
                         maybeLogFlushLag(pollStarted, now);
 
-                    long wakeUpAt = pollStarted + markerIntervalNanos;
+                    long wakeUpAt = pollStarted + Math.min(markerIntervalNanos, syncInterval);
                     if (wakeUpAt > now)
                         haveWork.tryAcquireUntil(1, wakeUpAt);
                 }
@@ -276,6 +278,22 @@ public abstract class AbstractCommitLogService
         }
     }
 
+    /**
+     * The duration between syncs to disk the sync thread should currently use, which is {@link #syncIntervalNanos}
+     * unless the service adapts it to the load.
+     */
+    long nextSyncIntervalNanos()
+    {
+        return syncIntervalNanos;
+    }
+
+    /**
+     * Called by the sync thread after each sync to disk, with the times the sync started and completed.
+     */
+    void onSyncToDisk(long startedAt, long completedAt)
+    {
+    }
+
     /**
      * Block for @param alloc to be sync'd as necessary, and handle bookkeeping
      */
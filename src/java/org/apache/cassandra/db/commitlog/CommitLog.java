@@ -20,13 +20,17 @@ package org.apache.cassandra.db.commitlog;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.FileStore;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +40,7 @@ import java.util.zip.CRC32;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ObjectArrays;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,18 +48,23 @@ import org.slf4j.LoggerFactory;
 import org.apache.cassandra.config.Config;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.config.ParameterizedClass;
+import org.apache.cassandra.config.SegregatedCommitLogOptions;
 import org.apache.cassandra.db.Mutation;
 import org.apache.cassandra.exceptions.CDCWriteException;
+import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.FSWriteError;
+import org.apache.cassandra.io.compress.BufferType;
 import org.apache.cassandra.io.compress.ICompressor;
 import org.apache.cassandra.io.util.BufferedDataOutputStreamPlus;
 import org.apache.cassandra.io.util.DataOutputBuffer;
 import org.apache.cassandra.io.util.DataOutputBufferFixed;
 import org.apache.cassandra.io.util.File;
+import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.io.util.PathUtils;
 import org.apache.cassandra.metrics.CommitLogMetrics;
 import org.apache.cassandra.net.MessagingService;
 import org.apache.cassandra.schema.CompressionParams;
+import org.apache.cassandra.schema.SchemaConstants;
 import org.apache.cassandra.schema.TableId;
 import org.apache.cassandra.security.EncryptionContext;
 import org.apache.cassandra.service.StorageService;
@@ -71,6 +81,13 @@ import static org.apache.cassandra.utils.FBUtilities.updateChecksumInt;
 /*
  * Commit Log tracks every write operation into the system. The aim of the commit log is to be able to
  * successfully recover data that was not stored to disk via the Memtable.
+ *
+ * The writes of the keyspaces listed in commitlog_segregated_keyspaces go to separate commit logs, each with its own
+ * directory, segment manager, sync service and space limit, so that the segments retained by the unflushed data of
+ * these keyspaces do not force flushes of the tables of other keyspaces, and vice versa. These commit logs are owned
+ * by the main commit log, which starts, stops and replays them along with itself; writers find the commit log of a
+ * keyspace with forKeyspace(String). The main commit log records their directories in its own, so that the segments
+ * left in the directory of a keyspace no longer segregated are still replayed.
  */
 public class CommitLog implements CommitLogMBean
 {
@@ -80,18 +97,53 @@ public class CommitLog implements CommitLogMBean
 
     private static final BiPredicate<File, String> unmanagedFilesFilter = (dir, name) -> CommitLogDescriptor.isValid(name) && CommitLogSegment.shouldReplay(name);
 
+    /**
+     * The file, in the directory of the main commit log, listing the directories the commit logs of the segregated
+     * keyspaces have used since the last replay.
+     */
+    @VisibleForTesting
+    static final String SEGREGATED_DIRECTORIES_FILE = "segregated_directories";
+
     final public AbstractCommitLogSegmentManager segmentManager;
 
     public final CommitLogArchiver archiver;
     public final CommitLogMetrics metrics;
     final AbstractCommitLogService executor;
 
+    /**
+     * The keyspace whose writes this commit log segregates, or {@code null} for the main commit log.
+     */
+    public final String keyspace;
+    /**
+     * The commit logs of the segregated keyspaces, by keyspace name; always empty for a segregated commit log.
+     */
+    private final Map<String, CommitLog> keyspaceLogs;
+
     volatile Configuration configuration;
     private boolean started = false;
 
     private static CommitLog construct()
     {
-        CommitLog log = new CommitLog(CommitLogArchiver.construct(), DatabaseDescriptor.getCommitLogSegmentMgrProvider());
+        CommitLogArchiver archiver = CommitLogArchiver.construct();
+        Map<String, CommitLog> keyspaceLogs = new HashMap<>();
+        for (Map.Entry<String, SegregatedCommitLogOptions> entry : DatabaseDescriptor.getSegregatedCommitLogs().entrySet())
+        {
+            String keyspace = entry.getKey();
+            if (SchemaConstants.isSystemKeyspace(keyspace))
+                throw new ConfigurationException("The commit log of system keyspace " + keyspace + " cannot be segregated", false);
+
+            String directory = entry.getValue().directory;
+            CommitLog keyspaceLog = new CommitLog(archiver,
+                                                  c -> DatabaseDescriptor.isCDCEnabled()
+                                                       ? new CommitLogSegmentManagerCDC(c, directory)
+                                                       : new CommitLogSegmentManagerStandard(c, directory),
+                                                  keyspace,
+                                                  Collections.emptyMap());
+            MBeanWrapper.instance.registerMBean(keyspaceLog, "org.apache.cassandra.db:type=Commitlog,keyspace=" + keyspace);
+            keyspaceLogs.put(keyspace, keyspaceLog);
+        }
+
+        CommitLog log = new CommitLog(archiver, DatabaseDescriptor.getCommitLogSegmentMgrProvider(), null, keyspaceLogs);
         MBeanWrapper.instance.registerMBean(log, "org.apache.cassandra.db:type=Commitlog");
         return log;
     }
@@ -105,13 +157,25 @@ public class CommitLog implements CommitLogMBean
     @VisibleForTesting
     CommitLog(CommitLogArchiver archiver, Function<CommitLog, AbstractCommitLogSegmentManager> segmentManagerProvider)
     {
+        this(archiver, segmentManagerProvider, null, Collections.emptyMap());
+    }
+
+    @VisibleForTesting
+    CommitLog(CommitLogArchiver archiver,
+              Function<CommitLog, AbstractCommitLogSegmentManager> segmentManagerProvider,
+              String keyspace,
+              Map<String, CommitLog> keyspaceLogs)
+    {
+        assert keyspace == null || keyspaceLogs.isEmpty();
+        this.keyspace = keyspace;
+        this.keyspaceLogs = keyspaceLogs;
         this.configuration = new Configuration(DatabaseDescriptor.getCommitLogCompression(),
                                                DatabaseDescriptor.getEncryptionContext(),
                                                DatabaseDescriptor.getCommitLogWriteDiskAccessMode());
         DatabaseDescriptor.createAllDirectories();
 
         this.archiver = archiver;
-        metrics = new CommitLogMetrics();
+        metrics = keyspace == null ? new CommitLogMetrics() : new CommitLogMetrics(keyspace);
 
         switch (DatabaseDescriptor.getCommitLogSync())
         {
@@ -146,6 +210,14 @@ public class CommitLog implements CommitLogMBean
         {
             segmentManager.start();
             executor.start();
+            for (CommitLog keyspaceLog : keyspaceLogs.values())
+                keyspaceLog.start();
+            if (keyspace == null)
+            {
+                Set<String> directories = new LinkedHashSet<>(recordedSegregatedDirectories());
+                directories.addAll(segregatedDirectories());
+                recordSegregatedDirectories(directories);
+            }
             started = true;
         } catch (Throwable t)
         {
@@ -160,21 +232,101 @@ public class CommitLog implements CommitLogMBean
         return started;
     }
 
+    /**
+     * @return the commit log the writes of the given keyspace go to
+     */
+    public CommitLog forKeyspace(String keyspace)
+    {
+        return keyspaceLogs.getOrDefault(keyspace, this);
+    }
+
+    /**
+     * @return the commit logs of the segregated keyspaces
+     */
+    public Collection<CommitLog> keyspaceLogs()
+    {
+        return keyspaceLogs.values();
+    }
+
     public boolean hasFilesToReplay()
     {
         return getUnmanagedFiles().length > 0;
     }
 
+    /**
+     * @return the segment files not managed by this commit log or by the commit logs of the segregated keyspaces,
+     * including those left by the commit logs of keyspaces no longer segregated
+     */
     private File[] getUnmanagedFiles()
     {
-        File[] files = new File(segmentManager.storageDirectory).tryList(unmanagedFilesFilter);
+        File[] files = ObjectArrays.concat(getOwnUnmanagedFiles(), getLeftoverFiles(), File.class);
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            files = ObjectArrays.concat(files, keyspaceLog.getOwnUnmanagedFiles(), File.class);
+        return files;
+    }
+
+    private File[] getOwnUnmanagedFiles()
+    {
+        return listSegments(new File(segmentManager.storageDirectory));
+    }
+
+    private static File[] listSegments(File directory)
+    {
+        File[] files = directory.tryList(unmanagedFilesFilter);
         if (files == null)
             return new File[0];
         return files;
     }
 
     /**
-     * Perform recovery on commit logs located in the directory specified by the config file.
+     * @return the segment files in the recorded directories of segregated commit logs which are no longer used by any
+     * commit log, i.e. those of the keyspaces removed from commitlog_segregated_keyspaces or moved to another directory
+     */
+    private File[] getLeftoverFiles()
+    {
+        Set<String> directories = segregatedDirectories();
+        directories.add(new File(segmentManager.storageDirectory).toAbsolute().path());
+
+        File[] files = new File[0];
+        for (String directory : recordedSegregatedDirectories())
+        {
+            if (directories.contains(directory))
+                continue;
+
+            files = ObjectArrays.concat(files, listSegments(new File(directory)), File.class);
+        }
+        return files;
+    }
+
+    /**
+     * @return the absolute directories of the commit logs of the segregated keyspaces
+     */
+    private Set<String> segregatedDirectories()
+    {
+        Set<String> directories = new LinkedHashSet<>();
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            directories.add(new File(keyspaceLog.segmentManager.storageDirectory).toAbsolute().path());
+        return directories;
+    }
+
+    private List<String> recordedSegregatedDirectories()
+    {
+        return FileUtils.readLines(new File(segmentManager.storageDirectory, SEGREGATED_DIRECTORIES_FILE));
+    }
+
+    private void recordSegregatedDirectories(Collection<String> directories)
+    {
+        File file = new File(segmentManager.storageDirectory, SEGREGATED_DIRECTORIES_FILE);
+        if (directories.isEmpty())
+            file.deleteIfExists();
+        else
+            FileUtils.write(file, new ArrayList<>(directories), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+    }
+
+    /**
+     * Perform recovery on commit logs located in the directory specified by the config file, and in the directories
+     * of the commit logs of the segregated keyspaces. The segments of all the commit logs are replayed together, as
+     * the positions persisted by the tables of every keyspace are compared to the segments of any of them.
      *
      * @return the number of mutations replayed
      * @throws IOException
@@ -203,6 +355,9 @@ public class CommitLog implements CommitLogMBean
         else
         {
             Arrays.sort(files, new CommitLogSegment.CommitLogSegmentFileComparator());
+            File[] leftover = getLeftoverFiles();
+            if (leftover.length > 0)
+                logger.warn("Replaying {} left in directories no longer used by any segregated commit log", StringUtils.join(leftover, ", "));
             logger.info("Replaying {}", StringUtils.join(files, ", "));
             long startTime = nanoTime();
             replayed = recoverFiles(files);
@@ -210,10 +365,17 @@ public class CommitLog implements CommitLogMBean
             logger.info("Log replay complete, {} replayed mutations in {} ms", replayed,
                         TimeUnit.NANOSECONDS.toMillis(endTime - startTime));
 
-            for (File f : files)
+            for (File f : getOwnUnmanagedFiles())
                 segmentManager.handleReplayedSegment(f);
+            for (File f : getLeftoverFiles())
+                segmentManager.handleReplayedSegment(f);
+            for (CommitLog keyspaceLog : keyspaceLogs.values())
+                for (File f : keyspaceLog.getOwnUnmanagedFiles())
+                    keyspaceLog.segmentManager.handleReplayedSegment(f);
         }
 
+        // the leftover segments are replayed, so only the directories in use remain to be checked on the next start
+        recordSegregatedDirectories(segregatedDirectories());
         return replayed;
     }
 
@@ -268,11 +430,14 @@ public class CommitLog implements CommitLogMBean
     }
 
     /**
-     * Flushes all dirty CFs, waiting for them to free and recycle any segments they were retaining
+     * Flushes all dirty CFs, waiting for them to free and recycle any segments they were retaining, in this commit log
+     * and the commit logs of the segregated keyspaces
      */
     public void forceRecycleAllSegments()
     {
         segmentManager.forceRecycleAll(Collections.emptyList());
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            keyspaceLog.forceRecycleAllSegments();
     }
 
     /**
@@ -507,6 +672,8 @@ public class CommitLog implements CommitLogMBean
         executor.awaitTermination();
         segmentManager.shutdown();
         segmentManager.awaitTermination(1L, TimeUnit.MINUTES);
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            keyspaceLog.shutdownBlocking();
     }
 
     /**
@@ -530,6 +697,8 @@ public class CommitLog implements CommitLogMBean
         configuration = new Configuration(DatabaseDescriptor.getCommitLogCompression(),
                                           DatabaseDescriptor.getEncryptionContext(),
                                           DatabaseDescriptor.getCommitLogWriteDiskAccessMode());
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            keyspaceLog.resetConfiguration();
     }
 
     /**
@@ -552,6 +721,8 @@ public class CommitLog implements CommitLogMBean
             throw new UncheckedInterruptedException(e);
         }
         segmentManager.stopUnsafe(deleteSegments);
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            keyspaceLog.stopUnsafe(deleteSegments);
         CommitLogSegment.resetReplayLimit();
         if (DatabaseDescriptor.isCDCEnabled() && deleteSegments)
             for (File f : new File(DatabaseDescriptor.getCDCLogLocation()).tryList())
@@ -565,9 +736,21 @@ public class CommitLog implements CommitLogMBean
     synchronized public int restartUnsafe() throws IOException
     {
         started = false;
+        for (CommitLog keyspaceLog : keyspaceLogs.values())
+            keyspaceLog.started = false;
         return start().recoverSegmentsOnDisk();
     }
 
+    /**
+     * @return the space limit of this commit log, in MiB
+     */
+    long getTotalSpaceInMiB()
+    {
+        SegregatedCommitLogOptions options = keyspace == null ? null : DatabaseDescriptor.getSegregatedCommitLogs().get(keyspace);
+        return options == null || options.total_space == null ? DatabaseDescriptor.getTotalCommitlogSpaceInMiB()
+                                                              : options.total_space.toMebibytes();
+    }
+
     public static long freeDiskSpace()
     {
         return PathUtils.tryGetSpace(new File(DatabaseDescriptor.getCommitLogLocation()).toPath(), FileStore::getTotalSpace);
@@ -644,6 +827,11 @@ public class CommitLog implements CommitLogMBean
             this.compressor = compressorClass != null ? CompressionParams.createCompressor(compressorClass) : null;
             this.encryptionContext = encryptionContext;
             this.diskAccessMode = diskAccessMode;
+
+            // compressed Direct-IO segments compress into off-heap buffers
+            if (compressor != null && diskAccessMode == Config.DiskAccessMode.direct && !compressor.supports(BufferType.OFF_HEAP))
+                throw new ConfigurationException(String.format("commitlog_disk_access_mode = direct is not supported with the %s commit log compressor, " +
+                                                               "which does not support off-heap buffers", compressor.getClass().getSimpleName()), false);
         }
 
         /**
@@ -20,6 +20,9 @@ package org.apache.cassandra.db.commitlog;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -33,10 +36,12 @@ import org.apache.cassandra.io.util.File;
 import org.apache.commons.lang3.StringUtils;
 
 import org.apache.cassandra.utils.concurrent.Future;
+import org.apache.cassandra.utils.concurrent.UncheckedInterruptedException;
 import org.cliffc.high_scale_lib.NonBlockingHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.cassandra.concurrent.ExecutorPlus;
 import org.apache.cassandra.concurrent.Stage;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.ColumnFamilyStore;
@@ -47,17 +52,21 @@ import org.apache.cassandra.db.partitions.PartitionUpdate;
 import org.apache.cassandra.io.sstable.format.SSTableReader;
 import org.apache.cassandra.io.util.FileUtils;
 import org.apache.cassandra.io.util.RandomAccessReader;
+import org.apache.cassandra.metrics.CommitLogMetrics;
 import org.apache.cassandra.schema.Schema;
 import org.apache.cassandra.schema.SchemaConstants;
 import org.apache.cassandra.schema.TableId;
 import org.apache.cassandra.schema.TableMetadataRef;
 import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.Throwables;
 import org.apache.cassandra.utils.WrappedRunnable;
 
 import static java.lang.String.format;
+import static org.apache.cassandra.concurrent.ExecutorFactory.Global.executorFactory;
 import static org.apache.cassandra.config.CassandraRelevantProperties.COMMITLOG_IGNORE_REPLAY_ERRORS;
 import static org.apache.cassandra.config.CassandraRelevantProperties.COMMITLOG_MAX_OUTSTANDING_REPLAY_BYTES;
 import static org.apache.cassandra.config.CassandraRelevantProperties.COMMITLOG_MAX_OUTSTANDING_REPLAY_COUNT;
+import static org.apache.cassandra.config.CassandraRelevantProperties.COMMITLOG_REPLAY_THREADS;
 import static org.apache.cassandra.config.CassandraRelevantProperties.COMMIT_LOG_REPLAY_LIST;
 
 public class CommitLogReplayer implements CommitLogReadHandler
@@ -70,17 +79,20 @@ public class CommitLogReplayer implements CommitLogReadHandler
     private static final int MAX_OUTSTANDING_REPLAY_COUNT = COMMITLOG_MAX_OUTSTANDING_REPLAY_COUNT.getInt();
 
     private final Set<Keyspace> keyspacesReplayed;
-    private final Queue<Future<Integer>> futures;
+    private final OutstandingMutations outstanding;
 
     private final AtomicInteger replayedCount;
     private final Map<TableId, IntervalSet<CommitLogPosition>> cfPersisted;
     private final CommitLogPosition globalPosition;
 
-    // Used to throttle speed of replay of mutations if we pass the max outstanding count
-    private long pendingMutationBytes = 0;
-
     private final ReplayFilter replayFilter;
     private final CommitLogArchiver archiver;
+    private final CommitLogMetrics metrics;
+    private final int replayThreads;
+    // the readers of the segments replayed concurrently, in addition to commitLogReader
+    private final List<CommitLogReader> concurrentReaders = new CopyOnWriteArrayList<>();
+    /** The segments of the ongoing {@link #replayFiles} counted in {@link CommitLogMetrics#pendingReplaySegments} */
+    private final AtomicInteger pendingSegments = new AtomicInteger();
 
     @VisibleForTesting
     protected boolean sawCDCMutation;
@@ -92,15 +104,31 @@ public class CommitLogReplayer implements CommitLogReadHandler
                       CommitLogPosition globalPosition,
                       Map<TableId, IntervalSet<CommitLogPosition>> cfPersisted,
                       ReplayFilter replayFilter)
+    {
+        this(commitLog, globalPosition, cfPersisted, replayFilter, 1);
+    }
+
+    /**
+     * @param replayThreads the maximum number of segments read concurrently by {@link #replayFiles}; segments are
+     *                      only read concurrently by readers created by the replayer, so subclasses setting their own
+     *                      {@link #commitLogReader} must use 1.
+     */
+    CommitLogReplayer(CommitLog commitLog,
+                      CommitLogPosition globalPosition,
+                      Map<TableId, IntervalSet<CommitLogPosition>> cfPersisted,
+                      ReplayFilter replayFilter,
+                      int replayThreads)
     {
         this.keyspacesReplayed = new NonBlockingHashSet<>();
-        this.futures = new ArrayDeque<>();
+        this.outstanding = new OutstandingMutations(MAX_OUTSTANDING_REPLAY_COUNT, MAX_OUTSTANDING_REPLAY_BYTES);
         // count the number of replayed mutation. We don't really care about atomicity, but we need it to be a reference.
         this.replayedCount = new AtomicInteger();
         this.cfPersisted = cfPersisted;
         this.globalPosition = globalPosition;
         this.replayFilter = replayFilter;
         this.archiver = commitLog.archiver;
+        this.metrics = commitLog.metrics;
+        this.replayThreads = replayThreads;
         this.commitLogReader = new CommitLogReader();
     }
 
@@ -148,7 +176,7 @@ public class CommitLogReplayer implements CommitLogReadHandler
                     if (commitLog.archiver.restorePointInTime == Long.MAX_VALUE)
                     {
                         // Normal restart, everything is persisted and restored by the memtable itself.
-                        filter = new IntervalSet<>(CommitLogPosition.NONE, CommitLog.instance.getCurrentPosition());
+                        filter = new IntervalSet<>(CommitLogPosition.NONE, CommitLog.instance.forKeyspace(cfs.getKeyspaceName()).getCurrentPosition());
                     }
                     else
                     {
@@ -173,7 +201,8 @@ public class CommitLogReplayer implements CommitLogReadHandler
         }
         CommitLogPosition globalPosition = firstNotCovered(cfPersisted.values());
         logger.debug("Global replay position is {} from columnfamilies {}", globalPosition, FBUtilities.toString(cfPersisted));
-        return new CommitLogReplayer(commitLog, globalPosition, cfPersisted, replayFilter);
+        int replayThreads = COMMITLOG_REPLAY_THREADS.getInt(Math.max(1, FBUtilities.getAvailableProcessors() / 2));
+        return new CommitLogReplayer(commitLog, globalPosition, cfPersisted, replayFilter, replayThreads);
     }
 
     public void replayPath(File file, boolean tolerateTruncation) throws IOException
@@ -187,17 +216,110 @@ public class CommitLogReplayer implements CommitLogReadHandler
     public void replayFiles(File[] clogs) throws IOException
     {
         List<File> filteredLogs = CommitLogReader.filterCommitLogFiles(clogs);
-        int i = 0;
-        for (File file: filteredLogs)
+        metrics.pendingReplaySegments.inc(filteredLogs.size());
+        pendingSegments.addAndGet(filteredLogs.size());
+        try
         {
-            i++;
-            sawCDCMutation = false;
-            commitLogReader.readCommitLogSegment(this, file, globalPosition, i == filteredLogs.size());
-            if (sawCDCMutation)
-                handleCDCReplayCompletion(file);
+            int threads = Math.min(replayThreads, filteredLogs.size());
+            if (threads > 1)
+            {
+                replayFilesConcurrently(filteredLogs, threads);
+                return;
+            }
+
+            int i = 0;
+            for (File file: filteredLogs)
+            {
+                i++;
+                sawCDCMutation = false;
+                commitLogReader.readCommitLogSegment(this, file, globalPosition, i == filteredLogs.size());
+                if (sawCDCMutation)
+                    handleCDCReplayCompletion(file);
+                segmentReplayed();
+            }
+        }
+        finally
+        {
+            // the segments left unread by a failed replay are no longer pending
+            metrics.pendingReplaySegments.dec(pendingSegments.getAndSet(0));
         }
     }
 
+    /**
+     * Reads the given segments with the given number of threads, each taking the next segment to read once done
+     * with its previous one. As mutations are reconciled by timestamp, the order in which they are applied does not
+     * matter, so the segments may be read, and their mutations applied, in any order. Each thread throttles the
+     * mutations it submits to its share of the maximum outstanding mutations.
+     */
+    private void replayFilesConcurrently(List<File> files, int threads) throws IOException
+    {
+        logger.info("Replaying {} commit log segments with {} threads", files.size(), threads);
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        ExecutorPlus executor = executorFactory().pooled("CommitLogReplay", threads);
+        try
+        {
+            List<Future<?>> readers = new ArrayList<>(threads);
+            for (int thread = 0; thread < threads; thread++)
+            {
+                readers.add(executor.submit(() -> {
+                    SegmentReplayHandler handler = new SegmentReplayHandler(threads);
+                    CommitLogReader reader = new CommitLogReader();
+                    concurrentReaders.add(reader);
+                    try
+                    {
+                        int i;
+                        while (!failed.get() && (i = next.getAndIncrement()) < files.size())
+                        {
+                            File file = files.get(i);
+                            handler.sawCDCMutation = false;
+                            reader.readCommitLogSegment(handler, file, globalPosition, i == files.size() - 1);
+                            if (handler.sawCDCMutation)
+                                handleCDCReplayCompletion(file);
+                            segmentReplayed();
+                        }
+                        handler.mutations.waitForAll();
+                        return null;
+                    }
+                    catch (Throwable t)
+                    {
+                        failed.set(true);
+                        throw t;
+                    }
+                }));
+            }
+
+            Throwable fail = null;
+            for (Future<?> reader : readers)
+            {
+                try
+                {
+                    reader.get();
+                }
+                catch (ExecutionException e)
+                {
+                    fail = Throwables.merge(fail, e.getCause());
+                }
+                catch (InterruptedException e)
+                {
+                    throw new UncheckedInterruptedException(e);
+                }
+            }
+            Throwables.maybeFail(fail, IOException.class);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private void segmentReplayed()
+    {
+        pendingSegments.decrementAndGet();
+        metrics.pendingReplaySegments.dec();
+        metrics.replayedSegments.inc();
+    }
+
 
     /**
      * Upon replay completion, CDC needs to hard-link files in the CDC folder and calculate index files so consumers can
@@ -233,15 +355,18 @@ public class CommitLogReplayer implements CommitLogReadHandler
      */
     public int blockForWrites()
     {
-        for (Map.Entry<TableId, AtomicInteger> entry : commitLogReader.getInvalidMutations())
+        Map<TableId, Integer> invalidMutations = new HashMap<>();
+        for (CommitLogReader reader : Iterables.concat(Collections.singleton(commitLogReader), concurrentReaders))
+            for (Map.Entry<TableId, AtomicInteger> entry : reader.getInvalidMutations())
+                invalidMutations.merge(entry.getKey(), entry.getValue().get(), Integer::sum);
+        for (Map.Entry<TableId, Integer> entry : invalidMutations.entrySet())
             logger.warn("Skipped {} mutations from unknown (probably removed) CF with id {}", entry.getValue(), entry.getKey());
 
         // wait for all the writes to finish on the mutation stage
-        FBUtilities.waitOnFutures(futures);
+        outstanding.waitForAll();
         logger.trace("Finished waiting on mutations from recovery");
 
         // flush replayed keyspaces
-        futures.clear();
         boolean flushingSystem = false;
 
         List<Future<?>> futures = new ArrayList<Future<?>>();
@@ -315,6 +440,7 @@ public class CommitLogReplayer implements CommitLogReadHandler
 
                         Keyspace.open(newPUCollector.getKeyspaceName()).apply(newPUCollector.build(), false, true, false);
                         commitLogReplayer.keyspacesReplayed.add(keyspace);
+                        commitLogReplayer.metrics.replayedMutations.mark();
                     }
                 }
             };
@@ -506,20 +632,12 @@ public class CommitLogReplayer implements CommitLogReadHandler
         if (DatabaseDescriptor.isCDCEnabled() && m.trackedByCDC())
             sawCDCMutation = true;
 
-        pendingMutationBytes += size;
-        futures.offer(mutationInitiator.initiateMutation(m,
-                                                         desc.id,
-                                                         size,
-                                                         entryLocation,
-                                                         this));
-        // If there are finished mutations, or too many outstanding bytes/mutations
-        // drain the futures in the queue
-        while (futures.size() > MAX_OUTSTANDING_REPLAY_COUNT
-               || pendingMutationBytes > MAX_OUTSTANDING_REPLAY_BYTES
-               || (!futures.isEmpty() && futures.peek().isDone()))
-        {
-            pendingMutationBytes -= FBUtilities.waitOnFuture(futures.poll());
-        }
+        outstanding.add(mutationInitiator.initiateMutation(m,
+                                                           desc.id,
+                                                           size,
+                                                           entryLocation,
+                                                           this),
+                        size);
     }
 
     public boolean shouldSkipSegmentOnError(CommitLogReadException exception) throws IOException
@@ -547,6 +665,87 @@ public class CommitLogReplayer implements CommitLogReadHandler
         shouldSkipSegmentOnError(exception);
     }
 
+    /**
+     * The mutations submitted by a reader that have not completed yet, which are throttled to a maximum count and size.
+     */
+    private static class OutstandingMutations
+    {
+        private final int maxCount;
+        private final long maxBytes;
+        private final Queue<Future<Integer>> futures = new ArrayDeque<>();
+        // Used to throttle speed of replay of mutations if we pass the max outstanding count
+        private long pendingMutationBytes = 0;
+
+        OutstandingMutations(int maxCount, long maxBytes)
+        {
+            this.maxCount = maxCount;
+            this.maxBytes = maxBytes;
+        }
+
+        void add(Future<Integer> future, int size)
+        {
+            pendingMutationBytes += size;
+            futures.offer(future);
+            // If there are finished mutations, or too many outstanding bytes/mutations
+            // drain the futures in the queue
+            while (futures.size() > maxCount
+                   || pendingMutationBytes > maxBytes
+                   || (!futures.isEmpty() && futures.peek().isDone()))
+            {
+                pendingMutationBytes -= FBUtilities.waitOnFuture(futures.poll());
+            }
+        }
+
+        void waitForAll()
+        {
+            FBUtilities.waitOnFutures(futures);
+            futures.clear();
+            pendingMutationBytes = 0;
+        }
+    }
+
+    /**
+     * Handles the mutations of the segments read by one of the threads of a concurrent replay, throttled to its share
+     * of the maximum outstanding mutations.
+     */
+    private class SegmentReplayHandler implements CommitLogReadHandler
+    {
+        private final OutstandingMutations mutations;
+        private boolean sawCDCMutation;
+
+        SegmentReplayHandler(int threads)
+        {
+            this.mutations = new OutstandingMutations(Math.max(1, MAX_OUTSTANDING_REPLAY_COUNT / threads),
+                                                      MAX_OUTSTANDING_REPLAY_BYTES / threads);
+        }
+
+        @Override
+        public boolean shouldSkipSegmentOnError(CommitLogReadException exception) throws IOException
+        {
+            return CommitLogReplayer.this.shouldSkipSegmentOnError(exception);
+        }
+
+        @Override
+        public void handleUnrecoverableError(CommitLogReadException exception) throws IOException
+        {
+            CommitLogReplayer.this.handleUnrecoverableError(exception);
+        }
+
+        @Override
+        public void handleMutation(Mutation m, int size, int entryLocation, CommitLogDescriptor desc)
+        {
+            if (DatabaseDescriptor.isCDCEnabled() && m.trackedByCDC())
+                sawCDCMutation = true;
+
+            mutations.add(mutationInitiator.initiateMutation(m,
+                                                             desc.id,
+                                                             size,
+                                                             entryLocation,
+                                                             CommitLogReplayer.this),
+                          size);
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class CommitLogReplayException extends IOException
     {
@@ -40,6 +40,7 @@ import org.cliffc.high_scale_lib.NonBlockingHashMap;
 import com.codahale.metrics.Timer;
 import net.openhft.chronicle.core.util.ThrowingFunction;
 import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.config.SegregatedCommitLogOptions;
 import org.apache.cassandra.db.Mutation;
 import org.apache.cassandra.db.partitions.PartitionUpdate;
 import org.apache.cassandra.io.FSWriteError;
@@ -80,11 +81,20 @@ public abstract class CommitLogSegment
     private static long replayLimitId;
     static
     {
+        // segment ids are unique across the main commit log and the commit logs of the segregated keyspaces
+        List<String> directories = new ArrayList<>();
+        directories.add(DatabaseDescriptor.getCommitLogLocation());
+        for (SegregatedCommitLogOptions options : DatabaseDescriptor.getSegregatedCommitLogs().values())
+            directories.add(options.directory);
+
         long maxId = Long.MIN_VALUE;
-        for (File file : new File(DatabaseDescriptor.getCommitLogLocation()).tryList())
+        for (String directory : directories)
         {
-            if (CommitLogDescriptor.isValid(file.name()))
-                maxId = Math.max(CommitLogDescriptor.fromFileName(file.name()).id, maxId);
+            for (File file : new File(directory).tryList())
+            {
+                if (CommitLogDescriptor.isValid(file.name()))
+                    maxId = Math.max(CommitLogDescriptor.fromFileName(file.name()).id, maxId);
+            }
         }
         replayLimitId = idBase = Math.max(currentTimeMillis(), maxId + 1);
     }
@@ -354,7 +364,7 @@ public abstract class CommitLogSegment
 
         if (flush || close)
         {
-            try (Timer.Context ignored = CommitLog.instance.metrics.waitingOnFlush.time())
+            try (Timer.Context ignored = manager.getMetrics().waitingOnFlush.time())
             {
                 flush(startMarker, sectionEnd);
             }
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.commitlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import net.openhft.chronicle.core.util.ThrowingFunction;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.io.FSWriteError;
+import org.apache.cassandra.io.compress.BufferType;
+import org.apache.cassandra.io.compress.ICompressor;
+import org.apache.cassandra.io.util.File;
+import org.apache.cassandra.io.util.FileUtils;
+import org.apache.cassandra.io.util.SimpleCachedBufferPool;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.SyncUtil;
+
+import static org.apache.cassandra.db.commitlog.CompressedSegment.COMPRESSED_MARKER_SIZE;
+
+/**
+ * Compressed commit log segment written with Direct-IO. The file format is the same as {@link CompressedSegment}'s,
+ * but the sections are compressed into block-aligned off-heap buffers obtained from the segment manager's buffer pool
+ * and written bypassing the page cache.
+ * <p>
+ * As Direct-IO writes whole file system blocks, the last partially written block of the file is kept and rewritten,
+ * followed by the next section, on the next sync. The remainder of that block is written as zeroes, which the reader
+ * takes for the end of the segment.
+ */
+public class CompressedDirectIOSegment extends CommitLogSegment
+{
+    final ICompressor compressor;
+
+    private final int fsBlockSize;
+    private final int fsBlockRemainderMask;
+
+    // the content of the last partially written block of the file
+    private final ByteBuffer tail;
+
+    // the end of the data written to the file
+    volatile long lastWrittenPos = 0;
+
+    // the number of bytes written to the file, in multiple of the block size
+    long lastWritten = 0;
+
+    /**
+     * Constructs a new segment file.
+     */
+    CompressedDirectIOSegment(AbstractCommitLogSegmentManager manager, ThrowingFunction<Path, FileChannel, IOException> channelFactory, int fsBlockSize)
+    {
+        super(manager, channelFactory);
+
+        assert Integer.highestOneBit(fsBlockSize) == fsBlockSize : "fsBlockSize must be a power of 2";
+
+        this.compressor = manager.getConfiguration().getCompressor();
+        this.fsBlockSize = fsBlockSize;
+        this.fsBlockRemainderMask = fsBlockSize - 1;
+        this.tail = ByteBuffer.allocate(fsBlockSize);
+    }
+
+    @Override
+    void writeLogHeader()
+    {
+        super.writeLogHeader();
+        try
+        {
+            ByteBuffer header = buffer.duplicate().flip();
+            ByteBuffer staging = stagingBuffer(header.remaining());
+            staging.put(header);
+            writeStaged(staging);
+        }
+        catch (IOException e)
+        {
+            throw new FSWriteError(e, getPath());
+        }
+    }
+
+    @Override
+    void write(int startMarker, int nextMarker)
+    {
+        int contentStart = startMarker + SYNC_MARKER_SIZE;
+        int length = nextMarker - contentStart;
+        // The length may be 0 when the segment is being closed.
+        assert length > 0 || length == 0 && !isStillAllocating();
+
+        try
+        {
+            ByteBuffer staging = stagingBuffer(compressor.initialCompressedBufferLength(length) + COMPRESSED_MARKER_SIZE);
+            int markerPosition = staging.position();
+
+            ByteBuffer inputBuffer = buffer.duplicate();
+            inputBuffer.limit(contentStart + length).position(contentStart);
+            staging.position(markerPosition + COMPRESSED_MARKER_SIZE);
+            compressor.compress(inputBuffer, staging);
+
+            staging.putInt(markerPosition + SYNC_MARKER_SIZE, length);
+
+            // Only one thread can be here at a given time.
+            // Protected by synchronization on CommitLogSegment.sync().
+            int filePosition = (int) lastWrittenPos;
+            writeSyncMarker(id, staging, markerPosition, filePosition, filePosition + staging.position() - markerPosition);
+            writeStaged(staging);
+        }
+        catch (Exception e)
+        {
+            throw new FSWriteError(e, getPath());
+        }
+    }
+
+    /**
+     * Returns a block-aligned buffer with room for {@code size} bytes after the content of the last partially written
+     * block of the file, which it starts with.
+     */
+    private ByteBuffer stagingBuffer(int size)
+    {
+        int tailLength = tail.position();
+        int alignedSize = align(tailLength + size);
+        // oversize the buffer so that its aligned slice holds alignedSize bytes, see DirectIOSegmentBuilder
+        ByteBuffer staging = manager.getBufferPool()
+                                    .getThreadLocalReusableBuffer(alignedSize + fsBlockSize - 1)
+                                    .alignedSlice(fsBlockSize);
+        assert staging.capacity() >= alignedSize;
+
+        staging.put(tail.duplicate().flip());
+        return staging;
+    }
+
+    /**
+     * Writes the content of the staging buffer up to its position, padded with zeroes to the end of its last block,
+     * from the start of the last partially written block of the file, and keeps the new partially written block.
+     */
+    private void writeStaged(ByteBuffer staging) throws IOException
+    {
+        int end = staging.position();
+        int alignedEnd = align(end);
+        ByteBufferUtil.writeZeroes(staging.duplicate(), alignedEnd - end);
+
+        long blockStart = lastWrittenPos & -fsBlockSize;
+        ByteBuffer toWrite = staging.duplicate();
+        toWrite.limit(alignedEnd).position(0);
+        while (toWrite.hasRemaining())
+            channel.write(toWrite, blockStart + toWrite.position());
+
+        // Avoid counting the rewritten block more than once.
+        if (blockStart + alignedEnd > lastWritten)
+        {
+            manager.addSize(blockStart + alignedEnd - lastWritten);
+            lastWritten = blockStart + alignedEnd;
+        }
+        lastWrittenPos = blockStart + end;
+
+        int tailLength = end & fsBlockRemainderMask;
+        ByteBuffer newTail = staging.duplicate();
+        newTail.limit(end).position(end - tailLength);
+        tail.clear();
+        tail.put(newTail);
+    }
+
+    private int align(int size)
+    {
+        return (size + fsBlockSize - 1) & -fsBlockSize;
+    }
+
+    @Override
+    protected void flush(int startMarker, int nextMarker)
+    {
+        try
+        {
+            SyncUtil.force(channel, true);
+        }
+        catch (Exception e)
+        {
+            throw new FSWriteError(e, getPath());
+        }
+    }
+
+    @Override
+    public long onDiskSize()
+    {
+        return lastWritten;
+    }
+
+    @Override
+    protected void internalClose()
+    {
+        try
+        {
+            manager.getBufferPool().releaseBuffer(buffer);
+            super.internalClose();
+        }
+        finally
+        {
+            manager.notifyBufferFreed();
+        }
+    }
+
+    protected static class CompressedDirectIOSegmentBuilder extends CommitLogSegment.Builder
+    {
+        public final int fsBlockSize;
+
+        public CompressedDirectIOSegmentBuilder(AbstractCommitLogSegmentManager segmentManager)
+        {
+            this(segmentManager, FileUtils.getBlockSize(new File(segmentManager.storageDirectory)));
+        }
+
+        @VisibleForTesting
+        public CompressedDirectIOSegmentBuilder(AbstractCommitLogSegmentManager segmentManager, int fsBlockSize)
+        {
+            super(segmentManager);
+            this.fsBlockSize = fsBlockSize;
+        }
+
+        @Override
+        public CompressedDirectIOSegment build()
+        {
+            return new CompressedDirectIOSegment(segmentManager,
+                                                 path -> FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.READ, StandardOpenOption.CREATE, ExtendedOpenOption.DIRECT),
+                                                 fsBlockSize);
+        }
+
+        @Override
+        public SimpleCachedBufferPool createBufferPool()
+        {
+            // the compressor supports off-heap buffers, see CommitLog.Configuration; the reusable buffers the sections
+            // are compressed into must be off-heap to be written with Direct-IO
+            return new SimpleCachedBufferPool(DatabaseDescriptor.getCommitLogMaxCompressionBuffersInPool(),
+                                              DatabaseDescriptor.getCommitLogSegmentSize(),
+                                              BufferType.OFF_HEAP);
+        }
+    }
+}
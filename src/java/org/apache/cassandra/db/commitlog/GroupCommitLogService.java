@@ -18,26 +18,119 @@
 
 package org.apache.cassandra.db.commitlog;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+
 import org.apache.cassandra.config.DatabaseDescriptor;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  * A commitlog service that will block returning an ACK back to the a coordinator/client
  * for a minimum amount of time as we wait until the the commit log segment is flushed.
+ * <p>
+ * In adaptive mode ({@code commitlog_sync_group_adaptive}), the window is sized from the measured sync latency and
+ * arrival rate of writes, with {@code commitlog_sync_group_window} as its upper bound: when fewer than one write is
+ * expected to arrive during a sync, writes request a sync immediately, as in batch mode; otherwise syncs are spaced
+ * by about the sync latency, so that each sync makes durable the writes that arrived during the previous one.
  */
 public class GroupCommitLogService extends AbstractCommitLogService
 {
+    /** The weight of the last sync in the moving averages of the sync latency and arrival rate. */
+    private static final double ALPHA = 0.25;
+
+    private final boolean adaptive;
+
+    /** The number of writes that started waiting since the last sync. */
+    private final AtomicLong arrivals = new AtomicLong();
+
+    // moving averages, updated by the sync thread
+    private volatile double syncLatencyNanos;
+    private volatile double arrivalsPerNano;
+
+    // only accessed by the sync thread
+    private boolean synced;
+    private long lastSyncStartedAt;
+    private long lastSyncCompletedAt;
+
     public GroupCommitLogService(CommitLog commitLog)
+    {
+        this(commitLog, DatabaseDescriptor.isCommitLogSyncGroupAdaptive());
+    }
+
+    @VisibleForTesting
+    GroupCommitLogService(CommitLog commitLog, boolean adaptive)
     {
         super(commitLog, "GROUP-COMMIT-LOG-WRITER", (int) DatabaseDescriptor.getCommitLogSyncGroupWindow());
+        this.adaptive = adaptive;
     }
 
     protected void maybeWaitForSync(CommitLogSegment.Allocation alloc)
     {
         // wait until record has been safely persisted to disk
         pending.incrementAndGet();
+        arrivals.incrementAndGet();
+        // when idle, there is nothing to batch this write with
+        if (adaptive && isIdle(syncLatencyNanos, arrivalsPerNano))
+            requestExtraSync();
         // wait for commitlog_sync_group_window
         alloc.awaitDiskSync(commitLog.metrics.waitingOnCommit);
         pending.decrementAndGet();
     }
+
+    @Override
+    long nextSyncIntervalNanos()
+    {
+        if (!adaptive)
+            return syncIntervalNanos;
+
+        return adaptiveSyncIntervalNanos(syncLatencyNanos, arrivalsPerNano, syncIntervalNanos);
+    }
+
+    @Override
+    void onSyncToDisk(long startedAt, long completedAt)
+    {
+        long batchSize = arrivals.getAndSet(0);
+        commitLog.metrics.groupCommitBatchSize.update(batchSize);
+
+        if (synced)
+        {
+            commitLog.metrics.groupCommitWindow.update(NANOSECONDS.toMicros(Math.max(0, startedAt - lastSyncCompletedAt)));
+            long elapsed = startedAt - lastSyncStartedAt;
+            if (elapsed > 0)
+                arrivalsPerNano = average(arrivalsPerNano, (double) batchSize / elapsed);
+        }
+        syncLatencyNanos = average(syncLatencyNanos, completedAt - startedAt);
+
+        synced = true;
+        lastSyncStartedAt = startedAt;
+        lastSyncCompletedAt = completedAt;
+    }
+
+    private static double average(double average, double value)
+    {
+        return ALPHA * value + (1 - ALPHA) * average;
+    }
+
+    /**
+     * Whether less than one write is expected to arrive during a sync, in which case waiting for other writes to
+     * batch with would only add latency.
+     */
+    @VisibleForTesting
+    static boolean isIdle(double syncLatencyNanos, double arrivalsPerNano)
+    {
+        return syncLatencyNanos * arrivalsPerNano < 1;
+    }
+
+    @VisibleForTesting
+    static long adaptiveSyncIntervalNanos(double syncLatencyNanos, double arrivalsPerNano, long maxIntervalNanos)
+    {
+        // when idle, writes request their own syncs
+        if (isIdle(syncLatencyNanos, arrivalsPerNano))
+            return maxIntervalNanos;
+
+        return Math.max(1, Math.min(maxIntervalNanos, (long) syncLatencyNanos));
+    }
 }
 
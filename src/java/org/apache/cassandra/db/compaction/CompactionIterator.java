@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -68,6 +69,7 @@ import org.apache.cassandra.service.paxos.uncommitted.PaxosRows;
 import org.apache.cassandra.utils.TimeUUID;
 
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.apache.cassandra.config.CassandraRelevantProperties.COMPACTION_SKIP_MERGE_OF_DISJOINT_PARTITIONS;
 import static org.apache.cassandra.config.Config.PaxosStatePurging.legacy;
 import static org.apache.cassandra.config.DatabaseDescriptor.paxosStatePurging;
 
@@ -100,6 +102,7 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
     private final long totalBytes;
     private long bytesRead;
     private long totalSourceCQLRows;
+    private long compactedUnfiltered;
 
     // Keep targetDirectory for compactions, needed for `nodetool compactionstats`
     private volatile String targetDirectory;
@@ -111,6 +114,15 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
      */
     private final long[] mergeCounters;
 
+    /*
+     * for each scanner, whether the partitions that are only present in that scanner can skip the merge and the purge,
+     * see skipMergeFor().
+     */
+    private final boolean[] skipMergeScanners;
+    // the last partition returned by the merge without merging, which the purger must leave untouched
+    private UnfilteredRowIterator unmergedPartition;
+    private final Transformation<UnfilteredRowIterator> unmergedProgress = new UnmergedProgress();
+
     private final UnfilteredPartitionIterator compacted;
     private final ActiveCompactionsTracker activeCompactions;
 
@@ -139,6 +151,7 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
             bytes += scanner.getLengthInBytes();
         this.totalBytes = bytes;
         this.mergeCounters = new long[scanners.size()];
+        this.skipMergeScanners = skipMergeFor(scanners, controller, topPartitionCollector != null);
         // note that we leak `this` from the constructor when calling beginCompaction below, this means we have to get the sstables before
         // calling that to avoid a NPE.
         sstables = scanners.stream().map(ISSTableScanner::getBackingSSTables).flatMap(Collection::stream).collect(ImmutableSet.toImmutableSet());
@@ -185,6 +198,32 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
         this.targetDirectory = targetDirectory;
     }
 
+    /**
+     * A partition that is only present in one scanner does not need its rows merged, and if nothing in the partition can
+     * be purged it can be written as it is read. This is the case when none of the sstables of the scanner contains a
+     * tombstone or expired cell old enough to be purged, i.e. all of their local deletion times are after gcBefore.
+     * Expired cells that are not purgeable are then kept as they are rather than converted to tombstones, which only
+     * delays that conversion to a later compaction.
+     */
+    private static boolean[] skipMergeFor(List<ISSTableScanner> scanners, AbstractCompactionController controller, boolean countTombstones)
+    {
+        boolean[] skipMerge = new boolean[scanners.size()];
+        if (!COMPACTION_SKIP_MERGE_OF_DISJOINT_PARTITIONS.getBoolean()
+            || countTombstones
+            || controller.tombstoneOption != TombstoneOption.NONE
+            || isPaxos(controller.cfs))
+            return skipMerge;
+
+        for (int i = 0; i < skipMerge.length; i++)
+        {
+            Set<SSTableReader> sstables = scanners.get(i).getBackingSSTables();
+            skipMerge[i] = !sstables.isEmpty();
+            for (SSTableReader sstable : sstables)
+                skipMerge[i] &= sstable.getMinLocalDeletionTime() >= controller.gcBefore;
+        }
+        return skipMerge;
+    }
+
     private void updateCounterFor(int rows)
     {
         assert rows > 0 && rows - 1 < mergeCounters.length;
@@ -283,9 +322,26 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
                     public void close() {}
                 };
             }
+
+            @Override
+            public boolean skipMerge(int idx, UnfilteredRowIterator partition)
+            {
+                if (!skipMergeScanners[idx] || controller.cfs.shouldIgnoreGcGraceForKey(partition.partitionKey()))
+                    return false;
+
+                unmergedPartition = partition;
+                return true;
+            }
         };
     }
 
+    private void updateProgress()
+    {
+        totalSourceCQLRows++;
+        if ((++compactedUnfiltered) % UNFILTERED_TO_UPDATE_PROGRESS == 0)
+            updateBytesRead();
+    }
+
     private void updateBytesRead()
     {
         long n = 0;
@@ -338,8 +394,6 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
         private DecoratedKey currentKey;
         private LongPredicate purgeEvaluator;
 
-        private long compactedUnfiltered;
-
         private Purger(AbstractCompactionController controller, long nowInSec)
         {
             super(nowInSec, controller.gcBefore, controller.compactingRepaired() ? Long.MAX_VALUE : Integer.MIN_VALUE,
@@ -348,6 +402,16 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
             this.controller = controller;
         }
 
+        @Override
+        protected UnfilteredRowIterator applyToPartition(UnfilteredRowIterator partition)
+        {
+            // a partition that skipped the merge has nothing to purge
+            if (partition == unmergedPartition)
+                return Transformation.apply(partition, unmergedProgress);
+
+            return super.applyToPartition(partition);
+        }
+
         @Override
         protected void onEmptyPartitionPostPurge(DecoratedKey key)
         {
@@ -365,9 +429,7 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
         @Override
         protected void updateProgress()
         {
-            totalSourceCQLRows++;
-            if ((++compactedUnfiltered) % UNFILTERED_TO_UPDATE_PROGRESS == 0)
-                updateBytesRead();
+            CompactionIterator.this.updateProgress();
         }
 
         /*
@@ -398,6 +460,33 @@ public class CompactionIterator extends CompactionInfo.Holder implements Unfilte
         }
     }
 
+    /**
+     * Keeps track of the progress on the partitions that skip the purger, which does it for the others.
+     */
+    private class UnmergedProgress extends Transformation<UnfilteredRowIterator>
+    {
+        @Override
+        protected Row applyToStatic(Row row)
+        {
+            updateProgress();
+            return row;
+        }
+
+        @Override
+        protected Row applyToRow(Row row)
+        {
+            updateProgress();
+            return row;
+        }
+
+        @Override
+        protected RangeTombstoneMarker applyToMarker(RangeTombstoneMarker marker)
+        {
+            updateProgress();
+            return marker;
+        }
+    }
+
     /**
      * Unfiltered row iterator that removes deleted data as provided by a "tombstone source" for the partition.
      * The result produced by this iterator is such that when merged with tombSource it produces the same output
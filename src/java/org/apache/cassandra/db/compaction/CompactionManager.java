@@ -1302,6 +1302,15 @@ public class CompactionManager implements CompactionManagerMBean, ICompactionMan
         return executor.submitIfRunning(runnable, "user defined task");
     }
 
+    /**
+     * Submits a helper executing parts of a compaction that is split in token ranges, see
+     * {@link CompactionTask#getParallelRanges}. The returned future is cancelled if the executor is shut down.
+     */
+    Future<?> submitCompactionPart(Runnable part)
+    {
+        return executor.submitIfRunning(part, "compaction part");
+    }
+
     // This acquire a reference on the sstable
     // This is not efficient, do not use in any critical path
     private SSTableReader lookupSSTable(final ColumnFamilyStore cfs, Descriptor descriptor)
@@ -2512,7 +2521,8 @@ public class CompactionManager implements CompactionManagerMBean, ICompactionMan
                      .map(CompactionInfo.Holder::getCompactionInfo)
                      .filter(task -> task.getTaskType() != OperationType.COUNTER_CACHE_SAVE
                                      && task.getTaskType() != OperationType.KEY_CACHE_SAVE
-                                     && task.getTaskType() != OperationType.ROW_CACHE_SAVE)
+                                     && task.getTaskType() != OperationType.ROW_CACHE_SAVE
+                                     && task.getTaskType() != OperationType.CHUNK_CACHE_SAVE)
                      .collect(Collectors.toList());
     }
 
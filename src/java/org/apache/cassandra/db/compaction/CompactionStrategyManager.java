@@ -1218,6 +1218,25 @@ public class CompactionStrategyManager implements INotificationConsumer
         }
     }
 
+    /**
+     * Returns the strategy managing the unrepaired sstables of the data directory with the given index, i.e. the
+     * strategy that memtables flushed to that directory hand their sstables to.
+     */
+    public AbstractCompactionStrategy getUnrepairedStrategy(int directoryIndex)
+    {
+        maybeReloadDiskBoundaries();
+        readLock.lock();
+        try
+        {
+            List<AbstractCompactionStrategy> strategies = Lists.newArrayList(unrepaired.allStrategies());
+            return strategies.get(Math.min(directoryIndex, strategies.size() - 1));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
     public void overrideLocalParams(CompactionParams params)
     {
         logger.info("Switching local compaction strategy from {} to {}", this.params, params);
@@ -17,14 +17,21 @@
  */
 package org.apache.cassandra.db.compaction;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableMap;
@@ -41,13 +48,20 @@ import org.apache.cassandra.db.Directories;
 import org.apache.cassandra.db.SystemKeyspace;
 import org.apache.cassandra.db.compaction.writers.CompactionAwareWriter;
 import org.apache.cassandra.db.compaction.writers.DefaultCompactionWriter;
+import org.apache.cassandra.db.lifecycle.ILifecycleTransaction;
 import org.apache.cassandra.db.lifecycle.LifecycleTransaction;
+import org.apache.cassandra.db.lifecycle.SharedLifecycleTransaction;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.io.sstable.format.SSTableReader;
 import org.apache.cassandra.io.sstable.metadata.MetadataCollector;
 import org.apache.cassandra.io.util.File;
 import org.apache.cassandra.service.ActiveRepairService;
 import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.Throwables;
 import org.apache.cassandra.utils.TimeUUID;
+import org.apache.cassandra.utils.concurrent.Future;
 import org.apache.cassandra.utils.concurrent.Refs;
 
 import static org.apache.cassandra.db.compaction.CompactionHistoryTabularData.COMPACTION_TYPE_PROPERTY;
@@ -181,57 +195,82 @@ public class CompactionTask extends AbstractCompactionTask
             long totalSourceCQLRows;
 
             long nowInSec = FBUtilities.nowInSeconds();
-            try (Refs<SSTableReader> refs = Refs.ref(actuallyCompact);
-                 AbstractCompactionStrategy.ScannerList scanners = strategy.getScanners(actuallyCompact);
-                 CompactionIterator ci = new CompactionIterator(compactionType, scanners.scanners, controller, nowInSec, taskId))
+            ParallelSplit split = transaction.isOffline() ? null : getParallelSplit(actuallyCompact);
+            if (split != null)
             {
-                long lastCheckObsoletion = start;
-                inputSizeBytes = scanners.getTotalCompressedSize();
-                double compressionRatio = scanners.getCompressionRatio();
-                if (compressionRatio == MetadataCollector.NO_COMPRESSION_RATIO)
-                    compressionRatio = 1.0;
+                List<Part> parts = runParallel(split, actuallyCompact, taskId, nowInSec);
+                timeSpentWritingKeys = TimeUnit.NANOSECONDS.toMillis(nanoTime() - start);
+                estimatedKeys = SSTableReader.getApproximateKeyCount(actuallyCompact);
+                inputSizeBytes = 0;
+                totalSourceCQLRows = 0;
+                mergedRowCounts = new long[0];
+                newSStables = new ArrayList<>();
+                for (Part part : parts)
+                {
+                    inputSizeBytes += part.inputSizeBytes;
+                    totalKeysWritten += part.keysWritten;
+                    totalSourceCQLRows += part.totalSourceCQLRows;
+                    if (part.mergedRowCounts.length > mergedRowCounts.length)
+                        mergedRowCounts = Arrays.copyOf(mergedRowCounts, part.mergedRowCounts.length);
+                    for (int i = 0; i < part.mergedRowCounts.length; i++)
+                        mergedRowCounts[i] += part.mergedRowCounts[i];
+                    newSStables.addAll(part.finished);
+                }
+            }
+            else
+            {
+                try (Refs<SSTableReader> refs = Refs.ref(actuallyCompact);
+                     AbstractCompactionStrategy.ScannerList scanners = strategy.getScanners(actuallyCompact);
+                     CompactionIterator ci = new CompactionIterator(compactionType, scanners.scanners, controller, nowInSec, taskId))
+                {
+                    long lastCheckObsoletion = start;
+                    inputSizeBytes = scanners.getTotalCompressedSize();
+                    double compressionRatio = scanners.getCompressionRatio();
+                    if (compressionRatio == MetadataCollector.NO_COMPRESSION_RATIO)
+                        compressionRatio = 1.0;
 
-                long lastBytesScanned = 0;
+                    long lastBytesScanned = 0;
 
-                activeCompactions.beginCompaction(ci);
-                try (CompactionAwareWriter writer = getCompactionAwareWriter(cfs, getDirectories(), transaction, actuallyCompact))
-                {
-                    // Note that we need to re-check this flag after calling beginCompaction above to avoid a window
-                    // where the compaction does not exist in activeCompactions but the CSM gets paused.
-                    // We already have the sstables marked compacting here so CompactionManager#waitForCessation will
-                    // block until the below exception is thrown and the transaction is cancelled.
-                    if (!controller.cfs.getCompactionStrategyManager().isActive())
-                        throw new CompactionInterruptedException(ci.getCompactionInfo());
-                    estimatedKeys = writer.estimatedKeys();
-                    while (ci.hasNext())
+                    activeCompactions.beginCompaction(ci);
+                    try (CompactionAwareWriter writer = getCompactionAwareWriter(cfs, getDirectories(), transaction, actuallyCompact))
                     {
-                        if (writer.append(ci.next()))
-                            totalKeysWritten++;
+                        // Note that we need to re-check this flag after calling beginCompaction above to avoid a window
+                        // where the compaction does not exist in activeCompactions but the CSM gets paused.
+                        // We already have the sstables marked compacting here so CompactionManager#waitForCessation will
+                        // block until the below exception is thrown and the transaction is cancelled.
+                        if (!controller.cfs.getCompactionStrategyManager().isActive())
+                            throw new CompactionInterruptedException(ci.getCompactionInfo());
+                        estimatedKeys = writer.estimatedKeys();
+                        while (ci.hasNext())
+                        {
+                            if (writer.append(ci.next()))
+                                totalKeysWritten++;
 
-                        ci.setTargetDirectory(writer.getSStableDirectory().path());
-                        long bytesScanned = scanners.getTotalBytesScanned();
+                            ci.setTargetDirectory(writer.getSStableDirectory().path());
+                            long bytesScanned = scanners.getTotalBytesScanned();
 
-                        // Rate limit the scanners, and account for compression
-                        CompactionManager.instance.compactionRateLimiterAcquire(limiter, bytesScanned, lastBytesScanned, compressionRatio);
+                            // Rate limit the scanners, and account for compression
+                            CompactionManager.instance.compactionRateLimiterAcquire(limiter, bytesScanned, lastBytesScanned, compressionRatio);
 
-                        lastBytesScanned = bytesScanned;
+                            lastBytesScanned = bytesScanned;
 
-                        if (nanoTime() - lastCheckObsoletion > TimeUnit.MINUTES.toNanos(1L))
-                        {
-                            controller.maybeRefreshOverlaps();
-                            lastCheckObsoletion = nanoTime();
+                            if (nanoTime() - lastCheckObsoletion > TimeUnit.MINUTES.toNanos(1L))
+                            {
+                                controller.maybeRefreshOverlaps();
+                                lastCheckObsoletion = nanoTime();
+                            }
                         }
-                    }
-                    timeSpentWritingKeys = TimeUnit.NANOSECONDS.toMillis(nanoTime() - start);
+                        timeSpentWritingKeys = TimeUnit.NANOSECONDS.toMillis(nanoTime() - start);
 
-                    // point of no return
-                    newSStables = writer.finish();
-                }
-                finally
-                {
-                    activeCompactions.finishCompaction(ci);
-                    mergedRowCounts = ci.getMergedRowCounts();
-                    totalSourceCQLRows = ci.getTotalSourceCQLRows();
+                        // point of no return
+                        newSStables = writer.finish();
+                    }
+                    finally
+                    {
+                        activeCompactions.finishCompaction(ci);
+                        mergedRowCounts = ci.getMergedRowCounts();
+                        totalSourceCQLRows = ci.getTotalSourceCQLRows();
+                    }
                 }
             }
 
@@ -292,6 +331,280 @@ public class CompactionTask extends AbstractCompactionTask
         return new DefaultCompactionWriter(cfs, directories, transaction, nonExpiredSSTables, keepOriginals, getLevel());
     }
 
+    /**
+     * Returns how the compaction of the given sstables should be split, for its parts to be executed in parallel, or
+     * null if it should be executed as a whole.
+     */
+    protected ParallelSplit getParallelSplit(Set<SSTableReader> nonExpiredSSTables)
+    {
+        return null;
+    }
+
+    /**
+     * The split of a compaction into parts within token ranges, executed in parallel by {@link #runParallel}.
+     */
+    protected interface ParallelSplit
+    {
+        /**
+         * @return the token ranges of the parts, in token order and together covering the whole token space
+         */
+        List<Range<Token>> ranges();
+
+        /**
+         * Returns the writer for the part of the compaction within {@code range}, one of the {@link #ranges}. The
+         * given transaction is shared with the writers of the other parts.
+         */
+        CompactionAwareWriter getCompactionAwareWriter(ColumnFamilyStore cfs,
+                                                       Directories directories,
+                                                       ILifecycleTransaction txn,
+                                                       Set<SSTableReader> nonExpiredSSTables,
+                                                       Range<Token> range);
+    }
+
+    /**
+     * Splits the token space at up to {@code maxParts - 1} of the given boundaries, picked to give each part a
+     * similar number of the spaces between boundaries. Returns null if that results in a single part.
+     */
+    public static List<Range<Token>> splitAtBoundaries(List<Token> boundaries, int maxParts, IPartitioner partitioner)
+    {
+        int parts = Math.min(boundaries.size() + 1, maxParts);
+        if (parts <= 1)
+            return null;
+
+        Token min = partitioner.getMinimumToken();
+        List<Range<Token>> ranges = new ArrayList<>(parts);
+        Token left = min;
+        for (int i = 1; i < parts; i++)
+        {
+            Token right = boundaries.get(i * (boundaries.size() + 1) / parts - 1);
+            ranges.add(new Range<>(left, right));
+            left = right;
+        }
+        ranges.add(new Range<>(left, min));
+        return ranges;
+    }
+
+    /**
+     * Executes the parts of the compaction within the ranges of the given split and commits their results together. The parts are
+     * executed by the current thread and by up to one helper per additional part submitted to the compaction executor.
+     * Helpers that have not started by the time all the parts are taken are not waited for, so that a busy executor
+     * cannot delay the compaction beyond its single-threaded duration.
+     */
+    private List<Part> runParallel(ParallelSplit split, Set<SSTableReader> actuallyCompact, TimeUUID taskId, long nowInSec)
+    {
+        List<Range<Token>> ranges = split.ranges();
+        logger.debug("Splitting compaction {} in {} parts at {}", taskId, ranges.size(), ranges);
+        List<Part> parts = new ArrayList<>(ranges.size());
+        Throwable fail = null;
+        try (Refs<SSTableReader> refs = Refs.ref(actuallyCompact);
+             SharedLifecycleTransaction sharedTxn = new SharedLifecycleTransaction(transaction))
+        {
+            for (Range<Token> range : ranges)
+                parts.add(new Part(split, range, actuallyCompact, sharedTxn, taskId, nowInSec));
+
+            AtomicInteger next = new AtomicInteger();
+            Runnable worker = () -> {
+                int i;
+                while ((i = next.getAndIncrement()) < parts.size())
+                {
+                    try
+                    {
+                        parts.get(i).run();
+                    }
+                    catch (Throwable t)
+                    {
+                        // leave the remaining parts and stop the running ones, the compaction cannot complete
+                        next.set(parts.size());
+                        for (Part part : parts)
+                            part.stop();
+                        throw t;
+                    }
+                }
+            };
+
+            List<Helper> helpers = new ArrayList<>(parts.size() - 1);
+            try
+            {
+                for (int i = 1; i < parts.size(); i++)
+                {
+                    Helper helper = new Helper(worker);
+                    helpers.add(helper);
+                    helper.future = CompactionManager.instance.submitCompactionPart(helper);
+                }
+                worker.run();
+            }
+            catch (Throwable t)
+            {
+                fail = t;
+            }
+
+            for (Helper helper : helpers)
+                fail = helper.await(fail);
+
+            if (fail == null)
+            {
+                // point of no return
+                transaction.checkpoint();
+                if (!keepOriginals)
+                    transaction.obsoleteOriginals();
+                transaction.prepareToCommit();
+                for (Part part : parts)
+                    part.finished = part.writer.finished();
+                for (Part part : parts)
+                    part.writer.commit();
+                transaction.commit();
+            }
+        }
+        catch (Throwable t)
+        {
+            fail = Throwables.merge(fail, t);
+        }
+
+        // aborts the writers of a failed compaction; the transaction is aborted by its owner
+        List<CompactionAwareWriter> writers = new ArrayList<>(parts.size());
+        for (Part part : parts)
+        {
+            if (part.writer != null)
+                writers.add(part.writer);
+        }
+        fail = Throwables.close(fail, writers);
+        Throwables.maybeFail(fail);
+        return parts;
+    }
+
+    /**
+     * The compaction of the part of the sstables within a token range, see {@link #runParallel}.
+     */
+    private class Part implements Runnable
+    {
+        private final ParallelSplit split;
+        private final Range<Token> range;
+        private final Set<SSTableReader> actuallyCompact;
+        private final ILifecycleTransaction txn;
+        private final TimeUUID taskId;
+        private final long nowInSec;
+
+        private volatile boolean stopRequested;
+        private volatile CompactionIterator ci;
+
+        private CompactionAwareWriter writer;
+        private Collection<SSTableReader> finished;
+        private long inputSizeBytes;
+        private long keysWritten;
+        private long totalSourceCQLRows;
+        private long[] mergedRowCounts = new long[0];
+
+        Part(ParallelSplit split, Range<Token> range, Set<SSTableReader> actuallyCompact, ILifecycleTransaction txn, TimeUUID taskId, long nowInSec)
+        {
+            this.split = split;
+            this.range = range;
+            this.actuallyCompact = actuallyCompact;
+            this.txn = txn;
+            this.taskId = taskId;
+            this.nowInSec = nowInSec;
+        }
+
+        public void run()
+        {
+            CompactionStrategyManager strategy = cfs.getCompactionStrategyManager();
+            RateLimiter limiter = CompactionManager.instance.getRateLimiter();
+            try (CompactionController controller = getCompactionController(transaction.originals());
+                 AbstractCompactionStrategy.ScannerList scanners = strategy.getScanners(actuallyCompact, Collections.singleton(range));
+                 CompactionIterator ci = new CompactionIterator(compactionType, scanners.scanners, controller, nowInSec, taskId))
+            {
+                this.ci = ci;
+                if (stopRequested)
+                    ci.stop();
+
+                long lastCheckObsoletion = nanoTime();
+                inputSizeBytes = scanners.getTotalCompressedSize();
+                double compressionRatio = scanners.getCompressionRatio();
+                if (compressionRatio == MetadataCollector.NO_COMPRESSION_RATIO)
+                    compressionRatio = 1.0;
+
+                long lastBytesScanned = 0;
+
+                activeCompactions.beginCompaction(ci);
+                try
+                {
+                    writer = split.getCompactionAwareWriter(cfs, getDirectories(), txn, actuallyCompact, range);
+                    // see runMayThrow
+                    if (!strategy.isActive())
+                        throw new CompactionInterruptedException(ci.getCompactionInfo());
+                    while (ci.hasNext())
+                    {
+                        if (writer.append(ci.next()))
+                            keysWritten++;
+
+                        ci.setTargetDirectory(writer.getSStableDirectory().path());
+                        long bytesScanned = scanners.getTotalBytesScanned();
+                        CompactionManager.instance.compactionRateLimiterAcquire(limiter, bytesScanned, lastBytesScanned, compressionRatio);
+                        lastBytesScanned = bytesScanned;
+
+                        if (nanoTime() - lastCheckObsoletion > TimeUnit.MINUTES.toNanos(1L))
+                        {
+                            controller.maybeRefreshOverlaps();
+                            lastCheckObsoletion = nanoTime();
+                        }
+                    }
+                    writer.prepareToCommit();
+                }
+                finally
+                {
+                    activeCompactions.finishCompaction(ci);
+                    mergedRowCounts = ci.getMergedRowCounts();
+                    totalSourceCQLRows = ci.getTotalSourceCQLRows();
+                }
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void stop()
+        {
+            stopRequested = true;
+            CompactionIterator ci = this.ci;
+            if (ci != null)
+                ci.stop();
+        }
+    }
+
+    /**
+     * A task executing parts of a compaction on the compaction executor, unless it has been given up by the time
+     * it starts.
+     */
+    private static class Helper implements Runnable
+    {
+        private final Runnable worker;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private Future<?> future;
+
+        Helper(Runnable worker)
+        {
+            this.worker = worker;
+        }
+
+        public void run()
+        {
+            if (claimed.compareAndSet(false, true))
+                worker.run();
+        }
+
+        /**
+         * Gives up the helper if it has not started yet, or waits for it to complete otherwise.
+         */
+        Throwable await(Throwable accumulate)
+        {
+            if (future == null || claimed.compareAndSet(false, true))
+                return accumulate;
+
+            future.awaitUninterruptibly();
+            return future.cause() == null ? accumulate : Throwables.merge(accumulate, future.cause());
+        }
+    }
+
     public static String updateCompactionHistory(TimeUUID taskId, String keyspaceName, String columnFamilyName, long[] mergedRowCounts, long startSize, long endSize, Map<String, String> compactionProperties)
     {
         StringBuilder mergeSummary = new StringBuilder(mergedRowCounts.length * 10);
@@ -49,6 +49,7 @@ public enum OperationType
     KEY_CACHE_SAVE("Key cache save", false, 6),
     ROW_CACHE_SAVE("Row cache save", false, 6),
     COUNTER_CACHE_SAVE("Counter cache save", false, 6),
+    CHUNK_CACHE_SAVE("Chunk cache save", false, 6),
     INDEX_SUMMARY("Index summary redistribution", false, 6);
 
     public final String type;
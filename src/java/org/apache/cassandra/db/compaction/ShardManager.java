@@ -18,6 +18,8 @@
 
 package org.apache.cassandra.db.compaction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -80,11 +82,32 @@ public interface ShardManager
      * Construct a boundary/shard iterator for the given number of shards.
      *
      * Note: This does not offer a method of listing the shard boundaries it generates, just to advance to the
-     * corresponding one for a given token.  The only usage for listing is currently in tests. Should a need for this
-     * arise, see {@link CompactionSimulationTest} for a possible implementation.
+     * corresponding one for a given token. See {@link #shardBoundariesWithin} for listing the boundaries within a
+     * given span.
      */
     ShardTracker boundaries(int shardCount);
 
+    /**
+     * Returns the shard boundaries that fall within the span from {@code first} (inclusive) to {@code last}
+     * (exclusive) when splitting in the given number of shards, in token order. As shards are end-inclusive, each
+     * boundary is the last token of the shard it ends.
+     */
+    default List<Token> shardBoundariesWithin(Token first, Token last, int shardCount)
+    {
+        ShardTracker tracker = boundaries(shardCount);
+        tracker.advanceTo(first);
+        List<Token> boundaries = new ArrayList<>();
+        Token end = tracker.shardEnd();
+        while (end != null && end.compareTo(first) >= 0 && end.compareTo(last) < 0)
+        {
+            boundaries.add(end);
+            if (!tracker.advanceTo(end.nextValidToken()))
+                break;
+            end = tracker.shardEnd();
+        }
+        return boundaries;
+    }
+
     static Range<Token> coveringRange(SSTableReader sstable)
     {
         return coveringRange(sstable.getFirst(), sstable.getLast());
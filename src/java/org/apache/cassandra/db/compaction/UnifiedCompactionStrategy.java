@@ -46,6 +46,7 @@ import org.apache.cassandra.db.compaction.unified.ShardedMultiWriter;
 import org.apache.cassandra.db.compaction.unified.UnifiedCompactionTask;
 import org.apache.cassandra.db.lifecycle.LifecycleNewTracker;
 import org.apache.cassandra.db.lifecycle.LifecycleTransaction;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.index.Index;
 import org.apache.cassandra.io.sstable.Descriptor;
@@ -269,8 +270,7 @@ public class UnifiedCompactionStrategy extends AbstractCompactionStrategy
                                                        LifecycleNewTracker lifecycleNewTracker)
     {
         ShardManager shardManager = getShardManager();
-        double flushDensity = cfs.metric.flushSizeOnDisk.get() * shardManager.shardSetCoverage() / shardManager.localSpaceCoverage();
-        ShardTracker boundaries = shardManager.boundaries(controller.getNumShards(flushDensity));
+        ShardTracker boundaries = shardManager.boundaries(flushShardCount(shardManager));
         return new ShardedMultiWriter(cfs,
                                       descriptor,
                                       keyCount,
@@ -284,6 +284,23 @@ public class UnifiedCompactionStrategy extends AbstractCompactionStrategy
                                       boundaries);
     }
 
+    /**
+     * Returns the boundaries at which the sstables flushed within the span from {@code first} (inclusive) to
+     * {@code last} (exclusive) are split by the writer created by {@link #createSSTableMultiWriter}. A flush that is
+     * split in parts at any of these boundaries produces the same sstables as one executed by a single writer.
+     */
+    public List<Token> flushShardBoundaries(Token first, Token last)
+    {
+        ShardManager shardManager = getShardManager();
+        return shardManager.shardBoundariesWithin(first, last, flushShardCount(shardManager));
+    }
+
+    private int flushShardCount(ShardManager shardManager)
+    {
+        double flushDensity = cfs.metric.flushSizeOnDisk.get() * shardManager.shardSetCoverage() / shardManager.localSpaceCoverage();
+        return controller.getNumShards(flushDensity);
+    }
+
     /**
      * Create the task that in turns creates the sstable writer used for compaction.
      *
@@ -18,19 +18,25 @@
 
 package org.apache.cassandra.db.compaction.unified;
 
+import java.util.List;
 import java.util.Set;
 
+import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.Directories;
 import org.apache.cassandra.db.compaction.CompactionTask;
 import org.apache.cassandra.db.compaction.ShardManager;
 import org.apache.cassandra.db.compaction.UnifiedCompactionStrategy;
 import org.apache.cassandra.db.compaction.writers.CompactionAwareWriter;
+import org.apache.cassandra.db.lifecycle.ILifecycleTransaction;
 import org.apache.cassandra.db.lifecycle.LifecycleTransaction;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.io.sstable.format.SSTableReader;
 
 /**
- * The sole purpose of this class is to currently create a {@link ShardedCompactionWriter}.
+ * A compaction task writing its output with a {@link ShardedCompactionWriter}, which is split at the shard
+ * boundaries into parts executed in parallel if the output spans several shards.
  */
 public class UnifiedCompactionTask extends CompactionTask
 {
@@ -53,9 +59,60 @@ public class UnifiedCompactionTask extends CompactionTask
                                                           Directories directories,
                                                           LifecycleTransaction txn,
                                                           Set<SSTableReader> nonExpiredSSTables)
+    {
+        return new ShardedCompactionWriter(cfs, directories, txn, nonExpiredSSTables, keepOriginals, shardManager.boundaries(getNumShards(nonExpiredSSTables)));
+    }
+
+    /**
+     * Splits the compaction at the boundaries of the output shards it spans, in up to as many parts as there are
+     * compaction threads.
+     */
+    @Override
+    protected ParallelSplit getParallelSplit(Set<SSTableReader> nonExpiredSSTables)
+    {
+        int maxParts = DatabaseDescriptor.getConcurrentCompactors();
+        if (!controller.parallelizeOutputShards() || maxParts <= 1 || nonExpiredSSTables.size() <= 1)
+            return null;
+
+        Token first = null;
+        Token last = null;
+        for (SSTableReader sstable : nonExpiredSSTables)
+        {
+            if (first == null || sstable.getFirst().getToken().compareTo(first) < 0)
+                first = sstable.getFirst().getToken();
+            if (last == null || sstable.getLast().getToken().compareTo(last) > 0)
+                last = sstable.getLast().getToken();
+        }
+
+        int numShards = getNumShards(nonExpiredSSTables);
+        List<Range<Token>> ranges = splitAtBoundaries(shardManager.shardBoundariesWithin(first, last, numShards), maxParts, cfs.getPartitioner());
+        if (ranges == null)
+            return null;
+
+        return new ParallelSplit()
+        {
+            @Override
+            public List<Range<Token>> ranges()
+            {
+                return ranges;
+            }
+
+            @Override
+            public CompactionAwareWriter getCompactionAwareWriter(ColumnFamilyStore cfs,
+                                                                  Directories directories,
+                                                                  ILifecycleTransaction txn,
+                                                                  Set<SSTableReader> nonExpiredSSTables,
+                                                                  Range<Token> range)
+            {
+                // the writer's shard tracker advances to the shard of the first key written, i.e. to the start of the range
+                return new ShardedCompactionWriter(cfs, directories, txn, nonExpiredSSTables, keepOriginals, shardManager.boundaries(numShards));
+            }
+        };
+    }
+
+    private int getNumShards(Set<SSTableReader> nonExpiredSSTables)
     {
         double density = shardManager.calculateCombinedDensity(nonExpiredSSTables);
-        int numShards = controller.getNumShards(density * shardManager.shardSetCoverage());
-        return new ShardedCompactionWriter(cfs, directories, txn, nonExpiredSSTables, keepOriginals, shardManager.boundaries(numShards));
+        return controller.getNumShards(density * shardManager.shardSetCoverage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.db.lifecycle;
+
+import java.util.Collection;
+
+import org.apache.cassandra.io.sstable.SSTable;
+import org.apache.cassandra.io.sstable.format.SSTableReader;
+
+/**
+ * A transaction shared by several writers that concurrently produce sstables which, together, replace the originals
+ * of the underlying transaction, e.g. the parts of a compaction executed in parallel.
+ * <p>
+ * The writers track their new sstables and stage them as updates through this class, which serializes these calls
+ * on the underlying transaction. Checkpointing, obsoleting the originals and completing the transaction are no-ops:
+ * the owner of the underlying transaction performs them once all the writers are prepared to commit (or have been
+ * aborted). Since the tracker is only updated on checkpoint, writers using a shared transaction must not open their
+ * sstables early.
+ */
+public class SharedLifecycleTransaction extends WrappedLifecycleTransaction
+{
+    public SharedLifecycleTransaction(ILifecycleTransaction delegate)
+    {
+        super(delegate);
+    }
+
+    @Override
+    public void update(SSTableReader reader, boolean original)
+    {
+        synchronized (delegate)
+        {
+            delegate.update(reader, original);
+        }
+    }
+
+    @Override
+    public void update(Collection<SSTableReader> readers, boolean original)
+    {
+        synchronized (delegate)
+        {
+            delegate.update(readers, original);
+        }
+    }
+
+    @Override
+    public SSTableReader current(SSTableReader reader)
+    {
+        synchronized (delegate)
+        {
+            return delegate.current(reader);
+        }
+    }
+
+    @Override
+    public void obsolete(SSTableReader reader)
+    {
+        synchronized (delegate)
+        {
+            delegate.obsolete(reader);
+        }
+    }
+
+    @Override
+    public boolean isObsolete(SSTableReader reader)
+    {
+        synchronized (delegate)
+        {
+            return delegate.isObsolete(reader);
+        }
+    }
+
+    @Override
+    public void trackNew(SSTable table)
+    {
+        synchronized (delegate)
+        {
+            delegate.trackNew(table);
+        }
+    }
+
+    @Override
+    public void untrackNew(SSTable table)
+    {
+        synchronized (delegate)
+        {
+            delegate.untrackNew(table);
+        }
+    }
+
+    @Override
+    public void checkpoint()
+    {
+    }
+
+    @Override
+    public void obsoleteOriginals()
+    {
+    }
+
+    @Override
+    public void prepareToCommit()
+    {
+    }
+
+    @Override
+    public Throwable commit(Throwable accumulate)
+    {
+        return accumulate;
+    }
+
+    @Override
+    public Throwable abort(Throwable accumulate)
+    {
+        return accumulate;
+    }
+
+    @Override
+    public void close()
+    {
+    }
+}
@@ -33,7 +33,7 @@ public abstract class AbstractMemtableWithCommitlog extends AbstractMemtable
 {
     // The approximate lower bound by this memtable; must be <= commitLogLowerBound once our predecessor
     // has been finalised, and this is enforced in the ColumnFamilyStore.setCommitLogUpperBound
-    private final CommitLogPosition approximateCommitLogLowerBound = CommitLog.instance.getCurrentPosition();
+    private final CommitLogPosition approximateCommitLogLowerBound;
     // the precise lower bound of CommitLogPosition owned by this memtable; equal to its predecessor's commitLogUpperBound
     private final AtomicReference<CommitLogPosition> commitLogLowerBound;
     // the write barrier for directing writes to this memtable or the next during a switch
@@ -44,6 +44,7 @@ public abstract class AbstractMemtableWithCommitlog extends AbstractMemtable
     public AbstractMemtableWithCommitlog(TableMetadataRef metadataRef, AtomicReference<CommitLogPosition> commitLogLowerBound)
     {
         super(metadataRef);
+        this.approximateCommitLogLowerBound = CommitLog.instance.forKeyspace(metadataRef.keyspace).getCurrentPosition();
         this.commitLogLowerBound = commitLogLowerBound;
     }
 
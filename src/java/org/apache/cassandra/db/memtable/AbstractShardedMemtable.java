@@ -18,17 +18,26 @@
 
 package org.apache.cassandra.db.memtable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.apache.cassandra.db.commitlog.CommitLogPosition;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.schema.TableMetadataRef;
 import org.apache.cassandra.utils.FBUtilities;
 import org.apache.cassandra.utils.MBeanWrapper;
 import org.github.jamm.Unmetered;
 
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_ADAPTIVE_SHARDS;
 import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_SHARD_COUNT;
 
 public abstract class AbstractShardedMemtable extends AbstractAllocatorMemtable
@@ -36,6 +45,7 @@ public abstract class AbstractShardedMemtable extends AbstractAllocatorMemtable
     private static final Logger logger = LoggerFactory.getLogger(AbstractShardedMemtable.class);
 
     public static final String SHARDS_OPTION = "shards";
+    public static final String ADAPTIVE_SHARDS_OPTION = "adaptive_shards";
     public static final String SHARDED_MEMTABLE_CONFIG_OBJECT_NAME = "org.apache.cassandra.db:type=ShardedMemtableConfig";
     static
     {
@@ -45,6 +55,23 @@ public abstract class AbstractShardedMemtable extends AbstractAllocatorMemtable
     // default shard count, used when a specific number of shards is not specified in the options
     private static volatile int defaultShardCount = MEMTABLE_SHARD_COUNT.getInt(FBUtilities.getAvailableProcessors());
 
+    // default for the adaptive shards option, used when the option is not specified
+    private static final boolean DEFAULT_ADAPTIVE_SHARDS = MEMTABLE_ADAPTIVE_SHARDS.getBoolean();
+
+    // With adaptive shards, the shard count is doubled if more than this fraction of the writes to the previous
+    // memtable had to wait for a shard lock, and halved if fewer did.
+    @VisibleForTesting
+    static final double CONTENDED_WRITES_TO_SPLIT = 0.05;
+    @VisibleForTesting
+    static final double CONTENDED_WRITES_TO_MERGE = 0.001;
+    // With adaptive shards, the shard count may grow up to this multiple of the configured one.
+    @VisibleForTesting
+    static final int MAX_ADAPTIVE_SHARD_COUNT_MULTIPLIER = 4;
+    // The minimum number of writes to the previous memtable for its write distribution to be used to place the shard
+    // boundaries; with fewer the owned ranges are split evenly.
+    @VisibleForTesting
+    static final long MIN_WRITES_TO_BALANCE = 1000;
+
     // The boundaries for the keyspace as they were calculated when the memtable is created.
     // The boundaries will be NONE for system keyspaces or if StorageService is not yet initialized.
     // The fact this is fixed for the duration of the memtable lifetime, guarantees we'll always pick the same shard
@@ -55,11 +82,134 @@ public abstract class AbstractShardedMemtable extends AbstractAllocatorMemtable
     AbstractShardedMemtable(AtomicReference<CommitLogPosition> commitLogLowerBound,
                             TableMetadataRef metadataRef,
                             Owner owner,
-                            Integer shardCountOption)
+                            Integer shardCountOption,
+                            boolean adaptiveShards)
     {
         super(commitLogLowerBound, metadataRef, owner);
         int shardCount = shardCountOption != null ? shardCountOption : defaultShardCount;
-        this.boundaries = owner.localRangeSplits(shardCount);
+        this.boundaries = adaptiveShards ? adaptedBoundaries(owner, shardCount) : owner.localRangeSplits(shardCount);
+    }
+
+    /**
+     * The boundaries of the shards of this memtable.
+     */
+    public ShardBoundaries shardBoundaries()
+    {
+        return boundaries;
+    }
+
+    /**
+     * The number of writes that went to the given shard of this memtable.
+     */
+    abstract long shardWrites(int shard);
+
+    /**
+     * The number of writes to the given shard of this memtable that had to wait for another write to the shard to
+     * complete, or -1 if the memtable does not serialize the writes to its shards.
+     */
+    abstract long contendedShardWrites(int shard);
+
+    /**
+     * Chooses the boundaries of a memtable with adaptive shards from the writes to the owner's current memtable, i.e.
+     * the one that the new memtable replaces: the shard count is adjusted to the contention the current memtable
+     * observed on its shards, and the boundaries are placed to give each shard an equal share of the writes the current
+     * memtable received, so that hot token ranges are split in more shards.
+     * <p>
+     * The new memtable uses evenly split local ranges if there is no current memtable, if it received too few writes,
+     * or if the local ranges have changed since it was created.
+     */
+    private ShardBoundaries adaptedBoundaries(Owner owner, int configuredShardCount)
+    {
+        Memtable current = owner.getCurrentMemtable();
+        if (!(current instanceof AbstractShardedMemtable))
+            return owner.localRangeSplits(configuredShardCount);
+
+        AbstractShardedMemtable previous = (AbstractShardedMemtable) current;
+        int shardCount = previous.nextShardCount(configuredShardCount);
+        ShardBoundaries evenSplits = owner.localRangeSplits(shardCount);
+        if (evenSplits == ShardBoundaries.NONE
+            || previous.boundaries.shardCount() == 1
+            || !evenSplits.epoch.equals(previous.boundaries.epoch))
+            return evenSplits;
+
+        long[] writes = new long[previous.boundaries.shardCount()];
+        long totalWrites = 0;
+        for (int i = 0; i < writes.length; ++i)
+        {
+            writes[i] = previous.shardWrites(i);
+            totalWrites += writes[i];
+        }
+        if (totalWrites < MIN_WRITES_TO_BALANCE)
+            return evenSplits;
+
+        ShardBoundaries balanced = new ShardBoundaries(balancedBoundaries(previous.boundaries, writes, shardCount, metadata().partitioner),
+                                                       evenSplits.epoch);
+        logger.debug("Adapted memtable shards for {}.{} to the writes {} of the previous memtable: {}",
+                     metadata().keyspace, metadata().name, Arrays.toString(writes), balanced);
+        return balanced;
+    }
+
+    /**
+     * The shard count to use for the memtable that replaces this one. If this memtable serializes the writes to its
+     * shards, this is doubled or halved depending on the fraction of the writes that found their shard locked,
+     * within 1 and {@link #MAX_ADAPTIVE_SHARD_COUNT_MULTIPLIER} times the configured shard count. Otherwise contention
+     * is not measured and the configured shard count is used.
+     */
+    @VisibleForTesting
+    int nextShardCount(int configuredShardCount)
+    {
+        int shardCount = boundaries.shardCount();
+        long writes = 0;
+        long contendedWrites = 0;
+        for (int i = 0; i < shardCount; ++i)
+        {
+            long contended = contendedShardWrites(i);
+            if (contended < 0)
+                return configuredShardCount;
+
+            writes += shardWrites(i);
+            contendedWrites += contended;
+        }
+
+        double contendedFraction = writes > 0 ? (double) contendedWrites / writes : 0;
+        if (contendedFraction > CONTENDED_WRITES_TO_SPLIT)
+            shardCount *= 2;
+        else if (contendedFraction < CONTENDED_WRITES_TO_MERGE)
+            shardCount /= 2;
+
+        return Math.max(1, Math.min(shardCount, Math.max(1, configuredShardCount) * MAX_ADAPTIVE_SHARD_COUNT_MULTIPLIER));
+    }
+
+    /**
+     * Places the boundaries of {@code shardCount} shards so that each receives an equal share of the given writes,
+     * assuming the writes to each of the given shards are evenly distributed within its token range.
+     */
+    @VisibleForTesting
+    static List<Token> balancedBoundaries(ShardBoundaries shards, long[] writes, int shardCount, IPartitioner partitioner)
+    {
+        Token minimum = partitioner.getMinimumToken();
+        int lastShard = shards.shardCount() - 1;
+        double totalWrites = 0;
+        for (long w : writes)
+            totalWrites += w + 1;  // shards without writes still get a (small) part of a new shard
+
+        List<Token> boundaries = new ArrayList<>(shardCount - 1);
+        int shard = 0;
+        double writesBefore = 0;
+        for (int i = 1; i < shardCount; ++i)
+        {
+            double target = totalWrites * i / shardCount;
+            while (shard < lastShard && writesBefore + writes[shard] + 1 < target)
+                writesBefore += writes[shard++] + 1;
+
+            Token left = shard == 0 ? minimum : shards.boundary(shard - 1);
+            Token right = shard == lastShard ? minimum : shards.boundary(shard);
+            double ratio = Math.min(1, (target - writesBefore) / (writes[shard] + 1));
+            Token boundary = partitioner.split(left, right, ratio);
+            if (!boundary.isMinimum() && (boundaries.isEmpty() || boundary.compareTo(boundaries.get(boundaries.size() - 1)) > 0))
+                boundaries.add(boundary);
+        }
+        return boundaries;
     }
 
     private static class ShardedMemtableConfig implements ShardedMemtableConfigMXBean
@@ -93,6 +243,15 @@ public abstract class AbstractShardedMemtable extends AbstractAllocatorMemtable
         }
     }
 
+    /**
+     * Removes and parses the adaptive shards option from the given memtable options.
+     */
+    static boolean adaptiveShards(Map<String, String> optionsCopy)
+    {
+        String adaptiveShards = optionsCopy.remove(ADAPTIVE_SHARDS_OPTION);
+        return adaptiveShards != null ? Boolean.parseBoolean(adaptiveShards) : DEFAULT_ADAPTIVE_SHARDS;
+    }
+
     public static int getDefaultShardCount()
     {
         return defaultShardCount;
@@ -23,11 +23,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.cassandra.config.CassandraRelevantProperties;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.db.ColumnFamilyStore;
 import org.apache.cassandra.db.Directories;
@@ -36,9 +38,13 @@ import org.apache.cassandra.db.PartitionPosition;
 import org.apache.cassandra.db.SerializationHeader;
 import org.apache.cassandra.db.SystemKeyspace;
 import org.apache.cassandra.db.commitlog.IntervalSet;
+import org.apache.cassandra.db.compaction.AbstractCompactionStrategy;
+import org.apache.cassandra.db.compaction.UnifiedCompactionStrategy;
 import org.apache.cassandra.db.lifecycle.LifecycleTransaction;
 import org.apache.cassandra.db.partitions.Partition;
 import org.apache.cassandra.db.rows.UnfilteredRowIterator;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.dht.Token;
 import org.apache.cassandra.io.sstable.Descriptor;
 import org.apache.cassandra.io.sstable.SSTableMultiWriter;
 import org.apache.cassandra.io.sstable.format.SSTableFormat;
@@ -46,6 +52,9 @@ import org.apache.cassandra.metrics.TableMetrics;
 import org.apache.cassandra.service.ActiveRepairService;
 import org.apache.cassandra.utils.FBUtilities;
 
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_FLUSH_MAX_PARALLEL_PARTS;
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_FLUSH_SPLIT_AT_MEMTABLE_SHARDS;
+
 public class Flushing
 {
     private static final Logger logger = LoggerFactory.getLogger(Flushing.class);
@@ -67,22 +76,20 @@ public class Flushing
         DiskBoundaries diskBoundaries = cfs.getDiskBoundaries();
         List<PartitionPosition> boundaries = diskBoundaries.positions;
         List<Directories.DataDirectory> locations = diskBoundaries.directories;
-        if (boundaries == null)
-        {
-            FlushRunnable runnable = flushRunnable(cfs, memtable, null, null, txn, null);
-            return Collections.singletonList(runnable);
-        }
-
-        List<FlushRunnable> runnables = new ArrayList<>(boundaries.size());
-        PartitionPosition rangeStart = boundaries.get(0).getPartitioner().getMinimumToken().minKeyBound();
+        List<FlushRunnable> runnables = new ArrayList<>(boundaries == null ? 1 : boundaries.size());
         try
         {
+            if (boundaries == null)
+            {
+                addFlushRunnables(runnables, cfs, memtable, null, null, txn, 0, null);
+                return runnables;
+            }
+
+            PartitionPosition rangeStart = boundaries.get(0).getPartitioner().getMinimumToken().minKeyBound();
             for (int i = 0; i < boundaries.size(); i++)
             {
                 PartitionPosition t = boundaries.get(i);
-                FlushRunnable runnable = flushRunnable(cfs, memtable, rangeStart, t, txn, locations.get(i));
-
-                runnables.add(runnable);
+                addFlushRunnables(runnables, cfs, memtable, rangeStart, t, txn, i, locations.get(i));
                 rangeStart = t;
             }
             return runnables;
@@ -95,11 +102,86 @@ public class Flushing
         }
     }
 
+    /**
+     * Adds the runnables flushing the span of the memtable between {@code from} and {@code to} to the given data
+     * directory. The span is split in parts flushed concurrently at the boundaries returned by {@link #splitPoints}.
+     */
+    private static void addFlushRunnables(List<FlushRunnable> runnables,
+                                          ColumnFamilyStore cfs,
+                                          Memtable memtable,
+                                          PartitionPosition from,
+                                          PartitionPosition to,
+                                          LifecycleTransaction txn,
+                                          int diskIndex,
+                                          Directories.DataDirectory flushLocation)
+    {
+        PartitionPosition partStart = from;
+        for (PartitionPosition splitPoint : splitPoints(cfs, memtable, from, to, diskIndex))
+        {
+            runnables.add(flushRunnable(cfs, memtable, partStart, splitPoint, txn, diskIndex, flushLocation));
+            partStart = splitPoint;
+        }
+        runnables.add(flushRunnable(cfs, memtable, partStart, to, txn, diskIndex, flushLocation));
+    }
+
+    /**
+     * Returns the positions at which the span of the memtable between {@code from} and {@code to} is split in parts
+     * flushed by concurrent writers, up to {@link CassandraRelevantProperties#MEMTABLE_FLUSH_MAX_PARALLEL_PARTS}.
+     * <p>
+     * The positions are chosen among the shard boundaries of the unified compaction strategy when the table uses it, so
+     * that the flush produces the same sstables as a single writer would. Otherwise, the flush is only split at the
+     * shard boundaries of a sharded memtable if {@link CassandraRelevantProperties#MEMTABLE_FLUSH_SPLIT_AT_MEMTABLE_SHARDS}
+     * is set, as each part is written to separate sstables.
+     */
+    @VisibleForTesting
+    static List<PartitionPosition> splitPoints(ColumnFamilyStore cfs,
+                                               Memtable memtable,
+                                               PartitionPosition from,
+                                               PartitionPosition to,
+                                               int diskIndex)
+    {
+        int maxParts = MEMTABLE_FLUSH_MAX_PARALLEL_PARTS.getInt(DatabaseDescriptor.getFlushWriters());
+        IPartitioner partitioner = memtable.metadata().partitioner;
+        if (maxParts <= 1 || !partitioner.splitter().isPresent())
+            return Collections.emptyList();
+
+        List<PartitionPosition> candidates = new ArrayList<>();
+        AbstractCompactionStrategy strategy = cfs.getCompactionStrategyManager().getUnrepairedStrategy(diskIndex);
+        if (strategy instanceof UnifiedCompactionStrategy)
+        {
+            Token first = from == null ? partitioner.getMinimumToken() : from.getToken();
+            Token last = to == null ? partitioner.getMaximumToken() : to.getToken();
+            // shards are end-inclusive, i.e. a boundary is the last token of a shard
+            for (Token boundary : ((UnifiedCompactionStrategy) strategy).flushShardBoundaries(first, last))
+                candidates.add(boundary.maxKeyBound());
+        }
+        else if (MEMTABLE_FLUSH_SPLIT_AT_MEMTABLE_SHARDS.getBoolean() && memtable instanceof AbstractShardedMemtable)
+        {
+            // a memtable shard boundary is the first token of the next shard
+            ShardBoundaries shardBoundaries = ((AbstractShardedMemtable) memtable).shardBoundaries();
+            for (int i = 0; i < shardBoundaries.shardCount() - 1; i++)
+                candidates.add(shardBoundaries.boundary(i).minKeyBound());
+        }
+
+        candidates.removeIf(position -> (from != null && position.compareTo(from) <= 0) ||
+                                        (to != null && position.compareTo(to) >= 0));
+        int parts = Math.min(candidates.size() + 1, maxParts);
+        if (parts <= 1)
+            return Collections.emptyList();
+
+        // pick the split points to give each part a similar number of shards
+        List<PartitionPosition> splitPoints = new ArrayList<>(parts - 1);
+        for (int i = 1; i < parts; i++)
+            splitPoints.add(candidates.get(i * (candidates.size() + 1) / parts - 1));
+        return splitPoints;
+    }
+
     static FlushRunnable flushRunnable(ColumnFamilyStore cfs,
                                        Memtable memtable,
                                        PartitionPosition from,
                                        PartitionPosition to,
                                        LifecycleTransaction txn,
+                                       int diskIndex,
                                        Directories.DataDirectory flushLocation)
     {
         Memtable.FlushablePartitionSet<?> flushSet = memtable.getFlushSet(from, to);
@@ -116,7 +198,7 @@ public class Flushing
                                                       descriptor,
                                                       flushSet.partitionCount());
 
-        return new FlushRunnable(flushSet, writer, cfs.metric, true);
+        return new FlushRunnable(flushSet, writer, cfs.metric, true, diskIndex);
     }
 
     public static Throwable abortRunnables(List<FlushRunnable> runnables, Throwable t)
@@ -135,17 +217,29 @@ public class Flushing
         private final TableMetrics metrics;
         private final boolean isBatchLogTable;
         private final boolean logCompletion;
+        // the index of the data directory, and thus of the per-disk flush executor, the runnable writes to
+        public final int diskIndex;
 
         public FlushRunnable(Memtable.FlushablePartitionSet<?> flushSet,
                              SSTableMultiWriter writer,
                              TableMetrics metrics,
                              boolean logCompletion)
+        {
+            this(flushSet, writer, metrics, logCompletion, 0);
+        }
+
+        public FlushRunnable(Memtable.FlushablePartitionSet<?> flushSet,
+                             SSTableMultiWriter writer,
+                             TableMetrics metrics,
+                             boolean logCompletion,
+                             int diskIndex)
         {
             this.toFlush = flushSet;
             this.writer = writer;
             this.metrics = metrics;
             this.isBatchLogTable = toFlush.metadata() == SystemKeyspace.Batches;
             this.logCompletion = logCompletion;
+            this.diskIndex = diskIndex;
         }
 
         private void writeSortedContents()
@@ -0,0 +1,883 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.memtable;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.db.BufferDecoratedKey;
+import org.apache.cassandra.db.ClusteringPrefix;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.DataRange;
+import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.db.DeletionInfo;
+import org.apache.cassandra.db.PartitionPosition;
+import org.apache.cassandra.db.RegularAndStaticColumns;
+import org.apache.cassandra.db.SerializationHeader;
+import org.apache.cassandra.db.Slice;
+import org.apache.cassandra.db.Slices;
+import org.apache.cassandra.db.commitlog.CommitLogPosition;
+import org.apache.cassandra.db.filter.ClusteringIndexFilter;
+import org.apache.cassandra.db.filter.ColumnFilter;
+import org.apache.cassandra.db.partitions.AbstractUnfilteredPartitionIterator;
+import org.apache.cassandra.db.partitions.ImmutableBTreePartition;
+import org.apache.cassandra.db.partitions.Partition;
+import org.apache.cassandra.db.partitions.PartitionUpdate;
+import org.apache.cassandra.db.partitions.UnfilteredPartitionIterator;
+import org.apache.cassandra.db.rows.BTreeRow;
+import org.apache.cassandra.db.rows.Cell;
+import org.apache.cassandra.db.rows.ColumnData;
+import org.apache.cassandra.db.rows.DeserializationHelper;
+import org.apache.cassandra.db.rows.EncodingStats;
+import org.apache.cassandra.db.rows.Row;
+import org.apache.cassandra.db.rows.Rows;
+import org.apache.cassandra.db.rows.SerializationHelper;
+import org.apache.cassandra.db.rows.UnfilteredRowIterator;
+import org.apache.cassandra.db.rows.UnfilteredSerializer;
+import org.apache.cassandra.db.tries.InMemoryTrie;
+import org.apache.cassandra.db.tries.Trie;
+import org.apache.cassandra.dht.AbstractBounds;
+import org.apache.cassandra.dht.Bounds;
+import org.apache.cassandra.dht.IncludingExcludingBounds;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.index.transactions.UpdateTransaction;
+import org.apache.cassandra.io.sstable.SSTableReadsListener;
+import org.apache.cassandra.io.util.DataInputBuffer;
+import org.apache.cassandra.io.util.DataOutputBuffer;
+import org.apache.cassandra.metrics.TrieMemtableMetricsView;
+import org.apache.cassandra.net.MessagingService;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.schema.TableMetadataRef;
+import org.apache.cassandra.utils.Clock;
+import org.apache.cassandra.utils.ObjectSizes;
+import org.apache.cassandra.utils.btree.BTree;
+import org.apache.cassandra.utils.bytecomparable.ByteComparable;
+import org.apache.cassandra.utils.bytecomparable.ByteSource;
+import org.apache.cassandra.utils.concurrent.OpOrder;
+import org.apache.cassandra.utils.memory.HeapCloner;
+import org.apache.cassandra.utils.memory.MemoryUtil;
+import org.apache.cassandra.utils.memory.NativeAllocator;
+import org.github.jamm.Unmetered;
+
+import static org.apache.cassandra.db.memtable.TrieMemtable.BUFFER_TYPE;
+import static org.apache.cassandra.db.memtable.TrieMemtable.BYTE_COMPARABLE_VERSION;
+import static org.apache.cassandra.db.memtable.TrieMemtable.MAX_RECURSIVE_KEY_LENGTH;
+
+/**
+ * A variant of the trie memtable which does not keep the rows of its partitions as on-heap objects. Every row is
+ * serialized into memory obtained from the memtable's {@link NativeAllocator}, and the trie maps the row's path, i.e.
+ * the partition key followed by the clustering, to a small handle of that memory. The rows are decoded on reads and
+ * flushes, into short-lived objects which only cover the requested slices. This leaves the memtable with one small
+ * on-heap object per row and per partition (plus the partitions' deletion info), which makes the size of the memtable
+ * largely irrelevant to the garbage collector.
+ * <p>
+ * Updating a row decodes it, merges the update into it and encodes the result anew; the memory of the previous version
+ * is only reclaimed when the memtable is discarded, as it is for the cells {@link SkipListMemtable} clones off-heap.
+ * The writes to a partition are made under the lock of its shard and are isolated from reads by a per-partition
+ * sequence number: a read that overlaps a write to its partition is retried, and a read that keeps failing to complete
+ * between writes takes the shard's lock.
+ * <p>
+ * This memtable requires the offheap_objects memtable allocation type; with any other a {@link TrieMemtable} is
+ * created instead. It takes the shards and adaptive_shards parameters of {@link TrieMemtable}.
+ */
+public class NativeTrieMemtable extends AbstractShardedMemtable
+{
+    private static final Logger logger = LoggerFactory.getLogger(NativeTrieMemtable.class);
+
+    /** The number of times a read is attempted without locking before it takes the lock of the partition's shard. */
+    @VisibleForTesting
+    static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+    private final AtomicBoolean switchRequested = new AtomicBoolean(false);
+
+    private final MemtableShard[] shards;
+
+    /** A merged view of the shards, used for partition range queries and flush. */
+    private final Trie<Object> mergedTrie;
+
+    /** The header the rows are encoded with; replaced when a write brings columns it does not include. */
+    private volatile SerializationHeader header;
+
+    @Unmetered
+    private final TrieMemtableMetricsView metrics;
+
+    NativeTrieMemtable(AtomicReference<CommitLogPosition> commitLogLowerBound,
+                       TableMetadataRef metadataRef,
+                       Owner owner,
+                       Integer shardCountOption,
+                       boolean adaptiveShards)
+    {
+        super(commitLogLowerBound, metadataRef, owner, shardCountOption, adaptiveShards);
+        assert allocator instanceof NativeAllocator : allocator;
+        this.metrics = new TrieMemtableMetricsView(metadataRef.keyspace, metadataRef.name);
+        this.shards = new MemtableShard[boundaries.shardCount()];
+        List<Trie<Object>> tries = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++)
+        {
+            shards[i] = new MemtableShard(metadataRef);
+            tries.add(shards[i].data);
+        }
+        this.mergedTrie = Trie.mergeDistinct(tries);
+    }
+
+    /**
+     * The state of a partition, stored in the trie at the path of its key. The rows of the partition are stored at the
+     * paths which extend it with their clustering.
+     */
+    private static final class PartitionState
+    {
+        static final long EMPTY_SIZE = ObjectSizes.measure(new PartitionState());
+
+        /** Odd while a write to the partition is in progress. */
+        volatile int version;
+        volatile DeletionInfo deletionInfo = DeletionInfo.LIVE;
+        volatile EncodedRow staticRow;
+    }
+
+    /**
+     * The handle of a row encoded with {@link UnfilteredSerializer} in native memory.
+     */
+    private static final class EncodedRow
+    {
+        static final long EMPTY_SIZE = ObjectSizes.measure(new EncodedRow(0, 0, null));
+
+        final long peer;
+        final int size;
+        final SerializationHeader header;
+
+        EncodedRow(long peer, int size, SerializationHeader header)
+        {
+            this.peer = peer;
+            this.size = size;
+            this.header = header;
+        }
+    }
+
+    @Override
+    public boolean isClean()
+    {
+        for (MemtableShard shard : shards)
+            if (!shard.data.isEmpty())
+                return false;
+        return true;
+    }
+
+    @Override
+    public void discard()
+    {
+        super.discard();
+        metrics.lastFlushShardDataSizes.reset();
+        for (MemtableShard shard : shards)
+            metrics.lastFlushShardDataSizes.update(shard.liveDataSize.get());
+        for (MemtableShard shard : shards)
+            shard.data.discardBuffers();
+    }
+
+    @Override
+    public long put(PartitionUpdate update, UpdateTransaction indexer, OpOrder.Group opGroup)
+    {
+        try
+        {
+            DecoratedKey key = update.partitionKey();
+            MemtableShard shard = shards[boundaries.getShardForKey(key)];
+            long colUpdateTimeDelta = shard.put(key, update, indexer, opGroup);
+
+            if (shard.data.reachedAllocatedSizeThreshold() && !switchRequested.getAndSet(true))
+            {
+                logger.info("Scheduling flush due to trie size limit reached.");
+                owner.signalFlushRequired(this, ColumnFamilyStore.FlushReason.MEMTABLE_LIMIT);
+            }
+
+            return colUpdateTimeDelta;
+        }
+        catch (InMemoryTrie.SpaceExhaustedException e)
+        {
+            // This should never happen as InMemoryTrie.reachedAllocatedSizeThreshold should become true and trigger
+            // a memtable switch long before this limit is reached.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public long getLiveDataSize()
+    {
+        long total = 0L;
+        for (MemtableShard shard : shards)
+            total += shard.liveDataSize.get();
+        return total;
+    }
+
+    @Override
+    public long operationCount()
+    {
+        long total = 0L;
+        for (MemtableShard shard : shards)
+            total += shard.currentOperations.get();
+        return total;
+    }
+
+    @Override
+    long shardWrites(int shard)
+    {
+        return shards[shard].puts.get();
+    }
+
+    @Override
+    long contendedShardWrites(int shard)
+    {
+        return shards[shard].contendedPuts.get();
+    }
+
+    @Override
+    public long partitionCount()
+    {
+        long total = 0;
+        for (MemtableShard shard : shards)
+            total += shard.partitions.get();
+        return total;
+    }
+
+    @Override
+    public long getMinTimestamp()
+    {
+        long min = Long.MAX_VALUE;
+        for (MemtableShard shard : shards)
+            min = Long.min(min, shard.minTimestamp.get());
+        return min != EncodingStats.NO_STATS.minTimestamp ? min : NO_MIN_TIMESTAMP;
+    }
+
+    @Override
+    public long getMinLocalDeletionTime()
+    {
+        long min = Long.MAX_VALUE;
+        for (MemtableShard shard : shards)
+            min = Long.min(min, shard.minLocalDeletionTime.get());
+        return min;
+    }
+
+    @Override
+    RegularAndStaticColumns columns()
+    {
+        for (MemtableShard shard : shards)
+            columnsCollector.update(shard.columnsCollector);
+        return columnsCollector.get();
+    }
+
+    @Override
+    EncodingStats encodingStats()
+    {
+        for (MemtableShard shard : shards)
+            statsCollector.update(shard.statsCollector.get());
+        return statsCollector.get();
+    }
+
+    @Override
+    public UnfilteredPartitionIterator partitionIterator(ColumnFilter columnFilter,
+                                                         DataRange dataRange,
+                                                         SSTableReadsListener readsListener)
+    {
+        AbstractBounds<PartitionPosition> keyRange = dataRange.keyRange();
+
+        PartitionPosition left = keyRange.left;
+        PartitionPosition right = keyRange.right;
+        if (left.isMinimum())
+            left = null;
+        if (right.isMinimum())
+            right = null;
+
+        boolean isBound = keyRange instanceof Bounds;
+        boolean includeStart = isBound || keyRange instanceof IncludingExcludingBounds;
+        boolean includeStop = isBound || keyRange instanceof Range;
+
+        Iterator<DecoratedKey> keys = partitionKeys(mergedTrie.subtrie(left, includeStart, right, includeStop));
+        TableMetadata metadata = metadata();
+        return new AbstractUnfilteredPartitionIterator()
+        {
+            public TableMetadata metadata()
+            {
+                return metadata;
+            }
+
+            public boolean hasNext()
+            {
+                return keys.hasNext();
+            }
+
+            public UnfilteredRowIterator next()
+            {
+                DecoratedKey key = keys.next();
+                ClusteringIndexFilter filter = dataRange.clusteringIndexFilter(key);
+                Partition partition = getPartition(key, filter.getSlices(metadata));
+                return filter.getUnfilteredRowIterator(columnFilter, partition);
+            }
+        };
+        // readsListener is ignored as it only accepts sstable signals
+    }
+
+    @Override
+    public UnfilteredRowIterator rowIterator(DecoratedKey key, Slices slices, ColumnFilter selectedColumns, boolean reversed, SSTableReadsListener listener)
+    {
+        Partition partition = getPartition(key, slices);
+        return partition != null ? partition.unfilteredIterator(selectedColumns, slices, reversed) : null;
+    }
+
+    @Override
+    public UnfilteredRowIterator rowIterator(DecoratedKey key)
+    {
+        Partition partition = getPartition(key, Slices.ALL);
+        return partition != null ? partition.unfilteredIterator() : null;
+    }
+
+    @Override
+    public FlushablePartitionSet<DecodedPartition> getFlushSet(PartitionPosition from, PartitionPosition to)
+    {
+        Trie<Object> toFlush = mergedTrie.subtrie(from, true, to, false);
+        long keySize = 0;
+        int keyCount = 0;
+
+        for (Iterator<DecoratedKey> it = partitionKeys(toFlush); it.hasNext(); )
+        {
+            keySize += it.next().getKeyLength();
+            keyCount++;
+        }
+        long partitionKeySize = keySize;
+        int partitionCount = keyCount;
+
+        return new AbstractFlushablePartitionSet<DecodedPartition>()
+        {
+            public Memtable memtable()
+            {
+                return NativeTrieMemtable.this;
+            }
+
+            public PartitionPosition from()
+            {
+                return from;
+            }
+
+            public PartitionPosition to()
+            {
+                return to;
+            }
+
+            public long partitionCount()
+            {
+                return partitionCount;
+            }
+
+            public Iterator<DecodedPartition> iterator()
+            {
+                // Only the partitions currently being written are decoded.
+                Iterator<DecoratedKey> keys = partitionKeys(toFlush);
+                return new AbstractIterator<DecodedPartition>()
+                {
+                    protected DecodedPartition computeNext()
+                    {
+                        return keys.hasNext() ? getPartition(keys.next(), Slices.ALL) : endOfData();
+                    }
+                };
+            }
+
+            public long partitionKeysSize()
+            {
+                return partitionKeySize;
+            }
+        };
+    }
+
+    /**
+     * Returns the keys of the partitions in the given section of the memtable's trie, skipping over their rows.
+     */
+    private Iterator<DecoratedKey> partitionKeys(Trie<Object> trie)
+    {
+        Iterator<Map.Entry<ByteComparable, Object>> entries = trie.entryIterator();
+        return new AbstractIterator<DecoratedKey>()
+        {
+            protected DecoratedKey computeNext()
+            {
+                while (entries.hasNext())
+                {
+                    Map.Entry<ByteComparable, Object> entry = entries.next();
+                    if (entry.getValue() instanceof PartitionState)
+                        return BufferDecoratedKey.fromByteComparable(entry.getKey(), BYTE_COMPARABLE_VERSION, metadata().partitioner);
+                }
+                return endOfData();
+            }
+        };
+    }
+
+    /**
+     * Decodes the rows of the given partition that fall within the given slices, along with its static row and
+     * deletion info, or returns null if the memtable does not contain the partition.
+     */
+    private DecodedPartition getPartition(DecoratedKey key, Slices slices)
+    {
+        MemtableShard shard = shards[boundaries.getShardForKey(key)];
+        PartitionState state = (PartitionState) shard.data.get(key);
+        if (state == null)
+            return null;
+
+        for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++)
+        {
+            int version = state.version;
+            if ((version & 1) != 0)
+            {
+                Thread.yield();
+                continue;
+            }
+
+            DecodedPartition partition = decode(shard, key, state, slices);
+            // The trie content is read with volatile semantics, so this cannot be reordered before the reads above.
+            if (state.version == version)
+                return partition;
+        }
+
+        shard.writeLock.lock();
+        try
+        {
+            return decode(shard, key, state, slices);
+        }
+        finally
+        {
+            shard.writeLock.unlock();
+        }
+    }
+
+    private DecodedPartition decode(MemtableShard shard, DecoratedKey key, PartitionState state, Slices slices)
+    {
+        DeletionInfo deletionInfo = state.deletionInfo;
+        EncodedRow staticRow = state.staticRow;
+        BTree.Builder<Row> rows = BTree.builder(metadata().comparator);
+        rows.auto(false);
+        for (Slice slice : slices)
+        {
+            Trie<Object> rowsInSlice = shard.data.subtrie(rowPath(key, slice.start()), true, rowPath(key, slice.end()), true);
+            for (Object row : rowsInSlice.values())
+                rows.add(decode((EncodedRow) row, false));
+        }
+
+        return new DecodedPartition(metadata(),
+                                    key,
+                                    columns(),
+                                    staticRow != null ? decode(staticRow, true) : Rows.EMPTY_STATIC_ROW,
+                                    rows.build(),
+                                    deletionInfo,
+                                    encodingStats());
+    }
+
+    private Row decode(EncodedRow row, boolean isStatic)
+    {
+        // The deserialized values are copied on heap, so the row remains valid after the memtable is discarded.
+        try (DataInputBuffer in = new DataInputBuffer(MemoryUtil.getByteBuffer(row.peer, row.size, ByteOrder.BIG_ENDIAN), false))
+        {
+            DeserializationHelper helper = new DeserializationHelper(metadata(), MessagingService.current_version, DeserializationHelper.Flag.LOCAL);
+            if (isStatic)
+                return UnfilteredSerializer.serializer.deserializeStaticRow(in, row.header, helper);
+            return (Row) UnfilteredSerializer.serializer.deserialize(in, row.header, helper, BTreeRow.sortedBuilder());
+        }
+        catch (IOException e)
+        {
+            throw new AssertionError(e);
+        }
+    }
+
+    private EncodedRow encode(Row row, SerializationHeader header, OpOrder.Group opGroup)
+    {
+        try (DataOutputBuffer out = DataOutputBuffer.scratchBuffer.get())
+        {
+            UnfilteredSerializer.serializer.serialize(row, new SerializationHelper(header), out, MessagingService.current_version);
+            int size = out.getLength();
+            long peer = ((NativeAllocator) allocator).allocate(size, opGroup);
+            MemoryUtil.setBytes(peer, out.buffer());
+            return new EncodedRow(peer, size, header);
+        }
+        catch (IOException e)
+        {
+            // writing to a buffer cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns a header including the given columns to encode rows with.
+     */
+    private SerializationHeader header(RegularAndStaticColumns columns)
+    {
+        SerializationHeader current = header;
+        if (current != null && current.columns().includes(columns))
+            return current;
+
+        synchronized (this)
+        {
+            current = header;
+            if (current != null && current.columns().includes(columns))
+                return current;
+
+            TableMetadata metadata = metadata();
+            RegularAndStaticColumns merged = columns.mergeTo(metadata.regularAndStaticColumns());
+            if (current != null)
+                merged = merged.mergeTo(current.columns());
+            return header = new SerializationHeader(false, metadata, merged, EncodingStats.NO_STATS);
+        }
+    }
+
+    private ByteComparable rowPath(DecoratedKey key, ClusteringPrefix<?> clustering)
+    {
+        // Both the key and the clustering are prefix-free, so the rows sort by clustering after their partition.
+        ByteComparable clusteringPath = metadata().comparator.asByteComparable(clustering);
+        return version -> concat(key.asComparableBytes(version), clusteringPath.asComparableBytes(version));
+    }
+
+    private static ByteSource concat(ByteSource first, ByteSource second)
+    {
+        return new ByteSource()
+        {
+            boolean inFirst = true;
+
+            public int next()
+            {
+                if (inFirst)
+                {
+                    int b = first.next();
+                    if (b != END_OF_STREAM)
+                        return b;
+                    inFirst = false;
+                }
+                return second.next();
+            }
+        };
+    }
+
+    class MemtableShard
+    {
+        private final AtomicLong minTimestamp = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong minLocalDeletionTime = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong liveDataSize = new AtomicLong(0);
+
+        private final AtomicLong currentOperations = new AtomicLong(0);
+
+        private final AtomicLong partitions = new AtomicLong(0);
+
+        private final AtomicLong puts = new AtomicLong(0);
+
+        private final AtomicLong contendedPuts = new AtomicLong(0);
+
+        @Unmetered
+        private final ReentrantLock writeLock = new ReentrantLock();
+
+        // Maps the partition keys to their PartitionState, and the keys followed by the clusterings to their EncodedRow.
+        // Written by one thread at a time and read concurrently, like the trie of TrieMemtable's shards.
+        @VisibleForTesting
+        final InMemoryTrie<Object> data;
+
+        private final ColumnsCollector columnsCollector;
+
+        private final StatsCollector statsCollector;
+
+        MemtableShard(TableMetadataRef metadata)
+        {
+            this.data = new InMemoryTrie<>(BUFFER_TYPE);
+            this.columnsCollector = new AbstractMemtable.ColumnsCollector(metadata.get().regularAndStaticColumns());
+            this.statsCollector = new AbstractMemtable.StatsCollector();
+        }
+
+        long put(DecoratedKey key, PartitionUpdate update, UpdateTransaction indexer, OpOrder.Group opGroup) throws InMemoryTrie.SpaceExhaustedException
+        {
+            RowUpdater updater = new RowUpdater(indexer);
+            boolean locked = writeLock.tryLock();
+            if (locked)
+            {
+                metrics.uncontendedPuts.inc();
+            }
+            else
+            {
+                metrics.contendedPuts.inc();
+                long lockStartTime = Clock.Global.nanoTime();
+                writeLock.lock();
+                metrics.contentionTime.addNano(Clock.Global.nanoTime() - lockStartTime);
+            }
+
+            try
+            {
+                puts.incrementAndGet();
+                if (!locked)
+                    contendedPuts.incrementAndGet();
+
+                long onHeap = data.sizeOnHeap();
+                long offHeap = data.sizeOffHeap();
+                indexer.start();
+                try
+                {
+                    merge(key, update, updater, opGroup);
+                }
+                finally
+                {
+                    indexer.commit();
+                    allocator.offHeap().adjust(data.sizeOffHeap() - offHeap, opGroup);
+                    allocator.onHeap().adjust(data.sizeOnHeap() - onHeap + updater.heapSize, opGroup);
+                    updateStats(update, updater);
+                }
+            }
+            finally
+            {
+                writeLock.unlock();
+            }
+            return updater.colUpdateTimeDelta;
+        }
+
+        /**
+         * Merges the update into the partition. Must be called with the write lock held.
+         */
+        private void merge(DecoratedKey key, PartitionUpdate update, RowUpdater updater, OpOrder.Group opGroup) throws InMemoryTrie.SpaceExhaustedException
+        {
+            PartitionState state = (PartitionState) data.get(key);
+            if (state == null)
+            {
+                state = new PartitionState();
+                state.version = 1;
+                data.putSingleton(key, state, (existing, inserted) -> inserted, key.getKeyLength() < MAX_RECURSIVE_KEY_LENGTH);
+                partitions.incrementAndGet();
+                updater.heapSize += PartitionState.EMPTY_SIZE;
+            }
+            else
+            {
+                state.version++;
+            }
+
+            try
+            {
+                state.deletionInfo = updater.merge(state.deletionInfo, update.deletionInfo());
+
+                SerializationHeader header = header(update.columns());
+                Row staticRow = update.staticRow();
+                if (!staticRow.isEmpty())
+                {
+                    Row merged = state.staticRow != null ? updater.merge(decode(state.staticRow, true), staticRow)
+                                                         : updater.insert(staticRow);
+                    if (state.staticRow == null)
+                        updater.heapSize += EncodedRow.EMPTY_SIZE;
+                    state.staticRow = encode(merged, header, opGroup);
+                }
+
+                for (Row row : update)
+                {
+                    ByteComparable path = rowPath(key, row.clustering());
+                    EncodedRow existing = (EncodedRow) data.get(path);
+                    Row merged = existing != null ? updater.merge(decode(existing, false), row)
+                                                  : updater.insert(row);
+                    EncodedRow encoded = encode(merged, header, opGroup);
+                    if (existing != null)
+                    {
+                        data.updateExisting(path, encoded, (previous, inserted) -> inserted);
+                    }
+                    else
+                    {
+                        boolean recursive = key.getKeyLength() + row.clustering().dataSize() < MAX_RECURSIVE_KEY_LENGTH;
+                        data.putSingleton(path, encoded, (previous, inserted) -> inserted, recursive);
+                        updater.heapSize += EncodedRow.EMPTY_SIZE;
+                    }
+                }
+            }
+            finally
+            {
+                state.version++;
+            }
+        }
+
+        private void updateStats(PartitionUpdate update, RowUpdater updater)
+        {
+            updateMin(minTimestamp, update.stats().minTimestamp);
+            updateMin(minLocalDeletionTime, update.stats().minLocalDeletionTime);
+            liveDataSize.addAndGet(updater.dataSize);
+            currentOperations.addAndGet(update.operationCount());
+
+            columnsCollector.update(update.columns());
+            statsCollector.update(update.stats());
+        }
+    }
+
+    /**
+     * Merges the updates into the decoded content of a partition, calling the index hooks and tracking the changes in
+     * data size as {@link org.apache.cassandra.db.partitions.BTreePartitionUpdater} does. No cloning is necessary as the
+     * merged rows are encoded in the memtable's memory.
+     */
+    private static class RowUpdater implements ColumnData.PostReconciliationFunction
+    {
+        final UpdateTransaction indexer;
+        long dataSize;
+        long heapSize;
+        long colUpdateTimeDelta = Long.MAX_VALUE;
+
+        RowUpdater(UpdateTransaction indexer)
+        {
+            this.indexer = indexer;
+        }
+
+        DeletionInfo merge(DeletionInfo existing, DeletionInfo update)
+        {
+            if (update.isLive() || !update.mayModify(existing))
+                return existing;
+
+            if (!update.getPartitionDeletion().isLive())
+                indexer.onPartitionDeletion(update.getPartitionDeletion());
+
+            if (update.hasRanges())
+                update.rangeIterator(false).forEachRemaining(indexer::onRangeTombstone);
+
+            DeletionInfo newInfo = existing.mutableCopy().add(update.clone(HeapCloner.instance));
+            dataSize += newInfo.dataSize() - existing.dataSize();
+            heapSize += newInfo.unsharedHeapSize() - existing.unsharedHeapSize();
+            return newInfo;
+        }
+
+        Row insert(Row insert)
+        {
+            indexer.onInserted(insert);
+            dataSize += insert.dataSize();
+            return insert;
+        }
+
+        Row merge(Row existing, Row update)
+        {
+            Row reconciled = Rows.merge(existing, update, this);
+            indexer.onUpdated(existing, reconciled);
+            return reconciled;
+        }
+
+        public ColumnData insert(ColumnData insert)
+        {
+            dataSize += insert.dataSize();
+            return insert;
+        }
+
+        public Cell<?> merge(Cell<?> previous, Cell<?> insert)
+        {
+            if (insert == previous)
+                return insert;
+
+            long timeDelta = Math.abs(insert.timestamp() - previous.timestamp());
+            if (timeDelta < colUpdateTimeDelta)
+                colUpdateTimeDelta = timeDelta;
+            dataSize += insert.dataSize() - previous.dataSize();
+            return insert;
+        }
+
+        public void delete(ColumnData existing)
+        {
+            dataSize -= existing.dataSize();
+        }
+
+        public void onAllocatedOnHeap(long delta)
+        {
+            // the merged rows are not kept on heap
+        }
+    }
+
+    /**
+     * A partition decoded from the memtable. It may contain data shadowed by its deletions, as the rows are not
+     * purged when a deletion covering them is written.
+     */
+    static class DecodedPartition extends ImmutableBTreePartition
+    {
+        DecodedPartition(TableMetadata metadata,
+                         DecoratedKey partitionKey,
+                         RegularAndStaticColumns columns,
+                         Row staticRow,
+                         Object[] tree,
+                         DeletionInfo deletionInfo,
+                         EncodingStats stats)
+        {
+            super(metadata, partitionKey, columns, staticRow, tree, deletionInfo, stats);
+        }
+
+        @Override
+        protected boolean canHaveShadowedData()
+        {
+            return true;
+        }
+    }
+
+    public static Factory factory(Map<String, String> optionsCopy)
+    {
+        String shardsString = optionsCopy.remove(SHARDS_OPTION);
+        Integer shardCount = shardsString != null ? Integer.parseInt(shardsString) : null;
+        return new Factory(shardCount, adaptiveShards(optionsCopy));
+    }
+
+    static class Factory implements Memtable.Factory
+    {
+        final Integer shardCount;
+        final boolean adaptiveShards;
+
+        Factory(Integer shardCount, boolean adaptiveShards)
+        {
+            this.shardCount = shardCount;
+            this.adaptiveShards = adaptiveShards;
+        }
+
+        public Memtable create(AtomicReference<CommitLogPosition> commitLogLowerBound,
+                               TableMetadataRef metadataRef,
+                               Owner owner)
+        {
+            if (DatabaseDescriptor.getMemtableAllocationType() != Config.MemtableAllocationType.offheap_objects)
+                return new TrieMemtable(commitLogLowerBound, metadataRef, owner, shardCount, adaptiveShards, false);
+
+            return new NativeTrieMemtable(commitLogLowerBound, metadataRef, owner, shardCount, adaptiveShards);
+        }
+
+        @Override
+        public Runnable createMemtableMetricsReleaser(TableMetadataRef metadataRef)
+        {
+            return () -> TrieMemtableMetricsView.release(metadataRef.keyspace, metadataRef.name);
+        }
+
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Factory factory = (Factory) o;
+            return Objects.equals(shardCount, factory.shardCount)
+                   && adaptiveShards == factory.adaptiveShards;
+        }
+
+        public int hashCode()
+        {
+            return Objects.hash(shardCount, adaptiveShards);
+        }
+    }
+}
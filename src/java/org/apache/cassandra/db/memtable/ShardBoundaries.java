@@ -87,6 +87,14 @@ public class ShardBoundaries
         return getShardForToken(key.getToken());
     }
 
+    /**
+     * The token that ends the given shard, exclusive, i.e. the first token of the next shard.
+     */
+    public Token boundary(int shard)
+    {
+        return boundaries[shard];
+    }
+
     /**
      * The number of shards that this boundaries support, that is how many different shard ids {@link #getShardForToken} might
      * possibly return.
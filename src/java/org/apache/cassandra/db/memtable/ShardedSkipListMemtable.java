@@ -24,6 +24,7 @@ import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterators;
@@ -68,6 +69,8 @@ import org.github.jamm.Unmetered;
  * - shards: the number of shards to split into.
  * - serialize_writes: if false, each shard may serve multiple writes in parallel; if true, writes to each shard are
  *   synchronized.
+ * - adaptive_shards: if true, the shard boundaries are placed to split the writes to the previous memtable evenly and,
+ *   with serialize_writes, the shard count is adjusted to the lock contention it observed (see AbstractShardedMemtable).
  *
  * Also see Memtable_API.md.
  */
@@ -87,9 +90,10 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
     ShardedSkipListMemtable(AtomicReference<CommitLogPosition> commitLogLowerBound,
                             TableMetadataRef metadataRef,
                             Owner owner,
-                            Integer shardCountOption)
+                            Integer shardCountOption,
+                            boolean adaptiveShards)
     {
-        super(commitLogLowerBound, metadataRef, owner, shardCountOption);
+        super(commitLogLowerBound, metadataRef, owner, shardCountOption, adaptiveShards);
         this.shards = generatePartitionShards(boundaries.shardCount(), allocator, metadataRef);
     }
 
@@ -147,6 +151,19 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
         return total;
     }
 
+    @Override
+    long shardWrites(int shard)
+    {
+        return shards[shard].puts.get();
+    }
+
+    @Override
+    long contendedShardWrites(int shard)
+    {
+        // writes to the shards are not serialized
+        return -1;
+    }
+
     @Override
     public long partitionCount()
     {
@@ -323,6 +340,14 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
 
         private final AtomicLong currentOperations = new AtomicLong(0);
 
+        private final AtomicLong puts = new AtomicLong(0);
+
+        // only used with serialized writes
+        private final AtomicLong contendedPuts = new AtomicLong(0);
+
+        @Unmetered
+        private final ReentrantLock writeLock = new ReentrantLock();
+
         // We index the memtable by PartitionPosition only for the purpose of being able
         // to select key range using Token.KeyBound. However put() ensures that we
         // actually only store DecoratedKey.
@@ -376,6 +401,7 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
             columnsCollector.update(update.columns());
             statsCollector.update(update.stats());
             currentOperations.addAndGet(update.operationCount());
+            puts.incrementAndGet();
             return updater.colUpdateTimeDelta;
         }
 
@@ -473,9 +499,9 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
 
     static class Locking extends ShardedSkipListMemtable
     {
-        Locking(AtomicReference<CommitLogPosition> commitLogLowerBound, TableMetadataRef metadataRef, Owner owner, Integer shardCountOption)
+        Locking(AtomicReference<CommitLogPosition> commitLogLowerBound, TableMetadataRef metadataRef, Owner owner, Integer shardCountOption, boolean adaptiveShards)
         {
-            super(commitLogLowerBound, metadataRef, owner, shardCountOption);
+            super(commitLogLowerBound, metadataRef, owner, shardCountOption, adaptiveShards);
         }
 
         /**
@@ -488,10 +514,25 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
         {
             DecoratedKey key = update.partitionKey();
             MemtableShard shard = shards[boundaries.getShardForKey(key)];
-            synchronized (shard)
+            if (!shard.writeLock.tryLock())
+            {
+                shard.writeLock.lock();
+                shard.contendedPuts.incrementAndGet();
+            }
+            try
             {
                 return shard.put(key, update, indexer, opGroup);
             }
+            finally
+            {
+                shard.writeLock.unlock();
+            }
+        }
+
+        @Override
+        long contendedShardWrites(int shard)
+        {
+            return shards[shard].contendedPuts.get();
         }
 
     }
@@ -501,18 +542,20 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
         String shardsString = optionsCopy.remove(SHARDS_OPTION);
         Integer shardCount = shardsString != null ? Integer.parseInt(shardsString) : null;
         boolean isLocking = Boolean.parseBoolean(optionsCopy.remove(LOCKING_OPTION));
-        return new Factory(shardCount, isLocking);
+        return new Factory(shardCount, isLocking, adaptiveShards(optionsCopy));
     }
 
     static class Factory implements Memtable.Factory
     {
         final Integer shardCount;
         final boolean isLocking;
+        final boolean adaptiveShards;
 
-        Factory(Integer shardCount, boolean isLocking)
+        Factory(Integer shardCount, boolean isLocking, boolean adaptiveShards)
         {
             this.shardCount = shardCount;
             this.isLocking = isLocking;
+            this.adaptiveShards = adaptiveShards;
         }
 
         public Memtable create(AtomicReference<CommitLogPosition> commitLogLowerBound,
@@ -520,8 +563,8 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
                                Owner owner)
         {
             return isLocking
-                   ? new Locking(commitLogLowerBound, metadataRef, owner, shardCount)
-                   : new ShardedSkipListMemtable(commitLogLowerBound, metadataRef, owner, shardCount);
+                   ? new Locking(commitLogLowerBound, metadataRef, owner, shardCount, adaptiveShards)
+                   : new ShardedSkipListMemtable(commitLogLowerBound, metadataRef, owner, shardCount, adaptiveShards);
         }
 
         public boolean equals(Object o)
@@ -531,12 +574,14 @@ public class ShardedSkipListMemtable extends AbstractShardedMemtable
             if (o == null || getClass() != o.getClass())
                 return false;
             Factory factory = (Factory) o;
-            return Objects.equals(shardCount, factory.shardCount);
+            return Objects.equals(shardCount, factory.shardCount)
+                   && isLocking == factory.isLocking
+                   && adaptiveShards == factory.adaptiveShards;
         }
 
         public int hashCode()
         {
-            return Objects.hash(shardCount);
+            return Objects.hash(shardCount, isLocking, adaptiveShards);
         }
     }
 }
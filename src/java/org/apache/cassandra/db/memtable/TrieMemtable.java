@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -80,8 +81,13 @@ import org.github.jamm.Unmetered;
  * The implementation is described in detail in the paper:
  *       https://www.vldb.org/pvldb/vol15/p3359-lambov.pdf
  *
- * The configuration takes a single parameter:
+ * The configuration takes the following parameters:
  * - shards: the number of shards to split into, defaulting to the number of CPU cores.
+ * - adaptive_shards: if true, the shard count is adjusted at every memtable switch to the lock contention the previous
+ *   memtable observed, and the shard boundaries are placed to split its writes evenly (see AbstractShardedMemtable).
+ * - concurrent_updates: if true, updates of partitions already in a shard do not take the shard's lock and may execute
+ *   concurrently, which lets fewer shards serve the same write concurrency; only the writes that add new partitions to
+ *   a shard are serialized.
  *
  * Also see Memtable_API.md.
  */
@@ -89,6 +95,8 @@ public class TrieMemtable extends AbstractShardedMemtable
 {
     private static final Logger logger = LoggerFactory.getLogger(TrieMemtable.class);
 
+    public static final String CONCURRENT_UPDATES_OPTION = "concurrent_updates";
+
     /** Buffer type to use for memtable tries (on- vs off-heap) */
     public static final BufferType BUFFER_TYPE = DatabaseDescriptor.getMemtableAllocationType().toBufferType();
 
@@ -119,22 +127,28 @@ public class TrieMemtable extends AbstractShardedMemtable
     @Unmetered
     private final TrieMemtableMetricsView metrics;
 
-    TrieMemtable(AtomicReference<CommitLogPosition> commitLogLowerBound, TableMetadataRef metadataRef, Owner owner, Integer shardCountOption)
+    TrieMemtable(AtomicReference<CommitLogPosition> commitLogLowerBound,
+                 TableMetadataRef metadataRef,
+                 Owner owner,
+                 Integer shardCountOption,
+                 boolean adaptiveShards,
+                 boolean concurrentUpdates)
     {
-        super(commitLogLowerBound, metadataRef, owner, shardCountOption);
+        super(commitLogLowerBound, metadataRef, owner, shardCountOption, adaptiveShards);
         this.metrics = new TrieMemtableMetricsView(metadataRef.keyspace, metadataRef.name);
-        this.shards = generatePartitionShards(boundaries.shardCount(), allocator, metadataRef, metrics);
+        this.shards = generatePartitionShards(boundaries.shardCount(), allocator, metadataRef, metrics, concurrentUpdates);
         this.mergedTrie = makeMergedTrie(shards);
     }
 
     private static MemtableShard[] generatePartitionShards(int splits,
                                                            MemtableAllocator allocator,
                                                            TableMetadataRef metadata,
-                                                           TrieMemtableMetricsView metrics)
+                                                           TrieMemtableMetricsView metrics,
+                                                           boolean concurrentUpdates)
     {
         MemtableShard[] partitionMapContainer = new MemtableShard[splits];
         for (int i = 0; i < splits; i++)
-            partitionMapContainer[i] = new MemtableShard(metadata, allocator, metrics);
+            partitionMapContainer[i] = new MemtableShard(metadata, allocator, metrics, concurrentUpdates);
 
         return partitionMapContainer;
     }
@@ -226,6 +240,18 @@ public class TrieMemtable extends AbstractShardedMemtable
         return total;
     }
 
+    @Override
+    long shardWrites(int shard)
+    {
+        return shards[shard].puts();
+    }
+
+    @Override
+    long contendedShardWrites(int shard)
+    {
+        return shards[shard].contendedPuts();
+    }
+
     @Override
     public long partitionCount()
     {
@@ -403,22 +429,29 @@ public class TrieMemtable extends AbstractShardedMemtable
 
     static class MemtableShard
     {
-        // The following fields are volatile as we have to make sure that when we
+        // The following fields are atomic as we have to make sure that when we
         // collect results from all sub-ranges, the thread accessing the value
-        // is guaranteed to see the changes to the values.
+        // is guaranteed to see the changes to the values, and as they may be updated by concurrent writers.
 
         // The smallest timestamp for all partitions stored in this shard
-        private volatile long minTimestamp = Long.MAX_VALUE;
+        private final AtomicLong minTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private volatile long minLocalDeletionTime = Long.MAX_VALUE;
+        private final AtomicLong minLocalDeletionTime = new AtomicLong(Long.MAX_VALUE);
 
-        private volatile long liveDataSize = 0;
+        private final AtomicLong liveDataSize = new AtomicLong(0);
 
-        private volatile long currentOperations = 0;
+        private final AtomicLong currentOperations = new AtomicLong(0);
+
+        private final AtomicLong puts = new AtomicLong(0);
+
+        private final AtomicLong contendedPuts = new AtomicLong(0);
 
         @Unmetered
         private final ReentrantLock writeLock = new ReentrantLock();
 
+        // If true, updates of partitions already in the shard do not take the write lock; see InMemoryTrie.updateExisting.
+        private final boolean concurrentWrites;
+
         // Content map for the given shard. This is implemented as a memtable trie which uses the prefix-free
         // byte-comparable ByteSource representations of the keys to address the partitions.
         //
@@ -426,7 +459,7 @@ public class TrieMemtable extends AbstractShardedMemtable
         // several threads may read from it and iterate over it. Iterators (especially partition range iterators)
         // may operate for a long period of time and thus iterators should not throw ConcurrentModificationExceptions
         // if the underlying map is modified during iteration, they should provide a weakly consistent view of the map
-        // instead.
+        // instead. With concurrent writes, several threads may additionally update the partitions already in the map.
         //
         // Also, this data is backed by memtable memory, when accessing it callers must specify if it can be accessed
         // unsafely, meaning that the memtable will not be discarded as long as the data is used, or whether the data
@@ -446,61 +479,143 @@ public class TrieMemtable extends AbstractShardedMemtable
 
         @VisibleForTesting
         MemtableShard(TableMetadataRef metadata, MemtableAllocator allocator, TrieMemtableMetricsView metrics)
+        {
+            this(metadata, allocator, metrics, false);
+        }
+
+        MemtableShard(TableMetadataRef metadata, MemtableAllocator allocator, TrieMemtableMetricsView metrics, boolean concurrentWrites)
         {
             this.data = new InMemoryTrie<>(BUFFER_TYPE);
             this.columnsCollector = new AbstractMemtable.ColumnsCollector(metadata.get().regularAndStaticColumns());
             this.statsCollector = new AbstractMemtable.StatsCollector();
             this.allocator = allocator;
             this.metrics = metrics;
+            this.concurrentWrites = concurrentWrites;
         }
 
         public long put(DecoratedKey key, PartitionUpdate update, UpdateTransaction indexer, OpOrder.Group opGroup) throws InMemoryTrie.SpaceExhaustedException
         {
             BTreePartitionUpdater updater = new BTreePartitionUpdater(allocator, allocator.cloner(opGroup), opGroup, indexer);
-            boolean locked = writeLock.tryLock();
-            if (locked)
+            if (concurrentWrites)
+                return putConcurrent(key, update, updater, indexer, opGroup);
+
+            boolean locked = lock();
+            try
             {
-                metrics.uncontendedPuts.inc();
+                puts.incrementAndGet();
+                if (!locked)
+                    contendedPuts.incrementAndGet();
+
+                try
+                {
+                    insert(key, update, updater::mergePartitions, opGroup);
+                }
+                finally
+                {
+                    updateStats(update, updater);
+                }
             }
-            else
+            finally
             {
-                metrics.contendedPuts.inc();
-                long lockStartTime = Clock.Global.nanoTime();
-                writeLock.lock();
-                metrics.contentionTime.addNano(Clock.Global.nanoTime() - lockStartTime);
+                writeLock.unlock();
             }
+            return updater.colUpdateTimeDelta;
+        }
+
+        /**
+         * Puts the update with other writers running concurrently: a partition that is already present is updated
+         * without taking the write lock, which is only needed to add new partitions to the trie.
+         */
+        private long putConcurrent(DecoratedKey key,
+                                   PartitionUpdate update,
+                                   BTreePartitionUpdater updater,
+                                   UpdateTransaction indexer,
+                                   OpOrder.Group opGroup) throws InMemoryTrie.SpaceExhaustedException
+        {
+            indexer.start();
             try
             {
-                try
+                puts.incrementAndGet();
+                if (data.updateExisting(key, update, updater::mergePartitionsAttempt))
                 {
-                    long onHeap = data.sizeOnHeap();
-                    long offHeap = data.sizeOffHeap();
-                    // Use the fast recursive put if we know the key is small enough to not cause a stack overflow.
-                    data.putSingleton(key,
-                                      update,
-                                      updater::mergePartitions,
-                                      key.getKeyLength() < MAX_RECURSIVE_KEY_LENGTH);
-                    allocator.offHeap().adjust(data.sizeOffHeap() - offHeap, opGroup);
-                    allocator.onHeap().adjust(data.sizeOnHeap() - onHeap, opGroup);
+                    metrics.uncontendedPuts.inc();
                 }
-                finally
+                else
                 {
-                    minTimestamp = Math.min(minTimestamp, update.stats().minTimestamp);
-                    minLocalDeletionTime = Math.min(minLocalDeletionTime, update.stats().minLocalDeletionTime);
-                    liveDataSize += updater.dataSize;
-                    currentOperations += update.operationCount();
-
-                    columnsCollector.update(update.columns());
-                    statsCollector.update(update.stats());
+                    boolean locked = lock();
+                    try
+                    {
+                        if (!locked)
+                            contendedPuts.incrementAndGet();
+                        // the partition may have been added while we were waiting for the lock
+                        if (!data.updateExisting(key, update, updater::mergePartitionsAttempt))
+                            insert(key, update, updater::mergePartitionsAttempt, opGroup);
+                    }
+                    finally
+                    {
+                        writeLock.unlock();
+                    }
                 }
             }
             finally
             {
-                writeLock.unlock();
+                indexer.commit();
+                updater.reportAllocatedMemory();
+                updateStats(update, updater);
             }
             return updater.colUpdateTimeDelta;
         }
 
+        /**
+         * Takes the write lock, recording the contention metrics. Returns false if the lock was contended.
+         */
+        private boolean lock()
+        {
+            boolean locked = writeLock.tryLock();
+            if (locked)
+            {
+                metrics.uncontendedPuts.inc();
+            }
+            else
+            {
+                metrics.contendedPuts.inc();
+                long lockStartTime = Clock.Global.nanoTime();
+                writeLock.lock();
+                metrics.contentionTime.addNano(Clock.Global.nanoTime() - lockStartTime);
+            }
+            return locked;
+        }
+
+        /**
+         * Adds the update to the trie. Must be called with the write lock held.
+         */
+        private void insert(DecoratedKey key,
+                            PartitionUpdate update,
+                            InMemoryTrie.UpsertTransformer<BTreePartitionData, PartitionUpdate> merger,
+                            OpOrder.Group opGroup) throws InMemoryTrie.SpaceExhaustedException
+        {
+            long onHeap = data.sizeOnHeap();
+            long offHeap = data.sizeOffHeap();
+            // Use the fast recursive put if we know the key is small enough to not cause a stack overflow.
+            data.putSingleton(key,
+                              update,
+                              merger,
+                              key.getKeyLength() < MAX_RECURSIVE_KEY_LENGTH);
+            allocator.offHeap().adjust(data.sizeOffHeap() - offHeap, opGroup);
+            allocator.onHeap().adjust(data.sizeOnHeap() - onHeap, opGroup);
+        }
+
+        private void updateStats(PartitionUpdate update, BTreePartitionUpdater updater)
+        {
+            updateMin(minTimestamp, update.stats().minTimestamp);
+            updateMin(minLocalDeletionTime, update.stats().minLocalDeletionTime);
+            liveDataSize.addAndGet(updater.dataSize);
+            currentOperations.addAndGet(update.operationCount());
+
+            columnsCollector.update(update.columns());
+            statsCollector.update(update.stats());
+        }
+
         public boolean isClean()
         {
             return data.isEmpty();
@@ -513,22 +628,32 @@ public class TrieMemtable extends AbstractShardedMemtable
 
         long minTimestamp()
         {
-            return minTimestamp;
+            return minTimestamp.get();
         }
 
         long liveDataSize()
         {
-            return liveDataSize;
+            return liveDataSize.get();
         }
 
         long currentOperations()
         {
-            return currentOperations;
+            return currentOperations.get();
         }
 
         long minLocalDeletionTime()
         {
-            return minLocalDeletionTime;
+            return minLocalDeletionTime.get();
+        }
+
+        long puts()
+        {
+            return puts.get();
+        }
+
+        long contendedPuts()
+        {
+            return contendedPuts.get();
         }
     }
 
@@ -658,23 +783,28 @@ public class TrieMemtable extends AbstractShardedMemtable
     {
         String shardsString = optionsCopy.remove(SHARDS_OPTION);
         Integer shardCount = shardsString != null ? Integer.parseInt(shardsString) : null;
-        return new Factory(shardCount);
+        boolean concurrentUpdates = Boolean.parseBoolean(optionsCopy.remove(CONCURRENT_UPDATES_OPTION));
+        return new Factory(shardCount, adaptiveShards(optionsCopy), concurrentUpdates);
     }
 
     static class Factory implements Memtable.Factory
     {
         final Integer shardCount;
+        final boolean adaptiveShards;
+        final boolean concurrentUpdates;
 
-        Factory(Integer shardCount)
+        Factory(Integer shardCount, boolean adaptiveShards, boolean concurrentUpdates)
         {
             this.shardCount = shardCount;
+            this.adaptiveShards = adaptiveShards;
+            this.concurrentUpdates = concurrentUpdates;
         }
 
         public Memtable create(AtomicReference<CommitLogPosition> commitLogLowerBound,
                                TableMetadataRef metadaRef,
                                Owner owner)
         {
-            return new TrieMemtable(commitLogLowerBound, metadaRef, owner, shardCount);
+            return new TrieMemtable(commitLogLowerBound, metadaRef, owner, shardCount, adaptiveShards, concurrentUpdates);
         }
 
         @Override
@@ -691,12 +821,14 @@ public class TrieMemtable extends AbstractShardedMemtable
             if (o == null || getClass() != o.getClass())
                 return false;
             Factory factory = (Factory) o;
-            return Objects.equals(shardCount, factory.shardCount);
+            return Objects.equals(shardCount, factory.shardCount)
+                   && adaptiveShards == factory.adaptiveShards
+                   && concurrentUpdates == factory.concurrentUpdates;
         }
 
         public int hashCode()
         {
-            return Objects.hash(shardCount);
+            return Objects.hash(shardCount, adaptiveShards, concurrentUpdates);
         }
     }
 
@@ -77,6 +77,23 @@ public class BTreePartitionUpdater implements UpdateFunction<Row, Row>, ColumnDa
         }
     }
 
+    /**
+     * Merges the update into the given partition data as one attempt of a compare-and-set loop, i.e. the sizes this
+     * updater reports only cover the last attempt. Unlike {@link #mergePartitions}, this does not start or commit the
+     * indexer transaction nor report the allocated memory; the caller must do so around the loop.
+     */
+    public BTreePartitionData mergePartitionsAttempt(BTreePartitionData current, final PartitionUpdate update)
+    {
+        this.dataSize = 0;
+        this.heapSize = 0;
+        if (current == null)
+        {
+            current = BTreePartitionData.EMPTY;
+            onAllocatedOnHeap(BTreePartitionData.UNSHARED_HEAP_SIZE);
+        }
+        return makeMergedPartition(current, update);
+    }
+
     protected BTreePartitionData makeMergedPartition(BTreePartitionData current, PartitionUpdate update)
     {
         DeletionInfo newDeletionInfo = merge(current.deletionInfo, update.deletionInfo());
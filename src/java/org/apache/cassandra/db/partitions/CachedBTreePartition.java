@@ -18,6 +18,7 @@
 package org.apache.cassandra.db.partitions;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.apache.cassandra.db.*;
 import org.apache.cassandra.db.filter.DataLimits;
@@ -92,17 +93,7 @@ public class CachedBTreePartition extends ImmutableBTreePartition implements Cac
             if (row.hasLiveData(nowInSec, enforceStrictLiveness))
                 ++cachedLiveRows;
 
-            boolean hasNonExpiringLiveCell = false;
-            for (Cell<?> cell : row.cells())
-            {
-                if (!cell.isTombstone() && !cell.isExpiring())
-                {
-                    hasNonExpiringLiveCell = true;
-                    break;
-                }
-            }
-
-            if (hasNonExpiringLiveCell)
+            if (hasNonExpiringLiveCell(row))
                 ++rowsWithNonExpiringCells;
         }
 
@@ -114,6 +105,48 @@ public class CachedBTreePartition extends ImmutableBTreePartition implements Cac
                                         rowsWithNonExpiringCells);
     }
 
+    /**
+     * Creates a cached partition from its content and from the counts of its rows made when they were cached, for
+     * caches which keep partitions in another form than {@code CachedBTreePartition}.
+     *
+     * @param rows the rows of the partition, in clustering order.
+     * @param createdAtInSec the time at which the partition was cached, in seconds.
+     * @param cachedLiveRows the number of rows which were live when they were cached, see {@link #cachedLiveRows}.
+     * @param rowsWithNonExpiringCells the number of rows with at least one non-expiring non-deleted cell.
+     * @return the created partition.
+     */
+    public static CachedBTreePartition create(TableMetadata metadata,
+                                              DecoratedKey partitionKey,
+                                              RegularAndStaticColumns columns,
+                                              DeletionTime partitionDeletion,
+                                              Row staticRow,
+                                              List<Row> rows,
+                                              long createdAtInSec,
+                                              int cachedLiveRows,
+                                              int rowsWithNonExpiringCells)
+    {
+        DeletionInfo deletionInfo = new MutableDeletionInfo(partitionDeletion);
+        BTreePartitionData holder = new BTreePartitionData(columns,
+                                                           BTree.build(rows),
+                                                           deletionInfo,
+                                                           staticRow,
+                                                           EncodingStats.Collector.collect(staticRow, rows.iterator(), deletionInfo));
+        return new CachedBTreePartition(metadata, partitionKey, holder, createdAtInSec, cachedLiveRows, rowsWithNonExpiringCells);
+    }
+
+    /**
+     * Whether the given row has at least one non-expiring non-deleted cell, see {@link #rowsWithNonExpiringCells}.
+     */
+    public static boolean hasNonExpiringLiveCell(Row row)
+    {
+        for (Cell<?> cell : row.cells())
+        {
+            if (!cell.isTombstone() && !cell.isExpiring())
+                return true;
+        }
+        return false;
+    }
+
     /**
      * The number of rows that were live at the time the partition was cached.
      *
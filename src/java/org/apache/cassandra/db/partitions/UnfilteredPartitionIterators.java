@@ -54,6 +54,16 @@ public abstract class UnfilteredPartitionIterators
          */
         public default boolean preserveOrder() { return true; }
         public UnfilteredRowIterators.MergeListener getRowMergeListener(DecoratedKey partitionKey, List<UnfilteredRowIterator> versions);
+
+        /**
+         * Returns true if a partition that is only present in the source at index {@code idx}, and for which
+         * {@link #getRowMergeListener} returned {@code null}, can be returned as is rather than through a row merge.
+         *
+         * @param idx the index of the source containing the partition
+         * @param partition the only version of the partition
+         * @return True to return {@code partition} unchanged from the merge.
+         */
+        public default boolean skipMerge(int idx, UnfilteredRowIterator partition) { return false; }
         public default void close() {}
 
         public static MergeListener NOOP = new MergeListener()
@@ -134,11 +144,15 @@ public abstract class UnfilteredPartitionIterators
 
             private DecoratedKey partitionKey;
             private boolean isReverseOrder;
+            private int versions;
+            private int lastIdx;
 
             public void reduce(int idx, UnfilteredRowIterator current)
             {
                 partitionKey = current.partitionKey();
                 isReverseOrder = current.isReverseOrder();
+                ++versions;
+                lastIdx = idx;
 
                 if (preserveOrder)
                 {
@@ -158,6 +172,13 @@ public abstract class UnfilteredPartitionIterators
                                                                  ? null
                                                                  : listener.getRowMergeListener(partitionKey, toMerge);
 
+                if (rowListener == null && versions == 1 && listener != null)
+                {
+                    UnfilteredRowIterator only = preserveOrder ? toMerge.get(lastIdx) : toMerge.get(0);
+                    if (listener.skipMerge(lastIdx, only))
+                        return only;
+                }
+
                 if (preserveOrder)
                 {
                     // Make a single empty iterator object to merge, we don't need toMerge.size() copiess
@@ -181,6 +202,7 @@ public abstract class UnfilteredPartitionIterators
             protected void onKeyChange()
             {
                 toMerge.clear();
+                versions = 0;
                 if (preserveOrder)
                 {
                     for (int i = 0; i < iterators.size(); i++)
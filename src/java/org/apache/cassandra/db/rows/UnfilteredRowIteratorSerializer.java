@@ -231,12 +231,13 @@ public class UnfilteredRowIteratorSerializer
         return new AbstractUnfilteredRowIterator(metadata, header.key, header.partitionDeletion, sHeader.columns(), header.staticRow, header.isReversed, sHeader.stats())
         {
             private final Row.Builder builder = BTreeRow.sortedBuilder();
+            private final UnfilteredSerializer.ColumnReader columnReader = new UnfilteredSerializer.ColumnReader();
 
             protected Unfiltered computeNext()
             {
                 try
                 {
-                    Unfiltered unfiltered = UnfilteredSerializer.serializer.deserialize(in, sHeader, helper, builder);
+                    Unfiltered unfiltered = UnfilteredSerializer.serializer.deserialize(in, sHeader, helper, builder, columnReader);
                     return unfiltered == null ? endOfData() : unfiltered;
                 }
                 catch (IOException e)
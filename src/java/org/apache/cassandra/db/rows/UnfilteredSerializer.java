@@ -18,6 +18,7 @@
 package org.apache.cassandra.db.rows;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 
 import net.nicoulaj.compilecommand.annotations.Inline;
 import org.apache.cassandra.db.*;
@@ -432,10 +433,21 @@ public class UnfilteredSerializer
      */
     public Unfiltered deserialize(DataInputPlus in, SerializationHeader header, DeserializationHelper helper, Row.Builder builder)
     throws IOException
+    {
+        return deserialize(in, header, helper, builder, new ColumnReader());
+    }
+
+    /**
+     * Same as {@link #deserialize(DataInputPlus, SerializationHeader, DeserializationHelper, Row.Builder)}, but reads
+     * the columns of rows through the provided {@link ColumnReader}, passed here so we don't allocate a new one for
+     * every new row.
+     */
+    public Unfiltered deserialize(DataInputPlus in, SerializationHeader header, DeserializationHelper helper, Row.Builder builder, ColumnReader columnReader)
+    throws IOException
     {
         while (true)
         {
-            Unfiltered unfiltered = deserializeOne(in, header, helper, builder);
+            Unfiltered unfiltered = deserializeOne(in, header, helper, builder, columnReader);
             if (unfiltered == null)
                 return null;
 
@@ -455,7 +467,7 @@ public class UnfilteredSerializer
      * But as {@link UnfilteredRowIterator} should not return empty
      * rows, this mean consumer of this method should make sure to skip said empty rows.
      */
-    private Unfiltered deserializeOne(DataInputPlus in, SerializationHeader header, DeserializationHelper helper, Row.Builder builder)
+    private Unfiltered deserializeOne(DataInputPlus in, SerializationHeader header, DeserializationHelper helper, Row.Builder builder, ColumnReader columnReader)
     throws IOException
     {
         // It wouldn't be wrong per-se to use an unsorted builder, but it would be inefficient so make sure we don't do it by mistake
@@ -479,7 +491,7 @@ public class UnfilteredSerializer
                 throw new IOException("Corrupt flags value for unfiltered partition (isStatic flag set): " + flags);
 
             builder.newRow(Clustering.serializer.deserialize(in, helper.version, header.clusteringTypes()));
-            return deserializeRowBody(in, header, helper, flags, extendedFlags, builder);
+            return deserializeRowBody(in, header, helper, flags, extendedFlags, builder, columnReader);
         }
     }
 
@@ -568,6 +580,23 @@ public class UnfilteredSerializer
                                   int extendedFlags,
                                   Row.Builder builder)
     throws IOException
+    {
+        return deserializeRowBody(in, header, helper, flags, extendedFlags, builder, new ColumnReader());
+    }
+
+    /**
+     * Same as {@link #deserializeRowBody(DataInputPlus, SerializationHeader, DeserializationHelper, int, int, Row.Builder)},
+     * but reads the columns through the provided {@link ColumnReader}, so that deserializers reading many rows can reuse
+     * it the way they reuse their row builder.
+     */
+    public Row deserializeRowBody(DataInputPlus in,
+                                  SerializationHeader header,
+                                  DeserializationHelper helper,
+                                  int flags,
+                                  int extendedFlags,
+                                  Row.Builder builder,
+                                  ColumnReader columnReader)
+    throws IOException
     {
         try
         {
@@ -580,11 +609,17 @@ public class UnfilteredSerializer
             boolean hasAllColumns = (flags & HAS_ALL_COLUMNS) != 0;
             Columns headerColumns = header.columns(isStatic);
 
+            long rowEnd = -1;
             if (header.isForSSTable())
             {
                 long rowSize = in.readUnsignedVInt();
+                // a file input can tell whether the row was read past its size once the row has been read, which
+                // saves wrapping the input for every row; other inputs are limited to the row size as they are read
+                if (in instanceof FileDataInput)
+                    rowEnd = ((FileDataInput) in).getFilePointer() + rowSize;
                 in.readUnsignedVInt(); // previous unfiltered size
-                in = new TrackedDataInputPlus(in, rowSize);
+                if (rowEnd < 0)
+                    in = new TrackedDataInputPlus(in, rowSize);
             }
 
             LivenessInfo rowLiveness = LivenessInfo.EMPTY;
@@ -603,26 +638,13 @@ public class UnfilteredSerializer
             builder.addPrimaryKeyLivenessInfo(rowLiveness);
             builder.addRowDeletion(hasDeletion ? new Row.Deletion(header.readDeletionTime(in), deletionIsShadowable) : Row.Deletion.LIVE);
 
-            Columns columns = hasAllColumns ? headerColumns : Columns.serializer.deserializeSubset(headerColumns, in);
-
-            final LivenessInfo livenessInfo = rowLiveness;
-
+            columnReader.prepare(in, header, helper, hasComplexDeletion, builder, rowLiveness);
             try
             {
-                DataInputPlus finalIn = in;
-                columns.apply(column -> {
-                    try
-                    {
-                        if (column.isSimple())
-                            readSimpleColumn(column, finalIn, header, helper, builder, livenessInfo);
-                        else
-                            readComplexColumn(column, finalIn, header, helper, hasComplexDeletion, builder, livenessInfo);
-                    }
-                    catch (IOException e)
-                    {
-                        throw new WrappedException(e);
-                    }
-                });
+                if (hasAllColumns)
+                    headerColumns.apply(columnReader);
+                else
+                    Columns.serializer.applyToSubset(headerColumns, in, columnReader);
             }
             catch (WrappedException e)
             {
@@ -631,6 +653,14 @@ public class UnfilteredSerializer
 
                 throw e;
             }
+            finally
+            {
+                columnReader.clear();
+            }
+
+            if (rowEnd >= 0 && ((FileDataInput) in).getFilePointer() > rowEnd)
+                throw new IOException(String.format("Read %d bytes past the end of the row in %s",
+                                                    ((FileDataInput) in).getFilePointer() - rowEnd, in));
 
             return builder.build();
         }
@@ -644,6 +674,52 @@ public class UnfilteredSerializer
         }
     }
 
+    /**
+     * Reads the cells of the columns of a row body into the row builder. A reader is prepared for each row body, and
+     * can be reused for the following ones (but not concurrently).
+     */
+    public static final class ColumnReader implements Consumer<ColumnMetadata>
+    {
+        private DataInputPlus in;
+        private SerializationHeader header;
+        private DeserializationHelper helper;
+        private boolean hasComplexDeletion;
+        private Row.Builder builder;
+        private LivenessInfo rowLiveness;
+
+        private void prepare(DataInputPlus in, SerializationHeader header, DeserializationHelper helper, boolean hasComplexDeletion, Row.Builder builder, LivenessInfo rowLiveness)
+        {
+            this.in = in;
+            this.header = header;
+            this.helper = helper;
+            this.hasComplexDeletion = hasComplexDeletion;
+            this.builder = builder;
+            this.rowLiveness = rowLiveness;
+        }
+
+        private void clear()
+        {
+            in = null;
+            builder = null;
+        }
+
+        @Override
+        public void accept(ColumnMetadata column)
+        {
+            try
+            {
+                if (column.isSimple())
+                    serializer.readSimpleColumn(column, in, header, helper, builder, rowLiveness);
+                else
+                    serializer.readComplexColumn(column, in, header, helper, hasComplexDeletion, builder, rowLiveness);
+            }
+            catch (IOException e)
+            {
+                throw new WrappedException(e);
+            }
+        }
+    }
+
     private void readSimpleColumn(ColumnMetadata column, DataInputPlus in, SerializationHeader header, DeserializationHelper helper, Row.Builder builder, LivenessInfo rowLiveness)
     throws IOException
     {
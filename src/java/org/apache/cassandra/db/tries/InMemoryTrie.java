@@ -941,6 +941,66 @@ public class InMemoryTrie<T> extends InMemoryReadTrie<T>
             return createPrefixNode(addContent(transformer.apply(null, value)), node, false);
     }
 
+    /**
+     * Updates the content mapped by the given key, if there is any, with the result of applying the transformer to
+     * the existing content and the given value.
+     * <p>
+     * Unlike the other write methods, this one may be called concurrently by several threads, and concurrently with a
+     * single thread adding new keys to the trie with one of the methods above (e.g. while holding a lock): as the
+     * content of a key stays in the same position of the content list once added, it is updated with a compare-and-set
+     * without modifying the trie structure. If another thread updates the same content first, the transformer is
+     * applied again to the new content; it must thus be prepared to be applied more than once, and only the result of
+     * its last application is kept.
+     * <p>
+     * This requires that the content of keys already in the trie is only modified through this method, i.e. the
+     * single-writer methods must only be used to add content for keys that have none.
+     *
+     * @return true if the key had content, which has been updated, false if it had none, in which case the trie is not
+     * modified and the transformer is not applied.
+     */
+    public <R> boolean updateExisting(ByteComparable key, R value, UpsertTransformer<T, ? super R> transformer)
+    {
+        int index = contentIndex(key);
+        if (index < 0)
+            return false;
+
+        int leadBit = getChunkIdx(index, CONTENTS_START_SHIFT, CONTENTS_START_SIZE);
+        int ofs = inChunkPointer(index, leadBit, CONTENTS_START_SIZE);
+        AtomicReferenceArray<T> array = contentArrays[leadBit];
+        while (true)
+        {
+            T existing = array.get(ofs);
+            T combined = transformer.apply(existing, value);
+            assert (combined != null) : "Transformer cannot be used to remove content.";
+            if (array.compareAndSet(ofs, existing, combined))
+                return true;
+        }
+    }
+
+    /**
+     * Returns the position in the content list of the content mapped by the given key, or -1 if it has none.
+     */
+    private int contentIndex(ByteComparable key)
+    {
+        int n = root;
+        ByteSource source = key.asComparableBytes(BYTE_COMPARABLE_VERSION);
+        while (!isNull(n))
+        {
+            int c = source.next();
+            if (c == ByteSource.END_OF_STREAM)
+            {
+                if (isLeaf(n))
+                    return ~n;
+                if (offset(n) != PREFIX_OFFSET)
+                    return -1;
+                return getInt(n + PREFIX_CONTENT_OFFSET);
+            }
+
+            n = advance(n, c, source);
+        }
+        return -1;
+    }
+
     /**
      * Returns true if the allocation threshold has been reached. To be called by the the writing thread (ideally, just
      * after the write completes). When this returns true, the user should switch to a new trie as soon as feasible.
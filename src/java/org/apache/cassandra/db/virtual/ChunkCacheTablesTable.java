@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.virtual;
+
+import org.apache.cassandra.cache.ChunkCache;
+import org.apache.cassandra.db.marshal.DoubleType;
+import org.apache.cassandra.db.marshal.LongType;
+import org.apache.cassandra.db.marshal.UTF8Type;
+import org.apache.cassandra.dht.LocalPartitioner;
+import org.apache.cassandra.metrics.ChunkCacheMetrics;
+import org.apache.cassandra.schema.TableMetadata;
+
+final class ChunkCacheTablesTable extends AbstractVirtualTable
+{
+    private static final String KEYSPACE_NAME = "keyspace_name";
+    private static final String TABLE_NAME = "table_name";
+    private static final String SIZE_BYTES = "size_bytes";
+    private static final String REQUEST_COUNT = "request_count";
+    private static final String HIT_COUNT = "hit_count";
+    private static final String HIT_RATIO = "hit_ratio";
+    private static final String BYPASS_COUNT = "bypass_count";
+
+    ChunkCacheTablesTable(String keyspace)
+    {
+        super(TableMetadata.builder(keyspace, "chunk_cache_tables")
+                           .comment("chunk cache usage per table")
+                           .kind(TableMetadata.Kind.VIRTUAL)
+                           .partitioner(new LocalPartitioner(UTF8Type.instance))
+                           .addPartitionKeyColumn(KEYSPACE_NAME, UTF8Type.instance)
+                           .addClusteringColumn(TABLE_NAME, UTF8Type.instance)
+                           .addRegularColumn(SIZE_BYTES, LongType.instance)
+                           .addRegularColumn(REQUEST_COUNT, LongType.instance)
+                           .addRegularColumn(HIT_COUNT, LongType.instance)
+                           .addRegularColumn(HIT_RATIO, DoubleType.instance)
+                           .addRegularColumn(BYPASS_COUNT, LongType.instance)
+                           .build());
+    }
+
+    public DataSet data()
+    {
+        SimpleDataSet result = new SimpleDataSet(metadata());
+
+        if (null == ChunkCache.instance)
+            return result;
+
+        for (ChunkCacheMetrics.TableMetrics table : ChunkCache.instance.metrics.tables())
+        {
+            result.row(table.keyspace, table.table)
+                  .column(SIZE_BYTES, table.weight())
+                  .column(REQUEST_COUNT, table.requests())
+                  .column(HIT_COUNT, table.hits())
+                  .column(HIT_RATIO, table.hitRatio())
+                  .column(BYPASS_COUNT, table.bypasses());
+        }
+
+        return result;
+    }
+}
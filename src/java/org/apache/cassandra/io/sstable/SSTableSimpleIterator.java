@@ -66,6 +66,7 @@ public abstract class SSTableSimpleIterator extends AbstractIterator<Unfiltered>
         private final SerializationHeader header;
 
         private final Row.Builder builder;
+        private final UnfilteredSerializer.ColumnReader columnReader = new UnfilteredSerializer.ColumnReader();
 
         private CurrentFormatIterator(TableMetadata metadata, DataInputPlus in, SerializationHeader header, DeserializationHelper helper)
         {
@@ -83,7 +84,7 @@ public abstract class SSTableSimpleIterator extends AbstractIterator<Unfiltered>
         {
             try
             {
-                Unfiltered unfiltered = UnfilteredSerializer.serializer.deserialize(in, header, helper, builder);
+                Unfiltered unfiltered = UnfilteredSerializer.serializer.deserialize(in, header, helper, builder, columnReader);
                 return unfiltered == null ? endOfData() : unfiltered;
             }
             catch (IOException e)
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.io.sstable.format;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.cassandra.config.CassandraRelevantProperties;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.db.Clustering;
+import org.apache.cassandra.db.ClusteringComparator;
+import org.apache.cassandra.db.ClusteringPrefix;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.db.Slice;
+import org.apache.cassandra.db.filter.ClusteringIndexFilter;
+import org.apache.cassandra.db.filter.ClusteringIndexNamesFilter;
+import org.apache.cassandra.db.filter.ClusteringIndexSliceFilter;
+import org.apache.cassandra.db.memtable.Memtable;
+import org.apache.cassandra.db.rows.RangeTombstoneMarker;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.utils.ByteArrayUtil;
+import org.apache.cassandra.utils.FilterFactory;
+import org.apache.cassandra.utils.IFilter;
+import org.apache.cassandra.utils.MurmurHash;
+import org.apache.cassandra.utils.bytecomparable.ByteComparable;
+import org.apache.cassandra.utils.bytecomparable.ByteSource;
+import org.apache.cassandra.utils.bytecomparable.ByteSourceInverse;
+
+/**
+ * A filter over the (partition key, first clustering value) pairs present in an sstable, which lets single partition
+ * reads skip the sstables that contain the partition but none of the requested rows.
+ * <p>
+ * Only reads whose requested clusterings all share their first clustering value with some requested prefix can make
+ * use of the filter, i.e. reads by full clustering names and slices whose bounds agree on the first clustering value
+ * (e.g. {@code WHERE pk = ? AND c1 = ? AND c2 > ?}). Any other read considers the sstable as possibly matching.
+ * <p>
+ * Range tombstones whose bounds do not share a first clustering value cannot be described by the filter; a partition
+ * with such a tombstone is recorded with a "whole partition" entry which every filtered read of the partition matches.
+ */
+public final class ClusteringPrefixFilter
+{
+    private ClusteringPrefixFilter()
+    {
+    }
+
+    public static boolean isEnabled(TableMetadata metadata)
+    {
+        return metadata.comparator.size() > 0 && FilterComponent.shouldUseBloomFilter(metadata.params.clusteringFilterFpChance);
+    }
+
+    /**
+     * Estimates the number of entries of the filter of an sstable of the given table with {@code keyCount} partitions,
+     * from the distinct first clustering values per partition of the last sstable of the table written since startup,
+     * or else from the rows per partition of its live sstables, or else of its memtables, which a partition has at
+     * least as many of as distinct first clustering values. The estimate is capped at {@link
+     * CassandraRelevantProperties#CLUSTERING_FILTER_MAX_ENTRIES_PER_PARTITION} entries per partition, and is of a
+     * single entry per partition when there is nothing to go by (e.g. offline).
+     */
+    public static long estimateEntries(TableMetadata metadata, long keyCount)
+    {
+        double entriesPerPartition = 1;
+        if (!DatabaseDescriptor.isClientOrToolInitialized())
+        {
+            ColumnFamilyStore cfs = ColumnFamilyStore.getIfExists(metadata.id);
+            if (cfs != null)
+                entriesPerPartition = entriesPerPartition(cfs);
+        }
+        entriesPerPartition = Math.min(Math.max(1, entriesPerPartition), CassandraRelevantProperties.CLUSTERING_FILTER_MAX_ENTRIES_PER_PARTITION.getInt());
+        return (long) Math.ceil(Math.max(1, keyCount) * entriesPerPartition);
+    }
+
+    private static double entriesPerPartition(ColumnFamilyStore cfs)
+    {
+        double written = cfs.getClusteringPrefixesPerPartition();
+        if (!Double.isNaN(written))
+            return written;
+
+        int meanRowCount = cfs.getMeanRowCount();
+        if (meanRowCount > 0)
+            return meanRowCount;
+
+        // overwritten rows are counted more than once, which the cap makes up for
+        long operations = 0;
+        long partitions = 0;
+        for (Memtable memtable : cfs.getTracker().getView().getAllMemtables())
+        {
+            operations += memtable.operationCount();
+            partitions += memtable.partitionCount();
+        }
+        return partitions > 0 ? (double) operations / partitions : 1;
+    }
+
+    /**
+     * Records the distinct first clustering values per partition of the sstable whose filter {@code builder} built,
+     * for {@link #estimateEntries} to size the filters of the next sstables of the table.
+     */
+    public static void recordEntries(TableMetadata metadata, Builder builder)
+    {
+        if (builder.partitions == 0 || DatabaseDescriptor.isClientOrToolInitialized())
+            return;
+
+        ColumnFamilyStore cfs = ColumnFamilyStore.getIfExists(metadata.id);
+        if (cfs != null)
+            cfs.setClusteringPrefixesPerPartition((double) builder.entries / builder.partitions);
+    }
+
+    /**
+     * Returns whether the given partition of the sstable filtered by {@code filter} may contain rows or range
+     * tombstones selected by {@code clusteringFilter}. The partition level deletion and the static row of the partition
+     * are not covered by the filter.
+     */
+    public static boolean mayContain(IFilter filter, DecoratedKey key, ClusteringIndexFilter clusteringFilter, ClusteringComparator comparator)
+    {
+        if (!filter.isInformative())
+            return true;
+
+        List<byte[]> prefixes = requestedPrefixes(clusteringFilter, comparator);
+        if (prefixes == null)
+            return true;
+
+        long[] partitionHash = new long[2];
+        key.filterHash(partitionHash);
+
+        HashKey hashKey = new HashKey();
+        hashKey.set(partitionHash, null);
+        if (filter.isPresent(hashKey))
+            return true;
+
+        for (byte[] prefix : prefixes)
+        {
+            hashKey.set(partitionHash, prefix);
+            if (filter.isPresent(hashKey))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * The encoded first clustering values of all the rows the filter may select, or {@code null} if that cannot be
+     * restricted.
+     */
+    private static List<byte[]> requestedPrefixes(ClusteringIndexFilter clusteringFilter, ClusteringComparator comparator)
+    {
+        switch (clusteringFilter.kind())
+        {
+            case NAMES:
+            {
+                List<byte[]> prefixes = new ArrayList<>();
+                byte[] last = null;
+                for (Clustering<?> clustering : ((ClusteringIndexNamesFilter) clusteringFilter).requestedRows())
+                {
+                    byte[] prefix = encodeFirst(comparator, clustering);
+                    if (prefix == null)
+                        return null;
+                    // requested rows are sorted, so equal prefixes are adjacent
+                    if (!Arrays.equals(prefix, last))
+                        prefixes.add(prefix);
+                    last = prefix;
+                }
+                return prefixes;
+            }
+            case SLICE:
+            {
+                List<byte[]> prefixes = new ArrayList<>();
+                for (Slice slice : ((ClusteringIndexSliceFilter) clusteringFilter).requestedSlices())
+                {
+                    byte[] start = encodeFirst(comparator, slice.start());
+                    byte[] end = encodeFirst(comparator, slice.end());
+                    if (start == null || !Arrays.equals(start, end))
+                        return null;
+                    prefixes.add(start);
+                }
+                return prefixes;
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The byte-comparable encoding of the first value of the given prefix, which is equal for all the values that
+     * compare equal, or {@code null} if the prefix has no first value.
+     */
+    private static <V> byte[] encodeFirst(ClusteringComparator comparator, ClusteringPrefix<V> prefix)
+    {
+        if (prefix.size() == 0)
+            return null;
+
+        V value = prefix.get(0);
+        if (value == null)
+            return null;
+
+        ByteSource source = comparator.subtype(0).asComparableBytes(prefix.accessor(), value, ByteComparable.Version.OSS50);
+        return source == null ? ByteArrayUtil.EMPTY_BYTE_ARRAY : ByteSourceInverse.readBytes(source);
+    }
+
+    private static final class HashKey implements IFilter.FilterKey
+    {
+        private final long[] hash = new long[2];
+        private long hash0;
+        private long hash1;
+
+        /**
+         * Sets the hash of the given prefix of the partition, or of the "whole partition" entry if {@code prefix} is
+         * {@code null}; the latter uses a different seed so that it cannot collide with the empty prefix.
+         */
+        void set(long[] partitionHash, byte[] prefix)
+        {
+            if (prefix == null)
+                MurmurHash.hash3_x64_128(ByteBuffer.wrap(ByteArrayUtil.EMPTY_BYTE_ARRAY), 0, 0, ~partitionHash[0], hash);
+            else
+                MurmurHash.hash3_x64_128(ByteBuffer.wrap(prefix), 0, prefix.length, partitionHash[0], hash);
+            hash0 = hash[0];
+            hash1 = hash[1] ^ partitionHash[1];
+        }
+
+        @Override
+        public void filterHash(long[] dest)
+        {
+            dest[0] = hash0;
+            dest[1] = hash1;
+        }
+    }
+
+    /**
+     * Adds the entries of the filter while an sstable is written, to a filter sized up front for the expected number of
+     * entries. A filter holding more entries than expected still matches all of them, only with more false positives.
+     */
+    public static class Builder
+    {
+        private final ClusteringComparator comparator;
+        private final IFilter filter;
+        private final long[] partitionHash = new long[2];
+        private final HashKey hashKey = new HashKey();
+
+        private byte[] lastPrefix;
+        private boolean hasOpenMarker;
+        private byte[] openMarkerPrefix;
+        private boolean wholePartitionAdded;
+        private long partitions;
+        private long entries;
+
+        public Builder(ClusteringComparator comparator, long expectedEntries, double fpChance, FilterFactory.Type type)
+        {
+            this.comparator = comparator;
+            this.filter = FilterFactory.getFilter(Math.max(1, expectedEntries), fpChance, type);
+        }
+
+        public void startPartition(DecoratedKey key)
+        {
+            key.filterHash(partitionHash);
+            partitions++;
+            lastPrefix = null;
+            hasOpenMarker = false;
+            openMarkerPrefix = null;
+            wholePartitionAdded = false;
+        }
+
+        public void add(Clustering<?> clustering)
+        {
+            if (clustering == Clustering.STATIC_CLUSTERING)
+                return;
+
+            byte[] prefix = encodeFirst(comparator, clustering);
+            if (prefix == null)
+                addWholePartition();
+            else
+                addPrefix(prefix);
+        }
+
+        public void add(RangeTombstoneMarker marker)
+        {
+            byte[] prefix = encodeFirst(comparator, marker.clustering());
+            if (marker.isClose(false))
+            {
+                if (!hasOpenMarker || prefix == null || !Arrays.equals(prefix, openMarkerPrefix))
+                    addWholePartition();
+                hasOpenMarker = false;
+            }
+
+            if (marker.isOpen(false))
+            {
+                hasOpenMarker = true;
+                openMarkerPrefix = prefix;
+                if (prefix != null)
+                    addPrefix(prefix);
+            }
+        }
+
+        private void addPrefix(byte[] prefix)
+        {
+            // rows and markers are added in clustering order, so equal prefixes are adjacent
+            if (Arrays.equals(prefix, lastPrefix))
+                return;
+
+            lastPrefix = prefix;
+            addHash(prefix);
+        }
+
+        private void addWholePartition()
+        {
+            if (wholePartitionAdded)
+                return;
+
+            wholePartitionAdded = true;
+            addHash(null);
+        }
+
+        private void addHash(byte[] prefix)
+        {
+            hashKey.set(partitionHash, prefix);
+            filter.add(hashKey);
+            entries++;
+        }
+
+        /**
+         * @return the filter with all the entries added, which is closed along with this builder
+         */
+        public IFilter build()
+        {
+            return filter;
+        }
+
+        public Throwable close(Throwable accumulate)
+        {
+            return filter.close(accumulate);
+        }
+    }
+}
@@ -52,7 +52,15 @@ public class FilterComponent
      */
     public static IFilter load(Descriptor descriptor) throws IOException
     {
-        File filterFile = descriptor.fileFor(Components.FILTER);
+        return load(descriptor, Components.FILTER);
+    }
+
+    /**
+     * Load a filter serialized in the given component.
+     */
+    public static IFilter load(Descriptor descriptor, Component component) throws IOException
+    {
+        File filterFile = descriptor.fileFor(component);
 
         if (!filterFile.exists())
             return null;
@@ -60,19 +68,24 @@ public class FilterComponent
         if (filterFile.length() == 0)
             return FilterFactory.AlwaysPresent;
 
-        try (FileInputStreamPlus stream = descriptor.fileFor(Components.FILTER).newInputStream())
+        try (FileInputStreamPlus stream = filterFile.newInputStream())
         {
             return BloomFilterSerializer.forVersion(descriptor.version.hasOldBfFormat()).deserialize(stream);
         }
         catch (IOException ex)
         {
-            throw new IOException("Failed to load Bloom filter for SSTable: " + descriptor.baseFile(), ex);
+            throw new IOException("Failed to load " + component.name + " for SSTable: " + descriptor.baseFile(), ex);
         }
     }
 
     public static void save(IFilter filter, Descriptor descriptor, boolean deleteOnFailure) throws IOException
     {
-        File filterFile = descriptor.fileFor(Components.FILTER);
+        save(filter, descriptor, Components.FILTER, deleteOnFailure);
+    }
+
+    public static void save(IFilter filter, Descriptor descriptor, Component component, boolean deleteOnFailure) throws IOException
+    {
+        File filterFile = descriptor.fileFor(component);
         try (FileOutputStreamPlus stream = filterFile.newOutputStream(File.WriteMode.OVERWRITE))
         {
             filter.serialize(stream, descriptor.version.hasOldBfFormat());
@@ -82,8 +95,8 @@ public class FilterComponent
         catch (IOException ex)
         {
             if (deleteOnFailure)
-                descriptor.fileFor(Components.FILTER).deleteIfExists();
-            throw new IOException("Failed to save Bloom filter for SSTable: " + descriptor.baseFile(), ex);
+                filterFile.deleteIfExists();
+            throw new IOException("Failed to save " + component.name + " for SSTable: " + descriptor.baseFile(), ex);
         }
     }
 
@@ -134,6 +147,30 @@ public class FilterComponent
         return filter;
     }
 
+    /**
+     * Loads the clustering prefix filter of the sstable, if it was written with one. Unlike the partition key
+     * Bloom filter, a missing or unreadable clustering filter is never rebuilt; {@link FilterFactory#AlwaysPresent}
+     * is returned instead, which makes every read consult the sstable as if the filter was not enabled.
+     */
+    public static IFilter maybeLoadClusteringFilter(Descriptor descriptor, Set<Component> components)
+    {
+        if (!components.contains(Components.CLUSTERING_FILTER))
+            return FilterFactory.AlwaysPresent;
+
+        try
+        {
+            IFilter filter = load(descriptor, Components.CLUSTERING_FILTER);
+            if (filter != null)
+                return filter;
+            logger.info("Clustering filter for {} is missing", descriptor);
+        }
+        catch (IOException ex)
+        {
+            logger.info("Clustering filter for " + descriptor + " could not be deserialized", ex);
+        }
+        return FilterFactory.AlwaysPresent;
+    }
+
     static boolean shouldUseBloomFilter(double fpChance)
     {
         return !(Math.abs(1 - fpChance) <= filterFPChanceTolerance);
@@ -162,6 +162,8 @@ public interface SSTableFormat<R extends SSTableReader, W extends SSTableWriter>
             public static final Component.Type STATS = Component.Type.createSingleton("STATS", "Statistics.db", true, null);
             // serialized bloom filter for the row keys in the sstable
             public static final Component.Type FILTER = Component.Type.createSingleton("FILTER", "Filter.db", true, null);
+            // serialized filter for the (partition key, first clustering value) pairs in the sstable
+            public static final Component.Type CLUSTERING_FILTER = Component.Type.createSingleton("CLUSTERING_FILTER", "ClusteringFilter.db", true, null);
             // holds CRC32 checksum of the data file
             public static final Component.Type DIGEST = Component.Type.createSingleton("DIGEST", "Digest.crc32", true, null);
             // holds the CRC32 for chunks in an uncompressed file.
@@ -179,6 +181,7 @@ public interface SSTableFormat<R extends SSTableReader, W extends SSTableWriter>
         public final static Component COMPRESSION_INFO = Types.COMPRESSION_INFO.getSingleton();
         public final static Component STATS = Types.STATS.getSingleton();
         public final static Component FILTER = Types.FILTER.getSingleton();
+        public final static Component CLUSTERING_FILTER = Types.CLUSTERING_FILTER.getSingleton();
         public final static Component DIGEST = Types.DIGEST.getSingleton();
         public final static Component CRC = Types.CRC.getSingleton();
         public final static Component TOC = Types.TOC.getSingleton();
@@ -59,6 +59,7 @@ import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.PartitionPosition;
 import org.apache.cassandra.db.SerializationHeader;
 import org.apache.cassandra.db.SystemKeyspace;
+import org.apache.cassandra.db.filter.ClusteringIndexFilter;
 import org.apache.cassandra.db.rows.Cell;
 import org.apache.cassandra.db.rows.EncodingStats;
 import org.apache.cassandra.db.rows.UnfilteredRowIterator;
@@ -87,6 +88,7 @@ import org.apache.cassandra.io.sstable.metadata.CompactionMetadata;
 import org.apache.cassandra.io.sstable.metadata.StatsMetadata;
 import org.apache.cassandra.io.util.ChannelProxy;
 import org.apache.cassandra.io.util.CheckedFunction;
+import org.apache.cassandra.io.util.ChunkPrefetchExecutor;
 import org.apache.cassandra.io.util.DataIntegrityMetadata;
 import org.apache.cassandra.io.util.File;
 import org.apache.cassandra.io.util.FileDataInput;
@@ -1242,6 +1244,71 @@ public abstract class SSTableReader extends SSTable implements UnfilteredSource,
         return dfile.createReader();
     }
 
+    /**
+     * Reads the chunk of the data file containing the given position into the chunk cache.
+     *
+     * @return the number of bytes the chunk occupies in the cache, or 0 if the data file is not cached
+     */
+    public int prefetchDataChunk(long position)
+    {
+        return chunkCache != null ? chunkCache.prefetch(dfile, position) : 0;
+    }
+
+    /**
+     * Asynchronously looks up the given partition and reads the first chunk of its data into the chunk cache, so that
+     * a reader of the partition finds the index and data chunks it needs cached or already being read. The lookup does
+     * not update the key cache or read statistics. Does nothing if chunk prefetching or the chunk cache is disabled.
+     */
+    public void prefetchPartitionAsync(DecoratedKey key)
+    {
+        prefetchAsync(() -> {
+            long position = getPosition(key, Operator.EQ, false, SSTableReadsListener.NOOP_LISTENER);
+            if (position >= 0)
+                chunkCache.prefetch(dfile, position);
+        });
+    }
+
+    /**
+     * Asynchronously reads the chunk of the data file containing the given position into the chunk cache. Does
+     * nothing if chunk prefetching or the chunk cache is disabled.
+     */
+    public void prefetchDataChunkAsync(long position)
+    {
+        prefetchAsync(() -> chunkCache.prefetch(dfile, position));
+    }
+
+    /**
+     * @return the size of the chunks {@link #prefetchDataChunkAsync} reads, or 0 if the data file is not prefetched
+     */
+    public int dataPrefetchChunkSize()
+    {
+        return chunkCache != null && ChunkPrefetchExecutor.instance.isEnabled() ? chunkCache.chunkSize(dfile) : 0;
+    }
+
+    /**
+     * Runs the given prefetch on the {@link ChunkPrefetchExecutor}, with a reference to this sstable held so that its
+     * files stay open. Does nothing if chunk prefetching or the chunk cache is disabled.
+     */
+    protected void prefetchAsync(Runnable prefetch)
+    {
+        if (chunkCache == null || !ChunkPrefetchExecutor.instance.isEnabled())
+            return;
+
+        ChunkPrefetchExecutor.instance.prefetch(() -> {
+            Ref<SSTableReader> ref = tryRef();
+            if (ref == null)
+                return; // released since the prefetch was submitted
+            try
+            {
+                prefetch.run();
+            }
+            finally
+            {
+                ref.release();
+            }
+        });
+    }
+
     public void trySkipFileCacheBefore(DecoratedKey key)
     {
         long position = getPosition(key, SSTableReader.Operator.GE);
@@ -1328,6 +1395,16 @@ public abstract class SSTableReader extends SSTable implements UnfilteredSource,
      */
     public abstract boolean mayContainAssumingKeyIsInRange(DecoratedKey key);
 
+    /**
+     * Whether the given partition of this sstable may contain any of the rows or range tombstones selected by the
+     * given clustering filter, as far as the sstable clustering filter tells. The partition level deletion and the
+     * static row are not considered. This assumes the sstable may contain the partition.
+     */
+    public boolean mayContainClusterings(DecoratedKey key, ClusteringIndexFilter clusteringIndexFilter)
+    {
+        return true;
+    }
+
     /**
      * One instance per SSTableReader we create.
      * <p>
@@ -25,10 +25,12 @@ import java.util.Objects;
 import com.google.common.collect.Lists;
 
 import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.db.filter.ClusteringIndexFilter;
 import org.apache.cassandra.io.sstable.AbstractRowIndexEntry;
 import org.apache.cassandra.io.sstable.Descriptor;
 import org.apache.cassandra.io.sstable.SSTableReadsListener;
 import org.apache.cassandra.io.sstable.filter.BloomFilterTracker;
+import org.apache.cassandra.utils.FilterFactory;
 import org.apache.cassandra.utils.IFilter;
 
 import static org.apache.cassandra.utils.concurrent.SharedCloseable.sharedCopyOrNull;
@@ -36,19 +38,21 @@ import static org.apache.cassandra.utils.concurrent.SharedCloseable.sharedCopyOr
 public abstract class SSTableReaderWithFilter extends SSTableReader
 {
     private final IFilter filter;
+    private final IFilter clusteringFilter;
     private final BloomFilterTracker filterTracker;
 
     protected SSTableReaderWithFilter(Builder<?, ?> builder, Owner owner)
     {
         super(builder, owner);
         this.filter = Objects.requireNonNull(builder.getFilter());
+        this.clusteringFilter = builder.getClusteringFilter() != null ? builder.getClusteringFilter() : FilterFactory.AlwaysPresent;
         this.filterTracker = new BloomFilterTracker();
     }
 
     @Override
     protected List<AutoCloseable> setupInstance(boolean trackHotness)
     {
-        ArrayList<AutoCloseable> closeables = Lists.newArrayList(filter);
+        ArrayList<AutoCloseable> closeables = Lists.newArrayList(filter, clusteringFilter);
         closeables.addAll(super.setupInstance(trackHotness));
         return closeables;
     }
@@ -58,6 +62,8 @@ public abstract class SSTableReaderWithFilter extends SSTableReader
         B b = super.unbuildTo(builder, sharedCopy);
         if (builder.getFilter() == null)
             b.setFilter(sharedCopy ? sharedCopyOrNull(filter) : filter);
+        if (builder.getClusteringFilter() == null)
+            b.setClusteringFilter(sharedCopy ? sharedCopyOrNull(clusteringFilter) : clusteringFilter);
         return b;
     }
 
@@ -74,6 +80,12 @@ public abstract class SSTableReaderWithFilter extends SSTableReader
         return !filter.isInformative() && getPosition(key, Operator.EQ, false) >= 0 || filter.isPresent(key);
     }
 
+    @Override
+    public boolean mayContainClusterings(DecoratedKey key, ClusteringIndexFilter clusteringIndexFilter)
+    {
+        return ClusteringPrefixFilter.mayContain(clusteringFilter, key, clusteringIndexFilter, metadata().comparator);
+    }
+
     @Override
     protected void notifySelected(SSTableReadsListener.SelectionReason reason, SSTableReadsListener localListener, Operator op, boolean updateStats, AbstractRowIndexEntry entry)
     {
@@ -128,6 +140,7 @@ public abstract class SSTableReaderWithFilter extends SSTableReader
     public abstract static class Builder<R extends SSTableReaderWithFilter, B extends Builder<R, B>> extends SSTableReader.Builder<R, B>
     {
         private IFilter filter;
+        private IFilter clusteringFilter;
 
         public Builder(Descriptor descriptor)
         {
@@ -144,5 +157,16 @@ public abstract class SSTableReaderWithFilter extends SSTableReader
         {
             return this.filter;
         }
+
+        public B setClusteringFilter(IFilter clusteringFilter)
+        {
+            this.clusteringFilter = clusteringFilter;
+            return (B) this;
+        }
+
+        public IFilter getClusteringFilter()
+        {
+            return this.clusteringFilter;
+        }
     }
 }
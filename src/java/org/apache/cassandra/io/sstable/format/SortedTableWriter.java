@@ -62,6 +62,7 @@ import org.apache.cassandra.io.util.SequentialWriter;
 import org.apache.cassandra.schema.ColumnMetadata;
 import org.apache.cassandra.schema.SchemaConstants;
 import org.apache.cassandra.schema.TableMetadataRef;
+import org.apache.cassandra.schema.TableParams;
 import org.apache.cassandra.utils.FBUtilities;
 import org.apache.cassandra.utils.FilterFactory;
 import org.apache.cassandra.utils.IFilter;
@@ -182,6 +183,8 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
     {
         partitionWriter.start(key, partitionLevelDeletion);
         metadataCollector.updatePartitionDeletion(partitionLevelDeletion);
+        if (indexWriter.clusteringFilterBuilder != null)
+            indexWriter.clusteringFilterBuilder.startPartition(key);
 
         onStartPartition(key);
     }
@@ -212,6 +215,8 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
         partitionWriter.addUnfiltered(row);
         metadataCollector.updateClusteringValues(row.clustering());
         Rows.collectStats(row, metadataCollector);
+        if (indexWriter.clusteringFilterBuilder != null)
+            indexWriter.clusteringFilterBuilder.add(row.clustering());
 
         onRow(row);
     }
@@ -231,6 +236,8 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
         {
             metadataCollector.update(((RangeTombstoneBoundMarker) marker).deletionTime());
         }
+        if (indexWriter.clusteringFilterBuilder != null)
+            indexWriter.clusteringFilterBuilder.add(marker);
 
         onRangeTombstoneMarker(marker);
     }
@@ -435,13 +442,24 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
 
         protected final IFilter bf;
 
+        // collects the clustering prefixes of the sstable, null if the sstable is written without a clustering filter
+        protected final ClusteringPrefixFilter.Builder clusteringFilterBuilder;
+        protected IFilter clusteringFilter = FilterFactory.AlwaysPresent;
+
         protected AbstractIndexWriter(Builder<?, ?, ?, ?> b)
         {
             this.descriptor = b.descriptor;
             this.metadata = b.getTableMetadataRef();
             this.components = b.getComponents();
 
-            bf = FilterFactory.getFilter(b.getKeyCount(), b.getTableMetadataRef().getLocal().params.bloomFilterFpChance);
+            TableParams params = b.getTableMetadataRef().getLocal().params;
+            bf = FilterFactory.getFilter(b.getKeyCount(), params.bloomFilterFpChance, params.bloomFilterType);
+            clusteringFilterBuilder = components.contains(Components.CLUSTERING_FILTER)
+                                      ? new ClusteringPrefixFilter.Builder(metadata.getLocal().comparator,
+                                                                           ClusteringPrefixFilter.estimateEntries(metadata.getLocal(), b.getKeyCount()),
+                                                                           params.clusteringFilterFpChance,
+                                                                           params.bloomFilterType)
+                                      : null;
         }
 
         protected void flushBf()
@@ -457,6 +475,20 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
                     throw new FSWriteError(ex, descriptor.fileFor(Components.FILTER));
                 }
             }
+
+            if (clusteringFilterBuilder != null)
+            {
+                clusteringFilter = clusteringFilterBuilder.build();
+                ClusteringPrefixFilter.recordEntries(metadata.getLocal(), clusteringFilterBuilder);
+                try
+                {
+                    FilterComponent.save(clusteringFilter, descriptor, Components.CLUSTERING_FILTER, true);
+                }
+                catch (IOException ex)
+                {
+                    throw new FSWriteError(ex, descriptor.fileFor(Components.CLUSTERING_FILTER));
+                }
+            }
         }
 
         public abstract void mark();
@@ -472,6 +504,9 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
         protected Throwable doPostCleanup(Throwable accumulate)
         {
             accumulate = bf.close(accumulate);
+            // the clustering filter, once built, is the one of the builder
+            if (clusteringFilterBuilder != null)
+                accumulate = clusteringFilterBuilder.close(accumulate);
             return accumulate;
         }
 
@@ -479,6 +514,15 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
         {
             return bf.sharedCopy();
         }
+
+        /**
+         * The clustering filter is only complete once the writer is prepared; before that (i.e. for early opened
+         * readers) this returns {@link FilterFactory#AlwaysPresent}.
+         */
+        public IFilter getClusteringFilterCopy()
+        {
+            return clusteringFilter.sharedCopy();
+        }
     }
 
     public abstract static class Builder<P extends SortedTablePartitionWriter,
@@ -502,6 +546,11 @@ public abstract class SortedTableWriter<P extends SortedTablePartitionWriter, I
                 addComponents(ImmutableSet.of(SSTableFormat.Components.FILTER));
             }
 
+            if (ClusteringPrefixFilter.isEnabled(getTableMetadataRef().getLocal()))
+            {
+                addComponents(ImmutableSet.of(SSTableFormat.Components.CLUSTERING_FILTER));
+            }
+
             return (B) this;
         }
 
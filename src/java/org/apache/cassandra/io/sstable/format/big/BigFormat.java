@@ -208,6 +208,7 @@ public class BigFormat extends AbstractSSTableFormat<BigTableReader, BigTableWri
                                                                              STATS,
                                                                              COMPRESSION_INFO,
                                                                              FILTER,
+                                                                             CLUSTERING_FILTER,
                                                                              SUMMARY,
                                                                              DIGEST,
                                                                              CRC,
@@ -45,6 +45,7 @@ import org.apache.cassandra.io.util.DiskOptimizationStrategy;
 import org.apache.cassandra.io.util.FileHandle;
 import org.apache.cassandra.io.util.RandomAccessReader;
 import org.apache.cassandra.metrics.TableMetrics;
+import org.apache.cassandra.schema.TableParams;
 import org.apache.cassandra.service.CacheService;
 import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.FilterFactory;
@@ -148,12 +149,15 @@ public class BigSSTableReaderLoadingBuilder extends SortedTableReaderLoadingBuil
             if (builder.getFilter() == null)
                 builder.setFilter(FilterFactory.AlwaysPresent);
 
+            if (online)
+                builder.setClusteringFilter(FilterComponent.maybeLoadClusteringFilter(descriptor, builder.getComponents()));
+
             if (builder.getComponents().contains(Components.PRIMARY_INDEX))
                 builder.setIndexFile(indexFileBuilder(builder.getIndexSummary()).complete());
         }
         catch (IOException | RuntimeException | Error ex)
         {
-            Throwables.closeNonNullAndAddSuppressed(ex, builder.getDataFile(), builder.getIndexFile(), builder.getFilter(), builder.getIndexSummary());
+            Throwables.closeNonNullAndAddSuppressed(ex, builder.getDataFile(), builder.getIndexFile(), builder.getFilter(), builder.getClusteringFilter(), builder.getIndexSummary());
             throw ex;
         }
     }
@@ -204,7 +208,10 @@ public class BigSSTableReaderLoadingBuilder extends SortedTableReaderLoadingBuil
             long estimatedRowsNumber = rebuildFilter || rebuildSummary ? estimateRowsFromIndex(indexFile) : 0;
 
             if (rebuildFilter)
-                bf = FilterFactory.getFilter(estimatedRowsNumber, tableMetadataRef.getLocal().params.bloomFilterFpChance);
+            {
+                TableParams params = tableMetadataRef.getLocal().params;
+                bf = FilterFactory.getFilter(estimatedRowsNumber, params.bloomFilterFpChance, params.bloomFilterType);
+            }
 
             try (IndexSummaryBuilder summaryBuilder = !rebuildSummary ? null : new IndexSummaryBuilder(estimatedRowsNumber,
                                                                                                        tableMetadataRef.getLocal().params.minIndexInterval,
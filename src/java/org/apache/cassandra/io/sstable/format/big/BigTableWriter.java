@@ -132,6 +132,7 @@ public class BigTableWriter extends SortedTableWriter<BigFormatPartitionWriter,
         assert boundary == null || (boundary.indexLength > 0 && boundary.dataLength > 0);
 
         IFilter filter = null;
+        IFilter clusteringFilter = null;
         IndexSummary indexSummary = null;
         FileHandle dataFile = null;
         FileHandle indexFile = null;
@@ -162,6 +163,8 @@ public class BigTableWriter extends SortedTableWriter<BigFormatPartitionWriter,
 
             filter = indexWriter.getFilterCopy();
             builder.setFilter(filter);
+            clusteringFilter = indexWriter.getClusteringFilterCopy();
+            builder.setClusteringFilter(clusteringFilter);
             indexSummary = indexWriter.summary.build(metadata().partitioner, boundary);
             builder.setIndexSummary(indexSummary);
             long indexFileLength = descriptor.fileFor(Components.PRIMARY_INDEX).length();
@@ -180,7 +183,7 @@ public class BigTableWriter extends SortedTableWriter<BigFormatPartitionWriter,
         catch (Throwable t)
         {
             JVMStabilityInspector.inspectThrowable(t);
-            Throwables.closeNonNullAndAddSuppressed(t, dataFile, indexFile, indexSummary, filter);
+            Throwables.closeNonNullAndAddSuppressed(t, dataFile, indexFile, indexSummary, filter, clusteringFilter);
             throw t;
         }
 
@@ -103,6 +103,7 @@ public class BtiFormat extends AbstractSSTableFormat<BtiTableReader, BtiTableWri
                                                                              STATS,
                                                                              COMPRESSION_INFO,
                                                                              FILTER,
+                                                                             CLUSTERING_FILTER,
                                                                              DIGEST,
                                                                              CRC,
                                                                              TOC);
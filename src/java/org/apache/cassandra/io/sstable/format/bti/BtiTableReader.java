@@ -34,6 +34,7 @@ import org.apache.cassandra.db.DataRange;
 import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.DeletionTime;
 import org.apache.cassandra.db.PartitionPosition;
+import org.apache.cassandra.db.Slice;
 import org.apache.cassandra.db.Slices;
 import org.apache.cassandra.db.filter.ColumnFilter;
 import org.apache.cassandra.db.partitions.UnfilteredPartitionIterator;
@@ -52,6 +53,7 @@ import org.apache.cassandra.io.sstable.SSTableReadsListener;
 import org.apache.cassandra.io.sstable.SSTableReadsListener.SelectionReason;
 import org.apache.cassandra.io.sstable.SSTableReadsListener.SkippingReason;
 import org.apache.cassandra.io.sstable.format.SSTableReaderWithFilter;
+import org.apache.cassandra.io.sstable.format.bti.RowIndexReader.IndexInfo;
 import org.apache.cassandra.io.util.FileDataInput;
 import org.apache.cassandra.io.util.FileHandle;
 import org.apache.cassandra.io.util.RandomAccessReader;
@@ -363,7 +365,31 @@ public class BtiTableReader extends SSTableReaderWithFilter
                                              boolean reversed,
                                              SSTableReadsListener listener)
     {
-        return rowIterator(null, key, getExactPosition(key, listener, true), slices, selectedColumns, reversed);
+        TrieIndexEntry indexEntry = getExactPosition(key, listener, true);
+        if (indexEntry != null && indexEntry.isIndexed() && !reversed && !slices.isEmpty() && !selectedColumns.fetchedColumns().statics.isEmpty())
+            prefetchFirstBlock(indexEntry, slices.get(0));
+        return rowIterator(null, key, indexEntry, slices, selectedColumns, reversed);
+    }
+
+    /**
+     * Prefetches the row index block and the data chunk the forward iteration of the given slice starts from. This
+     * is only worth doing when the partition header is read (to fetch the static row) before the row index is
+     * consulted: the prefetch then overlaps with that read. Otherwise the iterator's first step is this very lookup.
+     */
+    private void prefetchFirstBlock(TrieIndexEntry indexEntry, Slice slice)
+    {
+        prefetchAsync(() -> {
+            try (RowIndexReader indexReader = new RowIndexReader(rowIndexFile, indexEntry, descriptor.version))
+            {
+                IndexInfo indexInfo = indexReader.separatorFloor(metadata().comparator.asByteComparable(slice.start()));
+                if (indexInfo != null)
+                    chunkCache.prefetch(dfile, indexEntry.position + indexInfo.offset);
+            }
+            catch (IOException e)
+            {
+                // ignored, the read itself will hit and report it
+            }
+        });
     }
 
     public UnfilteredRowIterator rowIterator(FileDataInput dataFileInput,
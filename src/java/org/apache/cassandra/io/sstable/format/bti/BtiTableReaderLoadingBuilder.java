@@ -38,6 +38,7 @@ import org.apache.cassandra.io.sstable.metadata.StatsMetadata;
 import org.apache.cassandra.io.sstable.metadata.ValidationMetadata;
 import org.apache.cassandra.io.util.FileHandle;
 import org.apache.cassandra.metrics.TableMetrics;
+import org.apache.cassandra.schema.TableParams;
 import org.apache.cassandra.utils.FilterFactory;
 import org.apache.cassandra.utils.IFilter;
 import org.apache.cassandra.utils.Throwables;
@@ -111,6 +112,9 @@ public class BtiTableReaderLoadingBuilder extends SortedTableReaderLoadingBuilde
             if (builder.getFilter() == null)
                 builder.setFilter(FilterFactory.AlwaysPresent);
 
+            if (online)
+                builder.setClusteringFilter(FilterComponent.maybeLoadClusteringFilter(descriptor, builder.getComponents()));
+
             if (builder.getComponents().contains(Components.ROW_INDEX))
                 builder.setRowIndexFile(rowIndexFileBuilder().complete());
 
@@ -142,7 +146,7 @@ public class BtiTableReaderLoadingBuilder extends SortedTableReaderLoadingBuilde
         catch (IOException | RuntimeException | Error ex)
         {
             // in case of failure, close only those components which have been opened in this try-catch block
-            Throwables.closeAndAddSuppressed(ex, builder.getPartitionIndex(), builder.getRowIndexFile(), builder.getDataFile(), builder.getFilter());
+            Throwables.closeAndAddSuppressed(ex, builder.getPartitionIndex(), builder.getRowIndexFile(), builder.getDataFile(), builder.getFilter(), builder.getClusteringFilter());
             throw ex;
         }
     }
@@ -153,7 +157,8 @@ public class BtiTableReaderLoadingBuilder extends SortedTableReaderLoadingBuilde
 
         try (KeyReader keyReader = createKeyReader(statsMetadata))
         {
-            bf = FilterFactory.getFilter(statsMetadata.totalRows, tableMetadataRef.getLocal().params.bloomFilterFpChance);
+            TableParams params = tableMetadataRef.getLocal().params;
+            bf = FilterFactory.getFilter(statsMetadata.totalRows, params.bloomFilterFpChance, params.bloomFilterType);
 
             while (!keyReader.isExhausted())
             {
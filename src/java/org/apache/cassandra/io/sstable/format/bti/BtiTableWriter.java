@@ -85,6 +85,7 @@ public class BtiTableWriter extends SortedTableWriter<BtiFormatPartitionWriter,
     private BtiTableReader openInternal(OpenReason openReason, boolean isFinal, Supplier<PartitionIndex> partitionIndexSupplier)
     {
         IFilter filter = null;
+        IFilter clusteringFilter = null;
         FileHandle dataFile = null;
         PartitionIndex partitionIndex = null;
         FileHandle rowIndexFile = null;
@@ -101,6 +102,7 @@ public class BtiTableWriter extends SortedTableWriter<BtiFormatPartitionWriter,
             rowIndexFile = indexWriter.rowIndexFHBuilder.complete();
             dataFile = openDataFile(isFinal ? NO_LENGTH_OVERRIDE : dataWriter.getLastFlushOffset(), builder.getStatsMetadata());
             filter = indexWriter.getFilterCopy();
+            clusteringFilter = indexWriter.getClusteringFilterCopy();
 
             return builder.setPartitionIndex(partitionIndex)
                           .setFirst(partitionIndex.firstKey())
@@ -108,12 +110,13 @@ public class BtiTableWriter extends SortedTableWriter<BtiFormatPartitionWriter,
                           .setRowIndexFile(rowIndexFile)
                           .setDataFile(dataFile)
                           .setFilter(filter)
+                          .setClusteringFilter(clusteringFilter)
                           .build(owner().orElse(null), true, true);
         }
         catch (RuntimeException | Error ex)
         {
             JVMStabilityInspector.inspectThrowable(ex);
-            Throwables.closeNonNullAndAddSuppressed(ex, filter, dataFile, rowIndexFile, partitionIndex);
+            Throwables.closeNonNullAndAddSuppressed(ex, filter, clusteringFilter, dataFile, rowIndexFile, partitionIndex);
             throw ex;
         }
     }
@@ -287,7 +290,7 @@ public class BtiTableWriter extends SortedTableWriter<BtiFormatPartitionWriter,
         @Override
         protected Throwable doPostCleanup(Throwable accumulate)
         {
-            return Throwables.close(accumulate, bf, partitionIndex, rowIndexWriter, partitionIndexWriter);
+            return Throwables.close(accumulate, bf, clusteringFilter, partitionIndex, rowIndexWriter, partitionIndexWriter);
         }
     }
 
@@ -23,6 +23,7 @@ import org.apache.cassandra.db.DecoratedKey;
 import org.apache.cassandra.db.Slice;
 import org.apache.cassandra.db.Slices;
 import org.apache.cassandra.db.filter.ColumnFilter;
+import org.apache.cassandra.db.rows.Unfiltered;
 import org.apache.cassandra.io.sstable.AbstractRowIndexEntry;
 import org.apache.cassandra.io.sstable.AbstractSSTableIterator;
 import org.apache.cassandra.io.sstable.format.Version;
@@ -53,8 +54,11 @@ class SSTableIterator extends AbstractSSTableIterator<AbstractRowIndexEntry>
 
     protected Reader createReaderInternal(AbstractRowIndexEntry indexEntry, FileDataInput file, boolean shouldCloseFile, Version version)
     {
+        int prefetchChunkSize = sstable.dataPrefetchChunkSize();
         if (indexEntry.isIndexed())
-            return new ForwardIndexedReader(indexEntry, file, shouldCloseFile, version);
+            return new ForwardIndexedReader(indexEntry, file, shouldCloseFile, version, prefetchChunkSize);
+        else if (prefetchChunkSize > 0)
+            return new PrefetchingForwardReader(file, shouldCloseFile, prefetchChunkSize);
         else
             return new ForwardReader(file, shouldCloseFile);
     }
@@ -76,15 +80,52 @@ class SSTableIterator extends AbstractSSTableIterator<AbstractRowIndexEntry>
         return false;
     }
 
-    private class ForwardIndexedReader extends ForwardReader
+    /**
+     * Forward reader that, once a slice has been read sequentially across a chunk boundary, prefetches the data chunk
+     * following the one being read, so that reading it overlaps with processing the current one.
+     */
+    private class PrefetchingForwardReader extends ForwardReader
+    {
+        private final int chunkSize;
+        private long chunk = -1;
+
+        private PrefetchingForwardReader(FileDataInput file, boolean shouldCloseFile, int chunkSize)
+        {
+            super(file, shouldCloseFile);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void setForSlice(Slice slice) throws IOException
+        {
+            super.setForSlice(slice);
+            chunk = -1;
+        }
+
+        @Override
+        protected Unfiltered computeNext() throws IOException
+        {
+            Unfiltered next = super.computeNext();
+            if (next != null && chunkSize > 0)
+            {
+                long current = file.getFilePointer() / chunkSize;
+                if (chunk >= 0 && current == chunk + 1)
+                    sstable.prefetchDataChunkAsync((current + 1) * chunkSize);
+                chunk = current;
+            }
+            return next;
+        }
+    }
+
+    private class ForwardIndexedReader extends PrefetchingForwardReader
     {
         private final RowIndexReader indexReader;
         private final long basePosition;
         private final Version version;
 
-        private ForwardIndexedReader(AbstractRowIndexEntry indexEntry, FileDataInput file, boolean shouldCloseFile, Version version)
+        private ForwardIndexedReader(AbstractRowIndexEntry indexEntry, FileDataInput file, boolean shouldCloseFile, Version version, int prefetchChunkSize)
         {
-            super(file, shouldCloseFile);
+            super(file, shouldCloseFile, prefetchChunkSize);
             basePosition = indexEntry.position;
             this.version = version;
             indexReader = new RowIndexReader(ifile, (TrieIndexEntry) indexEntry, version);
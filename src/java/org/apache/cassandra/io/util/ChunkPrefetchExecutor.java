@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.io.util;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.concurrent.ExecutorPlus;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.utils.JVMStabilityInspector;
+
+import static org.apache.cassandra.concurrent.ExecutorFactory.Global.executorFactory;
+
+/**
+ * Runs reads that populate the chunk cache ahead of the reader that will need the chunks, so that several reads can be
+ * in flight at once where the read path would otherwise issue them one after another.
+ * <p>
+ * The JDK provides no native asynchronous file I/O on Linux ({@code AsynchronousFileChannel} is itself backed by a
+ * thread pool), so prefetches are ordinary blocking reads on a dedicated pool of {@code concurrent_chunk_prefetches}
+ * threads. Their results are handed over through the chunk cache: a reader asking for a chunk that is being loaded by
+ * a prefetch waits for that load rather than issuing its own read. Prefetching is only a hint; when it is disabled, or
+ * the pool is saturated, prefetches are dropped and readers read the chunks themselves, as they always have.
+ */
+public class ChunkPrefetchExecutor
+{
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPrefetchExecutor.class);
+
+    private static final int QUEUED_PREFETCHES_PER_THREAD = 64;
+
+    public static final ChunkPrefetchExecutor instance = new ChunkPrefetchExecutor(DatabaseDescriptor.getConcurrentChunkPrefetches());
+
+    private final ExecutorPlus executor;
+
+    @VisibleForTesting
+    ChunkPrefetchExecutor(int threads)
+    {
+        executor = threads > 0 ? executorFactory().withJmxInternal()
+                                                  .configurePooled("ChunkPrefetch", threads)
+                                                  .withQueueLimit(threads * QUEUED_PREFETCHES_PER_THREAD)
+                                                  .withRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy())
+                                                  .build()
+                               : null;
+    }
+
+    public boolean isEnabled()
+    {
+        return executor != null;
+    }
+
+    /**
+     * Submits the given prefetch, unless prefetching is disabled or too many prefetches are queued already. Failures
+     * are not propagated; the reader that needs the data will run into them again and report them.
+     */
+    public void prefetch(Runnable prefetch)
+    {
+        if (executor == null)
+            return;
+
+        executor.execute(() -> {
+            try
+            {
+                prefetch.run();
+            }
+            catch (Throwable t)
+            {
+                JVMStabilityInspector.inspectThrowable(t);
+                logger.debug("Chunk prefetch failed", t);
+            }
+        });
+    }
+
+    @VisibleForTesting
+    void shutdownNow()
+    {
+        if (executor != null)
+            executor.shutdownNow();
+    }
+}
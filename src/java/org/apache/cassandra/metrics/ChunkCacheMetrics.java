@@ -17,14 +17,22 @@
  */
 package org.apache.cassandra.metrics;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.Nonnull;
 
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import org.apache.cassandra.cache.ChunkCache;
+import org.apache.cassandra.utils.Pair;
 
 import static org.apache.cassandra.metrics.CassandraMetricsRegistry.Metrics;
 
@@ -36,6 +44,14 @@ public class ChunkCacheMetrics extends CacheMetrics implements StatsCounter
     public static final String TYPE_NAME = "ChunkCache";
     /** Latency of misses */
     public final Timer missLatency;
+    /** Reads served around the cache, because the reader was scanning or its table was over quota */
+    public final Meter bypasses;
+    /** Chunks prefetched on startup from the saved hot chunk set */
+    public final Meter warmupChunks;
+    /** Bytes prefetched on startup from the saved hot chunk set */
+    public final Meter warmupBytes;
+
+    private final ConcurrentMap<Pair<String, String>, TableMetrics> tables = new ConcurrentHashMap<>();
 
     /**
      * Create metrics for the provided chunk cache.
@@ -46,6 +62,22 @@ public class ChunkCacheMetrics extends CacheMetrics implements StatsCounter
     {
         super(TYPE_NAME, cache);
         missLatency = Metrics.timer(factory.createMetricName("MissLatency"));
+        bypasses = Metrics.meter(factory.createMetricName("Bypasses"));
+        warmupChunks = Metrics.meter(factory.createMetricName("WarmupChunks"));
+        warmupBytes = Metrics.meter(factory.createMetricName("WarmupBytes"));
+    }
+
+    /**
+     * Returns the per-table metrics for the given table, creating them if necessary.
+     */
+    public TableMetrics forTable(String keyspace, String table)
+    {
+        return tables.computeIfAbsent(Pair.create(keyspace, table), k -> new TableMetrics(keyspace, table));
+    }
+
+    public Collection<TableMetrics> tables()
+    {
+        return Collections.unmodifiableCollection(tables.values());
     }
 
     @Override
@@ -84,4 +116,75 @@ public class ChunkCacheMetrics extends CacheMetrics implements StatsCounter
     {
         return CacheStats.of(hits.getCount(), misses.getCount(), missLatency.getCount(), 0L, missLatency.getCount(), 0L, 0L);
     }
+
+    /**
+     * Chunk cache usage of a single table. These are plain counters rather than registered metrics, as tables come and
+     * go and the chunk cache does not otherwise track table lifecycle.
+     */
+    public static class TableMetrics
+    {
+        public final String keyspace;
+        public final String table;
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder bypasses = new LongAdder();
+        private final AtomicLong weight = new AtomicLong();
+
+        private TableMetrics(String keyspace, String table)
+        {
+            this.keyspace = keyspace;
+            this.table = table;
+        }
+
+        public void recordRequest()
+        {
+            requests.increment();
+        }
+
+        public void recordMiss()
+        {
+            misses.increment();
+        }
+
+        public void recordBypass()
+        {
+            bypasses.increment();
+        }
+
+        /**
+         * Accounts for a chunk of the given size entering (positive) or leaving (negative) the cache.
+         */
+        public void addWeight(long delta)
+        {
+            weight.addAndGet(delta);
+        }
+
+        /** Bytes of this table's chunks currently held in the cache */
+        public long weight()
+        {
+            return weight.get();
+        }
+
+        public long requests()
+        {
+            return requests.sum();
+        }
+
+        public long hits()
+        {
+            return Math.max(0, requests.sum() - misses.sum());
+        }
+
+        public long bypasses()
+        {
+            return bypasses.sum();
+        }
+
+        public double hitRatio()
+        {
+            long requestCount = requests();
+            return requestCount == 0 ? Double.NaN : (double) hits() / requestCount;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
@@ -92,6 +93,7 @@ public final class ClientMetrics
     private Meter connectionPaused;
     private Meter requestDiscarded;
     private Meter requestDispatched;
+    private Meter requestExecutedInline;
 
     private Meter timedOutBeforeProcessing;
     private Meter protocolException;
@@ -99,6 +101,8 @@ public final class ClientMetrics
     private Meter unknownException;
     private Timer queueTime;
 
+    private final Map<String, TenantMetrics> tenantMetrics = new ConcurrentHashMap<>();
+
     private static final String AUTH_SUCCESS = "AuthSuccess";
 
     private static final String AUTH_FAILURE = "AuthFailure";
@@ -149,6 +153,12 @@ public final class ClientMetrics
         return (int) connectionPaused.getCount();
     }
 
+    @VisibleForTesting
+    public long getRequestsExecutedInline()
+    {
+        return requestExecutedInline.getCount();
+    }
+
     public void pauseConnection()
     {
         connectionPaused.mark();
@@ -158,6 +168,7 @@ public final class ClientMetrics
 
     public void markRequestDiscarded() { requestDiscarded.mark(); }
     public void markRequestDispatched() { requestDispatched.mark(); }
+    public void markRequestExecutedInline() { requestExecutedInline.mark(); }
     public void markTimedOutBeforeProcessing() { timedOutBeforeProcessing.mark(); }
 
     public List<ConnectedClient> allConnectedClients()
@@ -238,6 +249,7 @@ public final class ClientMetrics
         connectionPaused = registerMeter("ConnectionPaused");
         requestDiscarded = registerMeter("RequestDiscarded");
         requestDispatched = registerMeter("RequestDispatched");
+        requestExecutedInline = registerMeter("RequestExecutedInline");
 
         timedOutBeforeProcessing = registerMeter("TimedOutBeforeProcessing");
         protocolException = registerMeter("ProtocolException");
@@ -328,6 +340,26 @@ public final class ClientMetrics
                               factory::createMetricName, m -> {});
     }
 
+    /**
+     * @return the metrics of the requests of {@code tenant} of a {@link org.apache.cassandra.transport.RequestScheduler},
+     * registered under the {@code Tenant-<tenant>} scope on first use
+     */
+    public TenantMetrics tenantMetrics(String tenant)
+    {
+        return tenantMetrics.computeIfAbsent(tenant, TenantMetrics::new);
+    }
+
+    /**
+     * Registers the gauges of the limit on the requests of {@code type} in flight of the
+     * {@link org.apache.cassandra.transport.AdaptiveConcurrencyLimiter}, under the {@code Concurrency-<type>} scope.
+     */
+    public void registerConcurrencyLimit(String type, Gauge<Integer> limit, Gauge<Integer> inFlight)
+    {
+        MetricNameFactory factory = new DefaultNameFactory(TYPE_NAME, "Concurrency-" + type);
+        Metrics.register(factory.createMetricName("Limit"), limit);
+        Metrics.register(factory.createMetricName("InFlight"), inFlight);
+    }
+
     public Timer registerTimer(String name)
     {
         return Metrics.timer(factory.createMetricName(name));
@@ -337,4 +369,22 @@ public final class ClientMetrics
     {
         queueTime.update(value, unit);
     }
+
+    public static class TenantMetrics
+    {
+        /** The number of requests of the tenant waiting to be handed to the request executor. */
+        public final AtomicInteger queueDepth = new AtomicInteger();
+        /** The time between the arrival of the requests of the tenant and the end of their processing. */
+        public final Timer latency;
+        /** The requests of the tenant rejected because too many of its requests were already waiting. */
+        public final Meter rejected;
+
+        private TenantMetrics(String tenant)
+        {
+            MetricNameFactory factory = new DefaultNameFactory(TYPE_NAME, "Tenant-" + tenant.replaceAll("[^\\w.-]", "_"));
+            Metrics.register(factory.createMetricName("QueueDepth"), (Gauge<Integer>) queueDepth::get);
+            latency = Metrics.timer(factory.createMetricName("Latency"));
+            rejected = Metrics.meter(factory.createMetricName("Rejected"));
+        }
+    }
 }
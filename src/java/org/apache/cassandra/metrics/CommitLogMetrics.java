@@ -17,7 +17,9 @@
  */
 package org.apache.cassandra.metrics;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import org.apache.cassandra.db.commitlog.AbstractCommitLogService;
@@ -31,7 +33,7 @@ import static org.apache.cassandra.metrics.CassandraMetricsRegistry.Metrics;
 public class CommitLogMetrics
 {
     public static final String TYPE_NAME = "CommitLog";
-    public static final MetricNameFactory factory = new DefaultNameFactory(TYPE_NAME);
+    private final MetricNameFactory factory;
 
     /** Number of completed tasks */
     public Gauge<Long> completedTasks;
@@ -45,15 +47,44 @@ public class CommitLogMetrics
     public final Timer waitingOnCommit;
     /** Time spent actually flushing the contents of a buffer to disk */
     public final Timer waitingOnFlush;
+    /** Number of writes made durable by each sync of the group commit log service */
+    public final Histogram groupCommitBatchSize;
+    /** Time in microseconds the group commit log service waited between the end of a sync and the start of the next */
+    public final Histogram groupCommitWindow;
     /** Number and rate of oversized mutations */
     public final Meter oversizedMutations;
+    /** Number of commit log segments that remain to be read by the ongoing replay */
+    public final Counter pendingReplaySegments;
+    /** Number of commit log segments read by replays */
+    public final Counter replayedSegments;
+    /** Number and rate of mutations applied by replays */
+    public final Meter replayedMutations;
 
     public CommitLogMetrics()
     {
+        this(new DefaultNameFactory(TYPE_NAME));
+    }
+
+    /**
+     * Metrics of the commit log segregating the writes of the given keyspace.
+     */
+    public CommitLogMetrics(String keyspace)
+    {
+        this(new DefaultNameFactory(TYPE_NAME, keyspace));
+    }
+
+    private CommitLogMetrics(MetricNameFactory factory)
+    {
+        this.factory = factory;
         waitingOnSegmentAllocation = Metrics.timer(factory.createMetricName("WaitingOnSegmentAllocation"));
         waitingOnCommit = Metrics.timer(factory.createMetricName("WaitingOnCommit"));
         waitingOnFlush = Metrics.timer(factory.createMetricName("WaitingOnFlush"));
+        groupCommitBatchSize = Metrics.histogram(factory.createMetricName("GroupCommitBatchSize"), true);
+        groupCommitWindow = Metrics.histogram(factory.createMetricName("GroupCommitWindow"), true);
         oversizedMutations = Metrics.meter(factory.createMetricName("OverSizedMutations"));
+        pendingReplaySegments = Metrics.counter(factory.createMetricName("PendingReplaySegments"));
+        replayedSegments = Metrics.counter(factory.createMetricName("ReplayedSegments"));
+        replayedMutations = Metrics.meter(factory.createMetricName("ReplayedMutations"));
     }
 
     public void attach(final AbstractCommitLogService service, final AbstractCommitLogSegmentManager segmentManager)
@@ -65,6 +65,9 @@ public class DroppedMessageMetrics
     /** The cross node dropped latency */
     public final Timer crossNodeDroppedLatency;
 
+    /** Number of messages dropped before they ran out of time, as they could not have completed in time */
+    public final Meter shed;
+
     public DroppedMessageMetrics(Verb verb)
     {
         String scope = verb.toString();
@@ -78,12 +81,15 @@ public class DroppedMessageMetrics
                                                    createMetricName(TYPE, "InternalDroppedLatency", alias));
             crossNodeDroppedLatency = Metrics.timer(createMetricName(TYPE, "CrossNodeDroppedLatency", scope),
                                                     createMetricName(TYPE, "CrossNodeDroppedLatency", alias));
+            shed = Metrics.meter(createMetricName(TYPE, "Shed", scope),
+                                 createMetricName(TYPE, "Shed", alias));
         }
         else
         {
             dropped = Metrics.meter(createMetricName(TYPE, "Dropped", scope));
             internalDroppedLatency = Metrics.timer(createMetricName(TYPE, "InternalDroppedLatency", scope));
             crossNodeDroppedLatency = Metrics.timer(createMetricName(TYPE, "CrossNodeDroppedLatency", scope));
+            shed = Metrics.meter(createMetricName(TYPE, "Shed", scope));
         }
     }
 }
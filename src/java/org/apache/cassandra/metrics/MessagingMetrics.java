@@ -152,6 +152,15 @@ public class MessagingMetrics implements InboundMessageHandlers.GlobalMetricCall
         recordDroppedMessage(droppedMessages.get(verb), timeElapsed, timeUnit, isCrossNode);
     }
 
+    /**
+     * Records a message shed before its deadline as it could not have completed in time; it is recorded as dropped
+     * separately.
+     */
+    public void recordShedMessage(Verb verb)
+    {
+        droppedMessages.get(verb).metrics.shed.mark();
+    }
+
     private static void recordDroppedMessage(DroppedForVerb droppedMessages, long timeTaken, TimeUnit units, boolean isCrossNode)
     {
         if (isCrossNode)
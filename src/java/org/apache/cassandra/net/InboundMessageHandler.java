@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.cassandra.concurrent.DeadlineTask;
 import org.apache.cassandra.concurrent.ExecutorLocals;
 import org.apache.cassandra.concurrent.Stage;
 import org.apache.cassandra.exceptions.IncompatibleSchemaException;
@@ -417,7 +418,7 @@ public class InboundMessageHandler extends AbstractMessageHandler
         header.verb.stage.execute(ExecutorLocals.create(state), task);
     }
 
-    private abstract class ProcessMessage implements Runnable
+    private abstract class ProcessMessage implements DeadlineTask
     {
         /**
          * Actually handle the message. Runs on the appropriate {@link Stage} for the {@link Verb}.
@@ -426,10 +427,29 @@ public class InboundMessageHandler extends AbstractMessageHandler
          * just in time, and only then processed.
          */
         public void run()
+        {
+            process(false);
+        }
+
+        public long deadlineNanos()
+        {
+            return header().expiresAtNanos;
+        }
+
+        /**
+         * Drops the message as expired, as it could not be processed before it expires.
+         */
+        public void shed(long nowNanos)
+        {
+            MessagingService.instance().metrics.recordShedMessage(header().verb);
+            process(true);
+        }
+
+        private void process(boolean shed)
         {
             Header header = header();
             long approxStartTimeNanos = approxTime.now();
-            boolean expired = approxTime.isAfter(approxStartTimeNanos, header.expiresAtNanos);
+            boolean expired = shed || approxTime.isAfter(approxStartTimeNanos, header.expiresAtNanos);
 
             boolean processed = false;
             try
@@ -50,6 +50,7 @@ import org.apache.cassandra.schema.Keyspaces.KeyspacesDiff;
 import org.apache.cassandra.service.reads.repair.ReadRepairStrategy;
 import org.apache.cassandra.utils.ByteBufferUtil;
 import org.apache.cassandra.utils.FBUtilities;
+import org.apache.cassandra.utils.FilterFactory;
 import org.apache.cassandra.utils.Simulate;
 
 import static java.lang.String.format;
@@ -105,6 +106,8 @@ public final class SchemaKeyspace
               + "table_name text,"
               + "allow_auto_snapshot boolean,"
               + "bloom_filter_fp_chance double,"
+              + "bloom_filter_type text,"
+              + "clustering_filter_fp_chance double,"
               + "caching frozen<map<text, text>>,"
               + "comment text,"
               + "compaction frozen<map<text, text>>,"
@@ -189,6 +192,8 @@ public final class SchemaKeyspace
               + "where_clause text,"
               + "allow_auto_snapshot boolean,"
               + "bloom_filter_fp_chance double,"
+              + "bloom_filter_type text,"
+              + "clustering_filter_fp_chance double,"
               + "caching frozen<map<text, text>>,"
               + "comment text,"
               + "compaction frozen<map<text, text>>,"
@@ -578,6 +583,14 @@ public final class SchemaKeyspace
         // incremental_backups is enabled, to avoid RTE in pre-4.2 versioned node during upgrades
         if (!params.incrementalBackups)
             builder.add("incremental_backups", false);
+
+        // As above, only add the bloom_filter_type column if the table uses a non-default filter type
+        if (params.bloomFilterType != FilterFactory.Type.STANDARD)
+            builder.add("bloom_filter_type", params.bloomFilterType.toString());
+
+        // As above, only add the clustering_filter_fp_chance column if the clustering filter is enabled
+        if (params.clusteringFilterFpChance != 1.0)
+            builder.add("clustering_filter_fp_chance", params.clusteringFilterFpChance);
     }
 
     private static void addAlterTableToSchemaMutation(TableMetadata oldTable, TableMetadata newTable, Mutation.SimpleBuilder builder)
@@ -1050,6 +1063,14 @@ public final class SchemaKeyspace
         if (row.has("incremental_backups"))
             builder.incrementalBackups(row.getBoolean("incremental_backups"));
 
+        // bloom_filter_type column was introduced in 5.1
+        if (row.has("bloom_filter_type"))
+            builder.bloomFilterType(FilterFactory.Type.fromString(row.getString("bloom_filter_type")));
+
+        // clustering_filter_fp_chance column was introduced in 5.1
+        if (row.has("clustering_filter_fp_chance"))
+            builder.clusteringFilterFpChance(row.getDouble("clustering_filter_fp_chance"));
+
         return builder.build();
     }
 
@@ -39,6 +39,7 @@ import org.apache.cassandra.service.reads.SpeculativeRetryPolicy;
 import org.apache.cassandra.service.reads.repair.ReadRepairStrategy;
 import org.apache.cassandra.utils.BloomCalculations;
 import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.FilterFactory;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toMap;
@@ -52,7 +53,9 @@ public final class TableParams
     {
         ALLOW_AUTO_SNAPSHOT,
         BLOOM_FILTER_FP_CHANCE,
+        BLOOM_FILTER_TYPE,
         CACHING,
+        CLUSTERING_FILTER_FP_CHANCE,
         COMMENT,
         COMPACTION,
         COMPRESSION,
@@ -80,6 +83,8 @@ public final class TableParams
     public final String comment;
     public final boolean allowAutoSnapshot;
     public final double bloomFilterFpChance;
+    public final FilterFactory.Type bloomFilterType;
+    public final double clusteringFilterFpChance;
     public final double crcCheckChance;
     public final int gcGraceSeconds;
     public final boolean incrementalBackups;
@@ -104,6 +109,8 @@ public final class TableParams
         bloomFilterFpChance = builder.bloomFilterFpChance == -1
                             ? builder.compaction.defaultBloomFilterFbChance()
                             : builder.bloomFilterFpChance;
+        bloomFilterType = builder.bloomFilterType;
+        clusteringFilterFpChance = builder.clusteringFilterFpChance;
         crcCheckChance = builder.crcCheckChance;
         gcGraceSeconds = builder.gcGraceSeconds;
         incrementalBackups = builder.incrementalBackups;
@@ -131,6 +138,8 @@ public final class TableParams
     {
         return new Builder().allowAutoSnapshot(params.allowAutoSnapshot)
                             .bloomFilterFpChance(params.bloomFilterFpChance)
+                            .bloomFilterType(params.bloomFilterType)
+                            .clusteringFilterFpChance(params.clusteringFilterFpChance)
                             .caching(params.caching)
                             .comment(params.comment)
                             .compaction(params.compaction)
@@ -169,6 +178,14 @@ public final class TableParams
                  bloomFilterFpChance);
         }
 
+        if (clusteringFilterFpChance <= minBloomFilterFpChanceValue || clusteringFilterFpChance > 1)
+        {
+            fail("%s must be larger than %s and less than or equal to 1.0 (got %s)",
+                 CLUSTERING_FILTER_FP_CHANCE,
+                 minBloomFilterFpChanceValue,
+                 clusteringFilterFpChance);
+        }
+
         if (crcCheckChance < 0 || crcCheckChance > 1.0)
         {
             fail("%s must be larger than or equal to 0 and smaller than or equal to 1.0 (got %s)",
@@ -224,6 +241,8 @@ public final class TableParams
             && additionalWritePolicy.equals(p.additionalWritePolicy)
             && allowAutoSnapshot == p.allowAutoSnapshot
             && bloomFilterFpChance == p.bloomFilterFpChance
+            && bloomFilterType == p.bloomFilterType
+            && clusteringFilterFpChance == p.clusteringFilterFpChance
             && crcCheckChance == p.crcCheckChance
             && gcGraceSeconds == p.gcGraceSeconds 
             && incrementalBackups == p.incrementalBackups
@@ -248,6 +267,8 @@ public final class TableParams
                                 additionalWritePolicy,
                                 allowAutoSnapshot,
                                 bloomFilterFpChance,
+                                bloomFilterType,
+                                clusteringFilterFpChance,
                                 crcCheckChance,
                                 gcGraceSeconds,
                                 incrementalBackups,
@@ -273,6 +294,8 @@ public final class TableParams
                           .add(ADDITIONAL_WRITE_POLICY.toString(), additionalWritePolicy)
                           .add(ALLOW_AUTO_SNAPSHOT.toString(), allowAutoSnapshot)
                           .add(BLOOM_FILTER_FP_CHANCE.toString(), bloomFilterFpChance)
+                          .add(BLOOM_FILTER_TYPE.toString(), bloomFilterType)
+                          .add(CLUSTERING_FILTER_FP_CHANCE.toString(), clusteringFilterFpChance)
                           .add(CRC_CHECK_CHANCE.toString(), crcCheckChance)
                           .add(GC_GRACE_SECONDS.toString(), gcGraceSeconds)
                           .add(DEFAULT_TIME_TO_LIVE.toString(), defaultTimeToLive)
@@ -299,12 +322,28 @@ public final class TableParams
                .append("AND allow_auto_snapshot = ").append(allowAutoSnapshot)
                .newLine()
                .append("AND bloom_filter_fp_chance = ").append(bloomFilterFpChance)
-               .newLine()
-               .append("AND caching = ").append(caching.asMap())
+               .newLine();
+
+        // only output the filter type when it is not the default, keeping the output readable by older versions
+        if (bloomFilterType != FilterFactory.Type.STANDARD)
+        {
+            builder.append("AND bloom_filter_type = ").appendWithSingleQuotes(bloomFilterType.toString())
+                   .newLine();
+        }
+
+        builder.append("AND caching = ").append(caching.asMap())
                .newLine()
                .append("AND cdc = ").append(cdc)
-               .newLine()
-               .append("AND comment = ").appendWithSingleQuotes(comment)
+               .newLine();
+
+        // the clustering filter is disabled by default, only output it when it has been enabled
+        if (clusteringFilterFpChance != 1.0)
+        {
+            builder.append("AND clustering_filter_fp_chance = ").append(clusteringFilterFpChance)
+                   .newLine();
+        }
+
+        builder.append("AND comment = ").appendWithSingleQuotes(comment)
                .newLine()
                .append("AND compaction = ").append(compaction.asMap())
                .newLine()
@@ -347,6 +386,8 @@ public final class TableParams
         private String comment = "";
         private boolean allowAutoSnapshot = true;
         private double bloomFilterFpChance = -1;
+        private FilterFactory.Type bloomFilterType = FilterFactory.Type.STANDARD;
+        private double clusteringFilterFpChance = 1.0;
         private double crcCheckChance = 1.0;
         private int gcGraceSeconds = 864000; // 10 days
         private boolean incrementalBackups = true;
@@ -391,6 +432,18 @@ public final class TableParams
             return this;
         }
 
+        public Builder bloomFilterType(FilterFactory.Type val)
+        {
+            bloomFilterType = val;
+            return this;
+        }
+
+        public Builder clusteringFilterFpChance(double val)
+        {
+            clusteringFilterFpChance = val;
+            return this;
+        }
+
         public Builder crcCheckChance(double val)
         {
             crcCheckChance = val;
@@ -510,6 +563,11 @@ public final class TableParams
             serializeMapBB(t.extensions, out);
             out.writeBoolean(t.cdc);
             out.writeUTF(t.readRepair.name());
+            if (version.isAtLeast(Version.V3))
+            {
+                out.writeUTF(t.bloomFilterType.name());
+                out.writeDouble(t.clusteringFilterFpChance);
+            }
         }
 
         public TableParams deserialize(DataInputPlus in, Version version) throws IOException
@@ -532,6 +590,11 @@ public final class TableParams
                    .extensions(deserializeMapBB(in))
                    .cdc(in.readBoolean())
                    .readRepair(ReadRepairStrategy.fromString(in.readUTF()));
+            if (version.isAtLeast(Version.V3))
+            {
+                builder.bloomFilterType(FilterFactory.Type.fromString(in.readUTF()))
+                       .clusteringFilterFpChance(in.readDouble());
+            }
             return builder.build();
         }
 
@@ -553,7 +616,8 @@ public final class TableParams
                    serializedSizeMap(t.compression.asMap()) +
                    serializedSizeMapBB(t.extensions) +
                    sizeof(t.cdc) +
-                   sizeof(t.readRepair.name());
+                   sizeof(t.readRepair.name()) +
+                   (version.isAtLeast(Version.V3) ? sizeof(t.bloomFilterType.name()) + sizeof(t.clusteringFilterFpChance) : 0);
         }
 
         private void serializeMap(Map<String, String> map, DataOutputPlus out) throws IOException
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.slf4j.Logger;
@@ -37,6 +38,8 @@ import org.apache.cassandra.cache.AutoSavingCache;
 import org.apache.cassandra.cache.AutoSavingCache.CacheSerializer;
 import org.apache.cassandra.cache.CacheProvider;
 import org.apache.cassandra.cache.CaffeineCache;
+import org.apache.cassandra.cache.ChunkCache;
+import org.apache.cassandra.cache.ChunkCacheKey;
 import org.apache.cassandra.cache.CounterCacheKey;
 import org.apache.cassandra.cache.ICache;
 import org.apache.cassandra.cache.IRowCacheEntry;
@@ -72,6 +75,7 @@ import org.apache.cassandra.utils.MBeanWrapper;
 import org.apache.cassandra.utils.Pair;
 import org.apache.cassandra.utils.concurrent.Future;
 import org.apache.cassandra.utils.concurrent.ImmediateFuture;
+import org.apache.cassandra.utils.concurrent.Ref;
 
 public class CacheService implements CacheServiceMBean
 {
@@ -83,7 +87,8 @@ public class CacheService implements CacheServiceMBean
     {
         KEY_CACHE("KeyCache"),
         ROW_CACHE("RowCache"),
-        COUNTER_CACHE("CounterCache");
+        COUNTER_CACHE("CounterCache"),
+        CHUNK_CACHE("ChunkCache");
 
         private final String name;
 
@@ -103,6 +108,8 @@ public class CacheService implements CacheServiceMBean
     public final AutoSavingCache<KeyCacheKey, AbstractRowIndexEntry> keyCache;
     public final AutoSavingCache<RowCacheKey, IRowCacheEntry> rowCache;
     public final AutoSavingCache<CounterCacheKey, ClockAndCount> counterCache;
+    /** Saved hot chunks of the chunk cache, or null if the chunk cache is disabled. */
+    public final AutoSavingCache<ChunkCacheKey, Integer> chunkCache;
 
     private CacheService()
     {
@@ -111,6 +118,7 @@ public class CacheService implements CacheServiceMBean
         keyCache = initKeyCache();
         rowCache = initRowCache();
         counterCache = initCounterCache();
+        chunkCache = initChunkCache();
     }
 
     /**
@@ -189,6 +197,30 @@ public class CacheService implements CacheServiceMBean
         return cache;
     }
 
+    /**
+     * The chunk cache itself is owned by {@link ChunkCache}; only its hot chunk set is saved and loaded here.
+     */
+    private AutoSavingCache<ChunkCacheKey, Integer> initChunkCache()
+    {
+        if (ChunkCache.instance == null)
+            return null;
+
+        AutoSavingCache<ChunkCacheKey, Integer> cache =
+            new AutoSavingCache<>(ChunkCache.instance.savedChunks(),
+                                  CacheType.CHUNK_CACHE,
+                                  new ChunkCacheSerializer());
+
+        int chunksToSave = DatabaseDescriptor.getFileCacheChunksToSave();
+
+        logger.info("Scheduling chunk cache save to every {} seconds (going to save {} chunks).",
+                    DatabaseDescriptor.getFileCacheSavePeriod(),
+                    chunksToSave == Integer.MAX_VALUE ? "all" : chunksToSave);
+
+        cache.scheduleSaving(DatabaseDescriptor.getFileCacheSavePeriod(), chunksToSave);
+
+        return cache;
+    }
+
 
     public int getRowCacheSavePeriodInSeconds()
     {
@@ -232,6 +264,21 @@ public class CacheService implements CacheServiceMBean
         counterCache.scheduleSaving(seconds, DatabaseDescriptor.getCounterCacheKeysToSave());
     }
 
+    public int getChunkCacheSavePeriodInSeconds()
+    {
+        return DatabaseDescriptor.getFileCacheSavePeriod();
+    }
+
+    public void setChunkCacheSavePeriodInSeconds(int seconds)
+    {
+        if (seconds < 0)
+            throw new RuntimeException("ChunkCacheSavePeriodInSeconds must be non-negative.");
+
+        DatabaseDescriptor.setFileCacheSavePeriod(seconds);
+        if (chunkCache != null)
+            chunkCache.scheduleSaving(seconds, DatabaseDescriptor.getFileCacheChunksToSave());
+    }
+
     public int getRowCacheKeysToSave()
     {
         return DatabaseDescriptor.getRowCacheKeysToSave();
@@ -271,6 +318,20 @@ public class CacheService implements CacheServiceMBean
         counterCache.scheduleSaving(getCounterCacheSavePeriodInSeconds(), count);
     }
 
+    public int getChunkCacheChunksToSave()
+    {
+        return DatabaseDescriptor.getFileCacheChunksToSave();
+    }
+
+    public void setChunkCacheChunksToSave(int count)
+    {
+        if (count < 0)
+            throw new RuntimeException("ChunkCacheChunksToSave must be non-negative.");
+        DatabaseDescriptor.setFileCacheChunksToSave(count);
+        if (chunkCache != null)
+            chunkCache.scheduleSaving(getChunkCacheSavePeriodInSeconds(), count);
+    }
+
     public void invalidateKeyCache()
     {
         keyCache.clear();
@@ -349,12 +410,14 @@ public class CacheService implements CacheServiceMBean
 
     public void saveCaches() throws ExecutionException, InterruptedException
     {
-        List<Future<?>> futures = new ArrayList<>(3);
+        List<Future<?>> futures = new ArrayList<>(4);
         logger.debug("submitting cache saves");
 
         futures.add(keyCache.submitWrite(DatabaseDescriptor.getKeyCacheKeysToSave()));
         futures.add(rowCache.submitWrite(DatabaseDescriptor.getRowCacheKeysToSave()));
         futures.add(counterCache.submitWrite(DatabaseDescriptor.getCounterCacheKeysToSave()));
+        if (chunkCache != null)
+            futures.add(chunkCache.submitWrite(DatabaseDescriptor.getFileCacheChunksToSave()));
 
         FBUtilities.waitOnFutures(futures);
         logger.debug("cache saves completed");
@@ -422,6 +485,124 @@ public class CacheService implements CacheServiceMBean
         }
     }
 
+    /**
+     * Saves the positions of the hottest chunks of the chunk cache, and on load reads them back into the cache from the
+     * live sstables they belong to. Chunks are saved hottest first, and loading stops reading once the warm-up budget
+     * ({@code file_cache_warmup_budget}) has been used, so that the coldest chunks are the ones skipped. Reads are
+     * submitted to the read stage and so run in parallel; the saved position carries no data, so chunks of sstables
+     * that no longer exist are simply skipped.
+     */
+    public static class ChunkCacheSerializer extends CacheSerializer<ChunkCacheKey, Integer>
+    {
+        private final ArrayList<SSTableReader> readers = new ArrayList<>();
+        private final LinkedHashMap<Descriptor, Pair<Integer, ColumnFamilyStore>> readerOrdinals = new LinkedHashMap<>();
+        private final AtomicLong remainingBudget = new AtomicLong();
+
+        @Override
+        public void serializeMetadata(DataOutputPlus out) throws IOException
+        {
+            super.serializeMetadata(out);
+            out.writeUnsignedVInt32(readerOrdinals.size());
+            for (Map.Entry<Descriptor, Pair<Integer, ColumnFamilyStore>> table : readerOrdinals.entrySet())
+            {
+                super.writeCFS(out, table.getValue().right);
+                ByteBufferUtil.writeWithShortLength(table.getKey().id.asBytes(), out);
+            }
+        }
+
+        @Override
+        public void deserializeMetadata(DataInputPlus in) throws IOException
+        {
+            super.deserializeMetadata(in);
+            Map<ColumnFamilyStore, Map<SSTableId, SSTableReader>> tmpReaders = new HashMap<>();
+            int sstablesNum = in.readUnsignedVInt32();
+            readers.clear();
+            readers.ensureCapacity(sstablesNum);
+            for (int i = 0; i < sstablesNum; i++)
+            {
+                ColumnFamilyStore cfs = readCFS(in);
+                SSTableId id = SSTableIdFactory.instance.fromBytes(ByteBufferUtil.readWithShortLength(in));
+
+                SSTableReader reader = null;
+                if (cfs != null)
+                {
+                    Map<SSTableId, SSTableReader> readersMap = tmpReaders.get(cfs);
+                    if (readersMap == null)
+                    {
+                        Set<SSTableReader> liveReaders = cfs.getLiveSSTables();
+                        readersMap = new HashMap<>(liveReaders.size());
+                        for (SSTableReader r : liveReaders)
+                            readersMap.put(r.descriptor.id, r);
+                        tmpReaders.put(cfs, readersMap);
+                    }
+                    reader = readersMap.get(id);
+                }
+                readers.add(reader);
+            }
+            remainingBudget.set(DatabaseDescriptor.getFileCacheWarmupBudget());
+        }
+
+        public void serialize(ChunkCacheKey key, DataOutputPlus out, ColumnFamilyStore cfs) throws IOException
+        {
+            getOrCreateCFSOrdinal(cfs);
+            Pair<Integer, ColumnFamilyStore> existing = readerOrdinals.putIfAbsent(key.desc, Pair.create(readerOrdinals.size(), cfs));
+            int ordinal = existing == null ? readerOrdinals.size() - 1 : existing.left;
+            out.writeUnsignedVInt32(ordinal);
+            out.writeUnsignedVInt(key.position);
+        }
+
+        public Future<Pair<ChunkCacheKey, Integer>> deserialize(DataInputPlus in) throws IOException
+        {
+            int ordinal = in.readUnsignedVInt32();
+            if (ordinal >= readers.size())
+                throw new IOException("Corrupted chunk cache. Failed to deserialize chunk - invalid sstable ordinal " + ordinal);
+            long position = in.readUnsignedVInt();
+
+            SSTableReader reader = readers.get(ordinal);
+            if (reader == null || remainingBudget.get() <= 0)
+                return null;
+
+            return Stage.READ.submit(() -> {
+                // the budget is checked again, as up to a thousand reads may be queued when it runs out
+                if (remainingBudget.get() <= 0)
+                    return null;
+
+                Ref<SSTableReader> ref = reader.tryRef();
+                if (ref == null)
+                    return null; // compacted away since loading started
+
+                try
+                {
+                    int bytes = reader.prefetchDataChunk(position);
+                    if (bytes > 0)
+                    {
+                        remainingBudget.addAndGet(-bytes);
+                        ChunkCache.instance.metrics.warmupChunks.mark();
+                        ChunkCache.instance.metrics.warmupBytes.mark(bytes);
+                    }
+                }
+                finally
+                {
+                    ref.release();
+                }
+                // the chunk is now in the chunk cache, there is nothing to put into the saved view
+                return null;
+            });
+        }
+
+        public void cleanupAfterDeserialize()
+        {
+            super.cleanupAfterDeserialize();
+            readers.clear();
+        }
+
+        public void cleanupAfterSerialize()
+        {
+            super.cleanupAfterSerialize();
+            readerOrdinals.clear();
+        }
+    }
+
     public static class KeyCacheSerializer extends CacheSerializer<KeyCacheKey, AbstractRowIndexEntry>
     {
         private final ArrayList<Pair<KeyCacheSupport<?>, SSTableFormat<?, ?>>> readers = new ArrayList<>();
@@ -30,6 +30,9 @@ public interface CacheServiceMBean
     public int getCounterCacheSavePeriodInSeconds();
     public void setCounterCacheSavePeriodInSeconds(int ccspis);
 
+    public int getChunkCacheSavePeriodInSeconds();
+    public void setChunkCacheSavePeriodInSeconds(int ccspis);
+
     public int getRowCacheKeysToSave();
     public void setRowCacheKeysToSave(int rckts);
 
@@ -39,6 +42,9 @@ public interface CacheServiceMBean
     public int getCounterCacheKeysToSave();
     public void setCounterCacheKeysToSave(int cckts);
 
+    public int getChunkCacheChunksToSave();
+    public void setChunkCacheChunksToSave(int cccts);
+
     /**
      * invalidate the key cache; for use after invalidating row cache
      */
@@ -315,6 +315,10 @@ public class CassandraDaemon
             logger.warn("Error loading key or row cache", t);
         }
 
+        // Warming up the chunk cache only affects read latency, so startup does not wait for it.
+        if (CacheService.instance.chunkCache != null)
+            CacheService.instance.chunkCache.loadSavedAsync();
+
         if (!SKIP_GC_INSPECTOR)
         {
             try
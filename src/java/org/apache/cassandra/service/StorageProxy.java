@@ -49,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import org.apache.cassandra.batchlog.Batch;
 import org.apache.cassandra.batchlog.BatchlogManager;
+import org.apache.cassandra.concurrent.DeadlineTask;
 import org.apache.cassandra.concurrent.DebuggableTask.RunnableDebuggableTask;
 import org.apache.cassandra.concurrent.Stage;
 import org.apache.cassandra.config.CassandraRelevantProperties;
@@ -2536,7 +2537,7 @@ public class StorageProxy implements StorageProxyMBean
     /**
      * A Runnable that aborts if it doesn't start running before it times out
      */
-    private static abstract class DroppableRunnable implements Runnable
+    private static abstract class DroppableRunnable implements DeadlineTask
     {
         final Verb verb;
         final Dispatcher.RequestTime requestTime;
@@ -2549,11 +2550,9 @@ public class StorageProxy implements StorageProxyMBean
         public final void run()
         {
             long nowNanos = MonotonicClock.Global.preciseTime.now();
-            long deadline = requestTime.computeDeadline(verb.expiresAfterNanos());
-            if (nowNanos > deadline)
+            if (nowNanos > deadlineNanos())
             {
-                long elapsed = nowNanos - requestTime.startedAtNanos();
-                MessagingService.instance().metrics.recordSelfDroppedMessage(verb, elapsed, NANOSECONDS);
+                drop(nowNanos);
                 return;
             }
             try
@@ -2566,6 +2565,23 @@ public class StorageProxy implements StorageProxyMBean
             }
         }
 
+        public long deadlineNanos()
+        {
+            return requestTime.computeDeadline(verb.expiresAfterNanos());
+        }
+
+        public void shed(long nowNanos)
+        {
+            MessagingService.instance().metrics.recordShedMessage(verb);
+            drop(nowNanos);
+        }
+
+        private void drop(long nowNanos)
+        {
+            long elapsed = nowNanos - requestTime.startedAtNanos();
+            MessagingService.instance().metrics.recordSelfDroppedMessage(verb, elapsed, NANOSECONDS);
+        }
+
         abstract protected void runMayThrow() throws Exception;
     }
 
@@ -2573,7 +2589,7 @@ public class StorageProxy implements StorageProxyMBean
      * Like DroppableRunnable, but if it aborts, it will rerun (on the mutation stage) after
      * marking itself as a hint in progress so that the hint backpressure mechanism can function.
      */
-    private static abstract class LocalMutationRunnable implements RunnableDebuggableTask
+    private static abstract class LocalMutationRunnable implements RunnableDebuggableTask, DeadlineTask
     {
         private final Replica localReplica;
         private final Dispatcher.RequestTime requestTime;
@@ -2586,26 +2602,10 @@ public class StorageProxy implements StorageProxyMBean
 
         public final void run()
         {
-            final Verb verb = verb();
             long now = MonotonicClock.Global.approxTime.now();
-            long deadline = requestTime.computeDeadline(verb.expiresAfterNanos());
-
-            if (now > deadline)
+            if (now > deadlineNanos())
             {
-                long timeTakenNanos = now - startTimeNanos();
-                MessagingService.instance().metrics.recordSelfDroppedMessage(Verb.MUTATION_REQ, timeTakenNanos, NANOSECONDS);
-
-                if (requestTime.shouldSendHints())
-                {
-                    HintRunnable runnable = new HintRunnable(EndpointsForToken.of(localReplica.range().right, localReplica))
-                    {
-                        protected void runMayThrow() throws Exception
-                        {
-                            LocalMutationRunnable.this.runMayThrow();
-                        }
-                    };
-                    submitHint(runnable);
-                }
+                drop(now);
                 return;
             }
 
@@ -2631,6 +2631,35 @@ public class StorageProxy implements StorageProxyMBean
             return requestTime.startedAtNanos();
         }
 
+        public long deadlineNanos()
+        {
+            return requestTime.computeDeadline(verb().expiresAfterNanos());
+        }
+
+        public void shed(long nowNanos)
+        {
+            MessagingService.instance().metrics.recordShedMessage(Verb.MUTATION_REQ);
+            drop(nowNanos);
+        }
+
+        private void drop(long nowNanos)
+        {
+            long timeTakenNanos = nowNanos - startTimeNanos();
+            MessagingService.instance().metrics.recordSelfDroppedMessage(Verb.MUTATION_REQ, timeTakenNanos, NANOSECONDS);
+
+            if (requestTime.shouldSendHints())
+            {
+                HintRunnable runnable = new HintRunnable(EndpointsForToken.of(localReplica.range().right, localReplica))
+                {
+                    protected void runMayThrow() throws Exception
+                    {
+                        LocalMutationRunnable.this.runMayThrow();
+                    }
+                };
+                submitHint(runnable);
+            }
+        }
+
         @Override
         abstract public String description();
 
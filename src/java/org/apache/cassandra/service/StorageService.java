@@ -3154,11 +3154,14 @@ public class StorageService extends NotificationBroadcasterSupport implements IE
      */
     public void forceKeyspaceFlush(String keyspaceName, String... tableNames) throws IOException
     {
+        List<ColumnFamilyStore> tables = new ArrayList<>();
         for (ColumnFamilyStore cfStore : getValidColumnFamilies(true, false, keyspaceName, tableNames))
         {
             logger.debug("Forcing flush on keyspace {}, CF {}", keyspaceName, cfStore.name);
-            cfStore.forceBlockingFlush(ColumnFamilyStore.FlushReason.USER_FORCED);
+            tables.add(cfStore);
         }
+        // the tables with little data are flushed together
+        FBUtilities.waitOnFuture(ColumnFamilyStore.forceFlushTogether(tables, ColumnFamilyStore.FlushReason.USER_FORCED, null));
     }
 
     /**
@@ -3168,11 +3171,14 @@ public class StorageService extends NotificationBroadcasterSupport implements IE
      */
     public void forceKeyspaceFlush(String keyspaceName, ColumnFamilyStore.FlushReason reason) throws IOException
     {
+        List<ColumnFamilyStore> tables = new ArrayList<>();
         for (ColumnFamilyStore cfStore : getValidColumnFamilies(true, false, keyspaceName))
         {
             logger.debug("Forcing flush on keyspace {}, CF {}", keyspaceName, cfStore.name);
-            cfStore.forceBlockingFlush(reason);
+            tables.add(cfStore);
         }
+        // the tables with little data are flushed together
+        FBUtilities.waitOnFuture(ColumnFamilyStore.forceFlushTogether(tables, reason, null));
     }
 
     public int repairAsync(String keyspace, Map<String, String> repairSpec)
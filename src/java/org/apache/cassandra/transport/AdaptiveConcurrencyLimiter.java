@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.exceptions.OverloadedException;
+import org.apache.cassandra.exceptions.RequestTimeoutException;
+import org.apache.cassandra.metrics.ClientMetrics;
+import org.apache.cassandra.transport.messages.ErrorMessage;
+
+import static org.apache.cassandra.utils.MonotonicClock.Global.preciseTime;
+
+/**
+ * Caps the number of requests of each message type that this node coordinates at once, with a limit adapting to
+ * their latency, when {@code native_transport_adaptive_concurrency_limit_enabled} is set. Only the requests doing
+ * coordinator work, QUERY, EXECUTE and BATCH, are limited.
+ * <p>
+ * The limit of each type follows the gradient between the long-term and the recent average latency of its requests,
+ * from their arrival to the end of their processing. While the recent latency stays within {@link #TOLERANCE} times
+ * the long-term one, the limit grows by about its square root per sample; as it rises above, the limit shrinks in
+ * proportion, by up to a half. A request which times out or is rejected as overloaded cuts the limit by
+ * {@link #BACKOFF_RATIO} instead, as in AIMD. The limit is not raised while less than half of it is in use, since the
+ * latency then says nothing of the load the node could take.
+ * <p>
+ * Requests over the limit are not rejected here: {@link CQLMessageHandler} checks {@link #hasCapacity} before
+ * dispatching a request, and throttles the connection or throws {@link OverloadedException} as for its other limits.
+ */
+public class AdaptiveConcurrencyLimiter
+{
+    /** The weight of the latest sample in the recent average latency. */
+    private static final double RECENT_WEIGHT = 0.1;
+    /** The weight of the latest sample in the long-term average latency, of about the last 500 samples. */
+    private static final double LONG_TERM_WEIGHT = 0.002;
+    /** How much higher than the long-term average the recent latency may be before the limit is lowered. */
+    static final double TOLERANCE = 1.5;
+    /** The weight of a new estimate of the limit against the previous one. */
+    private static final double SMOOTHING = 0.2;
+    /** The factor the limit is cut by on a timeout or overload. */
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final Map<Message.Type, Limit> limits = new EnumMap<>(Message.Type.class);
+    private final BooleanSupplier enabled;
+
+    @VisibleForTesting
+    AdaptiveConcurrencyLimiter(BooleanSupplier enabled, IntSupplier minLimit, IntSupplier maxLimit)
+    {
+        this.enabled = enabled;
+        for (Message.Type type : new Message.Type[]{ Message.Type.QUERY, Message.Type.EXECUTE, Message.Type.BATCH })
+            limits.put(type, new Limit(minLimit, maxLimit));
+    }
+
+    static AdaptiveConcurrencyLimiter create()
+    {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(DatabaseDescriptor::getNativeTransportAdaptiveConcurrencyLimitEnabled,
+                                                                            DatabaseDescriptor::getNativeTransportMinConcurrencyLimit,
+                                                                            DatabaseDescriptor::getNativeTransportMaxConcurrencyLimit);
+        limiter.limits.forEach((type, limit) -> ClientMetrics.instance.registerConcurrencyLimit(type.name(), limit::limit, limit::inFlight));
+        return limiter;
+    }
+
+    /**
+     * @return whether a request of {@code type} may be dispatched without exceeding the limit of its type
+     */
+    public boolean hasCapacity(Message.Type type)
+    {
+        Limit limit = limits.get(type);
+        return limit == null || !enabled.getAsBoolean() || limit.inFlight() < limit.limit();
+    }
+
+    /**
+     * Counts a request of {@code type} as in flight.
+     *
+     * @return the limit to {@link Limit#release release} once the request is processed, or null if requests of
+     * {@code type} are not limited
+     */
+    Limit acquire(Message.Type type)
+    {
+        Limit limit = limits.get(type);
+        if (limit == null || !enabled.getAsBoolean())
+            return null;
+
+        limit.inFlight.incrementAndGet();
+        return limit;
+    }
+
+    @VisibleForTesting
+    Limit limit(Message.Type type)
+    {
+        return limits.get(type);
+    }
+
+    static final class Limit
+    {
+        private final IntSupplier minLimit;
+        private final IntSupplier maxLimit;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile int limit;
+
+        // guarded by this
+        private double estimatedLimit;
+        private double recentLatencyNanos;
+        private double longTermLatencyNanos;
+
+        private Limit(IntSupplier minLimit, IntSupplier maxLimit)
+        {
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.estimatedLimit = this.limit = minLimit.getAsInt();
+        }
+
+        int limit()
+        {
+            return limit;
+        }
+
+        int inFlight()
+        {
+            return inFlight.get();
+        }
+
+        /**
+         * Counts a request as no longer in flight, without it adjusting the limit.
+         */
+        void release()
+        {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * Counts a request as no longer in flight, and adjusts the limit to its latency and outcome.
+         *
+         * @param createdAtNanos the arrival time of the request, per {@link org.apache.cassandra.utils.MonotonicClock.Global#preciseTime}
+         * @param response the response to the request
+         */
+        void release(long createdAtNanos, Message.Response response)
+        {
+            int inFlight = this.inFlight.getAndDecrement();
+            update(preciseTime.now() - createdAtNanos, inFlight, isDropped(response));
+        }
+
+        @VisibleForTesting
+        synchronized void update(long latencyNanos, int inFlight, boolean dropped)
+        {
+            if (dropped)
+            {
+                estimatedLimit *= BACKOFF_RATIO;
+            }
+            else
+            {
+                if (longTermLatencyNanos == 0)
+                {
+                    recentLatencyNanos = longTermLatencyNanos = Math.max(1, latencyNanos);
+                }
+                else
+                {
+                    recentLatencyNanos += (latencyNanos - recentLatencyNanos) * RECENT_WEIGHT;
+                    longTermLatencyNanos += (latencyNanos - longTermLatencyNanos) * LONG_TERM_WEIGHT;
+                    // let the long-term average catch up quickly when the latency recovers
+                    if (longTermLatencyNanos > 2 * recentLatencyNanos)
+                        longTermLatencyNanos *= 0.95;
+                }
+
+                if (inFlight < estimatedLimit / 2)
+                    return;
+
+                double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longTermLatencyNanos / recentLatencyNanos));
+                double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+                estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            }
+
+            estimatedLimit = Math.max(minLimit.getAsInt(), Math.min(maxLimit.getAsInt(), estimatedLimit));
+            limit = (int) estimatedLimit;
+        }
+
+        private static boolean isDropped(Message.Response response)
+        {
+            if (!(response instanceof ErrorMessage))
+                return false;
+
+            Object error = ((ErrorMessage) response).error;
+            return error instanceof OverloadedException || error instanceof RequestTimeoutException;
+        }
+    }
+}
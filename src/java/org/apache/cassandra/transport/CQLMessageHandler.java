@@ -44,6 +44,7 @@ import org.apache.cassandra.net.ShareableBytes;
 import org.apache.cassandra.transport.ClientResourceLimits.Overload;
 import org.apache.cassandra.transport.Flusher.FlushItem.Framed;
 import org.apache.cassandra.transport.messages.ErrorMessage;
+import org.apache.cassandra.transport.messages.ResultMessage;
 import org.apache.cassandra.utils.NoSpamLogger;
 import org.apache.cassandra.utils.concurrent.NonBlockingRateLimiter;
 
@@ -99,6 +100,7 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
     {
         void dispatch(Channel channel, M message, Dispatcher.FlushItemConverter toFlushItem, Overload backpressure);
         boolean hasQueueCapacity();
+        boolean hasConcurrencyCapacity(Message.Type type);
     }
 
     interface ErrorHandler
@@ -149,7 +151,8 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
     }
 
     /**
-     * Checks limits on bytes in flight and the request rate limiter (if enabled), then takes one of three actions:
+     * Checks limits on bytes in flight, the request rate limiter, queue time and the adaptive limit on requests in
+     * flight (if enabled), then takes one of three actions:
      * 
      * 1.) If no limits are breached, process the request.
      * 2.) If a limit is breached, and the connection is configured to throw on overload, throw {@link OverloadedException}.
@@ -198,6 +201,8 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
                 backpressure = Overload.REQUESTS;
             else if (!dispatcher.hasQueueCapacity())
                 backpressure = Overload.QUEUE_TIME;
+            else if (!dispatcher.hasConcurrencyCapacity(header.type))
+                backpressure = Overload.CONCURRENCY;
 
             if (backpressure != Overload.NONE)
             {
@@ -233,6 +238,15 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
                     backpressure = Overload.QUEUE_TIME;
             }
 
+            // Check the adaptive limit on requests in flight, if enabled
+            if (backpressure == Overload.NONE && !dispatcher.hasConcurrencyCapacity(header.type))
+            {
+                delay = queueBackpressure.markAndGetDelay(RATE_LIMITER_DELAY_UNIT);
+
+                if (delay > 0)
+                    backpressure = Overload.CONCURRENCY;
+            }
+
             if (backpressure != Overload.NONE)
             {
                 if (processRequestAndUpdateMetrics(bytes, header, messageSize, backpressure))
@@ -302,6 +316,9 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
                 return new OverloadedException(String.format("Request has spent over %s time of the maximum timeout %dms in the queue",
                                                              DatabaseDescriptor.getNativeTransportQueueMaxItemAgeThreshold(),
                                                              DatabaseDescriptor.getNativeTransportTimeout(TimeUnit.MILLISECONDS)));
+            case CONCURRENCY:
+                return new OverloadedException("Request breached the adaptive limit on requests in flight. Server is " +
+                                               "currently in an overloaded state and cannot accept more requests.");
             default:
                 throw new IllegalArgumentException("Overload exception should not have been thrown with " + overload);
 
@@ -479,7 +496,21 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
         // The Dispatcher will call this to obtain the FlushItem to enqueue with its Flusher once
         // a dispatched request has been processed.
 
-        Envelope responseFrame = response.encode(request.getSource().header.version);
+        // Large result sets are encoded straight into the payloads of the frames they are sent in
+        FramePayloadBody payloadBody = response instanceof ResultMessage.Rows ? new FramePayloadBody(payloadAllocator) : null;
+        Envelope responseFrame;
+        try
+        {
+            responseFrame = payloadBody == null
+                            ? response.encode(request.getSource().header.version)
+                            : response.encode(request.getSource().header.version, payloadBody);
+        }
+        catch (Throwable t)
+        {
+            if (payloadBody != null)
+                payloadBody.release();
+            throw t;
+        }
         int responseSize = envelopeSize(responseFrame.header);
         ClientMessageSizeMetrics.bytesSent.inc(responseSize);
         ClientMessageSizeMetrics.bytesSentPerResponse.update(responseSize);
@@ -488,6 +519,7 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
                           responseFrame,
                           request.getSource(),
                           payloadAllocator,
+                          payloadBody != null && payloadBody.isAllocated() ? payloadBody : null,
                           this::release);
     }
 
@@ -559,6 +591,8 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
                         backpressure = Overload.REQUESTS;
                     else if (!dispatcher.hasQueueCapacity())
                         backpressure = Overload.QUEUE_TIME;
+                    else if (!dispatcher.hasConcurrencyCapacity(header.type))
+                        backpressure = Overload.CONCURRENCY;
 
                     if (backpressure != Overload.NONE)
                     {
@@ -598,6 +632,14 @@ public class CQLMessageHandler<M extends Message> extends AbstractMessageHandler
                             backpressure = Overload.QUEUE_TIME;
                     }
 
+                    if (backpressure == Overload.NONE && !dispatcher.hasConcurrencyCapacity(header.type))
+                    {
+                        delay = queueBackpressure.markAndGetDelay(RATE_LIMITER_DELAY_UNIT);
+
+                        if (delay > 0)
+                            backpressure = Overload.CONCURRENCY;
+                    }
+
                     if (delay > 0)
                     {
                         this.largeMessage = largeMessage;
@@ -33,6 +33,7 @@ import io.netty.channel.EventLoop;
 import io.netty.util.AttributeKey;
 import org.apache.cassandra.concurrent.DebuggableTask;
 import org.apache.cassandra.concurrent.LocalAwareExecutorPlus;
+import org.apache.cassandra.concurrent.Stage;
 import org.apache.cassandra.config.DatabaseDescriptor;
 import org.apache.cassandra.exceptions.OverloadedException;
 import org.apache.cassandra.metrics.ClientMetrics;
@@ -79,6 +80,18 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
                                                                           "transport",
                                                                           "Native-Transport-Auth-Requests");
 
+    /**
+     * Decides when the requests are handed to the {@link #requestExecutor}; see {@link RequestScheduler}.
+     */
+    @VisibleForTesting
+    static final RequestScheduler requestScheduler = RequestScheduler.create(DatabaseDescriptor.getNativeTransportRequestScheduler());
+
+    /**
+     * Limits the requests in flight of each type; see {@link AdaptiveConcurrencyLimiter}.
+     */
+    @VisibleForTesting
+    static final AdaptiveConcurrencyLimiter concurrencyLimiter = AdaptiveConcurrencyLimiter.create();
+
     private static final ConcurrentMap<EventLoop, Flusher> flusherLookup = new ConcurrentHashMap<>();
     private final boolean useLegacyFlusher;
 
@@ -108,12 +121,19 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
             // We can not respond with a custom, transport, or server exceptions since, given current implementation of clients,
             // they will defunct the connection. Without a protocol version bump that introduces an "I am going away message",
             // we have to stick to an existing error code.
-            Message.Response response = ErrorMessage.fromException(new OverloadedException("Server is shutting down"));
-            response.setStreamId(request.getStreamId());
-            response.setWarnings(ClientWarn.instance.getWarnings());
-            response.attach(request.connection);
-            FlushItem<?> toFlush = forFlusher.toFlushItem(channel, request, response);
-            flush(toFlush);
+            respondOverloaded(channel, request, forFlusher, "Server is shutting down");
+            return;
+        }
+
+        RequestProcessor processor = new RequestProcessor(channel, request, forFlusher, backpressure);
+        if (backpressure == Overload.NONE && DatabaseDescriptor.getNativeTransportInlineLocalRequestsEnabled() && InlineExecution.isEligible(request)
+            && requestScheduler.runNow(request, () -> Stage.runImmediately(processor)))
+        {
+            // ran on the event loop of the connection, local read or write included, saving the hand-offs to the
+            // request executor and to the read or mutation stage; the scheduler still accounted for it, and has it
+            // scheduled as usual instead when it holds requests back
+            ClientMetrics.instance.markRequestDispatched();
+            ClientMetrics.instance.markRequestExecutedInline();
             return;
         }
 
@@ -122,12 +142,29 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
                               (request.type == Message.Type.AUTH_RESPONSE || request.type == Message.Type.CREDENTIALS);
 
         // Importantly, the authExecutor will handle the AUTHENTICATE message which may be CPU intensive.
-        LocalAwareExecutorPlus executor = isAuthQuery ? authExecutor : requestExecutor;
-
-        executor.submit(new RequestProcessor(channel, request, forFlusher, backpressure));
+        if (isAuthQuery)
+        {
+            authExecutor.submit(processor);
+        }
+        else if (!requestScheduler.schedule(request, processor, requestExecutor))
+        {
+            processor.releaseConcurrencyLimit();
+            respondOverloaded(channel, request, forFlusher, "Too many requests queued for this tenant");
+            return;
+        }
         ClientMetrics.instance.markRequestDispatched();
     }
 
+    private void respondOverloaded(Channel channel, Message.Request request, FlushItemConverter forFlusher, String reason)
+    {
+        Message.Response response = ErrorMessage.fromException(new OverloadedException(reason));
+        response.setStreamId(request.getStreamId());
+        response.setWarnings(ClientWarn.instance.getWarnings());
+        response.attach(request.connection);
+        FlushItem<?> toFlush = forFlusher.toFlushItem(channel, request, response);
+        flush(toFlush);
+    }
+
     public static class RequestTime
     {
         private final long enqueuedAtNanos;
@@ -289,6 +326,7 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
         private final Message.Request request;
         private final FlushItemConverter forFlusher;
         private final Overload backpressure;
+        private final AdaptiveConcurrencyLimiter.Limit concurrencyLimit;
 
         private volatile long startTimeNanos;
 
@@ -298,13 +336,32 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
             this.request = request;
             this.forFlusher = forFlusher;
             this.backpressure = backpressure;
+            this.concurrencyLimit = concurrencyLimiter.acquire(request.type);
         }
 
         @Override
         public void run()
         {
             startTimeNanos = MonotonicClock.Global.preciseTime.now();
-            processRequest(channel, request, forFlusher, backpressure, new RequestTime(request.createdAtNanos, startTimeNanos));
+            FlushItemConverter converter = forFlusher;
+            if (concurrencyLimit != null)
+            {
+                // the limit is released, and adjusted to the outcome of the request, once its response is known
+                converter = (ch, req, response) -> {
+                    concurrencyLimit.release(req.createdAtNanos, response);
+                    return forFlusher.toFlushItem(ch, req, response);
+                };
+            }
+            processRequest(channel, request, converter, backpressure, new RequestTime(request.createdAtNanos, startTimeNanos));
+        }
+
+        /**
+         * Releases the concurrency limit acquired for a request which will not be processed.
+         */
+        void releaseConcurrencyLimit()
+        {
+            if (concurrencyLimit != null)
+                concurrencyLimit.release();
         }
 
         @Override
@@ -345,7 +402,17 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
         if (threshold <= 0)
             return true;
 
-        return requestExecutor.oldestTaskQueueTime() < (DatabaseDescriptor.getNativeTransportTimeout(TimeUnit.NANOSECONDS) * threshold);
+        long oldestTaskQueueTime = Math.max(requestExecutor.oldestTaskQueueTime(), requestScheduler.oldestQueueTimeNanos());
+        return oldestTaskQueueTime < (DatabaseDescriptor.getNativeTransportTimeout(TimeUnit.NANOSECONDS) * threshold);
+    }
+
+    /**
+     * Checks if a request of the given type would not exceed the adaptive limit on the requests of its type in flight.
+     */
+    @Override
+    public boolean hasConcurrencyCapacity(Message.Type type)
+    {
+        return concurrencyLimiter.hasCapacity(type);
     }
 
     /**
@@ -407,6 +474,15 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
                 ClientWarn.instance.warn(message);
                 break;
             }
+            case CONCURRENCY:
+            {
+                String message = String.format("Request breached the adaptive limit on %s requests in flight and triggered backpressure.",
+                                               request.type);
+
+                NoSpamLogger.log(logger, NoSpamLogger.Level.INFO, 1, TimeUnit.MINUTES, message);
+                ClientWarn.instance.warn(message);
+                break;
+            }
         }
 
         QueryState qstate = connection.validateNewMessage(request.type, connection.getVersion());
@@ -455,7 +531,7 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
     }
 
     /**
-     * Note: this method is not expected to execute on the netty event loop.
+     * Note: this method may be executed on the netty event loop.
      */
     void processRequest(Channel channel, Message.Request request, FlushItemConverter forFlusher, Overload backpressure, RequestTime requestTime)
     {
@@ -483,7 +559,7 @@ public class Dispatcher implements CQLMessageHandler.MessageConsumer<Message.Req
 
     public boolean isDone()
     {
-        return requestExecutor.getPendingTaskCount() == 0 && requestExecutor.getActiveTaskCount() == 0;
+        return requestScheduler.pendingRequests() == 0 && requestExecutor.getPendingTaskCount() == 0 && requestExecutor.getActiveTaskCount() == 0;
     }
 
     public static void shutdown()
@@ -76,14 +76,28 @@ abstract class Flusher implements Runnable
         static class Framed extends FlushItem<Envelope>
         {
             final FrameEncoder.PayloadAllocator allocator;
+            // the frame payloads the body of the response was encoded in, if any
+            final FramePayloadBody payloadBody;
+
             Framed(Channel channel,
                    Envelope response,
                    Envelope request,
                    FrameEncoder.PayloadAllocator allocator,
                    Consumer<FlushItem<Envelope>> tidy)
+            {
+                this(channel, response, request, allocator, null, tidy);
+            }
+
+            Framed(Channel channel,
+                   Envelope response,
+                   Envelope request,
+                   FrameEncoder.PayloadAllocator allocator,
+                   FramePayloadBody payloadBody,
+                   Consumer<FlushItem<Envelope>> tidy)
             {
                 super(Kind.FRAMED, channel, response, request, tidy);
                 this.allocator = allocator;
+                this.payloadBody = payloadBody;
             }
         }
 
@@ -150,7 +164,13 @@ abstract class Flusher implements Runnable
     private void processFramedResponse(FlushItem.Framed flush)
     {
         Envelope outbound = flush.response;
-        if (envelopeSize(outbound.header) >= MAX_FRAMED_PAYLOAD_SIZE)
+        if (flush.payloadBody != null)
+        {
+            // the body is already in the payloads of its frames, which only lack the envelope header
+            for (FrameEncoder.Payload payload : flush.payloadBody.payloadsToSend(outbound))
+                writeAndFlush(flush.channel, payload);
+        }
+        else if (envelopeSize(outbound.header) >= MAX_FRAMED_PAYLOAD_SIZE)
         {
             flushLargeMessage(flush.channel, outbound, flush.allocator);
         }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.cassandra.net.FrameEncoder;
+
+import static org.apache.cassandra.transport.Flusher.MAX_FRAMED_PAYLOAD_SIZE;
+
+/**
+ * Allocates the body of a large response envelope directly in the payloads of the frames it will be sent in, for
+ * protocol V5 and later.
+ * <p>
+ * Responses are normally encoded into a buffer of their own, which the {@link Flusher} then copies into frame
+ * payloads. When {@link Message#encode(ProtocolVersion, IntFunction)} asks for a body of at least
+ * {@link #MIN_BODY_SIZE} bytes, this instead allocates, from the {@link FrameEncoder.PayloadAllocator} of the
+ * connection, the payloads of all the frames the envelope will span, leaving room for the envelope header in the
+ * first one, and returns a composite buffer over them. The values of a result set are then copied once, from the
+ * buffers they were read into to the frames, and the Flusher only has to write the envelope header before sending
+ * the payloads as they are.
+ * <p>
+ * Smaller responses are left to be batched in frames shared with other responses.
+ */
+final class FramePayloadBody implements IntFunction<ByteBuf>
+{
+    /** The body size from which encoding straight into frames saves more than batching small responses would. */
+    static final int MIN_BODY_SIZE = 1 << 15;
+
+    private final FrameEncoder.PayloadAllocator allocator;
+    private List<FrameEncoder.Payload> payloads;
+    private int[] lengths;
+    private ByteBuf body;
+
+    FramePayloadBody(FrameEncoder.PayloadAllocator allocator)
+    {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public ByteBuf apply(int bodySize)
+    {
+        if (bodySize < MIN_BODY_SIZE)
+            return CBUtil.allocator.buffer(bodySize);
+
+        int envelopeSize = Envelope.Header.LENGTH + bodySize;
+        boolean isSelfContained = envelopeSize < MAX_FRAMED_PAYLOAD_SIZE;
+        int frames = (envelopeSize + MAX_FRAMED_PAYLOAD_SIZE - 1) / MAX_FRAMED_PAYLOAD_SIZE;
+        payloads = new ArrayList<>(frames);
+        lengths = new int[frames];
+        CompositeByteBuf composite = Unpooled.compositeBuffer(frames);
+        for (int i = 0, remaining = envelopeSize; i < frames; i++)
+        {
+            int length = Math.min(remaining, MAX_FRAMED_PAYLOAD_SIZE);
+            FrameEncoder.Payload payload = allocator.allocate(isSelfContained, length);
+            payloads.add(payload);
+            lengths[i] = length;
+            remaining -= length;
+
+            ByteBuffer region = payload.buffer.duplicate();
+            if (i == 0)
+                region.position(region.position() + Envelope.Header.LENGTH);
+            region.limit(payload.buffer.position() + length);
+            // the wrapper does not own the memory of the payload, which is returned to the pool once the frame is sent
+            composite.addComponent(false, Unpooled.wrappedBuffer(region));
+        }
+        body = composite;
+        return body;
+    }
+
+    /**
+     * @return whether the body was allocated in frame payloads, which then have to be sent once taken by
+     * {@link #payloadsToSend}
+     */
+    boolean isAllocated()
+    {
+        return payloads != null;
+    }
+
+    /**
+     * Writes the header of the envelope in the first payload, and hands over the payloads to send. Their position is
+     * left at the end of their contents; they are still to be {@link FrameEncoder.Payload#finish finished}.
+     *
+     * @param envelope the envelope with this body
+     * @return the payloads, in the order they are to be sent
+     */
+    List<FrameEncoder.Payload> payloadsToSend(Envelope envelope)
+    {
+        assert envelope.body == body && body.writerIndex() == body.capacity() : "Body of " + body.capacity() + " bytes only encoded up to " + body.writerIndex();
+
+        envelope.encodeHeaderInto(payloads.get(0).buffer);
+        List<FrameEncoder.Payload> toSend = payloads;
+        for (int i = 0; i < toSend.size(); i++)
+        {
+            FrameEncoder.Payload payload = toSend.get(i);
+            // the envelope header was written through the buffer of the first payload
+            int written = i == 0 ? Envelope.Header.LENGTH : 0;
+            payload.buffer.position(payload.buffer.position() + lengths[i] - written);
+        }
+        payloads = null;
+        return toSend;
+    }
+
+    /**
+     * Returns the payloads to the pool if the response is not to be sent, such as when its encoding failed.
+     */
+    void release()
+    {
+        if (payloads == null)
+            return;
+
+        for (FrameEncoder.Payload payload : payloads)
+            payload.release();
+        payloads = null;
+    }
+}
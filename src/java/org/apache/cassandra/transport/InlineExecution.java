@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.cassandra.auth.AuthenticatedUser;
+import org.apache.cassandra.auth.IResource;
+import org.apache.cassandra.auth.Resources;
+import org.apache.cassandra.concurrent.ImmediateExecutor;
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.cql3.CQLStatement;
+import org.apache.cassandra.cql3.QueryHandler;
+import org.apache.cassandra.cql3.QueryOptions;
+import org.apache.cassandra.cql3.restrictions.StatementRestrictions;
+import org.apache.cassandra.cql3.statements.ModificationStatement;
+import org.apache.cassandra.cql3.statements.SelectStatement;
+import org.apache.cassandra.db.ConsistencyLevel;
+import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.locator.Endpoints;
+import org.apache.cassandra.locator.ReplicaPlans;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.service.ClientState;
+import org.apache.cassandra.service.reads.NeverSpeculativeRetryPolicy;
+import org.apache.cassandra.tcm.ClusterMetadata;
+import org.apache.cassandra.tcm.Epoch;
+import org.apache.cassandra.transport.messages.ExecuteMessage;
+
+/**
+ * Decides which requests the {@link Dispatcher} may run on the event loop of their connection when
+ * {@code native_transport_inline_local_requests_enabled} is set.
+ * <p>
+ * Those are the prepared statements which can complete without waiting for another node and without blocking
+ * for long: reads of a single partition at consistency level ONE or LOCAL_ONE of tables which never speculate, and,
+ * when {@code commitlog_sync} is periodic, writes to a single partition at ANY, ONE or LOCAL_ONE without conditions,
+ * counters or materialized views, in both cases when the replica plan of the request contacts this node only. Their
+ * local read or write then runs on the event loop too, through {@link
+ * org.apache.cassandra.concurrent.Stage#runImmediately}. When authorization is required, the permissions of the user
+ * on the table must be cached as well.
+ * <p>
+ * Whether the plan of a request contacts this node only is cached for the token range owning its partition, which all
+ * the partitions of the range share the replicas of, for the epoch of the cluster metadata and for at most the interval
+ * at which the dynamic snitch may reorder the replicas, so that requests are not planned on the event loop one by one.
+ * Nothing is cached while nodes join, leave or move, as the pending replicas of a range may then differ from those of
+ * its parts. The options of the request are prepared once, for both the check and the execution.
+ */
+final class InlineExecution
+{
+    private static final Logger logger = LoggerFactory.getLogger(InlineExecution.class);
+
+    private static final int MAX_CACHED_PLANS = 1 << 14;
+
+    private static final Cache<Target, Plan> plans = Caffeine.newBuilder()
+                                                             .maximumSize(MAX_CACHED_PLANS)
+                                                             .expireAfterWrite(DatabaseDescriptor.getDynamicUpdateInterval(), TimeUnit.MILLISECONDS)
+                                                             .executor(ImmediateExecutor.INSTANCE)
+                                                             .build();
+
+    private InlineExecution()
+    {
+    }
+
+    static boolean isEligible(Message.Request request)
+    {
+        if (request.type != Message.Type.EXECUTE || request.isTracingRequested() || !(request.connection() instanceof ServerConnection))
+            return false;
+
+        ExecuteMessage execute = (ExecuteMessage) request;
+        QueryHandler.Prepared prepared = ClientState.getCQLQueryHandler().getPrepared(execute.statementId);
+        if (prepared == null)
+            return false;
+
+        ClientState state = ((ServerConnection) request.connection()).getClientState();
+        CQLStatement statement = prepared.statement;
+        // user functions may block, and their permissions are not checked here
+        if (Iterables.any(statement.getFunctions(), f -> !f.isNative()))
+            return false;
+
+        try
+        {
+            QueryOptions options = execute.prepareOptions(statement.getBindVariables());
+            ConsistencyLevel consistency = options.getConsistency();
+            if (statement instanceof SelectStatement)
+            {
+                SelectStatement select = (SelectStatement) statement;
+                StatementRestrictions restrictions = select.getRestrictions();
+                if (!isOne(consistency) || restrictions.isKeyRange() || restrictions.usesSecondaryIndexing()
+                    || !(select.table.params.speculativeRetry instanceof NeverSpeculativeRetryPolicy))
+                    return false;
+
+                return isAuthorizationCached(state, select.table)
+                       && isLocal(select.table, restrictions.getPartitionKeys(options, state), consistency, false);
+            }
+
+            if (statement instanceof ModificationStatement)
+            {
+                // the write would wait for the commit log to be synced otherwise
+                if (DatabaseDescriptor.getCommitLogSync() != Config.CommitLogSync.periodic)
+                    return false;
+
+                ModificationStatement modification = (ModificationStatement) statement;
+                if (!(isOne(consistency) || consistency == ConsistencyLevel.ANY) || modification.hasConditions() || modification.isCounter())
+                    return false;
+
+                return isAuthorizationCached(state, modification.metadata)
+                       && isLocal(modification.metadata, modification.buildPartitionKeyNames(options, state), consistency, true);
+            }
+        }
+        catch (RuntimeException e)
+        {
+            // invalid requests are left to fail where they usually do
+            logger.debug("Could not check whether request {} may be executed inline", request, e);
+        }
+        return false;
+    }
+
+    private static boolean isOne(ConsistencyLevel consistency)
+    {
+        return consistency == ConsistencyLevel.ONE || consistency == ConsistencyLevel.LOCAL_ONE;
+    }
+
+    /**
+     * @return whether the permissions of the user on the table and its parents are checked without loading them
+     */
+    private static boolean isAuthorizationCached(ClientState state, TableMetadata table)
+    {
+        if (!DatabaseDescriptor.getAuthorizer().requireAuthorization())
+            return true;
+
+        AuthenticatedUser user = state.getUser();
+        if (user == null)
+            return false;
+
+        for (IResource resource : Resources.chain(table.resource))
+        {
+            if (!AuthenticatedUser.permissionsCache.isCached(user, resource))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isLocal(TableMetadata table, List<ByteBuffer> partitionKeys, ConsistencyLevel consistency, boolean isWrite)
+    {
+        if (table.isVirtual() || partitionKeys.size() != 1)
+            return false;
+
+        Keyspace keyspace = Keyspace.open(table.keyspace);
+        if (isWrite && keyspace.viewManager.forTable(table).hasViews())
+            return false;
+
+        ClusterMetadata metadata = ClusterMetadata.current();
+        Token token = table.partitioner.getToken(partitionKeys.get(0));
+        List<Range<Token>> ranges = metadata.tokenMap.toRanges();
+        if (ranges.isEmpty() || !metadata.inProgressSequences.isEmpty())
+            return contactsSelfOnly(metadata, keyspace, token, consistency, isWrite);
+
+        Target target = new Target(table.keyspace, owningRange(ranges, token), consistency, isWrite);
+        Plan plan = plans.getIfPresent(target);
+        if (plan == null || !plan.epoch.equals(metadata.epoch))
+        {
+            plan = new Plan(metadata.epoch, contactsSelfOnly(metadata, keyspace, token, consistency, isWrite));
+            plans.put(target, plan);
+        }
+        return plan.isSelfOnly;
+    }
+
+    /**
+     * @param ranges the ranges of the ring, sorted, the last one wrapping around to the minimum token
+     * @return the range of {@code ranges} containing {@code token}
+     */
+    @VisibleForTesting
+    static Range<Token> owningRange(List<Range<Token>> ranges, Token token)
+    {
+        if (token.isMinimum())
+            return ranges.get(ranges.size() - 1);
+
+        // the first range whose right bound is not before the token, the minimum token ending the ring
+        int low = 0;
+        int high = ranges.size() - 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            Token right = ranges.get(mid).right;
+            if (!right.isMinimum() && right.compareTo(token) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return ranges.get(low);
+    }
+
+    private static boolean contactsSelfOnly(ClusterMetadata metadata, Keyspace keyspace, Token token, ConsistencyLevel consistency, boolean isWrite)
+    {
+        // a write with pending or other replicas, or a read sorting another replica first, waits for or sends to them
+        Endpoints<?> contacts = isWrite
+                                ? ReplicaPlans.forWrite(metadata, keyspace, consistency, token, ReplicaPlans.writeNormal).contacts()
+                                : ReplicaPlans.forRead(metadata, keyspace, token, null, consistency, NeverSpeculativeRetryPolicy.INSTANCE).contacts();
+        return contacts.size() == 1 && contacts.get(0).isSelf();
+    }
+
+    @VisibleForTesting
+    static long cachedPlans()
+    {
+        plans.cleanUp();
+        return plans.estimatedSize();
+    }
+
+    @VisibleForTesting
+    static void clearPlans()
+    {
+        plans.invalidateAll();
+    }
+
+    private static final class Target
+    {
+        private final String keyspace;
+        private final Range<Token> range;
+        private final ConsistencyLevel consistency;
+        private final boolean isWrite;
+
+        private Target(String keyspace, Range<Token> range, ConsistencyLevel consistency, boolean isWrite)
+        {
+            this.keyspace = keyspace;
+            this.range = range;
+            this.consistency = consistency;
+            this.isWrite = isWrite;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+                return true;
+            if (!(o instanceof Target))
+                return false;
+            Target that = (Target) o;
+            return isWrite == that.isWrite && consistency == that.consistency && keyspace.equals(that.keyspace) && range.equals(that.range);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(keyspace, range, consistency, isWrite);
+        }
+    }
+
+    private static final class Plan
+    {
+        private final Epoch epoch;
+        private final boolean isSelfOnly;
+
+        private Plan(Epoch epoch, boolean isSelfOnly)
+        {
+            this.epoch = epoch;
+            this.isSelfOnly = isSelfOnly;
+        }
+    }
+}
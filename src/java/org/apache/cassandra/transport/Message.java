@@ -23,6 +23,7 @@ import java.nio.ByteBuffer;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -327,6 +328,14 @@ public abstract class Message
     }
 
     public Envelope encode(ProtocolVersion version)
+    {
+        return encode(version, CBUtil.allocator::buffer);
+    }
+
+    /**
+     * Encodes this message in an envelope whose body is allocated by {@code bodyAllocator}, given its exact size.
+     */
+    Envelope encode(ProtocolVersion version, IntFunction<ByteBuf> bodyAllocator)
     {
         EnumSet<Envelope.Header.Flag> flags = EnumSet.noneOf(Envelope.Header.Flag.class);
         @SuppressWarnings("unchecked")
@@ -362,7 +371,7 @@ public abstract class Message
                         throw new ProtocolException("Must not send frame with CUSTOM_PAYLOAD flag for native protocol version < 4");
                     messageSize += CBUtil.sizeOfBytesMap(customPayload);
                 }
-                body = CBUtil.allocator.buffer(messageSize);
+                body = bodyAllocator.apply(messageSize);
                 if (tracingId != null)
                 {
                     CBUtil.writeUUID(tracingId, body);
@@ -387,7 +396,7 @@ public abstract class Message
                 Map<String, ByteBuffer> payload = getCustomPayload();
                 if (payload != null)
                     messageSize += CBUtil.sizeOfBytesMap(payload);
-                body = CBUtil.allocator.buffer(messageSize);
+                body = bodyAllocator.apply(messageSize);
                 if (payload != null)
                 {
                     CBUtil.writeBytesMap(payload, body);
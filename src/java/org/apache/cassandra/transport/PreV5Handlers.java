@@ -167,6 +167,8 @@ public class PreV5Handlers
                     backpressure = Overload.REQUESTS;
                 else if (!dispatcher.hasQueueCapacity())
                     backpressure = Overload.QUEUE_TIME;
+                else if (!dispatcher.hasConcurrencyCapacity(request.type))
+                    backpressure = Overload.CONCURRENCY;
 
                 if (backpressure != Overload.NONE)
                 {
@@ -209,9 +211,17 @@ public class PreV5Handlers
                         backpressure = Overload.QUEUE_TIME;
                 }
 
+                if (backpressure == Overload.NONE && !dispatcher.hasConcurrencyCapacity(request.type))
+                {
+                    delay = queueBackpressure.markAndGetDelay(RATE_LIMITER_DELAY_UNIT);
+
+                    if (delay > 0)
+                        backpressure = Overload.CONCURRENCY;
+                }
+
                 if (delay > 0)
                 {
-                    assert backpressure == Overload.REQUESTS || backpressure == Overload.QUEUE_TIME : backpressure;
+                    assert backpressure == Overload.REQUESTS || backpressure == Overload.QUEUE_TIME || backpressure == Overload.CONCURRENCY : backpressure;
                     pauseConnection(ctx);
 
                     // A permit isn't immediately available, so schedule an unpause for when it is.
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import com.google.common.collect.ImmutableList;
+
+import org.apache.cassandra.concurrent.DebuggableTask.RunnableDebuggableTask;
+import org.apache.cassandra.concurrent.LocalAwareExecutorPlus;
+import org.apache.cassandra.config.ParameterizedClass;
+
+/**
+ * Decides when the native transport requests handed to the {@link Dispatcher} are submitted to its request executor.
+ * <p>
+ * Implementations are configured with {@code native_transport_request_scheduler} and must have either a constructor
+ * taking the configured parameters as a {@code Map<String, String>}, or a no-argument one.
+ */
+public interface RequestScheduler
+{
+    /**
+     * Submits the requests to the executor in their order of arrival.
+     */
+    RequestScheduler FIFO = (request, task, executor) -> {
+        executor.submit(task);
+        return true;
+    };
+
+    /**
+     * Schedules {@code task}, which processes {@code request}, for execution on {@code executor}, now or once the
+     * requests scheduled before it allow it. The task must be submitted to the executor as is, or wrapped in another
+     * {@link RunnableDebuggableTask}, so that the executor can tell how long it has been queued for.
+     *
+     * @return false if the request is rejected, in which case the task will never run
+     */
+    boolean schedule(Message.Request request, RunnableDebuggableTask task, LocalAwareExecutorPlus executor);
+
+    /**
+     * Runs {@code task}, which processes {@code request}, on the calling thread if this scheduler would hand the
+     * request to the executor right away, accounting for it as for any request it starts.
+     *
+     * @return false if the request would have to wait, in which case the task has not run and the request is to be
+     * {@link #schedule scheduled} instead
+     */
+    default boolean runNow(Message.Request request, Runnable task)
+    {
+        task.run();
+        return true;
+    }
+
+    /**
+     * @return the time, in nanoseconds, the oldest request held by this scheduler has been waiting for
+     */
+    default long oldestQueueTimeNanos()
+    {
+        return 0;
+    }
+
+    /**
+     * @return the number of requests held by this scheduler, not yet submitted to the executor
+     */
+    default int pendingRequests()
+    {
+        return 0;
+    }
+
+    static RequestScheduler create(ParameterizedClass scheduler)
+    {
+        if (scheduler == null)
+            return FIFO;
+
+        return ParameterizedClass.newInstance(scheduler, ImmutableList.of(RequestScheduler.class.getPackage().getName(), ""));
+    }
+}
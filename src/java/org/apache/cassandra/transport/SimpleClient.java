@@ -464,6 +464,11 @@ public class SimpleClient implements Closeable
                 {
                     return true;
                 }
+
+                public boolean hasConcurrencyCapacity(Message.Type type)
+                {
+                    return true;
+                }
             };
 
             CQLMessageHandler.ErrorHandler errorHandler = (error) -> {
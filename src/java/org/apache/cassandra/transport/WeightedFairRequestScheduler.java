@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+
+import org.apache.cassandra.auth.AuthenticatedUser;
+import org.apache.cassandra.concurrent.DebuggableTask.RunnableDebuggableTask;
+import org.apache.cassandra.concurrent.LocalAwareExecutorPlus;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.cql3.CQLStatement;
+import org.apache.cassandra.cql3.QueryHandler;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.metrics.ClientMetrics;
+import org.apache.cassandra.service.ClientState;
+import org.apache.cassandra.transport.messages.ExecuteMessage;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.MonotonicClock;
+
+/**
+ * A {@link RequestScheduler} sharing the request executor between tenants in proportion to their weights, whatever
+ * the rate at which each of them sends requests.
+ * <p>
+ * At most {@code max_concurrent_requests} requests are handed to the executor at a time; the others wait in a queue
+ * per tenant. Whenever a request completes, the next one is taken from the tenant queues by start-time fair queuing:
+ * each request is tagged, on arrival, with the virtual time at which its tenant would start it if it were served at
+ * the rate given by its weight, and the request with the smallest tag goes first. A tenant which has been idle starts
+ * again from the current virtual time, so it cannot accumulate credit while idle.
+ * <p>
+ * The tenant of a request is its role, its keyspace, or a tag set by the client in its custom payload or its STARTUP
+ * options, depending on {@code tenant_key}. The requests of more than {@code max_tenants} distinct tenants are treated
+ * as those of a single one. A tenant with {@code max_queue_depth} requests waiting has its further requests rejected
+ * until its queue drains.
+ */
+public class WeightedFairRequestScheduler implements RequestScheduler
+{
+    public static final String TENANT_KEY = "tenant_key";
+    public static final String TAG_KEY = "tag_key";
+    public static final String WEIGHTS = "weights";
+    public static final String DEFAULT_WEIGHT = "default_weight";
+    public static final String MAX_QUEUE_DEPTH = "max_queue_depth";
+    public static final String MAX_CONCURRENT_REQUESTS = "max_concurrent_requests";
+    public static final String MAX_TENANTS = "max_tenants";
+
+    /** The tenant of the requests which cannot be attributed to one, or of the tenants past {@code max_tenants}. */
+    static final String OTHER_TENANT = "other";
+
+    public enum TenantKey
+    {
+        ROLE, KEYSPACE, TAG
+    }
+
+    private final TenantKey tenantKey;
+    private final String tagKey;
+    private final Map<String, Double> weights;
+    private final double defaultWeight;
+    private final int maxQueueDepth;
+    private final int maxConcurrentRequests;
+    private final int maxTenants;
+
+    // all guarded by this
+    private final Map<String, Tenant> tenants = new HashMap<>();
+    private final PriorityQueue<Tenant> backlogged = new PriorityQueue<>(Comparator.comparingDouble(t -> t.queue.peek().startTag));
+    private double virtualTime;
+    private int running;
+    private int pending;
+
+    public WeightedFairRequestScheduler(Map<String, String> parameters)
+    {
+        Map<String, String> options = parameters == null ? ImmutableMap.of() : parameters;
+        String key = options.getOrDefault(TENANT_KEY, TenantKey.ROLE.name());
+        try
+        {
+            tenantKey = TenantKey.valueOf(key.toUpperCase());
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException(String.format("Invalid %s '%s', expected one of role, keyspace or tag", TENANT_KEY, key), false);
+        }
+        tagKey = options.getOrDefault(TAG_KEY, "tenant");
+        defaultWeight = parseWeight(options.getOrDefault(DEFAULT_WEIGHT, "1"));
+        weights = parseWeights(options.getOrDefault(WEIGHTS, ""));
+        maxQueueDepth = parsePositive(options, MAX_QUEUE_DEPTH, 1024);
+        maxConcurrentRequests = parsePositive(options, MAX_CONCURRENT_REQUESTS, DatabaseDescriptor.getNativeTransportMaxThreads());
+        maxTenants = parsePositive(options, MAX_TENANTS, 64);
+    }
+
+    private static final class Queued
+    {
+        final RunnableDebuggableTask task;
+        final LocalAwareExecutorPlus executor;
+        final double startTag;
+
+        Queued(RunnableDebuggableTask task, LocalAwareExecutorPlus executor, double startTag)
+        {
+            this.task = task;
+            this.executor = executor;
+            this.startTag = startTag;
+        }
+    }
+
+    private static final class Tenant
+    {
+        final double weight;
+        final ArrayDeque<Queued> queue = new ArrayDeque<>();
+        final ClientMetrics.TenantMetrics metrics;
+        /** The virtual time at which the last request of the tenant finishes. */
+        double finishTag;
+
+        Tenant(String name, double weight)
+        {
+            this.weight = weight;
+            this.metrics = ClientMetrics.instance.tenantMetrics(name);
+        }
+    }
+
+    /**
+     * Runs the task of a request, then releases its slot and hands the next request to the executor.
+     */
+    private final class Scheduled implements RunnableDebuggableTask
+    {
+        private final RunnableDebuggableTask task;
+        private final Tenant tenant;
+
+        Scheduled(RunnableDebuggableTask task, Tenant tenant)
+        {
+            this.task = task;
+            this.tenant = tenant;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                completed(tenant, task.creationTimeNanos());
+            }
+        }
+
+        @Override
+        public long creationTimeNanos()
+        {
+            return task.creationTimeNanos();
+        }
+
+        @Override
+        public long startTimeNanos()
+        {
+            return task.startTimeNanos();
+        }
+
+        @Override
+        public String description()
+        {
+            return task.description();
+        }
+    }
+
+    @Override
+    public boolean schedule(Message.Request request, RunnableDebuggableTask task, LocalAwareExecutorPlus executor)
+    {
+        return schedule(tenantOf(request), task, executor);
+    }
+
+    @VisibleForTesting
+    boolean schedule(String tenantName, RunnableDebuggableTask task, LocalAwareExecutorPlus executor)
+    {
+        Tenant tenant;
+        synchronized (this)
+        {
+            tenant = tenant(tenantName);
+            if (!tryStart(tenant))
+            {
+                if (tenant.queue.size() >= maxQueueDepth)
+                {
+                    tenant.metrics.rejected.mark();
+                    return false;
+                }
+
+                double startTag = Math.max(virtualTime, tenant.finishTag);
+                tenant.finishTag = startTag + 1 / tenant.weight;
+                tenant.queue.add(new Queued(task, executor, startTag));
+                tenant.metrics.queueDepth.incrementAndGet();
+                if (tenant.queue.size() == 1)
+                    backlogged.add(tenant);
+                pending++;
+                return true;
+            }
+        }
+
+        executor.submit(new Scheduled(task, tenant));
+        return true;
+    }
+
+    @Override
+    public boolean runNow(Message.Request request, Runnable task)
+    {
+        return runNow(tenantOf(request), request.createdAtNanos, task);
+    }
+
+    @VisibleForTesting
+    boolean runNow(String tenantName, long createdAtNanos, Runnable task)
+    {
+        Tenant tenant;
+        synchronized (this)
+        {
+            tenant = tenant(tenantName);
+            if (!tryStart(tenant))
+                return false;
+        }
+
+        try
+        {
+            task.run();
+        }
+        finally
+        {
+            completed(tenant, createdAtNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Starts a request of {@code tenant} if nothing is waiting and a slot is free, which still counts against the share
+     * of its tenant. Called holding the lock.
+     */
+    private boolean tryStart(Tenant tenant)
+    {
+        if (running >= maxConcurrentRequests || !backlogged.isEmpty())
+            return false;
+
+        virtualTime = Math.max(virtualTime, tenant.finishTag);
+        tenant.finishTag = virtualTime + 1 / tenant.weight;
+        running++;
+        return true;
+    }
+
+    private void completed(Tenant tenant, long createdAtNanos)
+    {
+        tenant.metrics.latency.update(MonotonicClock.Global.preciseTime.now() - createdAtNanos, TimeUnit.NANOSECONDS);
+        completed();
+    }
+
+    private void completed()
+    {
+        Queued next;
+        Tenant tenant;
+        synchronized (this)
+        {
+            running--;
+            tenant = backlogged.poll();
+            if (tenant == null)
+                return;
+
+            next = tenant.queue.poll();
+            if (!tenant.queue.isEmpty())
+                backlogged.add(tenant);
+            tenant.metrics.queueDepth.decrementAndGet();
+            virtualTime = Math.max(virtualTime, next.startTag);
+            pending--;
+            running++;
+        }
+
+        next.executor.submit(new Scheduled(next.task, tenant));
+    }
+
+    private Tenant tenant(String name)
+    {
+        Tenant tenant = tenants.get(name);
+        if (tenant != null)
+            return tenant;
+
+        if (tenants.size() >= maxTenants)
+            name = OTHER_TENANT;
+        return tenants.computeIfAbsent(name, n -> new Tenant(n, weights.getOrDefault(n, defaultWeight)));
+    }
+
+    @Override
+    public synchronized long oldestQueueTimeNanos()
+    {
+        long oldest = 0;
+        for (Tenant tenant : backlogged)
+            oldest = Math.max(oldest, tenant.queue.peek().task.elapsedSinceCreation());
+        return oldest;
+    }
+
+    @Override
+    public synchronized int pendingRequests()
+    {
+        return pending;
+    }
+
+    @VisibleForTesting
+    String tenantOf(Message.Request request)
+    {
+        if (tenantKey == TenantKey.TAG)
+        {
+            Map<String, ByteBuffer> payload = request.getCustomPayload();
+            ByteBuffer tag = payload == null ? null : payload.get(tagKey);
+            if (tag != null)
+            {
+                try
+                {
+                    return ByteBufferUtil.string(tag);
+                }
+                catch (CharacterCodingException e)
+                {
+                    return OTHER_TENANT;
+                }
+            }
+        }
+
+        if (!(request.connection() instanceof ServerConnection))
+            return OTHER_TENANT;
+
+        ClientState state = ((ServerConnection) request.connection()).getClientState();
+        switch (tenantKey)
+        {
+            case ROLE:
+                AuthenticatedUser user = state.getUser();
+                return user == null ? OTHER_TENANT : user.getName();
+            case KEYSPACE:
+                String keyspace = null;
+                if (request instanceof ExecuteMessage)
+                {
+                    QueryHandler.Prepared prepared = ClientState.getCQLQueryHandler().getPrepared(((ExecuteMessage) request).statementId);
+                    if (prepared != null && prepared.statement instanceof CQLStatement.SingleKeyspaceCqlStatement)
+                        keyspace = ((CQLStatement.SingleKeyspaceCqlStatement) prepared.statement).keyspace();
+                }
+                if (keyspace == null)
+                    keyspace = state.getRawKeyspace();
+                return keyspace == null ? OTHER_TENANT : keyspace;
+            case TAG:
+                return state.getClientOptions().map(options -> options.get(tagKey)).orElse(OTHER_TENANT);
+            default:
+                throw new AssertionError(tenantKey);
+        }
+    }
+
+    private static Map<String, Double> parseWeights(String weights)
+    {
+        Map<String, Double> parsed = new HashMap<>();
+        for (String entry : weights.split(","))
+        {
+            if (entry.trim().isEmpty())
+                continue;
+
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0)
+                throw new ConfigurationException(String.format("Invalid %s entry '%s', expected tenant:weight", WEIGHTS, entry), false);
+            parsed.put(entry.substring(0, separator).trim(), parseWeight(entry.substring(separator + 1)));
+        }
+        return parsed;
+    }
+
+    private static double parseWeight(String weight)
+    {
+        try
+        {
+            double parsed = Double.parseDouble(weight.trim());
+            if (parsed > 0)
+                return parsed;
+        }
+        catch (NumberFormatException e)
+        {
+            // fall through
+        }
+        throw new ConfigurationException(String.format("Invalid weight '%s', expected a positive number", weight), false);
+    }
+
+    private static int parsePositive(Map<String, String> options, String option, int defaultValue)
+    {
+        String value = options.get(option);
+        if (value == null)
+            return defaultValue;
+
+        try
+        {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0)
+                return parsed;
+        }
+        catch (NumberFormatException e)
+        {
+            // fall through
+        }
+        throw new ConfigurationException(String.format("Invalid %s '%s', expected a positive integer", option, value), false);
+    }
+}
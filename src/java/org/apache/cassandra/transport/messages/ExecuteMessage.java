@@ -18,6 +18,7 @@
 package org.apache.cassandra.transport.messages;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -105,6 +106,8 @@ public class ExecuteMessage extends Message.Request
     public final MD5Digest statementId;
     public final MD5Digest resultMetadataId;
     public final QueryOptions options;
+    // the bind variables the options were last prepared for, not to prepare them again for the same statement
+    private List<ColumnSpecification> preparedFor;
 
     public ExecuteMessage(MD5Digest statementId, MD5Digest resultMetadataId, QueryOptions options)
     {
@@ -114,6 +117,19 @@ public class ExecuteMessage extends Message.Request
         this.resultMetadataId = resultMetadataId;
     }
 
+    /**
+     * Prepares the options of this message for the given bind variables, unless they already were.
+     */
+    public QueryOptions prepareOptions(List<ColumnSpecification> bindVariables)
+    {
+        if (preparedFor != bindVariables)
+        {
+            options.prepare(bindVariables);
+            preparedFor = bindVariables;
+        }
+        return options;
+    }
+
     @Override
     protected boolean isTraceable()
     {
@@ -148,7 +164,7 @@ public class ExecuteMessage extends Message.Request
             }
 
             CQLStatement statement = prepared.statement;
-            options.prepare(statement.getBindVariables());
+            prepareOptions(statement.getBindVariables());
 
             if (options.getPageSize() == 0)
                 throw new ProtocolException("The page size cannot be 0");
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.utils;
+
+import org.apache.cassandra.utils.obs.IBitSet;
+
+/**
+ * A Bloom filter split into blocks of the size of a cache line: the key's hash selects a block and all
+ * {@code hashCount} bits of the key are set within it, so that a lookup touches a single cache line instead of up
+ * to {@code hashCount} of them. The price is a higher false positive rate for the same size at low target rates, which
+ * {@link BloomCalculations#computeBlockedBloomSpec} accounts for when sizing the filter.
+ * <p>
+ * Blocked filters share the serialized form of {@link BloomFilter}, with a negated hash count to tell them apart.
+ */
+public class BlockedBloomFilter extends BloomFilter
+{
+    public static final int BLOCK_BITS = 512;
+    private static final int BLOCK_SHIFT = 9;
+
+    private final long blockCount;
+
+    BlockedBloomFilter(int hashCount, IBitSet bitset)
+    {
+        super(hashCount, bitset);
+        this.blockCount = bitset.capacity() >>> BLOCK_SHIFT;
+    }
+
+    private BlockedBloomFilter(BlockedBloomFilter copy)
+    {
+        super(copy);
+        this.blockCount = copy.blockCount;
+    }
+
+    /**
+     * @return the number of bits to allocate for a filter of the given number of blocks
+     */
+    static long bitsForBlocks(long blockCount)
+    {
+        return blockCount << BLOCK_SHIFT;
+    }
+
+    @Override
+    public void add(FilterKey key)
+    {
+        long[] hash = hash(key);
+        long block = blockStart(hash[1]);
+        int h1 = (int) hash[1];
+        // odd, so that the first BLOCK_BITS probes are all distinct
+        int h2 = (int) hash[0] | 1;
+        for (int i = 0; i < hashCount; i++)
+        {
+            bitset.set(block + (h1 & (BLOCK_BITS - 1)));
+            h1 += h2;
+        }
+    }
+
+    @Override
+    public boolean isPresent(FilterKey key)
+    {
+        long[] hash = hash(key);
+        long block = blockStart(hash[1]);
+        int h1 = (int) hash[1];
+        int h2 = (int) hash[0] | 1;
+        for (int i = 0; i < hashCount; i++)
+        {
+            if (!bitset.get(block + (h1 & (BLOCK_BITS - 1))))
+                return false;
+            h1 += h2;
+        }
+        return true;
+    }
+
+    /**
+     * Selects the block from the high half of the second hash, the low halves of both hashes giving the bits within it.
+     * The first hash is the token of the key for the murmur partitioner, of which the high bits are shared by all the
+     * keys of an sstable covering a narrow token range, so it is not used to select the block.
+     */
+    private long blockStart(long hash)
+    {
+        return ((hash >>> 32) % blockCount) << BLOCK_SHIFT;
+    }
+
+    @Override
+    public BlockedBloomFilter sharedCopy()
+    {
+        return new BlockedBloomFilter(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BlockedBloomFilter[hashCount=" + hashCount + ";capacity=" + bitset.capacity() + ']';
+    }
+}
@@ -33,6 +33,9 @@ public class BloomCalculations
 
     private static final int EXCESS = 20;
 
+    private static final int maxBlockedBuckets = 32;
+    private static final int maxBlockedK = 8;
+
     /**
      * In the following keyspaceName, the row 'i' shows false positive rates if i buckets
      * per element are used.  Cell 'j' shows false positive rates if j hash
@@ -172,6 +175,48 @@ public class BloomCalculations
         return new BloomSpecification(K, bucketsPerElement);
     }
 
+    /**
+     * Given a maximum tolerable false positive probability, compute the specification of the smallest
+     * {@link BlockedBloomFilter} which gives less than the specified false positive rate, preferring fewer hash
+     * functions for the same number of buckets per element as {@link #computeBloomSpec(int, double)} does.
+     *
+     * @param maxFalsePosProb The maximum tolerable false positive rate.
+     * @return A Bloom Specification which would result in a false positive rate
+     * less than specified by the function call
+     * @throws UnsupportedOperationException if a filter satisfying the parameters cannot be met
+     */
+    public static BloomSpecification computeBlockedBloomSpec(double maxFalsePosProb)
+    {
+        for (int bucketsPerElement = minBuckets; bucketsPerElement <= maxBlockedBuckets; bucketsPerElement++)
+        {
+            for (int k = minK; k <= maxBlockedK; k++)
+            {
+                if (blockedFalsePositiveRate(bucketsPerElement, k) <= maxFalsePosProb)
+                    return new BloomSpecification(k, bucketsPerElement);
+            }
+        }
+        throw new UnsupportedOperationException(String.format("Unable to satisfy %s with a blocked filter", maxFalsePosProb));
+    }
+
+    /**
+     * The false positive rate of a {@link BlockedBloomFilter}. Keys do not spread evenly over the blocks: the number
+     * of keys in a block follows a Poisson distribution, so this sums the false positive rate of a block holding n
+     * keys weighted by the probability of it holding them.
+     */
+    static double blockedFalsePositiveRate(int bucketsPerElement, int k)
+    {
+        int blockBits = BlockedBloomFilter.BLOCK_BITS;
+        double mean = (double) blockBits / bucketsPerElement;
+        double probability = Math.exp(-mean);
+        double rate = 0;
+        for (int n = 0; n < mean + 20 * Math.sqrt(mean) + 50; n++)
+        {
+            rate += probability * Math.pow(1 - Math.pow(1 - 1.0 / blockBits, (double) k * n), k);
+            probability *= mean / (n + 1);
+        }
+        return rate;
+    }
+
     /**
      * Calculates the maximum number of buckets per element that this implementation
      * can support.  Crucially, it will lower the bucket count if necessary to meet
@@ -49,7 +49,7 @@ public class BloomFilter extends WrappedSharedCloseable implements IFilter
         this.bitset = bitset;
     }
 
-    private BloomFilter(BloomFilter copy)
+    BloomFilter(BloomFilter copy)
     {
         super(copy);
         this.hashCount = copy.hashCount;
@@ -101,6 +101,16 @@ public class BloomFilter extends WrappedSharedCloseable implements IFilter
         return indexes;
     }
 
+    /**
+     * Returns the thread local array whose first two elements hold the hash of the given key.
+     */
+    long[] hash(FilterKey key)
+    {
+        long[] hash = reusableIndexes.get();
+        key.filterHash(hash);
+        return hash;
+    }
+
     @Inline
     private void setIndexes(long base, long inc, int count, long max, long[] results)
     {
@@ -122,7 +132,7 @@ public class BloomFilter extends WrappedSharedCloseable implements IFilter
     }
 
     @Override
-    public final boolean isPresent(FilterKey key)
+    public boolean isPresent(FilterKey key)
     {
         long[] indexes = indexes(key);
         for (int i = 0; i < hashCount; i++)
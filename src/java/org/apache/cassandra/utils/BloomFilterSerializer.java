@@ -50,7 +50,8 @@ public final class BloomFilterSerializer implements IGenericSerializer<BloomFilt
     public void serialize(BloomFilter bf, DataOutputStreamPlus out) throws IOException
     {
         assert !oldFormat : "Filter should not be serialized in old format";
-        out.writeInt(bf.hashCount);
+        // blocked filters are told apart by a negative hash count
+        out.writeInt(bf instanceof BlockedBloomFilter ? -bf.hashCount : bf.hashCount);
         bf.bitset.serialize(out);
     }
 
@@ -75,6 +76,6 @@ public final class BloomFilterSerializer implements IGenericSerializer<BloomFilt
         int hashes = in.readInt();
         IBitSet bs = OffHeapBitSet.deserialize(in, oldFormat);
 
-        return new BloomFilter(hashes, bs);
+        return hashes < 0 ? new BlockedBloomFilter(-hashes, bs) : new BloomFilter(hashes, bs);
     }
 }
@@ -18,10 +18,12 @@
 package org.apache.cassandra.utils;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.cassandra.exceptions.ConfigurationException;
 import org.apache.cassandra.io.util.DataOutputStreamPlus;
 import org.apache.cassandra.utils.concurrent.Ref;
 import org.apache.cassandra.utils.obs.IBitSet;
@@ -34,6 +36,33 @@ public class FilterFactory
     private static final Logger logger = LoggerFactory.getLogger(FilterFactory.class);
     private static final long BITSET_EXCESS = 20;
 
+    /**
+     * The layout of the filters built for a table, set with its {@code bloom_filter_type} option.
+     */
+    public enum Type
+    {
+        /**
+         * A classic Bloom filter, see {@link BloomFilter}.
+         */
+        STANDARD,
+        /**
+         * A Bloom filter probing a single cache line per lookup, see {@link BlockedBloomFilter}.
+         */
+        BLOCKED;
+
+        public static Type fromString(String s)
+        {
+            try
+            {
+                return valueOf(s.toUpperCase());
+            }
+            catch (IllegalArgumentException e)
+            {
+                throw new ConfigurationException(String.format("Invalid bloom_filter_type '%s', must be one of %s", s, Arrays.toString(values())));
+            }
+        }
+    }
+
     /**
      * @return A BloomFilter with the lowest practical false positive
      *         probability for the given number of elements.
@@ -67,6 +96,25 @@ public class FilterFactory
         return createFilter(spec.K, numElements, spec.bucketsPerElement);
     }
 
+    /**
+     * @return The smallest filter of the given type that can provide the given false
+     *         positive probability rate for the given number of elements.
+     */
+    public static IFilter getFilter(long numElements, double maxFalsePosProbability, Type type)
+    {
+        if (type == Type.STANDARD)
+            return getFilter(numElements, maxFalsePosProbability);
+
+        assert maxFalsePosProbability <= 1.0 : "Invalid probability";
+        if (maxFalsePosProbability == 1.0)
+            return FilterFactory.AlwaysPresent;
+        BloomCalculations.BloomSpecification spec = BloomCalculations.computeBlockedBloomSpec(maxFalsePosProbability);
+        long numBits = (numElements * spec.bucketsPerElement) + BITSET_EXCESS;
+        long numBlocks = ((numBits - 1) / BlockedBloomFilter.BLOCK_BITS) + 1;
+        IBitSet bitset = new OffHeapBitSet(BlockedBloomFilter.bitsForBlocks(numBlocks));
+        return new BlockedBloomFilter(spec.K, bitset);
+    }
+
     private static IFilter createFilter(int hash, long numElements, int bucketsPer)
     {
         long numBits = (numElements * bucketsPer) + BITSET_EXCESS;
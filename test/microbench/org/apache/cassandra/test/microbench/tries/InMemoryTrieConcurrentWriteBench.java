@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.test.microbench.tries;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.cassandra.db.tries.InMemoryTrie;
+import org.apache.cassandra.io.compress.BufferType;
+import org.apache.cassandra.utils.bytecomparable.ByteComparable;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares writes to sharded tries whose writers are serialized by a lock per shard, as done by TrieMemtable, with
+ * writes that update existing keys concurrently (see {@link InMemoryTrie#updateExisting}) and only take the shard's
+ * lock to add new keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1,jvmArgsAppend = { "-Xmx4G", "-Xms4G", "-Djmh.executor=CUSTOM", "-Djmh.executor.class=org.apache.cassandra.test.microbench.FastThreadExecutor"})
+@Threads(16)
+@State(Scope.Benchmark)
+public class InMemoryTrieConcurrentWriteBench
+{
+    @Param({"ON_HEAP", "OFF_HEAP"})
+    BufferType bufferType = BufferType.OFF_HEAP;
+
+    @Param({"1", "4", "16"})
+    int shards = 1;
+
+    @Param({"false", "true"})
+    boolean concurrentUpdates = false;
+
+    @Param({"1000", "1000000"})
+    int keyCount = 1000;
+
+    @Param({"8"})
+    int keyLength = 8;
+
+    final static InMemoryTrie.UpsertTransformer<Long, Long> adder = (x, y) -> x == null ? y : x + y;
+
+    InMemoryTrie<Long>[] tries;
+    ReentrantLock[] locks;
+
+    @Setup(Level.Iteration)
+    public void setup()
+    {
+        tries = new InMemoryTrie[shards];
+        locks = new ReentrantLock[shards];
+        for (int i = 0; i < shards; ++i)
+        {
+            tries[i] = new InMemoryTrie<>(bufferType);
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Benchmark
+    public void putRandom() throws InMemoryTrie.SpaceExhaustedException
+    {
+        Random rand = ThreadLocalRandom.current();
+        long key = rand.nextInt(keyCount);
+        byte[] buf = new byte[keyLength];
+        for (int i = 0; i < 8; ++i)
+            buf[keyLength - 8 + i] = (byte) (key >> (56 - 8 * i));
+        ByteComparable bc = ByteComparable.fixedLength(buf);
+
+        // keys are spread among the shards by their value, like partitions by their token
+        int shard = (int) (key * shards / keyCount);
+        InMemoryTrie<Long> trie = tries[shard];
+        if (concurrentUpdates && trie.updateExisting(bc, 1L, adder))
+            return;
+
+        ReentrantLock lock = locks[shard];
+        lock.lock();
+        try
+        {
+            if (!concurrentUpdates || !trie.updateExisting(bc, 1L, adder))
+                trie.putRecursive(bc, 1L, adder);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.io.util.File;
+import org.apache.cassandra.io.util.FileHandle;
+import org.apache.cassandra.io.util.RandomAccessReader;
+import org.apache.cassandra.metrics.ChunkCacheMetrics;
+import org.apache.cassandra.utils.Pair;
+import org.apache.cassandra.utils.memory.BufferPools;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkCacheTest
+{
+    private static final int CHUNK_SIZE = 4096;
+    private static final int CHUNKS = 256;
+    private static final long CAPACITY = 1024 * 1024;
+    private static final int SCAN_THRESHOLD = 4;
+
+    private static File file;
+    private static byte[] content;
+
+    @BeforeClass
+    public static void setup() throws IOException
+    {
+        DatabaseDescriptor.daemonInitialization();
+
+        File dir = new File(Files.createTempDirectory("chunkcache"), "ks/tbl-0123456789abcdef0123456789abcdef");
+        dir.createDirectoriesIfNotExists();
+        file = new File(dir, "nb-1-big-Data.db");
+        file.deleteOnExit();
+
+        content = new byte[CHUNK_SIZE * CHUNKS];
+        new Random(42).nextBytes(content);
+        Files.write(file.toPath(), content);
+    }
+
+    private static ChunkCache newCache(Config.FileCacheMode mode)
+    {
+        return new ChunkCache(BufferPools.forChunkCache(), CAPACITY, Config.FileCacheBackend.caffeine, mode, 25, SCAN_THRESHOLD);
+    }
+
+    private static FileHandle open(ChunkCache cache)
+    {
+        return new FileHandle.Builder(file).withChunkCache(cache).bufferSize(CHUNK_SIZE).complete();
+    }
+
+    @Test
+    public void testSequentialScanBypassesCache() throws IOException
+    {
+        ChunkCache cache = newCache(Config.FileCacheMode.scan_resistant);
+        // the metric is registered globally, shared by all cache instances
+        long bypasses = cache.metrics.bypasses.getCount();
+        try (FileHandle handle = open(cache))
+        {
+            readFully(handle);
+
+            // only the chunks read before the scan was detected are admitted
+            assertEquals(SCAN_THRESHOLD, cache.size());
+            assertEquals(CHUNKS - SCAN_THRESHOLD, cache.metrics.bypasses.getCount() - bypasses);
+        }
+        // closing the file invalidates its chunks
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSequentialScanCachedInStandardMode() throws IOException
+    {
+        ChunkCache cache = newCache(Config.FileCacheMode.standard);
+        long bypasses = cache.metrics.bypasses.getCount();
+        try (FileHandle handle = open(cache))
+        {
+            readFully(handle);
+
+            assertEquals(CHUNKS, cache.size());
+            assertEquals(bypasses, cache.metrics.bypasses.getCount());
+        }
+    }
+
+    @Test
+    public void testTableQuota() throws IOException
+    {
+        ChunkCache cache = newCache(Config.FileCacheMode.scan_resistant);
+        ChunkCacheMetrics.TableMetrics table = cache.metrics.forTable("ks", "tbl");
+        try (FileHandle handle = open(cache))
+        {
+            try (RandomAccessReader reader = handle.createReader())
+            {
+                // read every other chunk so that the reader is never considered to be scanning
+                for (int chunk = 0; chunk < CHUNKS; chunk += 2)
+                {
+                    reader.seek((long) chunk * CHUNK_SIZE);
+                    assertEquals(content[chunk * CHUNK_SIZE], reader.readByte());
+                }
+            }
+
+            assertTrue(table.weight() > 0);
+            assertTrue(table.weight() <= CAPACITY * 25 / 100);
+            assertTrue(cache.size() < CHUNKS / 2);
+            assertEquals(CHUNKS / 2, table.requests() + table.bypasses());
+        }
+        assertEquals(0, table.weight());
+    }
+
+    @Test
+    public void testTableHitRatio() throws IOException
+    {
+        ChunkCache cache = newCache(Config.FileCacheMode.standard);
+        try (FileHandle handle = open(cache))
+        {
+            for (int i = 0; i < 2; i++)
+            {
+                try (RandomAccessReader reader = handle.createReader())
+                {
+                    reader.seek(CHUNK_SIZE);
+                    assertEquals(content[CHUNK_SIZE], reader.readByte());
+                }
+            }
+        }
+
+        ChunkCacheMetrics.TableMetrics table = cache.metrics.forTable("ks", "tbl");
+        assertEquals(2, table.requests());
+        assertEquals(1, table.hits());
+        assertEquals(0.5, table.hitRatio(), 0.0);
+    }
+
+    @Test
+    public void testPrefetchAndHotChunks()
+    {
+        ChunkCache cache = newCache(Config.FileCacheMode.standard);
+        try (FileHandle handle = open(cache))
+        {
+            assertEquals(CHUNK_SIZE, cache.chunkSize(handle));
+            assertEquals(CHUNK_SIZE, cache.prefetch(handle, 3 * CHUNK_SIZE + 100));
+            assertEquals(CHUNK_SIZE, cache.prefetch(handle, 7 * CHUNK_SIZE));
+            // already cached
+            assertEquals(CHUNK_SIZE, cache.prefetch(handle, 7 * CHUNK_SIZE + 1));
+            assertEquals(0, cache.prefetch(handle, (long) CHUNKS * CHUNK_SIZE));
+            assertEquals(2, cache.size());
+
+            Set<Long> positions = new HashSet<>();
+            cache.hotChunks(10).forEachRemaining(chunk -> {
+                assertEquals(file.path(), chunk.left);
+                positions.add(chunk.right);
+            });
+            assertEquals(Set.of(3L * CHUNK_SIZE, 7L * CHUNK_SIZE), positions);
+
+            Pair<String, Long> hottest = cache.hotChunks(1).next();
+            assertTrue(positions.contains(hottest.right));
+        }
+    }
+
+    private static void readFully(FileHandle handle) throws IOException
+    {
+        try (RandomAccessReader reader = handle.createReader())
+        {
+            byte[] read = new byte[content.length];
+            reader.readFully(read);
+            assertArrayEquals(content, read);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.io.compress.BufferType;
+import org.apache.cassandra.io.util.ChannelProxy;
+import org.apache.cassandra.io.util.ChunkReader;
+import org.apache.cassandra.io.util.File;
+import org.apache.cassandra.io.util.FileHandle;
+import org.apache.cassandra.io.util.RandomAccessReader;
+import org.apache.cassandra.io.util.Rebufferer;
+import org.apache.cassandra.utils.memory.BufferPools;
+import org.jboss.byteman.contrib.bmunit.BMRule;
+import org.jboss.byteman.contrib.bmunit.BMUnitRunner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(BMUnitRunner.class)
+public class SlabChunkCacheTest
+{
+    private static final int CHUNK_SIZE = 4096;
+    private static final int CHUNKS = 512;
+    private static final long CAPACITY = 1024 * 1024;
+
+    private static File file;
+    private static File otherFile;
+    private static byte[] content;
+
+    @BeforeClass
+    public static void setup() throws IOException
+    {
+        DatabaseDescriptor.daemonInitialization();
+
+        file = new File(Files.createTempFile("slabchunkcache", "-Data.db"));
+        file.deleteOnExit();
+
+        content = new byte[CHUNK_SIZE * CHUNKS];
+        new Random(42).nextBytes(content);
+        Files.write(file.toPath(), content);
+
+        otherFile = new File(Files.createTempFile("slabchunkcache", "-Data.db"));
+        otherFile.deleteOnExit();
+        Files.write(otherFile.toPath(), content);
+    }
+
+    private static ChunkCache newCache()
+    {
+        return newCache(CAPACITY);
+    }
+
+    private static ChunkCache newCache(long capacity)
+    {
+        return new ChunkCache(BufferPools.forChunkCache(), capacity, Config.FileCacheBackend.slab, Config.FileCacheMode.standard, 100, 16);
+    }
+
+    private static FileHandle open(ChunkCache cache)
+    {
+        return open(cache, file, CHUNK_SIZE);
+    }
+
+    private static FileHandle open(ChunkCache cache, File file, int chunkSize)
+    {
+        return new FileHandle.Builder(file).withChunkCache(cache).bufferSize(chunkSize).complete();
+    }
+
+    private static void readChunk(FileHandle handle, int chunk)
+    {
+        readChunk(handle, chunk, CHUNK_SIZE);
+    }
+
+    private static void readChunk(FileHandle handle, int chunk, int chunkSize)
+    {
+        try (RandomAccessReader reader = handle.createReader())
+        {
+            reader.seek((long) chunk * chunkSize);
+            byte[] read = new byte[chunkSize];
+            reader.readFully(read);
+            byte[] expected = new byte[chunkSize];
+            System.arraycopy(content, chunk * chunkSize, expected, 0, chunkSize);
+            assertArrayEquals(expected, read);
+        }
+        catch (IOException e)
+        {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testSlabSize()
+    {
+        assertEquals(SlabChunkCache.MIN_SLAB_SIZE, SlabChunkCache.slabSizeFor(0));
+        assertEquals(SlabChunkCache.MIN_SLAB_SIZE, SlabChunkCache.slabSizeFor(CAPACITY));
+        assertEquals(1 << 20, SlabChunkCache.slabSizeFor(16L << 20));
+        assertEquals(16 << 20, SlabChunkCache.slabSizeFor(64L << 30));
+    }
+
+    @Test
+    public void testHitsAfterLoad()
+    {
+        ChunkCache cache = newCache();
+        try (FileHandle handle = open(cache))
+        {
+            long hits = cache.metrics.hits.getCount();
+            for (int chunk = 0; chunk < 16; ++chunk)
+                readChunk(handle, chunk);
+            assertEquals(16, cache.size());
+            assertEquals(16 * CHUNK_SIZE, cache.weightedSize());
+
+            for (int chunk = 0; chunk < 16; ++chunk)
+                readChunk(handle, chunk);
+            assertEquals(16, cache.metrics.hits.getCount() - hits);
+            assertEquals(16, cache.size());
+        }
+        // closing the file invalidates its chunks
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+    }
+
+    @Test
+    public void testEviction()
+    {
+        ChunkCache cache = newCache();
+        try (FileHandle handle = open(cache))
+        {
+            // the file is twice the size of the cache
+            for (int chunk = 0; chunk < CHUNKS; ++chunk)
+                readChunk(handle, chunk);
+            assertEquals(CAPACITY / CHUNK_SIZE, cache.size());
+            assertEquals(CAPACITY, cache.weightedSize());
+
+            for (int chunk = CHUNKS - 1; chunk >= 0; --chunk)
+                readChunk(handle, chunk);
+            assertEquals(CAPACITY / CHUNK_SIZE, cache.size());
+        }
+    }
+
+    @Test
+    public void testInvalidatePosition()
+    {
+        ChunkCache cache = newCache();
+        try (FileHandle handle = open(cache))
+        {
+            readChunk(handle, 3);
+            assertEquals(1, cache.size());
+            cache.invalidatePosition(handle, 3 * CHUNK_SIZE + 10);
+            assertEquals(0, cache.size());
+            readChunk(handle, 3);
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    public void testSlabsMoveToChunkSizeUnderPressure()
+    {
+        ChunkCache cache = newCache();
+        int largeChunkSize = 2 * CHUNK_SIZE;
+        int largeChunks = 32;
+        try (FileHandle small = open(cache, file, CHUNK_SIZE);
+             FileHandle large = open(cache, otherFile, largeChunkSize))
+        {
+            // all the slabs are assigned to the small chunks
+            for (int chunk = 0; chunk < CAPACITY / CHUNK_SIZE; ++chunk)
+                readChunk(small, chunk);
+            assertEquals(CAPACITY / CHUNK_SIZE, cache.size());
+
+            // the large chunks take the slabs of the small ones, which are not under pressure, as they need them
+            for (int pass = 0; pass < 8; ++pass)
+            {
+                for (int chunk = 0; chunk < largeChunks; ++chunk)
+                    readChunk(large, chunk, largeChunkSize);
+            }
+
+            long hits = cache.metrics.hits.getCount();
+            for (int chunk = 0; chunk < largeChunks; ++chunk)
+                readChunk(large, chunk, largeChunkSize);
+            assertEquals(largeChunks, cache.metrics.hits.getCount() - hits);
+            assertEquals(CAPACITY, cache.weightedSize());
+            assertEquals((CAPACITY - largeChunks * largeChunkSize) / CHUNK_SIZE + largeChunks, cache.size());
+        }
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Reads chunks larger than the buffers of uncompressed files, as those of compressed files may be.
+     */
+    private static ChunkReader largeChunkReader(ChannelProxy channel, int chunkSize)
+    {
+        return new ChunkReader()
+        {
+            public void readChunk(long position, ByteBuffer buffer)
+            {
+                buffer.put(content, (int) position, chunkSize);
+                buffer.flip();
+            }
+
+            public int chunkSize()
+            {
+                return chunkSize;
+            }
+
+            public BufferType preferredBufferType()
+            {
+                return BufferType.OFF_HEAP;
+            }
+
+            public Rebufferer instantiateRebufferer()
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            public void close()
+            {
+            }
+
+            public ChannelProxy channel()
+            {
+                return channel;
+            }
+
+            public long fileLength()
+            {
+                return content.length;
+            }
+
+            public double getCrcCheckChance()
+            {
+                return 0;
+            }
+        };
+    }
+
+    private static void readLargeChunks(Rebufferer rebufferer, int chunkSize)
+    {
+        for (int chunk = 0; chunk < content.length / chunkSize; ++chunk)
+        {
+            Rebufferer.BufferHolder holder = rebufferer.rebuffer((long) chunk * chunkSize);
+            try
+            {
+                byte[] read = new byte[chunkSize];
+                holder.buffer().get(read);
+                assertArrayEquals(Arrays.copyOfRange(content, chunk * chunkSize, (chunk + 1) * chunkSize), read);
+            }
+            finally
+            {
+                holder.release();
+            }
+        }
+    }
+
+    @Test
+    public void testChunksLargerThanMinSlab()
+    {
+        int chunkSize = 2 * SlabChunkCache.MIN_SLAB_SIZE;
+        int chunks = content.length / chunkSize;
+        try (ChannelProxy channel = new ChannelProxy(file))
+        {
+            // cached in slabs of a quarter of a MiB
+            ChunkCache cache = newCache(4 * CAPACITY);
+            Rebufferer rebufferer = cache.wrap(largeChunkReader(channel, chunkSize)).instantiateRebufferer();
+            readLargeChunks(rebufferer, chunkSize);
+            assertEquals(chunks, cache.size());
+            long misses = cache.metrics.misses.getCount();
+            readLargeChunks(rebufferer, chunkSize);
+            assertEquals(misses, cache.metrics.misses.getCount());
+
+            // larger than the slabs, read around the cache
+            cache = newCache(CAPACITY);
+            readLargeChunks(cache.wrap(largeChunkReader(channel, chunkSize)).instantiateRebufferer(), chunkSize);
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception
+    {
+        ChunkCache cache = newCache();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (FileHandle handle = open(cache))
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; ++t)
+            {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; ++i)
+                        readChunk(handle, ThreadLocalRandom.current().nextInt(CHUNKS));
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+
+            assertTrue(cache.size() <= CAPACITY / CHUNK_SIZE);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @BMRule(name = "Delay pinning the slot of a handle read from the index",
+            targetClass = "SlabChunkCache$SlabRebufferer",
+            targetMethod = "lookup",
+            targetLocation = "AFTER INVOKE get",
+            action = "Thread.sleep(1);")
+    public void testConcurrentReadersWhileSlabsMove() throws Exception
+    {
+        // small and large chunks of twice the cache in total, so that slabs keep moving between their slot sizes
+        ChunkCache cache = newCache();
+        int largeChunkSize = 4 * CHUNK_SIZE;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (FileHandle small = open(cache, file, CHUNK_SIZE);
+             FileHandle large = open(cache, otherFile, largeChunkSize))
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; ++t)
+            {
+                boolean readsSmall = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; ++i)
+                    {
+                        // each thread reads from one file at a time, to build pressure on its slot size
+                        boolean smallPhase = (i / 200) % 2 == 0;
+                        if (smallPhase == readsSmall)
+                            readChunk(small, ThreadLocalRandom.current().nextInt(CHUNKS / 2));
+                        else
+                            readChunk(large, ThreadLocalRandom.current().nextInt(CHUNKS / 8), largeChunkSize);
+                        if (i % 100 == 0)
+                            cache.invalidatePosition(small, (long) ThreadLocalRandom.current().nextInt(CHUNKS / 2) * CHUNK_SIZE);
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+
+            assertTrue(cache.weightedSize() <= CAPACITY);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertEquals(0, cache.size());
+    }
+}
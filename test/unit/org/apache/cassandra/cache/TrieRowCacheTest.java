@@ -0,0 +1,422 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.collect.Iterators;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.SchemaLoader;
+import org.apache.cassandra.db.Clustering;
+import org.apache.cassandra.db.RowUpdateBuilder;
+import org.apache.cassandra.db.SerializationHeader;
+import org.apache.cassandra.db.marshal.AsciiType;
+import org.apache.cassandra.db.partitions.CachedBTreePartition;
+import org.apache.cassandra.db.partitions.PartitionUpdate;
+import org.apache.cassandra.db.rows.EncodingStats;
+import org.apache.cassandra.db.rows.Row;
+import org.apache.cassandra.db.rows.SerializationHelper;
+import org.apache.cassandra.db.rows.UnfilteredSerializer;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.net.MessagingService;
+import org.apache.cassandra.schema.KeyspaceParams;
+import org.apache.cassandra.schema.TableMetadata;
+import org.apache.cassandra.utils.FBUtilities;
+
+import static org.apache.cassandra.utils.Clock.Global.currentTimeMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TrieRowCacheTest
+{
+    private static final String KEYSPACE = "TrieRowCacheTest";
+    private static final String TABLE = "Standard1";
+    private static final long CAPACITY = 1 << 20;
+
+    private static TableMetadata cfm;
+
+    @BeforeClass
+    public static void defineSchema() throws ConfigurationException
+    {
+        SchemaLoader.prepareServer();
+
+        cfm = TableMetadata.builder(KEYSPACE, TABLE)
+                           .addPartitionKeyColumn("pk", AsciiType.instance)
+                           .addClusteringColumn("ck", AsciiType.instance)
+                           .addStaticColumn("s", AsciiType.instance)
+                           .addRegularColumn("v", AsciiType.instance)
+                           .build();
+
+        SchemaLoader.createKeyspace(KEYSPACE, KeyspaceParams.simple(1), cfm);
+    }
+
+    @Test
+    public void testPutGetRemove()
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 4);
+        RowCacheKey key = key("key1");
+        CachedBTreePartition partition = partition("key1", 3);
+
+        assertNull(cache.get(key));
+        cache.put(key, partition);
+        assertContent(partition, cache.get(key));
+        assertTrue(cache.containsKey(key));
+        assertFalse(cache.containsKey(key("key2")));
+        assertEquals(1, cache.size());
+        assertTrue(cache.weightedSize() > 0);
+
+        assertFalse(cache.putIfAbsent(key, partition("key1", 1)));
+        assertContent(partition, cache.get(key));
+
+        // the rows of a replaced partition are not found anymore
+        cache.put(key, partition("key1", 1));
+        assertEquals(1, ((CachedBTreePartition) cache.get(key)).rowCount());
+
+        cache.remove(key);
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+
+        // the sentinel-read-cache sequence
+        RowCacheSentinel sentinel = new RowCacheSentinel();
+        assertTrue(cache.putIfAbsent(key, sentinel));
+        assertSame(sentinel, cache.get(key));
+        assertFalse(cache.putIfAbsent(key, new RowCacheSentinel()));
+        assertFalse(cache.replace(key, new RowCacheSentinel(), partition));
+        assertTrue(cache.replace(key, sentinel, partition));
+        assertContent(partition, cache.get(key));
+
+        cache.clear();
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPartitionWithStaticRowAndDeletion()
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 1);
+        RowCacheKey key = key("key1");
+        PartitionUpdate deletion = PartitionUpdate.fullPartitionDelete(cfm, AsciiType.instance.decompose("key1"), currentTimeMillis() - 1000, FBUtilities.nowInSeconds());
+        CachedBTreePartition partition = CachedBTreePartition.create(PartitionUpdate.merge(Arrays.asList(deletion, staticRow("key1", "s1"), row("key1", 0, 1))).unfilteredIterator(),
+                                                                     FBUtilities.nowInSeconds());
+        cache.put(key, partition);
+        assertContent(partition, cache.get(key));
+
+        // the static row is updated in place, a deletion of the partition invalidates it
+        cache.update(key, staticRow("key1", "s2"), 100, FBUtilities.nowInSeconds());
+        CachedBTreePartition updated = (CachedBTreePartition) cache.get(key);
+        assertEquals("s2", value(updated.staticRow(), "s"));
+        assertEquals(partition.partitionLevelDeletion(), updated.partitionLevelDeletion());
+
+        cache.update(key, PartitionUpdate.fullPartitionDelete(cfm, AsciiType.instance.decompose("key1"), currentTimeMillis() + 1000, FBUtilities.nowInSeconds()), 100, FBUtilities.nowInSeconds());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testUpdateWholePartition()
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 4);
+        RowCacheKey key = key("key1");
+        cache.put(key, partition("key1", 3));
+
+        cache.update(key, row("key1", 5, 2), 100, FBUtilities.nowInSeconds());
+        CachedBTreePartition updated = (CachedBTreePartition) cache.get(key);
+        assertEquals(4, updated.rowCount());
+        assertEquals(4, updated.cachedLiveRows());
+        assertEquals("v5-2", value(updated.lastRow(), "v"));
+
+        // a partition growing past the rows to cache is still cached, as the head of the partition up to its last row
+        PartitionUpdate twoRows = PartitionUpdate.merge(Arrays.asList(row("key1", 6, 2), row("key1", 7, 2)));
+        cache.update(key, twoRows, 5, FBUtilities.nowInSeconds());
+        updated = (CachedBTreePartition) cache.get(key);
+        assertEquals(6, updated.rowCount());
+        assertEquals(6, updated.cachedLiveRows());
+        cache.update(key, row("key1", 8, 2), 5, FBUtilities.nowInSeconds());
+        assertEquals(6, ((CachedBTreePartition) cache.get(key)).rowCount());
+
+        // updating a key which is not cached does not cache it
+        cache.update(key("key2"), row("key2", 0, 1), 100, FBUtilities.nowInSeconds());
+        assertNull(cache.get(key("key2")));
+
+        // sentinels are removed
+        RowCacheKey sentinelKey = key("key3");
+        cache.putIfAbsent(sentinelKey, new RowCacheSentinel());
+        cache.update(sentinelKey, row("key3", 0, 1), 100, FBUtilities.nowInSeconds());
+        assertFalse(cache.containsKey(sentinelKey));
+
+        // range deletions invalidate the partition
+        cache.update(key, new RowUpdateBuilder(cfm, currentTimeMillis(), "key1").addRangeTombstone("c0", "c0").buildUpdate(), 100, FBUtilities.nowInSeconds());
+        assertFalse(cache.containsKey(key));
+    }
+
+    @Test
+    public void testUpdateHeadOfPartition()
+    {
+        // the first 2 rows of the partition are cached
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 1);
+        RowCacheKey key = key("key1");
+        cache.put(key, partition("key1", 2));
+
+        cache.update(key, row("key1", 1, 2), 2, FBUtilities.nowInSeconds());
+        CachedBTreePartition updated = (CachedBTreePartition) cache.get(key);
+        assertEquals(2, updated.rowCount());
+        assertEquals("v1-2", value(updated.getRow(Clustering.make(AsciiType.instance.decompose("c1"))), "v"));
+
+        // rows after the last cached one are not cached
+        cache.update(key, row("key1", 5, 2), 2, FBUtilities.nowInSeconds());
+        updated = (CachedBTreePartition) cache.get(key);
+        assertEquals(2, updated.rowCount());
+        assertNull(updated.getRow(Clustering.make(AsciiType.instance.decompose("c5"))));
+
+        // the head of the partition would be taken for the whole partition once it has lost live rows
+        PartitionUpdate deletion = RowUpdateBuilder.deleteRow(cfm, currentTimeMillis() + 10, "key1", "c0").getPartitionUpdate(cfm);
+        cache.update(key, deletion, 2, FBUtilities.nowInSeconds());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testUpdateOnlyTouchesUpdatedRows()
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 1);
+        RowCacheKey key = key("key1");
+        CachedBTreePartition partition = partition("key1", 10);
+        cache.put(key, partition);
+        assertEquals(weight(key, partition), cache.weightedSize());
+
+        // the partition is weighed by the serialized size of its rows, of which only the updated one changes
+        PartitionUpdate update = new RowUpdateBuilder(cfm, currentTimeMillis() + 2, "key1").clustering("c3").add("v", "a longer value").buildUpdate();
+        cache.update(key, update, 100, FBUtilities.nowInSeconds());
+        CachedBTreePartition updated = (CachedBTreePartition) cache.get(key);
+        assertEquals(weight(key, updated), cache.weightedSize());
+        for (Row row : updated)
+        {
+            Row before = partition.getRow(row.clustering());
+            if (row.clustering().equals(Clustering.make(AsciiType.instance.decompose("c3"))))
+                assertEquals("a longer value", value(row, "v"));
+            else
+                assertEquals(before, row);
+        }
+    }
+
+    @Test
+    public void testEviction()
+    {
+        CachedBTreePartition partition = partition("key", 1);
+        TrieRowCache single = new TrieRowCache(CAPACITY, 1);
+        single.put(key("key0"), partition);
+        long weight = single.weightedSize();
+
+        TrieRowCache cache = new TrieRowCache(weight * 10, 1);
+        for (int i = 0; i < 10; i++)
+            cache.put(key("key" + i), partition);
+        assertEquals(10, cache.size());
+
+        // the recently read keys survive
+        assertNotNull(cache.get(key("key0")));
+        cache.put(key("key10"), partition);
+        assertTrue(cache.weightedSize() <= weight * 10 * TrieRowCache.EVICTION_TARGET);
+        assertTrue(cache.containsKey(key("key0")));
+        assertTrue(cache.containsKey(key("key10")));
+        assertFalse(cache.containsKey(key("key1")));
+
+        cache.get(key("key0"));
+        Iterator<RowCacheKey> hot = cache.hotKeyIterator(1);
+        assertEquals(key("key0"), hot.next());
+        assertFalse(hot.hasNext());
+
+        cache.setCapacity(0);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+        cache.put(key("key0"), partition);
+        assertNull(cache.get(key("key0")));
+    }
+
+    @Test
+    public void testConcurrentUpdatesAndReads() throws Throwable
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 1);
+        RowCacheKey key = key("key1");
+        cache.put(key, partition("key1", 2));
+
+        int threads = 4;
+        int updates = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean done = new AtomicBoolean();
+        try
+        {
+            // every update writes the same value to the first two rows, which reads must see together
+            Future<?> reader = executor.submit(() -> {
+                while (!done.get())
+                {
+                    CachedBTreePartition partition = (CachedBTreePartition) cache.get(key);
+                    Row first = partition.getRow(Clustering.make(AsciiType.instance.decompose("c0")));
+                    Row second = partition.getRow(Clustering.make(AsciiType.instance.decompose("c1")));
+                    assertEquals(value(first, "v").substring(3), value(second, "v").substring(3));
+                    assertEquals(partition.rowCount(), partition.cachedLiveRows());
+                }
+            });
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < updates; i++)
+                    {
+                        int version = 2 + thread * updates + i;
+                        PartitionUpdate update = PartitionUpdate.merge(Arrays.asList(row("key1", 0, version), row("key1", 1, version), row("key1", version, 1)));
+                        cache.update(key, update, 100000, FBUtilities.nowInSeconds());
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+            done.set(true);
+            reader.get();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        // no update is lost
+        CachedBTreePartition partition = (CachedBTreePartition) cache.get(key);
+        assertEquals(2 + threads * updates, partition.rowCount());
+        assertEquals(weight(key, partition), cache.weightedSize());
+    }
+
+    @Test
+    public void testKeyIteratorAndRebuild()
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY * 16, 2);
+        CachedBTreePartition partition = partition("key", 1);
+        for (int i = 0; i < 500; i++)
+            cache.put(key("key" + i), partition);
+
+        List<RowCacheKey> keys = new ArrayList<>();
+        for (Iterator<RowCacheKey> iterator = cache.keyIterator(); iterator.hasNext(); )
+        {
+            RowCacheKey key = iterator.next();
+            keys.add(key);
+            if (keys.size() % 2 == 0)
+                iterator.remove();
+        }
+        assertEquals(500, keys.size());
+        assertEquals(250, cache.size());
+        for (int i = 0; i < keys.size(); i++)
+            assertEquals(i % 2 == 0, cache.containsKey(keys.get(i)));
+
+        for (RowCacheKey key : keys)
+            cache.remove(key);
+        assertEquals(0, cache.size());
+        assertFalse(cache.keyIterator().hasNext());
+
+        for (int i = 0; i < 500; i++)
+            cache.put(key("key" + i), partition);
+        assertEquals(500, cache.size());
+        for (int i = 0; i < 500; i++)
+            assertContent(partition, cache.get(key("key" + i)));
+    }
+
+    @Test
+    public void testRebuildReclaimsReplacedRows()
+    {
+        TrieRowCache cache = new TrieRowCache(CAPACITY, 1);
+        RowCacheKey key = key("key1");
+        cache.put(key, partition("key1", 3));
+
+        // the previous versions of the updated row take many times the size of a region before the shard is rebuilt
+        int updates = TrieRowCache.REGION_SIZE / 8;
+        for (int i = 0; i < updates; i++)
+            cache.update(key, row("key1", 1, 2 + i), 100, FBUtilities.nowInSeconds());
+
+        CachedBTreePartition partition = (CachedBTreePartition) cache.get(key);
+        assertEquals(3, partition.rowCount());
+        assertEquals("v1-" + (1 + updates), value(partition.getRow(Clustering.make(AsciiType.instance.decompose("c1"))), "v"));
+        assertEquals(weight(key, partition), cache.weightedSize());
+    }
+
+    private static void assertContent(CachedBTreePartition expected, IRowCacheEntry actual)
+    {
+        assertTrue(actual instanceof CachedBTreePartition);
+        CachedBTreePartition partition = (CachedBTreePartition) actual;
+        assertEquals(expected.partitionKey(), partition.partitionKey());
+        assertEquals(expected.partitionLevelDeletion(), partition.partitionLevelDeletion());
+        assertEquals(expected.staticRow(), partition.staticRow());
+        assertTrue(Iterators.elementsEqual(expected.iterator(), partition.iterator()));
+        assertEquals(expected.cachedLiveRows(), partition.cachedLiveRows());
+        assertEquals(expected.rowsWithNonExpiringCells(), partition.rowsWithNonExpiringCells());
+    }
+
+    private static long weight(RowCacheKey key, CachedBTreePartition partition)
+    {
+        SerializationHelper helper = new SerializationHelper(new SerializationHeader(false, cfm, partition.columns(), EncodingStats.NO_STATS));
+        long weight = key.key.length;
+        if (!partition.staticRow().isEmpty())
+            weight += UnfilteredSerializer.serializer.serializedSize(partition.staticRow(), helper, MessagingService.current_version);
+        for (Row row : partition)
+            weight += UnfilteredSerializer.serializer.serializedSize(row, helper, MessagingService.current_version);
+        return weight;
+    }
+
+    private static String value(Row row, String column)
+    {
+        return AsciiType.instance.compose(row.getCell(cfm.getColumn(AsciiType.instance.decompose(column))).buffer());
+    }
+
+    private static RowCacheKey key(String key)
+    {
+        return new RowCacheKey(cfm, cfm.partitioner.decorateKey(AsciiType.instance.decompose(key)));
+    }
+
+    private static CachedBTreePartition partition(String key, int rows)
+    {
+        List<PartitionUpdate> updates = new ArrayList<>();
+        for (int i = 0; i < rows; i++)
+            updates.add(row(key, i, 1));
+        return CachedBTreePartition.create(PartitionUpdate.merge(updates).unfilteredIterator(), FBUtilities.nowInSeconds());
+    }
+
+    private static PartitionUpdate row(String key, int row, int version)
+    {
+        return new RowUpdateBuilder(cfm, currentTimeMillis() + version, key)
+               .clustering("c" + row)
+               .add("v", "v" + row + '-' + version)
+               .buildUpdate();
+    }
+
+    private static PartitionUpdate staticRow(String key, String value)
+    {
+        return new RowUpdateBuilder(cfm, currentTimeMillis() + 1, key)
+               .add("s", value)
+               .buildUpdate();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.config.DatabaseDescriptor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.cassandra.utils.MonotonicClock.Global.approxTime;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineOrderedSEPExecutorTest
+{
+    private SharedExecutorPool sharedPool;
+    private LocalAwareExecutorPlus executor;
+
+    @BeforeClass
+    public static void beforeClass()
+    {
+        DatabaseDescriptor.daemonInitialization();
+    }
+
+    @Before
+    public void setUp()
+    {
+        sharedPool = new SharedExecutorPool("DeadlineOrderedSEPExecutorTest");
+        executor = sharedPool.newDeadlineOrderedExecutor(1, i -> {}, "internal", "DeadlineOrdered", () -> SECONDS.toNanos(30));
+    }
+
+    @After
+    public void tearDown() throws Throwable
+    {
+        sharedPool.shutdownAndWait(1L, MINUTES);
+    }
+
+    @Test
+    public void testRunsInDeadlineOrder() throws Throwable
+    {
+        CountDownLatch blocker = block();
+        List<String> order = new CopyOnWriteArrayList<>();
+        long now = approxTime.now();
+        executor.execute(new Task("late", now + SECONDS.toNanos(20), order));
+        executor.execute(new Task("early", now + SECONDS.toNanos(5), order));
+        executor.execute(new Task("middle", now + SECONDS.toNanos(10), order));
+        // not a deadline task, so due after the default timeout of 30 seconds
+        executor.execute(() -> order.add("undated"));
+
+        blocker.countDown();
+        awaitSize(order, 4);
+        assertThat(order).containsExactly("early", "middle", "late", "undated");
+    }
+
+    @Test
+    public void testShedsExpiredTasks() throws Throwable
+    {
+        CountDownLatch blocker = block();
+        List<String> order = new CopyOnWriteArrayList<>();
+        long now = approxTime.now();
+        executor.execute(new Task("expired", now - 1, order));
+        executor.execute(new Task("live", now + SECONDS.toNanos(10), order));
+
+        blocker.countDown();
+        awaitSize(order, 2);
+        assertThat(order).containsExactly("shed:expired", "live");
+        assertThat(((DeadlineOrderedSEPExecutor) executor).averageRunTimeNanos()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testOldestTaskQueueTime() throws Throwable
+    {
+        DeadlineOrderedSEPExecutor ordered = (DeadlineOrderedSEPExecutor) executor;
+        assertThat(ordered.oldestTaskQueueTime()).isEqualTo(0L);
+
+        CountDownLatch blocker = block();
+        List<String> order = new CopyOnWriteArrayList<>();
+        long now = approxTime.now();
+        executor.execute(new Task("late", now + SECONDS.toNanos(20), order));
+        Thread.sleep(100);
+        // the recent task is at the head of the queue, but the queue time is the one of the oldest task
+        executor.execute(new Task("early", now + SECONDS.toNanos(5), order));
+        assertThat(ordered.oldestTaskQueueTime()).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(90));
+
+        blocker.countDown();
+        awaitSize(order, 2);
+        assertThat(order).containsExactly("early", "late");
+        assertThat(ordered.oldestTaskQueueTime()).isEqualTo(0L);
+    }
+
+    /**
+     * Occupies the only thread of the executor until the returned latch is released.
+     */
+    private CountDownLatch block() throws InterruptedException
+    {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try
+            {
+                blocker.await();
+            }
+            catch (InterruptedException e)
+            {
+                throw new AssertionError(e);
+            }
+        });
+        started.await();
+        return blocker;
+    }
+
+    private static void awaitSize(List<String> order, int size) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (order.size() < size && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertThat(order).hasSize(size);
+    }
+
+    private static class Task implements DeadlineTask
+    {
+        private final String name;
+        private final long deadlineNanos;
+        private final List<String> order;
+
+        Task(String name, long deadlineNanos, List<String> order)
+        {
+            this.name = name;
+            this.deadlineNanos = deadlineNanos;
+            this.order = order;
+        }
+
+        @Override
+        public void run()
+        {
+            order.add(name);
+        }
+
+        @Override
+        public long deadlineNanos()
+        {
+            return deadlineNanos;
+        }
+
+        @Override
+        public void shed(long nowNanos)
+        {
+            order.add("shed:" + name);
+        }
+    }
+}
@@ -88,6 +88,8 @@ public class DatabaseDescriptorRefTest
     "org.apache.cassandra.config.Config$DiskAccessMode",
     "org.apache.cassandra.config.Config$DiskFailurePolicy",
     "org.apache.cassandra.config.Config$DiskOptimizationStrategy",
+    "org.apache.cassandra.config.Config$FileCacheBackend",
+    "org.apache.cassandra.config.Config$FileCacheMode",
     "org.apache.cassandra.config.Config$FlushCompression",
     "org.apache.cassandra.config.Config$InternodeCompression",
     "org.apache.cassandra.config.Config$MemtableAllocationType",
@@ -148,6 +150,7 @@ public class DatabaseDescriptorRefTest
     "org.apache.cassandra.config.RetrySpec$MaxAttempt",
     "org.apache.cassandra.config.RetrySpec$Type",
     "org.apache.cassandra.config.ReplicaFilteringProtectionOptions",
+    "org.apache.cassandra.config.SegregatedCommitLogOptions",
     "org.apache.cassandra.config.StartupChecksOptions",
     "org.apache.cassandra.config.SubnetGroups",
     "org.apache.cassandra.config.TrackWarnings",
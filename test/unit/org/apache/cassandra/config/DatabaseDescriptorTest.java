@@ -841,9 +841,9 @@ public class DatabaseDescriptorTest
             DatabaseDescriptor.setCommitLogCompression(new ParameterizedClass("LZ4Compressor", null));
             DatabaseDescriptor.setEncryptionContext(null);
             DatabaseDescriptor.getRawConfig().disk_optimization_strategy = Config.DiskOptimizationStrategy.spinning;
-            assertCommitLogDiskAccessModes(Config.DiskAccessMode.standard, Config.DiskAccessMode.standard, Config.DiskAccessMode.standard);
+            assertCommitLogDiskAccessModes(Config.DiskAccessMode.standard, Config.DiskAccessMode.standard, Config.DiskAccessMode.standard, Config.DiskAccessMode.direct);
             DatabaseDescriptor.getRawConfig().disk_optimization_strategy = Config.DiskOptimizationStrategy.ssd;
-            assertCommitLogDiskAccessModes(Config.DiskAccessMode.standard, Config.DiskAccessMode.standard, Config.DiskAccessMode.standard);
+            assertCommitLogDiskAccessModes(Config.DiskAccessMode.standard, Config.DiskAccessMode.standard, Config.DiskAccessMode.standard, Config.DiskAccessMode.direct);
 
             // encryption enabled
             DatabaseDescriptor.setCommitLogCompression(null);
@@ -78,6 +78,15 @@ public class ColumnsTest
             catch (IOException e)
             {
             }
+
+            try (DataInputBuffer in = new DataInputBuffer(out.toByteArray()))
+            {
+                Columns.serializer.applyToSubset(minus2, in, column -> {});
+                Assert.fail();
+            }
+            catch (IOException e)
+            {
+            }
         }
     }
 
@@ -258,6 +267,10 @@ public class ColumnsTest
             Assert.assertEquals(subset, deserialized);
             Assert.assertEquals(subset.hashCode(), deserialized.hashCode());
             assertContents(deserialized, subsetDefinitions);
+
+            List<ColumnMetadata> applied = new ArrayList<>();
+            Columns.serializer.applyToSubset(superset, new DataInputBuffer(out.buffer(), false), applied::add);
+            Assert.assertEquals(subsetDefinitions, applied);
         }
     }
 
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.commitlog;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.config.ParameterizedClass;
+import org.apache.cassandra.security.EncryptionContext;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveGroupCommitLogTest extends CommitLogTest
+{
+    public AdaptiveGroupCommitLogTest(ParameterizedClass commitLogCompression, EncryptionContext encryptionContext)
+    {
+        super(commitLogCompression, encryptionContext);
+    }
+
+    @BeforeClass
+    public static void setCommitLogModeDetails()
+    {
+        DatabaseDescriptor.daemonInitialization();
+        DatabaseDescriptor.setCommitLogSync(Config.CommitLogSync.group);
+        DatabaseDescriptor.setCommitLogSyncGroupWindow(15);
+        DatabaseDescriptor.setCommitLogSyncGroupAdaptive(true);
+        beforeClass();
+    }
+
+    @Test
+    public void testAdaptiveSyncInterval()
+    {
+        long maxInterval = MILLISECONDS.toNanos(15);
+        double syncLatency = MILLISECONDS.toNanos(2);
+
+        // before any sync, and when less than one write arrives per sync, writes are synced immediately
+        assertTrue(GroupCommitLogService.isIdle(0, 0));
+        assertTrue(GroupCommitLogService.isIdle(syncLatency, 0.1 / syncLatency));
+        assertEquals(maxInterval, GroupCommitLogService.adaptiveSyncIntervalNanos(syncLatency, 0.1 / syncLatency, maxInterval));
+
+        // under load, syncs are spaced by the sync latency
+        assertFalse(GroupCommitLogService.isIdle(syncLatency, 10 / syncLatency));
+        assertEquals((long) syncLatency, GroupCommitLogService.adaptiveSyncIntervalNanos(syncLatency, 10 / syncLatency, maxInterval));
+
+        // bounded by the configured window
+        double slowSync = MILLISECONDS.toNanos(100);
+        assertEquals(maxInterval, GroupCommitLogService.adaptiveSyncIntervalNanos(slowSync, 10 / slowSync, maxInterval));
+    }
+}
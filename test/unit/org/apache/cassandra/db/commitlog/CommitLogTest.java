@@ -110,6 +110,7 @@ import org.apache.cassandra.utils.vint.VIntCoding;
 
 import static java.lang.String.format;
 import static org.apache.cassandra.config.CassandraRelevantProperties.COMMITLOG_IGNORE_REPLAY_ERRORS;
+import static org.apache.cassandra.config.CassandraRelevantProperties.COMMITLOG_REPLAY_THREADS;
 import static org.apache.cassandra.config.CassandraRelevantProperties.COMMIT_LOG_REPLAY_LIST;
 import static org.apache.cassandra.db.commitlog.CommitLogSegment.ENTRY_OVERHEAD_SIZE;
 import static org.apache.cassandra.utils.ByteBufferUtil.bytes;
@@ -1230,6 +1231,41 @@ public abstract class CommitLogTest
         testOutOfOrderFlushRecovery(recycleSegments, true);
     }
 
+    @Test
+    public void testConcurrentReplay() throws IOException
+    {
+        CommitLog.instance.resetUnsafe(true);
+        ColumnFamilyStore cfs = Keyspace.open(KEYSPACE1).getColumnFamilyStore(STANDARD1);
+
+        int segments = 4;
+        for (int segment = 0; segment < segments; segment++)
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                new RowUpdateBuilder(cfs.metadata(), 0, "k" + segment)
+                .clustering("c" + i).add("val", ByteBuffer.allocate(100))
+                .build()
+                .apply();
+            }
+            CommitLog.instance.segmentManager.advanceAllocatingFrom(CommitLog.instance.segmentManager.allocatingFrom());
+        }
+        cfs.clearUnsafe();
+        CommitLog.instance.sync(true);
+
+        long replayedSegments = CommitLog.instance.metrics.replayedSegments.getCount();
+        long replayedMutations = CommitLog.instance.metrics.replayedMutations.getCount();
+        try (WithProperties properties = new WithProperties().set(COMMITLOG_REPLAY_THREADS, 4)
+                                                             .set(COMMIT_LOG_REPLAY_LIST, KEYSPACE1 + '.' + STANDARD1))
+        {
+            assertEquals(segments * 10, CommitLog.instance.resetUnsafe(false));
+        }
+
+        assertTrue(CommitLog.instance.metrics.replayedSegments.getCount() - replayedSegments >= segments);
+        assertEquals(0, CommitLog.instance.metrics.pendingReplaySegments.getCount());
+        assertEquals(segments * 10, CommitLog.instance.metrics.replayedMutations.getCount() - replayedMutations);
+        assertEquals(segments, Util.getAll(Util.cmd(cfs).build()).size());
+    }
+
     @Test
     public void testRecoveryWithCollectionClusteringKeysStatic() throws Exception
     {
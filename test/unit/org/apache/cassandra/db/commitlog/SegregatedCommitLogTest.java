@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.db.commitlog;
+
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.apache.cassandra.config.DataStorageSpec;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.config.SegregatedCommitLogOptions;
+import org.apache.cassandra.cql3.CQLTester;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.db.RowUpdateBuilder;
+import org.apache.cassandra.io.util.File;
+import org.apache.cassandra.schema.TableId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SegregatedCommitLogTest extends CQLTester
+{
+    private static final int MUTATIONS = 10;
+
+    @Test
+    public void testSegregatedKeyspace() throws Throwable
+    {
+        String segregatedKeyspace = createKeyspace("CREATE KEYSPACE %s WITH replication = {'class': 'SimpleStrategy', 'replication_factor': '1'}");
+        String segregatedTable = createTable(segregatedKeyspace, "CREATE TABLE %s (pk int PRIMARY KEY, v int)");
+        createTable("CREATE TABLE %s (pk int PRIMARY KEY, v int)");
+        ColumnFamilyStore segregatedCfs = Keyspace.open(segregatedKeyspace).getColumnFamilyStore(segregatedTable);
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+
+        File directory = new File(Files.createTempDirectory("commitlog"));
+        File segregatedDirectory = new File(Files.createTempDirectory("commitlog"));
+        Map<String, SegregatedCommitLogOptions> previousOptions = DatabaseDescriptor.getSegregatedCommitLogs();
+        DatabaseDescriptor.setSegregatedCommitLogs(Collections.singletonMap(segregatedKeyspace,
+                                                                            new SegregatedCommitLogOptions(segregatedDirectory.path(),
+                                                                                                           new DataStorageSpec.IntMebibytesBound(64))));
+
+        CommitLogArchiver archiver = CommitLogArchiver.disabled();
+        CommitLog keyspaceLog = new CommitLog(archiver, c -> new CommitLogSegmentManagerStandard(c, segregatedDirectory.path()),
+                                              segregatedKeyspace, Collections.emptyMap());
+        CommitLog commitLog = new CommitLog(archiver, c -> new CommitLogSegmentManagerStandard(c, directory.path()),
+                                            null, Collections.singletonMap(segregatedKeyspace, keyspaceLog));
+        try
+        {
+            commitLog.start();
+            assertSame(keyspaceLog, commitLog.forKeyspace(segregatedKeyspace));
+            assertSame(commitLog, commitLog.forKeyspace(keyspace()));
+            assertEquals(64, keyspaceLog.getTotalSpaceInMiB());
+            assertEquals(DatabaseDescriptor.getTotalCommitlogSpaceInMiB(), commitLog.getTotalSpaceInMiB());
+
+            for (int i = 0; i < MUTATIONS; i++)
+            {
+                commitLog.forKeyspace(segregatedKeyspace).add(new RowUpdateBuilder(segregatedCfs.metadata(), 0, i).add("v", i).build());
+                commitLog.forKeyspace(keyspace()).add(new RowUpdateBuilder(cfs.metadata(), 0, i).add("v", i).build());
+            }
+
+            // each commit log only retains the tables of its keyspaces
+            assertEquals(Collections.singleton(segregatedCfs.metadata.id), dirtyTables(keyspaceLog));
+            assertEquals(Collections.singleton(cfs.metadata.id), dirtyTables(commitLog));
+
+            // the segments of both commit logs are replayed on restart
+            commitLog.stopUnsafe(false);
+            assertEquals(2 * MUTATIONS, commitLog.restartUnsafe());
+            assertEquals(MUTATIONS, execute("SELECT * FROM " + segregatedKeyspace + '.' + segregatedTable).size());
+        }
+        finally
+        {
+            commitLog.stopUnsafe(true);
+            DatabaseDescriptor.setSegregatedCommitLogs(previousOptions);
+        }
+    }
+
+    @Test
+    public void testReplaysLeftoverSegments() throws Throwable
+    {
+        String segregatedKeyspace = createKeyspace("CREATE KEYSPACE %s WITH replication = {'class': 'SimpleStrategy', 'replication_factor': '1'}");
+        String segregatedTable = createTable(segregatedKeyspace, "CREATE TABLE %s (pk int PRIMARY KEY, v int)");
+        ColumnFamilyStore segregatedCfs = Keyspace.open(segregatedKeyspace).getColumnFamilyStore(segregatedTable);
+
+        File directory = new File(Files.createTempDirectory("commitlog"));
+        File segregatedDirectory = new File(Files.createTempDirectory("commitlog"));
+        Map<String, SegregatedCommitLogOptions> previousOptions = DatabaseDescriptor.getSegregatedCommitLogs();
+        DatabaseDescriptor.setSegregatedCommitLogs(Collections.singletonMap(segregatedKeyspace,
+                                                                            new SegregatedCommitLogOptions(segregatedDirectory.path(),
+                                                                                                           new DataStorageSpec.IntMebibytesBound(64))));
+
+        CommitLogArchiver archiver = CommitLogArchiver.disabled();
+        CommitLog keyspaceLog = new CommitLog(archiver, c -> new CommitLogSegmentManagerStandard(c, segregatedDirectory.path()),
+                                              segregatedKeyspace, Collections.emptyMap());
+        CommitLog commitLog = new CommitLog(archiver, c -> new CommitLogSegmentManagerStandard(c, directory.path()),
+                                            null, Collections.singletonMap(segregatedKeyspace, keyspaceLog));
+        try
+        {
+            commitLog.start();
+            for (int i = 0; i < MUTATIONS; i++)
+                keyspaceLog.add(new RowUpdateBuilder(segregatedCfs.metadata(), 0, i).add("v", i).build());
+            commitLog.stopUnsafe(false);
+        }
+        finally
+        {
+            DatabaseDescriptor.setSegregatedCommitLogs(previousOptions);
+        }
+
+        // the keyspace is no longer segregated, but the segments left in its directory are replayed
+        commitLog = new CommitLog(archiver, c -> new CommitLogSegmentManagerStandard(c, directory.path()));
+        try
+        {
+            assertTrue(commitLog.hasFilesToReplay());
+            assertEquals(MUTATIONS, commitLog.restartUnsafe());
+            assertEquals(MUTATIONS, execute("SELECT * FROM " + segregatedKeyspace + '.' + segregatedTable).size());
+            assertEquals(0, segregatedDirectory.tryList().length);
+            assertFalse(new File(directory, CommitLog.SEGREGATED_DIRECTORIES_FILE).exists());
+        }
+        finally
+        {
+            commitLog.stopUnsafe(true);
+        }
+    }
+
+    private static Set<TableId> dirtyTables(CommitLog commitLog)
+    {
+        Set<TableId> tables = new HashSet<>();
+        for (CommitLogSegment segment : commitLog.segmentManager.getActiveSegments())
+            tables.addAll(segment.getDirtyTableIds());
+        return tables;
+    }
+}
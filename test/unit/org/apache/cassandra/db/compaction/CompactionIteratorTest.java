@@ -17,6 +17,7 @@
  */
 package org.apache.cassandra.db.compaction;
 
+import static org.apache.cassandra.config.CassandraRelevantProperties.COMPACTION_SKIP_MERGE_OF_DISJOINT_PARTITIONS;
 import static org.apache.cassandra.config.CassandraRelevantProperties.DIAGNOSTIC_SNAPSHOT_INTERVAL_NANOS;
 import static org.apache.cassandra.db.transform.DuplicateRowCheckerTest.assertCommandIssued;
 import static org.apache.cassandra.db.transform.DuplicateRowCheckerTest.makeRow;
@@ -44,6 +45,7 @@ import org.apache.cassandra.db.Keyspace;
 import org.apache.cassandra.db.marshal.Int32Type;
 import org.apache.cassandra.db.marshal.UTF8Type;
 import org.apache.cassandra.db.partitions.AbstractUnfilteredPartitionIterator;
+import org.apache.cassandra.distributed.shared.WithProperties;
 import org.apache.cassandra.db.rows.*;
 import org.apache.cassandra.io.sstable.ISSTableScanner;
 import org.apache.cassandra.io.sstable.format.SSTableReader;
@@ -494,6 +496,58 @@ public class CompactionIteratorTest extends CQLTester
         assertCommandIssued(sentMessages, true);
     }
 
+    @Test
+    public void testSkipMergeOfDisjointPartitions() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, ck int, v int, PRIMARY KEY (pk, ck))");
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        cfs.disableAutoCompaction();
+        for (int pk = 0; pk < 10; pk++)
+            execute("INSERT INTO %s (pk, ck, v) VALUES (?, 0, 0)", pk);
+        flush();
+        for (int pk = 5; pk < 15; pk++)
+            execute("INSERT INTO %s (pk, ck, v) VALUES (?, 0, 1)", pk);
+        // a tombstone within gc grace does not prevent skipping the merge
+        execute("DELETE FROM %s WHERE pk = 12 AND ck = 1");
+        flush();
+
+        List<String> merged;
+        try (WithProperties properties = new WithProperties().set(COMPACTION_SKIP_MERGE_OF_DISJOINT_PARTITIONS, false))
+        {
+            merged = compactToStrings(cfs);
+        }
+        assertEquals(merged, compactToStrings(cfs));
+        assertEquals(15, merged.size());
+    }
+
+    private List<String> compactToStrings(ColumnFamilyStore cfs)
+    {
+        Set<SSTableReader> sstables = cfs.getLiveSSTables();
+        List<ISSTableScanner> scanners = new ArrayList<>();
+        for (SSTableReader sstable : sstables)
+            scanners.add(sstable.getScanner());
+
+        long nowInSec = FBUtilities.nowInSeconds();
+        List<String> partitions = new ArrayList<>();
+        try (CompactionController controller = new CompactionController(cfs, sstables, cfs.gcBefore(nowInSec));
+             CompactionIterator iter = new CompactionIterator(OperationType.COMPACTION, scanners, controller, nowInSec, null))
+        {
+            while (iter.hasNext())
+            {
+                try (UnfilteredRowIterator partition = iter.next())
+                {
+                    StringBuilder sb = new StringBuilder(partition.partitionKey().toString());
+                    partition.forEachRemaining(u -> sb.append(' ').append(u.toString(cfs.metadata(), true)));
+                    partitions.add(sb.toString());
+                }
+            }
+            assertEquals(21, iter.getTotalSourceCQLRows());
+            assertEquals(10, iter.getMergedRowCounts()[0]);
+            assertEquals(5, iter.getMergedRowCounts()[1]);
+        }
+        return partitions;
+    }
+
     private void iterate(Unfiltered...unfiltereds)
     {
         ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.FileStore;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -217,6 +218,37 @@ public class CompactionsCQLTest extends CQLTester
         testSetLocalCompactionStrategy(UnifiedCompactionStrategy.class);
     }
 
+    @Test
+    public void testParallelShardedCompaction() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, ck int, v int, PRIMARY KEY (pk, ck)) WITH compaction = {'class': 'SizeTieredCompactionStrategy', 'enabled': false}");
+        for (int i = 0; i < 3; i++)
+        {
+            for (int pk = 0; pk < 100; pk++)
+                execute("INSERT INTO %s (pk, ck, v) VALUES (?, ?, ?)", pk, i, i);
+            flush();
+        }
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        Set<SSTableReader> originals = cfs.getLiveSSTables();
+        assertEquals(3, originals.size());
+
+        execute("ALTER TABLE %s WITH compaction = {'class': 'UnifiedCompactionStrategy', 'enabled': false, 'base_shard_count': 4, " +
+                "'min_sstable_size': '0B', 'sstable_growth': 1, 'parallelize_output_shards': true}");
+        Collection<AbstractCompactionTask> tasks = cfs.getCompactionStrategyManager().getMaximalTasks(Integer.MAX_VALUE, false, OperationType.MAJOR_COMPACTION);
+        assertEquals(1, tasks.size());
+        CompactionTask task = (CompactionTask) tasks.iterator().next();
+        // all the sstables span the 4 shards, one part is compacted for each of them
+        assertEquals(4, task.getParallelSplit(originals).ranges().size());
+        task.execute(ActiveCompactionsTracker.NOOP);
+
+        // the parts are committed together, replacing all the originals
+        Set<SSTableReader> compacted = cfs.getLiveSSTables();
+        assertEquals(4, compacted.size());
+        assertTrue(Collections.disjoint(originals, compacted));
+        assertEquals(300, execute("SELECT * FROM %s").size());
+        assertRows(execute("SELECT v FROM %s WHERE pk = 42"), row(0), row(1), row(2));
+    }
+
     private void testSetLocalCompactionStrategy(Class<? extends AbstractCompactionStrategy> strategy) throws Throwable
     {
         createTable(String.format("CREATE TABLE %%s (id text PRIMARY KEY) with compaction = {'class': '%s'}", strategy.getSimpleName()));
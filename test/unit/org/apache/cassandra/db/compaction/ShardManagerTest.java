@@ -378,6 +378,36 @@ public class ShardManagerTest
         return (int) Math.round(partitioner.getMinimumToken().size(t) * 100.0);
     }
 
+    @Test
+    public void testShardBoundariesWithin()
+    {
+        weightedRanges.add(new Splitter.WeightedRange(1.0, new Range<>(minimumToken, minimumToken)));
+        ShardManager shardManager = new ShardManagerNoDisks(weightedRanges);
+
+        Token first = tokenAt(0.2);
+        Token last = tokenAt(0.7);
+        List<Token> boundaries = shardManager.shardBoundariesWithin(first, last, 8);
+        assertEquals(4, boundaries.size());
+        for (int i = 0; i < boundaries.size(); ++i)
+        {
+            assertEquals((i + 2) / 8.0, minimumToken.size(boundaries.get(i)), 1e-6);
+            assertTrue(boundaries.get(i).compareTo(first) >= 0 && boundaries.get(i).compareTo(last) < 0);
+        }
+
+        assertEquals(ImmutableList.of(), shardManager.shardBoundariesWithin(tokenAt(0.3), tokenAt(0.35), 8));
+        assertEquals(ImmutableList.of(), shardManager.shardBoundariesWithin(first, last, 1));
+
+        // parts are split at boundaries as evenly as possible, and together cover the whole token space
+        List<Range<Token>> parts = CompactionTask.splitAtBoundaries(boundaries, 3, partitioner);
+        assertEquals(ImmutableList.of(new Range<>(minimumToken, boundaries.get(0)),
+                                      new Range<>(boundaries.get(0), boundaries.get(2)),
+                                      new Range<>(boundaries.get(2), minimumToken)),
+                     parts);
+        assertEquals(5, CompactionTask.splitAtBoundaries(boundaries, 8, partitioner).size());
+        Assert.assertNull(CompactionTask.splitAtBoundaries(boundaries, 1, partitioner));
+        Assert.assertNull(CompactionTask.splitAtBoundaries(ImmutableList.of(), 8, partitioner));
+    }
+
     @Test
     public void testRangeEnds()
     {
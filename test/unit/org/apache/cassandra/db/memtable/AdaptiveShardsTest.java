@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.db.memtable;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.cassandra.cql3.CQLTester;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.dht.Murmur3Partitioner;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.tcm.Epoch;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveShardsTest extends CQLTester
+{
+    private static final IPartitioner partitioner = Murmur3Partitioner.instance;
+    private static final Token minimumToken = partitioner.getMinimumToken();
+
+    @Test
+    public void testBalancedBoundaries()
+    {
+        ShardBoundaries shards = new ShardBoundaries(new Token[]{ tokenAt(0.25), tokenAt(0.5), tokenAt(0.75) }, Epoch.EMPTY);
+
+        // evenly distributed writes keep the boundaries where they are
+        List<Token> boundaries = AbstractShardedMemtable.balancedBoundaries(shards, new long[]{ 1000, 1000, 1000, 1000 }, 2, partitioner);
+        assertEquals(1, boundaries.size());
+        assertEquals(0.5, position(boundaries.get(0)), 1e-6);
+
+        // a hot shard is split in several shards
+        boundaries = AbstractShardedMemtable.balancedBoundaries(shards, new long[]{ 0, 100000, 0, 0 }, 4, partitioner);
+        assertEquals(3, boundaries.size());
+        assertEquals(0.3125, position(boundaries.get(0)), 1e-3);
+        assertEquals(0.375, position(boundaries.get(1)), 1e-3);
+        assertEquals(0.4375, position(boundaries.get(2)), 1e-3);
+
+        // the last shard extends to the end of the token space
+        boundaries = AbstractShardedMemtable.balancedBoundaries(shards, new long[]{ 0, 0, 0, 100000 }, 2, partitioner);
+        assertEquals(1, boundaries.size());
+        assertEquals(0.875, position(boundaries.get(0)), 1e-3);
+    }
+
+    @Test
+    public void testShardCountAdaptsToContention() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int PRIMARY KEY, v int) WITH memtable = 'trie_adaptive'");
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        flush();
+
+        for (int i = 0; i < 2000; ++i)
+            execute("INSERT INTO %s (pk, v) VALUES (?, ?)", i, i);
+
+        // writes from a single thread are never contended, so the shard count is halved on every switch
+        AbstractShardedMemtable memtable = (AbstractShardedMemtable) cfs.getCurrentMemtable();
+        int shardCount = memtable.boundaries.shardCount();
+        assertEquals(Math.max(1, shardCount / 2), memtable.nextShardCount(4));
+        long writes = 0;
+        for (int i = 0; i < shardCount; ++i)
+        {
+            writes += memtable.shardWrites(i);
+            assertEquals(0, memtable.contendedShardWrites(i));
+        }
+        assertEquals(2000, writes);
+
+        flush();
+        assertEquals(Math.max(1, shardCount / 2), ((AbstractShardedMemtable) cfs.getCurrentMemtable()).boundaries.shardCount());
+
+        execute("INSERT INTO %s (pk, v) VALUES (?, ?)", 2000, 2000);
+        for (int i = 0; i <= 2000; i += 100)
+            assertRows(execute("SELECT v FROM %s WHERE pk = ?", i), row(i));
+    }
+
+    private static Token tokenAt(double position)
+    {
+        return partitioner.split(minimumToken, minimumToken, position);
+    }
+
+    private static double position(Token token)
+    {
+        return minimumToken.size(token);
+    }
+}
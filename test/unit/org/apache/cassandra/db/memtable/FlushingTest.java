@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.db.memtable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.cassandra.cql3.CQLTester;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.Keyspace;
+import org.apache.cassandra.db.PartitionPosition;
+import org.apache.cassandra.db.commitlog.CommitLog;
+import org.apache.cassandra.db.commitlog.CommitLogPosition;
+import org.apache.cassandra.db.compaction.UnifiedCompactionStrategy;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.distributed.shared.WithProperties;
+import org.apache.cassandra.io.sstable.format.SSTableReader;
+
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_FLUSH_BATCH_THRESHOLD;
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_FLUSH_MAX_PARALLEL_PARTS;
+import static org.apache.cassandra.config.CassandraRelevantProperties.MEMTABLE_FLUSH_SPLIT_AT_MEMTABLE_SHARDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlushingTest extends CQLTester
+{
+    private static final int PARTITIONS = 1000;
+
+    @Test
+    public void testSplitAtCompactionShards() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int PRIMARY KEY, v int) WITH compaction = " +
+                    "{'class': 'UnifiedCompactionStrategy', 'base_shard_count': '8', 'min_sstable_size': '0B', 'sstable_growth': '1.0'}");
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        disableCompaction();
+        insert();
+
+        try (WithProperties properties = new WithProperties().set(MEMTABLE_FLUSH_MAX_PARALLEL_PARTS, 4))
+        {
+            Memtable memtable = cfs.getCurrentMemtable();
+            Token minimum = cfs.getPartitioner().getMinimumToken();
+            List<Token> shardBoundaries = ((UnifiedCompactionStrategy) cfs.getCompactionStrategyManager().getUnrepairedStrategy(0))
+                                          .flushShardBoundaries(minimum, cfs.getPartitioner().getMaximumToken());
+            assertEquals(7, shardBoundaries.size());
+
+            // the parts are split at every other compaction shard boundary
+            List<PartitionPosition> splitPoints = Flushing.splitPoints(cfs, memtable, minimum.minKeyBound(), null, 0);
+            assertEquals(3, splitPoints.size());
+            for (int i = 0; i < splitPoints.size(); i++)
+                assertEquals(shardBoundaries.get(2 * i + 1).maxKeyBound(), splitPoints.get(i));
+
+            flush();
+        }
+
+        // the flush produces the same sstables as a single writer would, one per compaction shard
+        assertEquals(8, cfs.getLiveSSTables().size());
+        assertNonOverlapping(cfs);
+        assertRowCount(execute("SELECT * FROM %s"), PARTITIONS);
+    }
+
+    @Test
+    public void testSplitAtMemtableShards() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int PRIMARY KEY, v int) WITH memtable = 'trie' AND compaction = {'class': 'SizeTieredCompactionStrategy'}");
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        disableCompaction();
+
+        // by default, flushes of tables not using UCS are not split
+        insert();
+        assertTrue(Flushing.splitPoints(cfs, cfs.getCurrentMemtable(), null, null, 0).isEmpty());
+        flush();
+        assertEquals(1, cfs.getLiveSSTables().size());
+        cfs.truncateBlocking();
+
+        try (WithProperties properties = new WithProperties().set(MEMTABLE_FLUSH_MAX_PARALLEL_PARTS, 4)
+                                                             .set(MEMTABLE_FLUSH_SPLIT_AT_MEMTABLE_SHARDS, true))
+        {
+            insert();
+            AbstractShardedMemtable memtable = (AbstractShardedMemtable) cfs.getCurrentMemtable();
+            ShardBoundaries shardBoundaries = memtable.shardBoundaries();
+            assertEquals(4, shardBoundaries.shardCount());
+
+            List<PartitionPosition> splitPoints = Flushing.splitPoints(cfs, memtable, null, null, 0);
+            assertEquals(3, splitPoints.size());
+            for (int i = 0; i < splitPoints.size(); i++)
+                assertEquals(shardBoundaries.boundary(i).minKeyBound(), splitPoints.get(i));
+
+            // a single part when splitting is disabled
+            try (WithProperties disabled = new WithProperties().set(MEMTABLE_FLUSH_MAX_PARALLEL_PARTS, 1))
+            {
+                assertTrue(Flushing.splitPoints(cfs, memtable, null, null, 0).isEmpty());
+            }
+
+            flush();
+        }
+
+        assertEquals(4, cfs.getLiveSSTables().size());
+        assertNonOverlapping(cfs);
+        assertRowCount(execute("SELECT * FROM %s"), PARTITIONS);
+        for (int i = 0; i < PARTITIONS; i += 97)
+            assertRows(execute("SELECT v FROM %s WHERE pk = ?", i), row(i));
+    }
+
+    @Test
+    public void testFlushTogether() throws Throwable
+    {
+        List<ColumnFamilyStore> tables = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+            tables.add(Keyspace.open(KEYSPACE).getColumnFamilyStore(createTable("CREATE TABLE %s (pk int PRIMARY KEY, v text)")));
+        disableCompaction();
+        ColumnFamilyStore large = tables.get(0);
+        ColumnFamilyStore clean = tables.get(3);
+
+        try (WithProperties properties = new WithProperties().set(MEMTABLE_FLUSH_BATCH_THRESHOLD, "4KiB"))
+        {
+            // the large table is flushed on its own, the small ones together, and the clean one not at all
+            for (int pk = 0; pk < 100; pk++)
+                insert(large, pk, "a fairly long value, written to make the memtable of this table larger than the threshold");
+            insert(tables.get(1), 0, "small");
+            insert(tables.get(2), 0, "small");
+            assertTrue(large.getCurrentMemtable().getLiveDataSize() >= 4096);
+
+            CommitLogPosition beforeFlush = CommitLog.instance.getCurrentPosition();
+            ColumnFamilyStore.forceFlushTogether(tables, ColumnFamilyStore.FlushReason.USER_FORCED, null).get();
+            for (ColumnFamilyStore cfs : tables)
+            {
+                assertTrue(cfs.getCurrentMemtable().isClean());
+                assertEquals(cfs == clean ? 0 : 1, cfs.getLiveSSTables().size());
+            }
+            assertRowCount(execute(String.format("SELECT * FROM %s.%s", KEYSPACE, large.name)), 100);
+            assertRows(execute(String.format("SELECT v FROM %s.%s WHERE pk = 0", KEYSPACE, tables.get(1).name)), row("small"));
+
+            // only the tables with data written before the given commit log position are flushed: none of those
+            // written since the flush above, then both
+            insert(tables.get(1), 1, "small");
+            insert(tables.get(2), 1, "small");
+            ColumnFamilyStore.forceFlushTogether(tables, ColumnFamilyStore.FlushReason.COMMITLOG_DIRTY, beforeFlush).get();
+            assertFalse(tables.get(1).getCurrentMemtable().isClean());
+            assertEquals(1, tables.get(1).getLiveSSTables().size());
+
+            ColumnFamilyStore.forceFlushTogether(tables, ColumnFamilyStore.FlushReason.COMMITLOG_DIRTY, CommitLog.instance.getCurrentPosition()).get();
+            assertEquals(2, tables.get(1).getLiveSSTables().size());
+            assertEquals(2, tables.get(2).getLiveSSTables().size());
+            assertRowCount(execute(String.format("SELECT * FROM %s.%s", KEYSPACE, tables.get(2).name)), 2);
+        }
+    }
+
+    private void insert(ColumnFamilyStore cfs, int pk, String value) throws Throwable
+    {
+        execute(String.format("INSERT INTO %s.%s (pk, v) VALUES (?, ?)", KEYSPACE, cfs.name), pk, value);
+    }
+
+    private void insert() throws Throwable
+    {
+        for (int i = 0; i < PARTITIONS; i++)
+            execute("INSERT INTO %s (pk, v) VALUES (?, ?)", i, i);
+    }
+
+    private static void assertNonOverlapping(ColumnFamilyStore cfs)
+    {
+        List<SSTableReader> sstables = new ArrayList<>(cfs.getLiveSSTables());
+        sstables.sort(SSTableReader.firstKeyComparator);
+        for (int i = 1; i < sstables.size(); i++)
+            assertTrue(sstables.get(i - 1).getLast().compareTo(sstables.get(i).getFirst()) < 0);
+    }
+}
@@ -63,7 +63,9 @@ public class MemtableQuickTest extends CQLTester
         return ImmutableList.of("skiplist",
                                 "skiplist_sharded",
                                 "skiplist_sharded_locking",
-                                "trie");
+                                "trie",
+                                "trie_adaptive",
+                                "trie_concurrent_updates");
     }
 
     @BeforeClass
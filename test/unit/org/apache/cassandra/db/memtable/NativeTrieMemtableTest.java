@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.db.memtable;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.cql3.CQLTester;
+import org.apache.cassandra.db.ColumnFamilyStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NativeTrieMemtableTest extends CQLTester
+{
+    private static final int PARTITIONS = 100;
+    private static final int ROWS = 10;
+
+    // Overrides CQLTester.setUpClass to run before it
+    @BeforeClass
+    public static void setUpClass()
+    {
+        MemtableSizeTestBase.setup(Config.MemtableAllocationType.offheap_objects);
+    }
+
+    @Test
+    public void testReadsAndFlush() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, ck int, s int static, v int, PRIMARY KEY (pk, ck)) WITH memtable = 'trie_native'");
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        disableCompaction();
+        Memtable memtable = cfs.getCurrentMemtable();
+        assertTrue(memtable instanceof NativeTrieMemtable);
+
+        for (int i = 0; i < PARTITIONS; i++)
+        {
+            execute("INSERT INTO %s (pk, s) VALUES (?, ?)", i, i);
+            for (int j = 0; j < ROWS; j++)
+                execute("INSERT INTO %s (pk, ck, v) VALUES (?, ?, ?)", i, j, j);
+        }
+
+        // updates, row, range and partition deletions
+        execute("UPDATE %s SET v = ? WHERE pk = ? AND ck = ?", 100, 1, 5);
+        execute("UPDATE %s SET s = ? WHERE pk = ?", 100, 1);
+        execute("DELETE FROM %s WHERE pk = ? AND ck = ?", 2, 5);
+        execute("DELETE FROM %s WHERE pk = ? AND ck >= ? AND ck < ?", 3, 2, 8);
+        execute("DELETE FROM %s WHERE pk = ?", 4);
+        execute("INSERT INTO %s (pk, ck, v) VALUES (?, ?, ?)", 3, 4, 4);
+
+        assertEquals(PARTITIONS, memtable.partitionCount());
+        assertTrue(memtable.getLiveDataSize() > 0);
+
+        checkContent();
+        flush();
+        assertEquals(1, cfs.getLiveSSTables().size());
+        checkContent();
+    }
+
+    private void checkContent() throws Throwable
+    {
+        assertRows(execute("SELECT ck, s, v FROM %s WHERE pk = ? AND ck >= ? AND ck <= ?", 0, 3, 5),
+                   row(3, 0, 3), row(4, 0, 4), row(5, 0, 5));
+        assertRows(execute("SELECT ck, s, v FROM %s WHERE pk = ? AND ck > ? AND ck < ? ORDER BY ck DESC", 0, 3, 6),
+                   row(5, 0, 5), row(4, 0, 4));
+        assertRows(execute("SELECT ck, v FROM %s WHERE pk = ? AND ck IN (?, ?, ?)", 0, 1, 7, 42),
+                   row(1, 1), row(7, 7));
+
+        assertRows(execute("SELECT s, v FROM %s WHERE pk = ? AND ck = ?", 1, 5), row(100, 100));
+        assertEmpty(execute("SELECT v FROM %s WHERE pk = ? AND ck = ?", 2, 5));
+        assertRowCount(execute("SELECT * FROM %s WHERE pk = ?", 2), ROWS - 1);
+        assertRows(execute("SELECT ck FROM %s WHERE pk = ?", 3),
+                   row(0), row(1), row(4), row(8), row(9));
+        assertEmpty(execute("SELECT * FROM %s WHERE pk = ?", 4));
+        assertEmpty(execute("SELECT * FROM %s WHERE pk = ?", PARTITIONS));
+
+        assertRowCount(execute("SELECT * FROM %s"), PARTITIONS * ROWS - 1 - 5 - ROWS);
+        assertRowCount(execute("SELECT * FROM %s WHERE ck = ? ALLOW FILTERING", 5), PARTITIONS - 3);
+        assertRowCount(execute("SELECT DISTINCT pk, s FROM %s"), PARTITIONS - 1);
+    }
+}
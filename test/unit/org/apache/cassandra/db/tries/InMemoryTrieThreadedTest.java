@@ -26,6 +26,8 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -43,6 +45,7 @@ public class InMemoryTrieThreadedTest
     private static final int PROGRESS_UPDATE = COUNT / 15;
     private static final int READERS = 8;
     private static final int WALKERS = 2;
+    private static final int UPDATERS = 8;
     private static final Random rand = new Random();
 
     static String value(ByteComparable b)
@@ -158,4 +161,64 @@ public class InMemoryTrieThreadedTest
         if (!errors.isEmpty())
             Assert.fail("Got errors:\n" + errors);
     }
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException
+    {
+        int keys = 1000;
+        int updates = 100000;
+        ByteComparable[] src = generateKeys(rand, keys);
+        InMemoryTrie<Integer> trie = new InMemoryTrie<>(BufferType.ON_HEAP);
+        InMemoryTrie.UpsertTransformer<Integer, Integer> add = (x, y) -> x == null ? y : x + y;
+        ReentrantLock insertLock = new ReentrantLock();
+        AtomicIntegerArray expected = new AtomicIntegerArray(keys);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < UPDATERS; ++i)
+            threads.add(new Thread(() -> {
+                try
+                {
+                    Random r = ThreadLocalRandom.current();
+                    for (int j = 0; j < updates; ++j)
+                    {
+                        int index = r.nextInt(keys);
+                        if (!trie.updateExisting(src[index], 1, add))
+                        {
+                            insertLock.lock();
+                            try
+                            {
+                                if (!trie.updateExisting(src[index], 1, add))
+                                    trie.putRecursive(src[index], 1, add);
+                            }
+                            finally
+                            {
+                                insertLock.unlock();
+                            }
+                        }
+                        expected.incrementAndGet(index);
+                    }
+                }
+                catch (Throwable t)
+                {
+                    t.printStackTrace();
+                    errors.add(t);
+                }
+            }));
+
+        for (Thread t : threads)
+            t.start();
+
+        for (Thread t : threads)
+            t.join();
+
+        if (!errors.isEmpty())
+            Assert.fail("Got errors:\n" + errors);
+
+        for (int i = 0; i < keys; ++i)
+        {
+            Integer value = trie.get(src[i]);
+            Assert.assertEquals(expected.get(i), value == null ? 0 : value.intValue());
+        }
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.io.sstable.format;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.common.collect.Iterables;
+import org.junit.Test;
+
+import org.apache.cassandra.config.CassandraRelevantProperties;
+import org.apache.cassandra.cql3.CQLTester;
+import org.apache.cassandra.db.BufferClusteringBound;
+import org.apache.cassandra.db.Clustering;
+import org.apache.cassandra.db.ClusteringBound;
+import org.apache.cassandra.db.ClusteringComparator;
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.db.DecoratedKey;
+import org.apache.cassandra.db.Slice;
+import org.apache.cassandra.db.Slices;
+import org.apache.cassandra.db.filter.ClusteringIndexFilter;
+import org.apache.cassandra.db.filter.ClusteringIndexNamesFilter;
+import org.apache.cassandra.db.filter.ClusteringIndexSliceFilter;
+import org.apache.cassandra.db.marshal.Int32Type;
+import org.apache.cassandra.utils.btree.BTreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ClusteringPrefixFilterTest extends CQLTester
+{
+    private static final int MAX_ENTRIES_PER_PARTITION = CassandraRelevantProperties.CLUSTERING_FILTER_MAX_ENTRIES_PER_PARTITION.getInt();
+
+    @Test
+    public void testSkipsSSTablesWithoutPrefix() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, c1 int, c2 int, v int, PRIMARY KEY (pk, c1, c2)) WITH clustering_filter_fp_chance = 0.0001");
+        disableCompaction();
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        DecoratedKey key = cfs.decorateKey(Int32Type.instance.decompose(0));
+
+        for (int c1 = 0; c1 < 10; c1++)
+            for (int c2 = 0; c2 < 3; c2++)
+                execute("INSERT INTO %s (pk, c1, c2, v) VALUES (0, ?, ?, ?)", c1, c2, c1 * c2);
+        SSTableReader rows = flushSSTable(cfs);
+
+        execute("INSERT INTO %s (pk, c1, c2, v) VALUES (0, 100, 0, 0)");
+        SSTableReader other = flushSSTable(cfs);
+
+        assertTrue(rows.getComponents().contains(SSTableFormat.Components.CLUSTERING_FILTER));
+
+        assertTrue(rows.mayContainClusterings(key, slice(cfs, 5)));
+        assertFalse(rows.mayContainClusterings(key, slice(cfs, 100)));
+        assertTrue(other.mayContainClusterings(key, slice(cfs, 100)));
+        assertFalse(other.mayContainClusterings(key, slice(cfs, 5)));
+
+        assertTrue(rows.mayContainClusterings(key, names(cfs, 5, 1)));
+        assertFalse(rows.mayContainClusterings(key, names(cfs, 100, 0)));
+        assertTrue(rows.mayContainClusterings(key, names(cfs, 100, 0, 5, 1)));
+
+        // slices over several first clustering values cannot be filtered
+        Slice range = Slice.make(BufferClusteringBound.inclusiveStartOf(Int32Type.instance.decompose(50)), ClusteringBound.TOP);
+        assertTrue(rows.mayContainClusterings(key, new ClusteringIndexSliceFilter(Slices.with(cfs.metadata().comparator, range), false)));
+
+        // another partition with the same clustering
+        DecoratedKey otherKey = cfs.decorateKey(Int32Type.instance.decompose(1));
+        assertFalse(other.mayContainClusterings(otherKey, slice(cfs, 100)));
+
+        assertRows(execute("SELECT c1, c2, v FROM %s WHERE pk = 0 AND c1 = 100"), row(100, 0, 0));
+        assertRows(execute("SELECT c1, c2, v FROM %s WHERE pk = 0 AND c1 = 5 AND c2 > 1"), row(5, 2, 10));
+    }
+
+    @Test
+    public void testRangeTombstones() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, c1 int, c2 int, v int, PRIMARY KEY (pk, c1, c2)) WITH clustering_filter_fp_chance = 0.0001");
+        disableCompaction();
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        DecoratedKey key = cfs.decorateKey(Int32Type.instance.decompose(0));
+
+        for (int c1 = 0; c1 < 10; c1++)
+            execute("INSERT INTO %s (pk, c1, c2, v) VALUES (0, ?, 0, 0)", c1);
+        flush();
+
+        // a tombstone within a single first clustering value is recorded as that value
+        execute("DELETE FROM %s WHERE pk = 0 AND c1 = 7 AND c2 >= 0");
+        SSTableReader single = flushSSTable(cfs);
+        assertTrue(single.mayContainClusterings(key, slice(cfs, 7)));
+        assertFalse(single.mayContainClusterings(key, slice(cfs, 3)));
+
+        // a tombstone over several first clustering values matches all of them
+        execute("DELETE FROM %s WHERE pk = 0 AND c1 > 2 AND c1 < 5");
+        SSTableReader spanning = flushSSTable(cfs);
+        assertTrue(spanning.mayContainClusterings(key, slice(cfs, 3)));
+        assertTrue(spanning.mayContainClusterings(key, slice(cfs, 100)));
+
+        assertEmpty(execute("SELECT * FROM %s WHERE pk = 0 AND c1 = 7"));
+        assertEmpty(execute("SELECT * FROM %s WHERE pk = 0 AND c1 = 3"));
+        assertRows(execute("SELECT c1 FROM %s WHERE pk = 0 AND c1 = 5"), row(5));
+    }
+
+    @Test
+    public void testSizedFromDistinctPrefixes() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, c1 int, c2 int, v int, PRIMARY KEY (pk, c1, c2)) WITH clustering_filter_fp_chance = 0.01");
+        disableCompaction();
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        assertEquals(10, ClusteringPrefixFilter.estimateEntries(cfs.metadata(), 10));
+
+        // without sstables, from the rows per partition of the memtable, up to the cap
+        for (int c2 = 0; c2 < 10; c2++)
+            execute("INSERT INTO %s (pk, c1, c2, v) VALUES (0, 0, ?, 0)", c2);
+        assertEquals(10 * 10, ClusteringPrefixFilter.estimateEntries(cfs.metadata(), 10));
+        for (int c2 = 10; c2 < 1000; c2++)
+            execute("INSERT INTO %s (pk, c1, c2, v) VALUES (0, 0, ?, 0)", c2);
+        assertEquals(10 * MAX_ENTRIES_PER_PARTITION, ClusteringPrefixFilter.estimateEntries(cfs.metadata(), 10));
+
+        // a wide partition with a single first clustering value makes a single entry
+        flushSSTable(cfs);
+        assertEquals(1000, cfs.getMeanRowCount());
+        assertEquals(1.0, cfs.getClusteringPrefixesPerPartition(), 0.0);
+        assertEquals(10, ClusteringPrefixFilter.estimateEntries(cfs.metadata(), 10));
+    }
+
+    @Test
+    public void testSizedWithinCap() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, c1 int, v int, PRIMARY KEY (pk, c1)) WITH clustering_filter_fp_chance = 0.01");
+        disableCompaction();
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+
+        // a wide partition with as many entries as rows, which its filter is sized for up to the cap only, but still
+        // matches all of
+        for (int c1 = 0; c1 < 1000; c1++)
+            execute("INSERT INTO %s (pk, c1, v) VALUES (0, ?, 0)", c1);
+        SSTableReader sstable = flushSSTable(cfs);
+        DecoratedKey key = cfs.decorateKey(Int32Type.instance.decompose(0));
+        for (int c1 = 0; c1 < 1000; c1++)
+            assertTrue(sstable.mayContainClusterings(key, slice(cfs, c1)));
+
+        assertEquals(1000.0, cfs.getClusteringPrefixesPerPartition(), 0.0);
+        assertEquals(10 * MAX_ENTRIES_PER_PARTITION, ClusteringPrefixFilter.estimateEntries(cfs.metadata(), 10));
+        assertEquals(MAX_ENTRIES_PER_PARTITION, ClusteringPrefixFilter.estimateEntries(cfs.metadata(), 0));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Throwable
+    {
+        createTable("CREATE TABLE %s (pk int, c1 int, v int, PRIMARY KEY (pk, c1))");
+        ColumnFamilyStore cfs = getCurrentColumnFamilyStore();
+        assertEquals(1.0, cfs.metadata().params.clusteringFilterFpChance, 0.0);
+
+        execute("INSERT INTO %s (pk, c1, v) VALUES (0, 0, 0)");
+        SSTableReader sstable = flushSSTable(cfs);
+        assertFalse(sstable.getComponents().contains(SSTableFormat.Components.CLUSTERING_FILTER));
+        assertTrue(sstable.mayContainClusterings(cfs.decorateKey(Int32Type.instance.decompose(0)), slice(cfs, 100)));
+
+        execute("ALTER TABLE %s WITH clustering_filter_fp_chance = 0.01");
+        assertEquals(0.01, cfs.metadata().params.clusteringFilterFpChance, 0.0);
+        execute("INSERT INTO %s (pk, c1, v) VALUES (0, 1, 0)");
+        assertTrue(flushSSTable(cfs).getComponents().contains(SSTableFormat.Components.CLUSTERING_FILTER));
+
+        assertInvalidMessage("clustering_filter_fp_chance must be larger than",
+                             "ALTER TABLE %s WITH clustering_filter_fp_chance = 0");
+    }
+
+    private SSTableReader flushSSTable(ColumnFamilyStore cfs)
+    {
+        Set<SSTableReader> before = new HashSet<>(cfs.getLiveSSTables());
+        flush();
+        return Iterables.getOnlyElement(Iterables.filter(cfs.getLiveSSTables(), s -> !before.contains(s)));
+    }
+
+    private static ClusteringIndexFilter slice(ColumnFamilyStore cfs, int c1)
+    {
+        ClusteringComparator comparator = cfs.metadata().comparator;
+        return new ClusteringIndexSliceFilter(Slices.with(comparator, Slice.make(comparator, c1)), false);
+    }
+
+    private static ClusteringIndexFilter names(ColumnFamilyStore cfs, int... values)
+    {
+        ClusteringComparator comparator = cfs.metadata().comparator;
+        BTreeSet.Builder<Clustering<?>> clusterings = BTreeSet.builder(comparator);
+        for (int i = 0; i < values.length; i += 2)
+            clusterings.add(comparator.make(values[i], values[i + 1]));
+        return new ClusteringIndexNamesFilter(clusterings.build(), false);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.cassandra.io.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.config.DatabaseDescriptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkPrefetchExecutorTest
+{
+    @BeforeClass
+    public static void setup()
+    {
+        DatabaseDescriptor.daemonInitialization();
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        ChunkPrefetchExecutor executor = new ChunkPrefetchExecutor(0);
+        AtomicInteger runs = new AtomicInteger();
+        executor.prefetch(runs::incrementAndGet);
+        assertFalse(executor.isEnabled());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    public void testFailuresAreNotPropagated() throws InterruptedException
+    {
+        ChunkPrefetchExecutor executor = new ChunkPrefetchExecutor(1);
+        try
+        {
+            CountDownLatch done = new CountDownLatch(1);
+            executor.prefetch(() -> { throw new RuntimeException("failed read"); });
+            executor.prefetch(done::countDown);
+            assertTrue(executor.isEnabled());
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPrefetchesDroppedWhenSaturated() throws InterruptedException
+    {
+        ChunkPrefetchExecutor executor = new ChunkPrefetchExecutor(1);
+        try
+        {
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.prefetch(() -> {
+                blocked.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+            // more than the queue can hold; the excess is dropped rather than blocking or failing the caller
+            AtomicInteger runs = new AtomicInteger();
+            int submitted = 1000;
+            CountDownLatch ran = new CountDownLatch(1);
+            for (int i = 0; i < submitted; i++)
+                executor.prefetch(() -> { runs.incrementAndGet(); ran.countDown(); });
+            release.countDown();
+
+            assertTrue(ran.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            assertTrue(runs.get() > 0);
+            assertTrue(runs.get() < submitted);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest
+{
+    private static final int MIN = 10;
+    private static final int MAX = 100;
+
+    @Test
+    public void testCapacity()
+    {
+        AtomicBoolean enabled = new AtomicBoolean(false);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(enabled::get, () -> MIN, () -> MAX);
+
+        // nothing is counted while disabled
+        assertNull(limiter.acquire(Message.Type.EXECUTE));
+        assertTrue(limiter.hasCapacity(Message.Type.EXECUTE));
+
+        enabled.set(true);
+        for (int i = 0; i < MIN; i++)
+        {
+            assertTrue(limiter.hasCapacity(Message.Type.EXECUTE));
+            assertNotNull(limiter.acquire(Message.Type.EXECUTE));
+        }
+        assertFalse(limiter.hasCapacity(Message.Type.EXECUTE));
+
+        // each type has a limit of its own, and only the requests doing coordinator work are limited
+        assertTrue(limiter.hasCapacity(Message.Type.QUERY));
+        assertTrue(limiter.hasCapacity(Message.Type.PREPARE));
+        assertNull(limiter.acquire(Message.Type.PREPARE));
+
+        limiter.limit(Message.Type.EXECUTE).release();
+        assertTrue(limiter.hasCapacity(Message.Type.EXECUTE));
+    }
+
+    @Test
+    public void testGrowsWhileLatencyIsSteady()
+    {
+        AdaptiveConcurrencyLimiter.Limit limit = limit();
+        for (int i = 0; i < 1000; i++)
+            limit.update(1000, limit.limit(), false);
+        assertEquals(MAX, limit.limit());
+    }
+
+    @Test
+    public void testNotRaisedWhileUnderused()
+    {
+        AdaptiveConcurrencyLimiter.Limit limit = limit();
+        for (int i = 0; i < 1000; i++)
+            limit.update(1000, 1, false);
+        assertEquals(MIN, limit.limit());
+    }
+
+    @Test
+    public void testShrinksAsLatencyRises()
+    {
+        AdaptiveConcurrencyLimiter.Limit limit = limit();
+        for (int i = 0; i < 1000; i++)
+            limit.update(1000, limit.limit(), false);
+        int grown = limit.limit();
+
+        for (int i = 0; i < 20; i++)
+            limit.update(10_000, limit.limit(), false);
+        assertTrue(limit.limit() < grown);
+    }
+
+    @Test
+    public void testBacksOffOnDrop()
+    {
+        AdaptiveConcurrencyLimiter.Limit limit = limit();
+        for (int i = 0; i < 1000; i++)
+            limit.update(1000, limit.limit(), false);
+        assertEquals(MAX, limit.limit());
+
+        limit.update(1000, limit.limit(), true);
+        assertEquals((int) (MAX * AdaptiveConcurrencyLimiter.BACKOFF_RATIO), limit.limit());
+
+        for (int i = 0; i < 100; i++)
+            limit.update(1000, limit.limit(), true);
+        assertEquals(MIN, limit.limit());
+    }
+
+    private static AdaptiveConcurrencyLimiter.Limit limit()
+    {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(() -> true, () -> MIN, () -> MAX);
+        return limiter.limit(Message.Type.EXECUTE);
+    }
+}
@@ -658,6 +658,12 @@ public class CQLConnectionTest
         {
             return true;
         }
+
+        @Override
+        public boolean hasConcurrencyCapacity(Message.Type type)
+        {
+            return true;
+        }
     }
 
     static class ServerConfigurator extends PipelineConfigurator
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.cql3.ColumnIdentifier;
+import org.apache.cassandra.cql3.ColumnSpecification;
+import org.apache.cassandra.cql3.ResultSet;
+import org.apache.cassandra.db.marshal.BytesType;
+import org.apache.cassandra.net.FrameEncoder;
+import org.apache.cassandra.transport.messages.ResultMessage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FramePayloadBodyTest
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        DatabaseDescriptor.daemonInitialization();
+    }
+
+    @Test
+    public void testSmallBodyIsNotAllocatedInFrames()
+    {
+        ResultMessage.Rows rows = rows(1, 1024);
+        FramePayloadBody payloadBody = new FramePayloadBody(FrameEncoder.PayloadAllocator.simple);
+        Envelope envelope = encode(rows, payloadBody);
+        Envelope expected = rows.encode(ProtocolVersion.V5);
+        try
+        {
+            assertFalse(payloadBody.isAllocated());
+            assertArrayEquals(bytes(expected), bytes(envelope));
+        }
+        finally
+        {
+            envelope.release();
+            expected.release();
+        }
+    }
+
+    @Test
+    public void testSingleFrame()
+    {
+        testEncodedInFrames(rows(2, FramePayloadBody.MIN_BODY_SIZE), 1);
+    }
+
+    @Test
+    public void testMultipleFrames()
+    {
+        // a megabyte blob, and values spanning the boundaries between frames
+        testEncodedInFrames(rows(1, 1 << 20), 9);
+        testEncodedInFrames(rows(10, 100 * 1024), 8);
+    }
+
+    private static void testEncodedInFrames(ResultMessage.Rows rows, int frames)
+    {
+        FramePayloadBody payloadBody = new FramePayloadBody(FrameEncoder.PayloadAllocator.simple);
+        Envelope envelope = encode(rows, payloadBody);
+        Envelope expected = rows.encode(ProtocolVersion.V5);
+        try
+        {
+            assertTrue(payloadBody.isAllocated());
+            List<FrameEncoder.Payload> payloads = payloadBody.payloadsToSend(envelope);
+            assertEquals(frames, payloads.size());
+
+            ByteBuffer sent = ByteBuffer.allocate(CQLMessageHandler.envelopeSize(envelope.header));
+            for (FrameEncoder.Payload payload : payloads)
+            {
+                payload.finish();
+                assertTrue(payload.buffer.remaining() <= Flusher.MAX_FRAMED_PAYLOAD_SIZE);
+                sent.put(payload.buffer.duplicate());
+                payload.release();
+            }
+            assertFalse(sent.hasRemaining());
+            assertArrayEquals(bytes(expected), sent.array());
+        }
+        finally
+        {
+            envelope.release();
+            expected.release();
+        }
+    }
+
+    @Test
+    public void testFlush()
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ResultMessage.Rows rows = rows(1, 200 * 1024);
+        FramePayloadBody payloadBody = new FramePayloadBody(FrameEncoder.PayloadAllocator.simple);
+        Envelope envelope = encode(rows, payloadBody);
+        Envelope expected = rows.encode(ProtocolVersion.V5);
+        AtomicBoolean released = new AtomicBoolean();
+        try
+        {
+            Flusher flusher = Flusher.immediate(channel.eventLoop());
+            flusher.enqueue(new Flusher.FlushItem.Framed(channel, envelope, null, FrameEncoder.PayloadAllocator.simple, payloadBody, item -> {
+                released.set(true);
+                item.response.release();
+            }));
+            flusher.run();
+            assertTrue(released.get());
+
+            // the payloads the body was encoded in are sent as they are, the first one with the envelope header
+            ByteBuffer sent = ByteBuffer.allocate(CQLMessageHandler.envelopeSize(envelope.header));
+            int frames = 0;
+            FrameEncoder.Payload payload;
+            while ((payload = channel.readOutbound()) != null)
+            {
+                frames++;
+                sent.put(payload.buffer.duplicate());
+                payload.release();
+            }
+            assertEquals(2, frames);
+            assertFalse(sent.hasRemaining());
+            assertArrayEquals(bytes(expected), sent.array());
+        }
+        finally
+        {
+            expected.release();
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    private static Envelope encode(Message message, FramePayloadBody payloadBody)
+    {
+        return message.encode(ProtocolVersion.V5, payloadBody);
+    }
+
+    private static ResultMessage.Rows rows(int count, int valueSize)
+    {
+        Random random = new Random(count);
+        List<List<ByteBuffer>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            byte[] value = new byte[valueSize];
+            random.nextBytes(value);
+            rows.add(Collections.singletonList(ByteBuffer.wrap(value)));
+        }
+        ColumnSpecification column = new ColumnSpecification("ks", "cf", new ColumnIdentifier("v", false), BytesType.instance);
+        ResultMessage.Rows message = new ResultMessage.Rows(new ResultSet(new ResultSet.ResultMetadata(Collections.singletonList(column)), rows));
+        message.setStreamId(1);
+        return message;
+    }
+
+    private static byte[] bytes(Envelope envelope)
+    {
+        ByteBuffer bytes = ByteBuffer.allocate(CQLMessageHandler.envelopeSize(envelope.header));
+        envelope.encodeHeaderInto(bytes);
+        envelope.body.getBytes(envelope.body.readerIndex(), bytes);
+        return bytes.array();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import org.apache.cassandra.config.Config;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.cql3.CQLTester;
+import org.apache.cassandra.dht.Murmur3Partitioner;
+import org.apache.cassandra.dht.Range;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.metrics.ClientMetrics;
+import org.apache.cassandra.tcm.ClusterMetadata;
+import org.apache.cassandra.tcm.ownership.TokenMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InlineExecutionTest extends CQLTester
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        requireNetwork();
+    }
+
+    @After
+    public void disableInlineExecution()
+    {
+        DatabaseDescriptor.setNativeTransportInlineLocalRequestsEnabled(false);
+    }
+
+    @Test
+    public void testLocalRequestsExecuteInline()
+    {
+        createTable("CREATE TABLE %s (pk int, ck int, v int, PRIMARY KEY (pk, ck)) WITH speculative_retry = 'NONE'");
+        Session session = sessionNet();
+        PreparedStatement write = session.prepare(formatQuery("INSERT INTO %s (pk, ck, v) VALUES (?, ?, ?)"));
+        PreparedStatement read = session.prepare(formatQuery("SELECT v FROM %s WHERE pk = ? AND ck = ?"));
+        PreparedStatement conditionalWrite = session.prepare(formatQuery("INSERT INTO %s (pk, ck, v) VALUES (?, ?, ?) IF NOT EXISTS"));
+        PreparedStatement scan = session.prepare(formatQuery("SELECT v FROM %s"));
+
+        // disabled by default
+        long inline = ClientMetrics.instance.getRequestsExecutedInline();
+        session.execute(write.bind(0, 0, 0).setConsistencyLevel(ConsistencyLevel.ONE));
+        assertEquals(inline, ClientMetrics.instance.getRequestsExecutedInline());
+
+        DatabaseDescriptor.setNativeTransportInlineLocalRequestsEnabled(true);
+        session.execute(write.bind(1, 1, 1).setConsistencyLevel(ConsistencyLevel.ONE));
+        assertEquals(1, session.execute(read.bind(1, 1).setConsistencyLevel(ConsistencyLevel.LOCAL_ONE)).one().getInt("v"));
+        assertEquals(inline + 2, ClientMetrics.instance.getRequestsExecutedInline());
+
+        // requests which may need other replicas, or more than a single partition, go through the request executor
+        assertEquals(1, session.execute(read.bind(1, 1).setConsistencyLevel(ConsistencyLevel.QUORUM)).one().getInt("v"));
+        assertEquals(2, session.execute(scan.bind().setConsistencyLevel(ConsistencyLevel.ONE)).all().size());
+        session.execute(conditionalWrite.bind(2, 2, 2).setConsistencyLevel(ConsistencyLevel.ONE));
+        assertEquals(inline + 2, ClientMetrics.instance.getRequestsExecutedInline());
+    }
+
+    @Test
+    public void testRequestsWhichMayBlockDoNotExecuteInline()
+    {
+        String speculating = createTable("CREATE TABLE %s (pk int, ck int, v int, PRIMARY KEY (pk, ck)) WITH speculative_retry = '99p'");
+        String table = createTable("CREATE TABLE %s (pk int, ck int, v int, PRIMARY KEY (pk, ck)) WITH speculative_retry = 'NONE'");
+        Session session = sessionNet();
+        PreparedStatement speculatingRead = session.prepare(String.format("SELECT v FROM %s.%s WHERE pk = ? AND ck = ?", KEYSPACE, speculating));
+        PreparedStatement write = session.prepare(String.format("INSERT INTO %s.%s (pk, ck, v) VALUES (?, ?, ?)", KEYSPACE, table));
+        DatabaseDescriptor.setNativeTransportInlineLocalRequestsEnabled(true);
+
+        // a read which may speculate on another replica
+        long inline = ClientMetrics.instance.getRequestsExecutedInline();
+        session.execute(speculatingRead.bind(0, 0).setConsistencyLevel(ConsistencyLevel.ONE));
+        assertEquals(inline, ClientMetrics.instance.getRequestsExecutedInline());
+
+        // a write which waits for the commit log to be synced
+        Config.CommitLogSync sync = DatabaseDescriptor.getCommitLogSync();
+        try
+        {
+            DatabaseDescriptor.setCommitLogSync(Config.CommitLogSync.group);
+            session.execute(write.bind(0, 0, 0).setConsistencyLevel(ConsistencyLevel.ONE));
+            assertEquals(inline, ClientMetrics.instance.getRequestsExecutedInline());
+        }
+        finally
+        {
+            DatabaseDescriptor.setCommitLogSync(sync);
+        }
+
+        // the same writes, the second one with the plan of the partition cached, once the commit log is periodic again
+        session.execute(write.bind(0, 0, 0).setConsistencyLevel(ConsistencyLevel.ONE));
+        session.execute(write.bind(0, 0, 1).setConsistencyLevel(ConsistencyLevel.ONE));
+        assertEquals(inline + 2, ClientMetrics.instance.getRequestsExecutedInline());
+    }
+
+    @Test
+    public void testPlansAreCachedPerTokenRange()
+    {
+        createTable("CREATE TABLE %s (pk int, ck int, v int, PRIMARY KEY (pk, ck)) WITH speculative_retry = 'NONE'");
+        Session session = sessionNet();
+        PreparedStatement write = session.prepare(formatQuery("INSERT INTO %s (pk, ck, v) VALUES (?, ?, ?)"));
+        DatabaseDescriptor.setNativeTransportInlineLocalRequestsEnabled(true);
+        InlineExecution.clearPlans();
+
+        long inline = ClientMetrics.instance.getRequestsExecutedInline();
+        int partitions = 100;
+        for (int pk = 0; pk < partitions; pk++)
+            session.execute(write.bind(pk, 0, 0).setConsistencyLevel(ConsistencyLevel.ONE));
+        assertEquals(inline + partitions, ClientMetrics.instance.getRequestsExecutedInline());
+
+        // one plan per range of the ring the partitions fall in, however many partitions
+        int ranges = ClusterMetadata.current().tokenMap.toRanges().size();
+        long cached = InlineExecution.cachedPlans();
+        assertTrue(cached + " plans cached for " + ranges + " ranges", cached >= 1 && cached <= ranges);
+    }
+
+    @Test
+    public void testOwningRange()
+    {
+        List<Range<Token>> ranges = TokenMap.toRanges(ImmutableList.of(token(-100), token(0), token(100)), Murmur3Partitioner.instance);
+        Token min = Murmur3Partitioner.instance.getMinimumToken();
+        assertEquals(new Range<>(min, token(-100)), InlineExecution.owningRange(ranges, token(-1000)));
+        assertEquals(new Range<>(min, token(-100)), InlineExecution.owningRange(ranges, token(-100)));
+        assertEquals(new Range<>(token(-100), token(0)), InlineExecution.owningRange(ranges, token(-99)));
+        assertEquals(new Range<>(token(0), token(100)), InlineExecution.owningRange(ranges, token(50)));
+        assertEquals(new Range<>(token(100), min), InlineExecution.owningRange(ranges, token(101)));
+        assertEquals(new Range<>(token(100), min), InlineExecution.owningRange(ranges, min));
+
+        List<Range<Token>> ring = TokenMap.toRanges(ImmutableList.of(token(0)), Murmur3Partitioner.instance);
+        assertEquals(new Range<>(token(0), min), InlineExecution.owningRange(ring, token(Long.MAX_VALUE)));
+        for (long t : new long[]{ Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE })
+            assertTrue(InlineExecution.owningRange(ring, token(t)).contains(token(t)));
+    }
+
+    private static Token token(long token)
+    {
+        return new Murmur3Partitioner.LongToken(token);
+    }
+}
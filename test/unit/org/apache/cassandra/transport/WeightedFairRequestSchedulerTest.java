@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.cassandra.transport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.cassandra.concurrent.DebuggableTask.RunnableDebuggableTask;
+import org.apache.cassandra.concurrent.LocalAwareExecutorPlus;
+import org.apache.cassandra.config.DatabaseDescriptor;
+import org.apache.cassandra.config.ParameterizedClass;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.metrics.ClientMetrics;
+import org.apache.cassandra.utils.MonotonicClock;
+
+import static org.apache.cassandra.concurrent.ExecutorFactory.Global.executorFactory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WeightedFairRequestSchedulerTest
+{
+    private static LocalAwareExecutorPlus executor;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        DatabaseDescriptor.daemonInitialization();
+        executor = executorFactory().localAware().pooled("WeightedFairRequestSchedulerTest", 1);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testWeightedShares() throws Exception
+    {
+        WeightedFairRequestScheduler scheduler = scheduler(ImmutableMap.of("weights", "heavy:2,light:1"));
+        CountDownLatch blocker = block(scheduler);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 6; i++)
+        {
+            assertTrue(scheduler.schedule("heavy", task(order, "heavy"), executor));
+            assertTrue(scheduler.schedule("light", task(order, "light"), executor));
+        }
+        assertEquals(12, scheduler.pendingRequests());
+        assertTrue(scheduler.oldestQueueTimeNanos() >= 0);
+
+        blocker.countDown();
+        awaitCompletion(scheduler, order, 12);
+
+        // the first six requests executed are split 2:1 between the tenants
+        assertEquals(4, order.subList(0, 6).stream().filter("heavy"::equals).count());
+    }
+
+    @Test
+    public void testNewTenantNotDelayedByBacklog() throws Exception
+    {
+        WeightedFairRequestScheduler scheduler = scheduler(ImmutableMap.of());
+        CountDownLatch blocker = block(scheduler);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 20; i++)
+            assertTrue(scheduler.schedule("flood", task(order, "flood"), executor));
+        assertTrue(scheduler.schedule("newcomer", task(order, "newcomer"), executor));
+
+        blocker.countDown();
+        awaitCompletion(scheduler, order, 21);
+        assertTrue(order.indexOf("newcomer") <= 1);
+    }
+
+    @Test
+    public void testRejection() throws Exception
+    {
+        WeightedFairRequestScheduler scheduler = scheduler(ImmutableMap.of("max_queue_depth", "2"));
+        CountDownLatch blocker = block(scheduler);
+        ClientMetrics.TenantMetrics metrics = ClientMetrics.instance.tenantMetrics("rejected");
+        long rejected = metrics.rejected.getCount();
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        assertTrue(scheduler.schedule("rejected", task(order, "rejected"), executor));
+        assertTrue(scheduler.schedule("rejected", task(order, "rejected"), executor));
+        assertFalse(scheduler.schedule("rejected", task(order, "rejected"), executor));
+        assertEquals(rejected + 1, metrics.rejected.getCount());
+        assertEquals(2, metrics.queueDepth.get());
+
+        // other tenants have queues of their own
+        assertTrue(scheduler.schedule("accepted", task(order, "accepted"), executor));
+
+        blocker.countDown();
+        awaitCompletion(scheduler, order, 3);
+        assertEquals(0, metrics.queueDepth.get());
+        assertTrue(metrics.latency.getCount() >= 1);
+    }
+
+    @Test
+    public void testRunNow() throws Exception
+    {
+        WeightedFairRequestScheduler scheduler = scheduler(ImmutableMap.of("max_queue_depth", "1"));
+        ClientMetrics.TenantMetrics metrics = ClientMetrics.instance.tenantMetrics("inline");
+        long latencies = metrics.latency.getCount();
+
+        // the request runs on the calling thread, taking the only slot while it runs
+        List<String> order = new CopyOnWriteArrayList<>();
+        assertTrue(scheduler.runNow("inline", MonotonicClock.Global.preciseTime.now(), () -> {
+            assertFalse(scheduler.runNow("other", MonotonicClock.Global.preciseTime.now(), () -> order.add("other")));
+            assertTrue(scheduler.schedule("queued", task(order, "queued"), executor));
+            assertFalse(scheduler.schedule("queued", task(order, "queued"), executor));
+            order.add("inline");
+        }));
+        assertEquals(latencies + 1, metrics.latency.getCount());
+        awaitCompletion(scheduler, order, 2);
+        assertEquals(ImmutableList.of("inline", "queued"), order);
+
+        // nor does it overtake the requests waiting for a slot
+        CountDownLatch blocker = block(scheduler);
+        assertFalse(scheduler.runNow("inline", MonotonicClock.Global.preciseTime.now(), () -> order.add("inline")));
+        blocker.countDown();
+        awaitCompletion(scheduler, order, 2);
+        assertTrue(scheduler.runNow("inline", MonotonicClock.Global.preciseTime.now(), () -> order.add("inline")));
+        assertEquals(3, order.size());
+    }
+
+    @Test
+    public void testCreate()
+    {
+        assertSame(RequestScheduler.FIFO, RequestScheduler.create(null));
+        ParameterizedClass weighted = new ParameterizedClass("WeightedFairRequestScheduler", ImmutableMap.of("tenant_key", "keyspace"));
+        assertTrue(RequestScheduler.create(weighted) instanceof WeightedFairRequestScheduler);
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void testInvalidWeights()
+    {
+        scheduler(ImmutableMap.of("weights", "a:0"));
+    }
+
+    private static WeightedFairRequestScheduler scheduler(Map<String, String> parameters)
+    {
+        Map<String, String> withSingleSlot = new HashMap<>(parameters);
+        withSingleSlot.put("max_concurrent_requests", "1");
+        return new WeightedFairRequestScheduler(withSingleSlot);
+    }
+
+    /**
+     * Occupies the only slot of the scheduler until the returned latch is released.
+     */
+    private static CountDownLatch block(WeightedFairRequestScheduler scheduler)
+    {
+        CountDownLatch latch = new CountDownLatch(1);
+        assertTrue(scheduler.schedule("blocker", new Task(() -> {
+            try
+            {
+                latch.await();
+            }
+            catch (InterruptedException e)
+            {
+                throw new AssertionError(e);
+            }
+        }), executor));
+        return latch;
+    }
+
+    private static RunnableDebuggableTask task(List<String> order, String tenant)
+    {
+        return new Task(() -> order.add(tenant));
+    }
+
+    private static void awaitCompletion(WeightedFairRequestScheduler scheduler, List<String> order, int count) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((order.size() < count || scheduler.pendingRequests() > 0) && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertEquals(count, order.size());
+    }
+
+    private static class Task implements RunnableDebuggableTask
+    {
+        private final Runnable runnable;
+        private final long creationTimeNanos = MonotonicClock.Global.preciseTime.now();
+        private volatile long startTimeNanos;
+
+        Task(Runnable runnable)
+        {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run()
+        {
+            startTimeNanos = MonotonicClock.Global.preciseTime.now();
+            runnable.run();
+        }
+
+        @Override
+        public long creationTimeNanos()
+        {
+            return creationTimeNanos;
+        }
+
+        @Override
+        public long startTimeNanos()
+        {
+            return startTimeNanos;
+        }
+
+        @Override
+        public String description()
+        {
+            return "test task";
+        }
+    }
+}
@@ -230,6 +230,57 @@ public class BloomFilterTest
         filter2.close();
     }
 
+    @Test
+    public void testBlockedBloomSpec()
+    {
+        BloomCalculations.BloomSpecification spec = BloomCalculations.computeBlockedBloomSpec(0.01);
+        assertEquals(10, spec.bucketsPerElement);
+        assertEquals(6, spec.K);
+        Assert.assertTrue(BloomCalculations.blockedFalsePositiveRate(spec.bucketsPerElement, spec.K) <= 0.01);
+
+        // every false positive chance allowed by the table options can be satisfied
+        BloomCalculations.computeBlockedBloomSpec(BloomCalculations.minSupportedBloomFilterFpChance());
+    }
+
+    @Test
+    public void testBlockedFalsePositives()
+    {
+        try (IFilter bf = FilterFactory.getFilter(FilterTestHelper.ELEMENTS, 0.01, FilterFactory.Type.BLOCKED))
+        {
+            Assert.assertTrue(bf instanceof BlockedBloomFilter);
+            Iterator<ByteBuffer> keys = FilterTestHelper.randomKeys();
+            while (keys.hasNext())
+                bf.add(FilterTestHelper.wrap(keys.next()));
+
+            keys = FilterTestHelper.randomKeys();
+            while (keys.hasNext())
+                Assert.assertTrue(bf.isPresent(FilterTestHelper.wrap(keys.next())));
+
+            int falsePositives = 0;
+            Iterator<ByteBuffer> otherKeys = FilterTestHelper.randomKeys2();
+            while (otherKeys.hasNext())
+            {
+                if (bf.isPresent(FilterTestHelper.wrap(otherKeys.next())))
+                    falsePositives++;
+            }
+            // 1% expected, with a generous margin
+            Assert.assertTrue("falsePositives=" + falsePositives, falsePositives < FilterTestHelper.ELEMENTS * 0.015);
+        }
+    }
+
+    @Test
+    public void testBlockedSerialize() throws IOException
+    {
+        try (IFilter bf = FilterFactory.getFilter(FilterTestHelper.ELEMENTS, 0.01, FilterFactory.Type.BLOCKED);
+             IFilter bf2 = BloomFilterTest.testSerialize(bf, false))
+        {
+            Assert.assertTrue(bf2 instanceof BlockedBloomFilter);
+            assertEquals(((BloomFilter) bf).hashCount, ((BloomFilter) bf2).hashCount);
+            assertEquals(bf.serializedSize(false), bf2.serializedSize(false));
+            compare(((BloomFilter) bf).bitset, ((BloomFilter) bf2).bitset);
+        }
+    }
+
     @Test
     public void testMurmur3FilterHash()
     {